@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.benchmarks;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.leshan.core.LwM2m.LwM2mVersion;
+import org.eclipse.leshan.core.endpoint.DefaultEndPointUriHandler;
+import org.eclipse.leshan.core.endpoint.EndpointUri;
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.link.LinkParseException;
+import org.eclipse.leshan.core.link.lwm2m.DefaultLwM2mLinkParser;
+import org.eclipse.leshan.core.model.LwM2mModel;
+import org.eclipse.leshan.core.model.ObjectLoader;
+import org.eclipse.leshan.core.model.StaticModel;
+import org.eclipse.leshan.core.node.LwM2mMultipleResource;
+import org.eclipse.leshan.core.node.LwM2mObjectInstance;
+import org.eclipse.leshan.core.node.LwM2mSingleResource;
+import org.eclipse.leshan.core.node.TimestampedLwM2mNode;
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.core.request.BindingMode;
+import org.eclipse.leshan.server.registration.DefaultRegistrationDataExtractor;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.registration.RegistrationDataExtractor.RegistrationData;
+
+/**
+ * Realistic payloads and objects shared by benchmarks.
+ */
+public final class Fixtures {
+
+    public static final LwM2mModel MODEL = new StaticModel(ObjectLoader.loadAllDefault());
+    public static final EndpointUri ENDPOINT_URI = new DefaultEndPointUriHandler().createUri("coap://localhost:5683");
+
+    private Fixtures() {
+    }
+
+    /**
+     * @return a Device object instance (/3/0) with usual resources.
+     */
+    public static LwM2mObjectInstance deviceInstance() {
+        Map<Integer, Long> errorCodes = new HashMap<>();
+        errorCodes.put(0, 0L);
+        errorCodes.put(1, 3L);
+        return new LwM2mObjectInstance(0, //
+                LwM2mSingleResource.newStringResource(0, "Eclipse Leshan"), //
+                LwM2mSingleResource.newStringResource(1, "Benchmark Device"), //
+                LwM2mSingleResource.newStringResource(2, "LSH-0123456789"), //
+                LwM2mSingleResource.newStringResource(3, "2.0.0"), //
+                LwM2mSingleResource.newIntegerResource(9, 85), //
+                LwM2mSingleResource.newIntegerResource(10, 15360), //
+                LwM2mMultipleResource.newIntegerResource(11, errorCodes), //
+                LwM2mSingleResource.newDateResource(13, new Date(1700000000000L)), //
+                LwM2mSingleResource.newStringResource(14, "+02"), //
+                LwM2mSingleResource.newStringResource(15, "Europe/Paris"), //
+                LwM2mSingleResource.newStringResource(16, "U"), //
+                LwM2mSingleResource.newStringResource(17, "sensor"), //
+                LwM2mSingleResource.newStringResource(18, "1.0"), //
+                LwM2mSingleResource.newStringResource(19, "2.0.0"), //
+                LwM2mSingleResource.newIntegerResource(20, 1), //
+                LwM2mSingleResource.newIntegerResource(21, 32768));
+    }
+
+    /**
+     * @return <code>count</code> timestamped values of battery level resource (/3/0/9), one per second.
+     */
+    public static List<TimestampedLwM2mNode> batteryLevelRecords(int count) {
+        List<TimestampedLwM2mNode> records = new ArrayList<>(count);
+        long start = 1700000000L;
+        for (int i = 0; i < count; i++) {
+            records.add(new TimestampedLwM2mNode(Instant.ofEpochSecond(start + i),
+                    LwM2mSingleResource.newIntegerResource(9, 100 - (i % 100))));
+        }
+        return records;
+    }
+
+    /**
+     * @return a CoRE Link Format registration payload with <code>count</code> links (objects and instances).
+     */
+    public static byte[] registrationLinks(int count) {
+        StringBuilder b = new StringBuilder("</>;rt=\"oma.lwm2m\";ct=\"60 110 112 1542 1543 11542 11543\"");
+        int objectId = 0;
+        int written = 1;
+        while (written < count) {
+            // one object link with version, then up to 4 instances
+            b.append(",</").append(objectId).append(">;ver=1.1");
+            written++;
+            for (int instance = 0; instance < 4 && written < count; instance++) {
+                b.append(",</").append(objectId).append("/").append(instance).append(">");
+                written++;
+            }
+            objectId = objectId < 30 ? objectId + 1 : objectId + 3300;
+            if (objectId > 60000) {
+                objectId = 31;
+            }
+        }
+        return b.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return a registration with <code>linkCount</code> object links, built the same way server does.
+     */
+    public static Registration registration(String id, int linkCount) {
+        try {
+            Link[] links = new DefaultLwM2mLinkParser().parseCoreLinkFormat(registrationLinks(linkCount));
+            RegistrationData data = new DefaultRegistrationDataExtractor().extractDataFromObjectLinks(links,
+                    LwM2mVersion.V1_1);
+            return new Registration.Builder(id, "urn:imei:" + id,
+                    new IpPeer(new InetSocketAddress("127.0.0.1", 40000 + Math.abs(id.hashCode() % 20000))),
+                    ENDPOINT_URI) //
+                            .lwM2mVersion(LwM2mVersion.V1_1) //
+                            .lifeTimeInSec(86400L) //
+                            .bindingMode(EnumSet.of(BindingMode.U, BindingMode.Q)) //
+                            .objectLinks(links) //
+                            .rootPath(data.getAlternatePath()) //
+                            .supportedContentFormats(data.getSupportedContentFormats()) //
+                            .supportedObjects(data.getSupportedObjects()) //
+                            .availableInstances(data.getAvailableInstances()) //
+                            .build();
+        } catch (LinkParseException e) {
+            throw new IllegalStateException("Invalid registration payload fixture", e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.benchmarks.codec;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.benchmarks.Fixtures;
+import org.eclipse.leshan.core.node.LwM2mNode;
+import org.eclipse.leshan.core.node.LwM2mObjectInstance;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.LwM2mSingleResource;
+import org.eclipse.leshan.core.node.TimestampedLwM2mNode;
+import org.eclipse.leshan.core.node.codec.CodecException;
+import org.eclipse.leshan.core.node.codec.DefaultLwM2mDecoder;
+import org.eclipse.leshan.core.node.codec.DefaultLwM2mEncoder;
+import org.eclipse.leshan.core.node.codec.LwM2mDecoder;
+import org.eclipse.leshan.core.node.codec.LwM2mEncoder;
+import org.eclipse.leshan.core.node.codec.LwM2mValueChecker;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compare CBOR and SenML-CBOR implementations : CBOR-Java object model and streaming CBOR reader/writer (see
+ * {@link DefaultLwM2mDecoder#getDefaultNodeDecoders(boolean, boolean)}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CborCodecBenchmark {
+
+    private static final LwM2mPath RESOURCE_PATH = new LwM2mPath(3, 0, 9);
+    private static final LwM2mPath INSTANCE_PATH = new LwM2mPath(3, 0);
+
+    @Param({ "CBOR_JAVA", "STREAMING" })
+    public String implementation;
+
+    @Param({ "500" })
+    public int records;
+
+    private LwM2mEncoder encoder;
+    private LwM2mDecoder decoder;
+
+    private List<TimestampedLwM2mNode> timestampedData;
+    private byte[] timestampedPayload;
+    private LwM2mObjectInstance instance;
+    private byte[] instancePayload;
+    private LwM2mSingleResource resource;
+    private byte[] resourcePayload;
+
+    @Setup
+    public void setup() throws CodecException {
+        boolean streaming = "STREAMING".equals(implementation);
+        encoder = new DefaultLwM2mEncoder(DefaultLwM2mEncoder.getDefaultNodeEncoders(false, streaming),
+                DefaultLwM2mEncoder.getDefaultPathEncoder(), new LwM2mValueChecker());
+        decoder = new DefaultLwM2mDecoder(DefaultLwM2mDecoder.getDefaultNodeDecoders(false, streaming));
+
+        timestampedData = Fixtures.batteryLevelRecords(records);
+        timestampedPayload = encoder.encodeTimestampedData(timestampedData, ContentFormat.SENML_CBOR, null,
+                RESOURCE_PATH, Fixtures.MODEL);
+        instance = Fixtures.deviceInstance();
+        instancePayload = encoder.encode(instance, ContentFormat.SENML_CBOR, null, INSTANCE_PATH, Fixtures.MODEL);
+        resource = LwM2mSingleResource.newIntegerResource(RESOURCE_PATH.getResourceId(), 85);
+        resourcePayload = encoder.encode(resource, ContentFormat.CBOR, null, RESOURCE_PATH, Fixtures.MODEL);
+    }
+
+    @Benchmark
+    public byte[] encodeTimestampedData() throws CodecException {
+        return encoder.encodeTimestampedData(timestampedData, ContentFormat.SENML_CBOR, null, RESOURCE_PATH,
+                Fixtures.MODEL);
+    }
+
+    @Benchmark
+    public List<TimestampedLwM2mNode> decodeTimestampedData() throws CodecException {
+        return decoder.decodeTimestampedData(timestampedPayload, ContentFormat.SENML_CBOR, null, RESOURCE_PATH,
+                Fixtures.MODEL);
+    }
+
+    @Benchmark
+    public byte[] encodeObjectInstance() throws CodecException {
+        return encoder.encode(instance, ContentFormat.SENML_CBOR, null, INSTANCE_PATH, Fixtures.MODEL);
+    }
+
+    @Benchmark
+    public LwM2mNode decodeObjectInstance() throws CodecException {
+        return decoder.decode(instancePayload, ContentFormat.SENML_CBOR, null, INSTANCE_PATH, Fixtures.MODEL);
+    }
+
+    @Benchmark
+    public byte[] encodeSingleResource() throws CodecException {
+        return encoder.encode(resource, ContentFormat.CBOR, null, RESOURCE_PATH, Fixtures.MODEL);
+    }
+
+    @Benchmark
+    public LwM2mNode decodeSingleResource() throws CodecException {
+        return decoder.decode(resourcePayload, ContentFormat.CBOR, null, RESOURCE_PATH, Fixtures.MODEL);
+    }
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.benchmarks.codec;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.benchmarks.Fixtures;
+import org.eclipse.leshan.core.node.LwM2mNode;
+import org.eclipse.leshan.core.node.LwM2mObjectInstance;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.TimestampedLwM2mNode;
+import org.eclipse.leshan.core.node.codec.CodecException;
+import org.eclipse.leshan.core.node.codec.DefaultLwM2mDecoder;
+import org.eclipse.leshan.core.node.codec.DefaultLwM2mEncoder;
+import org.eclipse.leshan.core.node.codec.LwM2mDecoder;
+import org.eclipse.leshan.core.node.codec.LwM2mEncoder;
+import org.eclipse.leshan.core.node.codec.LwM2mValueChecker;
+import org.eclipse.leshan.core.node.codec.NodeDecoder;
+import org.eclipse.leshan.core.node.codec.NodeEncoder;
+import org.eclipse.leshan.core.node.codec.senml.LwM2mNodeSenMLDecoder;
+import org.eclipse.leshan.core.node.codec.senml.LwM2mNodeSenMLEncoder;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.senml.json.jackson.SenMLJsonJacksonEncoderDecoder;
+import org.eclipse.leshan.senml.json.jackson.SenMLJsonStreamingEncoderDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compare SenML-JSON implementations : Jackson tree model ({@link SenMLJsonJacksonEncoderDecoder}) and Jackson
+ * streaming API ({@link SenMLJsonStreamingEncoderDecoder}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SenMLJsonCodecBenchmark {
+
+    private static final LwM2mPath RESOURCE_PATH = new LwM2mPath(3, 0, 9);
+    private static final LwM2mPath INSTANCE_PATH = new LwM2mPath(3, 0);
+
+    @Param({ "TREE", "STREAMING" })
+    public String implementation;
+
+    @Param({ "500" })
+    public int records;
+
+    private LwM2mEncoder encoder;
+    private LwM2mDecoder decoder;
+
+    private List<TimestampedLwM2mNode> timestampedData;
+    private byte[] timestampedPayload;
+    private LwM2mObjectInstance instance;
+    private byte[] instancePayload;
+
+    @Setup
+    public void setup() throws CodecException {
+        Map<ContentFormat, NodeEncoder> encoders = DefaultLwM2mEncoder.getDefaultNodeEncoders(false);
+        Map<ContentFormat, NodeDecoder> decoders = DefaultLwM2mDecoder.getDefaultNodeDecoders(false);
+        if ("TREE".equals(implementation)) {
+            encoders.put(ContentFormat.SENML_JSON, new LwM2mNodeSenMLEncoder(new SenMLJsonJacksonEncoderDecoder()));
+            decoders.put(ContentFormat.SENML_JSON,
+                    new LwM2mNodeSenMLDecoder(new SenMLJsonJacksonEncoderDecoder(), true));
+        } else {
+            encoders.put(ContentFormat.SENML_JSON, new LwM2mNodeSenMLEncoder(new SenMLJsonStreamingEncoderDecoder()));
+            decoders.put(ContentFormat.SENML_JSON,
+                    new LwM2mNodeSenMLDecoder(new SenMLJsonStreamingEncoderDecoder(), true));
+        }
+        encoder = new DefaultLwM2mEncoder(encoders, DefaultLwM2mEncoder.getDefaultPathEncoder(),
+                new LwM2mValueChecker());
+        decoder = new DefaultLwM2mDecoder(decoders);
+
+        timestampedData = Fixtures.batteryLevelRecords(records);
+        timestampedPayload = encoder.encodeTimestampedData(timestampedData, ContentFormat.SENML_JSON, null,
+                RESOURCE_PATH, Fixtures.MODEL);
+        instance = Fixtures.deviceInstance();
+        instancePayload = encoder.encode(instance, ContentFormat.SENML_JSON, null, INSTANCE_PATH, Fixtures.MODEL);
+    }
+
+    @Benchmark
+    public byte[] encodeTimestampedData() throws CodecException {
+        return encoder.encodeTimestampedData(timestampedData, ContentFormat.SENML_JSON, null, RESOURCE_PATH,
+                Fixtures.MODEL);
+    }
+
+    @Benchmark
+    public List<TimestampedLwM2mNode> decodeTimestampedData() throws CodecException {
+        return decoder.decodeTimestampedData(timestampedPayload, ContentFormat.SENML_JSON, null, RESOURCE_PATH,
+                Fixtures.MODEL);
+    }
+
+    @Benchmark
+    public byte[] encodeObjectInstance() throws CodecException {
+        return encoder.encode(instance, ContentFormat.SENML_JSON, null, INSTANCE_PATH, Fixtures.MODEL);
+    }
+
+    @Benchmark
+    public LwM2mNode decodeObjectInstance() throws CodecException {
+        return decoder.decode(instancePayload, ContentFormat.SENML_JSON, null, INSTANCE_PATH, Fixtures.MODEL);
+    }
+}
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.benchmarks.codec;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.benchmarks.Fixtures;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.TimestampedLwM2mNode;
+import org.eclipse.leshan.core.node.codec.CodecException;
+import org.eclipse.leshan.core.node.codec.DefaultLwM2mDecoder;
+import org.eclipse.leshan.core.node.codec.DefaultLwM2mEncoder;
+import org.eclipse.leshan.core.node.codec.LwM2mDecoder;
+import org.eclipse.leshan.core.node.codec.LwM2mEncoder;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encoding and decoding of timestamped values of a resource, typical payload of a Send or of a notification with
+ * historical data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimestampedDataCodecBenchmark {
+
+    private static final LwM2mPath PATH = new LwM2mPath(3, 0, 9);
+
+    @Param({ "JSON", "SENML_JSON", "SENML_CBOR" })
+    public String format;
+
+    @Param({ "500" })
+    public int records;
+
+    private final LwM2mEncoder encoder = new DefaultLwM2mEncoder();
+    private final LwM2mDecoder decoder = new DefaultLwM2mDecoder();
+
+    private ContentFormat contentFormat;
+    private List<TimestampedLwM2mNode> data;
+    private byte[] payload;
+
+    @Setup
+    public void setup() throws CodecException {
+        contentFormat = ContentFormat.fromName(format);
+        data = Fixtures.batteryLevelRecords(records);
+        payload = encoder.encodeTimestampedData(data, contentFormat, null, PATH, Fixtures.MODEL);
+    }
+
+    @Benchmark
+    public byte[] encode() throws CodecException {
+        return encoder.encodeTimestampedData(data, contentFormat, null, PATH, Fixtures.MODEL);
+    }
+
+    @Benchmark
+    public List<TimestampedLwM2mNode> decode() throws CodecException {
+        return decoder.decodeTimestampedData(payload, contentFormat, null, PATH, Fixtures.MODEL);
+    }
+}
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.benchmarks.node;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.LwM2mPathPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creation, formatting and comparison of {@link LwM2mPath}, used by almost all requests, codecs and observations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LwM2mPathBenchmark {
+
+    private final String resourceInstancePath = "/3/0/11/1";
+    private final byte[] resourceInstancePathBytes = resourceInstancePath.getBytes(StandardCharsets.US_ASCII);
+    private final LwM2mPathPool pool = new LwM2mPathPool();
+    private final LwM2mPath path = new LwM2mPath(3, 0, 11, 1);
+    private final LwM2mPath otherPath = new LwM2mPath(3, 0, 11, 2);
+    private final LwM2mPath resourcePath = new LwM2mPath(3, 0, 11);
+
+    @Benchmark
+    public LwM2mPath parse() {
+        return new LwM2mPath(resourceInstancePath);
+    }
+
+    @Benchmark
+    public LwM2mPath parseBytes() {
+        return LwM2mPath.parse(resourceInstancePathBytes, 0, resourceInstancePathBytes.length);
+    }
+
+    @Benchmark
+    public LwM2mPath append() {
+        return resourcePath.append("1");
+    }
+
+    @Benchmark
+    public LwM2mPath pooled() {
+        return pool.get(3303, 0, 5700, 1);
+    }
+
+    @Benchmark
+    public LwM2mPath create() {
+        return new LwM2mPath(3, 0, 11, 1);
+    }
+
+    @Benchmark
+    public String format() {
+        return path.toString();
+    }
+
+    @Benchmark
+    public int compare() {
+        return path.compareTo(otherPath);
+    }
+
+    @Benchmark
+    public boolean startWith() {
+        return otherPath.startWith(resourcePath);
+    }
+}
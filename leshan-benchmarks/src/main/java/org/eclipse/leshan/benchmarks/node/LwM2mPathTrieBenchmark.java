@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.benchmarks.node;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.LwM2mPathTrie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Find observations impacted by a resource change on a client : scan of all observe requests, parsing their URI (like
+ * CoAP relation filters do), compared to {@link LwM2mPathTrie}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LwM2mPathTrieBenchmark {
+
+    @Param({ "500" })
+    public int observations;
+
+    private final List<String> observedURIs = new ArrayList<>();
+    private final LwM2mPathTrie<LwM2mPath> trie = new LwM2mPathTrie<>();
+    private LwM2mPath[] changedPaths;
+
+    @Setup
+    public void setup() {
+        // observations of temperature sensors value
+        for (int i = 0; i < observations; i++) {
+            LwM2mPath path = new LwM2mPath(3303, i, 5700);
+            observedURIs.add(path.toString());
+            trie.add(path, path);
+        }
+        // a change of 2 sensors
+        changedPaths = new LwM2mPath[] { new LwM2mPath(3303, 10, 5700), new LwM2mPath(3303, 20, 5700) };
+    }
+
+    @Benchmark
+    public int scan() {
+        int count = 0;
+        for (String observedURI : observedURIs) {
+            LwM2mPath observedPath = new LwM2mPath(observedURI);
+            for (LwM2mPath changedPath : changedPaths) {
+                if (changedPath.startWith(observedPath)) {
+                    count++;
+                    break;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public Set<LwM2mPath> trie() {
+        return trie.findMatchingValues(changedPaths);
+    }
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.benchmarks.node;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.benchmarks.Fixtures;
+import org.eclipse.leshan.core.model.ResourceModel.Type;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.LwM2mSingleResource;
+import org.eclipse.leshan.core.node.LwM2mTimeSeries;
+import org.eclipse.leshan.core.node.TimestampedLwM2mNodes;
+import org.eclipse.leshan.core.node.codec.CodecException;
+import org.eclipse.leshan.core.node.codec.DefaultLwM2mDecoder;
+import org.eclipse.leshan.core.node.codec.DefaultLwM2mEncoder;
+import org.eclipse.leshan.core.node.codec.LwM2mDecoder;
+import org.eclipse.leshan.core.node.codec.LwM2mEncoder;
+import org.eclipse.leshan.core.node.codec.LwM2mValueChecker;
+import org.eclipse.leshan.core.node.codec.senml.LwM2mNodeSenMLDecoder;
+import org.eclipse.leshan.core.node.codec.senml.LwM2mNodeSenMLEncoder;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.senml.cbor.streaming.SenMLCborStreamingEncoderDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compare {@link TimestampedLwM2mNodes} and {@link LwM2mTimeSeries} when collecting and sending sensor values (see
+ * allocation rate with <code>-prof gc</code>).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LwM2mTimeSeriesBenchmark {
+
+    private static final LwM2mPath TEMPERATURE_PATH = new LwM2mPath(3303, 0, 5700);
+    private static final LwM2mPath BATTERY_PATH = new LwM2mPath(3, 0, 9);
+
+    @Param({ "1000" })
+    public int samples;
+
+    private final LwM2mEncoder encoder = new DefaultLwM2mEncoder();
+    private final LwM2mDecoder decoder = new DefaultLwM2mDecoder();
+    private final LwM2mNodeSenMLEncoder senMLEncoder = new LwM2mNodeSenMLEncoder(
+            new SenMLCborStreamingEncoderDecoder());
+    private final LwM2mNodeSenMLDecoder senMLDecoder = new LwM2mNodeSenMLDecoder(new SenMLCborStreamingEncoderDecoder(),
+            false);
+
+    private TimestampedLwM2mNodes nodes;
+    private LwM2mTimeSeries timeSeries;
+    private byte[] payload;
+
+    @Setup
+    public void setup() throws CodecException {
+        nodes = buildNodes();
+        timeSeries = buildTimeSeries();
+        payload = encoder.encodeTimestampedNodes(nodes, ContentFormat.SENML_CBOR, null, Fixtures.MODEL);
+    }
+
+    @Benchmark
+    public TimestampedLwM2mNodes buildNodes() {
+        TimestampedLwM2mNodes.Builder builder = TimestampedLwM2mNodes.builder();
+        for (int i = 0; i < samples; i++) {
+            Instant timestamp = Instant.ofEpochSecond(1_700_000_000L + i);
+            builder.put(timestamp, TEMPERATURE_PATH, LwM2mSingleResource.newFloatResource(5700, 20d + i % 10));
+            builder.put(timestamp, BATTERY_PATH, LwM2mSingleResource.newIntegerResource(9, 100 - i % 100));
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public LwM2mTimeSeries buildTimeSeries() {
+        LwM2mTimeSeries.Builder builder = LwM2mTimeSeries.builder();
+        for (int i = 0; i < samples; i++) {
+            long timestamp = (1_700_000_000L + i) * 1_000_000_000L;
+            builder.putDouble(timestamp, TEMPERATURE_PATH, 20d + i % 10);
+            builder.putValue(timestamp, BATTERY_PATH, Type.INTEGER, 100L - i % 100);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public byte[] encodeNodes() throws CodecException {
+        return encoder.encodeTimestampedNodes(nodes, ContentFormat.SENML_CBOR, null, Fixtures.MODEL);
+    }
+
+    @Benchmark
+    public byte[] encodeTimeSeries() throws CodecException {
+        return senMLEncoder.encodeTimeSeries(null, timeSeries, Fixtures.MODEL, new LwM2mValueChecker());
+    }
+
+    @Benchmark
+    public TimestampedLwM2mNodes decodeNodes() throws CodecException {
+        return decoder.decodeTimestampedNodes(payload, ContentFormat.SENML_CBOR, null, null, Fixtures.MODEL);
+    }
+
+    @Benchmark
+    public LwM2mTimeSeries decodeTimeSeries() throws CodecException {
+        return senMLDecoder.decodeTimeSeries(payload, null, Fixtures.MODEL);
+    }
+}
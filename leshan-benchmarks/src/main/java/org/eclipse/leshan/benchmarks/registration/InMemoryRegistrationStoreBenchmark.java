@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.benchmarks.registration;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.benchmarks.Fixtures;
+import org.eclipse.leshan.server.registration.Deregistration;
+import org.eclipse.leshan.server.registration.InMemoryRegistrationStore;
+import org.eclipse.leshan.server.registration.Registration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookups and writes on an {@link InMemoryRegistrationStore} filled with registrations, accessed concurrently as it is
+ * by transport threads of a server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class InMemoryRegistrationStoreBenchmark {
+
+    @Param({ "10000" })
+    public int registrations;
+
+    private InMemoryRegistrationStore store;
+    private Registration[] content;
+
+    @Setup
+    public void setup() {
+        store = new InMemoryRegistrationStore();
+        content = new Registration[registrations];
+        for (int i = 0; i < registrations; i++) {
+            content[i] = Fixtures.registration("reg" + i, 20);
+            store.addRegistration(content[i]);
+        }
+    }
+
+    private Registration randomRegistration() {
+        return content[ThreadLocalRandom.current().nextInt(content.length)];
+    }
+
+    @Benchmark
+    public Registration getRegistration() {
+        return store.getRegistration(randomRegistration().getId());
+    }
+
+    @Benchmark
+    public Registration getRegistrationByEndpoint() {
+        return store.getRegistrationByEndpoint(randomRegistration().getEndpoint());
+    }
+
+    @Benchmark
+    public Deregistration addRegistration() {
+        // replace an existing registration, as a client which registers again
+        return store.addRegistration(randomRegistration());
+    }
+}
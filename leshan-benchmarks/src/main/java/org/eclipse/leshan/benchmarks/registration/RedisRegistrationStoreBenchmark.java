@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.benchmarks.registration;
+
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.benchmarks.Fixtures;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.observation.Observation;
+import org.eclipse.leshan.core.observation.ObservationIdentifier;
+import org.eclipse.leshan.core.observation.SingleObservation;
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.server.redis.RedisRegistrationStore;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.registration.RegistrationUpdate;
+import org.eclipse.leshan.server.registration.UpdatedRegistration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.util.Pool;
+
+/**
+ * Register, observe and update sequences on a {@link RedisRegistrationStore}, with lock based and scripted writes.
+ * <p>
+ * A Redis server is needed : <code>REDIS_URI</code> environment variable is used if set, else a local server on default
+ * port.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class RedisRegistrationStoreBenchmark {
+
+    private static final String PREFIX = "LESHAN_BENCHMARK#";
+
+    @Param({ "1000" })
+    public int registrations;
+
+    @Param({ "false", "true" })
+    public boolean scripted;
+
+    private Pool<Jedis> pool;
+    private RedisRegistrationStore store;
+    private Registration[] content;
+
+    @Setup
+    public void setup() {
+        String redisURI = System.getenv("REDIS_URI");
+        pool = redisURI != null && !redisURI.isEmpty() ? new JedisPool(redisURI) : new JedisPool();
+        cleanDatabase();
+        store = new RedisRegistrationStore.Builder(pool).setPrefix(PREFIX).setUseScriptedWrites(scripted).build();
+        content = new Registration[registrations];
+        for (int i = 0; i < registrations; i++) {
+            content[i] = Fixtures.registration("reg" + i, 20);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        store.destroy();
+        cleanDatabase();
+        pool.close();
+    }
+
+    private void cleanDatabase() {
+        try (Jedis j = pool.getResource()) {
+            Set<byte[]> keys = j.keys((PREFIX + "*").getBytes());
+            if (!keys.isEmpty()) {
+                j.del(keys.toArray(new byte[][] {}));
+            }
+        }
+    }
+
+    @Benchmark
+    public UpdatedRegistration registerObserveUpdate() {
+        // a client which registers again, is observed then sends an update from a new address
+        Registration registration = content[ThreadLocalRandom.current().nextInt(content.length)];
+        store.addRegistration(registration);
+        store.addObservation(registration.getId(), observation(registration), false);
+        return store.updateRegistration(new RegistrationUpdate(registration.getId(),
+                new IpPeer(new InetSocketAddress("127.0.0.1", 6000 + ThreadLocalRandom.current().nextInt(1000))), null,
+                null, null, null, null, null, null, null, null, null));
+    }
+
+    private Observation observation(Registration registration) {
+        return new SingleObservation(new ObservationIdentifier(Fixtures.ENDPOINT_URI, registration.getId().getBytes()),
+                registration.getId(), new LwM2mPath(3, 0, 9), ContentFormat.SENML_JSON,
+                Collections.<String, String> emptyMap(), Collections.<String, String> emptyMap());
+    }
+}
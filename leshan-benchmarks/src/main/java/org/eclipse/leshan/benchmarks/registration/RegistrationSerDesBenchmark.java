@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.benchmarks.registration;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.benchmarks.Fixtures;
+import org.eclipse.leshan.server.redis.serialization.BinaryRegistrationSerDes;
+import org.eclipse.leshan.server.redis.serialization.RegistrationSerDes;
+import org.eclipse.leshan.server.registration.Registration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization of registrations as done by Redis stores, for JSON and binary formats.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegistrationSerDesBenchmark {
+
+    @Param({ "JSON", "BINARY" })
+    public String serialization;
+
+    @Param({ "200" })
+    public int links;
+
+    private RegistrationSerDes serDes;
+    private Registration registration;
+    private byte[] serialized;
+
+    @Setup
+    public void setup() {
+        serDes = "BINARY".equals(serialization) ? new BinaryRegistrationSerDes() : new RegistrationSerDes();
+        registration = Fixtures.registration("benchmark", links);
+        serialized = serDes.bSerialize(registration);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serDes.bSerialize(registration);
+    }
+
+    @Benchmark
+    public Registration deserialize() {
+        return serDes.deserialize(serialized);
+    }
+}
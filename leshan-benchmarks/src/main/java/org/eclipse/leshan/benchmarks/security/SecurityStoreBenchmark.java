@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.benchmarks.security;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.servers.security.ConcurrentInMemorySecurityStore;
+import org.eclipse.leshan.servers.security.EditableSecurityStore;
+import org.eclipse.leshan.servers.security.InMemorySecurityStore;
+import org.eclipse.leshan.servers.security.NonUniqueSecurityInfoException;
+import org.eclipse.leshan.servers.security.SecurityInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * PSK lookups, as done for each DTLS handshake, and writes on an in memory security store, accessed concurrently.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class SecurityStoreBenchmark {
+
+    @Param({ "10000" })
+    public int clients;
+
+    @Param({ "InMemory", "ConcurrentInMemory" })
+    public String storeType;
+
+    private EditableSecurityStore store;
+    private SecurityInfo[] content;
+
+    @Setup
+    public void setup() throws NonUniqueSecurityInfoException {
+        store = storeType.equals("InMemory") ? new InMemorySecurityStore() : new ConcurrentInMemorySecurityStore();
+        content = new SecurityInfo[clients];
+        for (int i = 0; i < clients; i++) {
+            content[i] = SecurityInfo.newPreSharedKeyInfo("endpoint" + i, "identity" + i, new byte[] { (byte) i });
+            store.add(content[i]);
+        }
+    }
+
+    private SecurityInfo randomInfo() {
+        return content[ThreadLocalRandom.current().nextInt(content.length)];
+    }
+
+    @Benchmark
+    public SecurityInfo getByIdentity() {
+        return store.getByIdentity(randomInfo().getPskIdentity());
+    }
+
+    @Benchmark
+    public SecurityInfo add() throws NonUniqueSecurityInfoException {
+        // replace existing security info, as a provisioning tool would do
+        return store.add(randomInfo());
+    }
+}
@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.integration.tests.server.redis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.request.ExecuteRequest;
+import org.eclipse.leshan.integration.tests.util.RedisTestUtil;
+import org.eclipse.leshan.server.queue.QueuedRequest;
+import org.eclipse.leshan.server.redis.RedisDownlinkRequestQueue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.util.Pool;
+
+/**
+ * Check {@link RedisDownlinkRequestQueue} and its scripts.
+ */
+public class RedisDownlinkRequestQueueTest {
+
+    private static final String PREFIX = "LESHAN_TEST_DLQUEUE#";
+    private static final String QUEUE_KEY = PREFIX + "DLQ#EP#ep";
+    private static final long TIMEOUT = 5000;
+
+    private Pool<Jedis> pool;
+    private RedisDownlinkRequestQueue queue;
+    private long now;
+
+    @BeforeEach
+    public void setUp() {
+        pool = RedisTestUtil.createJedisPool();
+        queue = createQueue(3);
+        now = System.currentTimeMillis();
+        cleanDatabase();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        cleanDatabase();
+        pool.close();
+    }
+
+    private void cleanDatabase() {
+        try (Jedis j = pool.getResource()) {
+            Set<byte[]> keys = j.keys((PREFIX + "*").getBytes());
+            if (!keys.isEmpty()) {
+                j.del(keys.toArray(new byte[][] {}));
+            }
+        }
+    }
+
+    private RedisDownlinkRequestQueue createQueue(int maxRequestsPerEndpoint) {
+        return new RedisDownlinkRequestQueue.Builder(pool).setPrefix(PREFIX)
+                .setMaxRequestsPerEndpoint(maxRequestsPerEndpoint).build();
+    }
+
+    private QueuedRequest givenARequest(String id, long expirationTime) {
+        return new QueuedRequest(id, "ep", new ExecuteRequest(3, 0, 4), TIMEOUT, now, expirationTime);
+    }
+
+    private long queueTimeToLive() {
+        try (Jedis j = pool.getResource()) {
+            return j.pttl(QUEUE_KEY);
+        }
+    }
+
+    private static List<String> ids(List<QueuedRequest> requests) {
+        List<String> ids = new ArrayList<>();
+        for (QueuedRequest request : requests) {
+            ids.add(request.getId());
+        }
+        return ids;
+    }
+
+    @Test
+    public void requests_are_polled_in_order() {
+        assertTrue(queue.add(givenARequest("r1", now + 60000)));
+        assertTrue(queue.add(givenARequest("r2", now + 60000)));
+        queue.addFirst(givenARequest("r0", now + 60000));
+
+        assertEquals(3, queue.size("ep"));
+        assertEquals("r0", queue.poll("ep").getId());
+        assertEquals("r1", queue.poll("ep").getId());
+        assertEquals("r2", queue.poll("ep").getId());
+        assertNull(queue.poll("ep"));
+        assertEquals(0, queue.size("ep"));
+    }
+
+    @Test
+    public void full_queue_rejects_requests_but_accepts_request_put_back() {
+        assertTrue(queue.add(givenARequest("r1", now + 60000)));
+        assertTrue(queue.add(givenARequest("r2", now + 60000)));
+        assertTrue(queue.add(givenARequest("r3", now + 60000)));
+
+        assertFalse(queue.add(givenARequest("r4", now + 60000)));
+        assertEquals(3, queue.size("ep"));
+
+        // a request put back after client went to sleep is never lost
+        QueuedRequest r1 = queue.poll("ep");
+        assertTrue(queue.add(givenARequest("r4", now + 60000)));
+        queue.addFirst(r1);
+        assertEquals(4, queue.size("ep"));
+        assertEquals(Arrays.asList("r1", "r2", "r3", "r4"), ids(queue.removeAll("ep")));
+    }
+
+    @Test
+    public void queue_expires_with_its_last_request() {
+        queue.add(givenARequest("r1", now + 10000));
+        long ttl = queueTimeToLive();
+        assertTrue(ttl > 0 && ttl <= 10000 + TIMEOUT, "unexpected ttl " + ttl);
+
+        // ttl is extended by a request which expires later
+        queue.add(givenARequest("r2", now + 60000));
+        ttl = queueTimeToLive();
+        assertTrue(ttl > 10000 + TIMEOUT && ttl <= 60000 + TIMEOUT, "unexpected ttl " + ttl);
+
+        // but never reduced
+        queue.addFirst(givenARequest("r0", now + 1000));
+        assertTrue(queueTimeToLive() > 10000 + TIMEOUT);
+    }
+
+    @Test
+    public void expired_requests_are_removed_in_order() {
+        queue.add(givenARequest("r1", now - 2));
+        queue.add(givenARequest("r2", now + 60000));
+        queue.add(givenARequest("r3", now - 1));
+
+        assertEquals(Arrays.asList("r1", "r3"), ids(queue.removeExpired("ep", now)));
+        assertTrue(queue.removeExpired("ep", now).isEmpty());
+        assertEquals(Arrays.asList("r2"), ids(queue.removeAll("ep")));
+    }
+
+    @Test
+    public void concurrent_removal_of_expired_requests_and_polls_return_each_request_once() throws Exception {
+        int requests = 200;
+        RedisDownlinkRequestQueue bigQueue = createQueue(requests);
+        for (int i = 0; i < requests; i++) {
+            // half of requests are expired
+            assertTrue(bigQueue.add(givenARequest("r" + i, i % 2 == 0 ? now - 1 : now + 60000)));
+        }
+
+        // servers sharing the queue : some poll requests, others remove expired ones
+        int servers = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(servers);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int i = 0; i < servers; i++) {
+                final boolean poller = i % 2 == 0;
+                final RedisDownlinkRequestQueue serverQueue = createQueue(requests);
+                results.add(executor.submit(new Callable<List<String>>() {
+                    @Override
+                    public List<String> call() throws Exception {
+                        start.await();
+                        List<String> removed = new ArrayList<>();
+                        if (poller) {
+                            QueuedRequest request;
+                            while ((request = serverQueue.poll("ep")) != null) {
+                                removed.add(request.getId());
+                            }
+                        } else {
+                            removed.addAll(ids(serverQueue.removeExpired("ep", now)));
+                        }
+                        return removed;
+                    }
+                }));
+            }
+            start.countDown();
+
+            List<String> allRemoved = new ArrayList<>();
+            for (Future<List<String>> result : results) {
+                allRemoved.addAll(result.get(10, TimeUnit.SECONDS));
+            }
+            allRemoved.addAll(ids(bigQueue.removeAll("ep")));
+            assertEquals(requests, allRemoved.size());
+            assertEquals(requests, new HashSet<>(allRemoved).size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
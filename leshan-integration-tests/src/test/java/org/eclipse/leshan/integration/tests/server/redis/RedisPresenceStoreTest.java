@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.integration.tests.server.redis;
+
+import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.integration.tests.util.RedisTestUtil;
+import org.eclipse.leshan.server.redis.RedisPresenceStore;
+import org.eclipse.leshan.server.registration.InMemoryRegistrationStore;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.registration.RegistrationStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.util.Pool;
+
+/**
+ * Check {@link RedisPresenceStore} and its script collecting expired deadlines.
+ */
+public class RedisPresenceStoreTest {
+
+    private static final String PREFIX = "LESHAN_TEST_PRESENCE#";
+
+    private Pool<Jedis> pool;
+    private RegistrationStore registrationStore;
+    private long now;
+
+    @BeforeEach
+    public void setUp() {
+        pool = RedisTestUtil.createJedisPool();
+        registrationStore = new InMemoryRegistrationStore();
+        now = System.currentTimeMillis();
+        cleanDatabase();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        cleanDatabase();
+        pool.close();
+    }
+
+    private void cleanDatabase() {
+        try (Jedis j = pool.getResource()) {
+            Set<byte[]> keys = j.keys((PREFIX + "*").getBytes());
+            if (!keys.isEmpty()) {
+                j.del(keys.toArray(new byte[][] {}));
+            }
+        }
+    }
+
+    private RedisPresenceStore createStore(int maxExpiredPerPoll) {
+        return new RedisPresenceStore.Builder(pool, registrationStore).setPrefix(PREFIX)
+                .setMaxExpiredPerPoll(maxExpiredPerPoll).build();
+    }
+
+    private Registration givenARegistration(String endpoint) {
+        Registration registration = new Registration.Builder("ID" + endpoint, endpoint,
+                new IpPeer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 12354)),
+                uriHandler.createUri("coap://localhost:5683")).build();
+        registrationStore.addRegistration(registration);
+        return registration;
+    }
+
+    private static Set<String> endpoints(Collection<Registration> registrations) {
+        Set<String> endpoints = new HashSet<>();
+        for (Registration registration : registrations) {
+            endpoints.add(registration.getEndpoint());
+        }
+        return endpoints;
+    }
+
+    @Test
+    public void expired_clients_are_polled_once() {
+        RedisPresenceStore store = createStore(100);
+        assertTrue(store.setAwake(givenARegistration("expired"), now - 1));
+        assertTrue(store.setAwake(givenARegistration("alive"), now + 60000));
+        assertTrue(store.setAwake(givenARegistration("always"), Long.MAX_VALUE));
+
+        assertEquals(Collections.singleton("expired"), endpoints(store.pollExpired(now)));
+        assertTrue(store.pollExpired(now).isEmpty());
+        assertFalse(store.isAwake("expired"));
+        assertTrue(store.isAwake("alive"));
+        assertTrue(store.isAwake("always"));
+
+        // never sleeping client is never collected
+        assertEquals(Collections.singleton("alive"), endpoints(store.pollExpired(Long.MAX_VALUE - 1)));
+        assertTrue(store.isAwake("always"));
+    }
+
+    @Test
+    public void client_is_sleeping_when_deadline_is_reached_before_poll() {
+        RedisPresenceStore store = createStore(100);
+        store.setAwake(givenARegistration("client"), now - 1);
+
+        assertFalse(store.isAwake("client"));
+        // client becomes awake again before deadline was collected
+        store.setAwake(givenARegistration("client"), now + 60000);
+        assertTrue(store.isAwake("client"));
+        assertTrue(store.pollExpired(now).isEmpty());
+    }
+
+    @Test
+    public void expired_clients_are_polled_by_batch() {
+        RedisPresenceStore store = createStore(2);
+        for (int i = 0; i < 5; i++) {
+            store.setAwake(givenARegistration("client" + i), now - 10 + i);
+        }
+
+        // oldest deadlines first
+        assertEquals(new HashSet<>(Arrays.asList("client0", "client1")), endpoints(store.pollExpired(now)));
+        assertEquals(new HashSet<>(Arrays.asList("client2", "client3")), endpoints(store.pollExpired(now)));
+        assertEquals(Collections.singleton("client4"), endpoints(store.pollExpired(now)));
+        assertTrue(store.pollExpired(now).isEmpty());
+    }
+
+    @Test
+    public void deregistered_client_is_removed_without_notification() {
+        RedisPresenceStore store = createStore(100);
+        Registration registration = givenARegistration("client");
+        store.setAwake(registration, now - 1);
+        registrationStore.removeRegistration(registration.getId());
+
+        assertTrue(store.pollExpired(now).isEmpty());
+        try (Jedis j = pool.getResource()) {
+            assertEquals(0, j.zcard(PREFIX + "AWAKE"));
+        }
+    }
+
+    @Test
+    public void concurrent_polls_of_servers_sharing_redis_collect_each_client_once() throws Exception {
+        int clients = 1000;
+        int servers = 4;
+        RedisPresenceStore clientsServer = createStore(1);
+        for (int i = 0; i < clients; i++) {
+            clientsServer.setAwake(givenARegistration("client" + i), now - 1);
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(servers);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int i = 0; i < servers; i++) {
+                final RedisPresenceStore store = createStore(10);
+                results.add(executor.submit(new Callable<List<String>>() {
+                    @Override
+                    public List<String> call() throws Exception {
+                        start.await();
+                        List<String> polled = new ArrayList<>();
+                        Collection<Registration> expired;
+                        while (!(expired = store.pollExpired(now)).isEmpty()) {
+                            for (Registration registration : expired) {
+                                polled.add(registration.getEndpoint());
+                            }
+                        }
+                        return polled;
+                    }
+                }));
+            }
+            start.countDown();
+
+            List<String> allPolled = new ArrayList<>();
+            for (Future<List<String>> result : results) {
+                allPolled.addAll(result.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(clients, allPolled.size());
+            assertEquals(clients, new HashSet<>(allPolled).size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
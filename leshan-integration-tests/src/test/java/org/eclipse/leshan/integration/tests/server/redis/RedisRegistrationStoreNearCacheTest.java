@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.integration.tests.server.redis;
+
+import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.leshan.core.endpoint.EndpointUri;
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.integration.tests.util.RedisTestUtil;
+import org.eclipse.leshan.server.redis.RedisNearCache;
+import org.eclipse.leshan.server.redis.RedisRegistrationStore;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.registration.RegistrationUpdate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.args.ClientType;
+import redis.clients.jedis.params.ClientKillParams;
+import redis.clients.jedis.util.Pool;
+
+/**
+ * Check near cache coherence of 2 {@link RedisRegistrationStore} sharing the same Redis.
+ */
+public class RedisRegistrationStoreNearCacheTest {
+
+    private static final String PREFIX = "LESHAN_TEST_NEARCACHE#";
+    private static final String CHANNEL = PREFIX + "INVALIDATION";
+    private final String ep = "urn:endpoint";
+    private final EndpointUri endpointUri = uriHandler.createUri("coap://localhost:5683");
+
+    private Pool<Jedis> pool;
+    private InetAddress address;
+    private RedisRegistrationStore store1;
+    private RedisRegistrationStore store2;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        address = InetAddress.getLocalHost();
+        pool = RedisTestUtil.createJedisPool();
+        cleanDatabase();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (store1 != null) {
+            store1.destroy();
+        }
+        if (store2 != null) {
+            store2.destroy();
+        }
+        cleanDatabase();
+        pool.close();
+    }
+
+    private void cleanDatabase() {
+        try (Jedis j = pool.getResource()) {
+            Set<byte[]> keys = j.keys((PREFIX + "*").getBytes());
+            if (!keys.isEmpty()) {
+                j.del(keys.toArray(new byte[][] {}));
+            }
+        }
+    }
+
+    private void givenTwoStores(long reconnectDelay) throws InterruptedException {
+        store1 = createStore(reconnectDelay);
+        store2 = createStore(reconnectDelay);
+        waitUntil(() -> store1.isNearCacheActive() && store2.isNearCacheActive(), "near caches not active");
+    }
+
+    private RedisRegistrationStore createStore(long reconnectDelay) {
+        RedisRegistrationStore store = new RedisRegistrationStore.Builder(pool).setPrefix(PREFIX).setNearCacheSize(100)
+                .setNearCacheInvalidationChannel(CHANNEL).setNearCacheReconnectDelay(reconnectDelay).build();
+        store.start();
+        return store;
+    }
+
+    private Registration givenARegistration(String registrationId, int port) {
+        return new Registration.Builder(registrationId, ep, new IpPeer(new InetSocketAddress(address, port)),
+                endpointUri).lifeTimeInSec(10000L).objectLinks(new Link[] { new Link("/3") }).build();
+    }
+
+    private RegistrationUpdate givenAnUpdate(String registrationId, int port) {
+        return new RegistrationUpdate(registrationId, new IpPeer(new InetSocketAddress(address, port)), null, null,
+                null, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Add a registration with store1 and wait until store2 received the invalidation about it.
+     */
+    private void givenARegistrationAddedByStore1() throws InterruptedException {
+        long invalidations = store2.getNearCache().getInvalidationCount();
+        store1.addRegistration(givenARegistration("reg1", 5000));
+        waitUntil(() -> store2.getNearCache().getInvalidationCount() > invalidations, "invalidation not received");
+    }
+
+    /**
+     * Read registration twice from given store, so second read is served by its near cache.
+     */
+    private void givenACachedRegistration(RedisRegistrationStore store) {
+        RedisNearCache cache = store.getNearCache();
+        long hits = cache.getHitCount();
+        store.getRegistrationByEndpoint(ep);
+        store.getRegistrationByEndpoint(ep);
+        assertEquals(hits + 1, cache.getHitCount());
+        assertEquals(1, cache.size());
+    }
+
+    /**
+     * Close connections of all subscribers, like a network failure between stores and Redis.
+     */
+    private void killSubscriberConnections() {
+        try (Jedis j = pool.getResource()) {
+            j.clientKill(ClientKillParams.clientKillParams().type(ClientType.PUBSUB));
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition, String message) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() - deadline < 0, message);
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    public void invalidation_reaches_other_store() throws InterruptedException {
+        givenTwoStores(100);
+        givenARegistrationAddedByStore1();
+        givenACachedRegistration(store2);
+
+        long invalidations = store2.getNearCache().getInvalidationCount();
+        store1.updateRegistration(givenAnUpdate("reg1", 5001));
+        waitUntil(() -> store2.getNearCache().getInvalidationCount() > invalidations, "invalidation not received");
+
+        assertEquals(0, store2.getNearCache().size());
+        assertEquals(5001, store2.getRegistrationByEndpoint(ep).getSocketAddress().getPort());
+
+        store1.removeRegistration("reg1");
+        waitUntil(() -> store2.getNearCache().size() == 0, "invalidation not received");
+        assertNull(store2.getRegistrationByEndpoint(ep));
+    }
+
+    @Test
+    public void cache_is_cleared_on_resubscribe() throws InterruptedException {
+        givenTwoStores(100);
+        givenARegistrationAddedByStore1();
+        givenACachedRegistration(store2);
+
+        long invalidations = store2.getNearCache().getInvalidationCount();
+        killSubscriberConnections();
+        // cache is cleared when subscription is lost then when it is back
+        waitUntil(() -> store2.getNearCache().getInvalidationCount() >= invalidations + 2 && store2.isNearCacheActive(),
+                "store did not subscribe again");
+
+        assertEquals(0, store2.getNearCache().size());
+        givenACachedRegistration(store2);
+    }
+
+    @Test
+    public void cache_is_bypassed_while_unsubscribed() throws InterruptedException {
+        // do not subscribe again during the test
+        givenTwoStores(TimeUnit.MINUTES.toMillis(1));
+        givenARegistrationAddedByStore1();
+        givenACachedRegistration(store2);
+
+        killSubscriberConnections();
+        waitUntil(() -> !store2.isNearCacheActive(), "subscription loss not detected");
+
+        // this invalidation is missed by store2
+        store1.updateRegistration(givenAnUpdate("reg1", 5001));
+
+        RedisNearCache cache = store2.getNearCache();
+        long hits = cache.getHitCount();
+        long misses = cache.getMissCount();
+        assertEquals(5001, store2.getRegistrationByEndpoint(ep).getSocketAddress().getPort());
+        assertEquals(5001, store2.getRegistration("reg1").getSocketAddress().getPort());
+        assertEquals(hits, cache.getHitCount());
+        assertEquals(misses, cache.getMissCount());
+        assertEquals(0, cache.size());
+        assertFalse(store2.isNearCacheActive());
+    }
+}
@@ -0,0 +1,357 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.integration.tests.server.redis;
+
+import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.endpoint.EndpointUri;
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.observation.Observation;
+import org.eclipse.leshan.core.observation.ObservationIdentifier;
+import org.eclipse.leshan.core.observation.SingleObservation;
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.integration.tests.util.RedisTestUtil;
+import org.eclipse.leshan.server.redis.RedisRegistrationStore;
+import org.eclipse.leshan.server.registration.Deregistration;
+import org.eclipse.leshan.server.registration.ExpirationListener;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.registration.RegistrationUpdate;
+import org.eclipse.leshan.server.registration.UpdatedRegistration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.util.Pool;
+
+/**
+ * Check that {@link RedisRegistrationStore} behaves the same with lock based and scripted writes.
+ */
+public class RedisRegistrationStoreWriteModeTest {
+
+    private static final String PREFIX = "LESHAN_TEST_WRITEMODE#";
+    private static final String WRITE_MODE_KEY = PREFIX + "WRITEMODE";
+    private final String ep = "urn:endpoint";
+    private final EndpointUri endpointUri = uriHandler.createUri("coap://localhost:5683");
+
+    private Pool<Jedis> pool;
+    private InetAddress address;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        address = InetAddress.getLocalHost();
+        pool = RedisTestUtil.createJedisPool();
+        cleanDatabase();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        cleanDatabase();
+        pool.close();
+    }
+
+    private void cleanDatabase() {
+        try (Jedis j = pool.getResource()) {
+            Set<byte[]> keys = j.keys((PREFIX + "*").getBytes());
+            if (!keys.isEmpty()) {
+                j.del(keys.toArray(new byte[][] {}));
+            }
+        }
+    }
+
+    /**
+     * @return the number of keys used to store data, the write mode key is not counted as it is never removed.
+     */
+    private int countKeys() {
+        try (Jedis j = pool.getResource()) {
+            Set<String> keys = j.keys(PREFIX + "*");
+            keys.remove(WRITE_MODE_KEY);
+            return keys.size();
+        }
+    }
+
+    private RedisRegistrationStore createStore(boolean scripted) {
+        return new RedisRegistrationStore.Builder(pool).setPrefix(PREFIX).setUseScriptedWrites(scripted).build();
+    }
+
+    private Registration givenARegistration(String registrationId, int port) {
+        return givenARegistration(ep, registrationId, port, 10000L);
+    }
+
+    private Registration givenARegistration(String endpoint, String registrationId, int port, long lifetime) {
+        return new Registration.Builder(registrationId, endpoint, new IpPeer(new InetSocketAddress(address, port)),
+                endpointUri).lifeTimeInSec(lifetime).objectLinks(new Link[] { new Link("/3") }).build();
+    }
+
+    private Observation givenAnObservation(String registrationId, String path, byte[] token) {
+        return new SingleObservation(new ObservationIdentifier(endpointUri, token), registrationId, new LwM2mPath(path),
+                ContentFormat.SENML_JSON, Collections.<String, String> emptyMap(),
+                Collections.<String, String> emptyMap());
+    }
+
+    private RegistrationUpdate givenAnUpdate(String registrationId, int port) {
+        return new RegistrationUpdate(registrationId, new IpPeer(new InetSocketAddress(address, port)), null, null,
+                null, null, null, null, null, null, null, null);
+    }
+
+    @ParameterizedTest(name = "scripted writes : {0}")
+    @ValueSource(booleans = { false, true })
+    public void register_update_and_deregister(boolean scripted) {
+        RedisRegistrationStore store = createStore(scripted);
+
+        // register
+        Registration registration = givenARegistration("reg1", 5000);
+        assertNull(store.addRegistration(registration));
+        assertEquals("reg1", store.getRegistration("reg1").getId());
+        assertEquals("reg1", store.getRegistrationByAdress(registration.getSocketAddress()).getId());
+        assertEquals("reg1",
+                store.getRegistrationByIdentity(registration.getClientTransportData().getIdentity()).getId());
+
+        // update with new address
+        UpdatedRegistration updated = store.updateRegistration(givenAnUpdate("reg1", 5001));
+        assertNotNull(updated);
+        assertEquals(registration.getSocketAddress(), updated.getPreviousRegistration().getSocketAddress());
+        assertNull(store.getRegistrationByAdress(registration.getSocketAddress()));
+        assertEquals("reg1", store.getRegistrationByAdress(new InetSocketAddress(address, 5001)).getId());
+
+        // deregister
+        store.addObservation("reg1", givenAnObservation("reg1", "/3/0/1", new byte[] { 1 }), false);
+        Deregistration deregistration = store.removeRegistration("reg1");
+        assertEquals(new InetSocketAddress(address, 5001), deregistration.getRegistration().getSocketAddress());
+        assertEquals(1, deregistration.getObservations().size());
+        assertNull(store.getRegistration("reg1"));
+        assertNull(store.getRegistrationByEndpoint(ep));
+        assertNull(store.getRegistrationByAdress(new InetSocketAddress(address, 5001)));
+        assertEquals(0, countKeys());
+    }
+
+    @ParameterizedTest(name = "scripted writes : {0}")
+    @ValueSource(booleans = { false, true })
+    public void new_registration_replaces_previous_one(boolean scripted) {
+        RedisRegistrationStore store = createStore(scripted);
+        Registration registration = givenARegistration("reg1", 5000);
+        store.addRegistration(registration);
+        store.addObservation("reg1", givenAnObservation("reg1", "/3/0/1", new byte[] { 1 }), false);
+
+        Registration newRegistration = givenARegistration("reg2", 5001);
+        Deregistration deregistration = store.addRegistration(newRegistration);
+
+        assertEquals("reg1", deregistration.getRegistration().getId());
+        assertEquals(1, deregistration.getObservations().size());
+        assertNull(store.getRegistration("reg1"));
+        assertNull(store.getRegistrationByAdress(registration.getSocketAddress()));
+        assertEquals(newRegistration.getSocketAddress(), store.getRegistration("reg2").getSocketAddress());
+        assertTrue(store.getObservations("reg1").isEmpty());
+    }
+
+    @ParameterizedTest(name = "scripted writes : {0}")
+    @ValueSource(booleans = { false, true })
+    public void observation_on_same_path_replaces_previous_one(boolean scripted) {
+        RedisRegistrationStore store = createStore(scripted);
+        store.addRegistration(givenARegistration("reg1", 5000));
+        Observation first = givenAnObservation("reg1", "/3/0/1", new byte[] { 1 });
+        Observation other = givenAnObservation("reg1", "/3/0/2", new byte[] { 2 });
+        store.addObservation("reg1", first, false);
+        store.addObservation("reg1", other, false);
+
+        Observation second = givenAnObservation("reg1", "/3/0/1", new byte[] { 3 });
+        Collection<Observation> removed = store.addObservation("reg1", second, false);
+
+        assertEquals(Collections.singletonList(first), removed);
+        assertEquals(2, store.getObservations("reg1").size());
+        assertEquals(other, store.removeObservation("reg1", other.getId()));
+        assertEquals(Collections.singletonList(second), store.removeObservations("reg1"));
+        assertTrue(store.getObservations("reg1").isEmpty());
+    }
+
+    @Test
+    public void scripted_writes_can_modify_registration_written_with_lock() {
+        RedisRegistrationStore lockStore = createStore(false);
+        Registration registration = givenARegistration("reg1", 5000);
+        lockStore.addRegistration(registration);
+        lockStore.addObservation("reg1", givenAnObservation("reg1", "/3/0/1", new byte[] { 1 }), false);
+        lockStore.addRegistration(givenARegistration("other", "reg3", 5002, 10000L));
+
+        // all instances are stopped then restarted with scripted writes
+        try (Jedis j = pool.getResource()) {
+            j.del(WRITE_MODE_KEY);
+        }
+        RedisRegistrationStore scriptedStore = createStore(true);
+
+        Deregistration deregistration = scriptedStore.addRegistration(givenARegistration("reg2", 5001));
+        assertEquals("reg1", deregistration.getRegistration().getId());
+        assertEquals(1, deregistration.getObservations().size());
+        assertNull(scriptedStore.getRegistrationByAdress(registration.getSocketAddress()));
+
+        assertNotNull(scriptedStore.removeRegistration("reg3"));
+        assertNotNull(scriptedStore.removeRegistration("reg2"));
+        assertEquals(0, countKeys());
+    }
+
+    @Test
+    public void stores_with_different_write_modes_can_not_share_redis() {
+        RedisRegistrationStore lockStore = createStore(false);
+        lockStore.addRegistration(givenARegistration("reg1", 5000));
+
+        RedisRegistrationStore scriptedStore = createStore(true);
+        assertThrows(IllegalStateException.class,
+                () -> scriptedStore.addRegistration(givenARegistration("reg2", 5001)));
+        assertThrows(IllegalStateException.class, () -> scriptedStore.removeRegistration("reg1"));
+
+        // reads are still allowed and data was not modified
+        assertEquals(5000, scriptedStore.getRegistration("reg1").getSocketAddress().getPort());
+        assertNotNull(lockStore.removeRegistration("reg1"));
+    }
+
+    /**
+     * An executor which does not run the cleaner periodically but let the test run it.
+     */
+    private static class ManualCleanerExecutor extends ScheduledThreadPoolExecutor {
+        private Runnable cleaner;
+
+        ManualCleanerExecutor() {
+            super(1);
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+            cleaner = command;
+            return super.schedule(command, 1, TimeUnit.DAYS);
+        }
+    }
+
+    private RedisRegistrationStore createCleaningStore(boolean scripted, ManualCleanerExecutor executor,
+            ExpirationListener listener) {
+        RedisRegistrationStore store = new RedisRegistrationStore.Builder(pool).setPrefix(PREFIX)
+                .setUseScriptedWrites(scripted).setCleanLimit(3).setCleanBatchSize(2).setSchedExecutor(executor)
+                .build();
+        store.setExpirationListener(listener);
+        store.start();
+        return store;
+    }
+
+    @ParameterizedTest(name = "scripted writes : {0}")
+    @ValueSource(booleans = { false, true })
+    public void expired_registrations_are_removed_by_concurrent_cleaners_without_duplicates(boolean scripted)
+            throws Exception {
+        int expired = 20;
+        // listener is called from cleaner threads
+        final List<String> expiredEndpoints = Collections.synchronizedList(new ArrayList<>());
+        ExpirationListener listener = new ExpirationListener() {
+            @Override
+            public void registrationExpired(Registration registration, Collection<Observation> observations) {
+                expiredEndpoints.add(registration.getEndpoint());
+            }
+        };
+
+        // 2 stores sharing the same Redis
+        ManualCleanerExecutor executor1 = new ManualCleanerExecutor();
+        ManualCleanerExecutor executor2 = new ManualCleanerExecutor();
+        RedisRegistrationStore store1 = createCleaningStore(scripted, executor1, listener);
+        RedisRegistrationStore store2 = createCleaningStore(scripted, executor2, listener);
+        ExecutorService cleaners = Executors.newFixedThreadPool(2);
+
+        try {
+            for (int i = 0; i < expired; i++) {
+                store1.addRegistration(givenARegistration("expired" + i, "reg" + i, 5000 + i, 0L));
+            }
+            store1.addRegistration(givenARegistration("alive", "regAlive", 6000, 10000L));
+
+            // a cleaning removes at most clean limit registrations
+            executor1.cleaner.run();
+            assertEquals(3, store1.getLastCleaningExpiredCount());
+            assertEquals(expired - 3, store1.getExpirationBacklog());
+
+            // both stores clean the backlog at the same time
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> results = new ArrayList<>();
+            for (RedisRegistrationStore store : Arrays.asList(store1, store2)) {
+                final Runnable cleaner = store == store1 ? executor1.cleaner : executor2.cleaner;
+                results.add(cleaners.submit(() -> {
+                    start.await();
+                    do {
+                        cleaner.run();
+                    } while (store.getExpirationBacklog() > 0);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+
+            assertEquals(expired, expiredEndpoints.size());
+            assertEquals(expired, new HashSet<>(expiredEndpoints).size());
+            assertNotNull(store1.getRegistrationByEndpoint("alive"));
+        } finally {
+            cleaners.shutdownNow();
+            store1.destroy();
+            store2.destroy();
+        }
+    }
+
+    @ParameterizedTest(name = "scripted writes : {0}")
+    @ValueSource(booleans = { false, true })
+    public void expiration_without_registration_is_dropped(boolean scripted) {
+        ManualCleanerExecutor executor = new ManualCleanerExecutor();
+        final List<String> expiredEndpoints = new ArrayList<>();
+        RedisRegistrationStore store = createCleaningStore(scripted, executor,
+                (registration, observations) -> expiredEndpoints.add(registration.getEndpoint()));
+        try {
+            store.addRegistration(givenARegistration("expired", "reg1", 5000, 0L));
+            // expiration left by a registration removed without it
+            try (Jedis j = pool.getResource()) {
+                j.zadd(PREFIX + "EXP#EP", 0, "ghost");
+            }
+
+            executor.cleaner.run();
+            assertEquals(Collections.singletonList("expired"), expiredEndpoints);
+            assertEquals(0, store.getExpirationBacklog());
+            try (Jedis j = pool.getResource()) {
+                assertNull(j.zscore(PREFIX + "EXP#EP", "ghost"));
+            }
+            assertEquals(0, countKeys());
+        } finally {
+            store.destroy();
+        }
+    }
+}
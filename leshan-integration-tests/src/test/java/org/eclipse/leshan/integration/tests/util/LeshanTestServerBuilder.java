@@ -44,9 +44,13 @@ import org.eclipse.leshan.integration.tests.util.cf.MapBasedRawPublicKeyProvider
 import org.eclipse.leshan.server.LeshanServerBuilder;
 import org.eclipse.leshan.server.endpoint.DefaultCompositeServerEndpointsProvider;
 import org.eclipse.leshan.server.endpoint.LwM2mServerEndpointsProvider;
+import org.eclipse.leshan.server.event.EventDispatcher;
 import org.eclipse.leshan.server.model.LwM2mModelProvider;
 import org.eclipse.leshan.server.model.VersionedModelProvider;
+import org.eclipse.leshan.server.observation.NotificationLookupCache;
 import org.eclipse.leshan.server.queue.ClientAwakeTimeProvider;
+import org.eclipse.leshan.server.queue.DownlinkRequestQueue;
+import org.eclipse.leshan.server.queue.PresenceStore;
 import org.eclipse.leshan.server.queue.StaticClientAwakeTimeProvider;
 import org.eclipse.leshan.server.registration.RegistrationDataExtractor;
 import org.eclipse.leshan.server.registration.RegistrationIdProvider;
@@ -99,7 +103,8 @@ public class LeshanTestServerBuilder extends LeshanServerBuilder {
             RegistrationDataExtractor registrationDataExtractor, LwM2mLinkParser linkParser,
             EndPointUriHandler uriHandler, ServerSecurityInfo serverSecurityInfo,
             ServerEndpointNameProvider endpointNameProvider, boolean updateRegistrationOnNotification,
-            boolean updateRegistrationOnSend) {
+            boolean updateRegistrationOnSend, NotificationLookupCache notificationLookupCache,
+            EventDispatcher eventDispatcher, DownlinkRequestQueue downlinkRequestQueue, PresenceStore presenceStore) {
 
         // create endpoint provider.
         if (endpointsProvider == null) {
@@ -134,7 +139,8 @@ public class LeshanTestServerBuilder extends LeshanServerBuilder {
         return new LeshanTestServer(endpointsProvider, registrationStore, securityStore, authorizer, modelProvider,
                 encoder, decoder, noQueueMode, awakeTimeProvider, registrationIdProvider, registrationDataExtractor,
                 linkParser, uriHandler, serverSecurityInfo, endpointNameProvider, updateRegistrationOnNotification,
-                updateRegistrationOnSend);
+                updateRegistrationOnSend, notificationLookupCache, eventDispatcher, downlinkRequestQueue,
+                presenceStore);
     }
 
     public static LeshanTestServerBuilder givenServerUsing(Protocol protocolToUse) {
@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.bsserver;
+
+/**
+ * A Listener for {@link EditableBootstrapConfigStore}
+ */
+public interface BootstrapConfigStoreListener {
+
+    /**
+     * Called when the {@link BootstrapConfig} of an end-point is added, replaced or removed.
+     *
+     * @param endpoint the client end-point
+     * @param previousConfig the configuration previously stored for this end-point or <code>null</code> if there was no
+     *        configuration.
+     * @param newConfig the configuration now stored for this end-point or <code>null</code> if it was removed.
+     */
+    void configChanged(String endpoint, BootstrapConfig previousConfig, BootstrapConfig newConfig);
+}
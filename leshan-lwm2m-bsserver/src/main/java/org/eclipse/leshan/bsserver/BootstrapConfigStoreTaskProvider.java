@@ -19,7 +19,10 @@ package org.eclipse.leshan.bsserver;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
+import org.eclipse.leshan.core.Destroyable;
 import org.eclipse.leshan.core.link.lwm2m.LwM2mLink;
 import org.eclipse.leshan.core.link.lwm2m.attributes.LwM2mAttributes;
 import org.eclipse.leshan.core.request.BootstrapDiscoverRequest;
@@ -31,15 +34,52 @@ import org.slf4j.LoggerFactory;
 /**
  * An implementation of {@link BootstrapTaskProvider} which use a {@link BootstrapConfigStore} to know which requests to
  * send during a {@link BootstrapSession}.
+ * <p>
+ * Each {@link BootstrapConfig} is compiled once in a {@link BootstrapRequestPlan} which is reused by all sessions using
+ * this configuration. Plans are cached as long as their {@link BootstrapConfig} instance is reachable. If the store is
+ * an {@link EditableBootstrapConfigStore}, plans are invalidated when a configuration is added or removed, so a
+ * configuration modified in place must be added again to the store to be taken into account. In this case, the provider
+ * listens to the store until {@link #destroy()} is called.
  */
-public class BootstrapConfigStoreTaskProvider implements BootstrapTaskProvider {
+public class BootstrapConfigStoreTaskProvider implements BootstrapTaskProvider, Destroyable {
 
     private static final Logger LOG = LoggerFactory.getLogger(BootstrapConfigStoreTaskProvider.class);
 
     private final BootstrapConfigStore store;
 
+    // Plans by configuration instance (BootstrapConfig does not override equals), guarded by itself
+    private final Map<BootstrapConfig, BootstrapRequestPlan> plans = new WeakHashMap<>();
+    // incremented on each store modification, guarded by plans
+    private long generation = 0;
+
+    private final BootstrapConfigStoreListener storeListener = new BootstrapConfigStoreListener() {
+        @Override
+        public void configChanged(String endpoint, BootstrapConfig previousConfig, BootstrapConfig newConfig) {
+            synchronized (plans) {
+                generation++;
+                if (previousConfig != null)
+                    plans.remove(previousConfig);
+                if (newConfig != null)
+                    plans.remove(newConfig);
+            }
+        }
+    };
+
     public BootstrapConfigStoreTaskProvider(BootstrapConfigStore store) {
         this.store = store;
+        if (store instanceof EditableBootstrapConfigStore) {
+            ((EditableBootstrapConfigStore) store).addListener(storeListener);
+        }
+    }
+
+    /**
+     * Stop listening to the store, so this provider can be garbage collected while the store is still in use.
+     */
+    @Override
+    public void destroy() {
+        if (store instanceof EditableBootstrapConfigStore) {
+            ((EditableBootstrapConfigStore) store).removeListener(storeListener);
+        }
     }
 
     @Override
@@ -77,13 +117,13 @@ public class BootstrapConfigStoreTaskProvider implements BootstrapTaskProvider {
                 }
 
                 // create requests from config
-                tasks.requestsToSend = BootstrapUtil.toRequests(config,
+                tasks.requestsToSend = new ArrayList<>(getPlan(config).getRequests(
                         config.contentFormat != null ? config.contentFormat : session.getContentFormat(),
-                        bootstrapServerInstanceId);
+                        bootstrapServerInstanceId));
             } else {
                 // create requests from config
-                tasks.requestsToSend = BootstrapUtil.toRequests(config,
-                        config.contentFormat != null ? config.contentFormat : session.getContentFormat());
+                tasks.requestsToSend = new ArrayList<>(getPlan(config)
+                        .getRequests(config.contentFormat != null ? config.contentFormat : session.getContentFormat()));
 
             }
 
@@ -97,6 +137,23 @@ public class BootstrapConfigStoreTaskProvider implements BootstrapTaskProvider {
         }
     }
 
+    protected BootstrapRequestPlan getPlan(BootstrapConfig config) {
+        long currentGeneration;
+        synchronized (plans) {
+            BootstrapRequestPlan plan = plans.get(config);
+            if (plan != null)
+                return plan;
+            currentGeneration = generation;
+        }
+        // compile outside of lock, configuration could be modified meanwhile so only cache if store did not change.
+        BootstrapRequestPlan plan = new BootstrapRequestPlan(config);
+        synchronized (plans) {
+            if (currentGeneration == generation)
+                plans.put(config, plan);
+        }
+        return plan;
+    }
+
     protected boolean shouldStartWithDiscover(BootstrapConfig config) {
         return config.autoIdForSecurityObject;
     }
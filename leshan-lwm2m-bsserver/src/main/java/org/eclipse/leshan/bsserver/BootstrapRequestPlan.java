@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.bsserver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.leshan.bsserver.BootstrapConfig.ACLConfig;
+import org.eclipse.leshan.bsserver.BootstrapConfig.OscoreObject;
+import org.eclipse.leshan.bsserver.BootstrapConfig.ServerConfig;
+import org.eclipse.leshan.bsserver.BootstrapConfig.ServerSecurity;
+import org.eclipse.leshan.core.LwM2mId;
+import org.eclipse.leshan.core.node.LwM2mObjectInstance;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.request.BootstrapDeleteRequest;
+import org.eclipse.leshan.core.request.BootstrapWriteRequest;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.core.request.DownlinkBootstrapRequest;
+import org.eclipse.leshan.core.response.LwM2mResponse;
+
+/**
+ * The requests needed to apply a {@link BootstrapConfig}, compiled once and shared by all bootstrap sessions using this
+ * configuration.
+ * <p>
+ * Object instances of the configuration are built when the plan is compiled. Requests are built the first time they are
+ * needed for a given {@link ContentFormat} (and bootstrap server instance id, see
+ * {@link #getRequests(ContentFormat, int)}), then reused. As requests and nodes are immutable, the same request
+ * instances can be sent in several sessions concurrently.
+ * <p>
+ * A plan is a snapshot of the configuration at compilation time : if the {@link BootstrapConfig} is modified, a new
+ * plan must be compiled.
+ *
+ * @see BootstrapUtil#toRequests(BootstrapConfig, ContentFormat)
+ */
+public class BootstrapRequestPlan {
+
+    private final List<BootstrapDeleteRequest> deleteRequests;
+    // security instances in configuration order
+    private final List<LwM2mObjectInstance> securityInstances;
+    // bootstrap server flag of security instances, sorted by instance id
+    private final List<Boolean> sortedSecurityIsBootstrapServer;
+    private final List<LwM2mObjectInstance> sortedSecurityInstances;
+    // server, acl and oscore instances
+    private final List<LwM2mPath> otherPaths;
+    private final List<LwM2mObjectInstance> otherInstances;
+
+    private final ConcurrentMap<PlanKey, List<DownlinkBootstrapRequest<? extends LwM2mResponse>>> requestsByKey = new ConcurrentHashMap<>();
+
+    /**
+     * Compile the given {@link BootstrapConfig}.
+     */
+    public BootstrapRequestPlan(BootstrapConfig config) {
+        deleteRequests = new ArrayList<>(config.toDelete.size());
+        for (String path : config.toDelete) {
+            deleteRequests.add(new BootstrapDeleteRequest(path));
+        }
+
+        securityInstances = new ArrayList<>(config.security.size());
+        for (Entry<Integer, ServerSecurity> security : config.security.entrySet()) {
+            securityInstances.add(BootstrapUtil.toSecurityInstance(security.getKey(), security.getValue()));
+        }
+        sortedSecurityIsBootstrapServer = new ArrayList<>(config.security.size());
+        sortedSecurityInstances = new ArrayList<>(config.security.size());
+        for (Entry<Integer, ServerSecurity> security : new TreeMap<>(config.security).entrySet()) {
+            sortedSecurityIsBootstrapServer.add(security.getValue().bootstrapServer);
+            sortedSecurityInstances.add(BootstrapUtil.toSecurityInstance(security.getKey(), security.getValue()));
+        }
+
+        otherPaths = new ArrayList<>();
+        otherInstances = new ArrayList<>();
+        for (Entry<Integer, ServerConfig> server : config.servers.entrySet()) {
+            otherPaths.add(new LwM2mPath(LwM2mId.SERVER, server.getKey()));
+            otherInstances.add(BootstrapUtil.toServerInstance(server.getKey(), server.getValue()));
+        }
+        for (Entry<Integer, ACLConfig> acl : config.acls.entrySet()) {
+            otherPaths.add(new LwM2mPath(LwM2mId.ACCESS_CONTROL, acl.getKey()));
+            otherInstances.add(BootstrapUtil.toAclInstance(acl.getKey(), acl.getValue()));
+        }
+        for (Entry<Integer, OscoreObject> oscore : config.oscore.entrySet()) {
+            otherPaths.add(new LwM2mPath(LwM2mId.OSCORE, oscore.getKey()));
+            otherInstances.add(BootstrapUtil.toOscoreInstance(oscore.getKey(), oscore.getValue()));
+        }
+    }
+
+    /**
+     * Returns the requests to send, same as {@link BootstrapUtil#toRequests(BootstrapConfig, ContentFormat)}.
+     *
+     * @return an unmodifiable list of requests shared by all callers.
+     */
+    public List<DownlinkBootstrapRequest<? extends LwM2mResponse>> getRequests(ContentFormat contentFormat) {
+        return getRequests(new PlanKey(contentFormat, null));
+    }
+
+    /**
+     * Returns the requests to send when the instance id of the bootstrap server in Security Object is imposed by the
+     * client, same as {@link BootstrapUtil#toRequests(BootstrapConfig, ContentFormat, int)}.
+     *
+     * @return an unmodifiable list of requests shared by all callers.
+     */
+    public List<DownlinkBootstrapRequest<? extends LwM2mResponse>> getRequests(ContentFormat contentFormat,
+            int bootstrapServerInstanceId) {
+        return getRequests(new PlanKey(contentFormat, bootstrapServerInstanceId));
+    }
+
+    private List<DownlinkBootstrapRequest<? extends LwM2mResponse>> getRequests(PlanKey key) {
+        List<DownlinkBootstrapRequest<? extends LwM2mResponse>> requests = requestsByKey.get(key);
+        if (requests == null) {
+            // Building requests twice concurrently is harmless, so we avoid computeIfAbsent which could block.
+            requests = Collections.unmodifiableList(buildRequests(key.contentFormat, key.bootstrapServerInstanceId));
+            List<DownlinkBootstrapRequest<? extends LwM2mResponse>> previous = requestsByKey.putIfAbsent(key, requests);
+            if (previous != null) {
+                requests = previous;
+            }
+        }
+        return requests;
+    }
+
+    private List<DownlinkBootstrapRequest<? extends LwM2mResponse>> buildRequests(ContentFormat contentFormat,
+            Integer bootstrapServerInstanceId) {
+        List<DownlinkBootstrapRequest<? extends LwM2mResponse>> requests = new ArrayList<>(
+                deleteRequests.size() + securityInstances.size() + otherInstances.size());
+        // handle delete
+        requests.addAll(deleteRequests);
+
+        // handle security
+        if (bootstrapServerInstanceId == null) {
+            for (LwM2mObjectInstance security : securityInstances) {
+                requests.add(new BootstrapWriteRequest(new LwM2mPath(LwM2mId.SECURITY, security.getId()), security,
+                        contentFormat));
+            }
+        } else {
+            // renumber security instances, only id is patched, resources are reused.
+            int id = 0;
+            for (int i = 0; i < sortedSecurityInstances.size(); i++) {
+                int instanceId;
+                if (sortedSecurityIsBootstrapServer.get(i)) {
+                    instanceId = bootstrapServerInstanceId;
+                } else {
+                    if (id == bootstrapServerInstanceId)
+                        id++;
+                    instanceId = id;
+                    id++;
+                }
+                LwM2mObjectInstance security = sortedSecurityInstances.get(i);
+                if (security.getId() != instanceId) {
+                    security = new LwM2mObjectInstance(instanceId, security.getResources().values());
+                }
+                requests.add(new BootstrapWriteRequest(new LwM2mPath(LwM2mId.SECURITY, instanceId), security,
+                        contentFormat));
+            }
+        }
+
+        // handle server, acl and oscore
+        for (int i = 0; i < otherInstances.size(); i++) {
+            requests.add(new BootstrapWriteRequest(otherPaths.get(i), otherInstances.get(i), contentFormat));
+        }
+        return requests;
+    }
+
+    private static final class PlanKey {
+        private final ContentFormat contentFormat;
+        private final Integer bootstrapServerInstanceId;
+
+        PlanKey(ContentFormat contentFormat, Integer bootstrapServerInstanceId) {
+            this.contentFormat = contentFormat;
+            this.bootstrapServerInstanceId = bootstrapServerInstanceId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof PlanKey))
+                return false;
+            PlanKey that = (PlanKey) o;
+            return Objects.equals(contentFormat, that.contentFormat)
+                    && Objects.equals(bootstrapServerInstanceId, that.bootstrapServerInstanceId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(contentFormat, bootstrapServerInstanceId);
+        }
+    }
+}
@@ -45,4 +45,20 @@ public interface EditableBootstrapConfigStore extends BootstrapConfigStore {
      * @return the removed {@link BootstrapConfig} or <code>null</code> if no bootstrap configuration for this client.
      */
     BootstrapConfig remove(String endpoint);
+
+    /**
+     * Adds a new {@link BootstrapConfigStoreListener} to this store.
+     * <p>
+     * Default implementation does nothing, for stores which do not notify modifications.
+     */
+    default void addListener(BootstrapConfigStoreListener listener) {
+    }
+
+    /**
+     * Removes the given {@link BootstrapConfigStoreListener} from the listeners of this store.
+     * <p>
+     * Default implementation does nothing, for stores which do not notify modifications.
+     */
+    default void removeListener(BootstrapConfigStoreListener listener) {
+    }
 }
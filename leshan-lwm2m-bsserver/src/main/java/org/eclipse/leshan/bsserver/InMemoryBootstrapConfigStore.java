@@ -17,9 +17,11 @@
 package org.eclipse.leshan.bsserver;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.leshan.bsserver.BootstrapConfig.ServerSecurity;
 import org.eclipse.leshan.core.SecurityMode;
@@ -35,6 +37,8 @@ public class InMemoryBootstrapConfigStore implements EditableBootstrapConfigStor
     protected final Map<String /* endpoint */, BootstrapConfig> bootstrapByEndpoint = new ConcurrentHashMap<>();
     protected final ConcurrentHashMap<PskByServer, BootstrapConfig> bootstrapByPskId = new ConcurrentHashMap<>();
 
+    private final List<BootstrapConfigStoreListener> listeners = new CopyOnWriteArrayList<>();
+
     public InMemoryBootstrapConfigStore(ConfigurationChecker configChecker) {
         this.configChecker = configChecker;
     }
@@ -74,10 +78,11 @@ public class InMemoryBootstrapConfigStore implements EditableBootstrapConfigStor
         // but with https://github.com/eclipse/leshan/issues/1112
         // I'm not sure this still makes sense...
 
-        bootstrapByEndpoint.put(endpoint, config);
+        BootstrapConfig previousConfig = bootstrapByEndpoint.put(endpoint, config);
         if (pskToAdd != null) {
             bootstrapByPskId.put(pskToAdd, config);
         }
+        fireConfigChanged(endpoint, previousConfig, config);
     }
 
     protected void checkConfig(String endpoint, BootstrapConfig config) throws InvalidConfigurationException {
@@ -92,10 +97,17 @@ public class InMemoryBootstrapConfigStore implements EditableBootstrapConfigStor
             if (pskIdentity != null) {
                 bootstrapByPskId.remove(pskIdentity, bootstrapConfig);
             }
+            fireConfigChanged(enpoint, bootstrapConfig, null);
         }
         return bootstrapConfig;
     }
 
+    protected void fireConfigChanged(String endpoint, BootstrapConfig previousConfig, BootstrapConfig newConfig) {
+        for (BootstrapConfigStoreListener listener : listeners) {
+            listener.configChanged(endpoint, previousConfig, newConfig);
+        }
+    }
+
     protected PskByServer getBootstrapPskIdentity(BootstrapConfig config) {
         for (ServerSecurity security : config.security.values()) {
             if (security.bootstrapServer && security.securityMode == SecurityMode.PSK) {
@@ -110,6 +122,16 @@ public class InMemoryBootstrapConfigStore implements EditableBootstrapConfigStor
         return Collections.unmodifiableMap(bootstrapByEndpoint);
     }
 
+    @Override
+    public void addListener(BootstrapConfigStoreListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(BootstrapConfigStoreListener listener) {
+        listeners.remove(listener);
+    }
+
     protected static class PskByServer {
         public final String serverUrl;
         public final String identity;
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.bsserver;
+
+import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import org.eclipse.leshan.bsserver.BootstrapConfig.ServerConfig;
+import org.eclipse.leshan.bsserver.BootstrapConfig.ServerSecurity;
+import org.eclipse.leshan.bsserver.BootstrapTaskProvider.Tasks;
+import org.eclipse.leshan.core.SecurityMode;
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.core.peer.PskIdentity;
+import org.eclipse.leshan.core.request.BootstrapRequest;
+import org.eclipse.leshan.core.request.BootstrapWriteRequest;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.core.request.DownlinkBootstrapRequest;
+import org.eclipse.leshan.core.response.LwM2mResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BootstrapConfigStoreTaskProviderTest {
+
+    private InMemoryBootstrapConfigStore store;
+    private BootstrapConfigStoreTaskProvider taskProvider;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryBootstrapConfigStore(config -> {
+        });
+        taskProvider = new BootstrapConfigStoreTaskProvider(store);
+    }
+
+    private BootstrapConfig givenAConfig() {
+        BootstrapConfig config = new BootstrapConfig();
+        config.toDelete.add("/0");
+        config.toDelete.add("/1");
+
+        ServerSecurity bootstrapServer = new ServerSecurity();
+        bootstrapServer.uri = "coap://bootstrap.example.org";
+        bootstrapServer.bootstrapServer = true;
+        bootstrapServer.securityMode = SecurityMode.NO_SEC;
+        config.security.put(0, bootstrapServer);
+
+        ServerSecurity server = new ServerSecurity();
+        server.uri = "coap://server.example.org";
+        server.securityMode = SecurityMode.NO_SEC;
+        server.serverId = 123;
+        config.security.put(1, server);
+
+        ServerConfig serverConfig = new ServerConfig();
+        serverConfig.shortId = 123;
+        config.servers.put(0, serverConfig);
+        return config;
+    }
+
+    private BootstrapSession givenASession(String endpoint) {
+        return new DefaultBootstrapSession(endpoint, new BootstrapRequest(endpoint),
+                new IpPeer(new InetSocketAddress(4242), new PskIdentity(endpoint)), true, ContentFormat.TLV, null,
+                uriHandler.createUri("coap://localhost:5683"));
+    }
+
+    @Test
+    void plan_creates_same_requests_than_bootstrap_util() {
+        BootstrapConfig config = givenAConfig();
+        BootstrapRequestPlan plan = new BootstrapRequestPlan(config);
+
+        assertSameRequests(BootstrapUtil.toRequests(config, ContentFormat.TLV), plan.getRequests(ContentFormat.TLV));
+        assertSameRequests(BootstrapUtil.toRequests(config, ContentFormat.SENML_CBOR),
+                plan.getRequests(ContentFormat.SENML_CBOR));
+        assertSameRequests(BootstrapUtil.toRequests(config, ContentFormat.TLV, 0),
+                plan.getRequests(ContentFormat.TLV, 0));
+        assertSameRequests(BootstrapUtil.toRequests(config, ContentFormat.TLV, 1),
+                plan.getRequests(ContentFormat.TLV, 1));
+    }
+
+    private void assertSameRequests(List<DownlinkBootstrapRequest<? extends LwM2mResponse>> expected,
+            List<DownlinkBootstrapRequest<? extends LwM2mResponse>> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+            if (expected.get(i) instanceof BootstrapWriteRequest) {
+                BootstrapWriteRequest expectedWrite = (BootstrapWriteRequest) expected.get(i);
+                BootstrapWriteRequest actualWrite = (BootstrapWriteRequest) actual.get(i);
+                assertEquals(expectedWrite.getNode(), actualWrite.getNode());
+                assertEquals(expectedWrite.getContentFormat(), actualWrite.getContentFormat());
+            }
+        }
+    }
+
+    @Test
+    void requests_are_shared_by_sessions_using_same_config() throws InvalidConfigurationException {
+        BootstrapConfig config = givenAConfig();
+        store.add("ep1", config);
+        store.add("ep2", config);
+
+        Tasks tasks1 = taskProvider.getTasks(givenASession("ep1"), null);
+        Tasks tasks2 = taskProvider.getTasks(givenASession("ep2"), null);
+
+        // each session gets its own list as session consumes it
+        assertNotSame(tasks1.requestsToSend, tasks2.requestsToSend);
+        assertEquals(tasks1.requestsToSend.size(), tasks2.requestsToSend.size());
+        for (int i = 0; i < tasks1.requestsToSend.size(); i++) {
+            assertSame(tasks1.requestsToSend.get(i), tasks2.requestsToSend.get(i));
+        }
+        tasks1.requestsToSend.remove(0);
+        assertEquals(5, taskProvider.getTasks(givenASession("ep1"), null).requestsToSend.size());
+    }
+
+    @Test
+    void plan_is_invalidated_when_store_changes() throws InvalidConfigurationException {
+        BootstrapConfig config = givenAConfig();
+        store.add("ep1", config);
+        assertEquals(5, taskProvider.getTasks(givenASession("ep1"), null).requestsToSend.size());
+
+        // modify config in place then add it again
+        config.toDelete.clear();
+        store.add("ep1", config);
+        assertEquals(3, taskProvider.getTasks(givenASession("ep1"), null).requestsToSend.size());
+    }
+
+    @Test
+    void destroyed_provider_stops_listening_store() throws InvalidConfigurationException {
+        BootstrapConfig config = givenAConfig();
+        store.add("ep1", config);
+        assertEquals(5, taskProvider.getTasks(givenASession("ep1"), null).requestsToSend.size());
+        taskProvider.destroy();
+
+        // store modifications are not notified anymore, so plan is not invalidated
+        config.toDelete.clear();
+        store.add("ep1", config);
+        assertEquals(5, taskProvider.getTasks(givenASession("ep1"), null).requestsToSend.size());
+    }
+}
@@ -0,0 +1,635 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.client.send;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.eclipse.leshan.client.servers.LwM2mServer;
+import org.eclipse.leshan.core.Destroyable;
+import org.eclipse.leshan.core.node.LwM2mNode;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.TimestampedLwM2mNodes;
+import org.eclipse.leshan.core.node.codec.CodecException;
+import org.eclipse.leshan.core.node.codec.DefaultLwM2mDecoder;
+import org.eclipse.leshan.core.node.codec.DefaultLwM2mEncoder;
+import org.eclipse.leshan.core.node.codec.LwM2mDecoder;
+import org.eclipse.leshan.core.node.codec.LwM2mEncoder;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.core.util.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A data sender which collects data in a bounded buffer and sends them on a manual API call.
+ * <p>
+ * Unlike {@link ManualDataSender}, memory used by collected data is bounded : when the buffer is full, the configured
+ * {@link OverflowPolicy} is applied. Collected data are sent by chunks of limited number of values, each chunk is
+ * removed from the buffer only once the server acknowledged it, so a long backlog can be sent once the server is
+ * reachable again without building a huge Send request and without losing data on failure.
+ * <p>
+ * With {@link OverflowPolicy#SPILL_TO_FILE}, oldest values are encoded in SenML-CBOR and moved to a memory-mapped file.
+ * This file is only used to save heap memory : it is truncated when first used and deleted on {@link #destroy()}.
+ * Values read from this file are decoded with current client model, so a multiple resource or an instance is sent as
+ * its resources.
+ */
+public class BufferedDataSender implements DataSender, Destroyable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BufferedDataSender.class);
+
+    public final static String DEFAULT_NAME = "BUFFERED_SENDER";
+
+    /**
+     * Define what is done when data are collected while the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Oldest collected data are dropped.
+         */
+        DROP_OLDEST,
+        /**
+         * One collected data out of two is dropped, so buffer still covers the whole period but with a lower
+         * resolution.
+         */
+        DOWNSAMPLE,
+        /**
+         * Oldest collected data are moved to a file. When this file is full, its oldest data are dropped.
+         */
+        SPILL_TO_FILE
+    }
+
+    private static class Record {
+        final long sequence;
+        final Instant timestamp;
+        final Map<LwM2mPath, LwM2mNode> nodes;
+
+        Record(long sequence, Instant timestamp, Map<LwM2mPath, LwM2mNode> nodes) {
+            this.sequence = sequence;
+            this.timestamp = timestamp;
+            this.nodes = nodes;
+        }
+    }
+
+    private static class SpilledChunk {
+        final int offset;
+        final int length;
+        final long lastSequence;
+        final int recordCount;
+
+        SpilledChunk(int offset, int length, long lastSequence, int recordCount) {
+            this.offset = offset;
+            this.length = length;
+            this.lastSequence = lastSequence;
+            this.recordCount = recordCount;
+        }
+    }
+
+    private final String name;
+    private final OverflowPolicy overflowPolicy;
+    private final int maxValuesPerSend;
+    private final File spillFile;
+    private final int spillFileSize;
+    private final LwM2mEncoder encoder;
+    private final LwM2mDecoder decoder;
+    private final Supplier<Instant> clock;
+    private DataSenderManager dataSenderManager;
+
+    // Guards spill file content, so encoding and file I/O are done without holding this. When both are needed, it must
+    // be taken before this.
+    private final Object spillLock = new Object();
+    private FileChannel spillChannel;
+    private MappedByteBuffer spillBuffer;
+
+    // all fields below are guarded by this
+    private final Record[] buffer;
+    private int head = 0;
+    private int size = 0;
+    private long nextSequence = 0;
+    private final Deque<SpilledChunk> spilledChunks = new ArrayDeque<>();
+    private boolean sending = false;
+    // last sequence number of data being sent, or -1
+    private long inFlightSequence = -1;
+    private long droppedCount = 0;
+
+    protected BufferedDataSender(String name, int capacity, OverflowPolicy overflowPolicy, int maxValuesPerSend,
+            File spillFile, int spillFileSize, LwM2mEncoder encoder, LwM2mDecoder decoder) {
+        this(name, capacity, overflowPolicy, maxValuesPerSend, spillFile, spillFileSize, encoder, decoder,
+                Instant::now);
+    }
+
+    BufferedDataSender(String name, int capacity, OverflowPolicy overflowPolicy, int maxValuesPerSend, File spillFile,
+            int spillFileSize, LwM2mEncoder encoder, LwM2mDecoder decoder, Supplier<Instant> clock) {
+        this.name = name;
+        this.buffer = new Record[capacity];
+        this.overflowPolicy = overflowPolicy;
+        this.maxValuesPerSend = maxValuesPerSend;
+        this.spillFile = spillFile;
+        this.spillFileSize = spillFileSize;
+        this.encoder = encoder;
+        this.decoder = decoder;
+        this.clock = clock;
+    }
+
+    public void collectData(List<LwM2mPath> paths) {
+        Instant currentTimestamp = clock.get();
+        Map<LwM2mPath, LwM2mNode> currentValues = dataSenderManager.getCurrentValues(LwM2mServer.SYSTEM, paths);
+        if (overflowPolicy == OverflowPolicy.SPILL_TO_FILE) {
+            // senders also take spill lock, so they can not see data which are neither in memory nor in file
+            synchronized (spillLock) {
+                List<Record> spilled = null;
+                synchronized (this) {
+                    if (size == buffer.length) {
+                        spilled = removeRecordsToSpill();
+                    }
+                    set(size++, new Record(nextSequence++, currentTimestamp, currentValues));
+                }
+                if (spilled != null) {
+                    spill(spilled);
+                }
+            }
+        } else {
+            synchronized (this) {
+                if (size == buffer.length) {
+                    handleOverflow();
+                }
+                set(size++, new Record(nextSequence++, currentTimestamp, currentValues));
+            }
+        }
+    }
+
+    /**
+     * Send all collected data, chunk by chunk. Sending stops at first failure, remaining data will be sent on next
+     * call.
+     * <p>
+     * If data are currently being sent, this call does nothing : new collected data will be sent with them.
+     *
+     * @throws NoDataException if no data was collected before to send
+     */
+    public void sendCollectedData(LwM2mServer server, ContentFormat format, long timeoutInMs) throws NoDataException {
+        synchronized (this) {
+            if (size == 0 && spilledChunks.isEmpty()) {
+                throw new NoDataException("Unable to send data to %s : no data collected", server);
+            }
+            if (sending) {
+                return;
+            }
+            sending = true;
+        }
+        sendNextChunk(server, format, timeoutInMs);
+    }
+
+    private void sendNextChunk(LwM2mServer server, ContentFormat format, long timeoutInMs) {
+        TimestampedLwM2mNodes data = null;
+        long lastSequence = -1;
+        // spilled data are read without holding this, spill lock ensures they are not moved meanwhile
+        synchronized (spillLock) {
+            SpilledChunk chunk;
+            while (data == null && (chunk = getFirstSpilledChunk()) != null) {
+                data = readSpilledChunk(chunk);
+                lastSequence = chunk.lastSequence;
+            }
+            synchronized (this) {
+                if (data == null) {
+                    if (size == 0) {
+                        sending = false;
+                        return;
+                    }
+                    List<Record> records = getRecords(0, countRecordsOfChunk(0));
+                    data = toTimestampedNodes(records);
+                    lastSequence = records.get(records.size() - 1).sequence;
+                }
+                inFlightSequence = lastSequence;
+            }
+        }
+
+        long sentSequence = lastSequence;
+        try {
+            dataSenderManager.sendData(server, format, data, response -> {
+                if (response.isSuccess()) {
+                    acknowledge(sentSequence);
+                    sendNextChunk(server, format, timeoutInMs);
+                } else {
+                    stopSending();
+                }
+            }, error -> {
+                stopSending();
+            }, timeoutInMs);
+        } catch (RuntimeException e) {
+            stopSending();
+            throw e;
+        }
+    }
+
+    private synchronized void stopSending() {
+        sending = false;
+        inFlightSequence = -1;
+    }
+
+    // remove all data up to the given sequence number
+    private synchronized void acknowledge(long lastSequence) {
+        inFlightSequence = -1;
+        while (!spilledChunks.isEmpty() && spilledChunks.peekFirst().lastSequence <= lastSequence) {
+            spilledChunks.removeFirst();
+        }
+        int count = 0;
+        while (count < size && get(count).sequence <= lastSequence) {
+            count++;
+        }
+        removeFirst(count);
+    }
+
+    // count records of the chunk starting at index first
+    private int countRecordsOfChunk(int first) {
+        // a chunk contains at least one record
+        int count = 1;
+        int values = get(first).nodes.size();
+        while (first + count < size) {
+            values += get(first + count).nodes.size();
+            if (values > maxValuesPerSend) {
+                break;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    private List<Record> getRecords(int first, int count) {
+        List<Record> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            records.add(get(first + i));
+        }
+        return records;
+    }
+
+    private static TimestampedLwM2mNodes toTimestampedNodes(List<Record> records) {
+        // several collects could happen in the same millisecond, keep the last one
+        TimestampedLwM2mNodes.Builder builder = TimestampedLwM2mNodes.builder().raiseExceptionOnDuplicate(false);
+        for (Record record : records) {
+            builder.addNodes(record.timestamp, record.nodes);
+        }
+        return builder.build();
+    }
+
+    private void handleOverflow() {
+        switch (overflowPolicy) {
+        case DOWNSAMPLE:
+            downsample();
+            break;
+        default:
+            removeFirst(1);
+            droppedCount++;
+            break;
+        }
+    }
+
+    private void downsample() {
+        // keep records with even index
+        int kept = 0;
+        for (int i = 0; i < size; i += 2) {
+            set(kept++, get(i));
+        }
+        for (int i = kept; i < size; i++) {
+            set(i, null);
+        }
+        droppedCount += size - kept;
+        size = kept;
+    }
+
+    /**
+     * Remove the oldest chunk of records which are not being sent, so they can be spilled to file. Records being sent
+     * stay in memory, so their acknowledgement removes them and they are not sent again from file.
+     *
+     * @return removed records or <code>null</code> if all records are being sent, then the oldest one is dropped.
+     */
+    private List<Record> removeRecordsToSpill() {
+        int first = 0;
+        while (first < size && get(first).sequence <= inFlightSequence) {
+            first++;
+        }
+        if (first == size) {
+            removeFirst(1);
+            droppedCount++;
+            return null;
+        }
+        List<Record> records = getRecords(first, countRecordsOfChunk(first));
+        // move records being sent just before the remaining ones
+        for (int i = first - 1; i >= 0; i--) {
+            set(i + records.size(), get(i));
+        }
+        removeFirst(records.size());
+        return records;
+    }
+
+    // must be called with spill lock
+    private void spill(List<Record> records) {
+        long lastSequence = records.get(records.size() - 1).sequence;
+        byte[] content;
+        try {
+            content = encoder.encodeTimestampedNodes(toTimestampedNodes(records), ContentFormat.SENML_CBOR, null,
+                    dataSenderManager.getModel());
+            if (content.length > spillFileSize) {
+                throw new IOException(
+                        String.format("%d bytes chunk exceeds size of spill file (%d)", content.length, spillFileSize));
+            }
+            openSpillFileIfNeeded();
+        } catch (CodecException | IOException e) {
+            LOG.warn("Unable to spill collected data to {}, {} collected data are dropped", spillFile, records.size(),
+                    e);
+            synchronized (this) {
+                droppedCount += records.size();
+            }
+            return;
+        }
+
+        // make room for this chunk, compacting file or dropping oldest chunks
+        int offset;
+        while (true) {
+            synchronized (this) {
+                offset = getSpillFileEnd();
+                if (spillFileSize - offset >= content.length) {
+                    break;
+                }
+                SpilledChunk first = spilledChunks.peekFirst();
+                if (first.offset == 0) {
+                    spilledChunks.removeFirst();
+                    droppedCount += first.recordCount;
+                    continue;
+                }
+            }
+            compactSpillFile();
+        }
+
+        ByteBuffer destination = spillBuffer.duplicate();
+        destination.position(offset);
+        destination.put(content);
+        synchronized (this) {
+            spilledChunks.addLast(new SpilledChunk(offset, content.length, lastSequence, records.size()));
+        }
+    }
+
+    // must be called with spill lock
+    private void openSpillFileIfNeeded() throws IOException {
+        if (spillBuffer == null) {
+            spillChannel = FileChannel.open(spillFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            spillBuffer = spillChannel.map(MapMode.READ_WRITE, 0, spillFileSize);
+        }
+    }
+
+    // must be called with this
+    private int getSpillFileEnd() {
+        SpilledChunk last = spilledChunks.peekLast();
+        return last == null ? 0 : last.offset + last.length;
+    }
+
+    private synchronized SpilledChunk getFirstSpilledChunk() {
+        return spilledChunks.peekFirst();
+    }
+
+    // move all chunks at the beginning of the file, must be called with spill lock
+    private void compactSpillFile() {
+        int start;
+        int end;
+        synchronized (this) {
+            SpilledChunk first = spilledChunks.peekFirst();
+            if (first == null) {
+                // all chunks were acknowledged meanwhile
+                return;
+            }
+            start = first.offset;
+            end = getSpillFileEnd();
+        }
+
+        // chunks can only be acknowledged meanwhile, so copied data are still the ones to keep
+        ByteBuffer source = spillBuffer.duplicate();
+        source.position(start);
+        source.limit(end);
+        ByteBuffer destination = spillBuffer.duplicate();
+        // regions overlap, destination is before source : copy from start to end
+        byte[] block = new byte[Math.min(8192, source.remaining())];
+        while (source.hasRemaining()) {
+            int length = Math.min(block.length, source.remaining());
+            source.get(block, 0, length);
+            destination.put(block, 0, length);
+        }
+
+        synchronized (this) {
+            int chunkCount = spilledChunks.size();
+            for (int i = 0; i < chunkCount; i++) {
+                SpilledChunk chunk = spilledChunks.removeFirst();
+                spilledChunks.addLast(
+                        new SpilledChunk(chunk.offset - start, chunk.length, chunk.lastSequence, chunk.recordCount));
+            }
+        }
+    }
+
+    // return null and drop the chunk if it can not be decoded, must be called with spill lock
+    private TimestampedLwM2mNodes readSpilledChunk(SpilledChunk chunk) {
+        byte[] content = new byte[chunk.length];
+        ByteBuffer source = spillBuffer.duplicate();
+        source.position(chunk.offset);
+        source.get(content);
+        try {
+            return decoder.decodeTimestampedNodes(content, ContentFormat.SENML_CBOR, null, null,
+                    dataSenderManager.getModel());
+        } catch (CodecException e) {
+            LOG.warn("Unable to read data spilled to {}, {} collected data are dropped", spillFile, chunk.recordCount,
+                    e);
+            synchronized (this) {
+                spilledChunks.remove(chunk);
+                droppedCount += chunk.recordCount;
+            }
+            return null;
+        }
+    }
+
+    private Record get(int index) {
+        return buffer[(head + index) % buffer.length];
+    }
+
+    private void set(int index, Record record) {
+        buffer[(head + index) % buffer.length] = record;
+    }
+
+    private void removeFirst(int count) {
+        for (int i = 0; i < count; i++) {
+            set(i, null);
+        }
+        head = (head + count) % buffer.length;
+        size -= count;
+    }
+
+    /**
+     * @return the number of collected data kept in memory.
+     */
+    public synchronized int getBufferedCount() {
+        return size;
+    }
+
+    /**
+     * @return the number of collected data spilled to file.
+     */
+    public synchronized int getSpilledCount() {
+        int count = 0;
+        for (SpilledChunk chunk : spilledChunks) {
+            count += chunk.recordCount;
+        }
+        return count;
+    }
+
+    /**
+     * @return the number of collected data dropped because of buffer overflow.
+     */
+    public synchronized long getDroppedCount() {
+        return droppedCount;
+    }
+
+    @Override
+    public void setDataSenderManager(DataSenderManager dataSenderManager) {
+        this.dataSenderManager = dataSenderManager;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void destroy() {
+        synchronized (spillLock) {
+            synchronized (this) {
+                spilledChunks.clear();
+            }
+            spillBuffer = null;
+            if (spillChannel != null) {
+                try {
+                    spillChannel.close();
+                    Files.deleteIfExists(spillFile.toPath());
+                } catch (IOException e) {
+                    LOG.warn("Unable to delete spill file {}", spillFile, e);
+                }
+                spillChannel = null;
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private String name = DEFAULT_NAME;
+        private int capacity = 1000;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+        private int maxValuesPerSend = 100;
+        private File spillFile;
+        private int spillFileSize;
+        private LwM2mEncoder encoder;
+        private LwM2mDecoder decoder;
+        private Supplier<Instant> clock = Instant::now;
+
+        public Builder setName(String name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Set maximum number of collected data kept in memory. Default value is 1000.
+         */
+        public Builder setCapacity(int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Set what is done when buffer is full. Default value is {@link OverflowPolicy#DROP_OLDEST}.
+         */
+        public Builder setOverflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        /**
+         * Set maximum number of values sent in one Send request. A collected data is never split, so a request contains
+         * more values if one collect exceeds this limit. Default value is 100.
+         */
+        public Builder setMaxValuesPerSend(int maxValuesPerSend) {
+            this.maxValuesPerSend = maxValuesPerSend;
+            return this;
+        }
+
+        /**
+         * Set file used by {@link OverflowPolicy#SPILL_TO_FILE}.
+         *
+         * @param spillFile the file, its content is replaced.
+         * @param maxSizeInBytes the size of the file.
+         */
+        public Builder setSpillFile(File spillFile, int maxSizeInBytes) {
+            this.spillFile = spillFile;
+            this.spillFileSize = maxSizeInBytes;
+            return this;
+        }
+
+        /**
+         * Set encoder used to write data to spill file. By default a {@link DefaultLwM2mEncoder} is used.
+         */
+        public Builder setEncoder(LwM2mEncoder encoder) {
+            this.encoder = encoder;
+            return this;
+        }
+
+        /**
+         * Set decoder used to read data from spill file. By default a {@link DefaultLwM2mDecoder} is used.
+         */
+        public Builder setDecoder(LwM2mDecoder decoder) {
+            this.decoder = decoder;
+            return this;
+        }
+
+        // used by tests to control timestamps of collected data
+        Builder setClock(Supplier<Instant> clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public BufferedDataSender build() {
+            Validate.notNull(name, "name must not be null");
+            Validate.notNull(overflowPolicy, "overflowPolicy must not be null");
+            Validate.isTrue(capacity > 0, "capacity must be strictly positive");
+            Validate.isTrue(maxValuesPerSend > 0, "maxValuesPerSend must be strictly positive");
+            if (overflowPolicy == OverflowPolicy.SPILL_TO_FILE) {
+                Validate.notNull(spillFile, "spillFile must be set to use SPILL_TO_FILE policy");
+                Validate.isTrue(spillFileSize > 0, "spill file size must be strictly positive");
+            }
+            return new BufferedDataSender(name, capacity, overflowPolicy, maxValuesPerSend, spillFile, spillFileSize,
+                    encoder != null ? encoder : new DefaultLwM2mEncoder(),
+                    decoder != null ? decoder : new DefaultLwM2mDecoder(), clock);
+        }
+    }
+}
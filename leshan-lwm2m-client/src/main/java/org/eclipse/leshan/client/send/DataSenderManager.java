@@ -24,6 +24,7 @@ import org.eclipse.leshan.client.servers.LwM2mServer;
 import org.eclipse.leshan.core.Destroyable;
 import org.eclipse.leshan.core.Startable;
 import org.eclipse.leshan.core.Stoppable;
+import org.eclipse.leshan.core.model.LwM2mModel;
 import org.eclipse.leshan.core.node.LwM2mNode;
 import org.eclipse.leshan.core.node.LwM2mPath;
 import org.eclipse.leshan.core.node.TimestampedLwM2mNodes;
@@ -70,6 +71,13 @@ public class DataSenderManager implements Startable, Stoppable, Destroyable {
         }
     }
 
+    /**
+     * @return the model of the objects available on this client.
+     */
+    public LwM2mModel getModel() {
+        return rootEnabler.getModel();
+    }
+
     /**
      * Retrieves a data sender by its name
      *
@@ -22,17 +22,20 @@ import java.util.Map;
 import org.eclipse.leshan.client.servers.LwM2mServer;
 import org.eclipse.leshan.core.node.LwM2mNode;
 import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.LwM2mTimeSeries;
 import org.eclipse.leshan.core.node.TimestampedLwM2mNodes;
 import org.eclipse.leshan.core.request.ContentFormat;
 
 /**
  * A data sender which collects and sends data on a manual API call.
+ * <p>
+ * Collected data are stored in a {@link LwM2mTimeSeries}, so numeric values are kept without creating a node by value.
  */
 public class ManualDataSender implements DataSender {
 
     public final static String DEFAULT_NAME = "MANUAL_SENDER";
 
-    private TimestampedLwM2mNodes.Builder builder = new TimestampedLwM2mNodes.Builder();
+    private LwM2mTimeSeries.Builder builder = LwM2mTimeSeries.builder();
     private DataSenderManager dataSenderManager;
     private final String name;
 
@@ -59,16 +62,17 @@ public class ManualDataSender implements DataSender {
      */
     public void sendCollectedData(LwM2mServer server, ContentFormat format, long timeoutInMs, boolean noFlush)
             throws NoDataException {
-        TimestampedLwM2mNodes data;
+        LwM2mTimeSeries collectedData;
         synchronized (this) {
-            data = builder.build();
-            if (data.isEmpty()) {
+            collectedData = builder.build();
+            if (collectedData.isEmpty()) {
                 throw new NoDataException("Unable to send data to %s : no data collected");
             }
             if (!noFlush) {
-                builder = new TimestampedLwM2mNodes.Builder();
+                builder = LwM2mTimeSeries.builder();
             }
         }
+        TimestampedLwM2mNodes data = collectedData.toTimestampedNodes();
 
         dataSenderManager.sendData(server, format, data, response -> {
             if (response.isFailure()) {
@@ -0,0 +1,267 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.client.send;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.leshan.client.send.BufferedDataSender.OverflowPolicy;
+import org.eclipse.leshan.client.servers.LwM2mServer;
+import org.eclipse.leshan.core.model.LwM2mModel;
+import org.eclipse.leshan.core.model.ObjectLoader;
+import org.eclipse.leshan.core.model.StaticModel;
+import org.eclipse.leshan.core.node.LwM2mNode;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.LwM2mSingleResource;
+import org.eclipse.leshan.core.node.TimestampedLwM2mNodes;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.core.response.ErrorCallback;
+import org.eclipse.leshan.core.response.ResponseCallback;
+import org.eclipse.leshan.core.response.SendResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BufferedDataSenderTest {
+
+    private static final LwM2mPath BATTERY_PATH = new LwM2mPath(3, 0, 9);
+    private static final LwM2mPath TEMPERATURE_PATH = new LwM2mPath(3303, 0, 5700);
+    private static final List<LwM2mPath> PATHS = Arrays.asList(BATTERY_PATH, TEMPERATURE_PATH);
+
+    @TempDir
+    File tempDir;
+
+    // each collect has its own timestamp
+    private final AtomicLong now = new AtomicLong();
+
+    private BufferedDataSender.Builder builder() {
+        return BufferedDataSender.builder().setClock(() -> Instant.ofEpochSecond(now.incrementAndGet()));
+    }
+
+    private FakeDataSenderManager givenDataSenderManager(BufferedDataSender sender) {
+        return new FakeDataSenderManager(sender);
+    }
+
+    private void collect(BufferedDataSender sender, int count) {
+        for (int i = 0; i < count; i++) {
+            sender.collectData(PATHS);
+        }
+    }
+
+    @Test
+    void collected_data_are_sent_by_chunks() {
+        BufferedDataSender sender = builder().setMaxValuesPerSend(4).build();
+        FakeDataSenderManager manager = givenDataSenderManager(sender);
+        collect(sender, 5);
+
+        sender.sendCollectedData(LwM2mServer.SYSTEM, ContentFormat.SENML_CBOR, 0);
+
+        assertEquals(3, manager.sentRequests.size());
+        assertEquals(2, manager.sentRequests.get(0).getTimestamps().size());
+        assertEquals(1, manager.sentRequests.get(2).getTimestamps().size());
+        assertEquals(Arrays.asList(0L, 1L, 2L, 3L, 4L), manager.getSentBatteryLevels());
+        assertEquals(0, sender.getBufferedCount());
+        assertThrowsExactly(NoDataException.class,
+                () -> sender.sendCollectedData(LwM2mServer.SYSTEM, ContentFormat.SENML_CBOR, 0));
+    }
+
+    @Test
+    void data_are_kept_when_send_fails() {
+        BufferedDataSender sender = builder().setMaxValuesPerSend(2).build();
+        FakeDataSenderManager manager = givenDataSenderManager(sender);
+        collect(sender, 3);
+
+        // first chunk is sent then server becomes unreachable
+        manager.failAfter = 1;
+        sender.sendCollectedData(LwM2mServer.SYSTEM, ContentFormat.SENML_CBOR, 0);
+        assertEquals(2, sender.getBufferedCount());
+
+        manager.failAfter = Integer.MAX_VALUE;
+        sender.sendCollectedData(LwM2mServer.SYSTEM, ContentFormat.SENML_CBOR, 0);
+        assertEquals(Arrays.asList(0L, 1L, 2L), manager.getSentBatteryLevels());
+        assertEquals(0, sender.getBufferedCount());
+    }
+
+    @Test
+    void oldest_data_are_dropped_when_buffer_is_full() {
+        BufferedDataSender sender = builder().setCapacity(3).build();
+        FakeDataSenderManager manager = givenDataSenderManager(sender);
+        collect(sender, 5);
+
+        assertEquals(3, sender.getBufferedCount());
+        assertEquals(2, sender.getDroppedCount());
+        sender.sendCollectedData(LwM2mServer.SYSTEM, ContentFormat.SENML_CBOR, 0);
+        assertEquals(Arrays.asList(2L, 3L, 4L), manager.getSentBatteryLevels());
+    }
+
+    @Test
+    void data_are_downsampled_when_buffer_is_full() {
+        BufferedDataSender sender = builder().setCapacity(4).setOverflowPolicy(OverflowPolicy.DOWNSAMPLE).build();
+        FakeDataSenderManager manager = givenDataSenderManager(sender);
+        collect(sender, 7);
+
+        // [0 1 2 3] + 4 => [0 2 4], + 5 => [0 2 4 5], + 6 => [0 4 6]
+        assertEquals(4, sender.getDroppedCount());
+        sender.sendCollectedData(LwM2mServer.SYSTEM, ContentFormat.SENML_CBOR, 0);
+        assertEquals(Arrays.asList(0L, 4L, 6L), manager.getSentBatteryLevels());
+    }
+
+    @Test
+    void data_are_spilled_to_file_when_buffer_is_full() {
+        File spillFile = new File(tempDir, "spill.bin");
+        BufferedDataSender sender = builder().setCapacity(2).setMaxValuesPerSend(2)
+                .setOverflowPolicy(OverflowPolicy.SPILL_TO_FILE).setSpillFile(spillFile, 64 * 1024).build();
+        FakeDataSenderManager manager = givenDataSenderManager(sender);
+        collect(sender, 6);
+
+        assertEquals(2, sender.getBufferedCount());
+        assertEquals(4, sender.getSpilledCount());
+        assertEquals(0, sender.getDroppedCount());
+        assertTrue(spillFile.exists());
+
+        sender.sendCollectedData(LwM2mServer.SYSTEM, ContentFormat.SENML_CBOR, 0);
+        assertEquals(6, manager.sentRequests.size());
+        assertEquals(Arrays.asList(0L, 1L, 2L, 3L, 4L, 5L), manager.getSentBatteryLevels());
+        assertEquals(0, sender.getSpilledCount());
+
+        sender.destroy();
+        assertFalse(spillFile.exists());
+    }
+
+    @Test
+    void oldest_spilled_data_are_dropped_when_file_is_full() {
+        // room for a few spilled collects only
+        BufferedDataSender sender = builder().setCapacity(1).setMaxValuesPerSend(2)
+                .setOverflowPolicy(OverflowPolicy.SPILL_TO_FILE).setSpillFile(new File(tempDir, "spill.bin"), 150)
+                .build();
+        FakeDataSenderManager manager = givenDataSenderManager(sender);
+        collect(sender, 10);
+
+        long dropped = sender.getDroppedCount();
+        assertTrue(dropped > 0);
+        assertEquals(10, dropped + sender.getSpilledCount() + sender.getBufferedCount());
+        sender.sendCollectedData(LwM2mServer.SYSTEM, ContentFormat.SENML_CBOR, 0);
+        List<Long> expected = new ArrayList<>();
+        for (long i = dropped; i < 10; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, manager.getSentBatteryLevels());
+        sender.destroy();
+    }
+
+    @Test
+    void data_being_sent_are_not_spilled() {
+        BufferedDataSender sender = builder().setCapacity(3).setMaxValuesPerSend(4)
+                .setOverflowPolicy(OverflowPolicy.SPILL_TO_FILE).setSpillFile(new File(tempDir, "spill.bin"), 64 * 1024)
+                .build();
+        FakeDataSenderManager manager = givenDataSenderManager(sender);
+        manager.deferResponses = true;
+        collect(sender, 1);
+        sender.sendCollectedData(LwM2mServer.SYSTEM, ContentFormat.SENML_CBOR, 0);
+
+        // buffer overflows while first collect is being sent
+        collect(sender, 3);
+        assertEquals(2, sender.getBufferedCount());
+        assertEquals(2, sender.getSpilledCount());
+
+        // once acknowledged, it is not sent again
+        manager.deferResponses = false;
+        manager.respond();
+        assertEquals(Arrays.asList(0L, 1L, 2L, 3L), manager.getSentBatteryLevels());
+        assertEquals(0, sender.getBufferedCount());
+        assertEquals(0, sender.getSpilledCount());
+        assertEquals(0, sender.getDroppedCount());
+        sender.destroy();
+    }
+
+    @Test
+    void spill_to_file_needs_a_file() {
+        assertThrowsExactly(IllegalArgumentException.class,
+                () -> builder().setOverflowPolicy(OverflowPolicy.SPILL_TO_FILE).build());
+    }
+
+    static class FakeDataSenderManager extends DataSenderManager {
+        private final LwM2mModel model = new StaticModel(ObjectLoader.loadAllDefault());
+        private final List<TimestampedLwM2mNodes> sentRequests = new ArrayList<>();
+        private int collectCount = 0;
+        private int failAfter = Integer.MAX_VALUE;
+        // when true, responses are only sent by respond()
+        private boolean deferResponses = false;
+        private final List<ResponseCallback<SendResponse>> pendingResponses = new ArrayList<>();
+
+        public FakeDataSenderManager(DataSender dataSender) {
+            super(Collections.singletonMap(dataSender.getName(), dataSender), null, null);
+        }
+
+        @Override
+        public LwM2mModel getModel() {
+            return model;
+        }
+
+        @Override
+        public Map<LwM2mPath, LwM2mNode> getCurrentValues(LwM2mServer server, List<LwM2mPath> paths) {
+            Map<LwM2mPath, LwM2mNode> values = new HashMap<>();
+            values.put(BATTERY_PATH, LwM2mSingleResource.newIntegerResource(9, collectCount));
+            values.put(TEMPERATURE_PATH, LwM2mSingleResource.newFloatResource(5700, 20d + collectCount));
+            collectCount++;
+            return values;
+        }
+
+        @Override
+        public void sendData(LwM2mServer server, ContentFormat format, TimestampedLwM2mNodes nodes,
+                ResponseCallback<SendResponse> onResponse, ErrorCallback onError, long timeoutInMs) {
+            if (failAfter <= 0) {
+                onError.onError(new Exception());
+                return;
+            }
+            failAfter--;
+            sentRequests.add(nodes);
+            if (deferResponses) {
+                pendingResponses.add(onResponse);
+            } else {
+                onResponse.onResponse(SendResponse.success());
+            }
+        }
+
+        public void respond() {
+            while (!pendingResponses.isEmpty()) {
+                pendingResponses.remove(0).onResponse(SendResponse.success());
+            }
+        }
+
+        public List<Long> getSentBatteryLevels() {
+            List<Long> levels = new ArrayList<>();
+            for (TimestampedLwM2mNodes request : sentRequests) {
+                for (Instant timestamp : request.getTimestamps()) {
+                    levels.add(
+                            (Long) ((LwM2mSingleResource) request.getNodesAt(timestamp).get(BATTERY_PATH)).getValue());
+                }
+            }
+            return levels;
+        }
+    }
+}
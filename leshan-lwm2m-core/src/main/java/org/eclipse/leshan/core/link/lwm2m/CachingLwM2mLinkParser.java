@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.link.lwm2m;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.link.LinkParseException;
+import org.eclipse.leshan.core.util.Validate;
+
+/**
+ * A {@link LwM2mLinkParser} which keeps the result of {@link #parseCoreLinkFormat(byte[])} in a bounded cache indexed
+ * by payload content.
+ * <p>
+ * Devices of a same model generally send byte-identical object links on register and update : with this cache, such
+ * payload is parsed once and all registrations share the same {@link Link} array, which saves CPU and memory. Returned
+ * arrays are shared, so they <strong>must not be modified</strong>.
+ * <p>
+ * The cache is bounded by a maximum number of entries (least recently used first) and by a maximum payload size, bigger
+ * payloads are parsed without being cached. Parse errors are not cached.
+ * {@link #parseLwM2mLinkFromCoreLinkFormat(byte[], String)} is not cached.
+ */
+public class CachingLwM2mLinkParser implements LwM2mLinkParser {
+
+    private static final class PayloadKey {
+        private final byte[] payload;
+        private final int hash;
+
+        PayloadKey(byte[] payload) {
+            this.payload = payload;
+            this.hash = Arrays.hashCode(payload);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof PayloadKey))
+                return false;
+            PayloadKey that = (PayloadKey) o;
+            return hash == that.hash && Arrays.equals(payload, that.payload);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private final LwM2mLinkParser delegate;
+    private final int maxPayloadSize;
+
+    // guarded by itself
+    private final Map<PayloadKey, Link[]> cache;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Create a cache of 1000 entries for payloads up to 4096 bytes, using a {@link DefaultLwM2mLinkParser}.
+     */
+    public CachingLwM2mLinkParser() {
+        this(new DefaultLwM2mLinkParser(), 1000, 4096);
+    }
+
+    /**
+     * @param delegate the parser used on cache miss.
+     * @param maxSize maximum number of cached payloads.
+     * @param maxPayloadSize maximum size in bytes of a cached payload.
+     */
+    public CachingLwM2mLinkParser(LwM2mLinkParser delegate, final int maxSize, int maxPayloadSize) {
+        Validate.notNull(delegate, "delegate cannot be null");
+        Validate.isTrue(maxSize > 0, "maxSize must be strictly positive");
+        Validate.isTrue(maxPayloadSize >= 0, "maxPayloadSize must be positive");
+        this.delegate = delegate;
+        this.maxPayloadSize = maxPayloadSize;
+        this.cache = new LinkedHashMap<PayloadKey, Link[]>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PayloadKey, Link[]> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned array is shared and must not be modified.
+     */
+    @Override
+    public Link[] parseCoreLinkFormat(byte[] bytes) throws LinkParseException {
+        if (bytes == null || bytes.length > maxPayloadSize) {
+            return delegate.parseCoreLinkFormat(bytes);
+        }
+
+        PayloadKey key = new PayloadKey(bytes);
+        Link[] links;
+        synchronized (cache) {
+            links = cache.get(key);
+        }
+        if (links != null) {
+            hits.increment();
+            return links;
+        }
+        misses.increment();
+
+        links = delegate.parseCoreLinkFormat(bytes);
+        // copy payload as caller could reuse its buffer
+        PayloadKey copiedKey = new PayloadKey(Arrays.copyOf(bytes, bytes.length));
+        synchronized (cache) {
+            Link[] previous = cache.get(copiedKey);
+            if (previous != null) {
+                // parsed concurrently, share the first result
+                return previous;
+            }
+            cache.put(copiedKey, links);
+        }
+        return links;
+    }
+
+    @Override
+    public LwM2mLink[] parseLwM2mLinkFromCoreLinkFormat(byte[] bytes, String rootPath) throws LinkParseException {
+        return delegate.parseLwM2mLinkFromCoreLinkFormat(bytes, rootPath);
+    }
+
+    /**
+     * @return the number of cached payloads.
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * @return the number of parsing avoided thanks to the cache.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of cacheable payloads which were not in the cache.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Remove all cached payloads.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+}
@@ -15,15 +15,19 @@
  *******************************************************************************/
 package org.eclipse.leshan.core.node;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NavigableMap;
-import java.util.Objects;
 
 import org.eclipse.leshan.core.util.Validate;
 
 /**
  * A path pointing to a LwM2M node (root, object, object instance, resource or resource instance).
+ * <p>
+ * Ids are stored as primitive int, a missing level being stored as {@link #NONE}, so a path does not hold any boxed
+ * {@link Integer}. When the same paths are created again and again (e.g. by decoders), a {@link LwM2mPathPool} can be
+ * used to share instances.
  */
 public class LwM2mPath implements Comparable<LwM2mPath> {
 
@@ -33,15 +37,18 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
     public static final byte RESOURCE_DEPTH = 4;
     public static final byte RESOURCE_INSTANCE_DEPTH = 5;
 
-    private final Integer objectId;
-    private final Integer objectInstanceId;
-    private final Integer resourceId;
-    private final Integer resourceInstanceId;
+    // value used for missing level, this is not a valid id (and can not be parsed)
+    static final int NONE = Integer.MIN_VALUE;
+
+    private final int objectId;
+    private final int objectInstanceId;
+    private final int resourceId;
+    private final int resourceInstanceId;
 
     public static final LwM2mPath ROOTPATH = new LwM2mPath();
 
     private LwM2mPath() {
-        this(null, null, null, null);
+        this(NONE, NONE, NONE, NONE, false);
     }
 
     /**
@@ -52,8 +59,7 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
      * @throws InvalidLwM2mPathException if you try to create path with invalid inputs
      */
     public LwM2mPath(int objectId) throws InvalidLwM2mPathException {
-        this(objectId, null, null, null);
-        validate();
+        this(checkId(objectId), NONE, NONE, NONE, true);
     }
 
     /**
@@ -65,8 +71,7 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
      * @throws InvalidLwM2mPathException if you try to create path with invalid inputs
      */
     public LwM2mPath(int objectId, int objectInstanceId) throws InvalidLwM2mPathException {
-        this(objectId, objectInstanceId, null, null);
-        validate();
+        this(checkId(objectId), checkId(objectInstanceId), NONE, NONE, true);
     }
 
     /**
@@ -79,8 +84,7 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
      * @throws InvalidLwM2mPathException if you try to create path with invalid inputs
      */
     public LwM2mPath(int objectId, int objectInstanceId, int resourceId) throws InvalidLwM2mPathException {
-        this(objectId, objectInstanceId, resourceId, null);
-        validate();
+        this(checkId(objectId), checkId(objectInstanceId), checkId(resourceId), NONE, true);
     }
 
     /**
@@ -95,8 +99,7 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
      */
     public LwM2mPath(int objectId, int objectInstanceId, int resourceId, int resourceInstanceId)
             throws InvalidLwM2mPathException {
-        this((Integer) objectId, (Integer) objectInstanceId, (Integer) resourceId, (Integer) resourceInstanceId);
-        validate();
+        this(checkId(objectId), checkId(objectInstanceId), checkId(resourceId), checkId(resourceInstanceId), true);
     }
 
     /**
@@ -107,33 +110,136 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
      * @throws InvalidLwM2mPathException if you try to create path with invalid inputs
      */
     public LwM2mPath(String path) throws InvalidLwM2mPathException {
-        Validate.notNull(path);
-        if (path.startsWith("/")) {
-            path = path.substring(1);
+        this(path, null, 0, -1);
+    }
+
+    /**
+     * Parse a path from {@link String} or from US-ASCII encoded bytes without intermediate allocation.
+     * <p>
+     * One leading slash and all trailing slashes are ignored (as <code>path.split("/")</code> would do), elements
+     * accept same syntax than {@link Integer#parseInt(String)}.
+     */
+    private LwM2mPath(String path, byte[] bytes, int offset, int end) {
+        if (bytes == null) {
+            Validate.notNull(path);
+            end = path.length();
         }
-        if (path.endsWith("/")) {
-            path = path.substring(0, path.length() - 1);
+        int start = offset;
+        if (start < end && charAt(path, bytes, start) == '/') {
+            start++;
         }
-        String[] p = path.split("/");
-        if (p.length > 4) {
-            throw new InvalidLwM2mPathException("Invalid length for path %s", path);
+        while (start < end && charAt(path, bytes, end - 1) == '/') {
+            end--;
         }
-        try {
-            this.objectId = (p.length >= 1 && !p[0].isEmpty()) ? Integer.valueOf(p[0]) : null;
-            this.objectInstanceId = (p.length >= 2) ? Integer.valueOf(p[1]) : null;
-            this.resourceId = (p.length >= 3) ? Integer.valueOf(p[2]) : null;
-            this.resourceInstanceId = (p.length == 4) ? Integer.valueOf(p[3]) : null;
-            validate();
-        } catch (NumberFormatException e) {
-            throw new InvalidLwM2mPathException(e, "Invalid elements in path %s", path);
+
+        // check number of elements before parsing them
+        int nbElements = 0;
+        if (start < end) {
+            nbElements = 1;
+            for (int i = start; i < end; i++) {
+                if (charAt(path, bytes, i) == '/') {
+                    nbElements++;
+                }
+            }
         }
+        if (nbElements > 4) {
+            throw new InvalidLwM2mPathException("Invalid length for path %s", toString(path, bytes, start, end));
+        }
+
+        int o = NONE, i = NONE, r = NONE, ri = NONE;
+        int elementStart = start;
+        int element = 0;
+        for (int pos = start; nbElements > 0 && pos <= end; pos++) {
+            if (pos == end || charAt(path, bytes, pos) == '/') {
+                int id = parseId(path, bytes, elementStart, pos, start, end);
+                switch (element) {
+                case 0:
+                    o = id;
+                    break;
+                case 1:
+                    i = id;
+                    break;
+                case 2:
+                    r = id;
+                    break;
+                default:
+                    ri = id;
+                    break;
+                }
+                element++;
+                elementStart = pos + 1;
+            }
+        }
+        this.objectId = o;
+        this.objectInstanceId = i;
+        this.resourceId = r;
+        this.resourceInstanceId = ri;
+        validate();
     }
 
     protected LwM2mPath(Integer objectId, Integer objectInstanceId, Integer resourceId, Integer resourceInstanceId) {
+        this(toId(objectId), toId(objectInstanceId), toId(resourceId), toId(resourceInstanceId), false);
+    }
+
+    private LwM2mPath(int objectId, int objectInstanceId, int resourceId, int resourceInstanceId, boolean validate) {
         this.objectId = objectId;
         this.objectInstanceId = objectInstanceId;
         this.resourceId = resourceId;
         this.resourceInstanceId = resourceInstanceId;
+        if (validate) {
+            validate();
+        }
+    }
+
+    private static int checkId(int id) {
+        if (id == NONE) {
+            throw new InvalidLwM2mPathException("Invalid id %d, It MUST be an unsigned int.", id);
+        }
+        return id;
+    }
+
+    private static int toId(Integer id) {
+        return id == null ? NONE : checkId(id);
+    }
+
+    private static int charAt(String path, byte[] bytes, int index) {
+        return bytes == null ? path.charAt(index) : bytes[index] & 0xFF;
+    }
+
+    private static String toString(String path, byte[] bytes, int start, int end) {
+        return bytes == null ? path.substring(start, end)
+                : new String(bytes, start, end - start, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Parse an element of a path, accepting same input than {@link Integer#parseInt(String)}.
+     */
+    private static int parseId(String path, byte[] bytes, int start, int end, int pathStart, int pathEnd) {
+        int pos = start;
+        boolean negative = false;
+        if (pos < end) {
+            int c = charAt(path, bytes, pos);
+            if (c == '-') {
+                negative = true;
+                pos++;
+            } else if (c == '+') {
+                pos++;
+            }
+        }
+        long value = 0;
+        boolean valid = pos < end;
+        for (; valid && pos < end; pos++) {
+            int digit = Character.digit(charAt(path, bytes, pos), 10);
+            value = value * 10 + digit;
+            valid = digit >= 0 && value <= Integer.MAX_VALUE;
+        }
+        if (!valid) {
+            String element = toString(path, bytes, start, end);
+            throw new InvalidLwM2mPathException(
+                    new NumberFormatException(String.format("For input string: \"%s\"", element)),
+                    "Invalid elements in path %s", toString(path, bytes, pathStart, pathEnd));
+        }
+        return (int) (negative ? -value : value);
     }
 
     /**
@@ -154,9 +260,17 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
         LwM2mPath pathToAdd = new LwM2mPath(path);
         if (isRoot()) {
             return pathToAdd;
-        } else {
-            return new LwM2mPath(this.toString() + pathToAdd.toString());
         }
+        int nbIds = getNbIds();
+        if (nbIds + pathToAdd.getNbIds() > 4) {
+            throw new InvalidLwM2mPathException("Invalid length for path %s%s", this, pathToAdd);
+        }
+        return new LwM2mPath( //
+                nbIds > 0 ? objectId : pathToAdd.getId(0 - nbIds), //
+                nbIds > 1 ? objectInstanceId : pathToAdd.getId(1 - nbIds), //
+                nbIds > 2 ? resourceId : pathToAdd.getId(2 - nbIds), //
+                nbIds > 3 ? resourceInstanceId : pathToAdd.getId(3 - nbIds), //
+                true);
     }
 
     /**
@@ -167,17 +281,44 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
         if (isRoot()) {
             return new LwM2mPath(end);
         } else if (isObject()) {
-            return new LwM2mPath(getObjectId(), end);
+            return new LwM2mPath(objectId, end);
         } else if (isObjectInstance()) {
-            return new LwM2mPath(getObjectId(), getObjectInstanceId(), end);
+            return new LwM2mPath(objectId, objectInstanceId, end);
         } else if (isResource()) {
-            return new LwM2mPath((int) getObjectId(), (int) getObjectInstanceId(), (int) getResourceId(), end);
+            return new LwM2mPath(objectId, objectInstanceId, resourceId, end);
         } else {
             throw new IllegalArgumentException(String.format(
                     "Unable to append Id(%d) to path %s. Resource instance level is the deeper one.", end, this));
         }
     }
 
+    // number of ids of a valid path (so without missing level), package-private for LwM2mPathTrie
+    int getNbIds() {
+        if (objectId == NONE) {
+            return 0;
+        } else if (objectInstanceId == NONE) {
+            return 1;
+        } else if (resourceId == NONE) {
+            return 2;
+        } else if (resourceInstanceId == NONE) {
+            return 3;
+        }
+        return 4;
+    }
+
+    int getId(int index) {
+        switch (index) {
+        case 0:
+            return objectId;
+        case 1:
+            return objectInstanceId;
+        case 2:
+            return resourceId;
+        default:
+            return resourceInstanceId;
+        }
+    }
+
     /**
      * @param start start of the path
      * @return true if the current path start with the given path
@@ -185,27 +326,27 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
     @SuppressWarnings("java:S1126")
     public boolean startWith(LwM2mPath start) {
         // object id
-        if (start.getObjectId() == null)
+        if (start.objectId == NONE)
             return true;
-        if (!start.getObjectId().equals(this.getObjectId())) {
+        if (start.objectId != this.objectId) {
             return false;
         }
         // object instance id
-        if (start.getObjectInstanceId() == null)
+        if (start.objectInstanceId == NONE)
             return true;
-        if (!start.getObjectInstanceId().equals(this.getObjectInstanceId())) {
+        if (start.objectInstanceId != this.objectInstanceId) {
             return false;
         }
         // resource id
-        if (start.getResourceId() == null)
+        if (start.resourceId == NONE)
             return true;
-        if (!start.getResourceId().equals(this.getResourceId())) {
+        if (start.resourceId != this.resourceId) {
             return false;
         }
         // resource instance id
-        if (start.getResourceInstanceId() == null)
+        if (start.resourceInstanceId == NONE)
             return true;
-        if (!start.getResourceInstanceId().equals(this.getResourceInstanceId())) {
+        if (start.resourceInstanceId != this.resourceInstanceId) {
             return false;
         }
         return true;
@@ -217,7 +358,7 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
      * @return the object ID. Can be <code>null</code> when this is an root path.
      */
     public Integer getObjectId() {
-        return objectId;
+        return objectId == NONE ? null : Integer.valueOf(objectId);
     }
 
     /**
@@ -226,7 +367,7 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
      * @return the object instance ID. Can be <code>null</code> when this is an root/object path.
      */
     public Integer getObjectInstanceId() {
-        return objectInstanceId;
+        return objectInstanceId == NONE ? null : Integer.valueOf(objectInstanceId);
     }
 
     /**
@@ -235,7 +376,7 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
      * @return the resource ID. Can be <code>null</code> when this is a root/object/object instance path.
      */
     public Integer getResourceId() {
-        return resourceId;
+        return resourceId == NONE ? null : Integer.valueOf(resourceId);
     }
 
     /**
@@ -245,50 +386,50 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
      *         path.
      */
     public Integer getResourceInstanceId() {
-        return resourceInstanceId;
+        return resourceInstanceId == NONE ? null : Integer.valueOf(resourceInstanceId);
     }
 
     /**
      * @return <code>true</code> if this is the root path ("/").
      */
     public boolean isRoot() {
-        return objectId == null && objectInstanceId == null && resourceId == null && resourceInstanceId == null;
+        return objectId == NONE && objectInstanceId == NONE && resourceId == NONE && resourceInstanceId == NONE;
     }
 
     /**
      * @return <code>true</code> if this is an Object path.
      */
     public boolean isObject() {
-        return objectId != null && objectInstanceId == null && resourceId == null && resourceInstanceId == null;
+        return objectId != NONE && objectInstanceId == NONE && resourceId == NONE && resourceInstanceId == NONE;
     }
 
     /**
      * @return <code>true</code> if this is an ObjectInstance path.
      */
     public boolean isObjectInstance() {
-        return objectId != null && objectInstanceId != null && resourceId == null && resourceInstanceId == null;
+        return objectId != NONE && objectInstanceId != NONE && resourceId == NONE && resourceInstanceId == NONE;
     }
 
     /**
      * @return <code>true</code> if this is a Resource path.
      */
     public boolean isResource() {
-        return objectId != null && objectInstanceId != null && resourceId != null && resourceInstanceId == null;
+        return objectId != NONE && objectInstanceId != NONE && resourceId != NONE && resourceInstanceId == NONE;
     }
 
     /**
      * @return <code>true</code> if this is a Resource instance path.
      */
     public boolean isResourceInstance() {
-        return objectId != null && objectInstanceId != null && resourceId != null && resourceInstanceId != null;
+        return objectId != NONE && objectInstanceId != NONE && resourceId != NONE && resourceInstanceId != NONE;
     }
 
     /**
      * @return a new {@link LwM2mPath} targeting an object from current path.
      */
     public LwM2mPath toObjectPath() {
-        if (getObjectId() != null)
-            return new LwM2mPath(getObjectId());
+        if (objectId != NONE)
+            return new LwM2mPath(objectId, NONE, NONE, NONE, false);
         throw new IllegalStateException(String.format("an object path can not be created from %s", this));
     }
 
@@ -296,8 +437,8 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
      * @return a new {@link LwM2mPath} targeting an object instance from current path.
      */
     public LwM2mPath toObjectInstancePath() {
-        if (getObjectInstanceId() != null)
-            return new LwM2mPath(getObjectId(), getObjectInstanceId());
+        if (objectInstanceId != NONE)
+            return new LwM2mPath(objectId, objectInstanceId, NONE, NONE, false);
         throw new IllegalStateException(String.format("an object instance path can not be created from %s", this));
     }
 
@@ -305,8 +446,8 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
      * @return a new {@link LwM2mPath} targeting an resource from current path.
      */
     public LwM2mPath toResourcePath() {
-        if (getResourceId() != null)
-            return new LwM2mPath(getObjectId(), getObjectInstanceId(), getResourceId());
+        if (resourceId != NONE)
+            return new LwM2mPath(objectId, objectInstanceId, resourceId, NONE, false);
         throw new IllegalStateException(String.format("an resource path can not be created from %s", this));
     }
 
@@ -373,14 +514,14 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
      */
     public void appendTo(StringBuilder b) {
         b.append("/");
-        if (getObjectId() != null) {
-            b.append(getObjectId());
-            if (getObjectInstanceId() != null) {
-                b.append("/").append(getObjectInstanceId());
-                if (getResourceId() != null) {
-                    b.append("/").append(getResourceId());
-                    if (getResourceInstanceId() != null) {
-                        b.append("/").append(getResourceInstanceId());
+        if (objectId != NONE) {
+            b.append(objectId);
+            if (objectInstanceId != NONE) {
+                b.append("/").append(objectInstanceId);
+                if (resourceId != NONE) {
+                    b.append("/").append(resourceId);
+                    if (resourceInstanceId != NONE) {
+                        b.append("/").append(resourceInstanceId);
                     }
                 }
             }
@@ -389,32 +530,20 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
 
     @Override
     public int compareTo(LwM2mPath o) {
-        int res = compareInteger(this.objectId, o.objectId);
-        if (res != 0 || this.objectId == null)
+        // NONE is lower than any id, so a missing level is lower than any existing one
+        int res = Integer.compare(this.objectId, o.objectId);
+        if (res != 0 || this.objectId == NONE)
             return res;
 
-        res = compareInteger(this.objectInstanceId, o.objectInstanceId);
-        if (res != 0 || this.objectInstanceId == null)
+        res = Integer.compare(this.objectInstanceId, o.objectInstanceId);
+        if (res != 0 || this.objectInstanceId == NONE)
             return res;
 
-        res = compareInteger(this.resourceId, o.resourceId);
-        if (res != 0 || this.resourceId == null)
+        res = Integer.compare(this.resourceId, o.resourceId);
+        if (res != 0 || this.resourceId == NONE)
             return res;
 
-        return compareInteger(this.resourceInstanceId, o.resourceInstanceId);
-    }
-
-    @SuppressWarnings("java:S4973")
-    private int compareInteger(Integer i1, Integer i2) {
-        if (i1 == i2) {
-            return 0;
-        } else if (i1 == null) {
-            return -1;
-        } else if (i2 == null) {
-            return 1;
-        } else {
-            return i1.compareTo(i2);
-        }
+        return Integer.compare(this.resourceInstanceId, o.resourceInstanceId);
     }
 
     /**
@@ -441,6 +570,22 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
         return new LwM2mPath(path);
     }
 
+    /**
+     * Parse a path (e.g. "/3/0/1" or "/3") encoded in US-ASCII without creating an intermediate {@link String}.
+     *
+     * @param path the buffer containing the path.
+     * @param offset the index of the first byte of the path.
+     * @param length the number of bytes of the path.
+     * @return A valid {@link LwM2mPath}
+     *
+     * @exception InvalidLwM2mPathException if path is invalid (e.g. too big number in path)
+     */
+    public static LwM2mPath parse(byte[] path, int offset, int length) throws InvalidLwM2mPathException {
+        Validate.notNull(path);
+        Validate.isTrue(offset >= 0 && length >= 0 && length <= path.length - offset, "invalid offset or length");
+        return new LwM2mPath(null, path, offset, offset + length);
+    }
+
     /**
      * Create list of LwM2mPath from list of paths
      *
@@ -484,10 +629,8 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
         if (!(o instanceof LwM2mPath))
             return false;
         LwM2mPath that = (LwM2mPath) o;
-        return that.canEqual(this) && Objects.equals(objectId, that.objectId)
-                && Objects.equals(objectInstanceId, that.objectInstanceId)
-                && Objects.equals(resourceId, that.resourceId)
-                && Objects.equals(resourceInstanceId, that.resourceInstanceId);
+        return that.canEqual(this) && objectId == that.objectId && objectInstanceId == that.objectInstanceId
+                && resourceId == that.resourceId && resourceInstanceId == that.resourceInstanceId;
     }
 
     public boolean canEqual(Object o) {
@@ -496,6 +639,29 @@ public class LwM2mPath implements Comparable<LwM2mPath> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(objectId, objectInstanceId, resourceId, resourceInstanceId);
+        return hashCode(objectId, objectInstanceId, resourceId, resourceInstanceId);
+    }
+
+    /**
+     * @return same value than {@link java.util.Objects#hash(Object...)} called with ids as {@link Integer}, missing
+     *         level being <code>null</code>.
+     */
+    static int hashCode(int objectId, int objectInstanceId, int resourceId, int resourceInstanceId) {
+        int result = 31 + hash(objectId);
+        result = 31 * result + hash(objectInstanceId);
+        result = 31 * result + hash(resourceId);
+        return 31 * result + hash(resourceInstanceId);
+    }
+
+    private static int hash(int id) {
+        return id == NONE ? 0 : id;
+    }
+
+    /**
+     * @return <code>true</code> if this path has exactly the given ids (used by {@link LwM2mPathPool}).
+     */
+    boolean hasIds(int objectId, int objectInstanceId, int resourceId, int resourceInstanceId) {
+        return this.objectId == objectId && this.objectInstanceId == objectInstanceId && this.resourceId == resourceId
+                && this.resourceInstanceId == resourceInstanceId;
     }
 }
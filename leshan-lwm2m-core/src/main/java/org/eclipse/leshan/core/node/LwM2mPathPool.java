@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.node;
+
+import org.eclipse.leshan.core.util.Validate;
+
+/**
+ * A bounded pool of {@link LwM2mPath} used to share instances of frequently used paths (e.g. resources of observed
+ * objects) and so reduce allocations and memory used by long lived data.
+ * <p>
+ * This is a direct-mapped cache : each path has only one possible slot, chosen from its hash code, and a path replaces
+ * the previous one stored in its slot. Lookups by ids ({@link #get(int, int, int)}, ...) do not allocate anything when
+ * the path is already in the pool.
+ * <p>
+ * This class is thread-safe : {@link LwM2mPath} is immutable, so a racy access to a slot can only lead to a cache miss.
+ */
+public class LwM2mPathPool {
+
+    private static final int DEFAULT_SIZE = 1024;
+
+    private final LwM2mPath[] slots;
+    private final int mask;
+
+    public LwM2mPathPool() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * @param size the number of slots, rounded up to the next power of 2.
+     */
+    public LwM2mPathPool(int size) {
+        Validate.isTrue(size > 0 && size <= 1 << 30, "size must be strictly positive and lower than 2^30");
+        int capacity = Integer.highestOneBit(size);
+        if (capacity < size) {
+            capacity <<= 1;
+        }
+        this.slots = new LwM2mPath[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * @return an {@link LwM2mPath} equal to the given one, from the pool if present. Else the given path is added to
+     *         the pool and returned.
+     */
+    public LwM2mPath intern(LwM2mPath path) {
+        // subclasses like LwM2mIncompletePath are not equal to a LwM2mPath with same ids
+        if (path.getClass() != LwM2mPath.class) {
+            return path;
+        }
+        int index = indexFor(path.hashCode());
+        LwM2mPath pooled = slots[index];
+        if (path.equals(pooled)) {
+            return pooled;
+        }
+        slots[index] = path;
+        return path;
+    }
+
+    /**
+     * @return the object path for this id.
+     * @throws InvalidLwM2mPathException if ids are not valid
+     */
+    public LwM2mPath get(int objectId) {
+        LwM2mPath pooled = lookup(objectId, LwM2mPath.NONE, LwM2mPath.NONE, LwM2mPath.NONE);
+        // check kind of path as an invalid id could be equal to NONE
+        if (pooled != null && pooled.isObject()) {
+            return pooled;
+        }
+        return store(new LwM2mPath(objectId));
+    }
+
+    /**
+     * @return the object instance path for those ids.
+     * @throws InvalidLwM2mPathException if ids are not valid
+     */
+    public LwM2mPath get(int objectId, int objectInstanceId) {
+        LwM2mPath pooled = lookup(objectId, objectInstanceId, LwM2mPath.NONE, LwM2mPath.NONE);
+        if (pooled != null && pooled.isObjectInstance()) {
+            return pooled;
+        }
+        return store(new LwM2mPath(objectId, objectInstanceId));
+    }
+
+    /**
+     * @return the resource path for those ids.
+     * @throws InvalidLwM2mPathException if ids are not valid
+     */
+    public LwM2mPath get(int objectId, int objectInstanceId, int resourceId) {
+        LwM2mPath pooled = lookup(objectId, objectInstanceId, resourceId, LwM2mPath.NONE);
+        if (pooled != null && pooled.isResource()) {
+            return pooled;
+        }
+        return store(new LwM2mPath(objectId, objectInstanceId, resourceId));
+    }
+
+    /**
+     * @return the resource instance path for those ids.
+     * @throws InvalidLwM2mPathException if ids are not valid
+     */
+    public LwM2mPath get(int objectId, int objectInstanceId, int resourceId, int resourceInstanceId) {
+        LwM2mPath pooled = lookup(objectId, objectInstanceId, resourceId, resourceInstanceId);
+        if (pooled != null && pooled.isResourceInstance()) {
+            return pooled;
+        }
+        return store(new LwM2mPath(objectId, objectInstanceId, resourceId, resourceInstanceId));
+    }
+
+    /**
+     * Parse the given path and return a pooled instance.
+     *
+     * @see LwM2mPath#LwM2mPath(String)
+     * @throws InvalidLwM2mPathException if path is not valid
+     */
+    public LwM2mPath get(String path) {
+        return intern(new LwM2mPath(path));
+    }
+
+    private LwM2mPath lookup(int objectId, int objectInstanceId, int resourceId, int resourceInstanceId) {
+        LwM2mPath pooled = slots[indexFor(
+                LwM2mPath.hashCode(objectId, objectInstanceId, resourceId, resourceInstanceId))];
+        if (pooled != null && pooled.hasIds(objectId, objectInstanceId, resourceId, resourceInstanceId)) {
+            return pooled;
+        }
+        return null;
+    }
+
+    private LwM2mPath store(LwM2mPath path) {
+        slots[indexFor(path.hashCode())] = path;
+        return path;
+    }
+
+    private int indexFor(int hashCode) {
+        // spread high bits as path hash codes mainly differ by their low bits
+        int h = hashCode * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * @return the number of slots of this pool.
+     */
+    public int getSize() {
+        return slots.length;
+    }
+}
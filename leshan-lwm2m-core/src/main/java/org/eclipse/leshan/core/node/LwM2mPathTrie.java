@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.node;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.eclipse.leshan.core.util.Validate;
+
+/**
+ * A prefix tree which associates values to {@link LwM2mPath} (one level by object, object instance, resource and
+ * resource instance id).
+ * <p>
+ * It is able to find all values associated to a path or to one of its parents, with a cost which depends on path depth
+ * and not on number of values. This is typically used to find observations impacted by a resource change.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <T> type of associated values.
+ */
+public class LwM2mPathTrie<T> {
+
+    private static class Node<T> {
+        // sorted ids of children
+        private int[] childIds = new int[0];
+        @SuppressWarnings("unchecked")
+        private Node<T>[] children = new Node[0];
+        private int childCount = 0;
+        private Set<T> values;
+
+        Node<T> getChild(int id) {
+            int index = Arrays.binarySearch(childIds, 0, childCount, id);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node<T> getOrCreateChild(int id) {
+            int index = Arrays.binarySearch(childIds, 0, childCount, id);
+            if (index >= 0) {
+                return children[index];
+            }
+            index = -(index + 1);
+            if (childCount == childIds.length) {
+                int capacity = Math.max(4, childCount * 2);
+                childIds = Arrays.copyOf(childIds, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(childIds, index, childIds, index + 1, childCount - index);
+            System.arraycopy(children, index, children, index + 1, childCount - index);
+            Node<T> child = new Node<>();
+            childIds[index] = id;
+            children[index] = child;
+            childCount++;
+            return child;
+        }
+
+        void removeChild(int id) {
+            int index = Arrays.binarySearch(childIds, 0, childCount, id);
+            if (index >= 0) {
+                System.arraycopy(childIds, index + 1, childIds, index, childCount - index - 1);
+                System.arraycopy(children, index + 1, children, index, childCount - index - 1);
+                childCount--;
+                children[childCount] = null;
+            }
+        }
+
+        boolean isEmpty() {
+            return childCount == 0 && (values == null || values.isEmpty());
+        }
+    }
+
+    private final Node<T> root = new Node<>();
+    private int size = 0;
+
+    /**
+     * Associate a value to a path.
+     *
+     * @return <code>true</code> if this value was not already associated to this path.
+     */
+    public synchronized boolean add(LwM2mPath path, T value) {
+        Validate.notNull(path);
+        Validate.notNull(value);
+        Node<T> node = root;
+        int nbIds = path.getNbIds();
+        for (int i = 0; i < nbIds; i++) {
+            node = node.getOrCreateChild(path.getId(i));
+        }
+        if (node.values == null) {
+            node.values = new LinkedHashSet<>();
+        }
+        boolean added = node.values.add(value);
+        if (added) {
+            size++;
+        }
+        return added;
+    }
+
+    /**
+     * Remove association between a value and a path.
+     *
+     * @return <code>true</code> if this value was associated to this path.
+     */
+    public synchronized boolean remove(LwM2mPath path, T value) {
+        Validate.notNull(path);
+        int nbIds = path.getNbIds();
+        @SuppressWarnings("unchecked")
+        Node<T>[] branch = new Node[nbIds + 1];
+        branch[0] = root;
+        for (int i = 0; i < nbIds; i++) {
+            branch[i + 1] = branch[i].getChild(path.getId(i));
+            if (branch[i + 1] == null) {
+                return false;
+            }
+        }
+        Node<T> node = branch[nbIds];
+        if (node.values == null || !node.values.remove(value)) {
+            return false;
+        }
+        size--;
+
+        // remove nodes which are not used anymore
+        for (int i = nbIds; i > 0 && branch[i].isEmpty(); i--) {
+            branch[i - 1].removeChild(path.getId(i - 1));
+        }
+        return true;
+    }
+
+    /**
+     * @return values associated to exactly this path.
+     */
+    public synchronized Set<T> get(LwM2mPath path) {
+        Validate.notNull(path);
+        Node<T> node = root;
+        int nbIds = path.getNbIds();
+        for (int i = 0; i < nbIds && node != null; i++) {
+            node = node.getChild(path.getId(i));
+        }
+        if (node == null || node.values == null || node.values.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return new LinkedHashSet<>(node.values);
+    }
+
+    /**
+     * Find values associated to one of the given paths or to one of their parents. In other words, values associated to
+     * a path <code>p</code> such as one of the given paths {@link LwM2mPath#startWith(LwM2mPath) starts with}
+     * <code>p</code>.
+     *
+     * @return matching values, without duplicates.
+     */
+    public synchronized Set<T> findMatchingValues(LwM2mPath... paths) {
+        Set<T> result = null;
+        for (LwM2mPath path : paths) {
+            Node<T> node = root;
+            int nbIds = path.getNbIds();
+            for (int i = 0; node != null; i++) {
+                if (node.values != null && !node.values.isEmpty()) {
+                    if (result == null) {
+                        result = new LinkedHashSet<>();
+                    }
+                    result.addAll(node.values);
+                }
+                node = i < nbIds ? node.getChild(path.getId(i)) : null;
+            }
+        }
+        return result == null ? Collections.<T> emptySet() : result;
+    }
+
+    /**
+     * @return the number of (path, value) associations.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    public synchronized void clear() {
+        root.childIds = new int[0];
+        @SuppressWarnings("unchecked")
+        Node<T>[] noChildren = new Node[0];
+        root.children = noChildren;
+        root.childCount = 0;
+        root.values = null;
+        size = 0;
+    }
+}
@@ -0,0 +1,778 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.node;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.leshan.core.model.ResourceModel.Type;
+import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.core.util.datatype.ULong;
+
+/**
+ * A columnar container of timestamped {@link LwM2mNode}, an alternative to {@link TimestampedLwM2mNodes} when a lot of
+ * values must be kept (e.g. data collected during hours before being sent).
+ * <p>
+ * Samples are stored by path in a {@link Column}. Timestamps are stored in a <code>long[]</code> as nanoseconds since
+ * epoch. Values of single resources and resource instances are stored in a <code>double[]</code> for FLOAT type, and in
+ * a <code>long[]</code> for INTEGER, UNSIGNED_INTEGER, TIME and BOOLEAN types. Other values are kept as
+ * {@link LwM2mNode}. So a numeric sample costs 16 bytes, without any {@link Instant}, {@link Map} entry or node
+ * instance.
+ * <p>
+ * Samples of a column are sorted by ascending timestamp. Like in {@link TimestampedLwM2mNodes}, a sample without
+ * timestamp is considered as the most recent one. Timestamps must be between years 1677 and 2262 to be representable.
+ */
+public class LwM2mTimeSeries {
+
+    /**
+     * Timestamp of sample without timestamp.
+     */
+    public static final long NO_TIMESTAMP = Long.MAX_VALUE;
+
+    private enum Storage {
+        NONE, LONG, DOUBLE, NODE
+    }
+
+    private final Map<LwM2mPath, Column> columns;
+
+    private LwM2mTimeSeries(Map<LwM2mPath, Column> columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * @return all columns sorted by path.
+     */
+    public Collection<Column> getColumns() {
+        return columns.values();
+    }
+
+    /**
+     * @return all paths of this time series in ascending order.
+     */
+    public Set<LwM2mPath> getPaths() {
+        return columns.keySet();
+    }
+
+    /**
+     * @return the column for the given path or <code>null</code> if there is no sample for this path.
+     */
+    public Column getColumn(LwM2mPath path) {
+        return columns.get(path);
+    }
+
+    /**
+     * @return the number of samples of all columns.
+     */
+    public int getSampleCount() {
+        int count = 0;
+        for (Column column : columns.values()) {
+            count += column.size();
+        }
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return columns.isEmpty();
+    }
+
+    /**
+     * @return a {@link TimestampedLwM2mNodes} containing same data.
+     */
+    public TimestampedLwM2mNodes toTimestampedNodes() {
+        // duplicates were already handled when this time series was built
+        TimestampedLwM2mNodes.Builder builder = TimestampedLwM2mNodes.builder().raiseExceptionOnDuplicate(false);
+        for (Column column : columns.values()) {
+            for (int i = 0; i < column.size(); i++) {
+                builder.put(column.getInstant(i), column.getPath(), column.getNode(i));
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return a {@link LwM2mTimeSeries} containing same data than the given {@link TimestampedLwM2mNodes}.
+     */
+    public static LwM2mTimeSeries from(TimestampedLwM2mNodes timestampedNodes) {
+        return builder().add(timestampedNodes).build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the timestamp as nanoseconds since epoch or {@link #NO_TIMESTAMP} if timestamp is <code>null</code>
+     * @throws IllegalArgumentException if timestamp can not be represented as nanoseconds in a long
+     */
+    public static long toEpochNanos(Instant timestamp) {
+        if (timestamp == null) {
+            return NO_TIMESTAMP;
+        }
+        long nanos;
+        try {
+            nanos = Math.addExact(Math.multiplyExact(timestamp.getEpochSecond(), 1_000_000_000L), timestamp.getNano());
+        } catch (ArithmeticException e) {
+            nanos = NO_TIMESTAMP;
+        }
+        if (nanos == NO_TIMESTAMP) {
+            throw new IllegalArgumentException(
+                    String.format("Timestamp %s can not be stored as nanoseconds since epoch", timestamp));
+        }
+        return nanos;
+    }
+
+    /**
+     * @return the {@link Instant} for this number of nanoseconds since epoch or <code>null</code> for
+     *         {@link #NO_TIMESTAMP}
+     */
+    public static Instant toInstant(long epochNanos) {
+        if (epochNanos == NO_TIMESTAMP) {
+            return null;
+        }
+        return Instant.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L),
+                Math.floorMod(epochNanos, 1_000_000_000L));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LwM2mTimeSeries [paths=%s, samples=%d]", columns.keySet(), getSampleCount());
+    }
+
+    /**
+     * @return the type of value if it can be stored as a primitive, else <code>null</code>.
+     */
+    private static Type getPrimitiveType(LwM2mPath path, LwM2mNode node) {
+        Type type;
+        if (node instanceof LwM2mSingleResource && path.isResource()) {
+            type = ((LwM2mSingleResource) node).getType();
+        } else if (node instanceof LwM2mResourceInstance && path.isResourceInstance()) {
+            type = ((LwM2mResourceInstance) node).getType();
+        } else {
+            return null;
+        }
+        return isPrimitiveType(type) ? type : null;
+    }
+
+    private static Object getValue(LwM2mNode node) {
+        if (node instanceof LwM2mSingleResource) {
+            return ((LwM2mSingleResource) node).getValue();
+        }
+        return ((LwM2mResourceInstance) node).getValue();
+    }
+
+    private static boolean isPrimitiveType(Type type) {
+        return type == Type.FLOAT || isLongType(type);
+    }
+
+    private static boolean isLongType(Type type) {
+        return type == Type.INTEGER || type == Type.UNSIGNED_INTEGER || type == Type.TIME || type == Type.BOOLEAN;
+    }
+
+    private static long toLong(Type type, Object value) {
+        switch (type) {
+        case TIME:
+            return ((Date) value).getTime();
+        case BOOLEAN:
+            return ((Boolean) value) ? 1L : 0L;
+        default:
+            // INTEGER or UNSIGNED_INTEGER
+            return ((Number) value).longValue();
+        }
+    }
+
+    private static Object fromLong(Type type, long value) {
+        switch (type) {
+        case INTEGER:
+            return value;
+        case UNSIGNED_INTEGER:
+            return ULong.valueOf(value);
+        case TIME:
+            return new Date(value);
+        default:
+            // BOOLEAN
+            return value != 0;
+        }
+    }
+
+    private static LwM2mNode toNode(LwM2mPath path, Type type, Object value) {
+        if (path.isResource()) {
+            return LwM2mSingleResource.newResource(path.getResourceId(), value, type);
+        } else {
+            return LwM2mResourceInstance.newInstance(path.getResourceInstanceId(), value, type);
+        }
+    }
+
+    /**
+     * A read-only view on samples of a given path.
+     * <p>
+     * Accessors read directly the underlying arrays, so encoders can access primitive values without creating any
+     * {@link LwM2mNode}.
+     */
+    public static class Column {
+        private final LwM2mPath path;
+        private final Storage storage;
+        private final Type type;
+        private final int size;
+        private final long[] timestamps;
+        private final long[] longValues;
+        private final double[] doubleValues;
+        private final LwM2mNode[] nodes;
+        private final BitSet nulls;
+
+        private Column(LwM2mPath path, Storage storage, Type type, int size, long[] timestamps, long[] longValues,
+                double[] doubleValues, LwM2mNode[] nodes, BitSet nulls) {
+            this.path = path;
+            this.storage = storage;
+            this.type = type;
+            this.size = size;
+            this.timestamps = timestamps;
+            this.longValues = longValues;
+            this.doubleValues = doubleValues;
+            this.nodes = nodes;
+            this.nulls = nulls;
+        }
+
+        public LwM2mPath getPath() {
+            return path;
+        }
+
+        /**
+         * @return the number of samples.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @return <code>true</code> if values are stored as primitive, meaning that {@link #getDouble(int)} (for FLOAT)
+         *         or {@link #getLong(int)} (for other types) can be used.
+         */
+        public boolean isPrimitive() {
+            return storage == Storage.LONG || storage == Storage.DOUBLE;
+        }
+
+        /**
+         * @return the type of values stored as primitive or <code>null</code> if values are stored as
+         *         {@link LwM2mNode}.
+         */
+        public Type getType() {
+            return type;
+        }
+
+        /**
+         * @return the timestamp of sample at given index as nanoseconds since epoch or {@link #NO_TIMESTAMP}.
+         */
+        public long getTimestamp(int index) {
+            checkIndex(index);
+            return timestamps[index];
+        }
+
+        /**
+         * @return the timestamp of sample at given index, <code>null</code> if there is no timestamp.
+         */
+        public Instant getInstant(int index) {
+            return toInstant(getTimestamp(index));
+        }
+
+        /**
+         * @return <code>true</code> if there is no value for the sample at given index.
+         */
+        public boolean isNull(int index) {
+            checkIndex(index);
+            return nulls != null && nulls.get(index);
+        }
+
+        /**
+         * @return the value of a FLOAT sample.
+         * @throws IllegalStateException if values are not stored as double
+         */
+        public double getDouble(int index) {
+            checkIndex(index);
+            if (storage != Storage.DOUBLE) {
+                throw new IllegalStateException(String.format("Values of %s are not stored as double", path));
+            }
+            return doubleValues[index];
+        }
+
+        /**
+         * @return the value of an INTEGER sample, the 64 bits of an UNSIGNED_INTEGER sample, the number of milliseconds
+         *         since epoch of a TIME sample or 1/0 for a BOOLEAN sample.
+         * @throws IllegalStateException if values are not stored as long
+         */
+        public long getLong(int index) {
+            checkIndex(index);
+            if (storage != Storage.LONG) {
+                throw new IllegalStateException(String.format("Values of %s are not stored as long", path));
+            }
+            return longValues[index];
+        }
+
+        /**
+         * @return the node of sample at given index or <code>null</code> if there is no value for this sample.
+         */
+        public LwM2mNode getNode(int index) {
+            if (isNull(index)) {
+                return null;
+            }
+            switch (storage) {
+            case LONG:
+                return toNode(path, type, fromLong(type, longValues[index]));
+            case DOUBLE:
+                return toNode(path, type, doubleValues[index]);
+            default:
+                return nodes[index];
+            }
+        }
+
+        private void checkIndex(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(String.format("Index %d out of bounds for size %d", index, size));
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Column [path=%s, type=%s, size=%d]", path, type, size);
+        }
+    }
+
+    /**
+     * A builder of {@link LwM2mTimeSeries}, samples can be added in any order.
+     */
+    public static class Builder {
+
+        private final Map<LwM2mPath, ColumnBuilder> columns = new HashMap<>();
+        private boolean noDuplicate = true;
+
+        /**
+         * @param raiseException if <code>true</code> (default value), {@link #build()} raises an
+         *        {@link IllegalArgumentException} when there are several values for the same path and timestamp. Else
+         *        the last added value is kept.
+         */
+        public Builder raiseExceptionOnDuplicate(boolean raiseException) {
+            noDuplicate = raiseException;
+            return this;
+        }
+
+        /**
+         * @throws IllegalArgumentException if path does not match the node.
+         */
+        public Builder put(Instant timestamp, LwM2mPath path, LwM2mNode node) {
+            if (node != null) {
+                String cause = LwM2mNodeUtil.getInvalidPathForNodeCause(node, path);
+                if (cause != null) {
+                    throw new IllegalArgumentException(cause);
+                }
+            }
+            getColumn(path).addNode(toEpochNanos(timestamp), node);
+            return this;
+        }
+
+        public Builder put(LwM2mPath path, LwM2mNode node) {
+            return put(null, path, node);
+        }
+
+        public Builder addNodes(Instant timestamp, Map<LwM2mPath, LwM2mNode> pathNodesMap) {
+            for (Entry<LwM2mPath, LwM2mNode> entry : pathNodesMap.entrySet()) {
+                put(timestamp, entry.getKey(), entry.getValue());
+            }
+            return this;
+        }
+
+        public Builder addNodes(Map<LwM2mPath, LwM2mNode> pathNodesMap) {
+            return addNodes(null, pathNodesMap);
+        }
+
+        public Builder add(TimestampedLwM2mNodes timestampedNodes) {
+            for (Instant timestamp : timestampedNodes.getTimestamps()) {
+                addNodes(timestamp, timestampedNodes.getNodesAt(timestamp));
+            }
+            return this;
+        }
+
+        public Builder add(LwM2mTimeSeries timeSeries) {
+            for (Column column : timeSeries.getColumns()) {
+                ColumnBuilder builder = getColumn(column.getPath());
+                for (int i = 0; i < column.size(); i++) {
+                    long timestamp = column.getTimestamp(i);
+                    if (column.isNull(i)) {
+                        builder.addNull(timestamp);
+                    } else if (column.storage == Storage.DOUBLE) {
+                        builder.addDouble(timestamp, column.doubleValues[i]);
+                    } else if (column.storage == Storage.LONG) {
+                        builder.addLong(timestamp, column.type, column.longValues[i]);
+                    } else {
+                        builder.addNode(timestamp, column.nodes[i]);
+                    }
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Add a value of a FLOAT single resource or resource instance.
+         *
+         * @param timestamp nanoseconds since epoch or {@link LwM2mTimeSeries#NO_TIMESTAMP}
+         */
+        public Builder putDouble(long timestamp, LwM2mPath path, double value) {
+            validateResourcePath(path);
+            getColumn(path).addDouble(timestamp, value);
+            return this;
+        }
+
+        /**
+         * Add a value of an INTEGER, UNSIGNED_INTEGER (as 64 bits), TIME (as milliseconds since epoch) or BOOLEAN (as
+         * 1/0) single resource or resource instance.
+         *
+         * @param timestamp nanoseconds since epoch or {@link LwM2mTimeSeries#NO_TIMESTAMP}
+         */
+        public Builder putLong(long timestamp, LwM2mPath path, Type type, long value) {
+            validateResourcePath(path);
+            Validate.isTrue(isLongType(type), "type can not be stored as long : ", type);
+            getColumn(path).addLong(timestamp, type, value);
+            return this;
+        }
+
+        /**
+         * Add a value of a single resource or resource instance, values of primitive types are stored without creating
+         * {@link LwM2mNode}.
+         *
+         * @param timestamp nanoseconds since epoch or {@link LwM2mTimeSeries#NO_TIMESTAMP}
+         * @param value the value or <code>null</code> if there is no value for this timestamp.
+         * @throws LwM2mNodeException if value does not match the type.
+         */
+        public Builder putValue(long timestamp, LwM2mPath path, Type type, Object value) {
+            validateResourcePath(path);
+            ColumnBuilder column = getColumn(path);
+            if (value == null) {
+                column.addNull(timestamp);
+            } else if (type == Type.FLOAT && value instanceof Double) {
+                column.addDouble(timestamp, (Double) value);
+            } else if (isLongType(type) && isValueOf(type, value)) {
+                column.addLong(timestamp, type, toLong(type, value));
+            } else {
+                column.addNode(timestamp, toNode(path, type, value));
+            }
+            return this;
+        }
+
+        private boolean isValueOf(Type type, Object value) {
+            switch (type) {
+            case INTEGER:
+                return value instanceof Long;
+            case UNSIGNED_INTEGER:
+                return value instanceof ULong;
+            case TIME:
+                return value instanceof Date;
+            default:
+                return value instanceof Boolean;
+            }
+        }
+
+        private void validateResourcePath(LwM2mPath path) {
+            Validate.notNull(path);
+            Validate.isTrue(path.isResource() || path.isResourceInstance(),
+                    "path should be a resource or a resource instance path : ", path);
+        }
+
+        private ColumnBuilder getColumn(LwM2mPath path) {
+            ColumnBuilder column = columns.get(path);
+            if (column == null) {
+                column = new ColumnBuilder(path);
+                columns.put(path, column);
+            }
+            return column;
+        }
+
+        public boolean isEmpty() {
+            return columns.isEmpty();
+        }
+
+        /**
+         * Build the {@link LwM2mTimeSeries}. The builder can still be used after that.
+         *
+         * @throws IllegalArgumentException if there are several values for the same path and timestamp and
+         *         {@link #raiseExceptionOnDuplicate(boolean)} is <code>true</code>.
+         */
+        public LwM2mTimeSeries build() throws IllegalArgumentException {
+            Map<LwM2mPath, Column> result = new TreeMap<>();
+            for (ColumnBuilder column : columns.values()) {
+                result.put(column.path, column.build(noDuplicate));
+            }
+            return new LwM2mTimeSeries(Collections.unmodifiableMap(result));
+        }
+    }
+
+    private static class ColumnBuilder {
+        private static final int INITIAL_CAPACITY = 8;
+
+        private final LwM2mPath path;
+        private Storage storage = Storage.NONE;
+        private Type type;
+        private int size;
+        private long[] timestamps = new long[INITIAL_CAPACITY];
+        private long[] longValues;
+        private double[] doubleValues;
+        private LwM2mNode[] nodes;
+        private BitSet nulls;
+        private boolean sorted = true;
+
+        ColumnBuilder(LwM2mPath path) {
+            this.path = path;
+        }
+
+        void addNull(long timestamp) {
+            int index = append(timestamp);
+            if (nulls == null) {
+                nulls = new BitSet();
+            }
+            nulls.set(index);
+        }
+
+        void addDouble(long timestamp, double value) {
+            if (storage == Storage.NONE) {
+                storage = Storage.DOUBLE;
+                type = Type.FLOAT;
+                doubleValues = new double[timestamps.length];
+            }
+            if (storage == Storage.DOUBLE) {
+                // append may grow arrays, so it must be called before accessing them
+                int index = append(timestamp);
+                doubleValues[index] = value;
+            } else {
+                appendNode(timestamp, toNode(path, Type.FLOAT, value));
+            }
+        }
+
+        void addLong(long timestamp, Type valueType, long value) {
+            if (storage == Storage.NONE) {
+                storage = Storage.LONG;
+                type = valueType;
+                longValues = new long[timestamps.length];
+            }
+            if (storage == Storage.LONG && type == valueType) {
+                int index = append(timestamp);
+                longValues[index] = value;
+            } else {
+                appendNode(timestamp, toNode(path, valueType, fromLong(valueType, value)));
+            }
+        }
+
+        void addNode(long timestamp, LwM2mNode node) {
+            if (node == null) {
+                addNull(timestamp);
+                return;
+            }
+            Type primitiveType = storage != Storage.NODE ? getPrimitiveType(path, node) : null;
+            if (primitiveType == Type.FLOAT) {
+                addDouble(timestamp, (Double) getValue(node));
+            } else if (primitiveType != null) {
+                addLong(timestamp, primitiveType, toLong(primitiveType, getValue(node)));
+            } else {
+                appendNode(timestamp, node);
+            }
+        }
+
+        // add a node, switching to node storage if needed
+        private void appendNode(long timestamp, LwM2mNode node) {
+            if (storage != Storage.NODE) {
+                toNodeStorage();
+            }
+            int index = append(timestamp);
+            nodes[index] = node;
+        }
+
+        private void toNodeStorage() {
+            LwM2mNode[] newNodes = new LwM2mNode[timestamps.length];
+            for (int i = 0; i < size; i++) {
+                newNodes[i] = getNode(i);
+            }
+            nodes = newNodes;
+            longValues = null;
+            doubleValues = null;
+            storage = Storage.NODE;
+            type = null;
+        }
+
+        private LwM2mNode getNode(int index) {
+            if (nulls != null && nulls.get(index)) {
+                return null;
+            }
+            switch (storage) {
+            case LONG:
+                return toNode(path, type, fromLong(type, longValues[index]));
+            case DOUBLE:
+                return toNode(path, type, doubleValues[index]);
+            case NODE:
+                return nodes[index];
+            default:
+                return null;
+            }
+        }
+
+        private int append(long timestamp) {
+            if (size == timestamps.length) {
+                int capacity = size + (size >> 1);
+                timestamps = Arrays.copyOf(timestamps, capacity);
+                if (longValues != null) {
+                    longValues = Arrays.copyOf(longValues, capacity);
+                }
+                if (doubleValues != null) {
+                    doubleValues = Arrays.copyOf(doubleValues, capacity);
+                }
+                if (nodes != null) {
+                    nodes = Arrays.copyOf(nodes, capacity);
+                }
+            }
+            if (size > 0 && timestamp < timestamps[size - 1]) {
+                sorted = false;
+            }
+            timestamps[size] = timestamp;
+            return size++;
+        }
+
+        Column build(boolean noDuplicate) {
+            if (!sorted) {
+                sort();
+            }
+            removeDuplicates(noDuplicate);
+            return new Column(path, storage, type, size, Arrays.copyOf(timestamps, size),
+                    longValues == null ? null : Arrays.copyOf(longValues, size),
+                    doubleValues == null ? null : Arrays.copyOf(doubleValues, size),
+                    nodes == null ? null : Arrays.copyOf(nodes, size), nulls == null ? null : (BitSet) nulls.clone());
+        }
+
+        // stable sort of samples by timestamp, so last added value is the last one for a given timestamp
+        private void sort() {
+            int[] order = sortedOrder(timestamps, size);
+
+            long[] newTimestamps = new long[timestamps.length];
+            long[] newLongValues = longValues == null ? null : new long[longValues.length];
+            double[] newDoubleValues = doubleValues == null ? null : new double[doubleValues.length];
+            LwM2mNode[] newNodes = nodes == null ? null : new LwM2mNode[nodes.length];
+            BitSet newNulls = nulls == null ? null : new BitSet();
+            for (int i = 0; i < size; i++) {
+                int from = order[i];
+                newTimestamps[i] = timestamps[from];
+                if (newLongValues != null) {
+                    newLongValues[i] = longValues[from];
+                }
+                if (newDoubleValues != null) {
+                    newDoubleValues[i] = doubleValues[from];
+                }
+                if (newNodes != null) {
+                    newNodes[i] = nodes[from];
+                }
+                if (newNulls != null && nulls.get(from)) {
+                    newNulls.set(i);
+                }
+            }
+            timestamps = newTimestamps;
+            longValues = newLongValues;
+            doubleValues = newDoubleValues;
+            nodes = newNodes;
+            nulls = newNulls;
+            sorted = true;
+        }
+
+        /**
+         * @return indexes of the <code>size</code> first keys in ascending order of keys, equal keys keeping their
+         *         order. This is a bottom-up merge sort which avoids boxing indexes to use a comparator.
+         */
+        private static int[] sortedOrder(long[] keys, int size) {
+            int[] order = new int[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            int[] buffer = new int[size];
+            for (int width = 1; width < size; width *= 2) {
+                for (int low = 0; low < size; low += 2 * width) {
+                    int middle = Math.min(low + width, size);
+                    int high = Math.min(low + 2 * width, size);
+                    int left = low;
+                    int right = middle;
+                    for (int i = low; i < high; i++) {
+                        // take left one on equality, so sort is stable
+                        if (left < middle && (right >= high || keys[order[left]] <= keys[order[right]])) {
+                            buffer[i] = order[left++];
+                        } else {
+                            buffer[i] = order[right++];
+                        }
+                    }
+                }
+                int[] tmp = order;
+                order = buffer;
+                buffer = tmp;
+            }
+            return order;
+        }
+
+        // keep only the last sample of each timestamp
+        private void removeDuplicates(boolean noDuplicate) {
+            if (noDuplicate) {
+                // check before modifying anything, so builder is still usable if we raise an exception
+                for (int i = 1; i < size; i++) {
+                    // like TimestampedLwM2mNodes, a null value can be replaced
+                    if (timestamps[i - 1] == timestamps[i] && getNode(i - 1) != null) {
+                        throw new IllegalArgumentException(String.format(
+                                "Unable to create LwM2mTimeSeries : duplicate value for path %s at %s (%s, %s)", path,
+                                toInstant(timestamps[i]), getNode(i), getNode(i - 1)));
+                    }
+                }
+            }
+            int newSize = 0;
+            for (int i = 0; i < size; i++) {
+                if (newSize > 0 && timestamps[newSize - 1] == timestamps[i]) {
+                    move(i, newSize - 1);
+                } else {
+                    move(i, newSize++);
+                }
+            }
+            if (nulls != null) {
+                nulls.clear(newSize, Math.max(newSize, size));
+            }
+            size = newSize;
+        }
+
+        private void move(int from, int to) {
+            if (from == to) {
+                return;
+            }
+            timestamps[to] = timestamps[from];
+            if (longValues != null) {
+                longValues[to] = longValues[from];
+            }
+            if (doubleValues != null) {
+                doubleValues[to] = doubleValues[from];
+            }
+            if (nodes != null) {
+                nodes[to] = nodes[from];
+            }
+            if (nulls != null) {
+                nulls.set(to, nulls.get(from));
+            }
+        }
+    }
+}
@@ -34,6 +34,7 @@ import org.eclipse.leshan.core.node.LwM2mRoot;
 import org.eclipse.leshan.core.node.TimestampedLwM2mNode;
 import org.eclipse.leshan.core.node.TimestampedLwM2mNodes;
 import org.eclipse.leshan.core.node.codec.cbor.LwM2mNodeCborDecoder;
+import org.eclipse.leshan.core.node.codec.cbor.LwM2mNodeCborStreamingDecoder;
 import org.eclipse.leshan.core.node.codec.json.LwM2mNodeJsonDecoder;
 import org.eclipse.leshan.core.node.codec.opaque.LwM2mNodeOpaqueDecoder;
 import org.eclipse.leshan.core.node.codec.senml.LwM2mNodeSenMLDecoder;
@@ -42,8 +43,10 @@ import org.eclipse.leshan.core.node.codec.text.LwM2mNodeTextDecoder;
 import org.eclipse.leshan.core.node.codec.tlv.LwM2mNodeTlvDecoder;
 import org.eclipse.leshan.core.request.ContentFormat;
 import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.core.util.cbor.CborReader;
+import org.eclipse.leshan.senml.cbor.streaming.SenMLCborStreamingEncoderDecoder;
 import org.eclipse.leshan.senml.cbor.upokecenter.SenMLCborUpokecenterEncoderDecoder;
-import org.eclipse.leshan.senml.json.jackson.SenMLJsonJacksonEncoderDecoder;
+import org.eclipse.leshan.senml.json.jackson.SenMLJsonStreamingEncoderDecoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -72,13 +75,31 @@ public class DefaultLwM2mDecoder implements LwM2mDecoder {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultLwM2mDecoder.class);
 
     public static Map<ContentFormat, NodeDecoder> getDefaultNodeDecoders(boolean supportDeprecatedContentFormat) {
+        return getDefaultNodeDecoders(supportDeprecatedContentFormat, false);
+    }
+
+    /**
+     * Get default node decoders.
+     *
+     * @param supportDeprecatedContentFormat True to accept to decode old TLV and JSON code.
+     * @param useStreamingCbor True to decode {@link ContentFormat#CBOR} and {@link ContentFormat#SENML_CBOR} with
+     *        decoders based on the streaming {@link CborReader} instead of decoders based on CBOR-Java.
+     */
+    public static Map<ContentFormat, NodeDecoder> getDefaultNodeDecoders(boolean supportDeprecatedContentFormat,
+            boolean useStreamingCbor) {
         Map<ContentFormat, NodeDecoder> decoders = new HashMap<>();
         decoders.put(ContentFormat.TEXT, new LwM2mNodeTextDecoder());
         decoders.put(ContentFormat.OPAQUE, new LwM2mNodeOpaqueDecoder());
-        decoders.put(ContentFormat.CBOR, new LwM2mNodeCborDecoder());
-        decoders.put(ContentFormat.SENML_JSON, new LwM2mNodeSenMLDecoder(new SenMLJsonJacksonEncoderDecoder(), true));
-        decoders.put(ContentFormat.SENML_CBOR,
-                new LwM2mNodeSenMLDecoder(new SenMLCborUpokecenterEncoderDecoder(), false));
+        decoders.put(ContentFormat.SENML_JSON, new LwM2mNodeSenMLDecoder(new SenMLJsonStreamingEncoderDecoder(), true));
+        if (useStreamingCbor) {
+            decoders.put(ContentFormat.CBOR, new LwM2mNodeCborStreamingDecoder());
+            decoders.put(ContentFormat.SENML_CBOR,
+                    new LwM2mNodeSenMLDecoder(new SenMLCborStreamingEncoderDecoder(), false));
+        } else {
+            decoders.put(ContentFormat.CBOR, new LwM2mNodeCborDecoder());
+            decoders.put(ContentFormat.SENML_CBOR,
+                    new LwM2mNodeSenMLDecoder(new SenMLCborUpokecenterEncoderDecoder(), false));
+        }
 
         // tlv
         LwM2mNodeTlvDecoder tlvDecoder = new LwM2mNodeTlvDecoder();
@@ -96,7 +117,7 @@ public class DefaultLwM2mDecoder implements LwM2mDecoder {
 
     public static Map<ContentFormat, PathDecoder> getDefaultPathDecoder() {
         Map<ContentFormat, PathDecoder> decoders = new HashMap<>();
-        decoders.put(ContentFormat.SENML_JSON, new LwM2mPathSenMLDecoder(new SenMLJsonJacksonEncoderDecoder(true)));
+        decoders.put(ContentFormat.SENML_JSON, new LwM2mPathSenMLDecoder(new SenMLJsonStreamingEncoderDecoder(true)));
         decoders.put(ContentFormat.SENML_CBOR,
                 new LwM2mPathSenMLDecoder(new SenMLCborUpokecenterEncoderDecoder(false, true)));
 
@@ -27,6 +27,7 @@ import org.eclipse.leshan.core.node.LwM2mPath;
 import org.eclipse.leshan.core.node.TimestampedLwM2mNode;
 import org.eclipse.leshan.core.node.TimestampedLwM2mNodes;
 import org.eclipse.leshan.core.node.codec.cbor.LwM2mNodeCborEncoder;
+import org.eclipse.leshan.core.node.codec.cbor.LwM2mNodeCborStreamingEncoder;
 import org.eclipse.leshan.core.node.codec.json.LwM2mNodeJsonEncoder;
 import org.eclipse.leshan.core.node.codec.opaque.LwM2mNodeOpaqueEncoder;
 import org.eclipse.leshan.core.node.codec.senml.LwM2mNodeSenMLEncoder;
@@ -35,8 +36,10 @@ import org.eclipse.leshan.core.node.codec.text.LwM2mNodeTextEncoder;
 import org.eclipse.leshan.core.node.codec.tlv.LwM2mNodeTlvEncoder;
 import org.eclipse.leshan.core.request.ContentFormat;
 import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.core.util.cbor.CborWriter;
+import org.eclipse.leshan.senml.cbor.streaming.SenMLCborStreamingEncoderDecoder;
 import org.eclipse.leshan.senml.cbor.upokecenter.SenMLCborUpokecenterEncoderDecoder;
-import org.eclipse.leshan.senml.json.jackson.SenMLJsonJacksonEncoderDecoder;
+import org.eclipse.leshan.senml.json.jackson.SenMLJsonStreamingEncoderDecoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -65,12 +68,29 @@ public class DefaultLwM2mEncoder implements LwM2mEncoder {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultLwM2mEncoder.class);
 
     public static Map<ContentFormat, NodeEncoder> getDefaultNodeEncoders(boolean supportDeprecatedContentFormat) {
+        return getDefaultNodeEncoders(supportDeprecatedContentFormat, false);
+    }
+
+    /**
+     * Get default node encoders.
+     *
+     * @param supportDeprecatedContentFormat True to accept to encode old TLV and JSON code.
+     * @param useStreamingCbor True to encode {@link ContentFormat#CBOR} and {@link ContentFormat#SENML_CBOR} with
+     *        encoders based on the streaming {@link CborWriter} instead of encoders based on CBOR-Java.
+     */
+    public static Map<ContentFormat, NodeEncoder> getDefaultNodeEncoders(boolean supportDeprecatedContentFormat,
+            boolean useStreamingCbor) {
         Map<ContentFormat, NodeEncoder> encoders = new HashMap<>();
         encoders.put(ContentFormat.TEXT, new LwM2mNodeTextEncoder());
         encoders.put(ContentFormat.OPAQUE, new LwM2mNodeOpaqueEncoder());
-        encoders.put(ContentFormat.CBOR, new LwM2mNodeCborEncoder());
-        encoders.put(ContentFormat.SENML_JSON, new LwM2mNodeSenMLEncoder(new SenMLJsonJacksonEncoderDecoder()));
-        encoders.put(ContentFormat.SENML_CBOR, new LwM2mNodeSenMLEncoder(new SenMLCborUpokecenterEncoderDecoder()));
+        encoders.put(ContentFormat.SENML_JSON, new LwM2mNodeSenMLEncoder(new SenMLJsonStreamingEncoderDecoder()));
+        if (useStreamingCbor) {
+            encoders.put(ContentFormat.CBOR, new LwM2mNodeCborStreamingEncoder());
+            encoders.put(ContentFormat.SENML_CBOR, new LwM2mNodeSenMLEncoder(new SenMLCborStreamingEncoderDecoder()));
+        } else {
+            encoders.put(ContentFormat.CBOR, new LwM2mNodeCborEncoder());
+            encoders.put(ContentFormat.SENML_CBOR, new LwM2mNodeSenMLEncoder(new SenMLCborUpokecenterEncoderDecoder()));
+        }
 
         // tlv
         LwM2mNodeTlvEncoder tlvDecoder = new LwM2mNodeTlvEncoder();
@@ -88,7 +108,7 @@ public class DefaultLwM2mEncoder implements LwM2mEncoder {
 
     public static Map<ContentFormat, PathEncoder> getDefaultPathEncoder() {
         Map<ContentFormat, PathEncoder> encoders = new HashMap<>();
-        encoders.put(ContentFormat.SENML_JSON, new LwM2mPathSenMLEncoder(new SenMLJsonJacksonEncoderDecoder(true)));
+        encoders.put(ContentFormat.SENML_JSON, new LwM2mPathSenMLEncoder(new SenMLJsonStreamingEncoderDecoder(true)));
         encoders.put(ContentFormat.SENML_CBOR,
                 new LwM2mPathSenMLEncoder(new SenMLCborUpokecenterEncoderDecoder(false, true)));
 
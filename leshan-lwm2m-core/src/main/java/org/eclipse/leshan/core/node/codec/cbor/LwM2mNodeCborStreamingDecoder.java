@@ -0,0 +1,245 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.node.codec.cbor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+
+import org.eclipse.leshan.core.link.LinkParseException;
+import org.eclipse.leshan.core.link.LinkParser;
+import org.eclipse.leshan.core.link.lwm2m.DefaultLwM2mLinkParser;
+import org.eclipse.leshan.core.model.LwM2mModel;
+import org.eclipse.leshan.core.model.ResourceModel;
+import org.eclipse.leshan.core.model.ResourceModel.Type;
+import org.eclipse.leshan.core.node.LwM2mNode;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.LwM2mResourceInstance;
+import org.eclipse.leshan.core.node.LwM2mSingleResource;
+import org.eclipse.leshan.core.node.ObjectLink;
+import org.eclipse.leshan.core.node.codec.CodecException;
+import org.eclipse.leshan.core.node.codec.NodeDecoder;
+import org.eclipse.leshan.core.util.Hex;
+import org.eclipse.leshan.core.util.cbor.CborException;
+import org.eclipse.leshan.core.util.cbor.CborReader;
+import org.eclipse.leshan.core.util.cbor.CborType;
+import org.eclipse.leshan.core.util.datatype.ULong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A CBOR {@link NodeDecoder} based on the streaming {@link CborReader}.
+ * <p>
+ * Unlike {@link LwM2mNodeCborDecoder}, the value is read directly from the payload without building an intermediate
+ * CBOR object model. Both implementations accept the same payloads and create the same nodes.
+ */
+public class LwM2mNodeCborStreamingDecoder implements NodeDecoder {
+    private static final Logger LOG = LoggerFactory.getLogger(LwM2mNodeCborStreamingDecoder.class);
+
+    // see https://datatracker.ietf.org/doc/html/rfc8949#section-3.4
+    private static final long TAG_DATE_TIME_STRING = 0;
+    private static final long TAG_EPOCH_DATE_TIME = 1;
+
+    // parser used for core link data type
+    private final LinkParser linkParser;
+
+    public LwM2mNodeCborStreamingDecoder() {
+        this(new DefaultLwM2mLinkParser());
+    }
+
+    /**
+     * Create a new LwM2mNodeCborStreamingDecoder with a custom {@link LinkParser}.
+     *
+     * @param linkParser the link parser for core link format resources.
+     */
+    public LwM2mNodeCborStreamingDecoder(LinkParser linkParser) {
+        this.linkParser = linkParser;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends LwM2mNode> T decode(byte[] content, String rootPath, LwM2mPath path, LwM2mModel model,
+            Class<T> nodeClass) throws CodecException {
+
+        // Support only single value
+        if (!path.isResource() && !path.isResourceInstance())
+            throw new CodecException("Invalid path %s : CborDecoder decodes resource OR resource instance only", path);
+
+        if (content == null)
+            return null;
+
+        // Read CBOR value and its date/time tag if any
+        long tag = -1;
+        CborType cborType;
+        Object cborValue;
+        try {
+            CborReader reader = new CborReader(content);
+            if (reader.peekType() == CborType.TAG) {
+                long nextTag = reader.peekTag();
+                if (nextTag == TAG_DATE_TIME_STRING || nextTag == TAG_EPOCH_DATE_TIME) {
+                    tag = reader.readTag();
+                }
+            }
+            cborType = reader.peekType();
+            cborValue = readCborValue(reader, cborType, path);
+            if (reader.hasRemaining()) {
+                throw new CborException("Unexpected data after CBOR value at position %d", reader.getPosition());
+            }
+        } catch (CborException e) {
+            throw new CodecException(e, "Unable to parse CBOR value %s for resource %s", Hex.encodeHexString(content),
+                    path);
+        }
+
+        // Find model to know expected type
+        Type expectedType;
+        ResourceModel rDesc = model.getResourceModel(path.getObjectId(), path.getResourceId());
+        if (rDesc != null) {
+            expectedType = rDesc.type;
+        } else {
+            // try to guess type from CBOR ?
+            expectedType = guessTypeFromCbor(cborType, cborValue, tag, path);
+            LOG.debug("Decoding CBOR resource or resource instance without model, type guessed {}", expectedType);
+        }
+
+        // Get Node Value
+        Object nodeValue = convertCborValue(cborType, cborValue, tag, expectedType, path);
+
+        // Create Node
+        if (path.isResource()) {
+            return (T) LwM2mSingleResource.newResource(path.getResourceId(), nodeValue, expectedType);
+        } else {
+            return (T) LwM2mResourceInstance.newInstance(path.getResourceInstanceId(), nodeValue, expectedType);
+        }
+    }
+
+    private Object readCborValue(CborReader reader, CborType cborType, LwM2mPath path) {
+        switch (cborType) {
+        case UNSIGNED_INTEGER:
+        case NEGATIVE_INTEGER:
+            return reader.readInteger();
+        case FLOAT:
+            return reader.readDouble();
+        case BOOLEAN:
+            return reader.readBoolean();
+        case TEXT_STRING:
+            return reader.readTextString();
+        case BYTE_STRING:
+            return reader.readByteString();
+        case NULL:
+            reader.readNull();
+            return null;
+        default:
+            throw new CborException("Unsupported CBOR type %s", cborType);
+        }
+    }
+
+    private Type guessTypeFromCbor(CborType cborType, Object cborValue, long tag, LwM2mPath path) {
+        switch (cborType) {
+        case BOOLEAN:
+            return Type.BOOLEAN;
+        case FLOAT:
+            return tag == TAG_EPOCH_DATE_TIME ? Type.TIME : Type.FLOAT;
+        case UNSIGNED_INTEGER:
+        case NEGATIVE_INTEGER:
+            if (tag == TAG_EPOCH_DATE_TIME)
+                return Type.TIME;
+            else {
+                if (cborValue instanceof Long)
+                    return Type.INTEGER;
+                else {
+                    return Type.UNSIGNED_INTEGER;
+                }
+            }
+        case TEXT_STRING:
+            return tag == TAG_DATE_TIME_STRING ? Type.TIME : Type.STRING;
+        case BYTE_STRING:
+            return Type.OPAQUE;
+        default:
+            throw new CodecException("Unable to guess LWM2M type for resource %s, cbor type is %s", path, cborType);
+        }
+    }
+
+    private Object convertCborValue(CborType cborType, Object cborValue, long tag, Type type, LwM2mPath path)
+            throws CodecException {
+        LOG.trace("CBOR value for path {} and expected type {}: {}", path, type, cborValue);
+
+        if (cborType == CborType.NULL)
+            return null;
+
+        try {
+            switch (type) {
+            case STRING:
+                if (cborType == CborType.TEXT_STRING) {
+                    return cborValue;
+                }
+                break;
+            case INTEGER:
+                if (cborValue instanceof Long) {
+                    return cborValue;
+                }
+                break;
+            case UNSIGNED_INTEGER:
+                if (cborType == CborType.UNSIGNED_INTEGER) {
+                    // BigInteger values of major type 0 always fit in 64 bits
+                    return ULong.valueOf(((Number) cborValue).longValue());
+                }
+                break;
+            case BOOLEAN:
+                if (cborType == CborType.BOOLEAN) {
+                    return cborValue;
+                }
+                break;
+            case FLOAT:
+                if (cborType == CborType.FLOAT) {
+                    return cborValue;
+                }
+                break;
+            case TIME:
+                if (tag == TAG_EPOCH_DATE_TIME && cborValue instanceof Long) {
+                    return new Date((Long) cborValue * 1000);
+                } else if (tag == TAG_EPOCH_DATE_TIME && cborValue instanceof Double) {
+                    return new Date((long) Math.floor((Double) cborValue * 1000));
+                } else if (tag == TAG_DATE_TIME_STRING && cborValue instanceof String) {
+                    return new Date(OffsetDateTime.parse((String) cborValue).toInstant().toEpochMilli());
+                }
+                break;
+            case OBJLNK:
+                if (cborType == CborType.TEXT_STRING) {
+                    return ObjectLink.decodeFromString((String) cborValue);
+                }
+                break;
+            case CORELINK:
+                if (cborType == CborType.TEXT_STRING) {
+                    return linkParser.parseCoreLinkFormat(((String) cborValue).getBytes(StandardCharsets.UTF_8));
+                }
+                break;
+            case OPAQUE:
+                if (cborType == CborType.BYTE_STRING) {
+                    return cborValue;
+                }
+                break;
+            default:
+                throw new CodecException("Unsupported type %s for resource %s", type, path);
+            }
+        } catch (IllegalArgumentException | ArithmeticException | DateTimeParseException | LinkParseException e) {
+            throw new CodecException(e, "Unable to convert CBOR value %s of type %s in type %s for resource %s",
+                    cborValue, cborType, type, path);
+        }
+        throw new CodecException("Unable to convert CBOR value %s of type %s in type %s for resource %s", cborValue,
+                cborType, type, path);
+    }
+}
@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.node.codec.cbor;
+
+import java.util.Date;
+
+import org.eclipse.leshan.core.link.DefaultLinkSerializer;
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.link.LinkSerializer;
+import org.eclipse.leshan.core.model.LwM2mModel;
+import org.eclipse.leshan.core.model.ResourceModel;
+import org.eclipse.leshan.core.model.ResourceModel.Type;
+import org.eclipse.leshan.core.node.LwM2mNode;
+import org.eclipse.leshan.core.node.LwM2mNodeVisitor;
+import org.eclipse.leshan.core.node.LwM2mObject;
+import org.eclipse.leshan.core.node.LwM2mObjectInstance;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.LwM2mResource;
+import org.eclipse.leshan.core.node.LwM2mResourceInstance;
+import org.eclipse.leshan.core.node.LwM2mRoot;
+import org.eclipse.leshan.core.node.ObjectLink;
+import org.eclipse.leshan.core.node.codec.CodecException;
+import org.eclipse.leshan.core.node.codec.LwM2mValueConverter;
+import org.eclipse.leshan.core.node.codec.NodeEncoder;
+import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.core.util.cbor.CborWriter;
+import org.eclipse.leshan.core.util.datatype.ULong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A CBOR {@link NodeEncoder} based on the streaming {@link CborWriter}.
+ * <p>
+ * Unlike {@link LwM2mNodeCborEncoder}, the value is written directly without building an intermediate CBOR object
+ * model. Both implementations produce the same payloads.
+ */
+public class LwM2mNodeCborStreamingEncoder implements NodeEncoder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LwM2mNodeCborStreamingEncoder.class);
+
+    // see https://datatracker.ietf.org/doc/html/rfc8949#section-3.4.2
+    private static final long TAG_EPOCH_DATE_TIME = 1;
+
+    private final LinkSerializer linkSerializer;
+
+    public LwM2mNodeCborStreamingEncoder() {
+        this(new DefaultLinkSerializer());
+    }
+
+    public LwM2mNodeCborStreamingEncoder(LinkSerializer linkSerializer) {
+        this.linkSerializer = linkSerializer;
+    }
+
+    @Override
+    public byte[] encode(LwM2mNode node, String rootPath, LwM2mPath path, LwM2mModel model,
+            LwM2mValueConverter converter) throws CodecException {
+        Validate.notNull(node);
+        Validate.notNull(path);
+        Validate.notNull(model);
+
+        InternalEncoder internalEncoder = new InternalEncoder();
+        internalEncoder.path = path;
+        internalEncoder.model = model;
+        internalEncoder.converter = converter;
+        node.accept(internalEncoder);
+        return internalEncoder.encoded;
+    }
+
+    private class InternalEncoder implements LwM2mNodeVisitor {
+        // visitor inputs
+        private LwM2mPath path;
+        private LwM2mModel model;
+        private LwM2mValueConverter converter;
+
+        // visitor output
+        private byte[] encoded = null;
+
+        @Override
+        public void visit(LwM2mRoot root) {
+            throw new CodecException("LWM2M Root Node cannot be encoded in cbor format");
+        }
+
+        @Override
+        public void visit(LwM2mObject object) {
+            throw new CodecException("Object %s cannot be encoded in cbor format", path);
+        }
+
+        @Override
+        public void visit(LwM2mObjectInstance instance) {
+            throw new CodecException("Object instance %s cannot be encoded in cbor format", path);
+        }
+
+        @Override
+        public void visit(LwM2mResource resource) {
+            if (resource.isMultiInstances()) {
+                throw new CodecException("Multiple instances resource %s cannot be encoded in cbor format", path);
+            }
+            LOG.trace("Encoding resource {} into cbor", resource);
+
+            ResourceModel rSpec = model.getResourceModel(path.getObjectId(), resource.getId());
+            Type expectedType = rSpec != null ? rSpec.type : resource.getType();
+            encoded = encodeValue(resource.getValue(), resource.getType(), expectedType);
+        }
+
+        @Override
+        public void visit(LwM2mResourceInstance instance) {
+            LOG.trace("Encoding resource instance {} into cbor", instance);
+
+            ResourceModel rSpec = model.getResourceModel(path.getObjectId(), path.getResourceId());
+            Type expectedType = rSpec != null ? rSpec.type : instance.getType();
+            encoded = encodeValue(instance.getValue(), instance.getType(), expectedType);
+        }
+
+        private byte[] encodeValue(Object value, Type currentType, Type expectedType) {
+            Object val = converter.convertValue(value, currentType, expectedType, path);
+
+            if (expectedType == null) {
+                throw new CodecException(
+                        "Unable to encode value for resource {} without type(probably a executable one)", path);
+            }
+
+            CborWriter writer = new CborWriter(16);
+            if (val == null) {
+                writer.writeNull();
+                return writer.toByteArray();
+            }
+            switch (expectedType) {
+            case INTEGER:
+                writer.writeLong((long) val);
+                break;
+            case FLOAT:
+                writer.writeDouble((double) val);
+                break;
+            case STRING:
+                writer.writeTextString((String) val);
+                break;
+            case UNSIGNED_INTEGER:
+                writer.writeUnsignedLong(((ULong) val).longValue());
+                break;
+            case BOOLEAN:
+                writer.writeBoolean((Boolean) val);
+                break;
+            case TIME:
+                // see https://tools.ietf.org/html/rfc7049#section-2.4.1
+                // number of seconds since 1970/1/1
+                writer.writeTag(TAG_EPOCH_DATE_TIME).writeLong(((Date) val).getTime() / 1000);
+                break;
+            case OBJLNK:
+                writer.writeTextString(((ObjectLink) val).encodeToString());
+                break;
+            case CORELINK:
+                writer.writeTextString(linkSerializer.serializeCoreLinkFormat((Link[]) val));
+                break;
+            case OPAQUE:
+                writer.writeByteString((byte[]) val);
+                break;
+            default:
+                throw new CodecException("Cannot encode %s in cbor format for %s", val, path);
+            }
+            return writer.toByteArray();
+        }
+    }
+}
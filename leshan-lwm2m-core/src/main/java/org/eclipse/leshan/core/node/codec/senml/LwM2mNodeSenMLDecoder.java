@@ -34,6 +34,7 @@ import org.eclipse.leshan.core.model.ResourceModel;
 import org.eclipse.leshan.core.model.ResourceModel.Type;
 import org.eclipse.leshan.core.node.LwM2mMultipleResource;
 import org.eclipse.leshan.core.node.LwM2mNode;
+import org.eclipse.leshan.core.node.LwM2mNodeException;
 import org.eclipse.leshan.core.node.LwM2mObject;
 import org.eclipse.leshan.core.node.LwM2mObjectInstance;
 import org.eclipse.leshan.core.node.LwM2mPath;
@@ -41,6 +42,7 @@ import org.eclipse.leshan.core.node.LwM2mResource;
 import org.eclipse.leshan.core.node.LwM2mResourceInstance;
 import org.eclipse.leshan.core.node.LwM2mRoot;
 import org.eclipse.leshan.core.node.LwM2mSingleResource;
+import org.eclipse.leshan.core.node.LwM2mTimeSeries;
 import org.eclipse.leshan.core.node.ObjectLink;
 import org.eclipse.leshan.core.node.TimestampedLwM2mNode;
 import org.eclipse.leshan.core.node.TimestampedLwM2mNodes;
@@ -57,6 +59,7 @@ import org.eclipse.leshan.senml.SenMLDecoder;
 import org.eclipse.leshan.senml.SenMLException;
 import org.eclipse.leshan.senml.SenMLPack;
 import org.eclipse.leshan.senml.SenMLRecord;
+import org.eclipse.leshan.senml.SenMLStreamDecoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -86,17 +89,10 @@ public class LwM2mNodeSenMLDecoder implements TimestampedNodeDecoder, MultiNodeD
     public <T extends LwM2mNode> T decode(byte[] content, String rootPath, LwM2mPath path, LwM2mModel model,
             Class<T> nodeClass) throws CodecException {
         try {
-            // Decode SenML pack
-            SenMLPack pack = decoder.fromSenML(content);
-            List<SenMLRecord> records = pack.getRecords();
-
-            // Resolve records
-            LwM2mSenMLResolver resolver = new LwM2mSenMLResolver();
-            Collection<LwM2mResolvedSenMLRecord> resolvedRecords = new ArrayList<>(records.size());
-            for (SenMLRecord senMLRecord : records) {
-                LwM2mResolvedSenMLRecord resolvedRecord = resolver.resolve(senMLRecord);
+            // Decode and resolve records
+            List<LwM2mResolvedSenMLRecord> resolvedRecords = decodeAndResolve(content, rootPath);
+            for (LwM2mResolvedSenMLRecord resolvedRecord : resolvedRecords) {
                 // Validate SenML resolved name
-                validateRootPath(resolvedRecord, rootPath);
                 if (!resolvedRecord.getPath().isResourceInstance() && !resolvedRecord.getPath().isResource()) {
                     throw new CodecException(INVALID_PATH_IT_SHOULD_BE_A_RESOURCE_OR_A_RESOURCE_INSTANCE_PATH,
                             resolvedRecord.getName());
@@ -106,7 +102,6 @@ public class LwM2mNodeSenMLDecoder implements TimestampedNodeDecoder, MultiNodeD
                             resolvedRecord.getPrefixedPath(), path);
                 }
                 validateNoTimestampedRecord(resolvedRecord);
-                resolvedRecords.add(resolvedRecord);
             }
 
             // Parse records and create node
@@ -121,14 +116,14 @@ public class LwM2mNodeSenMLDecoder implements TimestampedNodeDecoder, MultiNodeD
     public Map<LwM2mPath, LwM2mNode> decodeNodes(byte[] content, String rootPath, List<LwM2mPath> paths,
             LwM2mModel model) throws CodecException {
         try {
-            // Decode SenML pack
-            SenMLPack pack = decoder.fromSenML(content);
+            // Decode and resolve records
+            List<LwM2mResolvedSenMLRecord> resolvedRecords = decodeAndResolve(content, rootPath);
 
             Map<LwM2mPath, LwM2mNode> nodes = new HashMap<>();
             if (paths != null) {
-                // Resolve records & Group it by path
-                Map<LwM2mPath, Collection<LwM2mResolvedSenMLRecord>> recordsByPath = groupByPath(pack.getRecords(),
-                        paths, rootPath);
+                // Group records by path
+                Map<LwM2mPath, Collection<LwM2mResolvedSenMLRecord>> recordsByPath = groupResolvedRecordByPath(
+                        resolvedRecords, paths);
 
                 for (LwM2mPath path : paths) {
                     Collection<LwM2mResolvedSenMLRecord> records = recordsByPath.get(path);
@@ -141,7 +136,6 @@ public class LwM2mNodeSenMLDecoder implements TimestampedNodeDecoder, MultiNodeD
                         nodes.put(path, null);
                     } else {
                         validateNoTimestampedRecord(records);
-                        validateRootPath(records, rootPath);
                         LwM2mNode node = parseRecords(recordsByPath.get(path), path, model,
                                 DefaultLwM2mDecoder.nodeClassFromPath(path));
                         nodes.put(path, node);
@@ -150,10 +144,7 @@ public class LwM2mNodeSenMLDecoder implements TimestampedNodeDecoder, MultiNodeD
             } else {
                 // Paths are not given so we given so we can not regroup by path
                 // let's assume that each path refer to a single resource or single resource instances.
-                LwM2mSenMLResolver resolver = new LwM2mSenMLResolver();
-                for (SenMLRecord senMLRecord : pack.getRecords()) {
-                    LwM2mResolvedSenMLRecord resolvedRecord = resolver.resolve(senMLRecord);
-                    validateRootPath(resolvedRecord, rootPath);
+                for (LwM2mResolvedSenMLRecord resolvedRecord : resolvedRecords) {
                     validateNoTimestampedRecord(resolvedRecord);
 
                     LwM2mPath path = resolvedRecord.getPrefixedPath().getPath();
@@ -169,6 +160,34 @@ public class LwM2mNodeSenMLDecoder implements TimestampedNodeDecoder, MultiNodeD
         }
     }
 
+    /**
+     * Decode SenML records and resolve them.
+     * <p>
+     * If the {@link SenMLDecoder} is a {@link SenMLStreamDecoder}, records are resolved while payload is parsed and no
+     * {@link SenMLPack} is created.
+     */
+    protected List<LwM2mResolvedSenMLRecord> decodeAndResolve(byte[] content, String rootPath) throws SenMLException {
+        LwM2mSenMLResolver resolver = new LwM2mSenMLResolver();
+        if (decoder instanceof SenMLStreamDecoder) {
+            List<LwM2mResolvedSenMLRecord> resolvedRecords = new ArrayList<>();
+            ((SenMLStreamDecoder) decoder).fromSenML(content, record -> {
+                LwM2mResolvedSenMLRecord resolvedRecord = resolver.resolve(record);
+                validateRootPath(resolvedRecord, rootPath);
+                resolvedRecords.add(resolvedRecord);
+            });
+            return resolvedRecords;
+        } else {
+            List<SenMLRecord> records = decoder.fromSenML(content).getRecords();
+            List<LwM2mResolvedSenMLRecord> resolvedRecords = new ArrayList<>(records.size());
+            for (SenMLRecord record : records) {
+                LwM2mResolvedSenMLRecord resolvedRecord = resolver.resolve(record);
+                validateRootPath(resolvedRecord, rootPath);
+                resolvedRecords.add(resolvedRecord);
+            }
+            return resolvedRecords;
+        }
+    }
+
     protected void validateNoTimestampedRecord(Collection<LwM2mResolvedSenMLRecord> resolvedRecords) {
         for (LwM2mResolvedSenMLRecord resolvedRecord : resolvedRecords) {
             validateNoTimestampedRecord(resolvedRecord);
@@ -199,12 +218,12 @@ public class LwM2mNodeSenMLDecoder implements TimestampedNodeDecoder, MultiNodeD
     public List<TimestampedLwM2mNode> decodeTimestampedData(byte[] content, String rootPath, LwM2mPath path,
             LwM2mModel model, Class<? extends LwM2mNode> nodeClass) throws CodecException {
         try {
-            // Decode SenML pack
-            SenMLPack pack = decoder.fromSenML(content);
+            // Decode and resolve records
+            List<LwM2mResolvedSenMLRecord> resolvedRecords = decodeAndResolve(content, rootPath);
 
-            // Resolve records & Group it by time-stamp
+            // Group records by time-stamp
             Map<BigDecimal, Collection<LwM2mResolvedSenMLRecord>> recordsByTimestamp = groupRecordByTimestamp(
-                    pack.getRecords(), path, rootPath);
+                    resolvedRecords, path);
 
             // Fill time-stamped nodes collection
             List<TimestampedLwM2mNode> timestampedNodes = new ArrayList<>();
@@ -226,8 +245,8 @@ public class LwM2mNodeSenMLDecoder implements TimestampedNodeDecoder, MultiNodeD
     public TimestampedLwM2mNodes decodeTimestampedNodes(byte[] content, String rootPath, List<LwM2mPath> paths,
             LwM2mModel model) throws CodecException {
         try {
-            // Decode SenML pack
-            SenMLPack pack = decoder.fromSenML(content);
+            // Decode and resolve records
+            List<LwM2mResolvedSenMLRecord> resolvedRecords = decodeAndResolve(content, rootPath);
 
             TimestampedLwM2mNodes.Builder nodes;
 
@@ -236,7 +255,7 @@ public class LwM2mNodeSenMLDecoder implements TimestampedNodeDecoder, MultiNodeD
 
                 // Group by time-stamp
                 SortedMap<BigDecimal, Collection<LwM2mResolvedSenMLRecord>> recordsByTimestamp = groupRecordByTimestamp(
-                        pack.getRecords(), null, rootPath);
+                        resolvedRecords, null);
 
                 // For each time-stamp
                 for (Entry<BigDecimal, Collection<LwM2mResolvedSenMLRecord>> entryByTimestamp : recordsByTimestamp
@@ -264,10 +283,7 @@ public class LwM2mNodeSenMLDecoder implements TimestampedNodeDecoder, MultiNodeD
                 }
             } else {
                 nodes = TimestampedLwM2mNodes.builder();
-                LwM2mSenMLResolver resolver = new LwM2mSenMLResolver();
-                for (SenMLRecord senMLRecord : pack.getRecords()) {
-                    LwM2mResolvedSenMLRecord resolvedRecord = resolver.resolve(senMLRecord);
-                    validateRootPath(resolvedRecord, rootPath);
+                for (LwM2mResolvedSenMLRecord resolvedRecord : resolvedRecords) {
                     LwM2mPath path = resolvedRecord.getPath();
                     LwM2mNode node = parseRecords(Arrays.asList(resolvedRecord), path, model,
                             DefaultLwM2mDecoder.nodeClassFromPath(path));
@@ -283,6 +299,36 @@ public class LwM2mNodeSenMLDecoder implements TimestampedNodeDecoder, MultiNodeD
         }
     }
 
+    /**
+     * Decode SenML content in a {@link LwM2mTimeSeries}. Each record is written directly in the time series, values of
+     * primitive types being stored without creating intermediate {@link LwM2mNode}.
+     */
+    public LwM2mTimeSeries decodeTimeSeries(byte[] content, String rootPath, LwM2mModel model) throws CodecException {
+        try {
+            // Decode and resolve records
+            List<LwM2mResolvedSenMLRecord> resolvedRecords = decodeAndResolve(content, rootPath);
+
+            LwM2mTimeSeries.Builder timeSeries = LwM2mTimeSeries.builder();
+            for (LwM2mResolvedSenMLRecord resolvedRecord : resolvedRecords) {
+                LwM2mPath path = resolvedRecord.getPath();
+                if (!path.isResourceInstance() && !path.isResource()) {
+                    throw new CodecException(INVALID_PATH_IT_SHOULD_BE_A_RESOURCE_OR_A_RESOURCE_INSTANCE_PATH,
+                            resolvedRecord.getName());
+                }
+                SenMLRecord record = resolvedRecord.getRecord();
+                Type type = getResourceType(path, model, record);
+                Object value = parseResourceValue(record.getResourceValue(), type, path);
+                long timestamp = LwM2mTimeSeries.toEpochNanos(TimestampUtil.fromSeconds(resolvedRecord.getTimeStamp()));
+                timeSeries.putValue(timestamp, path, type, value);
+            }
+            return timeSeries.build();
+
+        } catch (SenMLException | IllegalArgumentException | LwM2mNodeException e) {
+            String hexValue = content != null ? Hex.encodeHexString(content) : "";
+            throw new CodecException(e, "Unable to decode time series : %s", hexValue, e);
+        }
+    }
+
     /**
      * Parse records for a given LWM2M path.
      */
@@ -405,36 +451,6 @@ public class LwM2mNodeSenMLDecoder implements TimestampedNodeDecoder, MultiNodeD
         return node;
     }
 
-    /**
-     * Resolved record then group it by LwM2mPath
-     */
-    private Map<LwM2mPath, Collection<LwM2mResolvedSenMLRecord>> groupByPath(List<SenMLRecord> records,
-            List<LwM2mPath> paths, String rootPath) throws SenMLException {
-
-        // Prepare map result
-        Map<LwM2mPath, Collection<LwM2mResolvedSenMLRecord>> result = new HashMap<>(paths.size());
-        for (LwM2mPath path : paths) {
-            result.put(path, new ArrayList<>());
-        }
-
-        // Resolve record and add it to the map
-        LwM2mSenMLResolver resolver = new LwM2mSenMLResolver();
-        for (SenMLRecord senMLRecord : records) {
-            LwM2mResolvedSenMLRecord resolvedRecord = resolver.resolve(senMLRecord);
-            validateRootPath(resolvedRecord, rootPath);
-
-            // Find the corresponding path for this record.
-            LwM2mPath selectedPath = selectPath(resolvedRecord.getPath(), paths);
-            if (selectedPath == null) {
-                throw new CodecException("Invalid path [%s] for resource, it should start by one of %s",
-                        resolvedRecord.getPrefixedPath(), paths);
-            }
-
-            result.get(selectedPath).add(resolvedRecord);
-        }
-        return result;
-    }
-
     /**
      * Group Resolved Record by LwM2mPath
      */
@@ -477,7 +493,7 @@ public class LwM2mNodeSenMLDecoder implements TimestampedNodeDecoder, MultiNodeD
     }
 
     /**
-     * Resolved record then group it by time-stamp
+     * Group resolved records by time-stamp
      *
      * @param records list of records to group
      * @param requestPath If not <code>null</code> then all record should belong to this path
@@ -485,7 +501,7 @@ public class LwM2mNodeSenMLDecoder implements TimestampedNodeDecoder, MultiNodeD
      *         place). If null time-stamp (meaning no time information) exists it always at first place.
      */
     private SortedMap<BigDecimal, Collection<LwM2mResolvedSenMLRecord>> groupRecordByTimestamp(
-            List<SenMLRecord> records, LwM2mPath requestPath, String rootPath) throws SenMLException {
+            List<LwM2mResolvedSenMLRecord> records, LwM2mPath requestPath) {
         SortedMap<BigDecimal, Collection<LwM2mResolvedSenMLRecord>> result = new TreeMap<>((o1, o2) -> {
             // null at first place
             if (o1 == null) {
@@ -497,13 +513,8 @@ public class LwM2mNodeSenMLDecoder implements TimestampedNodeDecoder, MultiNodeD
             }
         });
 
-        LwM2mSenMLResolver resolver = new LwM2mSenMLResolver();
-        for (SenMLRecord senMLRecord : records) {
-            LwM2mResolvedSenMLRecord resolvedRecord = resolver.resolve(senMLRecord);
-
+        for (LwM2mResolvedSenMLRecord resolvedRecord : records) {
             // Validate SenML resolved name
-            validateRootPath(resolvedRecord, rootPath);
-
             if (!resolvedRecord.getPath().isResourceInstance() && !resolvedRecord.getPath().isResource()) {
                 throw new CodecException(INVALID_PATH_IT_SHOULD_BE_A_RESOURCE_OR_A_RESOURCE_INSTANCE_PATH,
                         resolvedRecord.getName());
@@ -35,6 +35,8 @@ import org.eclipse.leshan.core.node.LwM2mPath;
 import org.eclipse.leshan.core.node.LwM2mResource;
 import org.eclipse.leshan.core.node.LwM2mResourceInstance;
 import org.eclipse.leshan.core.node.LwM2mRoot;
+import org.eclipse.leshan.core.node.LwM2mTimeSeries;
+import org.eclipse.leshan.core.node.LwM2mTimeSeries.Column;
 import org.eclipse.leshan.core.node.ObjectLink;
 import org.eclipse.leshan.core.node.TimestampedLwM2mNode;
 import org.eclipse.leshan.core.node.TimestampedLwM2mNodes;
@@ -45,6 +47,7 @@ import org.eclipse.leshan.core.node.codec.TimestampedMultiNodeEncoder;
 import org.eclipse.leshan.core.node.codec.TimestampedNodeEncoder;
 import org.eclipse.leshan.core.util.TimestampUtil;
 import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.core.util.datatype.ULong;
 import org.eclipse.leshan.senml.SenMLEncoder;
 import org.eclipse.leshan.senml.SenMLException;
 import org.eclipse.leshan.senml.SenMLPack;
@@ -215,6 +218,95 @@ public class LwM2mNodeSenMLEncoder implements TimestampedNodeEncoder, MultiNodeE
         }
     }
 
+    /**
+     * Encode a {@link LwM2mTimeSeries}. Values stored as primitive are written without creating intermediate
+     * {@link LwM2mNode}.
+     * <p>
+     * Samples without timestamp are encoded first as a SenML base time applies to all following records.
+     */
+    public byte[] encodeTimeSeries(String rootPath, LwM2mTimeSeries timeSeries, LwM2mModel model,
+            LwM2mValueConverter converter) throws CodecException {
+        Validate.notEmpty(timeSeries.getColumns());
+
+        SenMLPack pack = new SenMLPack();
+        for (Column column : timeSeries.getColumns()) {
+            int last = column.size() - 1;
+            if (column.getTimestamp(last) == LwM2mTimeSeries.NO_TIMESTAMP) {
+                addTimeSeriesSample(pack, rootPath, column, last, model, converter);
+            }
+        }
+        for (Column column : timeSeries.getColumns()) {
+            for (int i = 0; i < column.size() && column.getTimestamp(i) != LwM2mTimeSeries.NO_TIMESTAMP; i++) {
+                addTimeSeriesSample(pack, rootPath, column, i, model, converter);
+            }
+        }
+
+        try {
+            return encoder.toSenML(pack);
+        } catch (SenMLException e) {
+            throw new CodecException(e, "Unable to encode time series: %s", timeSeries);
+        }
+    }
+
+    private void addTimeSeriesSample(SenMLPack pack, String rootPath, Column column, int index, LwM2mModel model,
+            LwM2mValueConverter converter) {
+        // like for Read-Composite, we just ignore missing value
+        if (column.isNull(index)) {
+            return;
+        }
+        LwM2mPath path = column.getPath();
+        long timestamp = column.getTimestamp(index);
+        BigDecimal baseTime = timestamp == LwM2mTimeSeries.NO_TIMESTAMP ? null
+                : TimestampUtil.fromEpochNanos(timestamp);
+
+        ResourceModel rSpec = column.isPrimitive() ? model.getResourceModel(path.getObjectId(), path.getResourceId())
+                : null;
+        if (column.isPrimitive() && (rSpec == null || rSpec.type == column.getType())) {
+            // fast path : value does not need to be converted
+            Number numberValue = null;
+            Boolean booleanValue = null;
+            switch (column.getType()) {
+            case FLOAT:
+                numberValue = column.getDouble(index);
+                break;
+            case INTEGER:
+                numberValue = column.getLong(index);
+                break;
+            case UNSIGNED_INTEGER:
+                numberValue = ULong.valueOf(column.getLong(index));
+                break;
+            case TIME:
+                numberValue = column.getLong(index) / 1000L;
+                break;
+            default:
+                // BOOLEAN
+                booleanValue = column.getLong(index) != 0;
+                break;
+            }
+            String baseName = rootPath != null ? rootPath + path : path.toString();
+            pack.addRecord(new SenMLRecord(baseName, baseTime, "", null, numberValue, booleanValue, null, null, null));
+        } else {
+            InternalEncoder internalEncoder = new InternalEncoder();
+            internalEncoder.objectId = path.getObjectId();
+            internalEncoder.model = model;
+            internalEncoder.rootPath = rootPath;
+            internalEncoder.requestPath = path;
+            internalEncoder.converter = converter;
+            internalEncoder.records = new ArrayList<>();
+            column.getNode(index).accept(internalEncoder);
+
+            List<SenMLRecord> records = internalEncoder.records;
+            if (!records.isEmpty()) {
+                SenMLRecord record = records.get(0);
+                records.set(0,
+                        new SenMLRecord(record.getBaseName(), baseTime, record.getName(), record.getTime(),
+                                record.getNumberValue(), record.getBooleanValue(), record.getObjectLinkValue(),
+                                record.getStringValue(), record.getOpaqueValue()));
+                pack.addRecords(records);
+            }
+        }
+    }
+
     private class InternalEncoder implements LwM2mNodeVisitor {
         // visitor inputs
         private Integer objectId;
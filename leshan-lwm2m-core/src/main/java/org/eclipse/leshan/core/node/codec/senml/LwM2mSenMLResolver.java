@@ -16,6 +16,8 @@
 package org.eclipse.leshan.core.node.codec.senml;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.eclipse.leshan.core.node.InvalidLwM2mPathException;
 import org.eclipse.leshan.core.node.PrefixedLwM2mPath;
@@ -30,6 +32,7 @@ import org.eclipse.leshan.senml.SenMLResolver;
 public class LwM2mSenMLResolver extends SenMLResolver<LwM2mResolvedSenMLRecord> {
 
     private final PrefixedLwM2mPathParser pathParser;
+    private final Map<String, PrefixedLwM2mPath> parsedPaths = new HashMap<>();
 
     public LwM2mSenMLResolver() {
         this(new PrefixedLwM2mPathParser());
@@ -43,7 +46,12 @@ public class LwM2mSenMLResolver extends SenMLResolver<LwM2mResolvedSenMLRecord>
     protected LwM2mResolvedSenMLRecord createResolvedRecord(SenMLRecord unresolvedRecord, String resolvedName,
             BigDecimal resolvedTimestamp) throws SenMLException {
         try {
-            PrefixedLwM2mPath path = pathParser.parsePrefixedPath(resolvedName);
+            // Payloads with timestamped values often repeat same names, so avoid to parse them several times.
+            PrefixedLwM2mPath path = resolvedName == null ? null : parsedPaths.get(resolvedName);
+            if (path == null) {
+                path = pathParser.parsePrefixedPath(resolvedName);
+                parsedPaths.put(resolvedName, path);
+            }
             return new LwM2mResolvedSenMLRecord(unresolvedRecord, resolvedName, path, resolvedTimestamp);
         } catch (InvalidLwM2mPathException e) {
             throw new SenMLException(e, "Unable to resolve record, invalid path", resolvedName);
@@ -39,10 +39,10 @@ import org.eclipse.leshan.core.node.LwM2mResourceInstance;
 import org.eclipse.leshan.core.node.LwM2mSingleResource;
 import org.eclipse.leshan.core.node.codec.CodecException;
 import org.eclipse.leshan.core.node.codec.NodeDecoder;
-import org.eclipse.leshan.core.tlv.Tlv;
 import org.eclipse.leshan.core.tlv.Tlv.TlvType;
 import org.eclipse.leshan.core.tlv.TlvDecoder;
 import org.eclipse.leshan.core.tlv.TlvException;
+import org.eclipse.leshan.core.tlv.TlvReader;
 import org.eclipse.leshan.core.util.Hex;
 import org.eclipse.leshan.core.util.datatype.ULong;
 import org.slf4j.Logger;
@@ -71,47 +71,65 @@ public class LwM2mNodeTlvDecoder implements NodeDecoder {
     @Override
     public <T extends LwM2mNode> T decode(byte[] content, String rootPath, LwM2mPath path, LwM2mModel model,
             Class<T> nodeClass) throws CodecException {
+        ByteBuffer input = ByteBuffer.wrap(content != null ? content : new byte[0]);
         try {
-            Tlv[] tlvs = TlvDecoder.decode(ByteBuffer.wrap(content != null ? content : new byte[0]));
-            return parseTlv(tlvs, path, model, nodeClass);
+            return parseTlv(input, path, model, nodeClass);
         } catch (TlvException | LwM2mNodeException | InvalidLwM2mPathException e) {
-            throw new CodecException(String.format("Unable to decode tlv for path [%s]", path), e);
+            throw new CodecException(
+                    String.format("Unable to decode tlv for path [%s] : %s", path, Hex.encodeHexString(input.array())),
+                    e);
         }
     }
 
+    /**
+     * @return a reader positioned on the TLV of the given content if it contains exactly one TLV, <code>null</code>
+     *         otherwise.
+     */
+    private TlvReader single(ByteBuffer content) throws TlvException {
+        TlvReader reader = new TlvReader(content);
+        if (!reader.hasNext())
+            return null;
+        reader.next();
+        return reader.hasNext() ? null : reader;
+    }
+
     @SuppressWarnings("unchecked")
-    private <T extends LwM2mNode> T parseTlv(Tlv[] tlvs, LwM2mPath path, LwM2mModel model, Class<T> nodeClass)
-            throws CodecException {
-        LOG.trace("Parsing TLV content for path {}: {}", path, tlvs);
+    private <T extends LwM2mNode> T parseTlv(ByteBuffer content, LwM2mPath path, LwM2mModel model, Class<T> nodeClass)
+            throws CodecException, TlvException {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Parsing TLV content for path {}: {}", path, Hex.encodeHexString(content.array()));
+        }
 
         // Object
         if (nodeClass == LwM2mObject.class) {
-            Map<Integer, LwM2mObjectInstance> instances = new HashMap<>(tlvs.length);
+            Map<Integer, LwM2mObjectInstance> instances = new HashMap<>();
 
             // is it an array of TLV resources?
-            if (tlvs.length > 0 && //
-                    (tlvs[0].getType() == TlvType.MULTIPLE_RESOURCE || tlvs[0].getType() == TlvType.RESOURCE_VALUE)) {
+            TlvReader reader = new TlvReader(content);
+            if (reader.hasNext() && //
+                    (reader.peekType() == TlvType.MULTIPLE_RESOURCE || reader.peekType() == TlvType.RESOURCE_VALUE)) {
 
                 ObjectModel oModel = model.getObjectModel(path.getObjectId());
                 if (oModel == null) {
                     LOG.warn("No model for object {}. The tlv is decoded assuming this is a single instance object",
                             path.getObjectId());
-                    instances.put(0, parseObjectInstanceTlv(tlvs, path.getObjectId(), 0, model));
+                    instances.put(0, parseObjectInstanceTlv(reader, path.getObjectId(), 0, model));
                 } else if (!oModel.multiple) {
-                    instances.put(0, parseObjectInstanceTlv(tlvs, path.getObjectId(), 0, model));
+                    instances.put(0, parseObjectInstanceTlv(reader, path.getObjectId(), 0, model));
                 } else {
                     // this is strange "create without instance ID" case ...
                     instances.put(LwM2mObjectInstance.UNDEFINED,
-                            parseObjectInstanceTlvWithoutId(tlvs, path.getObjectId(), model));
+                            parseObjectInstanceTlvWithoutId(reader, path.getObjectId(), model));
                 }
             } else {
-                for (Tlv tlv : tlvs) {
-                    if (tlv.getType() != TlvType.OBJECT_INSTANCE)
+                while (reader.hasNext()) {
+                    reader.next();
+                    if (reader.getType() != TlvType.OBJECT_INSTANCE)
                         throw new CodecException("Expected TLV of type OBJECT_INSTANCE but was %s  [path:%s]",
-                                tlv.getType().name(), path);
+                                reader.getType().name(), path);
 
-                    LwM2mObjectInstance objectInstance = parseObjectInstanceTlv(tlv.getChildren(), path.getObjectId(),
-                            tlv.getIdentifier(), model);
+                    LwM2mObjectInstance objectInstance = parseObjectInstanceTlv(reader.getChildren(),
+                            path.getObjectId(), reader.getIdentifier(), model);
                     LwM2mObjectInstance previousObjectInstance = instances.put(objectInstance.getId(), objectInstance);
                     if (previousObjectInstance != null) {
                         throw new CodecException(
@@ -126,13 +144,14 @@ public class LwM2mNodeTlvDecoder implements NodeDecoder {
         // Object instance
         else if (nodeClass == LwM2mObjectInstance.class) {
 
-            if (tlvs.length == 1 && tlvs[0].getType() == TlvType.OBJECT_INSTANCE) {
-                if (path.isObjectInstance() && tlvs[0].getIdentifier() != path.getObjectInstanceId()) {
+            TlvReader single = single(content);
+            if (single != null && single.getType() == TlvType.OBJECT_INSTANCE) {
+                if (path.isObjectInstance() && single.getIdentifier() != path.getObjectInstanceId()) {
                     throw new CodecException("Id conflict between path [%s] and instance TLV [object instance id=%d]",
-                            path, tlvs[0].getIdentifier());
+                            path, single.getIdentifier());
                 }
                 // object instance TLV
-                return (T) parseObjectInstanceTlv(tlvs[0].getChildren(), path.getObjectId(), tlvs[0].getIdentifier(),
+                return (T) parseObjectInstanceTlv(single.getChildren(), path.getObjectId(), single.getIdentifier(),
                         model);
             } else {
                 // array of TLV resources
@@ -142,13 +161,13 @@ public class LwM2mNodeTlvDecoder implements NodeDecoder {
                     // single instance object?
                     ObjectModel oModel = model.getObjectModel(path.getObjectId());
                     if (oModel != null && !oModel.multiple) {
-                        return (T) parseObjectInstanceTlv(tlvs, path.getObjectId(), 0, model);
+                        return (T) parseObjectInstanceTlv(new TlvReader(content), path.getObjectId(), 0, model);
                     } else {
                         throw new CodecException(
                                 "Object instance id is mandatory for multiple instances object [path:%s]", path);
                     }
                 } else {
-                    return (T) parseObjectInstanceTlv(tlvs, path.getObjectId(), instanceId, model);
+                    return (T) parseObjectInstanceTlv(new TlvReader(content), path.getObjectId(), instanceId, model);
                 }
             }
         }
@@ -157,63 +176,67 @@ public class LwM2mNodeTlvDecoder implements NodeDecoder {
         else if (nodeClass == LwM2mResource.class) {
             // The object instance level should not be here, but if it is provided and
             // consistent we tolerate it
-            if (tlvs.length == 1 && tlvs[0].getType() == TlvType.OBJECT_INSTANCE) {
-                if (tlvs[0].getIdentifier() != path.getObjectInstanceId()) {
+            TlvReader single = single(content);
+            if (single != null && single.getType() == TlvType.OBJECT_INSTANCE) {
+                if (single.getIdentifier() != path.getObjectInstanceId()) {
                     throw new CodecException("Id conflict between path [%s] and instance TLV [object instance id=%d]",
-                            path, tlvs[0].getIdentifier());
+                            path, single.getIdentifier());
                 }
-                tlvs = tlvs[0].getChildren();
+                content = single.getValueBuffer();
+                single = single(content);
             }
 
             ResourceModel resourceModel = model.getResourceModel(path.getObjectId(), path.getResourceId());
-            if (tlvs.length == 0 && resourceModel != null && !resourceModel.multiple) {
+            if (!content.hasRemaining() && resourceModel != null && !resourceModel.multiple) {
                 // If there is no TlV value and we know that this resource is a single resource
                 // we raise an exception
                 // else we consider this is a multi-instance resource
                 throw new CodecException("TLV payload is mandatory for single resource %s", path);
-            } else if (tlvs.length == 1 && tlvs[0].getType() != TlvType.RESOURCE_INSTANCE) {
-                Tlv tlv = tlvs[0];
-                if (tlv.getType() != TlvType.RESOURCE_VALUE && tlv.getType() != TlvType.MULTIPLE_RESOURCE) {
+            } else if (single != null && single.getType() != TlvType.RESOURCE_INSTANCE) {
+                if (single.getType() != TlvType.RESOURCE_VALUE && single.getType() != TlvType.MULTIPLE_RESOURCE) {
                     throw new CodecException(
                             "Expected TLV of type RESOURCE_VALUE or MUlTIPLE_RESOURCE but was %s [path:%s]",
-                            tlv.getType().name(), path);
+                            single.getType().name(), path);
                 }
-                if (path.isResource() && path.getResourceId() != tlv.getIdentifier()) {
+                if (path.isResource() && path.getResourceId() != single.getIdentifier()) {
                     throw new CodecException("Id conflict between path [%s] and resource TLV [resource id=%s]", path,
-                            tlv.getIdentifier());
+                            single.getIdentifier());
                 }
-                return (T) parseResourceTlv(tlv, path, model);
+                return (T) parseResourceTlv(single, path, model);
             } else {
                 Type expectedRscType = getResourceType(path, model);
-                return (T) parseResourceInstancesTlv(tlvs, path, expectedRscType);
+                return (T) parseResourceInstancesTlv(new TlvReader(content), path, expectedRscType);
             }
         }
 
         // Resource Instance
         else if (nodeClass == LwM2mResourceInstance.class) {
-            if (tlvs.length == 0) {
+            TlvReader reader = new TlvReader(content);
+            if (!reader.hasNext()) {
                 throw new CodecException("TLV payload is mandatory for resource instance %s", path);
-            } else if (tlvs.length > 1) {
+            }
+            reader.next();
+            if (reader.hasNext()) {
                 throw new CodecException("TLV payload must contain only 1 resource instance for %s", path);
             } else {
-                Tlv tlv = tlvs[0];
-                if (path.isResourceInstance() && path.getResourceInstanceId() != tlv.getIdentifier()) {
+                if (path.isResourceInstance() && path.getResourceInstanceId() != reader.getIdentifier()) {
                     throw new CodecException("Id conflict between path [%s] and resource instance TLV [resource id=%s]",
-                            path, tlv.getIdentifier());
+                            path, reader.getIdentifier());
                 }
                 Type expectedType = getResourceType(path, model);
-                return (T) parseResourceInstanceTlv(tlv, path, expectedType);
+                return (T) parseResourceInstanceTlv(reader, path, expectedType);
             }
         }
         throw new IllegalArgumentException("invalid node class: " + nodeClass);
     }
 
-    private LwM2mObjectInstance parseObjectInstanceTlv(Tlv[] rscTlvs, int objectId, int instanceId, LwM2mModel model)
-            throws CodecException {
-        Map<Integer, LwM2mResource> resources = new HashMap<>(rscTlvs.length);
-        for (Tlv rscTlv : rscTlvs) {
-            LwM2mPath resourcePath = new LwM2mPath(objectId, instanceId, rscTlv.getIdentifier());
-            LwM2mResource resource = parseResourceTlv(rscTlv, resourcePath, model);
+    private LwM2mObjectInstance parseObjectInstanceTlv(TlvReader reader, int objectId, int instanceId, LwM2mModel model)
+            throws CodecException, TlvException {
+        Map<Integer, LwM2mResource> resources = new HashMap<>();
+        while (reader.hasNext()) {
+            reader.next();
+            LwM2mPath resourcePath = new LwM2mPath(objectId, instanceId, reader.getIdentifier());
+            LwM2mResource resource = parseResourceTlv(reader, resourcePath, model);
             LwM2mResource previousResource = resources.put(resource.getId(), resource);
             if (previousResource != null) {
                 throw new CodecException("2 RESOURCE nodes (%s,%s) with the same identifier %d for path %s",
@@ -224,12 +247,13 @@ public class LwM2mNodeTlvDecoder implements NodeDecoder {
 
     }
 
-    private LwM2mObjectInstance parseObjectInstanceTlvWithoutId(Tlv[] rscTlvs, int objectId, LwM2mModel model)
-            throws CodecException {
-        Map<Integer, LwM2mResource> resources = new HashMap<>(rscTlvs.length);
-        for (Tlv rscTlv : rscTlvs) {
-            LwM2mPath resourcePath = new LwM2mIncompletePath(objectId, rscTlv.getIdentifier());
-            LwM2mResource resource = parseResourceTlv(rscTlv, resourcePath, model);
+    private LwM2mObjectInstance parseObjectInstanceTlvWithoutId(TlvReader reader, int objectId, LwM2mModel model)
+            throws CodecException, TlvException {
+        Map<Integer, LwM2mResource> resources = new HashMap<>();
+        while (reader.hasNext()) {
+            reader.next();
+            LwM2mPath resourcePath = new LwM2mIncompletePath(objectId, reader.getIdentifier());
+            LwM2mResource resource = parseResourceTlv(reader, resourcePath, model);
             LwM2mResource previousResource = resources.put(resource.getId(), resource);
             if (previousResource != null) {
                 throw new CodecException("2 RESOURCE nodes (%s,%s) with the same identifier %d for path %s",
@@ -239,48 +263,56 @@ public class LwM2mNodeTlvDecoder implements NodeDecoder {
         return new LwM2mObjectInstance(resources.values());
     }
 
-    private LwM2mResource parseResourceTlv(Tlv tlv, LwM2mPath resourcePath, LwM2mModel model) throws CodecException {
+    /**
+     * Parse the current TLV of the given reader as a resource.
+     */
+    private LwM2mResource parseResourceTlv(TlvReader reader, LwM2mPath resourcePath, LwM2mModel model)
+            throws CodecException, TlvException {
         Type expectedType = getResourceType(resourcePath, model);
-        Integer resourceId = tlv.getIdentifier();
-        switch (tlv.getType()) {
+        Integer resourceId = reader.getIdentifier();
+        switch (reader.getType()) {
         case MULTIPLE_RESOURCE:
-            return parseResourceInstancesTlv(tlv.getChildren(), resourcePath, expectedType);
+            return parseResourceInstancesTlv(reader.getChildren(), resourcePath, expectedType);
         case RESOURCE_VALUE:
             return LwM2mSingleResource.newResource(resourceId,
-                    parseTlvValue(tlv.getValue(), expectedType, resourcePath), expectedType);
+                    parseTlvValue(reader.getValue(), expectedType, resourcePath), expectedType);
         default:
-            throw new CodecException("Invalid TLV type %s for resource %s", tlv.getType(), resourcePath);
+            throw new CodecException("Invalid TLV type %s for resource %s", reader.getType(), resourcePath);
         }
     }
 
-    private LwM2mMultipleResource parseResourceInstancesTlv(Tlv[] tlvs, LwM2mPath resourcePath, Type expectedType)
-            throws CodecException {
-        Map<Integer, LwM2mResourceInstance> instances = new HashMap<>(tlvs.length);
-        for (Tlv tlvChild : tlvs) {
-            if (tlvChild.getType() != TlvType.RESOURCE_INSTANCE)
+    private LwM2mMultipleResource parseResourceInstancesTlv(TlvReader reader, LwM2mPath resourcePath, Type expectedType)
+            throws CodecException, TlvException {
+        Map<Integer, LwM2mResourceInstance> instances = new HashMap<>();
+        while (reader.hasNext()) {
+            reader.next();
+            if (reader.getType() != TlvType.RESOURCE_INSTANCE)
                 throw new CodecException("Expected TLV of type RESOURCE_INSTANCE but was %s for path %s",
-                        tlvChild.getType().name(), resourcePath.append(tlvChild.getIdentifier()));
+                        reader.getType().name(), resourcePath.append(reader.getIdentifier()));
 
-            LwM2mResourceInstance resourceInstance = parseResourceInstanceTlv(tlvChild,
-                    resourcePath.append(tlvChild.getIdentifier()), expectedType);
-            LwM2mResourceInstance previousResourceInstance = instances.put(tlvChild.getIdentifier(), resourceInstance);
+            LwM2mResourceInstance resourceInstance = parseResourceInstanceTlv(reader,
+                    resourcePath.append(reader.getIdentifier()), expectedType);
+            LwM2mResourceInstance previousResourceInstance = instances.put(reader.getIdentifier(), resourceInstance);
             if (previousResourceInstance != null) {
                 throw new CodecException("2 RESOURCE_INSTANCE nodes (%s,%s) with the same identifier %d for path %s",
-                        previousResourceInstance, resourceInstance, tlvChild.getIdentifier(), resourcePath);
+                        previousResourceInstance, resourceInstance, reader.getIdentifier(), resourcePath);
             }
         }
         return new LwM2mMultipleResource(resourcePath.getResourceId(), expectedType, instances.values());
     }
 
-    private LwM2mResourceInstance parseResourceInstanceTlv(Tlv tlv, LwM2mPath resourceInstancePath, Type expectedType)
-            throws CodecException {
-        Integer resourceInstanceId = tlv.getIdentifier();
-        if (tlv.getType() != TlvType.RESOURCE_INSTANCE) {
-            throw new CodecException("Expected TLV of type RESOURCE_INSTANCE but was %s for path %s", tlv.getType(),
+    /**
+     * Parse the current TLV of the given reader as a resource instance.
+     */
+    private LwM2mResourceInstance parseResourceInstanceTlv(TlvReader reader, LwM2mPath resourceInstancePath,
+            Type expectedType) throws CodecException {
+        Integer resourceInstanceId = reader.getIdentifier();
+        if (reader.getType() != TlvType.RESOURCE_INSTANCE) {
+            throw new CodecException("Expected TLV of type RESOURCE_INSTANCE but was %s for path %s", reader.getType(),
                     resourceInstancePath);
         } else {
             return LwM2mResourceInstance.newInstance(resourceInstanceId,
-                    parseTlvValue(tlv.getValue(), expectedType, resourceInstancePath), expectedType);
+                    parseTlvValue(reader.getValue(), expectedType, resourceInstancePath), expectedType);
         }
 
     }
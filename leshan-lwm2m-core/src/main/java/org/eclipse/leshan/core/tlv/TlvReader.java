@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.tlv;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.eclipse.leshan.core.tlv.Tlv.TlvType;
+
+/**
+ * A cursor over TLV encoded content.
+ * <p>
+ * Unlike {@link TlvDecoder#decode(ByteBuffer)}, no {@link Tlv} tree is created : {@link #next()} reads the header of
+ * the next TLV, then its value can be read with {@link #getValue()} or its children can be iterated with
+ * {@link #getChildren()}, which is a view on the same content. Content is never copied, except by {@link #getValue()}.
+ *
+ * <pre>
+ * TlvReader reader = new TlvReader(buffer);
+ * while (reader.hasNext()) {
+ *     reader.next();
+ *     if (reader.getType() == TlvType.OBJECT_INSTANCE) {
+ *         TlvReader children = reader.getChildren();
+ *         ...
+ *     } else {
+ *         byte[] value = reader.getValue();
+ *         ...
+ *     }
+ * }
+ * </pre>
+ */
+public class TlvReader {
+
+    private final ByteBuffer input;
+
+    // current TLV
+    private TlvType type;
+    private int identifier;
+    private int valueOffset;
+    private int length;
+
+    /**
+     * Creates a reader for the remaining content of the given buffer. The buffer itself is not modified.
+     */
+    public TlvReader(ByteBuffer input) {
+        this.input = input.slice().order(ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * @return <code>true</code> if there is another TLV to read.
+     */
+    public boolean hasNext() {
+        return input.hasRemaining();
+    }
+
+    /**
+     * @return the type of the next TLV, without moving to it.
+     * @throws TlvException if there is no more TLV to read.
+     */
+    public TlvType peekType() throws TlvException {
+        if (!input.hasRemaining()) {
+            throw new TlvException("No more TLV to read");
+        }
+        return toType(input.get(input.position()) & 0xFF);
+    }
+
+    /**
+     * Reads the header of the next TLV and skips its value.
+     *
+     * @throws TlvException if the header is invalid or if the value is longer than the remaining content.
+     */
+    public void next() throws TlvException {
+        if (!input.hasRemaining()) {
+            throw new TlvException("No more TLV to read");
+        }
+
+        // decode type
+        int typeByte = input.get() & 0xFF;
+        type = toType(typeByte);
+
+        // decode identifier
+        if ((typeByte & 0b0010_0000) == 0) {
+            if (input.remaining() < 1)
+                throw new TlvException("Invalid 'identifier' length");
+            identifier = input.get() & 0xFF;
+        } else {
+            if (input.remaining() < 2)
+                throw new TlvException("Invalid 'identifier' length");
+            identifier = input.getShort() & 0xFFFF;
+        }
+
+        // decode length
+        switch (typeByte & 0b0001_1000) {
+        case 0b0000_0000:
+            // 2 bit length
+            length = typeByte & 0b0000_0111;
+            break;
+        case 0b0000_1000:
+            // 8 bit length
+            if (input.remaining() < 1)
+                throw new TlvException("Invalid 'length' length");
+            length = input.get() & 0xFF;
+            break;
+        case 0b0001_0000:
+            // 16 bit length
+            if (input.remaining() < 2)
+                throw new TlvException("Invalid 'length' length");
+            length = input.getShort() & 0xFFFF;
+            break;
+        default:
+            // 24 bit length
+            if (input.remaining() < 3)
+                throw new TlvException("Invalid 'length' length");
+            int b = input.get() & 0x000000FF;
+            int s = input.getShort() & 0x0000FFFF;
+            length = (b << 16) | s;
+            break;
+        }
+
+        // skip value
+        if (input.remaining() < length) {
+            throw new TlvException("Invalid 'value' length");
+        }
+        valueOffset = input.position();
+        // HACK the cast is necessary for binary backward compatibility bug introduce in Java 9
+        // https://github.com/apache/felix/pull/114
+        ((Buffer) input).position(valueOffset + length);
+    }
+
+    private static TlvType toType(int typeByte) {
+        switch (typeByte & 0b1100_0000) {
+        case 0b0000_0000:
+            return TlvType.OBJECT_INSTANCE;
+        case 0b0100_0000:
+            return TlvType.RESOURCE_INSTANCE;
+        case 0b1000_0000:
+            return TlvType.MULTIPLE_RESOURCE;
+        default:
+            return TlvType.RESOURCE_VALUE;
+        }
+    }
+
+    /**
+     * @return the type of the current TLV.
+     */
+    public TlvType getType() {
+        return type;
+    }
+
+    /**
+     * @return the identifier of the current TLV.
+     */
+    public int getIdentifier() {
+        return identifier;
+    }
+
+    /**
+     * @return the length of the value of the current TLV.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * @return <code>true</code> if the current TLV contains a value, <code>false</code> if it contains other TLVs.
+     */
+    public boolean hasValue() {
+        return type == TlvType.RESOURCE_VALUE || type == TlvType.RESOURCE_INSTANCE;
+    }
+
+    /**
+     * @return a copy of the value of the current TLV.
+     */
+    public byte[] getValue() {
+        byte[] value = new byte[length];
+        if (input.hasArray()) {
+            System.arraycopy(input.array(), input.arrayOffset() + valueOffset, value, 0, length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                value[i] = input.get(valueOffset + i);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @return a view of the value of the current TLV, sharing the content of this reader.
+     */
+    public ByteBuffer getValueBuffer() {
+        ByteBuffer value = input.duplicate();
+        // HACK the cast is necessary for binary backward compatibility bug introduce in Java 9
+        // https://github.com/apache/felix/pull/114
+        ((Buffer) value).limit(valueOffset + length);
+        ((Buffer) value).position(valueOffset);
+        return value.slice();
+    }
+
+    /**
+     * @return a reader over the TLVs contained in the current TLV, sharing the content of this reader.
+     */
+    public TlvReader getChildren() {
+        ByteBuffer children = input.duplicate();
+        // HACK the cast is necessary for binary backward compatibility bug introduce in Java 9
+        // https://github.com/apache/felix/pull/114
+        ((Buffer) children).limit(valueOffset + length);
+        ((Buffer) children).position(valueOffset);
+        // children are sliced by constructor
+        return new TlvReader(children);
+    }
+}
@@ -0,0 +1,297 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.tlv;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+
+import org.eclipse.leshan.core.node.ObjectLink;
+import org.eclipse.leshan.core.tlv.Tlv.TlvType;
+
+/**
+ * Writes TLV encoded content in one pass, without building a {@link Tlv} tree.
+ * <p>
+ * Values are written with <code>writeXxx</code> methods. Containers (object instance and multiple resource) are opened
+ * with {@link #startObjectInstance(int)} or {@link #startMultipleResource(int)} and closed with {@link #end()} : the
+ * length of a container is back-patched in its header when it is closed.
+ * <p>
+ * The internal buffer grows as needed and is kept by {@link #reset()}, so a writer can be reused to encode several
+ * contents. A writer is not thread-safe.
+ *
+ * @see TlvEncoder
+ */
+public class TlvWriter {
+
+    private static final int MAX_LENGTH_8BIT = 256;
+    private static final int MAX_LENGTH_16BIT = 65_536;
+    private static final int MAX_LENGTH_24BIT = 16_777_216;
+
+    // room reserved for header of a container : type, 16 bits identifier and 24 bits length
+    private static final int MAX_HEADER_SIZE = 6;
+
+    private byte[] buffer;
+    private int position;
+
+    // offset of headers of opened containers
+    private int[] containers = new int[4];
+    private int depth;
+
+    public TlvWriter() {
+        this(64);
+    }
+
+    public TlvWriter(int initialCapacity) {
+        buffer = new byte[initialCapacity];
+    }
+
+    /**
+     * Discards written content, keeping the internal buffer.
+     */
+    public void reset() {
+        position = 0;
+        depth = 0;
+    }
+
+    /**
+     * @return the number of bytes written.
+     */
+    public int size() {
+        return position;
+    }
+
+    /**
+     * @return a copy of the written content.
+     * @throws IllegalStateException if a container is not closed.
+     */
+    public byte[] toByteArray() {
+        if (depth != 0) {
+            throw new IllegalStateException(depth + " TLV container(s) not closed");
+        }
+        return Arrays.copyOf(buffer, position);
+    }
+
+    // ********** Containers **********//
+
+    public void startObjectInstance(int identifier) {
+        start(0b00_000000, identifier);
+    }
+
+    public void startMultipleResource(int identifier) {
+        start(0b10_000000, identifier);
+    }
+
+    private void start(int typeByte, int identifier) {
+        if (depth == containers.length) {
+            containers = Arrays.copyOf(containers, depth * 2);
+        }
+        containers[depth++] = position;
+        ensureCapacity(MAX_HEADER_SIZE);
+        // write type and identifier now, length is written by end()
+        buffer[position] = (byte) typeByte;
+        position += MAX_HEADER_SIZE;
+        writeIdentifier(containers[depth - 1], identifier);
+    }
+
+    /**
+     * Closes the last opened container.
+     */
+    public void end() {
+        if (depth == 0) {
+            throw new IllegalStateException("No TLV container to close");
+        }
+        int headerOffset = containers[--depth];
+        int contentOffset = headerOffset + MAX_HEADER_SIZE;
+        int length = position - contentOffset;
+
+        int headerSize = headerSize(buffer[headerOffset] & 0b0010_0000, length);
+        writeLength(headerOffset, length);
+
+        // move content right after the real header
+        int shift = MAX_HEADER_SIZE - headerSize;
+        if (shift > 0) {
+            System.arraycopy(buffer, contentOffset, buffer, contentOffset - shift, length);
+            position -= shift;
+        }
+    }
+
+    // ********** Values **********//
+
+    /**
+     * Writes a raw value.
+     *
+     * @param type {@link TlvType#RESOURCE_VALUE} or {@link TlvType#RESOURCE_INSTANCE}
+     */
+    public void writeBytes(TlvType type, int identifier, byte[] value) {
+        writeValueHeader(type, identifier, value.length);
+        System.arraycopy(value, 0, buffer, position, value.length);
+        position += value.length;
+    }
+
+    /**
+     * Writes a string value, see {@link TlvEncoder#encodeString(String)}.
+     */
+    public void writeString(TlvType type, int identifier, String value) {
+        writeBytes(type, identifier, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes an integer value, see {@link TlvEncoder#encodeInteger(Number)}.
+     */
+    public void writeInteger(TlvType type, int identifier, long value) {
+        if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+            writeValueHeader(type, identifier, 1);
+            putLong(value, 1);
+        } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+            writeValueHeader(type, identifier, 2);
+            putLong(value, 2);
+        } else if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            writeValueHeader(type, identifier, 4);
+            putLong(value, 4);
+        } else {
+            writeValueHeader(type, identifier, 8);
+            putLong(value, 8);
+        }
+    }
+
+    /**
+     * Writes a floating point value, see {@link TlvEncoder#encodeFloat(Number)}.
+     */
+    public void writeFloat(TlvType type, int identifier, Number value) {
+        if (value instanceof Float) {
+            writeValueHeader(type, identifier, 4);
+            putLong(Float.floatToRawIntBits(value.floatValue()), 4);
+        } else {
+            writeValueHeader(type, identifier, 8);
+            putLong(Double.doubleToRawLongBits(value.doubleValue()), 8);
+        }
+    }
+
+    /**
+     * Writes a boolean value, see {@link TlvEncoder#encodeBoolean(boolean)}.
+     */
+    public void writeBoolean(TlvType type, int identifier, boolean value) {
+        writeValueHeader(type, identifier, 1);
+        buffer[position++] = (byte) (value ? 1 : 0);
+    }
+
+    /**
+     * Writes a date value, see {@link TlvEncoder#encodeDate(Date)}.
+     */
+    public void writeDate(TlvType type, int identifier, Date value) {
+        writeInteger(type, identifier, value.getTime() / 1000L);
+    }
+
+    /**
+     * Writes an object link value, see {@link TlvEncoder#encodeObjlnk(ObjectLink)}.
+     */
+    public void writeObjlnk(TlvType type, int identifier, ObjectLink value) {
+        writeValueHeader(type, identifier, 4);
+        putLong(value.getObjectId(), 2);
+        putLong(value.getObjectInstanceId(), 2);
+    }
+
+    // ********** Encoding **********//
+
+    private void writeValueHeader(TlvType type, int identifier, int length) {
+        int typeByte;
+        switch (type) {
+        case RESOURCE_INSTANCE:
+            typeByte = 0b01_000000;
+            break;
+        case RESOURCE_VALUE:
+            typeByte = 0b11_000000;
+            break;
+        default:
+            throw new IllegalArgumentException("TLV type " + type + " can not contain a value");
+        }
+        int identifierFlag = identifier < MAX_LENGTH_8BIT ? 0 : 0b0010_0000;
+        ensureCapacity(headerSize(identifierFlag, length) + length);
+
+        int headerOffset = position;
+        buffer[headerOffset] = (byte) typeByte;
+        writeIdentifier(headerOffset, identifier);
+        position = headerOffset + writeLength(headerOffset, length);
+    }
+
+    /**
+     * Writes identifier and its flag in header at given offset.
+     */
+    private void writeIdentifier(int headerOffset, int identifier) {
+        if (identifier < MAX_LENGTH_8BIT) {
+            buffer[headerOffset + 1] = (byte) identifier;
+        } else {
+            buffer[headerOffset] |= 0b0010_0000;
+            buffer[headerOffset + 1] = (byte) (identifier >> 8);
+            buffer[headerOffset + 2] = (byte) identifier;
+        }
+    }
+
+    /**
+     * Writes length and its type in header at given offset, identifier must already be written.
+     *
+     * @return the size of the header
+     */
+    private int writeLength(int headerOffset, int length) {
+        int offset = headerOffset + ((buffer[headerOffset] & 0b0010_0000) == 0 ? 2 : 3);
+        if (length < 8) {
+            buffer[headerOffset] |= length;
+        } else if (length < MAX_LENGTH_8BIT) {
+            buffer[headerOffset] |= 0b0000_1000;
+            buffer[offset++] = (byte) length;
+        } else if (length < MAX_LENGTH_16BIT) {
+            buffer[headerOffset] |= 0b0001_0000;
+            buffer[offset++] = (byte) (length >> 8);
+            buffer[offset++] = (byte) length;
+        } else {
+            buffer[headerOffset] |= 0b0001_1000;
+            buffer[offset++] = (byte) (length >> 16);
+            buffer[offset++] = (byte) (length >> 8);
+            buffer[offset++] = (byte) length;
+        }
+        return offset - headerOffset;
+    }
+
+    private static int headerSize(int identifierFlag, int length) {
+        int size = identifierFlag == 0 ? 2 : 3;
+        if (length < 8) {
+            return size;
+        } else if (length < MAX_LENGTH_8BIT) {
+            return size + 1;
+        } else if (length < MAX_LENGTH_16BIT) {
+            return size + 2;
+        } else if (length < MAX_LENGTH_24BIT) {
+            return size + 3;
+        } else {
+            throw new IllegalArgumentException("length should fit in max 24bits");
+        }
+    }
+
+    /**
+     * Writes the <code>size</code> lowest bytes of value in big endian.
+     */
+    private void putLong(long value, int size) {
+        for (int i = size - 1; i >= 0; i--) {
+            buffer[position++] = (byte) (value >> (8 * i));
+        }
+    }
+
+    private void ensureCapacity(int size) {
+        if (position + size > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + size));
+        }
+    }
+}
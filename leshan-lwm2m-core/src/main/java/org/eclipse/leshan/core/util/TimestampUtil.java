@@ -42,8 +42,26 @@ public class TimestampUtil {
             return null;
         }
 
-        BigDecimal decimalPoints = new BigDecimal(timestamp.getNano()).divide(new BigDecimal(1_000_000_000));
-        return BigDecimal.valueOf(timestamp.getEpochSecond()).add(decimalPoints);
+        return fromSeconds(timestamp.getEpochSecond(), timestamp.getNano());
+    }
+
+    /**
+     * <p>
+     * Converts a number of nanoseconds since epoch to a <code>BigDecimal</code> - its value represents epoch time in
+     * seconds with additional sub-second precision. This is the same value than {@link #fromInstant(Instant)} without
+     * creating an <code>Instant</code>.
+     * </p>
+     *
+     * @param epochNanos timestamp to be converted
+     * @return converted timestamp in seconds
+     */
+    public static BigDecimal fromEpochNanos(long epochNanos) {
+        return fromSeconds(Math.floorDiv(epochNanos, 1_000_000_000L), (int) Math.floorMod(epochNanos, 1_000_000_000L));
+    }
+
+    private static BigDecimal fromSeconds(long epochSecond, int nano) {
+        BigDecimal decimalPoints = new BigDecimal(nano).divide(new BigDecimal(1_000_000_000));
+        return BigDecimal.valueOf(epochSecond).add(decimalPoints);
     }
 
     /**
@@ -0,0 +1,547 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.util.cbor;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A streaming CBOR reader.
+ * <p>
+ * Data items are read one by one directly from a byte array, without building any intermediate object model, which
+ * makes it suitable to decode CBOR payload directly into application objects.
+ * <p>
+ * Typical usage is to call {@link #peekType()} to know the type of the next data item then call the corresponding
+ * <code>read*</code> method. Containers are read by reading their header ({@link #readArrayStart()},
+ * {@link #readMapStart()}) then their content. For indefinite length containers, content must be read until
+ * {@link #peekType()} returns {@link CborType#BREAK} then {@link #readBreak()} must be called.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc8949">RFC8949 - Concise Binary Object Representation</a>
+ */
+public class CborReader {
+
+    /** Length returned by {@link #readArrayStart()} and {@link #readMapStart()} for indefinite length containers. */
+    public static final int INDEFINITE_LENGTH = -1;
+
+    // tags for numbers, see https://datatracker.ietf.org/doc/html/rfc8949#section-3.4
+    public static final long TAG_POSITIVE_BIGNUM = 2;
+    public static final long TAG_NEGATIVE_BIGNUM = 3;
+    public static final long TAG_DECIMAL_FRACTION = 4;
+    public static final long TAG_BIGFLOAT = 5;
+
+    private static final int MAX_NESTING_DEPTH = 64;
+    // limit exponent of decimal fractions and bigfloats to avoid huge computation
+    private static final int MAX_EXPONENT = 10000;
+
+    private final byte[] data;
+    private final int end;
+    private int position;
+
+    public CborReader(byte[] data) {
+        this(data, 0, data.length);
+    }
+
+    public CborReader(byte[] data, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > data.length) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid offset %d or length %d for data of size %d", offset, length, data.length));
+        }
+        this.data = data;
+        this.position = offset;
+        this.end = offset + length;
+    }
+
+    /**
+     * @return <code>true</code> if there is still some data to read.
+     */
+    public boolean hasRemaining() {
+        return position < end;
+    }
+
+    /**
+     * @return the position of the next byte to read in the underlying byte array.
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * @return the type of the next data item without consuming it.
+     */
+    public CborType peekType() throws CborException {
+        ensureAvailable(1);
+        int initialByte = data[position] & 0xFF;
+        switch (initialByte >>> 5) {
+        case 0:
+            return CborType.UNSIGNED_INTEGER;
+        case 1:
+            return CborType.NEGATIVE_INTEGER;
+        case 2:
+            return CborType.BYTE_STRING;
+        case 3:
+            return CborType.TEXT_STRING;
+        case 4:
+            return CborType.ARRAY;
+        case 5:
+            return CborType.MAP;
+        case 6:
+            return CborType.TAG;
+        default:
+            switch (initialByte & 0x1F) {
+            case 20:
+            case 21:
+                return CborType.BOOLEAN;
+            case 22:
+                return CborType.NULL;
+            case 23:
+                return CborType.UNDEFINED;
+            case 25:
+            case 26:
+            case 27:
+                return CborType.FLOAT;
+            case 31:
+                return CborType.BREAK;
+            default:
+                return CborType.SIMPLE_VALUE;
+            }
+        }
+    }
+
+    /**
+     * @return <code>true</code> if next data item is a number which can be read with {@link #readNumber()}.
+     */
+    public boolean isNextNumber() throws CborException {
+        switch (peekType()) {
+        case UNSIGNED_INTEGER:
+        case NEGATIVE_INTEGER:
+        case FLOAT:
+            return true;
+        case TAG:
+            long tag = peekTag();
+            return tag == TAG_POSITIVE_BIGNUM || tag == TAG_NEGATIVE_BIGNUM || tag == TAG_DECIMAL_FRACTION
+                    || tag == TAG_BIGFLOAT;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Read an integer (major type 0 or 1).
+     *
+     * @return a {@link Long} or a {@link BigInteger} if value does not fit in a long.
+     */
+    public Number readInteger() throws CborException {
+        int majorType = peekMajorType();
+        if (majorType != 0 && majorType != 1) {
+            throw new CborException("Integer expected but was %s", peekType());
+        }
+        long argument = readArgument(majorType);
+        if (argument >= 0) {
+            return majorType == 0 ? argument : -1 - argument;
+        } else {
+            // argument is bigger than Long.MAX_VALUE
+            BigInteger unsigned = toUnsignedBigInteger(argument);
+            return majorType == 0 ? unsigned : unsigned.not();
+        }
+    }
+
+    /**
+     * Read an integer (major type 0 or 1) which must fit in a long.
+     */
+    public long readLong() throws CborException {
+        Number integer = readInteger();
+        if (integer instanceof Long) {
+            return integer.longValue();
+        }
+        throw new CborException("Integer %s does not fit in a long", integer);
+    }
+
+    /**
+     * Read a floating point number (half, single or double precision).
+     */
+    public double readDouble() throws CborException {
+        ensureAvailable(1);
+        int initialByte = data[position] & 0xFF;
+        switch (initialByte) {
+        case 0xF9:
+            ensureAvailable(3);
+            position++;
+            return halfToDouble((int) readBigEndian(2));
+        case 0xFA:
+            ensureAvailable(5);
+            position++;
+            return Float.intBitsToFloat((int) readBigEndian(4));
+        case 0xFB:
+            ensureAvailable(9);
+            position++;
+            return Double.longBitsToDouble(readBigEndian(8));
+        default:
+            throw new CborException("Floating-point number expected but was %s", peekType());
+        }
+    }
+
+    /**
+     * Read any kind of number : integers, floating point numbers, bignums (tag 2 and 3), decimal fractions (tag 4) and
+     * bigfloats (tag 5).
+     *
+     * @return a {@link Long}, a {@link BigInteger}, a {@link Double} or a {@link BigDecimal}.
+     */
+    public Number readNumber() throws CborException {
+        CborType type = peekType();
+        switch (type) {
+        case UNSIGNED_INTEGER:
+        case NEGATIVE_INTEGER:
+            return readInteger();
+        case FLOAT:
+            return readDouble();
+        case TAG:
+            long tag = readTag();
+            if (tag == TAG_POSITIVE_BIGNUM || tag == TAG_NEGATIVE_BIGNUM) {
+                return readBignumContent(tag);
+            } else if (tag == TAG_DECIMAL_FRACTION || tag == TAG_BIGFLOAT) {
+                return readDecimalContent(tag);
+            }
+            throw new CborException("Number expected but was tag %d", tag);
+        default:
+            throw new CborException("Number expected but was %s", type);
+        }
+    }
+
+    private Number readBignumContent(long tag) {
+        BigInteger unsigned = new BigInteger(1, readByteString());
+        BigInteger value = tag == TAG_POSITIVE_BIGNUM ? unsigned : unsigned.not();
+        return value.bitLength() < 64 ? (Number) value.longValue() : value;
+    }
+
+    private BigDecimal readDecimalContent(long tag) {
+        if (readArrayStart() != 2) {
+            throw new CborException("Array of 2 elements expected for decimal fraction or bigfloat (tag %d)", tag);
+        }
+        long exponent = readLong();
+        if (exponent > MAX_EXPONENT || exponent < -MAX_EXPONENT) {
+            throw new CborException("Exponent %d of decimal fraction or bigfloat (tag %d) is not supported", exponent,
+                    tag);
+        }
+        Number mantissa;
+        if (peekType() == CborType.TAG) {
+            long mantissaTag = readTag();
+            if (mantissaTag != TAG_POSITIVE_BIGNUM && mantissaTag != TAG_NEGATIVE_BIGNUM) {
+                throw new CborException("Unexpected tag %d for mantissa of tag %d", mantissaTag, tag);
+            }
+            mantissa = readBignumContent(mantissaTag);
+        } else {
+            mantissa = readInteger();
+        }
+        BigInteger unscaledValue = mantissa instanceof BigInteger ? (BigInteger) mantissa
+                : BigInteger.valueOf(mantissa.longValue());
+
+        if (tag == TAG_DECIMAL_FRACTION) {
+            return new BigDecimal(unscaledValue, (int) -exponent);
+        } else if (exponent >= 0) {
+            return new BigDecimal(unscaledValue.shiftLeft((int) exponent));
+        } else {
+            // m * 2^-e = m * 5^e / 10^e
+            return new BigDecimal(unscaledValue.multiply(BigInteger.valueOf(5).pow((int) -exponent)), (int) -exponent);
+        }
+    }
+
+    public boolean readBoolean() throws CborException {
+        ensureAvailable(1);
+        int initialByte = data[position] & 0xFF;
+        if (initialByte == 0xF4 || initialByte == 0xF5) {
+            position++;
+            return initialByte == 0xF5;
+        }
+        throw new CborException("Boolean expected but was %s", peekType());
+    }
+
+    public void readNull() throws CborException {
+        ensureAvailable(1);
+        if ((data[position] & 0xFF) != 0xF6) {
+            throw new CborException("Null expected but was %s", peekType());
+        }
+        position++;
+    }
+
+    /**
+     * Read a text string, definite or indefinite length.
+     */
+    public String readTextString() throws CborException {
+        if (peekMajorType() != 3) {
+            throw new CborException("Text string expected but was %s", peekType());
+        }
+        int length = readLength(3);
+        if (length != INDEFINITE_LENGTH) {
+            int start = position;
+            position += length;
+            return new String(data, start, length, StandardCharsets.UTF_8);
+        }
+        StringBuilder builder = new StringBuilder();
+        while (!readBreakIfPresent()) {
+            if (!isDefiniteLength(3)) {
+                throw new CborException("Definite length text string expected in indefinite length text string");
+            }
+            builder.append(readTextString());
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Read a byte string, definite or indefinite length.
+     */
+    public byte[] readByteString() throws CborException {
+        if (peekMajorType() != 2) {
+            throw new CborException("Byte string expected but was %s", peekType());
+        }
+        int length = readLength(2);
+        if (length != INDEFINITE_LENGTH) {
+            byte[] bytes = new byte[length];
+            System.arraycopy(data, position, bytes, 0, length);
+            position += length;
+            return bytes;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        while (!readBreakIfPresent()) {
+            if (!isDefiniteLength(2)) {
+                throw new CborException("Definite length byte string expected in indefinite length byte string");
+            }
+            byte[] chunk = readByteString();
+            bytes.write(chunk, 0, chunk.length);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Read header of an array.
+     *
+     * @return number of elements of the array or {@link #INDEFINITE_LENGTH}.
+     */
+    public int readArrayStart() throws CborException {
+        if (peekMajorType() != 4) {
+            throw new CborException("Array expected but was %s", peekType());
+        }
+        return readLength(4);
+    }
+
+    /**
+     * Read header of a map.
+     *
+     * @return number of pairs of the map or {@link #INDEFINITE_LENGTH}.
+     */
+    public int readMapStart() throws CborException {
+        if (peekMajorType() != 5) {
+            throw new CborException("Map expected but was %s", peekType());
+        }
+        return readLength(5);
+    }
+
+    /**
+     * Read a tag number. The tagged data item is the next data item.
+     */
+    public long readTag() throws CborException {
+        if (peekMajorType() != 6) {
+            throw new CborException("Tag expected but was %s", peekType());
+        }
+        return readArgument(6);
+    }
+
+    /**
+     * @return the tag number of the next data item without consuming it.
+     */
+    public long peekTag() throws CborException {
+        int start = position;
+        try {
+            return readTag();
+        } finally {
+            position = start;
+        }
+    }
+
+    /**
+     * Read the "break" stop code which ends indefinite length items.
+     */
+    public void readBreak() throws CborException {
+        if (!readBreakIfPresent()) {
+            throw new CborException("Break expected but was %s", peekType());
+        }
+    }
+
+    private boolean readBreakIfPresent() {
+        ensureAvailable(1);
+        if ((data[position] & 0xFF) == 0xFF) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Skip the next data item, including the content of containers and tagged items.
+     */
+    public void skip() throws CborException {
+        skip(0);
+    }
+
+    private void skip(int depth) {
+        if (depth > MAX_NESTING_DEPTH) {
+            throw new CborException("Nesting depth of CBOR data exceeds %d", MAX_NESTING_DEPTH);
+        }
+        int majorType = peekMajorType();
+        switch (majorType) {
+        case 0:
+        case 1:
+            readArgument(majorType);
+            break;
+        case 2:
+        case 3:
+            int length = readLength(majorType);
+            if (length != INDEFINITE_LENGTH) {
+                position += length;
+            } else {
+                while (!readBreakIfPresent()) {
+                    if (!isDefiniteLength(majorType)) {
+                        throw new CborException("Invalid chunk in indefinite length string");
+                    }
+                    position += readLength(majorType);
+                }
+            }
+            break;
+        case 4:
+        case 5:
+            int size = readLength(majorType);
+            if (size != INDEFINITE_LENGTH) {
+                long items = majorType == 4 ? size : size * 2;
+                for (long i = 0; i < items; i++) {
+                    skip(depth + 1);
+                }
+            } else {
+                while (!readBreakIfPresent()) {
+                    skip(depth + 1);
+                    if (majorType == 5) {
+                        skip(depth + 1);
+                    }
+                }
+            }
+            break;
+        case 6:
+            readArgument(majorType);
+            skip(depth + 1);
+            break;
+        default:
+            int additionalInfo = data[position] & 0x1F;
+            if (additionalInfo == 31) {
+                throw new CborException("Unexpected break");
+            }
+            readArgument(majorType);
+            break;
+        }
+    }
+
+    private int peekMajorType() {
+        ensureAvailable(1);
+        return (data[position] & 0xFF) >>> 5;
+    }
+
+    private boolean isDefiniteLength(int majorType) {
+        ensureAvailable(1);
+        int initialByte = data[position] & 0xFF;
+        return initialByte >>> 5 == majorType && (initialByte & 0x1F) != 31;
+    }
+
+    /**
+     * Consume the initial byte of a string, an array or a map and read its length.
+     * <p>
+     * A definite length must not be bigger than remaining data (a container item needs at least 1 byte). This is
+     * checked before comparing with {@link #INDEFINITE_LENGTH}, as a 8 bytes argument bigger than
+     * {@link Long#MAX_VALUE} is read as a negative value.
+     *
+     * @return the length or {@link #INDEFINITE_LENGTH} for indefinite length items.
+     */
+    private int readLength(int majorType) {
+        if ((data[position] & 0x1F) == 31) {
+            position++;
+            return INDEFINITE_LENGTH;
+        }
+        int start = position;
+        long length = readArgument(majorType);
+        if (length < 0 || length > end - position) {
+            throw new CborException("Premature end of data : length %s at position %d", Long.toUnsignedString(length),
+                    start);
+        }
+        return (int) length;
+    }
+
+    /**
+     * Consume the initial byte and read its argument. Returned value must be considered as unsigned.
+     */
+    private long readArgument(int majorType) {
+        int additionalInfo = data[position] & 0x1F;
+        if (additionalInfo < 24) {
+            position++;
+            return additionalInfo;
+        }
+        switch (additionalInfo) {
+        case 24:
+        case 25:
+        case 26:
+        case 27:
+            int size = 1 << (additionalInfo - 24);
+            ensureAvailable(1 + size);
+            position++;
+            return readBigEndian(size);
+        case 31:
+            throw new CborException("Invalid indefinite length for major type %d at position %d", majorType, position);
+        default:
+            throw new CborException("Invalid additional information %d at position %d", additionalInfo, position);
+        }
+    }
+
+    private long readBigEndian(int size) {
+        long value = 0;
+        for (int i = 0; i < size; i++) {
+            value = (value << 8) | (data[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    private void ensureAvailable(int size) {
+        if (end - position < size) {
+            throw new CborException("Premature end of data at position %d", position);
+        }
+    }
+
+    private static BigInteger toUnsignedBigInteger(long value) {
+        return BigInteger.valueOf(value & Long.MAX_VALUE).setBit(63);
+    }
+
+    static double halfToDouble(int half) {
+        int exponent = (half >> 10) & 0x1F;
+        int mantissa = half & 0x3FF;
+        double value;
+        if (exponent == 0) {
+            value = Math.scalb((double) mantissa, -24);
+        } else if (exponent != 31) {
+            value = Math.scalb((double) (mantissa + 1024), exponent - 25);
+        } else {
+            value = mantissa == 0 ? Double.POSITIVE_INFINITY : Double.NaN;
+        }
+        return (half & 0x8000) != 0 ? -value : value;
+    }
+}
@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.util.cbor;
+
+/**
+ * Type of the next data item read by a {@link CborReader}.
+ *
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc8949#section-3.1">RFC8949 - Major Types</a>
+ */
+public enum CborType {
+    UNSIGNED_INTEGER, NEGATIVE_INTEGER, BYTE_STRING, TEXT_STRING, ARRAY, MAP, TAG, BOOLEAN, NULL, UNDEFINED,
+    SIMPLE_VALUE, FLOAT,
+    /**
+     * The "break" stop code which ends an indefinite length item.
+     */
+    BREAK
+}
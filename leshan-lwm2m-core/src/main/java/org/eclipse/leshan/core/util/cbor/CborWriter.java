@@ -0,0 +1,310 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.util.cbor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * A streaming CBOR writer.
+ * <p>
+ * Data items are written one by one in an internal growing buffer, without building any intermediate object model.
+ * Containers are written by writing their header ({@link #writeArrayStart(int)}, {@link #writeMapStart(int)}) then
+ * their content. Only definite length items are written.
+ * <p>
+ * Integers and floating point numbers are written using their shortest form which preserves the value (e.g. a double
+ * which can be represented exactly with a half-precision float is written as a half-precision float).
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc8949">RFC8949 - Concise Binary Object Representation</a>
+ */
+public class CborWriter {
+
+    private byte[] buffer;
+    private int size;
+
+    public CborWriter() {
+        this(64);
+    }
+
+    /**
+     * @param initialCapacity initial size of the internal buffer.
+     */
+    public CborWriter(int initialCapacity) {
+        buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    public CborWriter writeArrayStart(int length) {
+        writeHead(4, length);
+        return this;
+    }
+
+    public CborWriter writeMapStart(int length) {
+        writeHead(5, length);
+        return this;
+    }
+
+    public CborWriter writeTag(long tag) {
+        writeHead(6, tag);
+        return this;
+    }
+
+    public CborWriter writeLong(long value) {
+        if (value >= 0) {
+            writeHead(0, value);
+        } else {
+            writeHead(1, -1 - value);
+        }
+        return this;
+    }
+
+    /**
+     * Write an unsigned integer.
+     *
+     * @param value the unsigned 64 bits value, see {@link Long#toUnsignedString(long)}.
+     */
+    public CborWriter writeUnsignedLong(long value) {
+        writeHead(0, value);
+        return this;
+    }
+
+    /**
+     * Write an integer using a bignum (tag 2 or 3) only if it does not fit in major type 0 or 1.
+     */
+    public CborWriter writeBigInteger(BigInteger value) {
+        // unsigned value of the argument of major type 0 or 1
+        BigInteger argument = value.signum() >= 0 ? value : value.not();
+        if (argument.bitLength() <= 64) {
+            writeHead(value.signum() >= 0 ? 0 : 1, argument.longValue());
+        } else {
+            writeTag(value.signum() >= 0 ? CborReader.TAG_POSITIVE_BIGNUM : CborReader.TAG_NEGATIVE_BIGNUM);
+            byte[] bytes = argument.toByteArray();
+            // remove sign byte
+            int offset = bytes[0] == 0 ? 1 : 0;
+            writeHead(2, bytes.length - offset);
+            writeBytes(bytes, offset, bytes.length - offset);
+        }
+        return this;
+    }
+
+    /**
+     * Write a decimal fraction (tag 4).
+     */
+    public CborWriter writeDecimal(BigDecimal value) {
+        writeTag(CborReader.TAG_DECIMAL_FRACTION);
+        writeArrayStart(2);
+        writeLong(-(long) value.scale());
+        writeBigInteger(value.unscaledValue());
+        return this;
+    }
+
+    /**
+     * Write a double using the shortest floating point representation which preserves its value.
+     */
+    public CborWriter writeDouble(double value) {
+        float floatValue = (float) value;
+        if (floatValue == value || Double.isNaN(value)) {
+            return writeFloat(floatValue);
+        }
+        ensureCapacity(9);
+        buffer[size++] = (byte) 0xFB;
+        writeBigEndian(Double.doubleToLongBits(value), 8);
+        return this;
+    }
+
+    /**
+     * Write a float using the shortest floating point representation which preserves its value.
+     */
+    public CborWriter writeFloat(float value) {
+        int half = floatToHalf(value);
+        if (half != -1) {
+            ensureCapacity(3);
+            buffer[size++] = (byte) 0xF9;
+            writeBigEndian(half, 2);
+        } else {
+            ensureCapacity(5);
+            buffer[size++] = (byte) 0xFA;
+            writeBigEndian(Float.floatToIntBits(value), 4);
+        }
+        return this;
+    }
+
+    public CborWriter writeBoolean(boolean value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) (value ? 0xF5 : 0xF4);
+        return this;
+    }
+
+    public CborWriter writeNull() {
+        ensureCapacity(1);
+        buffer[size++] = (byte) 0xF6;
+        return this;
+    }
+
+    public CborWriter writeByteString(byte[] value) {
+        writeHead(2, value.length);
+        writeBytes(value, 0, value.length);
+        return this;
+    }
+
+    /**
+     * Write a text string encoded in UTF-8. Unpaired surrogates are replaced by '?'.
+     */
+    public CborWriter writeTextString(String value) {
+        int length = value.length();
+        int utf8Length = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                utf8Length++;
+            } else if (c < 0x800) {
+                utf8Length += 2;
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    utf8Length += 4;
+                    i++;
+                } else {
+                    utf8Length++;
+                }
+            } else {
+                utf8Length += 3;
+            }
+        }
+
+        writeHead(3, utf8Length);
+        ensureCapacity(utf8Length);
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer[size++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[size++] = (byte) (0xC0 | (c >> 6));
+                buffer[size++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    buffer[size++] = (byte) (0xF0 | (codePoint >> 18));
+                    buffer[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buffer[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buffer[size++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    buffer[size++] = (byte) '?';
+                }
+            } else {
+                buffer[size++] = (byte) (0xE0 | (c >> 12));
+                buffer[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[size++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return number of bytes written so far.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return a copy of the bytes written so far.
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    private void writeHead(int majorType, long argument) {
+        ensureCapacity(9);
+        int type = majorType << 5;
+        // argument is considered as unsigned
+        if (argument >= 0 && argument < 24) {
+            buffer[size++] = (byte) (type | (int) argument);
+        } else if (argument >= 0 && argument <= 0xFF) {
+            buffer[size++] = (byte) (type | 24);
+            writeBigEndian(argument, 1);
+        } else if (argument >= 0 && argument <= 0xFFFF) {
+            buffer[size++] = (byte) (type | 25);
+            writeBigEndian(argument, 2);
+        } else if (argument >= 0 && argument <= 0xFFFFFFFFL) {
+            buffer[size++] = (byte) (type | 26);
+            writeBigEndian(argument, 4);
+        } else {
+            buffer[size++] = (byte) (type | 27);
+            writeBigEndian(argument, 8);
+        }
+    }
+
+    private void writeBigEndian(long value, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            buffer[size++] = (byte) (value >>> (i * 8));
+        }
+    }
+
+    private void writeBytes(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, size, length);
+        size += length;
+    }
+
+    private void ensureCapacity(int additionalSize) {
+        if (buffer.length - size < additionalSize) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additionalSize));
+        }
+    }
+
+    /**
+     * @return the half-precision representation of the given float or -1 if it can not be represented exactly.
+     */
+    static int floatToHalf(float value) {
+        if (Float.isNaN(value)) {
+            return 0x7E00;
+        }
+        int bits = Float.floatToIntBits(value);
+        int sign = (bits >>> 16) & 0x8000;
+        int exponent = (bits >>> 23) & 0xFF;
+        int mantissa = bits & 0x7FFFFF;
+
+        if (exponent == 0xFF) {
+            // infinity
+            return sign | 0x7C00;
+        }
+        if (exponent == 0) {
+            // zero, subnormal floats are too small for half-precision
+            return mantissa == 0 ? sign : -1;
+        }
+        int unbiasedExponent = exponent - 127;
+        if (unbiasedExponent > 15) {
+            return -1;
+        } else if (unbiasedExponent >= -14) {
+            // normal half-precision number
+            if ((mantissa & 0x1FFF) != 0) {
+                return -1;
+            }
+            return sign | ((unbiasedExponent + 15) << 10) | (mantissa >> 13);
+        } else if (unbiasedExponent >= -24) {
+            // subnormal half-precision number
+            int significand = mantissa | 0x800000;
+            int shift = -unbiasedExponent - 1;
+            if ((significand & ((1 << shift) - 1)) != 0) {
+                return -1;
+            }
+            return sign | (significand >> shift);
+        }
+        return -1;
+    }
+}
@@ -36,10 +36,13 @@ public abstract class SenMLResolver<T extends ResolvedSenMLRecord> {
         if (record.getBaseName() != null)
             currentBasename = record.getBaseName();
 
-        String resolvedName = null;
-        if (currentBasename != null || record.getName() != null) {
-            String baseName = currentBasename != null ? currentBasename : "";
-            resolvedName = record.getName() == null ? baseName : baseName + record.getName();
+        String resolvedName;
+        if (record.getName() == null) {
+            resolvedName = currentBasename;
+        } else if (currentBasename == null || currentBasename.isEmpty()) {
+            resolvedName = record.getName();
+        } else {
+            resolvedName = currentBasename + record.getName();
         }
 
         // Resolve SenML time (https://tools.ietf.org/html/rfc8428#section-4.5.3)
@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.senml;
+
+/**
+ * A {@link SenMLDecoder} which is able to give records one by one while parsing the payload, without building an
+ * intermediate {@link SenMLPack}.
+ *
+ * @see <a href="https://tools.ietf.org/html/rfc8428">rfc8428 - Sensor Measurement Lists (SenML)</a>
+ */
+public interface SenMLStreamDecoder extends SenMLDecoder {
+
+    /**
+     * Decode the given SenML payload and call the handler for each record in payload order.
+     *
+     * @param encodedSenML the SenML payload, an empty or <code>null</code> payload contains no record.
+     * @param handler the handler called for each record.
+     */
+    void fromSenML(byte[] encodedSenML, SenMLRecordHandler handler) throws SenMLException;
+}
@@ -0,0 +1,335 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.senml.cbor.streaming;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.leshan.core.util.cbor.CborException;
+import org.eclipse.leshan.core.util.cbor.CborReader;
+import org.eclipse.leshan.core.util.cbor.CborType;
+import org.eclipse.leshan.core.util.cbor.CborWriter;
+import org.eclipse.leshan.core.util.datatype.NumberUtil;
+import org.eclipse.leshan.core.util.datatype.ULong;
+import org.eclipse.leshan.senml.SenMLEncoder;
+import org.eclipse.leshan.senml.SenMLException;
+import org.eclipse.leshan.senml.SenMLPack;
+import org.eclipse.leshan.senml.SenMLRecord;
+import org.eclipse.leshan.senml.SenMLRecord.Type;
+import org.eclipse.leshan.senml.SenMLRecordHandler;
+import org.eclipse.leshan.senml.SenMLStreamDecoder;
+import org.eclipse.leshan.senml.cbor.upokecenter.SenMLCborUpokecenterEncoderDecoder;
+
+/**
+ * Encoder/Decoder for SenML CBOR based on the streaming {@link CborReader} and {@link CborWriter}.
+ * <p>
+ * Unlike {@link SenMLCborUpokecenterEncoderDecoder}, records are read and written directly without building an
+ * intermediate CBOR object model, and records can be decoded one by one with
+ * {@link #fromSenML(byte[], SenMLRecordHandler)}. Both implementations produce the same records and, when
+ * {@link SenMLCborUpokecenterEncoderDecoder} does not keep insertion order, the same payloads.
+ */
+public class SenMLCborStreamingEncoderDecoder implements SenMLStreamDecoder, SenMLEncoder {
+
+    // SenML CBOR labels, see https://datatracker.ietf.org/doc/html/rfc8428#section-6
+    private static final int BASE_NAME = -2;
+    private static final int BASE_TIME = -3;
+    private static final int NAME = 0;
+    private static final int TIME = 6;
+    private static final int VALUE = 2;
+    private static final int STRING_VALUE = 3;
+    private static final int BOOLEAN_VALUE = 4;
+    private static final int DATA_VALUE = 8;
+    // LWM2M specific label, see LWM2M-v1.1-Core §7.4.5
+    private static final String OBJECT_LINK_VALUE = "vlo";
+
+    private final boolean allowNoValue;
+
+    public SenMLCborStreamingEncoderDecoder() {
+        this(false);
+    }
+
+    /**
+     * Create an Encoder/Decoder for SenML-CBOR based on {@link CborReader} and {@link CborWriter}.
+     *
+     * SenML value is defined as mandatory in <a href="https://tools.ietf.org/html/rfc8428#section-4.2">rfc8428</a>, but
+     * SenML records used with a Read-Composite operation do not contain any value field, so
+     * <code>allowNoValue=true</code> can be used skip this validation.
+     *
+     * @param allowNoValue <code>True</code> to not check if there is a value for each SenML record.
+     */
+    public SenMLCborStreamingEncoderDecoder(boolean allowNoValue) {
+        this.allowNoValue = allowNoValue;
+    }
+
+    @Override
+    public byte[] toSenML(SenMLPack pack) throws SenMLException {
+        if (pack == null)
+            return null;
+        CborWriter writer = new CborWriter(16 + pack.getRecords().size() * 24);
+        try {
+            writer.writeArrayStart(pack.getRecords().size());
+            for (SenMLRecord record : pack.getRecords()) {
+                writeRecord(writer, record);
+            }
+        } catch (CborException e) {
+            throw new SenMLException(e, "Unable to serialize SenML in CBOR");
+        }
+        return writer.toByteArray();
+    }
+
+    /**
+     * Write a record. Fields are written in the same order as a canonical CBOR encoder would do (shortest keys first,
+     * then in bytewise lexicographic order).
+     */
+    protected void writeRecord(CborWriter writer, SenMLRecord record) throws SenMLException {
+        boolean hasBaseName = record.getBaseName() != null && !record.getBaseName().isEmpty();
+        boolean hasName = record.getName() != null && !record.getName().isEmpty();
+        Type type = record.getType();
+        if (type == null && !allowNoValue) {
+            throw new SenMLException("Invalid SenML record : record must have a value (v,vb,vlo,vd,vs) : %s", record);
+        }
+
+        int size = (hasBaseName ? 1 : 0) + (record.getBaseTime() != null ? 1 : 0) + (hasName ? 1 : 0)
+                + (record.getTime() != null ? 1 : 0) + (type != null ? 1 : 0);
+        writer.writeMapStart(size);
+
+        if (hasName) {
+            writer.writeLong(NAME).writeTextString(record.getName());
+        }
+        if (type == Type.NUMBER) {
+            writeNumber(writer.writeLong(VALUE), record.getNumberValue());
+        } else if (type == Type.STRING) {
+            writer.writeLong(STRING_VALUE).writeTextString(record.getStringValue());
+        } else if (type == Type.BOOLEAN) {
+            writer.writeLong(BOOLEAN_VALUE).writeBoolean(record.getBooleanValue());
+        }
+        if (record.getTime() != null) {
+            writer.writeLong(TIME).writeDecimal(record.getTime());
+        }
+        if (type == Type.OPAQUE) {
+            writer.writeLong(DATA_VALUE).writeByteString(record.getOpaqueValue());
+        }
+        if (hasBaseName) {
+            writer.writeLong(BASE_NAME).writeTextString(record.getBaseName());
+        }
+        if (record.getBaseTime() != null) {
+            writer.writeLong(BASE_TIME).writeDecimal(record.getBaseTime());
+        }
+        if (type == Type.OBJLNK) {
+            writer.writeTextString(OBJECT_LINK_VALUE).writeTextString(record.getObjectLinkValue());
+        }
+    }
+
+    private void writeNumber(CborWriter writer, Number value) throws SenMLException {
+        // integer
+        if (value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long) {
+            writer.writeLong(value.longValue());
+        } else if (value instanceof BigInteger) {
+            writer.writeBigInteger((BigInteger) value);
+        }
+        // unsigned integer
+        else if (value instanceof ULong) {
+            writer.writeUnsignedLong(value.longValue());
+        }
+        // floating-point
+        else if (value instanceof Float) {
+            writer.writeFloat(value.floatValue());
+        } else if (value instanceof Double) {
+            writer.writeDouble(value.doubleValue());
+        } else if (value instanceof BigDecimal) {
+            writer.writeDecimal((BigDecimal) value);
+        } else {
+            throw new SenMLException("Invalid SenML record : unsupported number type %s", value.getClass());
+        }
+    }
+
+    @Override
+    public SenMLPack fromSenML(byte[] encodedSenML) throws SenMLException {
+        final List<SenMLRecord> records = new ArrayList<>();
+        fromSenML(encodedSenML, records::add);
+        return new SenMLPack(records);
+    }
+
+    @Override
+    public void fromSenML(byte[] encodedSenML, SenMLRecordHandler handler) throws SenMLException {
+        // handle empty payload
+        if (encodedSenML == null || encodedSenML.length == 0) {
+            return;
+        }
+
+        try {
+            CborReader reader = new CborReader(encodedSenML);
+            CborType type = reader.peekType();
+            if (type != CborType.ARRAY) {
+                throw new SenMLException("Unable to parse SenML CBOR: Array expected but was %s", type);
+            }
+            int size = reader.readArrayStart();
+            if (size == CborReader.INDEFINITE_LENGTH) {
+                while (reader.peekType() != CborType.BREAK) {
+                    handler.handle(readRecord(reader));
+                }
+                reader.readBreak();
+            } else {
+                for (int i = 0; i < size; i++) {
+                    handler.handle(readRecord(reader));
+                }
+            }
+            if (reader.hasRemaining()) {
+                throw new CborException("Unexpected data after SenML CBOR array at position %d", reader.getPosition());
+            }
+        } catch (CborException e) {
+            throw new SenMLException("Unable to parse SenML CBOR.", e);
+        }
+    }
+
+    /**
+     * Read a record, reader must be positioned on the record map.
+     */
+    protected SenMLRecord readRecord(CborReader reader) throws SenMLException {
+        String recordBaseName = null;
+        BigDecimal recordBaseTime = null;
+        String recordName = null;
+        BigDecimal recordTime = null;
+        Number recordNumberValue = null;
+        Boolean recordBooleanValue = null;
+        String recordStringValue = null;
+        String recordObjectLinkValue = null;
+        byte[] recordOpaqueValue = null;
+
+        CborType recordType = reader.peekType();
+        if (recordType != CborType.MAP) {
+            throw new SenMLException("Invalid SenML record : 'map' type was expected but was '%s'", recordType);
+        }
+        int size = reader.readMapStart();
+        for (int i = 0; size == CborReader.INDEFINITE_LENGTH || i < size; i++) {
+            if (size == CborReader.INDEFINITE_LENGTH && reader.peekType() == CborType.BREAK) {
+                reader.readBreak();
+                break;
+            }
+
+            // read label
+            int label;
+            CborType labelType = reader.peekType();
+            if (labelType == CborType.UNSIGNED_INTEGER || labelType == CborType.NEGATIVE_INTEGER) {
+                Number labelValue = reader.readInteger();
+                label = labelValue instanceof Long && labelValue.longValue() == labelValue.intValue()
+                        ? labelValue.intValue()
+                        : Integer.MIN_VALUE;
+            } else if (labelType == CborType.TEXT_STRING) {
+                if (OBJECT_LINK_VALUE.equals(reader.readTextString())) {
+                    recordObjectLinkValue = readString(reader, OBJECT_LINK_VALUE);
+                } else {
+                    // unknown label, ignore value
+                    reader.skip();
+                }
+                continue;
+            } else {
+                // unknown label, ignore label and value
+                reader.skip();
+                reader.skip();
+                continue;
+            }
+
+            // read value
+            switch (label) {
+            case BASE_NAME:
+                recordBaseName = readString(reader, "bn");
+                break;
+            case BASE_TIME:
+                recordBaseTime = NumberUtil.numberToBigDecimal(readNumber(reader, "bt"));
+                break;
+            case NAME:
+                recordName = readString(reader, "n");
+                break;
+            case TIME:
+                recordTime = NumberUtil.numberToBigDecimal(readNumber(reader, "t"));
+                break;
+            case VALUE:
+                recordNumberValue = readNumber(reader, "v");
+                break;
+            case STRING_VALUE:
+                recordStringValue = readString(reader, "vs");
+                break;
+            case BOOLEAN_VALUE:
+                CborType valueType = reader.peekType();
+                if (valueType != CborType.BOOLEAN) {
+                    throw new SenMLException(
+                            "Invalid SenML record : 'boolean' type was expected but was '%s' for 'vb' field",
+                            valueType);
+                }
+                recordBooleanValue = reader.readBoolean();
+                break;
+            case DATA_VALUE:
+                valueType = reader.peekType();
+                if (valueType != CborType.BYTE_STRING) {
+                    throw new SenMLException(
+                            "Invalid SenML record : 'byteString' type was expected but was '%s' for 'vd' field",
+                            valueType);
+                }
+                recordOpaqueValue = reader.readByteString();
+                break;
+            default:
+                reader.skip();
+                break;
+            }
+        }
+
+        SenMLRecord record = new SenMLRecord(recordBaseName, recordBaseTime, recordName, recordTime, recordNumberValue,
+                recordBooleanValue, recordObjectLinkValue, recordStringValue, recordOpaqueValue);
+        if (!allowNoValue && record.getType() == null) {
+            throw new SenMLException(
+                    "Invalid SenML record: record must have a value, meaning one of those field must be present v(number:2), vb(number:4), vlo(string:vlo) ,vd(number:8) or vs(number:3): %s",
+                    record);
+        }
+        return record;
+    }
+
+    protected String readString(CborReader reader, String fieldname) throws SenMLException {
+        CborType type = reader.peekType();
+        if (type != CborType.TEXT_STRING) {
+            throw new SenMLException("Invalid SenML record : 'string' type was expected but was '%s' for '%s' field",
+                    type, fieldname);
+        }
+        return reader.readTextString();
+    }
+
+    /**
+     * Read a number with same rules as {@link SenMLCborUpokecenterEncoderDecoder} : integers are returned as
+     * {@link Long}, {@link ULong} or {@link BigInteger}, floating-point numbers as {@link Double} and decimal fractions
+     * or bigfloats as {@link Double} if they can be converted without loss else as {@link BigDecimal}.
+     */
+    protected Number readNumber(CborReader reader, String fieldname) throws SenMLException {
+        if (!reader.isNextNumber()) {
+            throw new SenMLException("Invalid SenML record : number was expected for '%s' field", fieldname);
+        }
+        Number number = reader.readNumber();
+        if (number instanceof BigInteger) {
+            BigInteger integer = (BigInteger) number;
+            if (integer.signum() > 0 && integer.bitLength() == 64) {
+                return ULong.valueOf(integer.longValue());
+            }
+        } else if (number instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) number;
+            double doubleValue = decimal.doubleValue();
+            if (!Double.isInfinite(doubleValue) && new BigDecimal(doubleValue).compareTo(decimal) == 0) {
+                return doubleValue;
+            }
+        }
+        return number;
+    }
+}
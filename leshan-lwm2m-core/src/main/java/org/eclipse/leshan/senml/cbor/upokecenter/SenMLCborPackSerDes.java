@@ -236,10 +236,12 @@ public class SenMLCborPackSerDes {
                 }
             }
         case Double:
+            return o.AsDoubleValue();
         case EFloat:
         case EDecimal:
             if (number.CanFitInDouble()) {
-                return o.AsDoubleValue();
+                // AsDoubleValue() only accepts floating-point types, not decimal fractions (CBOR Tag 4)
+                return number.ToEDecimal().ToDouble();
             } else {
                 return (BigDecimal) o.ToObject(BigDecimal.class);
             }
@@ -0,0 +1,306 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.senml.json.jackson;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.leshan.core.util.base64.Base64Decoder;
+import org.eclipse.leshan.core.util.base64.Base64Encoder;
+import org.eclipse.leshan.core.util.base64.DefaultBase64Decoder;
+import org.eclipse.leshan.core.util.base64.DefaultBase64Decoder.DecoderAlphabet;
+import org.eclipse.leshan.core.util.base64.DefaultBase64Decoder.DecoderPadding;
+import org.eclipse.leshan.core.util.base64.DefaultBase64Encoder;
+import org.eclipse.leshan.core.util.base64.DefaultBase64Encoder.EncoderAlphabet;
+import org.eclipse.leshan.core.util.base64.DefaultBase64Encoder.EncoderPadding;
+import org.eclipse.leshan.core.util.base64.InvalidBase64Exception;
+import org.eclipse.leshan.core.util.datatype.ULong;
+import org.eclipse.leshan.core.util.json.JsonException;
+import org.eclipse.leshan.senml.SenMLEncoder;
+import org.eclipse.leshan.senml.SenMLException;
+import org.eclipse.leshan.senml.SenMLPack;
+import org.eclipse.leshan.senml.SenMLRecord;
+import org.eclipse.leshan.senml.SenMLRecord.Type;
+import org.eclipse.leshan.senml.SenMLRecordHandler;
+import org.eclipse.leshan.senml.SenMLStreamDecoder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Encoder/Decoder for SenML JSON based on Jackson streaming API.
+ * <p>
+ * Unlike {@link SenMLJsonJacksonEncoderDecoder}, records are read and written directly with a {@link JsonParser} and a
+ * {@link JsonGenerator} without building a Jackson tree model, and records can be decoded one by one with
+ * {@link #fromSenML(byte[], SenMLRecordHandler)}. Both implementations produce the same records and payloads.
+ */
+public class SenMLJsonStreamingEncoderDecoder implements SenMLStreamDecoder, SenMLEncoder {
+
+    private final JsonFactory factory;
+    private final boolean allowNoValue;
+    private final Base64Decoder base64Decoder;
+    private final Base64Encoder base64Encoder;
+
+    public SenMLJsonStreamingEncoderDecoder() {
+        this(false);
+    }
+
+    /**
+     * Create an Encoder/Decoder for SenML-JSON based on Jackson streaming API.
+     *
+     * SenML value is defined as mandatory in <a href="https://tools.ietf.org/html/rfc8428#section-4.2">rfc8428</a>, but
+     * SenML records used with a Read-Composite operation do not contain any value field, so
+     * <code>allowNoValue=true</code> can be used skip this validation.
+     *
+     * @param allowNoValue <code>True</code> to not check if there is a value for each SenML record.
+     */
+    public SenMLJsonStreamingEncoderDecoder(boolean allowNoValue) {
+        this(allowNoValue, new DefaultBase64Decoder(DecoderAlphabet.BASE64URL, DecoderPadding.FORBIDEN),
+                new DefaultBase64Encoder(EncoderAlphabet.BASE64URL, EncoderPadding.WITHOUT));
+    }
+
+    public SenMLJsonStreamingEncoderDecoder(boolean allowNoValue, Base64Decoder base64Decoder,
+            Base64Encoder base64Encoder) {
+        this(new JsonFactory(), allowNoValue, base64Decoder, base64Encoder);
+    }
+
+    public SenMLJsonStreamingEncoderDecoder(JsonFactory factory, boolean allowNoValue, Base64Decoder base64Decoder,
+            Base64Encoder base64Encoder) {
+        this.factory = factory;
+        this.allowNoValue = allowNoValue;
+        this.base64Decoder = base64Decoder;
+        this.base64Encoder = base64Encoder;
+    }
+
+    @Override
+    public byte[] toSenML(SenMLPack pack) throws SenMLException {
+        if (pack == null)
+            return null;
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 + pack.getRecords().size() * 32);
+        try (JsonGenerator generator = factory.createGenerator(out)) {
+            generator.writeStartArray();
+            for (SenMLRecord record : pack.getRecords()) {
+                writeRecord(generator, record);
+            }
+            generator.writeEndArray();
+        } catch (JsonException | IOException e) {
+            throw new SenMLException("Unable to serialize SenML JSON.", e);
+        }
+        return out.toByteArray();
+    }
+
+    protected void writeRecord(JsonGenerator generator, SenMLRecord record) throws IOException, JsonException {
+        generator.writeStartObject();
+
+        if (record.getBaseName() != null && record.getBaseName().length() > 0) {
+            generator.writeStringField("bn", record.getBaseName());
+        }
+
+        if (record.getBaseTime() != null) {
+            generator.writeNumberField("bt", record.getBaseTime());
+        }
+
+        if (record.getName() != null && record.getName().length() > 0) {
+            generator.writeStringField("n", record.getName());
+        }
+
+        if (record.getTime() != null) {
+            generator.writeNumberField("t", record.getTime());
+        }
+
+        Type type = record.getType();
+        if (type != null) {
+            switch (type) {
+            case NUMBER:
+                writeNumber(generator, record.getNumberValue());
+                break;
+            case BOOLEAN:
+                generator.writeBooleanField("vb", record.getBooleanValue());
+                break;
+            case OBJLNK:
+                generator.writeStringField("vlo", record.getObjectLinkValue());
+                break;
+            case OPAQUE:
+                generator.writeStringField("vd", base64Encoder.encode(record.getOpaqueValue()));
+                break;
+            case STRING:
+                generator.writeStringField("vs", record.getStringValue());
+                break;
+            default:
+                break;
+            }
+        } else {
+            if (!allowNoValue)
+                throw new JsonException("Invalid SenML record : record must have a value (v,vb,vlo,vd,vs) : %s",
+                        record);
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeNumber(JsonGenerator generator, Number value) throws IOException {
+        // integer
+        if (value instanceof Byte || value instanceof Short || value instanceof Integer) {
+            generator.writeNumberField("v", value.intValue());
+        } else if (value instanceof Long) {
+            generator.writeNumberField("v", value.longValue());
+        } else if (value instanceof BigInteger) {
+            generator.writeFieldName("v");
+            generator.writeNumber((BigInteger) value);
+        }
+        // unsigned integer
+        else if (value instanceof ULong) {
+            generator.writeFieldName("v");
+            generator.writeNumber(((ULong) value).toBigInteger());
+        }
+        // floating-point
+        else if (value instanceof Float) {
+            generator.writeNumberField("v", value.floatValue());
+        } else if (value instanceof Double) {
+            generator.writeNumberField("v", value.doubleValue());
+        } else if (value instanceof BigDecimal) {
+            generator.writeNumberField("v", (BigDecimal) value);
+        }
+    }
+
+    @Override
+    public SenMLPack fromSenML(byte[] encodedSenML) throws SenMLException {
+        final List<SenMLRecord> records = new ArrayList<>();
+        fromSenML(encodedSenML, records::add);
+        return new SenMLPack(records);
+    }
+
+    @Override
+    public void fromSenML(byte[] encodedSenML, SenMLRecordHandler handler) throws SenMLException {
+        // handle empty payload
+        if (encodedSenML == null || encodedSenML.length == 0) {
+            return;
+        }
+
+        try (JsonParser parser = factory.createParser(encodedSenML)) {
+            JsonToken token = parser.nextToken();
+            if (token != JsonToken.START_ARRAY) {
+                throw new SenMLException("Unable to parse SenML JSON: JsonArray expected but was %s", token);
+            }
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new JsonException("Unexpected end of SenML JSON array");
+                }
+                handler.handle(readRecord(parser));
+            }
+        } catch (JsonException | IOException e) {
+            throw new SenMLException("Unable to parse SenML JSON.", e);
+        }
+    }
+
+    /**
+     * Read a record, parser must be positioned on the first token of the record.
+     */
+    protected SenMLRecord readRecord(JsonParser parser) throws IOException, JsonException {
+        String recordBaseName = null;
+        BigDecimal recordBaseTime = null;
+        String recordName = null;
+        BigDecimal recordTime = null;
+        Number recordNumberValue = null;
+        Boolean recordBooleanValue = null;
+        String recordStringValue = null;
+        String recordObjectLinkValue = null;
+        byte[] recordOpaqueValue = null;
+        boolean hasValue = false;
+
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            String fieldName;
+            while ((fieldName = parser.nextFieldName()) != null) {
+                JsonToken token = parser.nextToken();
+                switch (fieldName) {
+                case "bn":
+                    if (token == JsonToken.VALUE_STRING)
+                        recordBaseName = parser.getText();
+                    break;
+                case "bt":
+                    if (token.isNumeric())
+                        recordBaseTime = parser.getDecimalValue();
+                    break;
+                case "n":
+                    if (token == JsonToken.VALUE_STRING)
+                        recordName = parser.getText();
+                    break;
+                case "t":
+                    if (token.isNumeric())
+                        recordTime = parser.getDecimalValue();
+                    break;
+                case "v":
+                    if (token == JsonToken.VALUE_NUMBER_INT) {
+                        recordNumberValue = parser.getNumberValue();
+                        hasValue = true;
+                    } else if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+                        recordNumberValue = parser.getDecimalValue();
+                        hasValue = true;
+                    }
+                    break;
+                case "vb":
+                    if (token.isBoolean()) {
+                        recordBooleanValue = parser.getBooleanValue();
+                        hasValue = true;
+                    }
+                    break;
+                case "vs":
+                    if (token == JsonToken.VALUE_STRING) {
+                        recordStringValue = parser.getText();
+                        hasValue = true;
+                    }
+                    break;
+                case "vlo":
+                    if (token == JsonToken.VALUE_STRING) {
+                        recordObjectLinkValue = parser.getText();
+                        hasValue = true;
+                    }
+                    break;
+                case "vd":
+                    if (token == JsonToken.VALUE_STRING) {
+                        String opaque = parser.getText();
+                        try {
+                            recordOpaqueValue = base64Decoder.decode(opaque);
+                        } catch (InvalidBase64Exception exception) {
+                            throw new JsonException(exception, "Node vd with value '%s' is not in valid Base64 format.",
+                                    opaque);
+                        }
+                        hasValue = true;
+                    }
+                    break;
+                default:
+                    break;
+                }
+                // ignore content of unexpected objects or arrays
+                parser.skipChildren();
+            }
+        } else {
+            // not a record, consider it as a record without any field
+            parser.skipChildren();
+        }
+
+        SenMLRecord record = new SenMLRecord(recordBaseName, recordBaseTime, recordName, recordTime, recordNumberValue,
+                recordBooleanValue, recordObjectLinkValue, recordStringValue, recordOpaqueValue);
+        if (!allowNoValue && !hasValue)
+            throw new JsonException("Invalid SenML record : record must have a value (v,vb,vlo,vd,vs) : %s", record);
+        return record;
+    }
+}
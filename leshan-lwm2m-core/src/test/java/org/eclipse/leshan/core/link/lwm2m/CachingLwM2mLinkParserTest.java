@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.link.lwm2m;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.link.LinkParseException;
+import org.junit.jupiter.api.Test;
+
+public class CachingLwM2mLinkParserTest {
+
+    private final CachingLwM2mLinkParser parser = new CachingLwM2mLinkParser(new DefaultLwM2mLinkParser(), 2, 32);
+
+    @Test
+    public void identical_payloads_share_parsed_links() throws LinkParseException {
+        Link[] first = parser.parseCoreLinkFormat("</1/0>,</3/0>".getBytes());
+        Link[] second = parser.parseCoreLinkFormat("</1/0>,</3/0>".getBytes());
+
+        assertSame(first, second);
+        assertEquals(1, parser.getMissCount());
+        assertEquals(1, parser.getHitCount());
+    }
+
+    @Test
+    public void different_payloads_are_parsed_separately() throws LinkParseException {
+        Link[] first = parser.parseCoreLinkFormat("</1/0>,</3/0>".getBytes());
+        Link[] second = parser.parseCoreLinkFormat("</1/0>,</3/1>".getBytes());
+
+        assertNotSame(first, second);
+        assertEquals("/3/1", second[1].getUriReference());
+        assertEquals(2, parser.size());
+    }
+
+    @Test
+    public void reused_buffer_does_not_corrupt_cache() throws LinkParseException {
+        byte[] buffer = "</1/0>,</3/0>".getBytes();
+        Link[] first = parser.parseCoreLinkFormat(buffer);
+        buffer[11] = '1';
+
+        Link[] second = parser.parseCoreLinkFormat(buffer);
+        assertNotSame(first, second);
+        assertEquals("/3/1", second[1].getUriReference());
+    }
+
+    @Test
+    public void big_payloads_are_not_cached() throws LinkParseException {
+        byte[] payload = "</1/0>,</3/0>,</4/0>,</5/0>,</6/0>".getBytes();
+        Link[] first = parser.parseCoreLinkFormat(payload);
+        Link[] second = parser.parseCoreLinkFormat(payload);
+
+        assertNotSame(first, second);
+        assertEquals(0, parser.size());
+        assertEquals(0, parser.getMissCount());
+    }
+
+    @Test
+    public void least_recently_used_payload_is_evicted() throws LinkParseException {
+        Link[] first = parser.parseCoreLinkFormat("</1/0>".getBytes());
+        parser.parseCoreLinkFormat("</3/0>".getBytes());
+        // use first payload, so second one is the eldest
+        parser.parseCoreLinkFormat("</1/0>".getBytes());
+        parser.parseCoreLinkFormat("</4/0>".getBytes());
+
+        assertEquals(2, parser.size());
+        assertSame(first, parser.parseCoreLinkFormat("</1/0>".getBytes()));
+        assertEquals(3, parser.getMissCount());
+        parser.parseCoreLinkFormat("</3/0>".getBytes());
+        assertEquals(4, parser.getMissCount());
+    }
+
+    @Test
+    public void invalid_payloads_are_not_cached() {
+        assertThrows(LinkParseException.class, () -> parser.parseCoreLinkFormat("</1/0".getBytes()));
+        assertThrows(LinkParseException.class, () -> parser.parseCoreLinkFormat("</1/0".getBytes()));
+        assertEquals(0, parser.size());
+    }
+}
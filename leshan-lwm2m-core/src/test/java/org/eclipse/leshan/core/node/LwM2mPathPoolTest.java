@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.node;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LwM2mPathPoolTest {
+
+    @Test
+    void pool_returns_same_instance_for_same_path() {
+        LwM2mPathPool pool = new LwM2mPathPool();
+
+        LwM2mPath path = pool.get(3303, 0, 5700);
+        assertEquals(new LwM2mPath(3303, 0, 5700), path);
+        assertSame(path, pool.get(3303, 0, 5700));
+        assertSame(path, pool.get("/3303/0/5700"));
+        assertSame(path, pool.intern(new LwM2mPath(3303, 0, 5700)));
+
+        assertEquals(new LwM2mPath(3303), pool.get(3303));
+        assertEquals(new LwM2mPath(3303, 0), pool.get(3303, 0));
+        assertEquals(new LwM2mPath(3303, 0, 5700, 1), pool.get(3303, 0, 5700, 1));
+        assertSame(pool.get(3303, 0, 5700, 1), pool.get(3303, 0, 5700, 1));
+    }
+
+    @Test
+    void kind_of_path_is_checked() {
+        LwM2mPathPool pool = new LwM2mPathPool();
+        pool.intern(LwM2mPath.ROOTPATH);
+        pool.get(3);
+
+        assertThrows(InvalidLwM2mPathException.class, () -> pool.get(LwM2mPath.NONE));
+        assertThrows(InvalidLwM2mPathException.class, () -> pool.get(3, LwM2mPath.NONE));
+        assertThrows(InvalidLwM2mPathException.class, () -> pool.get(3, 0, 70000));
+    }
+
+    @Test
+    void incomplete_path_is_not_pooled() {
+        LwM2mPathPool pool = new LwM2mPathPool();
+        LwM2mPath incompletePath = new LwM2mIncompletePath(3);
+
+        assertSame(incompletePath, pool.intern(incompletePath));
+        assertSame(incompletePath, pool.intern(incompletePath));
+        assertEquals(LwM2mPath.class, pool.get(3, 0).getClass());
+    }
+
+    @Test
+    void pool_is_bounded() {
+        LwM2mPathPool pool = new LwM2mPathPool(3);
+        assertEquals(4, pool.getSize());
+
+        for (int i = 0; i < 100; i++) {
+            pool.get(3, 0, i);
+        }
+        int pooled = 0;
+        for (int i = 0; i < 100; i++) {
+            LwM2mPath path = new LwM2mPath(3, 0, i);
+            if (pool.intern(path) != path) {
+                pooled++;
+            }
+        }
+        assertTrue(pooled <= 4);
+    }
+}
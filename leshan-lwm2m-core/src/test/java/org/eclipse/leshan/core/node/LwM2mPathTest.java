@@ -16,18 +16,22 @@
 package org.eclipse.leshan.core.node;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
 
@@ -78,4 +82,86 @@ public class LwM2mPathTest {
     public void assertEqualsHashcode() {
         EqualsVerifier.forClass(LwM2mPath.class).withRedefinedSubclass(LwM2mIncompletePath.class).verify();
     }
+
+    @Test
+    public void parse_path_like_split_based_implementation() {
+        assertEquals(LwM2mPath.ROOTPATH, new LwM2mPath(""));
+        assertEquals(LwM2mPath.ROOTPATH, new LwM2mPath("/"));
+        assertEquals(LwM2mPath.ROOTPATH, new LwM2mPath("///"));
+        assertEquals(new LwM2mPath(3), new LwM2mPath("3"));
+        assertEquals(new LwM2mPath(3, 0), new LwM2mPath("/3/0/"));
+        assertEquals(new LwM2mPath(3, 0), new LwM2mPath("/3/0//"));
+        assertEquals(new LwM2mPath(3, 0, 11), new LwM2mPath("/+3/00/11"));
+        assertEquals(new LwM2mPath(65535, 65534, 65535, 65535), new LwM2mPath("/65535/65534/65535/65535"));
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}")
+    @ValueSource(strings = { "/3/0/1/2/3", "/a", "/3//0", "//3", "/3/-", "/3/0x1", "/3/2147483648", "/-2147483648",
+            "/65536", "/3/65535", "/3/-1", "/3/0/1/ 2" })
+    public void parse_invalid_path(String path) {
+        assertThrows(InvalidLwM2mPathException.class, () -> new LwM2mPath(path));
+        byte[] bytes = path.getBytes(StandardCharsets.US_ASCII);
+        assertThrows(InvalidLwM2mPathException.class, () -> LwM2mPath.parse(bytes, 0, bytes.length));
+    }
+
+    @Test
+    public void parse_path_from_bytes() {
+        byte[] bytes = "xx/3/0/11/1yy".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(new LwM2mPath(3, 0, 11, 1), LwM2mPath.parse(bytes, 2, 9));
+        assertEquals(new LwM2mPath(3, 0), LwM2mPath.parse(bytes, 2, 5));
+        assertEquals(LwM2mPath.ROOTPATH, LwM2mPath.parse(bytes, 2, 0));
+        assertThrows(IllegalArgumentException.class, () -> LwM2mPath.parse(bytes, 2, 12));
+    }
+
+    @Test
+    public void invalid_id_is_rejected() {
+        assertThrows(InvalidLwM2mPathException.class, () -> new LwM2mPath(Integer.MIN_VALUE));
+        assertThrows(InvalidLwM2mPathException.class, () -> new LwM2mPath(3, Integer.MIN_VALUE));
+        assertThrows(InvalidLwM2mPathException.class, () -> new LwM2mPath(3, 0, 1, -1));
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}")
+    @MethodSource("equalsTestArguements")
+    public void hashcode_is_same_than_hash_of_integer_ids(String path) {
+        LwM2mPath p = new LwM2mPath(path);
+        assertEquals(
+                Objects.hash(p.getObjectId(), p.getObjectInstanceId(), p.getResourceId(), p.getResourceInstanceId()),
+                p.hashCode());
+        assertEquals(path, p.toString());
+    }
+
+    @Test
+    public void append_path() {
+        assertEquals(new LwM2mPath(3, 0, 11, 1), new LwM2mPath(3).append("/0/11/1"));
+        assertEquals(new LwM2mPath(3, 0, 11, 1), new LwM2mPath(3, 0, 11).append("1"));
+        assertEquals(new LwM2mPath(3, 0), LwM2mPath.ROOTPATH.append("/3/0"));
+        assertEquals(new LwM2mPath(3, 0), new LwM2mPath(3, 0).append("/"));
+        assertEquals(new LwM2mPath(3, 0, 11, 1), new LwM2mPath(3, 0, 11).append(1));
+        assertThrows(InvalidLwM2mPathException.class, () -> new LwM2mPath(3, 0).append("/1/2/3"));
+        assertThrows(InvalidLwM2mPathException.class, () -> new LwM2mPath(3, 0).append("/70000"));
+        assertThrows(IllegalArgumentException.class, () -> new LwM2mPath(3, 0, 1, 2).append(1));
+    }
+
+    @Test
+    public void path_navigation() {
+        LwM2mPath path = new LwM2mPath(3, 0, 11, 1);
+        assertEquals(new LwM2mPath(3, 0, 11), path.toParenPath());
+        assertEquals(new LwM2mPath(3, 0), path.toObjectInstancePath());
+        assertEquals(new LwM2mPath(3), path.toObjectPath());
+        assertEquals(LwM2mPath.ROOTPATH, path.toObjectPath().toParenPath());
+        assertEquals(new LwM2mPath(3, 65534, 65535, 65535), new LwM2mPath(3).toMaxDescendant());
+        assertTrue(path.startWith(new LwM2mPath(3, 0)));
+        assertTrue(path.startWith(LwM2mPath.ROOTPATH));
+        assertTrue(!path.startWith(new LwM2mPath(3, 1)));
+        assertTrue(!new LwM2mPath(3).startWith(path));
+    }
+
+    @Test
+    public void incomplete_path() {
+        LwM2mIncompletePath path = new LwM2mIncompletePath(3, 11);
+        assertEquals("/3/undefined/11", path.toString());
+        assertEquals(Integer.valueOf(LwM2mObjectInstance.UNDEFINED), path.getObjectInstanceId());
+        assertTrue(path.isResource());
+        assertTrue(!path.equals(new LwM2mPath(3, 0, 11)));
+    }
 }
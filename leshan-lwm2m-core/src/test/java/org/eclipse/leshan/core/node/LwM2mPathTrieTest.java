@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.node;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class LwM2mPathTrieTest {
+
+    @Test
+    void find_values_of_path_and_its_parents() {
+        LwM2mPathTrie<String> trie = new LwM2mPathTrie<>();
+        trie.add(LwM2mPath.ROOTPATH, "root");
+        trie.add(new LwM2mPath(3), "object");
+        trie.add(new LwM2mPath(3, 0), "instance");
+        trie.add(new LwM2mPath(3, 0, 11), "resource");
+        trie.add(new LwM2mPath(3, 0, 11, 2), "resource instance");
+        trie.add(new LwM2mPath(3, 1), "other instance");
+        trie.add(new LwM2mPath(3303, 0, 5700), "other object");
+
+        assertEquals(new HashSet<>(Arrays.asList("root", "object", "instance", "resource", "resource instance")),
+                trie.findMatchingValues(new LwM2mPath(3, 0, 11, 2)));
+        assertEquals(new HashSet<>(Arrays.asList("root", "object", "instance")),
+                trie.findMatchingValues(new LwM2mPath(3, 0, 13)));
+        assertEquals(new HashSet<>(Arrays.asList("root", "object", "other instance", "other object")),
+                trie.findMatchingValues(new LwM2mPath(3, 1, 0), new LwM2mPath(3303, 0, 5700)));
+        assertEquals(Collections.singleton("root"), trie.findMatchingValues(new LwM2mPath(4, 0, 1)));
+        assertEquals(Collections.singleton("instance"), trie.get(new LwM2mPath(3, 0)));
+        assertEquals(7, trie.size());
+    }
+
+    @Test
+    void same_value_can_be_associated_to_several_paths() {
+        LwM2mPathTrie<String> trie = new LwM2mPathTrie<>();
+        assertTrue(trie.add(new LwM2mPath(3, 0, 1), "composite"));
+        assertTrue(trie.add(new LwM2mPath(3, 0, 2), "composite"));
+        assertFalse(trie.add(new LwM2mPath(3, 0, 2), "composite"));
+
+        assertEquals(Collections.singleton("composite"),
+                trie.findMatchingValues(new LwM2mPath(3, 0, 1), new LwM2mPath(3, 0, 2)));
+        assertEquals(2, trie.size());
+    }
+
+    @Test
+    void removed_values_are_not_found_anymore() {
+        LwM2mPathTrie<String> trie = new LwM2mPathTrie<>();
+        trie.add(new LwM2mPath(3, 0), "a");
+        trie.add(new LwM2mPath(3, 0, 1), "b");
+
+        assertFalse(trie.remove(new LwM2mPath(3, 0, 2), "b"));
+        assertFalse(trie.remove(new LwM2mPath(3, 0), "b"));
+        assertTrue(trie.remove(new LwM2mPath(3, 0, 1), "b"));
+        assertEquals(Collections.singleton("a"), trie.findMatchingValues(new LwM2mPath(3, 0, 1)));
+        assertTrue(trie.remove(new LwM2mPath(3, 0), "a"));
+        assertTrue(trie.findMatchingValues(new LwM2mPath(3, 0, 1)).isEmpty());
+        assertTrue(trie.isEmpty());
+    }
+
+    @Test
+    void behave_like_start_with() {
+        Random random = new Random(42);
+        List<LwM2mPath> paths = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            paths.add(randomPath(random));
+        }
+        LwM2mPathTrie<LwM2mPath> trie = new LwM2mPathTrie<>();
+        for (LwM2mPath path : paths) {
+            trie.add(path, path);
+        }
+        // remove some paths
+        Set<LwM2mPath> expectedPaths = new LinkedHashSet<>(paths);
+        for (int i = 0; i < 100; i++) {
+            LwM2mPath path = paths.get(random.nextInt(paths.size()));
+            trie.remove(path, path);
+            expectedPaths.remove(path);
+        }
+        assertEquals(expectedPaths.size(), trie.size());
+
+        for (int i = 0; i < 500; i++) {
+            LwM2mPath changedPath = randomPath(random);
+            Set<LwM2mPath> expected = new HashSet<>();
+            for (LwM2mPath path : expectedPaths) {
+                if (changedPath.startWith(path)) {
+                    expected.add(path);
+                }
+            }
+            assertEquals(expected, trie.findMatchingValues(changedPath), "unexpected values for " + changedPath);
+        }
+    }
+
+    private LwM2mPath randomPath(Random random) {
+        switch (random.nextInt(5)) {
+        case 0:
+            return LwM2mPath.ROOTPATH;
+        case 1:
+            return new LwM2mPath(random.nextInt(4));
+        case 2:
+            return new LwM2mPath(random.nextInt(4), random.nextInt(4));
+        case 3:
+            return new LwM2mPath(random.nextInt(4), random.nextInt(4), random.nextInt(8));
+        default:
+            return new LwM2mPath(random.nextInt(4), random.nextInt(4), random.nextInt(8), random.nextInt(2));
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.node;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.Date;
+
+import org.eclipse.leshan.core.model.ResourceModel.Type;
+import org.eclipse.leshan.core.node.LwM2mTimeSeries.Column;
+import org.eclipse.leshan.core.util.datatype.ULong;
+import org.junit.jupiter.api.Test;
+
+class LwM2mTimeSeriesTest {
+
+    private final Instant t1 = Instant.ofEpochSecond(1_700_000_000L, 123_456_789);
+    private final Instant t2 = Instant.ofEpochSecond(1_700_000_010L);
+    private final Instant t3 = Instant.ofEpochSecond(1_700_000_020L);
+
+    @Test
+    void primitive_values_are_stored_without_nodes() {
+        TimestampedLwM2mNodes nodes = TimestampedLwM2mNodes.builder() //
+                .put(t1, new LwM2mPath(3442, 0, 1), LwM2mSingleResource.newFloatResource(1, 1.5d)) //
+                .put(t1, new LwM2mPath(3442, 0, 2), LwM2mSingleResource.newIntegerResource(2, -4)) //
+                .put(t1, new LwM2mPath(3442, 0, 3),
+                        LwM2mSingleResource.newUnsignedIntegerResource(3, ULong.valueOf("18446744073709551615"))) //
+                .put(t1, new LwM2mPath(3442, 0, 4), LwM2mSingleResource.newDateResource(4, new Date(1500L))) //
+                .put(t1, new LwM2mPath(3442, 0, 5, 0), LwM2mResourceInstance.newBooleanInstance(0, true)) //
+                .put(t1, new LwM2mPath(3442, 0, 6), LwM2mSingleResource.newStringResource(6, "hello")) //
+                .build();
+
+        LwM2mTimeSeries timeSeries = LwM2mTimeSeries.from(nodes);
+
+        assertEquals(6, timeSeries.getSampleCount());
+        Column floatColumn = timeSeries.getColumn(new LwM2mPath(3442, 0, 1));
+        assertTrue(floatColumn.isPrimitive());
+        assertEquals(Type.FLOAT, floatColumn.getType());
+        assertEquals(1.5d, floatColumn.getDouble(0));
+        assertEquals(-4L, timeSeries.getColumn(new LwM2mPath(3442, 0, 2)).getLong(0));
+        assertEquals(-1L, timeSeries.getColumn(new LwM2mPath(3442, 0, 3)).getLong(0));
+        assertEquals(1500L, timeSeries.getColumn(new LwM2mPath(3442, 0, 4)).getLong(0));
+        assertEquals(1L, timeSeries.getColumn(new LwM2mPath(3442, 0, 5, 0)).getLong(0));
+        Column stringColumn = timeSeries.getColumn(new LwM2mPath(3442, 0, 6));
+        assertFalse(stringColumn.isPrimitive());
+        assertThrowsExactly(IllegalStateException.class, () -> stringColumn.getLong(0));
+        assertEquals(t1, floatColumn.getInstant(0));
+
+        assertEquals(nodes, timeSeries.toTimestampedNodes());
+    }
+
+    @Test
+    void samples_are_sorted_by_timestamp() {
+        LwM2mPath path = new LwM2mPath(3303, 0, 5700);
+        LwM2mTimeSeries timeSeries = LwM2mTimeSeries.builder() //
+                .putDouble(LwM2mTimeSeries.toEpochNanos(t3), path, 3d) //
+                .putDouble(LwM2mTimeSeries.NO_TIMESTAMP, path, 0d) //
+                .putDouble(LwM2mTimeSeries.toEpochNanos(t1), path, 1d) //
+                .putDouble(LwM2mTimeSeries.toEpochNanos(t2), path, 2d) //
+                .build();
+
+        Column column = timeSeries.getColumn(path);
+        assertEquals(4, column.size());
+        assertEquals(t1, column.getInstant(0));
+        assertEquals(t2, column.getInstant(1));
+        assertEquals(t3, column.getInstant(2));
+        assertNull(column.getInstant(3));
+        assertEquals(1d, column.getDouble(0));
+        assertEquals(2d, column.getDouble(1));
+        assertEquals(3d, column.getDouble(2));
+        assertEquals(0d, column.getDouble(3));
+    }
+
+    @Test
+    void many_samples_can_be_added() {
+        LwM2mPath floatPath = new LwM2mPath(3303, 0, 5700);
+        LwM2mPath integerPath = new LwM2mPath(3, 0, 9);
+        LwM2mPath mixedPath = new LwM2mPath(3442, 0, 1);
+        LwM2mTimeSeries.Builder builder = LwM2mTimeSeries.builder();
+        for (int i = 0; i < 100; i++) {
+            builder.putDouble(i, floatPath, i);
+            builder.putValue(i, integerPath, Type.INTEGER, (long) i);
+            builder.putValue(i, mixedPath, i < 50 ? Type.INTEGER : Type.STRING, i < 50 ? (long) i : "v" + i);
+        }
+        LwM2mTimeSeries timeSeries = builder.build();
+
+        assertEquals(300, timeSeries.getSampleCount());
+        assertEquals(99d, timeSeries.getColumn(floatPath).getDouble(99));
+        assertEquals(99L, timeSeries.getColumn(integerPath).getLong(99));
+        assertEquals(LwM2mSingleResource.newIntegerResource(1, 49), timeSeries.getColumn(mixedPath).getNode(49));
+        assertEquals(LwM2mSingleResource.newStringResource(1, "v99"), timeSeries.getColumn(mixedPath).getNode(99));
+    }
+
+    @Test
+    void unordered_samples_are_sorted_keeping_last_duplicate() {
+        LwM2mPath path = new LwM2mPath(3, 0, 9);
+        LwM2mTimeSeries.Builder builder = LwM2mTimeSeries.builder().raiseExceptionOnDuplicate(false);
+        // 3 values per timestamp, timestamps added in a shuffled order
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 37; i++) {
+                long timestamp = (i * 17) % 37;
+                builder.putValue(timestamp, path, Type.INTEGER, timestamp * 10 + round);
+            }
+        }
+        builder.putValue(LwM2mTimeSeries.NO_TIMESTAMP, path, Type.INTEGER, -1L);
+        builder.putValue(Long.MIN_VALUE, path, Type.INTEGER, -2L);
+
+        Column column = builder.build().getColumn(path);
+        assertEquals(39, column.size());
+        assertEquals(-2L, column.getLong(0));
+        for (int i = 0; i < 37; i++) {
+            assertEquals(i * 10 + 2L, column.getLong(i + 1));
+        }
+        assertNull(column.getInstant(38));
+        assertEquals(-1L, column.getLong(38));
+    }
+
+    @Test
+    void column_switches_to_nodes_when_type_changes() {
+        LwM2mPath path = new LwM2mPath(3442, 0, 1);
+        TimestampedLwM2mNodes nodes = TimestampedLwM2mNodes.builder() //
+                .put(t1, path, LwM2mSingleResource.newIntegerResource(1, 10)) //
+                .put(t2, path, LwM2mSingleResource.newFloatResource(1, 10.5d)) //
+                .put(t3, path, LwM2mSingleResource.newStringResource(1, "ten")) //
+                .build();
+
+        LwM2mTimeSeries timeSeries = LwM2mTimeSeries.from(nodes);
+
+        Column column = timeSeries.getColumn(path);
+        assertFalse(column.isPrimitive());
+        assertEquals(LwM2mSingleResource.newIntegerResource(1, 10), column.getNode(0));
+        assertEquals(LwM2mSingleResource.newFloatResource(1, 10.5d), column.getNode(1));
+        assertEquals(nodes, timeSeries.toTimestampedNodes());
+    }
+
+    @Test
+    void null_values_are_kept() {
+        LwM2mPath path = new LwM2mPath(3442, 0, 2);
+        LwM2mTimeSeries timeSeries = LwM2mTimeSeries.builder() //
+                .putValue(LwM2mTimeSeries.toEpochNanos(t1), path, Type.INTEGER, 5L) //
+                .putValue(LwM2mTimeSeries.toEpochNanos(t2), path, Type.INTEGER, null) //
+                .build();
+
+        Column column = timeSeries.getColumn(path);
+        assertTrue(column.isPrimitive());
+        assertFalse(column.isNull(0));
+        assertTrue(column.isNull(1));
+        assertNull(column.getNode(1));
+        assertEquals(TimestampedLwM2mNodes.builder() //
+                .put(t1, path, LwM2mSingleResource.newIntegerResource(2, 5)) //
+                .put(t2, path, null) //
+                .build(), timeSeries.toTimestampedNodes());
+    }
+
+    @Test
+    void duplicates_raise_exception_by_default() {
+        LwM2mPath path = new LwM2mPath(3442, 0, 2);
+        LwM2mTimeSeries.Builder builder = LwM2mTimeSeries.builder() //
+                .put(t1, path, LwM2mSingleResource.newIntegerResource(2, 1)) //
+                .put(t1, path, LwM2mSingleResource.newIntegerResource(2, 2));
+
+        builder.put(t2, path, LwM2mSingleResource.newIntegerResource(2, 3));
+
+        assertThrowsExactly(IllegalArgumentException.class, builder::build);
+
+        LwM2mTimeSeries timeSeries = builder.raiseExceptionOnDuplicate(false).build();
+        Column column = timeSeries.getColumn(path);
+        assertEquals(2, column.size());
+        assertEquals(2L, column.getLong(0));
+        assertEquals(3L, column.getLong(1));
+    }
+
+    @Test
+    void builder_can_be_reused_after_build() {
+        LwM2mPath path = new LwM2mPath(3442, 0, 1);
+        LwM2mTimeSeries.Builder builder = LwM2mTimeSeries.builder().putDouble(LwM2mTimeSeries.toEpochNanos(t1), path,
+                1d);
+        LwM2mTimeSeries first = builder.build();
+        builder.putDouble(LwM2mTimeSeries.toEpochNanos(t2), path, 2d);
+        LwM2mTimeSeries second = builder.build();
+
+        assertEquals(1, first.getSampleCount());
+        assertEquals(2, second.getSampleCount());
+        assertEquals(2, LwM2mTimeSeries.builder().add(first).add(second).raiseExceptionOnDuplicate(false).build()
+                .getSampleCount());
+    }
+
+    @Test
+    void invalid_path_is_rejected() {
+        assertThrowsExactly(IllegalArgumentException.class, () -> LwM2mTimeSeries.builder().put(t1,
+                new LwM2mPath(3442, 0, 1), LwM2mSingleResource.newIntegerResource(2, 1)));
+        assertThrowsExactly(IllegalArgumentException.class,
+                () -> LwM2mTimeSeries.builder().putDouble(0, new LwM2mPath(3442, 0), 1d));
+    }
+
+    @Test
+    void timestamps_are_converted_to_nanoseconds() {
+        assertEquals(LwM2mTimeSeries.NO_TIMESTAMP, LwM2mTimeSeries.toEpochNanos(null));
+        assertNull(LwM2mTimeSeries.toInstant(LwM2mTimeSeries.NO_TIMESTAMP));
+        assertEquals(t1, LwM2mTimeSeries.toInstant(LwM2mTimeSeries.toEpochNanos(t1)));
+        Instant beforeEpoch = Instant.ofEpochSecond(-10, 1);
+        assertEquals(beforeEpoch, LwM2mTimeSeries.toInstant(LwM2mTimeSeries.toEpochNanos(beforeEpoch)));
+        assertThrowsExactly(IllegalArgumentException.class,
+                () -> LwM2mTimeSeries.toEpochNanos(Instant.ofEpochSecond(Long.MAX_VALUE / 1_000_000_000L + 1)));
+    }
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.node.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.model.LwM2mModel;
+import org.eclipse.leshan.core.model.ObjectModel;
+import org.eclipse.leshan.core.model.StaticModel;
+import org.eclipse.leshan.core.node.LwM2mObjectInstance;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.LwM2mResource;
+import org.eclipse.leshan.core.node.LwM2mSingleResource;
+import org.eclipse.leshan.core.node.ObjectLink;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.core.util.Hex;
+import org.eclipse.leshan.core.util.TestObjectLoader;
+import org.eclipse.leshan.core.util.datatype.ULong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Check that CBOR and SenML-CBOR codecs based on streaming CBOR reader/writer behave like codecs based on CBOR-Java.
+ */
+public class LwM2mNodeCborStreamingDecoderEncoderTest {
+
+    private final LwM2mModel model = new StaticModel(TestObjectLoader.loadAllDefault());
+    private final LwM2mModel emptyModel = new StaticModel(Collections.<ObjectModel> emptyList());
+
+    private final LwM2mDecoder decoder = new DefaultLwM2mDecoder();
+    private final LwM2mEncoder encoder = new DefaultLwM2mEncoder();
+    private final LwM2mDecoder streamingDecoder = new DefaultLwM2mDecoder(
+            DefaultLwM2mDecoder.getDefaultNodeDecoders(false, true));
+    private final LwM2mEncoder streamingEncoder = new DefaultLwM2mEncoder(
+            DefaultLwM2mEncoder.getDefaultNodeEncoders(false, true), DefaultLwM2mEncoder.getDefaultPathEncoder(),
+            new LwM2mValueChecker());
+
+    private List<LwM2mResource> givenResourcesOfAllTypes() {
+        return Arrays.<LwM2mResource> asList( //
+                LwM2mSingleResource.newStringResource(110, "\u00e9t\u00e9 \ud83d\ude00"), //
+                LwM2mSingleResource.newIntegerResource(120, -4294967296L), //
+                LwM2mSingleResource.newUnsignedIntegerResource(125, ULong.valueOf("18446744073709551615")), //
+                LwM2mSingleResource.newFloatResource(130, 300.5d), //
+                LwM2mSingleResource.newBooleanResource(140, true), //
+                LwM2mSingleResource.newBinaryResource(150, new byte[] { 1, 2, 3 }), //
+                LwM2mSingleResource.newDateResource(160, new Date(1700000000000L)), //
+                LwM2mSingleResource.newObjectLinkResource(170, new ObjectLink(3, 0)), //
+                LwM2mSingleResource.newCoreLinkResource(180, new Link[] { new Link("/3/0"), new Link("/1/0") }));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = { "CBOR", "SENML_CBOR" })
+    public void encode_decode_single_resources(String contentFormatName) {
+        ContentFormat format = ContentFormat.fromName(contentFormatName);
+        for (LwM2mResource resource : givenResourcesOfAllTypes()) {
+            LwM2mPath path = new LwM2mPath(3442, 0, resource.getId());
+
+            byte[] encoded = streamingEncoder.encode(resource, format, null, path, model);
+            assertEquals(Hex.encodeHexString(encoder.encode(resource, format, null, path, model)),
+                    Hex.encodeHexString(encoded), "unexpected payload for " + path);
+
+            assertEquals(decoder.decode(encoded, format, null, path, model),
+                    streamingDecoder.decode(encoded, format, null, path, model));
+        }
+    }
+
+    @Test
+    public void encode_decode_object_instance() {
+        LwM2mObjectInstance instance = new LwM2mObjectInstance(0, givenResourcesOfAllTypes());
+        LwM2mPath path = new LwM2mPath(3442, 0);
+
+        byte[] encoded = streamingEncoder.encode(instance, ContentFormat.SENML_CBOR, null, path, model);
+        assertEquals(Hex.encodeHexString(encoder.encode(instance, ContentFormat.SENML_CBOR, null, path, model)),
+                Hex.encodeHexString(encoded));
+
+        assertEquals(decoder.decode(encoded, ContentFormat.SENML_CBOR, null, path, model),
+                streamingDecoder.decode(encoded, ContentFormat.SENML_CBOR, null, path, model));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = { "00", "3903e7", "1bffffffffffffffff", "f93e00", "fb3ff199999999999a", "f5", "6449455446",
+            "4401020304", "c11a6553f100", "c1fb41d954fc40000000", "c074323031332d30332d32315432303a30343a30305a" })
+    public void decode_cbor_value_without_model(String hex) {
+        byte[] cbor = Hex.decodeHex(hex.toCharArray());
+        LwM2mPath path = new LwM2mPath(3442, 0, 1000);
+
+        assertEquals(decoder.decode(cbor, ContentFormat.CBOR, null, path, emptyModel),
+                streamingDecoder.decode(cbor, ContentFormat.CBOR, null, path, emptyModel));
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}")
+    @ValueSource(strings = { "", "1a0001", "8101", "0001", "c24101", "6161" })
+    public void decode_invalid_cbor_value(String hex) {
+        byte[] cbor = Hex.decodeHex(hex.toCharArray());
+        LwM2mPath path = new LwM2mPath(3442, 0, 120);
+
+        assertThrows(CodecException.class, () -> decoder.decode(cbor, ContentFormat.CBOR, null, path, model));
+        assertThrows(CodecException.class, () -> streamingDecoder.decode(cbor, ContentFormat.CBOR, null, path, model));
+    }
+}
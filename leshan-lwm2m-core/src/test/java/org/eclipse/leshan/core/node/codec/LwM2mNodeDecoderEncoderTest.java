@@ -66,4 +66,26 @@ public class LwM2mNodeDecoderEncoderTest {
         assertEquals(timestampedData, decodeTimestampedData);
     }
 
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("contentFormats")
+    public void encode_decode_timestamped_values_with_whole_seconds(ContentFormat format) {
+
+        // resource used for test, decoders return most recent values first
+        LwM2mPath resourcePath = new LwM2mPath("3/0/9");
+        List<TimestampedLwM2mNode> timestampedData = Arrays.asList(
+                new TimestampedLwM2mNode(Instant.ofEpochSecond(1700000001L),
+                        LwM2mSingleResource.newIntegerResource(resourcePath.getResourceId(), 84)),
+                new TimestampedLwM2mNode(Instant.ofEpochSecond(1700000000L),
+                        LwM2mSingleResource.newIntegerResource(resourcePath.getResourceId(), 85)));
+
+        // try to encode then to decode and compare result
+        byte[] encodedTimestampedData = encoder.encodeTimestampedData(timestampedData, format, null, resourcePath,
+                model);
+
+        List<TimestampedLwM2mNode> decodeTimestampedData = decoder.decodeTimestampedData(encodedTimestampedData, format,
+                null, resourcePath, model);
+
+        assertEquals(timestampedData, decodeTimestampedData);
+    }
+
 }
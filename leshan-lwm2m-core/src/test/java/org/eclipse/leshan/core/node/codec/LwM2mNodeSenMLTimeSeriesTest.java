@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.node.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+
+import org.eclipse.leshan.core.model.LwM2mModel;
+import org.eclipse.leshan.core.model.StaticModel;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.LwM2mResourceInstance;
+import org.eclipse.leshan.core.node.LwM2mSingleResource;
+import org.eclipse.leshan.core.node.LwM2mTimeSeries;
+import org.eclipse.leshan.core.node.TimestampedLwM2mNodes;
+import org.eclipse.leshan.core.node.codec.senml.LwM2mNodeSenMLDecoder;
+import org.eclipse.leshan.core.node.codec.senml.LwM2mNodeSenMLEncoder;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.core.util.TestObjectLoader;
+import org.eclipse.leshan.core.util.datatype.ULong;
+import org.eclipse.leshan.senml.cbor.streaming.SenMLCborStreamingEncoderDecoder;
+import org.eclipse.leshan.senml.json.jackson.SenMLJsonStreamingEncoderDecoder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Check that {@link LwM2mTimeSeries} are encoded/decoded like {@link TimestampedLwM2mNodes}.
+ */
+public class LwM2mNodeSenMLTimeSeriesTest {
+
+    private final LwM2mModel model = new StaticModel(TestObjectLoader.loadAllDefault());
+
+    private final LwM2mDecoder decoder = new DefaultLwM2mDecoder();
+    private final LwM2mEncoder encoder = new DefaultLwM2mEncoder();
+
+    private LwM2mNodeSenMLEncoder givenSenMLEncoder(ContentFormat format) {
+        if (format == ContentFormat.SENML_JSON) {
+            return new LwM2mNodeSenMLEncoder(new SenMLJsonStreamingEncoderDecoder());
+        } else {
+            return new LwM2mNodeSenMLEncoder(new SenMLCborStreamingEncoderDecoder());
+        }
+    }
+
+    private LwM2mNodeSenMLDecoder givenSenMLDecoder(ContentFormat format) {
+        if (format == ContentFormat.SENML_JSON) {
+            return new LwM2mNodeSenMLDecoder(new SenMLJsonStreamingEncoderDecoder(), true);
+        } else {
+            return new LwM2mNodeSenMLDecoder(new SenMLCborStreamingEncoderDecoder(), false);
+        }
+    }
+
+    private TimestampedLwM2mNodes.Builder givenTimestampedNodes() {
+        Instant t1 = Instant.ofEpochSecond(1_700_000_000L);
+        Instant t2 = Instant.ofEpochSecond(1_700_000_001L, 500_000_000);
+        return TimestampedLwM2mNodes.builder() //
+                .put(t1, new LwM2mPath(3442, 0, 110), LwM2mSingleResource.newStringResource(110, "\u00e9t\u00e9")) //
+                .put(t1, new LwM2mPath(3442, 0, 120), LwM2mSingleResource.newIntegerResource(120, -4294967296L)) //
+                .put(t1, new LwM2mPath(3442, 0, 125),
+                        LwM2mSingleResource.newUnsignedIntegerResource(125, ULong.valueOf("18446744073709551615"))) //
+                .put(t1, new LwM2mPath(3442, 0, 130), LwM2mSingleResource.newFloatResource(130, 300.5d)) //
+                .put(t1, new LwM2mPath(3442, 0, 140), LwM2mSingleResource.newBooleanResource(140, true)) //
+                .put(t1, new LwM2mPath(3442, 0, 160),
+                        LwM2mSingleResource.newDateResource(160, new Date(1700000000000L))) //
+                .put(t2, new LwM2mPath(3442, 0, 130), LwM2mSingleResource.newFloatResource(130, 301.25d)) //
+                .put(t2, new LwM2mPath(3442, 0, 1110, 0), LwM2mResourceInstance.newStringInstance(0, "a"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = { "SENML_JSON", "SENML_CBOR" })
+    public void encode_time_series(String contentFormatName) {
+        ContentFormat format = ContentFormat.fromName(contentFormatName);
+        // value without timestamp
+        TimestampedLwM2mNodes nodes = givenTimestampedNodes()
+                .put(new LwM2mPath(3442, 0, 130), LwM2mSingleResource.newFloatResource(130, 0.5d)).build();
+
+        byte[] encoded = givenSenMLEncoder(format).encodeTimeSeries(null, LwM2mTimeSeries.from(nodes), model,
+                new LwM2mValueChecker());
+
+        assertEquals(nodes, decoder.decodeTimestampedNodes(encoded, format, null, null, model));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = { "SENML_JSON", "SENML_CBOR" })
+    public void decode_time_series(String contentFormatName) {
+        ContentFormat format = ContentFormat.fromName(contentFormatName);
+        TimestampedLwM2mNodes nodes = givenTimestampedNodes().build();
+        byte[] encoded = encoder.encodeTimestampedNodes(nodes, format, null, model);
+
+        LwM2mTimeSeries timeSeries = givenSenMLDecoder(format).decodeTimeSeries(encoded, null, model);
+
+        assertEquals(nodes, timeSeries.toTimestampedNodes());
+        assertEquals(decoder.decodeTimestampedNodes(encoded, format, null, null, model),
+                timeSeries.toTimestampedNodes());
+    }
+
+    @ParameterizedTest(name = "[{index}] {0}")
+    @ValueSource(strings = { "[{\"bn\":\"/3442/0/\",\"n\":\"120\",\"vs\":\"a\"}]", // bad type
+            "[{\"bn\":\"/3442/\",\"n\":\"0\",\"v\":1}]", // not a resource
+            "[{\"bn\":\"/3442/0/\",\"n\":\"120\",\"v\":1}" // invalid json
+    })
+    public void decode_invalid_time_series(String json) {
+        assertThrows(CodecException.class, () -> givenSenMLDecoder(ContentFormat.SENML_JSON)
+                .decodeTimeSeries(json.getBytes(StandardCharsets.UTF_8), null, model));
+    }
+}
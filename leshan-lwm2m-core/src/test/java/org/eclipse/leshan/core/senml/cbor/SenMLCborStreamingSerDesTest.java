@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.senml.cbor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.leshan.core.util.Hex;
+import org.eclipse.leshan.core.util.datatype.ULong;
+import org.eclipse.leshan.senml.SenMLException;
+import org.eclipse.leshan.senml.SenMLPack;
+import org.eclipse.leshan.senml.SenMLRecord;
+import org.eclipse.leshan.senml.cbor.streaming.SenMLCborStreamingEncoderDecoder;
+import org.eclipse.leshan.senml.cbor.upokecenter.SenMLCborUpokecenterEncoderDecoder;
+import org.junit.jupiter.api.Test;
+
+public class SenMLCborStreamingSerDesTest extends AbstractSenMLTest {
+
+    private final SenMLCborStreamingEncoderDecoder streaming = new SenMLCborStreamingEncoderDecoder();
+    private final SenMLCborUpokecenterEncoderDecoder cborJava = new SenMLCborUpokecenterEncoderDecoder();
+
+    private byte[] cbor(String hex) {
+        return Hex.decodeHex(hex.toCharArray());
+    }
+
+    @Test
+    public void serialize_then_deserialize_device_object() throws SenMLException {
+        byte[] cbor = streaming.toSenML(givenDeviceObjectInstance());
+        SenMLPack pack = streaming.fromSenML(cbor);
+        SenMLTestUtil.assertSenMLPackEquals(givenDeviceObjectInstance(), pack);
+    }
+
+    @Test
+    public void deserialize_device_object() throws SenMLException {
+        SenMLPack pack = streaming.fromSenML(cbor(givenSenMLCborExample()));
+        SenMLTestUtil.assertSenMLPackEquals(givenDeviceObjectInstance(), pack);
+    }
+
+    @Test
+    public void deserialize_records_one_by_one() throws SenMLException {
+        List<SenMLRecord> records = new ArrayList<>();
+        streaming.fromSenML(cbor(givenSenMLCborExample()), records::add);
+        SenMLTestUtil.assertSenMLPackEquals(givenDeviceObjectInstance(), new SenMLPack(records));
+    }
+
+    @Test
+    public void serialize_like_cbor_java_encoder() throws SenMLException {
+        SenMLPack pack = givenDeviceObjectInstance();
+        pack.addRecord(new SenMLRecord("/3442/0/", new BigDecimal("1700000000.5"), "1", BigDecimal.ONE, 1.5f, null,
+                null, null, null));
+        pack.addRecord(new SenMLRecord(null, null, "2", null, 1.1d, null, null, null, null));
+        pack.addRecord(new SenMLRecord(null, null, "3", null, Long.MIN_VALUE, null, null, null, null));
+        pack.addRecord(
+                new SenMLRecord(null, null, "4", null, ULong.valueOf("18446744073709551615"), null, null, null, null));
+        pack.addRecord(new SenMLRecord(null, null, "5", null, new BigInteger("-18446744073709551617"), null, null, null,
+                null));
+        pack.addRecord(new SenMLRecord(null, null, "6", null, new BigDecimal("1.10"), null, null, null, null));
+        pack.addRecord(new SenMLRecord(null, null, "7", null, null, false, null, null, null));
+        pack.addRecord(new SenMLRecord(null, null, "8", null, null, null, "1:2", null, null));
+        pack.addRecord(new SenMLRecord(null, null, "9", null, null, null, null, "\u00e9t\u00e9", null));
+        pack.addRecord(new SenMLRecord(null, null, "10", null, null, null, null, null, new byte[] { 1, 2, 3 }));
+
+        assertEquals(Hex.encodeHexString(cborJava.toSenML(pack)), Hex.encodeHexString(streaming.toSenML(pack)));
+    }
+
+    @Test
+    public void deserialize_like_cbor_java_decoder() throws SenMLException {
+        // [{-2: "/3442/0/", -3: 4([-1, 17000000005]), 0: "1", 6: -5, 2: 4([-1, 15])},
+        // {0: "2", 2: 18446744073709551615}, {0: "3", 2: -18446744073709551616}, {0: "4", 2: 2(h'0100000000')},
+        // {0: "5", 2: 4([-1, 11])}, {0: "6", 2: 5([-1, 3])}, {0: "7", 2: 1.1},
+        // {0: "8", 4: true, "unknown": {1: [1, 2]}, 42: "ignored"}, {0: "9", "vlo": "1:2"},
+        // {0: "10", 8: h'ABCDEF'}, {0: "11", 3: "ete"}]
+        byte[] cbor = cbor("8b" //
+                + "a521682f333434322f302f22c482201b00000003f5476a05006131062402c482200f" //
+                + "a2006132021bffffffffffffffff" //
+                + "a2006133023bffffffffffffffff" //
+                + "a200613402c2450100000000" //
+                + "a200613502c482200b" //
+                + "a200613602c5822003" //
+                + "a200613702fb3ff199999999999a" //
+                + "a400613804f567756e6b6e6f776ea101820102182a6769676e6f726564" //
+                + "a200613963766c6f63313a32" //
+                + "a2006231300843abcdef" //
+                + "a2006231310363657465");
+
+        SenMLPack expected = cborJava.fromSenML(cbor);
+        SenMLPack pack = streaming.fromSenML(cbor);
+
+        assertEquals(expected, pack);
+        assertEquals(new BigDecimal("1700000000.5"), pack.getRecords().get(0).getBaseTime());
+        assertEquals(1.5d, pack.getRecords().get(0).getNumberValue());
+        assertEquals(ULong.valueOf("18446744073709551615"), pack.getRecords().get(1).getNumberValue());
+        assertEquals(new BigInteger("-18446744073709551616"), pack.getRecords().get(2).getNumberValue());
+        assertEquals(4294967296L, pack.getRecords().get(3).getNumberValue());
+        assertEquals(new BigDecimal("1.1"), pack.getRecords().get(4).getNumberValue());
+    }
+
+    @Test
+    public void deserialize_indefinite_length_items() throws SenMLException {
+        // [_ {_ -2: "/3/0/", 0: "0", 3: (_ "Open ", "Mobile Alliance")}, {_ 0: "9", 2: 100}]
+        byte[] cbor = cbor("9fbf21652f332f302f00613003" + "7f654f70656e206f4d6f62696c6520416c6c69616e6365ff" + "ff"
+                + "bf006139021864ff" + "ff");
+        SenMLPack pack = streaming.fromSenML(cbor);
+
+        SenMLPack expected = new SenMLPack();
+        expected.addRecord(new SenMLRecord("/3/0/", null, "0", null, null, null, null, "Open Mobile Alliance", null));
+        expected.addRecord(new SenMLRecord(null, null, "9", null, 100L, null, null, null, null));
+        assertEquals(expected, pack);
+        assertEquals(expected, cborJava.fromSenML(cbor));
+    }
+
+    @Test
+    public void deserialize_empty_payload() throws SenMLException {
+        assertTrue(streaming.fromSenML(new byte[0]).getRecords().isEmpty());
+        assertTrue(streaming.fromSenML(cbor("80")).getRecords().isEmpty());
+    }
+
+    @Test
+    public void serialize_record_without_value() throws SenMLException {
+        SenMLPack pack = new SenMLPack();
+        pack.addRecord(new SenMLRecord(null, null, "/3/0/1", null, null, null, null, null, null));
+
+        assertThrows(SenMLException.class, () -> streaming.toSenML(pack));
+        SenMLCborStreamingEncoderDecoder allowNoValue = new SenMLCborStreamingEncoderDecoder(true);
+        assertEquals(Hex.encodeHexString(new SenMLCborUpokecenterEncoderDecoder(false, true).toSenML(pack)),
+                Hex.encodeHexString(allowNoValue.toSenML(pack)));
+        assertEquals(pack, allowNoValue.fromSenML(allowNoValue.toSenML(pack)));
+    }
+
+    @Test
+    public void deserialize_invalid_payloads() {
+        // not an array
+        assertThrows(SenMLException.class, () -> streaming.fromSenML(cbor("a0")));
+        // not a map
+        assertThrows(SenMLException.class, () -> streaming.fromSenML(cbor("8101")));
+        // no value
+        assertThrows(SenMLException.class, () -> streaming.fromSenML(cbor("81a1006130")));
+        // invalid name type
+        assertThrows(SenMLException.class, () -> streaming.fromSenML(cbor("81a2000102f5")));
+        // invalid value type
+        assertThrows(SenMLException.class, () -> streaming.fromSenML(cbor("81a2006130026130")));
+        // tagged integer is not a number
+        assertThrows(SenMLException.class, () -> streaming.fromSenML(cbor("81a200613002c101")));
+        // truncated
+        assertThrows(SenMLException.class, () -> streaming.fromSenML(cbor("82a20061300201")));
+        // trailing data
+        assertThrows(SenMLException.class, () -> streaming.fromSenML(cbor("81a2006130020100")));
+    }
+}
@@ -26,8 +26,8 @@ import org.junit.jupiter.api.Test;
 
 public class SenMLJsonSerDesTest extends AbstractSenMLTest {
 
-    private final SenMLEncoder encoder;
-    private final SenMLDecoder decoder;
+    protected SenMLEncoder encoder;
+    protected SenMLDecoder decoder;
 
     public SenMLJsonSerDesTest() {
         SenMLJsonJacksonEncoderDecoder jackson = new SenMLJsonJacksonEncoderDecoder();
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.senml.cbor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.leshan.senml.SenMLException;
+import org.eclipse.leshan.senml.SenMLPack;
+import org.eclipse.leshan.senml.SenMLRecord;
+import org.eclipse.leshan.senml.json.jackson.SenMLJsonJacksonEncoderDecoder;
+import org.eclipse.leshan.senml.json.jackson.SenMLJsonStreamingEncoderDecoder;
+import org.junit.jupiter.api.Test;
+
+public class SenMLJsonStreamingSerDesTest extends SenMLJsonSerDesTest {
+
+    private final SenMLJsonJacksonEncoderDecoder treeBased = new SenMLJsonJacksonEncoderDecoder();
+
+    public SenMLJsonStreamingSerDesTest() {
+        SenMLJsonStreamingEncoderDecoder streaming = new SenMLJsonStreamingEncoderDecoder();
+        this.encoder = streaming;
+        this.decoder = streaming;
+    }
+
+    @Test
+    public void deserialize_records_one_by_one() throws SenMLException {
+        List<SenMLRecord> records = new ArrayList<>();
+        ((SenMLJsonStreamingEncoderDecoder) decoder).fromSenML(givenSenMLJsonExample().getBytes(), records::add);
+
+        SenMLTestUtil.assertSenMLPackEquals(givenDeviceObjectInstance(), new SenMLPack(records));
+    }
+
+    @Test
+    public void deserialize_like_tree_based_decoder() throws SenMLException {
+        byte[] json = ("[{\"bn\":\"/3442/0/\",\"bt\":1.700000000123E9,\"n\":\"1\",\"t\":-5,\"v\":1.50},"
+                + "{\"n\":\"2\",\"v\":18446744073709551615},{\"n\":\"3\",\"v\":-42},"
+                + "{\"n\":\"4\",\"vb\":true,\"unknown\":{\"a\":[1,2]}},{\"n\":\"5\",\"vlo\":\"1:2\"},"
+                + "{\"n\":\"6\",\"vd\":\"q83v\"},{\"n\":7,\"vs\":\"\\u00e9t\\u00e9\"}]")
+                        .getBytes(StandardCharsets.UTF_8);
+
+        SenMLPack expected = treeBased.fromSenML(json);
+        SenMLPack pack = decoder.fromSenML(json);
+
+        assertEquals(expected, pack);
+        assertEquals(new BigDecimal("1.50"), pack.getRecords().get(0).getNumberValue());
+        assertEquals(new BigInteger("18446744073709551615"), pack.getRecords().get(1).getNumberValue());
+    }
+
+    @Test
+    public void serialize_like_tree_based_encoder() throws SenMLException {
+        SenMLPack pack = new SenMLPack();
+        pack.addRecord(new SenMLRecord("/3442/0/", new BigDecimal("1700000000.5"), "1", BigDecimal.ONE, 1.5f, null,
+                null, null, null));
+        pack.addRecord(new SenMLRecord(null, null, "2", null, 2.25d, null, null, null, null));
+        pack.addRecord(new SenMLRecord(null, null, "3", null, Long.MAX_VALUE, null, null, null, null));
+        pack.addRecord(new SenMLRecord(null, null, "4", null, new BigDecimal("1.10"), null, null, null, null));
+        pack.addRecord(new SenMLRecord(null, null, "5", null, null, false, null, null, null));
+        pack.addRecord(new SenMLRecord(null, null, "6", null, null, null, "1:2", null, null));
+        pack.addRecord(new SenMLRecord(null, null, "7", null, null, null, null, "quote \" \\", null));
+
+        assertEquals(new String(treeBased.toSenML(pack), StandardCharsets.UTF_8),
+                new String(encoder.toSenML(pack), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void serialize_in_utf8() throws SenMLException {
+        SenMLPack pack = new SenMLPack();
+        pack.addRecord(new SenMLRecord("/3/0/", null, "15", null, null, null, null, "\u00e9t\u00e9", null));
+
+        assertEquals("[{\"bn\":\"/3/0/\",\"n\":\"15\",\"vs\":\"\u00e9t\u00e9\"}]",
+                new String(encoder.toSenML(pack), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void empty_payload_has_no_record() throws SenMLException {
+        assertTrue(decoder.fromSenML(new byte[0]).getRecords().isEmpty());
+        assertTrue(decoder.fromSenML("[]".getBytes()).getRecords().isEmpty());
+    }
+
+    @Test
+    public void deserialize_invalid_payload() {
+        assertThrows(SenMLException.class, () -> decoder.fromSenML("{\"n\":\"/3/0/1\",\"v\":1}".getBytes()));
+        assertThrows(SenMLException.class, () -> decoder.fromSenML("[{\"n\":\"/3/0/1\",\"v\":1}".getBytes()));
+        assertThrows(SenMLException.class, () -> decoder.fromSenML("[{\"n\":\"/3/0/1\"}]".getBytes()));
+        assertThrows(SenMLException.class, () -> decoder.fromSenML("[{\"n\":\"/3/0/1\",\"vd\":\"q8=v\"}]".getBytes()));
+    }
+}
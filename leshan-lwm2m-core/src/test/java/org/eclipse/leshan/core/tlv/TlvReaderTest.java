@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.tlv;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.eclipse.leshan.core.tlv.Tlv.TlvType;
+import org.eclipse.leshan.core.util.Hex;
+import org.junit.jupiter.api.Test;
+
+public class TlvReaderTest {
+
+    @Test
+    public void read_nested_tlv() throws TlvException {
+        // object instance 1 containing resource 0 ("a") and multiple resource 6 with instances 0 (1) and 1 (5),
+        // followed by resource instance 2 ([3,4]) which is not part of the object instance
+        byte[] content = Hex.decodeHex("08010BC10061860641000141010542020304".toCharArray());
+        TlvReader reader = new TlvReader(ByteBuffer.wrap(content));
+
+        assertEquals(TlvType.OBJECT_INSTANCE, reader.peekType());
+        reader.next();
+        assertEquals(TlvType.OBJECT_INSTANCE, reader.getType());
+        assertEquals(1, reader.getIdentifier());
+        assertEquals(11, reader.getLength());
+
+        TlvReader resources = reader.getChildren();
+        resources.next();
+        assertEquals(TlvType.RESOURCE_VALUE, resources.getType());
+        assertEquals(0, resources.getIdentifier());
+        assertArrayEquals("a".getBytes(), resources.getValue());
+
+        resources.next();
+        assertEquals(TlvType.MULTIPLE_RESOURCE, resources.getType());
+        assertEquals(6, resources.getIdentifier());
+        TlvReader instances = resources.getChildren();
+        instances.next();
+        assertArrayEquals(new byte[] { 1 }, instances.getValue());
+        instances.next();
+        assertEquals(1, instances.getIdentifier());
+        assertArrayEquals(new byte[] { 5 }, instances.getValue());
+        assertFalse(instances.hasNext());
+        assertFalse(resources.hasNext());
+
+        // parent reader skipped children
+        assertTrue(reader.hasNext());
+        reader.next();
+        assertEquals(TlvType.RESOURCE_INSTANCE, reader.getType());
+        assertEquals(ByteBuffer.wrap(new byte[] { 3, 4 }), reader.getValueBuffer());
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    public void read_same_tlv_as_decoder() throws TlvException {
+        Tlv[] tlvs = new Tlv[] { //
+                new Tlv(TlvType.MULTIPLE_RESOURCE, new Tlv[] { //
+                        new Tlv(TlvType.RESOURCE_INSTANCE, null, new byte[300], 2) }, null, 1000),
+                new Tlv(TlvType.RESOURCE_VALUE, null, new byte[70_000], 3) };
+        ByteBuffer encoded = TlvEncoder.encode(tlvs);
+
+        TlvReader reader = new TlvReader(encoded);
+        reader.next();
+        assertEquals(1000, reader.getIdentifier());
+        TlvReader children = reader.getChildren();
+        children.next();
+        assertEquals(300, children.getLength());
+        reader.next();
+        assertEquals(70_000, reader.getValue().length);
+        assertFalse(reader.hasNext());
+
+        // reader does not move given buffer
+        assertEquals(0, encoded.position());
+        assertArrayEquals(tlvs, TlvDecoder.decode(encoded));
+    }
+
+    @Test
+    public void value_longer_than_content_is_rejected() {
+        TlvReader reader = new TlvReader(ByteBuffer.wrap(new byte[] { (byte) 0b1100_0011, 0, 1, 2 }));
+        assertThrows(TlvException.class, reader::next);
+
+        TlvReader truncatedHeader = new TlvReader(ByteBuffer.wrap(new byte[] { (byte) 0b1111_0000, 0 }));
+        assertThrows(TlvException.class, truncatedHeader::next);
+    }
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.tlv;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Date;
+
+import org.eclipse.leshan.core.node.ObjectLink;
+import org.eclipse.leshan.core.tlv.Tlv.TlvType;
+import org.junit.jupiter.api.Test;
+
+public class TlvWriterTest {
+
+    private byte[] encodeWithTree(Tlv... tlvs) {
+        return TlvEncoder.encode(tlvs).array();
+    }
+
+    @Test
+    public void write_values_as_value_encoders() {
+        TlvWriter writer = new TlvWriter();
+        writer.writeInteger(TlvType.RESOURCE_VALUE, 0, 1245823);
+        writer.writeFloat(TlvType.RESOURCE_VALUE, 1, 3.14f);
+        writer.writeFloat(TlvType.RESOURCE_VALUE, 2, 3.14d);
+        writer.writeBoolean(TlvType.RESOURCE_VALUE, 3, true);
+        writer.writeDate(TlvType.RESOURCE_VALUE, 4, new Date(1_700_000_000_000L));
+        writer.writeObjlnk(TlvType.RESOURCE_VALUE, 5, new ObjectLink(3, 12));
+        writer.writeString(TlvType.RESOURCE_VALUE, 6, "Leshan");
+
+        byte[] expected = encodeWithTree( //
+                new Tlv(TlvType.RESOURCE_VALUE, null, TlvEncoder.encodeInteger(1245823), 0),
+                new Tlv(TlvType.RESOURCE_VALUE, null, TlvEncoder.encodeFloat(3.14f), 1),
+                new Tlv(TlvType.RESOURCE_VALUE, null, TlvEncoder.encodeFloat(3.14d), 2),
+                new Tlv(TlvType.RESOURCE_VALUE, null, TlvEncoder.encodeBoolean(true), 3),
+                new Tlv(TlvType.RESOURCE_VALUE, null, TlvEncoder.encodeDate(new Date(1_700_000_000_000L)), 4),
+                new Tlv(TlvType.RESOURCE_VALUE, null, TlvEncoder.encodeObjlnk(new ObjectLink(3, 12)), 5),
+                new Tlv(TlvType.RESOURCE_VALUE, null, TlvEncoder.encodeString("Leshan"), 6));
+        assertArrayEquals(expected, writer.toByteArray());
+    }
+
+    @Test
+    public void back_patch_length_of_nested_containers() {
+        // lengths need 0, 1, 2 and 3 bytes, identifiers need 1 or 2 bytes
+        byte[] small = new byte[5];
+        byte[] medium = new byte[200];
+        byte[] large = new byte[70_000];
+        Arrays.fill(large, (byte) 0xAB);
+
+        TlvWriter writer = new TlvWriter(16);
+        writer.startObjectInstance(1);
+        writer.writeBytes(TlvType.RESOURCE_VALUE, 0, small);
+        writer.startMultipleResource(300);
+        writer.writeBytes(TlvType.RESOURCE_INSTANCE, 0, medium);
+        writer.writeBytes(TlvType.RESOURCE_INSTANCE, 1000, large);
+        writer.end();
+        writer.end();
+        writer.startObjectInstance(2);
+        writer.end();
+
+        byte[] expected = encodeWithTree( //
+                new Tlv(TlvType.OBJECT_INSTANCE, new Tlv[] { //
+                        new Tlv(TlvType.RESOURCE_VALUE, null, small, 0), //
+                        new Tlv(TlvType.MULTIPLE_RESOURCE, new Tlv[] { //
+                                new Tlv(TlvType.RESOURCE_INSTANCE, null, medium, 0), //
+                                new Tlv(TlvType.RESOURCE_INSTANCE, null, large, 1000) }, null, 300) },
+                        null, 1),
+                new Tlv(TlvType.OBJECT_INSTANCE, new Tlv[0], null, 2));
+        assertArrayEquals(expected, writer.toByteArray());
+        assertEquals(expected.length, writer.size());
+
+        // check header of first object instance
+        ByteBuffer header = ByteBuffer.wrap(expected);
+        assertEquals(0b0001_1000, header.get() & 0xFF);
+        assertEquals(1, header.get());
+    }
+
+    @Test
+    public void reset_reuses_writer() {
+        TlvWriter writer = new TlvWriter();
+        writer.startObjectInstance(1);
+        writer.writeBytes(TlvType.RESOURCE_VALUE, 0, new byte[100]);
+        writer.end();
+
+        writer.reset();
+        writer.writeInteger(TlvType.RESOURCE_VALUE, 2, 42);
+
+        assertArrayEquals(new byte[] { (byte) 0b1100_0001, 2, 42 }, writer.toByteArray());
+    }
+
+    @Test
+    public void container_must_be_closed() {
+        TlvWriter writer = new TlvWriter();
+        writer.startObjectInstance(1);
+        assertThrows(IllegalStateException.class, writer::toByteArray);
+        writer.end();
+        assertThrows(IllegalStateException.class, writer::end);
+    }
+}
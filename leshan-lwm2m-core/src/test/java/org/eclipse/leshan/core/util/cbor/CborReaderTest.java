@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.util.cbor;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.eclipse.leshan.core.util.Hex;
+import org.junit.jupiter.api.Test;
+
+public class CborReaderTest {
+
+    // Test vectors from : https://datatracker.ietf.org/doc/html/rfc8949#appendix-A
+
+    private CborReader reader(String hex) {
+        return new CborReader(Hex.decodeHex(hex.toCharArray()));
+    }
+
+    @Test
+    public void read_integers() {
+        assertEquals(0L, reader("00").readInteger());
+        assertEquals(23L, reader("17").readInteger());
+        assertEquals(24L, reader("1818").readInteger());
+        assertEquals(1000L, reader("1903e8").readInteger());
+        assertEquals(1000000L, reader("1a000f4240").readInteger());
+        assertEquals(1000000000000L, reader("1b000000e8d4a51000").readInteger());
+        assertEquals(new BigInteger("18446744073709551615"), reader("1bffffffffffffffff").readInteger());
+        assertEquals(-1L, reader("20").readInteger());
+        assertEquals(-1000L, reader("3903e7").readInteger());
+        assertEquals(Long.MIN_VALUE, reader("3b7fffffffffffffff").readInteger());
+        assertEquals(new BigInteger("-18446744073709551616"), reader("3bffffffffffffffff").readInteger());
+    }
+
+    @Test
+    public void read_floating_point_numbers() {
+        assertEquals(0.0d, reader("f90000").readDouble());
+        assertEquals(-0.0d, reader("f98000").readDouble());
+        assertEquals(1.5d, reader("f93e00").readDouble());
+        assertEquals(65504.0d, reader("f97bff").readDouble());
+        assertEquals(5.960464477539063e-8d, reader("f90001").readDouble());
+        assertEquals(-4.0d, reader("f9c400").readDouble());
+        assertEquals(Double.POSITIVE_INFINITY, reader("f97c00").readDouble());
+        assertTrue(Double.isNaN(reader("f97e00").readDouble()));
+        assertEquals(100000.0d, reader("fa47c35000").readDouble());
+        assertEquals(1.1d, reader("fb3ff199999999999a").readDouble());
+        assertEquals(Double.NEGATIVE_INFINITY, reader("fbfff0000000000000").readDouble());
+    }
+
+    @Test
+    public void read_tagged_numbers() {
+        assertEquals(new BigInteger("18446744073709551616"), reader("c249010000000000000000").readNumber());
+        assertEquals(new BigInteger("-18446744073709551617"), reader("c349010000000000000000").readNumber());
+        assertEquals(1L, reader("c24101").readNumber());
+        assertEquals(new BigDecimal("273.15"), reader("c48221196ab3").readNumber());
+        assertEquals(new BigDecimal("1.5"), reader("c5822003").readNumber());
+        assertEquals(new BigDecimal("18446744073709551616E-1"), reader("c48220c249010000000000000000").readNumber());
+        assertTrue(reader("c48221196ab3").isNextNumber());
+        assertFalse(reader("c11a514b67b0").isNextNumber());
+    }
+
+    @Test
+    public void read_simple_values() {
+        assertEquals(CborType.BOOLEAN, reader("f4").peekType());
+        assertFalse(reader("f4").readBoolean());
+        assertTrue(reader("f5").readBoolean());
+        assertEquals(CborType.NULL, reader("f6").peekType());
+        assertEquals(CborType.UNDEFINED, reader("f7").peekType());
+        assertEquals(CborType.SIMPLE_VALUE, reader("f0").peekType());
+    }
+
+    @Test
+    public void read_strings() {
+        assertEquals("", reader("60").readTextString());
+        assertEquals("IETF", reader("6449455446").readTextString());
+        assertEquals("\u00fc", reader("62c3bc").readTextString());
+        assertEquals("\u6c34", reader("63e6b0b4").readTextString());
+        assertEquals("\ud800\udd51", reader("64f0908591").readTextString());
+        assertEquals("streaming", reader("7f657374726561646d696e67ff").readTextString());
+        assertArrayEquals(new byte[] { 1, 2, 3, 4 }, reader("4401020304").readByteString());
+        assertArrayEquals(new byte[] { 1, 2, 3, 4, 5 }, reader("5f42010243030405ff").readByteString());
+    }
+
+    @Test
+    public void read_containers() {
+        // [1, [2, 3], [4, 5]]
+        CborReader reader = reader("8301820203820405");
+        assertEquals(3, reader.readArrayStart());
+        assertEquals(1L, reader.readLong());
+        assertEquals(2, reader.readArrayStart());
+        reader.skip();
+        reader.skip();
+        reader.skip();
+        assertFalse(reader.hasRemaining());
+
+        // {_ "a": 1, "b": [_ 2, 3]}
+        reader = reader("bf61610161629f0203ffff");
+        assertEquals(CborReader.INDEFINITE_LENGTH, reader.readMapStart());
+        assertEquals("a", reader.readTextString());
+        assertEquals(1L, reader.readLong());
+        assertEquals("b", reader.readTextString());
+        assertEquals(CborReader.INDEFINITE_LENGTH, reader.readArrayStart());
+        assertEquals(2L, reader.readLong());
+        assertEquals(3L, reader.readLong());
+        assertEquals(CborType.BREAK, reader.peekType());
+        reader.readBreak();
+        reader.readBreak();
+        assertFalse(reader.hasRemaining());
+    }
+
+    @Test
+    public void skip_nested_items() {
+        // {"a": 1, "b": [2, 3]}, 0("2013-03-21T20:04:00Z"), then 1
+        CborReader reader = reader("a26161016162820203c074323031332d30332d32315432303a30343a30305a01");
+        reader.skip();
+        assertEquals(0L, reader.peekTag());
+        reader.skip();
+        assertEquals(1L, reader.readLong());
+        assertFalse(reader.hasRemaining());
+    }
+
+    @Test
+    public void read_invalid_data() {
+        assertThrowsExactly(CborException.class, () -> reader("").peekType());
+        assertThrowsExactly(CborException.class, () -> reader("19").readInteger());
+        assertThrowsExactly(CborException.class, () -> reader("6449").readTextString());
+        assertThrowsExactly(CborException.class, () -> reader("1c").readInteger());
+        assertThrowsExactly(CborException.class, () -> reader("61").readInteger());
+        assertThrowsExactly(CborException.class, () -> reader("9a00ffffff").readArrayStart());
+        assertThrowsExactly(CborException.class, () -> reader("7f01ff").readTextString());
+        assertThrowsExactly(CborException.class, () -> reader("ff").skip());
+        assertThrowsExactly(CborException.class, () -> reader("1bffffffffffffffff").readLong());
+        // too deep
+        StringBuilder nestedArrays = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            nestedArrays.append("81");
+        }
+        assertThrowsExactly(CborException.class, () -> reader(nestedArrays.append("00").toString()).skip());
+    }
+
+    @Test
+    public void read_too_big_definite_length() {
+        // 8 bytes length 0xffffffffffffffff, followed by valid content of indefinite length items
+        assertThrowsExactly(CborException.class, () -> reader("7bffffffffffffffff6161ff").readTextString());
+        assertThrowsExactly(CborException.class, () -> reader("5bffffffffffffffff4101ff").readByteString());
+        assertThrowsExactly(CborException.class, () -> reader("9bffffffffffffffff01ff").readArrayStart());
+        assertThrowsExactly(CborException.class, () -> reader("bbffffffffffffffff0102ff").readMapStart());
+        assertThrowsExactly(CborException.class, () -> reader("7bffffffffffffffff6161ff").skip());
+        assertThrowsExactly(CborException.class, () -> reader("5bffffffffffffffff4101ff").skip());
+        assertThrowsExactly(CborException.class, () -> reader("9bffffffffffffffff01ff").skip());
+        assertThrowsExactly(CborException.class, () -> reader("bbffffffffffffffff0102ff").skip());
+        // chunk of indefinite length string
+        assertThrowsExactly(CborException.class, () -> reader("7f7bffffffffffffffff6161ff").readTextString());
+        assertThrowsExactly(CborException.class, () -> reader("5f5bffffffffffffffff4101ff").skip());
+        // other lengths bigger than Long.MAX_VALUE or remaining data
+        assertThrowsExactly(CborException.class, () -> reader("7b80000000000000006161").readTextString());
+        assertThrowsExactly(CborException.class, () -> reader("5b7fffffffffffffff01").readByteString());
+        assertThrowsExactly(CborException.class, () -> reader("9b000000010000000001").readArrayStart());
+    }
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.core.util.cbor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.function.Consumer;
+
+import org.eclipse.leshan.core.util.Hex;
+import org.junit.jupiter.api.Test;
+
+public class CborWriterTest {
+
+    // Test vectors from : https://datatracker.ietf.org/doc/html/rfc8949#appendix-A
+
+    private String write(Consumer<CborWriter> content) {
+        CborWriter writer = new CborWriter();
+        content.accept(writer);
+        return Hex.encodeHexString(writer.toByteArray());
+    }
+
+    @Test
+    public void write_integers() {
+        assertEquals("00", write(w -> w.writeLong(0)));
+        assertEquals("17", write(w -> w.writeLong(23)));
+        assertEquals("1818", write(w -> w.writeLong(24)));
+        assertEquals("1903e8", write(w -> w.writeLong(1000)));
+        assertEquals("1a000f4240", write(w -> w.writeLong(1000000)));
+        assertEquals("1b000000e8d4a51000", write(w -> w.writeLong(1000000000000L)));
+        assertEquals("1bffffffffffffffff", write(w -> w.writeUnsignedLong(-1L)));
+        assertEquals("20", write(w -> w.writeLong(-1)));
+        assertEquals("3903e7", write(w -> w.writeLong(-1000)));
+        assertEquals("3b7fffffffffffffff", write(w -> w.writeLong(Long.MIN_VALUE)));
+    }
+
+    @Test
+    public void write_big_integers() {
+        assertEquals("1bffffffffffffffff", write(w -> w.writeBigInteger(new BigInteger("18446744073709551615"))));
+        assertEquals("3bffffffffffffffff", write(w -> w.writeBigInteger(new BigInteger("-18446744073709551616"))));
+        assertEquals("c249010000000000000000", write(w -> w.writeBigInteger(new BigInteger("18446744073709551616"))));
+        assertEquals("c349010000000000000000", write(w -> w.writeBigInteger(new BigInteger("-18446744073709551617"))));
+    }
+
+    @Test
+    public void write_decimal_fractions() {
+        assertEquals("c48221196ab3", write(w -> w.writeDecimal(new BigDecimal("273.15"))));
+        assertEquals("c482030f", write(w -> w.writeDecimal(new BigDecimal("1.5E4"))));
+        assertEquals("c482001a6553f100", write(w -> w.writeDecimal(new BigDecimal("1700000000"))));
+    }
+
+    @Test
+    public void write_floating_point_numbers_in_shortest_form() {
+        assertEquals("f90000", write(w -> w.writeDouble(0.0d)));
+        assertEquals("f98000", write(w -> w.writeDouble(-0.0d)));
+        assertEquals("f93e00", write(w -> w.writeDouble(1.5d)));
+        assertEquals("f97bff", write(w -> w.writeDouble(65504.0d)));
+        assertEquals("f90001", write(w -> w.writeDouble(5.960464477539063e-8d)));
+        assertEquals("f90400", write(w -> w.writeDouble(0.00006103515625d)));
+        assertEquals("f9c400", write(w -> w.writeDouble(-4.0d)));
+        assertEquals("f97c00", write(w -> w.writeDouble(Double.POSITIVE_INFINITY)));
+        assertEquals("f97e00", write(w -> w.writeDouble(Double.NaN)));
+        assertEquals("fa47c35000", write(w -> w.writeDouble(100000.0d)));
+        assertEquals("fa7f7fffff", write(w -> w.writeDouble(3.4028234663852886e+38d)));
+        assertEquals("fb3ff199999999999a", write(w -> w.writeDouble(1.1d)));
+        assertEquals("fb7e37e43c8800759c", write(w -> w.writeDouble(1.0e+300d)));
+        assertEquals("fa3f8ccccd", write(w -> w.writeFloat(1.1f)));
+    }
+
+    @Test
+    public void write_simple_values() {
+        assertEquals("f4", write(w -> w.writeBoolean(false)));
+        assertEquals("f5", write(w -> w.writeBoolean(true)));
+        assertEquals("f6", write(w -> w.writeNull()));
+    }
+
+    @Test
+    public void write_strings() {
+        assertEquals("60", write(w -> w.writeTextString("")));
+        assertEquals("6449455446", write(w -> w.writeTextString("IETF")));
+        assertEquals("62c3bc", write(w -> w.writeTextString("\u00fc")));
+        assertEquals("63e6b0b4", write(w -> w.writeTextString("\u6c34")));
+        assertEquals("64f0908591", write(w -> w.writeTextString("\ud800\udd51")));
+        assertEquals("613f", write(w -> w.writeTextString("\ud800")));
+        assertEquals("4401020304", write(w -> w.writeByteString(new byte[] { 1, 2, 3, 4 })));
+    }
+
+    @Test
+    public void write_containers() {
+        // [1, [2, 3], [4, 5]]
+        assertEquals("8301820203820405", write(w -> w.writeArrayStart(3).writeLong(1) //
+                .writeArrayStart(2).writeLong(2).writeLong(3) //
+                .writeArrayStart(2).writeLong(4).writeLong(5)));
+        // {"a": 1, "b": [2, 3]}
+        assertEquals("a26161016162820203", write(w -> w.writeMapStart(2) //
+                .writeTextString("a").writeLong(1) //
+                .writeTextString("b").writeArrayStart(2).writeLong(2).writeLong(3)));
+        // 1(1363896240)
+        assertEquals("c11a514b67b0", write(w -> w.writeTag(1).writeLong(1363896240)));
+    }
+
+    @Test
+    public void write_large_content() {
+        StringBuilder expected = new StringBuilder("590400");
+        byte[] content = new byte[1024];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+            expected.append(String.format("%02x", i & 0xFF));
+        }
+        assertEquals(expected.toString(), write(w -> w.writeByteString(content)));
+    }
+}
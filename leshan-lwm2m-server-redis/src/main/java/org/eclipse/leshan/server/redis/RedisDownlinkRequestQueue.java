@@ -0,0 +1,268 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.leshan.server.queue.DownlinkRequestQueue;
+import org.eclipse.leshan.server.queue.QueuedRequest;
+import org.eclipse.leshan.server.redis.serialization.QueuedRequestSerDes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.Transaction;
+import redis.clients.jedis.util.Pool;
+
+/**
+ * A {@link DownlinkRequestQueue} implementation based on Redis, so queued requests survive a server restart and can be
+ * sent by any server of a cluster when the client wakes up.
+ * <p>
+ * Requests of an endpoint are stored in a Redis list. The list expires once its last request expired, so queues of
+ * clients which never come back do not stay in Redis forever.
+ * <p>
+ * Only requests supported by {@link QueuedRequestSerDes} can be queued.
+ */
+public class RedisDownlinkRequestQueue implements DownlinkRequestQueue {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RedisDownlinkRequestQueue.class);
+
+    // KEYS[1] : queue key, ARGV[1] : request, ARGV[2] : max queue size, ARGV[3] : queue time to live in ms
+    private static final RedisScript ADD = new RedisScript( //
+            "if redis.call('llen', KEYS[1]) >= tonumber(ARGV[2]) then return 0 end\n" //
+                    + "redis.call('rpush', KEYS[1], ARGV[1])\n" //
+                    + "if redis.call('pttl', KEYS[1]) < tonumber(ARGV[3]) then\n" //
+                    + "  redis.call('pexpire', KEYS[1], ARGV[3])\n" //
+                    + "end\n" //
+                    + "return 1");
+
+    // KEYS[1] : queue key, ARGV[1] : request, ARGV[2] : queue time to live in ms
+    private static final RedisScript ADD_FIRST = new RedisScript( //
+            "redis.call('lpush', KEYS[1], ARGV[1])\n" //
+                    + "if redis.call('pttl', KEYS[1]) < tonumber(ARGV[2]) then\n" //
+                    + "  redis.call('pexpire', KEYS[1], ARGV[2])\n" //
+                    + "end\n" //
+                    + "return 1");
+
+    private final Pool<Jedis> pool;
+    private final String queueByEndpointPrefix;
+    private final byte[] maxRequestsPerEndpoint;
+    private final QueuedRequestSerDes serDes;
+
+    public RedisDownlinkRequestQueue(Pool<Jedis> pool) {
+        this(new Builder(pool));
+    }
+
+    protected RedisDownlinkRequestQueue(Builder builder) {
+        this.pool = builder.pool;
+        this.queueByEndpointPrefix = builder.queueByEndpointPrefix;
+        this.maxRequestsPerEndpoint = Integer.toString(builder.maxRequestsPerEndpoint).getBytes(UTF_8);
+        this.serDes = builder.serDes;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the request can not be serialized.
+     */
+    @Override
+    public boolean add(QueuedRequest request) {
+        byte[] data = serDes.serialize(request);
+        try (Jedis j = pool.getResource()) {
+            Object added = ADD.eval(j, Collections.singletonList(toKey(request.getEndpoint())),
+                    Arrays.asList(data, maxRequestsPerEndpoint, timeToLive(request)));
+            return Long.valueOf(1).equals(added);
+        }
+    }
+
+    @Override
+    public void addFirst(QueuedRequest request) {
+        byte[] data = serDes.serialize(request);
+        try (Jedis j = pool.getResource()) {
+            ADD_FIRST.eval(j, Collections.singletonList(toKey(request.getEndpoint())),
+                    Arrays.asList(data, timeToLive(request)));
+        }
+    }
+
+    @Override
+    public QueuedRequest poll(String endpoint) {
+        try (Jedis j = pool.getResource()) {
+            byte[] key = toKey(endpoint);
+            byte[] data;
+            while ((data = j.lpop(key)) != null) {
+                try {
+                    return serDes.deserialize(data);
+                } catch (IllegalArgumentException e) {
+                    LOG.warn("Unable to deserialize queued request of endpoint {} : request dropped", endpoint, e);
+                }
+            }
+            return null;
+        }
+    }
+
+    @Override
+    public List<QueuedRequest> removeExpired(String endpoint, long now) {
+        List<QueuedRequest> expired = new ArrayList<>();
+        try (Jedis j = pool.getResource()) {
+            byte[] key = toKey(endpoint);
+            for (byte[] data : j.lrange(key, 0, -1)) {
+                QueuedRequest request;
+                try {
+                    request = serDes.deserialize(data);
+                } catch (IllegalArgumentException e) {
+                    LOG.warn("Unable to deserialize queued request of endpoint {} : request dropped", endpoint, e);
+                    j.lrem(key, 1, data);
+                    continue;
+                }
+                // request could have been polled by another server in the meantime
+                if (request.isExpired(now) && j.lrem(key, 1, data) > 0) {
+                    expired.add(request);
+                }
+            }
+        }
+        return expired;
+    }
+
+    @Override
+    public List<QueuedRequest> removeAll(String endpoint) {
+        List<byte[]> removed;
+        try (Jedis j = pool.getResource()) {
+            byte[] key = toKey(endpoint);
+            Transaction transaction = j.multi();
+            Response<List<byte[]>> content = transaction.lrange(key, 0, -1);
+            transaction.del(key);
+            transaction.exec();
+            removed = content.get();
+        }
+
+        List<QueuedRequest> requests = new ArrayList<>(removed.size());
+        for (byte[] data : removed) {
+            try {
+                requests.add(serDes.deserialize(data));
+            } catch (IllegalArgumentException e) {
+                LOG.warn("Unable to deserialize queued request of endpoint {} : request dropped", endpoint, e);
+            }
+        }
+        return requests;
+    }
+
+    @Override
+    public int size(String endpoint) {
+        try (Jedis j = pool.getResource()) {
+            return (int) j.llen(toKey(endpoint));
+        }
+    }
+
+    private byte[] toKey(String endpoint) {
+        return (queueByEndpointPrefix + endpoint).getBytes(UTF_8);
+    }
+
+    private byte[] timeToLive(QueuedRequest request) {
+        // keep the queue until the request expires and its response could still be received
+        long ttl = request.getExpirationTime() - System.currentTimeMillis() + request.getTimeoutInMs();
+        return Long.toString(Math.max(ttl, 1)).getBytes(UTF_8);
+    }
+
+    /**
+     * Class helping to create a {@link RedisDownlinkRequestQueue}.
+     */
+    public static class Builder {
+
+        private final Pool<Jedis> pool;
+        private String queueByEndpointPrefix;
+        private String prefix;
+        private int maxRequestsPerEndpoint;
+        private QueuedRequestSerDes serDes;
+
+        public Builder(Pool<Jedis> pool) {
+            this.pool = pool;
+            this.prefix = "DLQUEUE#";
+            this.queueByEndpointPrefix = "DLQ#EP#";
+            this.maxRequestsPerEndpoint = 100;
+            this.serDes = new QueuedRequestSerDes();
+        }
+
+        /**
+         * Set the key prefix for request queue lookup by endpoint.
+         * <p>
+         * Default value is {@literal DLQ#EP#}. Should not be {@code null} or empty.
+         */
+        public Builder setQueueByEndpointPrefix(String queueByEndpointPrefix) {
+            this.queueByEndpointPrefix = queueByEndpointPrefix;
+            return this;
+        }
+
+        /**
+         * Set the prefix for all keys and prefixes including {@link #queueByEndpointPrefix}.
+         * <p>
+         * Default value is {@literal DLQUEUE#}.
+         */
+        public Builder setPrefix(String prefix) {
+            this.prefix = prefix;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of requests queued for one endpoint.
+         * <p>
+         * Default value is 100.
+         */
+        public Builder setMaxRequestsPerEndpoint(int maxRequestsPerEndpoint) {
+            this.maxRequestsPerEndpoint = maxRequestsPerEndpoint;
+            return this;
+        }
+
+        /**
+         * Set the serializer used to store queued requests.
+         * <p>
+         * Default is {@link QueuedRequestSerDes}.
+         */
+        public Builder setSerDes(QueuedRequestSerDes serDes) {
+            this.serDes = serDes;
+            return this;
+        }
+
+        /**
+         * Create the {@link RedisDownlinkRequestQueue}.
+         * <p>
+         * Throws {@link IllegalArgumentException} when {@link #queueByEndpointPrefix} is not set or when
+         * {@link #maxRequestsPerEndpoint} is not strictly positive.
+         */
+        public RedisDownlinkRequestQueue build() throws IllegalArgumentException {
+            if (this.queueByEndpointPrefix == null || this.queueByEndpointPrefix.isEmpty()) {
+                throw new IllegalArgumentException("queueByEndpointPrefix should not be empty");
+            }
+            if (this.maxRequestsPerEndpoint <= 0) {
+                throw new IllegalArgumentException("maxRequestsPerEndpoint should be strictly positive");
+            }
+            if (this.serDes == null) {
+                throw new IllegalArgumentException("serDes should not be null");
+            }
+
+            if (this.prefix != null) {
+                this.queueByEndpointPrefix = this.prefix + this.queueByEndpointPrefix;
+            }
+
+            return new RedisDownlinkRequestQueue(this);
+        }
+    }
+}
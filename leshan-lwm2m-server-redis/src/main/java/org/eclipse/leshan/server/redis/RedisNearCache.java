@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.eclipse.leshan.core.util.Validate;
+
+/**
+ * A bounded local cache of values read from Redis, used by {@link RedisRegistrationStore} to avoid round trips on
+ * lookups.
+ * <p>
+ * Entries are indexed by Redis key and are evicted when they are older than the configured time-to-live or when the
+ * cache is full (least recently used first). Coherence between cluster nodes relies on invalidation : each time a node
+ * modifies keys, it publishes them on a Redis channel and all nodes remove them from their cache (see
+ * {@link #encodeKeys(Collection)}).
+ * <p>
+ * To avoid caching a value which was modified while it was read, callers must get a stamp with {@link #getStamp()}
+ * <strong>before</strong> reading Redis and pass it to {@link #put(byte[], Object, long)}. Value is not cached if an
+ * invalidation happened in between.
+ */
+public class RedisNearCache {
+
+    private static class CacheEntry {
+        final Object value;
+        final long expirationTime; // in nanoseconds
+
+        CacheEntry(Object value, long expirationTime) {
+            this.value = value;
+            this.expirationTime = expirationTime;
+        }
+    }
+
+    private final long ttlInNanos;
+    private final LongSupplier nanoTime;
+    private final Map<ByteBuffer, CacheEntry> entries;
+    // incremented on each invalidation, guarded by entries
+    private long invalidationCounter = 0;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * @param maxSize maximum number of entries.
+     * @param ttlInMs maximum time in milliseconds an entry is kept.
+     */
+    public RedisNearCache(final int maxSize, long ttlInMs) {
+        this(maxSize, ttlInMs, System::nanoTime);
+    }
+
+    /**
+     * @param maxSize maximum number of entries.
+     * @param ttlInMs maximum time in milliseconds an entry is kept.
+     * @param nanoTime the time source used to expire entries, in nanoseconds (like {@link System#nanoTime()}).
+     */
+    RedisNearCache(final int maxSize, long ttlInMs, LongSupplier nanoTime) {
+        Validate.isTrue(maxSize > 0, "maxSize must be strictly positive");
+        Validate.isTrue(ttlInMs > 0, "ttlInMs must be strictly positive");
+        this.ttlInNanos = ttlInMs * 1_000_000L;
+        this.nanoTime = nanoTime;
+        this.entries = new LinkedHashMap<ByteBuffer, CacheEntry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, CacheEntry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return a stamp to pass to {@link #put(byte[], Object, long)}.
+     */
+    long getStamp() {
+        synchronized (entries) {
+            return invalidationCounter;
+        }
+    }
+
+    /**
+     * @return the cached value or <code>null</code> if there is no valid entry for this key.
+     */
+    <T> T get(byte[] key, Class<T> type) {
+        Object value = null;
+        synchronized (entries) {
+            ByteBuffer k = ByteBuffer.wrap(key);
+            CacheEntry entry = entries.get(k);
+            if (entry != null) {
+                if (entry.expirationTime - nanoTime.getAsLong() > 0) {
+                    value = entry.value;
+                } else {
+                    entries.remove(k);
+                }
+            }
+        }
+        if (type.isInstance(value)) {
+            hits.increment();
+            return type.cast(value);
+        } else {
+            misses.increment();
+            return null;
+        }
+    }
+
+    /**
+     * Cache a value read from Redis, if no invalidation happened since the stamp was taken.
+     */
+    void put(byte[] key, Object value, long stamp) {
+        synchronized (entries) {
+            if (stamp == invalidationCounter) {
+                entries.put(ByteBuffer.wrap(key), new CacheEntry(value, nanoTime.getAsLong() + ttlInNanos));
+            }
+        }
+    }
+
+    void invalidate(Collection<byte[]> keys) {
+        synchronized (entries) {
+            invalidationCounter++;
+            for (byte[] key : keys) {
+                entries.remove(ByteBuffer.wrap(key));
+            }
+        }
+        invalidations.increment();
+    }
+
+    void clear() {
+        synchronized (entries) {
+            invalidationCounter++;
+            entries.clear();
+        }
+        invalidations.increment();
+    }
+
+    /**
+     * @return the number of entries currently cached.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * @return the number of lookups which were answered by this cache.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups which needed to query Redis.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of invalidations received (local or remote).
+     */
+    public long getInvalidationCount() {
+        return invalidations.sum();
+    }
+
+    /* *************** Invalidation message **************** */
+
+    /**
+     * Encode a list of Redis keys in an invalidation message : each key is prefixed by its length on 4 bytes.
+     */
+    static byte[] encodeKeys(Collection<byte[]> keys) {
+        int size = 0;
+        for (byte[] key : keys) {
+            size += 4 + key.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        for (byte[] key : keys) {
+            buffer.putInt(key.length);
+            buffer.put(key);
+        }
+        return buffer.array();
+    }
+
+    static List<byte[]> decodeKeys(byte[] message) {
+        List<byte[]> keys = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.wrap(message);
+        while (buffer.remaining() >= 4) {
+            int length = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                throw new IllegalArgumentException("Invalid near cache invalidation message");
+            }
+            byte[] key = new byte[length];
+            buffer.get(key);
+            keys.add(key);
+        }
+        return keys;
+    }
+}
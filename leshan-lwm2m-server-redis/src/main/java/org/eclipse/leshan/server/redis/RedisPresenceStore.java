@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.leshan.server.queue.PresenceServiceImpl;
+import org.eclipse.leshan.server.queue.PresenceStore;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.registration.RegistrationStore;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.util.Pool;
+
+/**
+ * A {@link PresenceStore} implementation based on Redis, so all servers of a cluster agree on which clients are awake.
+ * <p>
+ * Awake deadlines are stored in a sorted set, scored by deadline. Expired clients are removed atomically by the server
+ * which collects them, so only one server of the cluster notifies that a client went to sleep. As only endpoints are
+ * stored, registrations of expired clients are read from the {@link RegistrationStore}.
+ * <p>
+ * Servers of a cluster should have synchronized clocks.
+ *
+ * @see PresenceServiceImpl
+ */
+public class RedisPresenceStore implements PresenceStore {
+
+    // KEYS[1] : deadlines key, ARGV[1] : now, ARGV[2] : max number of endpoints to return
+    private static final RedisScript POLL_EXPIRED = new RedisScript( //
+            "local expired = redis.call('zrangebyscore', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])\n" //
+                    + "if #expired > 0 then\n" //
+                    + "  redis.call('zrem', KEYS[1], unpack(expired))\n" //
+                    + "end\n" //
+                    + "return expired");
+
+    private final Pool<Jedis> pool;
+    private final RegistrationStore registrationStore;
+    private final byte[] awakeDeadlinesKey;
+    private final byte[] maxExpiredPerPoll;
+
+    public RedisPresenceStore(Pool<Jedis> pool, RegistrationStore registrationStore) {
+        this(new Builder(pool, registrationStore));
+    }
+
+    protected RedisPresenceStore(Builder builder) {
+        this.pool = builder.pool;
+        this.registrationStore = builder.registrationStore;
+        this.awakeDeadlinesKey = builder.awakeDeadlinesKey.getBytes(UTF_8);
+        this.maxExpiredPerPoll = Integer.toString(builder.maxExpiredPerPoll).getBytes(UTF_8);
+    }
+
+    @Override
+    public boolean setAwake(Registration registration, long deadline) {
+        // a double represents exactly any realistic deadline in milliseconds
+        double score = deadline == Long.MAX_VALUE ? Double.POSITIVE_INFINITY : deadline;
+        try (Jedis j = pool.getResource()) {
+            return j.zadd(awakeDeadlinesKey, score, registration.getEndpoint().getBytes(UTF_8)) == 1;
+        }
+    }
+
+    @Override
+    public boolean setSleeping(String endpoint) {
+        try (Jedis j = pool.getResource()) {
+            return j.zrem(awakeDeadlinesKey, endpoint.getBytes(UTF_8)) == 1;
+        }
+    }
+
+    @Override
+    public boolean isAwake(String endpoint) {
+        Double deadline;
+        try (Jedis j = pool.getResource()) {
+            deadline = j.zscore(awakeDeadlinesKey, endpoint.getBytes(UTF_8));
+        }
+        // deadline may be reached but not yet collected
+        return deadline != null && deadline > System.currentTimeMillis();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Collection<Registration> pollExpired(long now) {
+        List<byte[]> endpoints;
+        try (Jedis j = pool.getResource()) {
+            endpoints = (List<byte[]>) POLL_EXPIRED.eval(j, Collections.singletonList(awakeDeadlinesKey),
+                    Arrays.asList(Long.toString(now).getBytes(UTF_8), maxExpiredPerPoll));
+        }
+        if (endpoints.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Registration> expired = new ArrayList<>(endpoints.size());
+        for (byte[] endpoint : endpoints) {
+            // client may have deregistered meanwhile
+            Registration registration = registrationStore.getRegistrationByEndpoint(new String(endpoint, UTF_8));
+            if (registration != null) {
+                expired.add(registration);
+            }
+        }
+        return expired;
+    }
+
+    @Override
+    public boolean isShared() {
+        return true;
+    }
+
+    /**
+     * Class helping to create a {@link RedisPresenceStore}.
+     */
+    public static class Builder {
+
+        private final Pool<Jedis> pool;
+        private final RegistrationStore registrationStore;
+        private String awakeDeadlinesKey;
+        private String prefix;
+        private int maxExpiredPerPoll;
+
+        public Builder(Pool<Jedis> pool, RegistrationStore registrationStore) {
+            this.pool = pool;
+            this.registrationStore = registrationStore;
+            this.prefix = "PRESENCE#";
+            this.awakeDeadlinesKey = "AWAKE";
+            this.maxExpiredPerPoll = 1000;
+        }
+
+        /**
+         * Set the key of the sorted set storing awake deadlines by endpoint.
+         * <p>
+         * Default value is {@literal AWAKE}. Should not be {@code null} or empty.
+         */
+        public Builder setAwakeDeadlinesKey(String awakeDeadlinesKey) {
+            this.awakeDeadlinesKey = awakeDeadlinesKey;
+            return this;
+        }
+
+        /**
+         * Set the prefix for all keys including {@link #awakeDeadlinesKey}.
+         * <p>
+         * Default value is {@literal PRESENCE#}.
+         */
+        public Builder setPrefix(String prefix) {
+            this.prefix = prefix;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of expired clients collected at once. Remaining ones are collected by next polls.
+         * <p>
+         * Default value is 1000.
+         */
+        public Builder setMaxExpiredPerPoll(int maxExpiredPerPoll) {
+            this.maxExpiredPerPoll = maxExpiredPerPoll;
+            return this;
+        }
+
+        /**
+         * Create the {@link RedisPresenceStore}.
+         * <p>
+         * Throws {@link IllegalArgumentException} when {@link #awakeDeadlinesKey} is not set, when
+         * {@link #registrationStore} is <code>null</code> or when {@link #maxExpiredPerPoll} is not strictly positive.
+         */
+        public RedisPresenceStore build() throws IllegalArgumentException {
+            if (this.awakeDeadlinesKey == null || this.awakeDeadlinesKey.isEmpty()) {
+                throw new IllegalArgumentException("awakeDeadlinesKey should not be empty");
+            }
+            if (this.registrationStore == null) {
+                throw new IllegalArgumentException("registrationStore should not be null");
+            }
+            if (this.maxExpiredPerPoll <= 0) {
+                throw new IllegalArgumentException("maxExpiredPerPoll should be strictly positive");
+            }
+
+            if (this.prefix != null) {
+                this.awakeDeadlinesKey = this.prefix + this.awakeDeadlinesKey;
+            }
+
+            return new RedisPresenceStore(this);
+        }
+    }
+}
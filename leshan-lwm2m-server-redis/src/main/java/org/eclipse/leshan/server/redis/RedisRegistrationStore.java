@@ -48,6 +48,8 @@ import org.eclipse.leshan.core.peer.LwM2mIdentity;
 import org.eclipse.leshan.core.peer.LwM2mPeer;
 import org.eclipse.leshan.core.util.NamedThreadFactory;
 import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.server.redis.serialization.BinaryObservationSerDes;
+import org.eclipse.leshan.server.redis.serialization.BinaryRegistrationSerDes;
 import org.eclipse.leshan.server.redis.serialization.LwM2mIdentitySerDes;
 import org.eclipse.leshan.server.redis.serialization.LwM2mPeerSerDes;
 import org.eclipse.leshan.server.redis.serialization.ObservationSerDes;
@@ -61,6 +63,7 @@ import org.eclipse.leshan.server.registration.UpdatedRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import redis.clients.jedis.BinaryJedisPubSub;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.Transaction;
 import redis.clients.jedis.params.ScanParams;
@@ -79,10 +82,12 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
     private final String endpointBySocketAddressPrefix; // secondary index key (Socket Address => Endpoint)
     private final String endpointByIdentityPrefix; // secondary index key (Identity => Endpoint)
     private final String endpointLockPrefix;
+    private final String registrationIndexesByEndpointPrefix; // (Endpoint => list of secondary index keys)
     private final byte[] observationByIdPrefix;
     private final String observationIdsByRegistrationIdPrefix; // secondary index (Registration => observation id list)
     private final byte[] endpointExpirationKey; // a sorted set used for registration expiration (expiration date,
                                                 // Endpoint)
+    private final byte[] writeModeKey; // write mode used by all store instances
 
     private final Pool<Jedis> pool;
 
@@ -92,9 +97,14 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
     private final ScheduledExecutorService schedExecutor;
     private ScheduledFuture<?> cleanerTask;
     private boolean started = false;
+    // statistics about last cleaning task
+    private volatile int lastCleaningExpiredCount;
+    private volatile long lastCleaningDurationInNanos;
+    private volatile long expirationBacklog;
 
     private final long cleanPeriod; // in seconds
     private final int cleanLimit; // maximum number to clean in a clean period
+    private final int cleanBatchSize; // maximum number to clean in one Redis request
     private final long gracePeriod; // in seconds
 
     private final JedisLock lock;
@@ -102,6 +112,22 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
     private final ObservationSerDes observationSerDes;
     private final LwM2mIdentitySerDes identitySerDes;
 
+    // use Lua scripts and transactions instead of locks to write data
+    private final boolean useScriptedWrites;
+    private static final String LOCK_WRITE_MODE = "lock";
+    private static final String SCRIPTED_WRITE_MODE = "scripted";
+    private volatile boolean writeModeChecked = false;
+    private static final int MAX_TRANSACTION_ATTEMPTS = 10;
+
+    // Near cache, null if disabled
+    private final RedisNearCache nearCache;
+    private final byte[] nearCacheInvalidationChannel;
+    private final long nearCacheReconnectDelay; // in milliseconds
+    // true only while we are subscribed to invalidation channel, else cache can not be trusted.
+    private volatile boolean nearCacheActive = false;
+    private Thread nearCacheSubscriberThread;
+    private volatile BinaryJedisPubSub nearCacheSubscriber;
+
     public RedisRegistrationStore(Pool<Jedis> p) {
         this(new Builder(p).generateDefaultValue());
     }
@@ -113,17 +139,29 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
         this.endpointBySocketAddressPrefix = builder.endpointBySocketAddressPrefix;
         this.endpointByIdentityPrefix = builder.endpointByIdentityPrefix;
         this.endpointLockPrefix = builder.endpointLockPrefix;
+        this.registrationIndexesByEndpointPrefix = builder.registrationIndexesByEndpointPrefix;
         this.observationByIdPrefix = builder.observationByIdPrefix.getBytes(UTF_8);
         this.observationIdsByRegistrationIdPrefix = builder.observationIdsByRegistrationIdPrefix;
         this.endpointExpirationKey = builder.endpointExpirationKey.getBytes(UTF_8);
+        this.writeModeKey = builder.writeModeKey.getBytes(UTF_8);
         this.cleanPeriod = builder.cleanPeriod;
         this.cleanLimit = builder.cleanLimit;
+        this.cleanBatchSize = builder.cleanBatchSize;
         this.gracePeriod = builder.gracePeriod;
         this.schedExecutor = builder.schedExecutor;
         this.lock = builder.lock;
         this.registrationSerDes = builder.registrationSerDes;
         this.observationSerDes = builder.observationSerDes;
         this.identitySerDes = builder.identitySerDes;
+        this.useScriptedWrites = builder.useScriptedWrites;
+        if (builder.nearCacheSize > 0) {
+            this.nearCache = new RedisNearCache(builder.nearCacheSize,
+                    TimeUnit.SECONDS.toMillis(builder.nearCacheTimeToLive));
+        } else {
+            this.nearCache = null;
+        }
+        this.nearCacheInvalidationChannel = builder.nearCacheInvalidationChannel.getBytes(UTF_8);
+        this.nearCacheReconnectDelay = builder.nearCacheReconnectDelay;
     }
 
     /* *************** Redis Key utility function **************** */
@@ -161,6 +199,10 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
 
     @Override
     public Deregistration addRegistration(Registration registration) {
+        checkWriteMode();
+        if (useScriptedWrites) {
+            return scriptedAddRegistration(registration);
+        }
         try (Jedis j = pool.getResource()) {
             byte[] lockValue = null;
             byte[] lockKey = toLockKey(registration.getEndpoint());
@@ -179,28 +221,22 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
                 j.set(addrIdx, registration.getEndpoint().getBytes(UTF_8));
                 byte[] identityIdx = toRegIdentityKey(registration.getClientTransportData().getIdentity());
                 j.set(identityIdx, registration.getEndpoint().getBytes(UTF_8));
+                // indexes list is only maintained by scripted writes
+                j.del(toIndexesKey(registration.getEndpoint()));
 
                 // Add or update expiration
                 addOrUpdateExpiration(j, registration);
 
                 if (old != null) {
                     Registration oldRegistration = deserializeReg(old);
-                    // remove old secondary index
-                    if (!registration.getId().equals(oldRegistration.getId()))
-                        j.del(toRegIdKey(oldRegistration.getId()));
-                    if (!oldRegistration.getSocketAddress().equals(registration.getSocketAddress())) {
-                        removeAddrIndex(j, oldRegistration);
-                    }
-                    if (!oldRegistration.getClientTransportData().getIdentity()
-                            .equals(registration.getClientTransportData().getIdentity())) {
-                        removeIdentityIndex(j, oldRegistration);
-                    }
-                    // remove old observation
-                    Collection<Observation> obsRemoved = unsafeRemoveAllObservations(j, oldRegistration.getId());
+                    Collection<Observation> obsRemoved = unsafeRemovePreviousRegistration(j, registration,
+                            oldRegistration);
 
+                    invalidateNearCache(j, Arrays.asList(registration, oldRegistration), obsRemoved);
                     return new Deregistration(oldRegistration, obsRemoved);
                 }
 
+                invalidateNearCache(j, Collections.singleton(registration), Collections.<Observation> emptyList());
                 return null;
             } finally {
                 lock.release(j, lockKey, lockValue);
@@ -208,8 +244,31 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
         }
     }
 
+    /**
+     * Remove secondary indexes and observations of a registration replaced by a new one.
+     */
+    private Collection<Observation> unsafeRemovePreviousRegistration(Jedis j, Registration registration,
+            Registration oldRegistration) {
+        // remove old secondary index
+        if (!registration.getId().equals(oldRegistration.getId()))
+            j.del(toRegIdKey(oldRegistration.getId()));
+        if (!oldRegistration.getSocketAddress().equals(registration.getSocketAddress())) {
+            removeAddrIndex(j, oldRegistration);
+        }
+        if (!oldRegistration.getClientTransportData().getIdentity()
+                .equals(registration.getClientTransportData().getIdentity())) {
+            removeIdentityIndex(j, oldRegistration);
+        }
+        // remove old observation
+        return unsafeRemoveAllObservations(j, oldRegistration.getId());
+    }
+
     @Override
     public UpdatedRegistration updateRegistration(RegistrationUpdate update) {
+        checkWriteMode();
+        if (useScriptedWrites) {
+            return scriptedUpdateRegistration(update);
+        }
         try (Jedis j = pool.getResource()) {
 
             // Fetch the registration ep by registration ID index
@@ -254,7 +313,10 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
                         .equals(updatedRegistration.getClientTransportData().getIdentity())) {
                     removeIdentityIndex(j, r);
                 }
+                // indexes list is only maintained by scripted writes
+                j.del(toIndexesKey(updatedRegistration.getEndpoint()));
 
+                invalidateNearCache(j, Arrays.asList(r, updatedRegistration), Collections.<Observation> emptyList());
                 return new UpdatedRegistration(r, updatedRegistration);
 
             } finally {
@@ -265,52 +327,80 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
 
     @Override
     public Registration getRegistration(String registrationId) {
-        try (Jedis j = pool.getResource()) {
-            return getRegistration(j, registrationId);
-        }
+        return getRegistrationByIndex(toRegIdKey(registrationId));
     }
 
     @Override
     public Registration getRegistrationByEndpoint(String endpoint) {
         Validate.notNull(endpoint);
+        byte[] key = toEndpointKey(endpoint);
+
+        RedisNearCache cache = getActiveNearCache();
+        if (cache != null) {
+            Registration registration = cache.get(key, Registration.class);
+            if (registration != null) {
+                return registration;
+            }
+        }
+
         try (Jedis j = pool.getResource()) {
-            byte[] data = j.get(toEndpointKey(endpoint));
+            long stamp = cache != null ? cache.getStamp() : 0;
+            byte[] data = j.get(key);
             if (data == null) {
                 return null;
             }
-            return deserializeReg(data);
+            Registration registration = deserializeReg(data);
+            if (cache != null) {
+                cache.put(key, registration, stamp);
+            }
+            return registration;
         }
     }
 
     @Override
     public Registration getRegistrationByAdress(InetSocketAddress address) {
         Validate.notNull(address);
-        try (Jedis j = pool.getResource()) {
-            byte[] ep = j.get(toRegAddrKey(address));
-            if (ep == null) {
-                return null;
-            }
-            byte[] data = j.get(toEndpointKey(ep));
-            if (data == null) {
-                return null;
-            }
-            return deserializeReg(data);
-        }
+        return getRegistrationByIndex(toRegAddrKey(address));
     }
 
     @Override
     public Registration getRegistrationByIdentity(LwM2mIdentity identity) {
         Validate.notNull(identity);
+        return getRegistrationByIndex(toRegIdentityKey(identity));
+    }
+
+    /**
+     * Get registration using a secondary index key (Index => Endpoint), near cache is used if enabled.
+     */
+    private Registration getRegistrationByIndex(byte[] indexKey) {
+        RedisNearCache cache = getActiveNearCache();
+        if (cache != null) {
+            byte[] ep = cache.get(indexKey, byte[].class);
+            if (ep != null) {
+                Registration registration = cache.get(toEndpointKey(ep), Registration.class);
+                if (registration != null) {
+                    return registration;
+                }
+            }
+        }
+
         try (Jedis j = pool.getResource()) {
-            byte[] ep = j.get(toRegIdentityKey(identity));
+            long stamp = cache != null ? cache.getStamp() : 0;
+            byte[] ep = j.get(indexKey);
             if (ep == null) {
                 return null;
             }
-            byte[] data = j.get(toEndpointKey(ep));
+            byte[] key = toEndpointKey(ep);
+            byte[] data = j.get(key);
             if (data == null) {
                 return null;
             }
-            return deserializeReg(data);
+            Registration registration = deserializeReg(data);
+            if (cache != null) {
+                cache.put(indexKey, ep, stamp);
+                cache.put(key, registration, stamp);
+            }
+            return registration;
         }
     }
 
@@ -384,12 +474,20 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
 
     @Override
     public Deregistration removeRegistration(String registrationId) {
+        checkWriteMode();
         try (Jedis j = pool.getResource()) {
             return removeRegistration(j, registrationId, false);
         }
     }
 
     private Deregistration removeRegistration(Jedis j, String registrationId, boolean removeOnlyIfNotAlive) {
+        if (useScriptedWrites) {
+            return scriptedRemoveRegistration(j, registrationId, removeOnlyIfNotAlive);
+        }
+        return lockedRemoveRegistration(j, registrationId, removeOnlyIfNotAlive);
+    }
+
+    private Deregistration lockedRemoveRegistration(Jedis j, String registrationId, boolean removeOnlyIfNotAlive) {
         // fetch the client ep by registration ID index
         byte[] ep = j.get(toRegIdKey(registrationId));
         if (ep == null) {
@@ -416,6 +514,8 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
                     removeAddrIndex(j, r);
                     removeIdentityIndex(j, r);
                     removeExpiration(j, r);
+                    j.del(toIndexesKey(r.getEndpoint()));
+                    invalidateNearCache(j, Collections.singleton(r), obsRemoved);
                     return new Deregistration(r, obsRemoved);
                 }
             }
@@ -473,6 +573,18 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
         return toKey(endpointByIdentityPrefix, identitySerDes.serialize(identity).toString());
     }
 
+    private byte[] toIndexesKey(String endpoint) {
+        return toKey(registrationIndexesByEndpointPrefix, endpoint);
+    }
+
+    private byte[] toIndexesKey(byte[] endpoint) {
+        return toKey(registrationIndexesByEndpointPrefix.getBytes(UTF_8), endpoint);
+    }
+
+    private byte[] toObservationIdsKey(String registrationId) {
+        return toKey(observationIdsByRegistrationIdPrefix, registrationId);
+    }
+
     private byte[] toEndpointKey(String endpoint) {
         return toKey(registrationByEndpointPrefix, endpoint);
     }
@@ -505,6 +617,10 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
 
     @Override
     public Collection<Observation> addObservation(String registrationId, Observation observation, boolean addIfAbsent) {
+        checkWriteMode();
+        if (useScriptedWrites) {
+            return scriptedAddObservation(registrationId, observation, addIfAbsent);
+        }
 
         List<Observation> removed = new ArrayList<>();
         try (Jedis j = pool.getResource()) {
@@ -553,6 +669,12 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
                     }
                 }
 
+                if (nearCache != null) {
+                    List<Observation> modified = new ArrayList<>(removed);
+                    modified.add(observation);
+                    invalidateNearCache(j, Collections.<Registration> emptyList(), modified);
+                }
+
             } finally {
                 lock.release(j, lockKey, lockValue);
             }
@@ -572,6 +694,10 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
 
     @Override
     public Observation removeObservation(String registrationId, ObservationIdentifier observationId) {
+        checkWriteMode();
+        if (useScriptedWrites) {
+            return scriptedRemoveObservation(registrationId, observationId);
+        }
         try (Jedis j = pool.getResource()) {
 
             // fetch the client ep by registration ID index
@@ -590,6 +716,7 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
                 if (observation != null
                         && (registrationId == null || registrationId.equals(observation.getRegistrationId()))) {
                     unsafeRemoveObservation(j, registrationId, observationId);
+                    invalidateNearCache(j, Collections.<Registration> emptyList(), Collections.singleton(observation));
                     return observation;
                 }
                 return null;
@@ -602,19 +729,36 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
 
     @Override
     public Observation getObservation(String registrationId, ObservationIdentifier observationId) {
-        try (Jedis j = pool.getResource()) {
-            Observation observation = unsafeGetObservation(j, observationId);
-            if (observation != null && registrationId.equals(observation.getRegistrationId())) {
-                return observation;
-            }
-            return null;
+        Observation observation = getObservation(observationId);
+        if (observation != null && registrationId.equals(observation.getRegistrationId())) {
+            return observation;
         }
+        return null;
     }
 
     @Override
     public Observation getObservation(ObservationIdentifier observationId) {
+        byte[] key = toObservationKey(observationId);
+
+        RedisNearCache cache = getActiveNearCache();
+        if (cache != null) {
+            Observation observation = cache.get(key, Observation.class);
+            if (observation != null) {
+                return observation;
+            }
+        }
+
         try (Jedis j = pool.getResource()) {
-            return unsafeGetObservation(j, observationId);
+            long stamp = cache != null ? cache.getStamp() : 0;
+            byte[] data = j.get(key);
+            if (data == null) {
+                return null;
+            }
+            Observation observation = deserializeObs(data);
+            if (cache != null) {
+                cache.put(key, observation, stamp);
+            }
+            return observation;
         }
     }
 
@@ -627,6 +771,10 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
 
     @Override
     public Collection<Observation> removeObservations(String registrationId) {
+        checkWriteMode();
+        if (useScriptedWrites) {
+            return scriptedRemoveObservations(registrationId);
+        }
         try (Jedis j = pool.getResource()) {
             // check registration exists
             Registration registration = getRegistration(j, registrationId);
@@ -640,7 +788,9 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
             try {
                 lockValue = lock.acquire(j, lockKey);
 
-                return unsafeRemoveAllObservations(j, registrationId);
+                Collection<Observation> removed = unsafeRemoveAllObservations(j, registrationId);
+                invalidateNearCache(j, Collections.<Registration> emptyList(), removed);
+                return removed;
             } finally {
                 lock.release(j, lockKey, lockValue);
             }
@@ -715,6 +865,383 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
         return observationSerDes.deserialize(data);
     }
 
+    /* *************** Scripted writes **************** */
+
+    private Deregistration scriptedAddRegistration(Registration registration) {
+        try (Jedis j = pool.getResource()) {
+            String endpoint = registration.getEndpoint();
+            List<byte[]> keys = Arrays.asList(toEndpointKey(endpoint), toIndexesKey(endpoint),
+                    toRegIdKey(registration.getId()), toRegAddrKey(registration.getSocketAddress()),
+                    toRegIdentityKey(registration.getClientTransportData().getIdentity()),
+                    toObservationIdsKey(registration.getId()), endpointExpirationKey);
+            List<byte[]> args = Arrays.asList(serializeReg(registration), endpoint.getBytes(UTF_8),
+                    Long.toString(registration.getExpirationTimeStamp(gracePeriod)).getBytes(UTF_8),
+                    observationByIdPrefix);
+            List<Object> result = toList(RegistrationStoreScripts.ADD_REGISTRATION.eval(j, keys, args));
+
+            byte[] old = (byte[]) result.get(1);
+            if (old == null) {
+                invalidateNearCache(j, Collections.singleton(registration), Collections.<Observation> emptyList());
+                return null;
+            }
+
+            Registration oldRegistration = deserializeReg(old);
+            Collection<Observation> obsRemoved;
+            if ((Long) result.get(0) == RegistrationStoreScripts.FALLBACK_NEEDED) {
+                // previous registration was not stored with scripted writes, so we don't know its indexes.
+                obsRemoved = unsafeRemovePreviousRegistration(j, registration, oldRegistration);
+            } else {
+                obsRemoved = deserializeObservations(result, 2);
+            }
+            invalidateNearCache(j, Arrays.asList(registration, oldRegistration), obsRemoved);
+            return new Deregistration(oldRegistration, obsRemoved);
+        }
+    }
+
+    private UpdatedRegistration scriptedUpdateRegistration(RegistrationUpdate update) {
+        try (Jedis j = pool.getResource()) {
+            for (int attempt = 0; attempt < MAX_TRANSACTION_ATTEMPTS; attempt++) {
+                // Fetch the registration ep by registration ID index
+                byte[] ep = j.get(toRegIdKey(update.getRegistrationId()));
+                if (ep == null) {
+                    return null;
+                }
+
+                // Fetch the registration, transaction will fail if it is modified in the meantime
+                byte[] endpointKey = toEndpointKey(ep);
+                j.watch(endpointKey);
+                byte[] data = j.get(endpointKey);
+                if (data == null) {
+                    j.unwatch();
+                    return null;
+                }
+                Registration r = deserializeReg(data);
+                Registration updatedRegistration = update.update(r);
+
+                Transaction transaction = j.multi();
+                transaction.set(endpointKey, serializeReg(updatedRegistration));
+                transaction.zadd(endpointExpirationKey, updatedRegistration.getExpirationTimeStamp(gracePeriod), ep);
+
+                // Update secondary indexes
+                byte[] addrIdx = toRegAddrKey(updatedRegistration.getSocketAddress());
+                transaction.set(addrIdx, ep);
+                if (!r.getSocketAddress().equals(updatedRegistration.getSocketAddress())) {
+                    deleteIfEquals(transaction, toRegAddrKey(r.getSocketAddress()), ep);
+                }
+                byte[] identityIdx = toRegIdentityKey(updatedRegistration.getClientTransportData().getIdentity());
+                transaction.set(identityIdx, ep);
+                if (!r.getClientTransportData().getIdentity()
+                        .equals(updatedRegistration.getClientTransportData().getIdentity())) {
+                    deleteIfEquals(transaction, toRegIdentityKey(r.getClientTransportData().getIdentity()), ep);
+                }
+                byte[] indexesKey = toIndexesKey(ep);
+                transaction.del(indexesKey);
+                transaction.rpush(indexesKey, toRegIdKey(updatedRegistration.getId()), addrIdx, identityIdx,
+                        toObservationIdsKey(updatedRegistration.getId()));
+
+                if (transaction.exec() != null) {
+                    invalidateNearCache(j, Arrays.asList(r, updatedRegistration),
+                            Collections.<Observation> emptyList());
+                    return new UpdatedRegistration(r, updatedRegistration);
+                }
+                // registration was modified concurrently, retry
+            }
+            throw new IllegalStateException(
+                    String.format("Unable to update registration %s after %d attempts because of concurrent access",
+                            update.getRegistrationId(), MAX_TRANSACTION_ATTEMPTS));
+        }
+    }
+
+    private void deleteIfEquals(Transaction transaction, byte[] key, byte[] expectedValue) {
+        transaction.eval(RegistrationStoreScripts.DELETE_IF_EQUALS.getScript(), Collections.singletonList(key),
+                Collections.singletonList(expectedValue));
+    }
+
+    private Deregistration scriptedRemoveRegistration(Jedis j, String registrationId, boolean removeOnlyIfNotAlive) {
+        List<byte[]> keys = Arrays.asList(toRegIdKey(registrationId), endpointExpirationKey);
+        List<byte[]> args = Arrays.asList(registrationByEndpointPrefix.getBytes(UTF_8),
+                registrationIndexesByEndpointPrefix.getBytes(UTF_8), observationByIdPrefix,
+                removeOnlyIfNotAlive ? Long.toString(System.currentTimeMillis()).getBytes(UTF_8) : new byte[0]);
+        Object res = RegistrationStoreScripts.REMOVE_REGISTRATION.eval(j, keys, args);
+        if (res == null) {
+            return null;
+        }
+
+        List<Object> result = toList(res);
+        if ((Long) result.get(0) == RegistrationStoreScripts.FALLBACK_NEEDED) {
+            // registration was not stored with scripted writes, so we don't know its indexes.
+            return lockedRemoveRegistration(j, registrationId, removeOnlyIfNotAlive);
+        }
+        return toDeregistration(j, result, 1);
+    }
+
+    /**
+     * Create a {@link Deregistration} from a result of a script removing a registration : [endpoint, registration,
+     * observations...] starting at given index.
+     */
+    private Deregistration toDeregistration(Jedis j, List<Object> result, int fromIndex) {
+        Registration r = deserializeReg((byte[]) result.get(fromIndex + 1));
+        Collection<Observation> obsRemoved = deserializeObservations(result, fromIndex + 2);
+        invalidateNearCache(j, Collections.singleton(r), obsRemoved);
+        return new Deregistration(r, obsRemoved);
+    }
+
+    private Collection<Observation> scriptedAddObservation(String registrationId, Observation observation,
+            boolean addIfAbsent) {
+        try (Jedis j = pool.getResource()) {
+            byte[] obsId = toObservationId(observation.getId());
+            List<byte[]> keys = Arrays.asList(toRegIdKey(registrationId), toObservationKey(obsId),
+                    toObservationIdsKey(registrationId));
+            List<byte[]> args = Arrays.asList(serializeObs(observation), obsId,
+                    (addIfAbsent ? "1" : "0").getBytes(UTF_8), observationByIdPrefix);
+            Object res = RegistrationStoreScripts.ADD_OBSERVATION.eval(j, keys, args);
+            if (res == null) {
+                throw new IllegalStateException(String.format(
+                        "can not add observation %s there is no registration with id %s", observation, registrationId));
+            }
+            List<Object> result = toList(res);
+
+            // log any collisions
+            byte[] previousValue = (byte[]) result.get(0);
+            if (previousValue != null && previousValue.length != 0) {
+                LOG.warn("Token collision ? observation [{}] will be replaced by observation [{}] ",
+                        deserializeObs(previousValue), observation);
+            }
+
+            // cancel existing observations for the same path and registration id.
+            List<Observation> removed = new ArrayList<>();
+            for (int i = 1; i < result.size(); i++) {
+                byte[] value = (byte[]) result.get(i);
+                Observation obs = deserializeObs(value);
+                if (areTheSamePaths(observation, obs) && !observation.getId().equals(obs.getId())
+                        && removeObservationIfUnchanged(j, registrationId, obs.getId(), value)) {
+                    removed.add(obs);
+                }
+            }
+
+            if (nearCache != null) {
+                List<Observation> modified = new ArrayList<>(removed);
+                modified.add(observation);
+                invalidateNearCache(j, Collections.<Registration> emptyList(), modified);
+            }
+            return removed;
+        }
+    }
+
+    private Observation scriptedRemoveObservation(String registrationId, ObservationIdentifier observationId) {
+        try (Jedis j = pool.getResource()) {
+            byte[] value = j.get(toObservationKey(observationId));
+            if (value == null) {
+                return null;
+            }
+            Observation observation = deserializeObs(value);
+            if ((registrationId == null || registrationId.equals(observation.getRegistrationId()))
+                    && removeObservationIfUnchanged(j, observation.getRegistrationId(), observationId, value)) {
+                invalidateNearCache(j, Collections.<Registration> emptyList(), Collections.singleton(observation));
+                return observation;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Remove an observation only if its stored value was not modified since it was read.
+     */
+    private boolean removeObservationIfUnchanged(Jedis j, String registrationId, ObservationIdentifier observationId,
+            byte[] expectedValue) {
+        byte[] obsId = toObservationId(observationId);
+        List<byte[]> keys = Arrays.asList(toObservationKey(obsId), toObservationIdsKey(registrationId));
+        List<byte[]> args = Arrays.asList(expectedValue, obsId);
+        return Long.valueOf(1L).equals(RegistrationStoreScripts.REMOVE_OBSERVATION.eval(j, keys, args));
+    }
+
+    private Collection<Observation> scriptedRemoveObservations(String registrationId) {
+        try (Jedis j = pool.getResource()) {
+            List<byte[]> keys = Arrays.asList(toRegIdKey(registrationId), toObservationIdsKey(registrationId));
+            List<byte[]> args = Collections.singletonList(observationByIdPrefix);
+            Object res = RegistrationStoreScripts.REMOVE_ALL_OBSERVATIONS.eval(j, keys, args);
+            if (res == null) {
+                return Collections.emptyList();
+            }
+            Collection<Observation> removed = deserializeObservations(toList(res), 0);
+            invalidateNearCache(j, Collections.<Registration> emptyList(), removed);
+            return removed;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> toList(Object scriptResult) {
+        return (List<Object>) scriptResult;
+    }
+
+    private List<Observation> deserializeObservations(List<Object> values, int fromIndex) {
+        List<Observation> observations = new ArrayList<>(Math.max(values.size() - fromIndex, 0));
+        for (int i = fromIndex; i < values.size(); i++) {
+            observations.add(deserializeObs((byte[]) values.get(i)));
+        }
+        return observations;
+    }
+
+    /* *************** Write mode **************** */
+
+    private void checkWriteMode() {
+        if (!writeModeChecked) {
+            try (Jedis j = pool.getResource()) {
+                checkWriteMode(j);
+            }
+        }
+    }
+
+    /**
+     * Check, once, that this store can write to Redis :
+     * <ul>
+     * <li>Lua scripts use keys which are not all given as <code>KEYS</code> (e.g. keys of secondary indexes listed in
+     * the indexes list of an endpoint), so scripted writes are not supported on Redis Cluster.</li>
+     * <li>All store instances sharing this Redis must use the same write mode, as lock based writes do not maintain the
+     * indexes list used by scripts. The mode of the first writer is stored at <code>writeModeKey</code>.</li>
+     * </ul>
+     *
+     * @throws IllegalStateException if this store must not write to this Redis.
+     */
+    private void checkWriteMode(Jedis j) {
+        if (writeModeChecked) {
+            return;
+        }
+        if (useScriptedWrites && j.info("cluster").contains("cluster_enabled:1")) {
+            throw new IllegalStateException("Scripted writes are not supported on Redis Cluster");
+        }
+        String mode = useScriptedWrites ? SCRIPTED_WRITE_MODE : LOCK_WRITE_MODE;
+        j.setnx(writeModeKey, mode.getBytes(UTF_8));
+        byte[] currentMode = j.get(writeModeKey);
+        if (currentMode != null && !mode.equals(new String(currentMode, UTF_8))) {
+            throw new IllegalStateException(String.format(
+                    "This store uses %s writes but other store instances use %s writes : all instances sharing the same Redis must use the same write mode",
+                    mode, new String(currentMode, UTF_8)));
+        }
+        writeModeChecked = true;
+    }
+
+    /* *************** Near cache handling **************** */
+
+    /**
+     * @return the near cache used by this store or <code>null</code> if it is disabled. This can be used to access
+     *         cache statistics.
+     */
+    public RedisNearCache getNearCache() {
+        return nearCache;
+    }
+
+    /**
+     * @return <code>true</code> if near cache is used for lookups. Near cache is bypassed while this store is not
+     *         subscribed to the invalidation channel (e.g. Redis connection lost), as invalidations could be missed.
+     */
+    public boolean isNearCacheActive() {
+        return nearCacheActive;
+    }
+
+    private RedisNearCache getActiveNearCache() {
+        return nearCacheActive ? nearCache : null;
+    }
+
+    /**
+     * Remove keys about given registrations and observations from local near cache and publish them on invalidation
+     * channel so other store instances sharing this Redis can do the same.
+     */
+    private void invalidateNearCache(Jedis j, Collection<Registration> registrations,
+            Collection<Observation> observations) {
+        if (nearCache == null) {
+            return;
+        }
+        List<byte[]> keys = new ArrayList<>();
+        for (Registration r : registrations) {
+            keys.add(toEndpointKey(r.getEndpoint()));
+            keys.add(toRegIdKey(r.getId()));
+            keys.add(toRegAddrKey(r.getSocketAddress()));
+            keys.add(toRegIdentityKey(r.getClientTransportData().getIdentity()));
+        }
+        for (Observation o : observations) {
+            keys.add(toObservationKey(o.getId()));
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+        nearCache.invalidate(keys);
+        j.publish(nearCacheInvalidationChannel, RedisNearCache.encodeKeys(keys));
+    }
+
+    private class NearCacheSubscriber implements Runnable {
+
+        @Override
+        public void run() {
+            while (!Thread.currentThread().isInterrupted()) {
+                BinaryJedisPubSub subscriber = new BinaryJedisPubSub() {
+                    @Override
+                    public void onSubscribe(byte[] channel, int subscribedChannels) {
+                        if (Thread.currentThread().isInterrupted()) {
+                            // store was stopped before subscription was effective
+                            unsubscribe();
+                            return;
+                        }
+                        // we could have missed some invalidations, so start from an empty cache.
+                        nearCache.clear();
+                        nearCacheActive = true;
+                    }
+
+                    @Override
+                    public void onMessage(byte[] channel, byte[] message) {
+                        try {
+                            nearCache.invalidate(RedisNearCache.decodeKeys(message));
+                        } catch (IllegalArgumentException e) {
+                            LOG.warn("Unable to decode near cache invalidation message, clear the whole cache", e);
+                            nearCache.clear();
+                        }
+                    }
+                };
+                nearCacheSubscriber = subscriber;
+                try (Jedis j = pool.getResource()) {
+                    // this is blocking until unsubscribe or connection lost.
+                    j.subscribe(subscriber, nearCacheInvalidationChannel);
+                } catch (RuntimeException e) {
+                    LOG.warn("Near cache invalidation subscription lost, retry in {}ms", nearCacheReconnectDelay, e);
+                } finally {
+                    nearCacheActive = false;
+                    nearCache.clear();
+                }
+
+                try {
+                    Thread.sleep(nearCacheReconnectDelay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private void startNearCacheSubscriber() {
+        if (nearCache != null && nearCacheSubscriberThread == null) {
+            nearCacheSubscriberThread = new NamedThreadFactory("RedisRegistrationStore NearCache Invalidation")
+                    .newThread(new NearCacheSubscriber());
+            nearCacheSubscriberThread.start();
+        }
+    }
+
+    private void stopNearCacheSubscriber() {
+        if (nearCacheSubscriberThread != null) {
+            nearCacheSubscriberThread.interrupt();
+            BinaryJedisPubSub subscriber = nearCacheSubscriber;
+            if (subscriber != null && subscriber.isSubscribed()) {
+                try {
+                    subscriber.unsubscribe();
+                } catch (RuntimeException e) {
+                    LOG.debug("Unable to unsubscribe from near cache invalidation channel", e);
+                }
+            }
+            nearCacheSubscriberThread = null;
+            nearCacheActive = false;
+            nearCache.clear();
+        }
+    }
+
     /* *************** Expiration handling **************** */
 
     /**
@@ -725,6 +1252,7 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
         if (!started) {
             started = true;
             cleanerTask = schedExecutor.scheduleAtFixedRate(new Cleaner(), cleanPeriod, cleanPeriod, TimeUnit.SECONDS);
+            startNearCacheSubscriber();
         }
     }
 
@@ -739,6 +1267,7 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
                 cleanerTask.cancel(false);
                 cleanerTask = null;
             }
+            stopNearCacheSubscriber();
         }
     }
 
@@ -748,6 +1277,7 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
     @Override
     public synchronized void destroy() {
         started = false;
+        stopNearCacheSubscriber();
         schedExecutor.shutdownNow();
         try {
             schedExecutor.awaitTermination(5, TimeUnit.SECONDS);
@@ -761,27 +1291,142 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
 
         @Override
         public void run() {
-
+            long start = System.nanoTime();
+            int nbExpired = 0;
             try (Jedis j = pool.getResource()) {
-                List<byte[]> endpointsExpired = j.zrangeByScore(endpointExpirationKey, Double.NEGATIVE_INFINITY,
-                        System.currentTimeMillis(), 0, cleanLimit);
-
-                for (byte[] endpoint : endpointsExpired) {
-                    byte[] regBytes = j.get(toEndpointKey(endpoint));
-                    if (regBytes != null) {
-                        Registration r = deserializeReg(regBytes);
-                        if (!r.isAlive(gracePeriod)) {
-                            Deregistration dereg = removeRegistration(j, r.getId(), true);
-                            if (dereg != null)
-                                expirationListener.registrationExpired(dereg.getRegistration(),
-                                        dereg.getObservations());
-                        }
+                checkWriteMode(j);
+                // registrations are removed by batch to limit the number of round trips.
+                int examined = 0;
+                while (examined < cleanLimit) {
+                    int batchSize = Math.min(cleanBatchSize, cleanLimit - examined);
+                    List<Deregistration> expired = new ArrayList<>();
+                    int batchExamined = useScriptedWrites ? removeExpiredWithScript(j, batchSize, expired)
+                            : removeExpiredWithLock(j, batchSize, expired);
+                    for (Deregistration dereg : expired) {
+                        expirationListener.registrationExpired(dereg.getRegistration(), dereg.getObservations());
+                    }
+                    nbExpired += expired.size();
+                    examined += batchExamined;
+                    if (batchExamined < batchSize) {
+                        // no more expired registration
+                        break;
                     }
                 }
+                expirationBacklog = j.zcount(endpointExpirationKey, Double.NEGATIVE_INFINITY,
+                        System.currentTimeMillis());
             } catch (RuntimeException e) {
                 LOG.warn("Unexpected Exception while registration cleaning", e);
+            } finally {
+                lastCleaningExpiredCount = nbExpired;
+                lastCleaningDurationInNanos = System.nanoTime() - start;
+            }
+            if (expirationBacklog > 0) {
+                LOG.debug("{} registrations expired in {}ms, {} expired registrations still to remove", nbExpired,
+                        TimeUnit.NANOSECONDS.toMillis(lastCleaningDurationInNanos), expirationBacklog);
             }
         }
+
+        /**
+         * Remove a batch of expired registrations, registrations are read in one request then removed one by one using
+         * lock.
+         *
+         * @return the number of examined endpoints
+         */
+        private int removeExpiredWithLock(Jedis j, int batchSize, List<Deregistration> expired) {
+            List<byte[]> endpointsExpired = j.zrangeByScore(endpointExpirationKey, Double.NEGATIVE_INFINITY,
+                    System.currentTimeMillis(), 0, batchSize);
+            if (endpointsExpired.isEmpty()) {
+                return 0;
+            }
+
+            byte[][] keys = new byte[endpointsExpired.size()][];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = toEndpointKey(endpointsExpired.get(i));
+            }
+            List<byte[]> registrations = j.mget(keys);
+            for (int i = 0; i < keys.length; i++) {
+                byte[] regBytes = registrations.get(i);
+                if (regBytes == null) {
+                    // do not examine it again at each cleaning
+                    removeExpirationWithoutRegistration(j, endpointsExpired.get(i));
+                } else {
+                    Registration r = deserializeReg(regBytes);
+                    if (!r.isAlive(gracePeriod)) {
+                        // removal is done under lock and checks again expiration, so if several store instances
+                        // share the same Redis, only one of them will get the deregistration.
+                        Deregistration dereg = lockedRemoveRegistration(j, r.getId(), true);
+                        if (dereg != null) {
+                            expired.add(dereg);
+                        }
+                    }
+                }
+            }
+            return endpointsExpired.size();
+        }
+
+        /**
+         * Remove a batch of expired registrations atomically with one script.
+         *
+         * @return the number of examined endpoints
+         */
+        private int removeExpiredWithScript(Jedis j, int batchSize, List<Deregistration> expired) {
+            List<byte[]> keys = Collections.singletonList(endpointExpirationKey);
+            List<byte[]> args = Arrays.asList(registrationByEndpointPrefix.getBytes(UTF_8),
+                    registrationIndexesByEndpointPrefix.getBytes(UTF_8), observationByIdPrefix,
+                    Long.toString(System.currentTimeMillis()).getBytes(UTF_8),
+                    Integer.toString(batchSize).getBytes(UTF_8));
+            List<Object> result = toList(RegistrationStoreScripts.REMOVE_EXPIRED_REGISTRATIONS.eval(j, keys, args));
+
+            for (int i = 1; i < result.size(); i++) {
+                List<Object> removed = toList(result.get(i));
+                if (removed.size() == 1) {
+                    // registration was not stored with scripted writes, so we don't know its indexes.
+                    byte[] ep = (byte[]) removed.get(0);
+                    byte[] regBytes = j.get(toEndpointKey(ep));
+                    if (regBytes == null) {
+                        removeExpirationWithoutRegistration(j, ep);
+                    } else {
+                        Deregistration dereg = lockedRemoveRegistration(j, deserializeReg(regBytes).getId(), true);
+                        if (dereg != null) {
+                            expired.add(dereg);
+                        }
+                    }
+                } else {
+                    expired.add(toDeregistration(j, removed, 0));
+                }
+            }
+            return ((Long) result.get(0)).intValue();
+        }
+    }
+
+    /**
+     * Remove endpoint from expiration key if it still has no registration, as a registration could be added meanwhile.
+     */
+    private void removeExpirationWithoutRegistration(Jedis j, byte[] ep) {
+        RegistrationStoreScripts.REMOVE_EXPIRATION_WITHOUT_REGISTRATION.eval(j,
+                Arrays.asList(toEndpointKey(ep), endpointExpirationKey), Collections.singletonList(ep));
+    }
+
+    /**
+     * @return the number of expired registrations removed during the last cleaning task.
+     */
+    public int getLastCleaningExpiredCount() {
+        return lastCleaningExpiredCount;
+    }
+
+    /**
+     * @return the duration in nanoseconds of the last cleaning task.
+     */
+    public long getLastCleaningDurationInNanos() {
+        return lastCleaningDurationInNanos;
+    }
+
+    /**
+     * @return the number of expired registrations which were not removed yet at the end of the last cleaning task (e.g.
+     *         because of {@link Builder#setCleanLimit(int)}). A growing value means the cleaner is falling behind.
+     */
+    public long getExpirationBacklog() {
+        return expirationBacklog;
     }
 
     @Override
@@ -802,13 +1447,16 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
         private String endpointBySocketAddressPrefix;
         private String endpointByIdentityPrefix;
         private String endpointLockPrefix;
+        private String registrationIndexesByEndpointPrefix;
         private String observationByIdPrefix;
         private String observationIdsByRegistrationIdPrefix;
         private String endpointExpirationKey;
+        private String writeModeKey;
 
         /** Time in seconds between 2 cleaning tasks (used to remove expired registration) */
         private long cleanPeriod;
         private int cleanLimit;
+        private int cleanBatchSize;
         /** extra time for registration lifetime in seconds */
         private long gracePeriod;
 
@@ -818,6 +1466,15 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
         private ObservationSerDes observationSerDes;
         private LwM2mIdentitySerDes identitySerDes;
         private LwM2mPeerSerDes peerSerDes;
+        private boolean useBinaryFormat;
+        private boolean useScriptedWrites;
+
+        private int nearCacheSize;
+        /** maximum time in seconds an entry is kept in near cache */
+        private long nearCacheTimeToLive;
+        private String nearCacheInvalidationChannel;
+        /** time in milliseconds before to retry subscription to invalidation channel */
+        private long nearCacheReconnectDelay;
 
         /**
          * Set the prefix for all keys and prefixes.
@@ -884,6 +1541,17 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
             return this;
         }
 
+        /**
+         * Set the key prefix for the list of secondary index keys of a registration lookup by endpoint. This is only
+         * used when scripted writes are enabled, see {@link #setUseScriptedWrites(boolean)}.
+         * <p>
+         * Default value is {@literal IDX#EP#}. Should not be {@code null} or empty.
+         */
+        public Builder setRegistrationIndexesByEndpointPrefix(String registrationIndexesByEndpointPrefix) {
+            this.registrationIndexesByEndpointPrefix = registrationIndexesByEndpointPrefix;
+            return this;
+        }
+
         /**
          * Set the key prefix for observation lookup by observation identifier.
          * <p>
@@ -917,6 +1585,16 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
             return this;
         }
 
+        /**
+         * Set the key storing the write mode of store instances (see {@link #setUseScriptedWrites(boolean)}).
+         * <p>
+         * Default value is {@literal WRITEMODE}. Should not be {@code null} or empty.
+         */
+        public Builder setWriteModeKey(String writeModeKey) {
+            this.writeModeKey = writeModeKey;
+            return this;
+        }
+
         /**
          * Set time between 2 periodic task about cleaning expired registration.
          * <p>
@@ -937,6 +1615,17 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
             return this;
         }
 
+        /**
+         * Set maximum number of expired registration removed in one Redis request. Registrations are removed by batch
+         * until {@link #setCleanLimit(int)} is reached.
+         * <p>
+         * Default value is {@literal 100}.
+         */
+        public Builder setCleanBatchSize(int cleanBatchSize) {
+            this.cleanBatchSize = cleanBatchSize;
+            return this;
+        }
+
         /**
          * Set some extra time added to registration lifetime when calculating if a registration expired.
          * <p>
@@ -999,6 +1688,87 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
             return this;
         }
 
+        /**
+         * Use a compact binary format instead of JSON to store {@link Registration} and {@link Observation}, see
+         * {@link BinaryRegistrationSerDes} and {@link BinaryObservationSerDes}. Values already stored with JSON format
+         * can still be read, so this can be enabled on an existing database.
+         * <p>
+         * This is only used if {@link #setRegistrationSerDes(RegistrationSerDes)} or
+         * {@link #setObservationSerDes(ObservationSerDes)} are not called.
+         * <p>
+         * Default value is {@code false}.
+         */
+        public Builder setUseBinaryFormat(boolean useBinaryFormat) {
+            this.useBinaryFormat = useBinaryFormat;
+            return this;
+        }
+
+        /**
+         * Write registrations and observations using Lua scripts (and optimistic transactions for registration update)
+         * instead of acquiring a {@link JedisLock} for each modification. Each write is done atomically by Redis,
+         * generally in one round trip, and there is no more polling to wait for a lock.
+         * <p>
+         * All store instances sharing the same Redis must use the same mode : the mode of the first store which writes
+         * is saved at {@link #setWriteModeKey(String)} and stores using the other mode fail with an
+         * {@link IllegalStateException}. To switch all instances to another mode, stop them and delete this key. Data
+         * written with lock based writes can still be modified by scripted writes.
+         * <p>
+         * Scripts access keys which are not all known before their execution, so scripted writes are only supported on
+         * a single Redis node (with or without replicas), not on Redis Cluster.
+         * <p>
+         * Default value is {@code false}.
+         */
+        public Builder setUseScriptedWrites(boolean useScriptedWrites) {
+            this.useScriptedWrites = useScriptedWrites;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of entries (registrations, secondary index values and observations) kept in a local
+         * near cache. This allows to answer most of lookups without querying Redis.
+         * <p>
+         * Near caches of all store instances sharing the same Redis are kept coherent using a Redis Pub/Sub channel
+         * (see {@link #setNearCacheInvalidationChannel(String)}). Note that the subscription permanently uses one
+         * connection of the pool. When this subscription is lost, the near cache is not used until it is restored.
+         * <p>
+         * Default value is {@literal 0} which means near cache is disabled.
+         */
+        public Builder setNearCacheSize(int nearCacheSize) {
+            this.nearCacheSize = nearCacheSize;
+            return this;
+        }
+
+        /**
+         * Set the maximum time an entry is kept in near cache.
+         * <p>
+         * Default value is {@literal 60 seconds}.
+         */
+        public Builder setNearCacheTimeToLive(long nearCacheTimeToLive) {
+            this.nearCacheTimeToLive = nearCacheTimeToLive;
+            return this;
+        }
+
+        /**
+         * Set the Redis Pub/Sub channel used to invalidate near cache entries when data are modified.
+         * <p>
+         * Default value is {@literal NEARCACHE#INVALIDATION}. Should not be {@code null} or empty.
+         */
+        public Builder setNearCacheInvalidationChannel(String nearCacheInvalidationChannel) {
+            this.nearCacheInvalidationChannel = nearCacheInvalidationChannel;
+            return this;
+        }
+
+        /**
+         * Set time in milliseconds to wait before to retry subscription to near cache invalidation channel when it is
+         * lost.
+         * <p>
+         * Default value is {@literal 1000 milliseconds}.
+         */
+        public Builder setNearCacheReconnectDelay(long nearCacheReconnectDelay) {
+            this.nearCacheReconnectDelay = nearCacheReconnectDelay;
+            return this;
+        }
+
         public Builder(Pool<Jedis> pool) {
             this.pool = pool;
             this.prefix = "REGSTORE#";
@@ -1007,12 +1777,19 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
             this.endpointBySocketAddressPrefix = "EP#ADDR#";
             this.endpointByIdentityPrefix = "EP#IDENTITY#";
             this.endpointLockPrefix = "LOCK#EP#";
+            this.registrationIndexesByEndpointPrefix = "IDX#EP#";
             this.observationByIdPrefix = "OBS#OBSID#";
             this.observationIdsByRegistrationIdPrefix = "OBSIDS#REGID#";
             this.endpointExpirationKey = "EXP#EP";
+            this.writeModeKey = "WRITEMODE";
             this.cleanPeriod = 60;
             this.cleanLimit = 500;
+            this.cleanBatchSize = 100;
             this.gracePeriod = 0;
+            this.nearCacheSize = 0;
+            this.nearCacheTimeToLive = 60;
+            this.nearCacheInvalidationChannel = "NEARCACHE#INVALIDATION";
+            this.nearCacheReconnectDelay = 1000;
         }
 
         protected Builder generateDefaultValue() {
@@ -1029,7 +1806,8 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
                 if (peerSerDes == null) {
                     this.peerSerDes = new LwM2mPeerSerDes();
                 }
-                this.registrationSerDes = new RegistrationSerDes(peerSerDes);
+                this.registrationSerDes = useBinaryFormat ? new BinaryRegistrationSerDes(peerSerDes)
+                        : new RegistrationSerDes(peerSerDes);
             }
 
             if (this.identitySerDes == null) {
@@ -1037,7 +1815,7 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
             }
 
             if (this.observationSerDes == null) {
-                this.observationSerDes = new ObservationSerDes();
+                this.observationSerDes = useBinaryFormat ? new BinaryObservationSerDes() : new ObservationSerDes();
             }
 
             return this;
@@ -1069,6 +1847,11 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
                 throw new IllegalArgumentException("endpointLockPrefix should not be empty");
             }
 
+            if (this.registrationIndexesByEndpointPrefix == null
+                    || this.registrationIndexesByEndpointPrefix.isEmpty()) {
+                throw new IllegalArgumentException("registrationIndexesByEndpointPrefix should not be empty");
+            }
+
             if (this.observationByIdPrefix == null || this.observationByIdPrefix.isEmpty()) {
                 throw new IllegalArgumentException("observationByIdPrefix should not be empty");
             }
@@ -1082,10 +1865,27 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
                 throw new IllegalArgumentException("endpointExpirationKey should not be empty");
             }
 
+            if (this.writeModeKey == null || this.writeModeKey.isEmpty()) {
+                throw new IllegalArgumentException("writeModeKey should not be empty");
+            }
+
+            if (this.cleanBatchSize <= 0) {
+                throw new IllegalArgumentException("cleanBatchSize should be strictly positive");
+            }
+
+            if (this.nearCacheInvalidationChannel == null || this.nearCacheInvalidationChannel.isEmpty()) {
+                throw new IllegalArgumentException("nearCacheInvalidationChannel should not be empty");
+            }
+
+            if (this.nearCacheSize > 0 && this.nearCacheTimeToLive <= 0) {
+                throw new IllegalArgumentException("nearCacheTimeToLive should be strictly positive");
+            }
+
             // Make sure same prefix is not used more than once
             String[] prefixes = new String[] { this.registrationByEndpointPrefix, this.endpointByRegistrationIdPrefix,
                     this.endpointBySocketAddressPrefix, this.endpointByIdentityPrefix, this.endpointLockPrefix,
-                    this.observationByIdPrefix, this.observationIdsByRegistrationIdPrefix, this.endpointExpirationKey };
+                    this.registrationIndexesByEndpointPrefix, this.observationByIdPrefix,
+                    this.observationIdsByRegistrationIdPrefix, this.endpointExpirationKey, this.writeModeKey };
             Set<String> uniquePrefixes = new HashSet<>();
 
             for (String p : prefixes) {
@@ -1100,9 +1900,12 @@ public class RedisRegistrationStore implements RegistrationStore, Startable, Sto
                 this.endpointBySocketAddressPrefix = this.prefix + this.endpointBySocketAddressPrefix;
                 this.endpointByIdentityPrefix = this.prefix + this.endpointByIdentityPrefix;
                 this.endpointLockPrefix = this.prefix + this.endpointLockPrefix;
+                this.registrationIndexesByEndpointPrefix = this.prefix + this.registrationIndexesByEndpointPrefix;
                 this.observationByIdPrefix = this.prefix + this.observationByIdPrefix;
                 this.observationIdsByRegistrationIdPrefix = this.prefix + this.observationIdsByRegistrationIdPrefix;
                 this.endpointExpirationKey = this.prefix + this.endpointExpirationKey;
+                this.writeModeKey = this.prefix + this.writeModeKey;
+                this.nearCacheInvalidationChannel = this.prefix + this.nearCacheInvalidationChannel;
             }
 
             generateDefaultValue();
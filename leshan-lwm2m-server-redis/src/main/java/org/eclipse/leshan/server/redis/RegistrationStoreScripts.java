@@ -0,0 +1,246 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis;
+
+/**
+ * Lua scripts used by {@link RedisRegistrationStore} when scripted writes are enabled.
+ * <p>
+ * Scripts rely on an "indexes" list stored for each endpoint which contains, in this order, the keys of the secondary
+ * indexes of the current registration : registration id key, socket address key, identity key and observation ids key.
+ * This allows to clean up secondary indexes of a previous registration without having to deserialize it.
+ * <p>
+ * When this list is missing (registration stored without scripted writes), scripts answer with a
+ * {@link #FALLBACK_NEEDED} flag and the store falls back to the lock based implementation.
+ * <p>
+ * Keys of secondary indexes, observations and indexes lists are read from Redis or built from prefixes given as
+ * <code>ARGV</code>, so scripts do not declare all the keys they access : they can only run on a single Redis node, not
+ * on Redis Cluster. {@link RedisRegistrationStore} checks this before its first write.
+ */
+final class RegistrationStoreScripts {
+
+    static final long FALLBACK_NEEDED = 1L;
+
+    private RegistrationStoreScripts() {
+    }
+
+    // Remove observations listed in list at key obsIdsKey and append their value to result table.
+    private static final String REMOVE_ALL_OBSERVATIONS_FUNCTION = "" //
+            + "local function removeAllObservations(obsIdsKey, obsPrefix, result)\n" //
+            + "  for _, obsId in ipairs(redis.call('LRANGE', obsIdsKey, 0, -1)) do\n" //
+            + "    local obsKey = obsPrefix .. obsId\n" //
+            + "    local obs = redis.call('GET', obsKey)\n" //
+            + "    if obs then\n" //
+            + "      table.insert(result, obs)\n" //
+            + "      redis.call('DEL', obsKey)\n" //
+            + "    end\n" //
+            + "  end\n" //
+            + "  redis.call('DEL', obsIdsKey)\n" //
+            + "end\n";
+
+    // Remove registration of endpoint ep and all its indexes and observations, return nil if there is no registration
+    // or a table : {ep, registration, removed observations...}
+    private static final String REMOVE_REGISTRATION_FUNCTION = REMOVE_ALL_OBSERVATIONS_FUNCTION //
+            + "local function removeRegistration(ep, indexesKey, indexes, epPrefix, obsPrefix, expirationKey)\n" //
+            + "  redis.call('ZREM', expirationKey, ep)\n" //
+            + "  local epKey = epPrefix .. ep\n" //
+            + "  local data = redis.call('GET', epKey)\n" //
+            + "  if not data then return nil end\n" //
+            + "  redis.call('DEL', epKey)\n" //
+            + "  for i = 1, 3 do\n" //
+            + "    if redis.call('GET', indexes[i]) == ep then\n" //
+            + "      redis.call('DEL', indexes[i])\n" //
+            + "    end\n" //
+            + "  end\n" //
+            + "  local result = {ep, data}\n" //
+            + "  removeAllObservations(indexes[4], obsPrefix, result)\n" //
+            + "  redis.call('DEL', indexesKey)\n" //
+            + "  return result\n" //
+            + "end\n";
+
+    /**
+     * Add or replace a registration.
+     * <p>
+     * KEYS : endpoint key, indexes key, registration id key, address key, identity key, observation ids key, expiration
+     * key.<br>
+     * ARGV : serialized registration, endpoint, expiration timestamp, observation key prefix.
+     * <p>
+     * Returns : [fallback flag, previous registration or nil, removed observations...]
+     */
+    static final RedisScript ADD_REGISTRATION = new RedisScript(REMOVE_ALL_OBSERVATIONS_FUNCTION //
+            + "local ep = ARGV[2]\n" //
+            + "local old = redis.call('GET', KEYS[1])\n" //
+            + "redis.call('SET', KEYS[1], ARGV[1])\n" //
+            + "redis.call('SET', KEYS[3], ep)\n" //
+            + "redis.call('SET', KEYS[4], ep)\n" //
+            + "redis.call('SET', KEYS[5], ep)\n" //
+            + "redis.call('ZADD', KEYS[7], ARGV[3], ep)\n" //
+            + "local result = {0, old}\n" //
+            + "local oldIndexes = redis.call('LRANGE', KEYS[2], 0, -1)\n" //
+            + "if #oldIndexes == 4 then\n" //
+            + "  for i = 1, 3 do\n" //
+            + "    local k = oldIndexes[i]\n" //
+            + "    if k ~= KEYS[3] and k ~= KEYS[4] and k ~= KEYS[5] and redis.call('GET', k) == ep then\n" //
+            + "      redis.call('DEL', k)\n" //
+            + "    end\n" //
+            + "  end\n" //
+            + "  removeAllObservations(oldIndexes[4], ARGV[4], result)\n" //
+            + "elseif old then\n" //
+            + "  result[1] = 1\n" //
+            + "end\n" //
+            + "redis.call('DEL', KEYS[2])\n" //
+            + "redis.call('RPUSH', KEYS[2], KEYS[3], KEYS[4], KEYS[5], KEYS[6])\n" //
+            + "return result\n");
+
+    /**
+     * Remove the registration currently associated to a registration id.
+     * <p>
+     * KEYS : registration id key, expiration key.<br>
+     * ARGV : endpoint key prefix, indexes key prefix, observation key prefix, current timestamp if registration should
+     * be removed only if expired or empty string.
+     * <p>
+     * Returns : nil if nothing was removed, [fallback flag] if fallback is needed or [fallback flag, endpoint, removed
+     * registration, removed observations...]
+     */
+    static final RedisScript REMOVE_REGISTRATION = new RedisScript(REMOVE_REGISTRATION_FUNCTION //
+            + "local ep = redis.call('GET', KEYS[1])\n" //
+            + "if not ep then return nil end\n" //
+            + "local indexesKey = ARGV[2] .. ep\n" //
+            + "local indexes = redis.call('LRANGE', indexesKey, 0, -1)\n" //
+            + "if #indexes ~= 4 then return {1} end\n" //
+            + "if ARGV[4] ~= '' then\n" //
+            + "  local expiration = redis.call('ZSCORE', KEYS[2], ep)\n" //
+            + "  if not expiration or tonumber(expiration) > tonumber(ARGV[4]) then return nil end\n" //
+            + "end\n" //
+            + "local removed = removeRegistration(ep, indexesKey, indexes, ARGV[1], ARGV[3], KEYS[2])\n" //
+            + "if not removed then return nil end\n" //
+            + "table.insert(removed, 1, 0)\n" //
+            + "return removed\n");
+
+    /**
+     * Remove a batch of expired registrations.
+     * <p>
+     * KEYS : expiration key.<br>
+     * ARGV : endpoint key prefix, indexes key prefix, observation key prefix, current timestamp, maximum number of
+     * registrations to examine.
+     * <p>
+     * Returns : [number of examined endpoints, results...] where each result is [endpoint] if fallback is needed for
+     * this endpoint or [endpoint, removed registration, removed observations...]. Endpoints without registration are
+     * removed from expiration key without result.
+     */
+    static final RedisScript REMOVE_EXPIRED_REGISTRATIONS = new RedisScript(REMOVE_REGISTRATION_FUNCTION //
+            + "local endpoints = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[4], 'LIMIT', 0, ARGV[5])\n" //
+            + "local result = {#endpoints}\n" //
+            + "for _, ep in ipairs(endpoints) do\n" //
+            + "  local indexesKey = ARGV[2] .. ep\n" //
+            + "  local indexes = redis.call('LRANGE', indexesKey, 0, -1)\n" //
+            + "  if #indexes ~= 4 then\n" //
+            + "    if redis.call('EXISTS', ARGV[1] .. ep) == 0 then\n" //
+            + "      redis.call('ZREM', KEYS[1], ep)\n" //
+            + "    else\n" //
+            + "      table.insert(result, {ep})\n" //
+            + "    end\n" //
+            + "  else\n" //
+            + "    local removed = removeRegistration(ep, indexesKey, indexes, ARGV[1], ARGV[3], KEYS[1])\n" //
+            + "    if removed then table.insert(result, removed) end\n" //
+            + "  end\n" //
+            + "end\n" //
+            + "return result\n");
+
+    /**
+     * Remove an endpoint from expiration key only if it has no registration, e.g. because registration was removed
+     * without its expiration.
+     * <p>
+     * KEYS : endpoint key, expiration key.<br>
+     * ARGV : endpoint.
+     * <p>
+     * Returns : 1 if endpoint was removed else 0.
+     */
+    static final RedisScript REMOVE_EXPIRATION_WITHOUT_REGISTRATION = new RedisScript("" //
+            + "if redis.call('EXISTS', KEYS[1]) == 0 then\n" //
+            + "  return redis.call('ZREM', KEYS[2], ARGV[1])\n" //
+            + "end\n" //
+            + "return 0\n");
+
+    /**
+     * Delete a key only if its value is the given one. This is used to remove a secondary index only if it is still
+     * associated to the expected endpoint.
+     * <p>
+     * KEYS : key to delete.<br>
+     * ARGV : expected value.
+     */
+    static final RedisScript DELETE_IF_EQUALS = new RedisScript("" //
+            + "if redis.call('GET', KEYS[1]) == ARGV[1] then\n" //
+            + "  return redis.call('DEL', KEYS[1])\n" //
+            + "end\n" //
+            + "return 0\n");
+
+    /**
+     * Add an observation to a registration.
+     * <p>
+     * KEYS : registration id key, observation key, observation ids key.<br>
+     * ARGV : serialized observation, observation id, "1" if observation should only be added if absent else "0",
+     * observation key prefix.
+     * <p>
+     * Returns : nil if registration does not exist or [previous observation or nil, other observations of this
+     * registration...]
+     */
+    static final RedisScript ADD_OBSERVATION = new RedisScript("" //
+            + "if redis.call('EXISTS', KEYS[1]) == 0 then return nil end\n" //
+            + "local previous = redis.call('GET', KEYS[2])\n" //
+            + "if ARGV[3] == '0' or not previous or previous == '' then\n" //
+            + "  redis.call('SET', KEYS[2], ARGV[1])\n" //
+            + "end\n" //
+            + "redis.call('LREM', KEYS[3], 0, ARGV[2])\n" //
+            + "redis.call('LPUSH', KEYS[3], ARGV[2])\n" //
+            + "local result = {previous}\n" //
+            + "for _, obsId in ipairs(redis.call('LRANGE', KEYS[3], 0, -1)) do\n" //
+            + "  if obsId ~= ARGV[2] then\n" //
+            + "    local obs = redis.call('GET', ARGV[4] .. obsId)\n" //
+            + "    if obs then table.insert(result, obs) end\n" //
+            + "  end\n" //
+            + "end\n" //
+            + "return result\n");
+
+    /**
+     * Remove an observation only if its value is the given one.
+     * <p>
+     * KEYS : observation key, observation ids key.<br>
+     * ARGV : expected serialized observation, observation id.
+     * <p>
+     * Returns : 1 if observation was removed else 0.
+     */
+    static final RedisScript REMOVE_OBSERVATION = new RedisScript("" //
+            + "if redis.call('GET', KEYS[1]) == ARGV[1] then\n" //
+            + "  redis.call('DEL', KEYS[1])\n" //
+            + "  redis.call('LREM', KEYS[2], 0, ARGV[2])\n" //
+            + "  return 1\n" //
+            + "end\n" //
+            + "return 0\n");
+
+    /**
+     * Remove all observations of a registration.
+     * <p>
+     * KEYS : registration id key, observation ids key.<br>
+     * ARGV : observation key prefix.
+     * <p>
+     * Returns : nil if registration does not exist or [removed observations...]
+     */
+    static final RedisScript REMOVE_ALL_OBSERVATIONS = new RedisScript(REMOVE_ALL_OBSERVATIONS_FUNCTION //
+            + "if redis.call('EXISTS', KEYS[1]) == 0 then return nil end\n" //
+            + "local result = {}\n" //
+            + "removeAllObservations(KEYS[2], ARGV[1], result)\n" //
+            + "return result\n");
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis.serialization;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.leshan.core.endpoint.EndPointUriHandler;
+import org.eclipse.leshan.core.endpoint.EndpointUri;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.observation.CompositeObservation;
+import org.eclipse.leshan.core.observation.Observation;
+import org.eclipse.leshan.core.observation.ObservationIdentifier;
+import org.eclipse.leshan.core.observation.SingleObservation;
+import org.eclipse.leshan.core.request.ContentFormat;
+
+/**
+ * An {@link ObservationSerDes} which stores {@link Observation} using a compact versioned binary format instead of
+ * JSON.
+ * <p>
+ * The first byte of the serialized value is the format version. Values serialized with the JSON format of
+ * {@link ObservationSerDes} (which always start with <code>'{'</code>) can still be deserialized.
+ *
+ * @see BinaryRegistrationSerDes
+ */
+public class BinaryObservationSerDes extends ObservationSerDes {
+
+    /** First byte of value serialized with version 1 of the binary format */
+    public static final byte FORMAT_V1 = (byte) 0xB1;
+
+    private static final int KIND_SINGLE = 0;
+    private static final int KIND_COMPOSITE = 1;
+
+    public BinaryObservationSerDes() {
+        super();
+    }
+
+    public BinaryObservationSerDes(EndPointUriHandler uriHandler) {
+        super(uriHandler);
+    }
+
+    @Override
+    public byte[] serialize(Observation obs) {
+        BinaryWriter w = new BinaryWriter(128);
+        w.writeByte(FORMAT_V1);
+
+        w.writeBytes(obs.getId().getBytes());
+        w.writeString(obs.getId().getEndpointUri().toString());
+        w.writeString(obs.getRegistrationId());
+        w.writeStringMap(obs.getContext());
+        w.writeStringMap(obs.getProtocolData());
+
+        if (obs instanceof SingleObservation) {
+            SingleObservation sobs = (SingleObservation) obs;
+            w.writeByte(KIND_SINGLE);
+            writeContentFormat(w, sobs.getContentFormat());
+            w.writePath(sobs.getPath());
+        } else if (obs instanceof CompositeObservation) {
+            CompositeObservation cobs = (CompositeObservation) obs;
+            w.writeByte(KIND_COMPOSITE);
+            writeContentFormat(w, cobs.getRequestContentFormat());
+            writeContentFormat(w, cobs.getResponseContentFormat());
+            w.writeVarInt(cobs.getPaths().size());
+            for (LwM2mPath path : cobs.getPaths()) {
+                w.writePath(path);
+            }
+        } else {
+            throw new IllegalArgumentException(String.format("Unsupported kind of Observation : %s", obs));
+        }
+        return w.toByteArray();
+    }
+
+    @Override
+    public Observation deserialize(byte[] data) {
+        if (data.length > 0 && data[0] == '{') {
+            // value stored with JSON format
+            return super.deserialize(data);
+        }
+        if (data.length == 0 || data[0] != FORMAT_V1) {
+            throw new IllegalArgumentException(
+                    String.format("Unable to deserialize Observation : unsupported format %s",
+                            data.length == 0 ? "(empty value)" : String.format("0x%02X", data[0])));
+        }
+        try {
+            return deserializeV1(new BinaryReader(data, 1));
+        } catch (IllegalStateException e) {
+            throw new IllegalArgumentException("Unable to deserialize Observation", e);
+        }
+    }
+
+    private Observation deserializeV1(BinaryReader in) {
+        byte[] id = in.readBytes();
+        EndpointUri endpointUri = uriHandler.createUri(in.readString());
+        ObservationIdentifier obsId = new ObservationIdentifier(endpointUri, id);
+        String regid = in.readString();
+        Map<String, String> context = in.readStringMap();
+        Map<String, String> protocolData = in.readStringMap();
+
+        int kind = in.readByte();
+        switch (kind) {
+        case KIND_SINGLE:
+            ContentFormat contentFormat = readContentFormat(in);
+            LwM2mPath path = in.readPath();
+            return new SingleObservation(obsId, regid, path, contentFormat, context, protocolData);
+        case KIND_COMPOSITE:
+            ContentFormat reqContentFormat = readContentFormat(in);
+            ContentFormat respContentFormat = readContentFormat(in);
+            int nbPaths = in.readVarInt();
+            List<LwM2mPath> paths = new ArrayList<>(nbPaths);
+            for (int i = 0; i < nbPaths; i++) {
+                paths.add(in.readPath());
+            }
+            return new CompositeObservation(obsId, regid, paths, reqContentFormat, respContentFormat, context,
+                    protocolData);
+        default:
+            throw new IllegalStateException(String.format("Unsupported kind of Observation : %d", kind));
+        }
+    }
+
+    private void writeContentFormat(BinaryWriter w, ContentFormat contentFormat) {
+        // 0 is used for null, so code is shifted by 1
+        w.writeVarInt(contentFormat == null ? 0 : contentFormat.getCode() + 1);
+    }
+
+    private ContentFormat readContentFormat(BinaryReader in) {
+        int code = in.readVarInt();
+        return code == 0 ? null : ContentFormat.fromCode(code - 1);
+    }
+}
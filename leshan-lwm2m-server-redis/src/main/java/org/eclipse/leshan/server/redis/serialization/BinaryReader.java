@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis.serialization;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.leshan.core.node.LwM2mPath;
+
+/**
+ * Read values written by a {@link BinaryWriter}.
+ * <p>
+ * Any attempt to read after the end of the data raises an {@link IllegalStateException}.
+ */
+class BinaryReader {
+
+    private final byte[] data;
+    private int position;
+
+    BinaryReader(byte[] data, int offset) {
+        this.data = data;
+        this.position = offset;
+    }
+
+    int readByte() {
+        checkAvailable(1);
+        return data[position++] & 0xFF;
+    }
+
+    byte[] readBytes() {
+        int length = readVarInt();
+        checkAvailable(length);
+        byte[] bytes = Arrays.copyOfRange(data, position, position + length);
+        position += length;
+        return bytes;
+    }
+
+    int readVarInt() {
+        long value = readVarLong();
+        if (value > 0xFFFFFFFFL) {
+            throw new IllegalStateException(String.format("Invalid varint %d at position %d", value, position));
+        }
+        return (int) value;
+    }
+
+    long readVarLong() {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            if (shift > 63) {
+                throw new IllegalStateException(String.format("Malformed varint at position %d", position));
+            }
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+
+    String readString() {
+        int length = readVarInt();
+        checkAvailable(length);
+        String value = new String(data, position, length, UTF_8);
+        position += length;
+        return value;
+    }
+
+    String readNullableString() {
+        return readByte() == 0 ? null : readString();
+    }
+
+    Map<String, String> readStringMap() {
+        int size = readVarInt();
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(), readNullableString());
+        }
+        return map;
+    }
+
+    LwM2mPath readPath() {
+        int length = readVarInt();
+        switch (length) {
+        case 0:
+            return LwM2mPath.ROOTPATH;
+        case 1:
+            return new LwM2mPath(readVarInt());
+        case 2:
+            return new LwM2mPath(readVarInt(), readVarInt());
+        case 3:
+            return new LwM2mPath(readVarInt(), readVarInt(), readVarInt());
+        case 4:
+            return new LwM2mPath(readVarInt(), readVarInt(), readVarInt(), readVarInt());
+        default:
+            throw new IllegalStateException(String.format("Invalid path length %d at position %d", length, position));
+        }
+    }
+
+    private void checkAvailable(int length) {
+        if (length < 0 || position + length > data.length) {
+            throw new IllegalStateException(
+                    String.format("Unexpected end of data : %d bytes needed at position %d but only %d available",
+                            length, position, data.length - position));
+        }
+    }
+}
@@ -0,0 +1,341 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis.serialization;
+
+import java.net.InetSocketAddress;
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.eclipse.leshan.core.LwM2m.LwM2mVersion;
+import org.eclipse.leshan.core.LwM2m.Version;
+import org.eclipse.leshan.core.endpoint.EndPointUriHandler;
+import org.eclipse.leshan.core.endpoint.EndpointUri;
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.link.attributes.Attribute;
+import org.eclipse.leshan.core.link.attributes.AttributeParser;
+import org.eclipse.leshan.core.link.attributes.InvalidAttributeException;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.core.peer.LwM2mIdentity;
+import org.eclipse.leshan.core.peer.LwM2mPeer;
+import org.eclipse.leshan.core.peer.OscoreIdentity;
+import org.eclipse.leshan.core.peer.PskIdentity;
+import org.eclipse.leshan.core.peer.RpkIdentity;
+import org.eclipse.leshan.core.peer.SocketIdentity;
+import org.eclipse.leshan.core.peer.X509Identity;
+import org.eclipse.leshan.core.request.BindingMode;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.server.registration.Registration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A {@link RegistrationSerDes} which stores {@link Registration} using a compact versioned binary format instead of
+ * JSON.
+ * <p>
+ * Integers are encoded as varint and all fields are written in a fixed order, so neither field names nor a JSON tree
+ * are needed. The first byte of the serialized value is the format version. Values serialized with the JSON format of
+ * {@link RegistrationSerDes} (which always start with <code>'{'</code>) can still be deserialized, which allows to
+ * switch an existing Redis database to this format.
+ */
+public class BinaryRegistrationSerDes extends RegistrationSerDes {
+
+    /** First byte of value serialized with version 1 of the binary format */
+    public static final byte FORMAT_V1 = (byte) 0xB1;
+
+    // peer and identity types
+    private static final int PEER_JSON = 0;
+    private static final int PEER_IP = 1;
+
+    private static final int IDENTITY_UNSECURE = 0;
+    private static final int IDENTITY_PSK = 1;
+    private static final int IDENTITY_RPK = 2;
+    private static final int IDENTITY_X509 = 3;
+    private static final int IDENTITY_OSCORE = 4;
+
+    // queue mode flag
+    private static final int QUEUE_MODE_NULL = 0;
+    private static final int QUEUE_MODE_FALSE = 1;
+    private static final int QUEUE_MODE_TRUE = 2;
+
+    public BinaryRegistrationSerDes() {
+        super();
+    }
+
+    public BinaryRegistrationSerDes(LwM2mPeerSerDes peerSerDes) {
+        super(peerSerDes);
+    }
+
+    public BinaryRegistrationSerDes(AttributeParser attributeParser, LwM2mPeerSerDes peerSerDes) {
+        super(attributeParser, peerSerDes);
+    }
+
+    public BinaryRegistrationSerDes(AttributeParser attributeParser, LwM2mPeerSerDes peerSerDes,
+            EndPointUriHandler uriHandler) {
+        super(attributeParser, peerSerDes, uriHandler);
+    }
+
+    @Override
+    public byte[] bSerialize(Registration r) {
+        BinaryWriter w = new BinaryWriter(256);
+        w.writeByte(FORMAT_V1);
+
+        w.writeString(r.getId());
+        w.writeString(r.getEndpoint());
+        w.writeString(r.getEndpointUri().toString());
+        writePeer(w, r.getClientTransportData());
+        w.writeVarLong(r.getRegistrationDate().getTime());
+        w.writeVarLong(r.getLastUpdate().getTime());
+        w.writeVarLong(r.getLifeTimeInSec());
+        w.writeNullableString(r.getSmsNumber());
+        w.writeString(r.getLwM2mVersion().toString());
+        w.writeString(BindingMode.toString(r.getBindingMode()));
+        if (r.getQueueMode() == null) {
+            w.writeByte(QUEUE_MODE_NULL);
+        } else {
+            w.writeByte(r.getQueueMode() ? QUEUE_MODE_TRUE : QUEUE_MODE_FALSE);
+        }
+        w.writeString(r.getRootPath());
+
+        // object links
+        Link[] links = r.getObjectLinks();
+        w.writeVarInt(links.length);
+        for (Link link : links) {
+            w.writeString(link.getUriReference());
+            w.writeVarInt(link.getAttributes().asCollection().size());
+            for (Attribute a : link.getAttributes()) {
+                w.writeString(a.getName());
+                w.writeNullableString(a.hasValue() ? a.getCoreLinkValue() : null);
+            }
+        }
+
+        w.writeStringMap(r.getAdditionalRegistrationAttributes());
+
+        // data extracted from object links
+        Set<ContentFormat> supportedContentFormats = r.getSupportedContentFormats();
+        w.writeVarInt(supportedContentFormats.size());
+        for (ContentFormat contentFormat : supportedContentFormats) {
+            w.writeVarInt(contentFormat.getCode());
+        }
+        Map<Integer, Version> supportedObjects = r.getSupportedObject();
+        w.writeVarInt(supportedObjects.size());
+        for (Entry<Integer, Version> supportedObject : supportedObjects.entrySet()) {
+            w.writeVarInt(supportedObject.getKey());
+            w.writeString(supportedObject.getValue().toString());
+        }
+        Set<LwM2mPath> availableInstances = r.getAvailableInstances();
+        w.writeVarInt(availableInstances.size());
+        for (LwM2mPath instance : availableInstances) {
+            w.writePath(instance);
+        }
+
+        w.writeStringMap(r.getCustomRegistrationData());
+
+        return w.toByteArray();
+    }
+
+    @Override
+    public Registration deserialize(byte[] data) {
+        if (data.length > 0 && data[0] == '{') {
+            // value stored with JSON format
+            return super.deserialize(data);
+        }
+        if (data.length == 0 || data[0] != FORMAT_V1) {
+            throw new IllegalArgumentException(
+                    String.format("Unable to deserialize Registration : unsupported format %s",
+                            data.length == 0 ? "(empty value)" : String.format("0x%02X", data[0])));
+        }
+        try {
+            return deserializeV1(new BinaryReader(data, 1));
+        } catch (IllegalStateException e) {
+            throw new IllegalArgumentException("Unable to deserialize Registration", e);
+        }
+    }
+
+    private Registration deserializeV1(BinaryReader in) {
+        String regId = in.readString();
+        String endpoint = in.readString();
+        EndpointUri endpointUri = uriHandler.createUri(in.readString());
+        LwM2mPeer peer = readPeer(in);
+
+        Registration.Builder b = new Registration.Builder(regId, endpoint, peer, endpointUri);
+        b.registrationDate(new Date(in.readVarLong()));
+        b.lastUpdate(new Date(in.readVarLong()));
+        b.lifeTimeInSec(in.readVarLong());
+        b.smsNumber(in.readNullableString());
+        b.lwM2mVersion(LwM2mVersion.get(in.readString()));
+        b.bindingMode(BindingMode.parse(in.readString()));
+        int queueMode = in.readByte();
+        if (queueMode != QUEUE_MODE_NULL) {
+            b.queueMode(queueMode == QUEUE_MODE_TRUE);
+        }
+        String rootPath = in.readString();
+        b.rootPath(rootPath);
+
+        // object links
+        Link[] links = new Link[in.readVarInt()];
+        for (int i = 0; i < links.length; i++) {
+            String uriReference = in.readString();
+            int nbAttributes = in.readVarInt();
+            List<Attribute> attributes = new ArrayList<>(nbAttributes);
+            for (int j = 0; j < nbAttributes; j++) {
+                String name = in.readString();
+                String value = in.readNullableString();
+                try {
+                    attributes.add(attributeParser.parseCoreLinkValue(name, value));
+                } catch (InvalidAttributeException e) {
+                    throw new IllegalStateException(
+                            String.format("Unable to deserialize attribute value from links of registration %s/%s",
+                                    regId, endpoint),
+                            e);
+                }
+            }
+            links[i] = createLink(rootPath, uriReference, attributes);
+        }
+        b.objectLinks(links);
+
+        b.additionalRegistrationAttributes(in.readStringMap());
+
+        // data extracted from object links
+        int nbContentFormats = in.readVarInt();
+        Set<ContentFormat> supportedContentFormats = new HashSet<>();
+        for (int i = 0; i < nbContentFormats; i++) {
+            supportedContentFormats.add(ContentFormat.fromCode(in.readVarInt()));
+        }
+        b.supportedContentFormats(supportedContentFormats);
+
+        int nbSupportedObjects = in.readVarInt();
+        Map<Integer, Version> supportedObjects = new HashMap<>();
+        for (int i = 0; i < nbSupportedObjects; i++) {
+            supportedObjects.put(in.readVarInt(), new Version(in.readString()));
+        }
+        b.supportedObjects(supportedObjects);
+
+        int nbAvailableInstances = in.readVarInt();
+        Set<LwM2mPath> availableInstances = new HashSet<>();
+        for (int i = 0; i < nbAvailableInstances; i++) {
+            availableInstances.add(in.readPath());
+        }
+        b.availableInstances(availableInstances);
+
+        b.customRegistrationData(in.readStringMap());
+
+        return b.build();
+    }
+
+    /* *************** Peer and Identity **************** */
+
+    private void writePeer(BinaryWriter w, LwM2mPeer peer) {
+        LwM2mIdentity identity = peer.getIdentity();
+        if (peer.getClass() == IpPeer.class && isSupportedIdentity(identity)) {
+            w.writeByte(PEER_IP);
+            InetSocketAddress address = ((IpPeer) peer).getSocketAddress();
+            w.writeString(address.getHostString());
+            w.writeVarInt(address.getPort());
+            writeIdentity(w, identity);
+        } else {
+            // let the peer SerDes handle custom peers or identities
+            w.writeByte(PEER_JSON);
+            w.writeString(peerSerDes.serialize(peer).toString());
+        }
+    }
+
+    private LwM2mPeer readPeer(BinaryReader in) {
+        int type = in.readByte();
+        switch (type) {
+        case PEER_IP:
+            String host = in.readString();
+            int port = in.readVarInt();
+            return new IpPeer(new InetSocketAddress(host, port), readIdentity(in));
+        case PEER_JSON:
+            String json = in.readString();
+            try {
+                return peerSerDes.deserialize(new ObjectMapper().readTree(json));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(String.format("Unable to deserialize peer %s", json), e);
+            }
+        default:
+            throw new IllegalStateException(String.format("Unsupported peer type %d", type));
+        }
+    }
+
+    private boolean isSupportedIdentity(LwM2mIdentity identity) {
+        Class<?> clazz = identity.getClass();
+        return clazz == SocketIdentity.class || clazz == PskIdentity.class || clazz == RpkIdentity.class
+                || clazz == X509Identity.class || clazz == OscoreIdentity.class;
+    }
+
+    private void writeIdentity(BinaryWriter w, LwM2mIdentity identity) {
+        if (identity.getClass() == SocketIdentity.class) {
+            w.writeByte(IDENTITY_UNSECURE);
+            InetSocketAddress address = ((SocketIdentity) identity).getSocketAddress();
+            w.writeString(address.getHostString());
+            w.writeVarInt(address.getPort());
+        } else if (identity.getClass() == PskIdentity.class) {
+            w.writeByte(IDENTITY_PSK);
+            w.writeString(((PskIdentity) identity).getPskIdentity());
+        } else if (identity.getClass() == RpkIdentity.class) {
+            w.writeByte(IDENTITY_RPK);
+            w.writeBytes(((RpkIdentity) identity).getPublicKey().getEncoded());
+        } else if (identity.getClass() == X509Identity.class) {
+            w.writeByte(IDENTITY_X509);
+            w.writeString(((X509Identity) identity).getX509CommonName());
+        } else if (identity.getClass() == OscoreIdentity.class) {
+            w.writeByte(IDENTITY_OSCORE);
+            w.writeBytes(((OscoreIdentity) identity).getRecipientId());
+        } else {
+            throw new IllegalStateException(String.format("Can not serialize %s", identity.getClass().getSimpleName()));
+        }
+    }
+
+    private LwM2mIdentity readIdentity(BinaryReader in) {
+        int type = in.readByte();
+        switch (type) {
+        case IDENTITY_UNSECURE:
+            String host = in.readString();
+            int port = in.readVarInt();
+            return new SocketIdentity(new InetSocketAddress(host, port));
+        case IDENTITY_PSK:
+            return new PskIdentity(in.readString());
+        case IDENTITY_RPK:
+            try {
+                X509EncodedKeySpec spec = new X509EncodedKeySpec(in.readBytes());
+                PublicKey publicKey = KeyFactory.getInstance("EC").generatePublic(spec);
+                return new RpkIdentity(publicKey);
+            } catch (InvalidKeySpecException | NoSuchAlgorithmException e) {
+                throw new IllegalStateException("Invalid security info content", e);
+            }
+        case IDENTITY_X509:
+            return new X509Identity(in.readString());
+        case IDENTITY_OSCORE:
+            return new OscoreIdentity(in.readBytes());
+        default:
+            throw new IllegalStateException(String.format("Unsupported identity type %d", type));
+        }
+    }
+}
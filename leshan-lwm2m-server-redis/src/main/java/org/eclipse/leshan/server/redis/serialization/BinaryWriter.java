@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis.serialization;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.leshan.core.node.LwM2mPath;
+
+/**
+ * A minimal growable byte buffer used to write compact binary values : integers are written as unsigned LEB128 varint
+ * and strings as a varint length followed by UTF-8 bytes.
+ */
+class BinaryWriter {
+
+    private byte[] buffer;
+    private int size;
+
+    BinaryWriter(int initialCapacity) {
+        buffer = new byte[initialCapacity];
+    }
+
+    void writeByte(int b) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) b;
+    }
+
+    void writeBytes(byte[] bytes) {
+        writeVarInt(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    void writeVarInt(int value) {
+        writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+    }
+
+    void writeString(String value) {
+        writeBytes(value.getBytes(UTF_8));
+    }
+
+    /**
+     * Write a string which could be <code>null</code>. A flag byte is written before the value.
+     */
+    void writeNullableString(String value) {
+        if (value == null) {
+            writeByte(0);
+        } else {
+            writeByte(1);
+            writeString(value);
+        }
+    }
+
+    /**
+     * Write a map of string, values could be <code>null</code>.
+     */
+    void writeStringMap(Map<String, String> map) {
+        writeVarInt(map.size());
+        for (Entry<String, String> e : map.entrySet()) {
+            writeString(e.getKey());
+            writeNullableString(e.getValue());
+        }
+    }
+
+    /**
+     * Write a {@link LwM2mPath} as its number of ids followed by each id.
+     */
+    void writePath(LwM2mPath path) {
+        if (path.isRoot()) {
+            writeVarInt(0);
+        } else if (path.isObject()) {
+            writeVarInt(1);
+            writeVarInt(path.getObjectId());
+        } else if (path.isObjectInstance()) {
+            writeVarInt(2);
+            writeVarInt(path.getObjectId());
+            writeVarInt(path.getObjectInstanceId());
+        } else if (path.isResource()) {
+            writeVarInt(3);
+            writeVarInt(path.getObjectId());
+            writeVarInt(path.getObjectInstanceId());
+            writeVarInt(path.getResourceId());
+        } else {
+            writeVarInt(4);
+            writeVarInt(path.getObjectId());
+            writeVarInt(path.getObjectInstanceId());
+            writeVarInt(path.getResourceId());
+            writeVarInt(path.getResourceInstanceId());
+        }
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+}
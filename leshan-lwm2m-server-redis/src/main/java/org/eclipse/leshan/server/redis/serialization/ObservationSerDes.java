@@ -64,7 +64,7 @@ public class ObservationSerDes {
     private static final String KIND_SINGLE = "single";
     private static final String KIND_COMPOSITE = "composite";
 
-    private final EndPointUriHandler uriHandler;
+    protected final EndPointUriHandler uriHandler;
 
     public ObservationSerDes() {
         this(new DefaultEndPointUriHandler());
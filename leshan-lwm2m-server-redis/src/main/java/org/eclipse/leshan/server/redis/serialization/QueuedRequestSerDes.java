@@ -0,0 +1,309 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis.serialization;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.leshan.core.model.ResourceModel.Type;
+import org.eclipse.leshan.core.node.LwM2mMultipleResource;
+import org.eclipse.leshan.core.node.LwM2mNode;
+import org.eclipse.leshan.core.node.LwM2mObjectInstance;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.LwM2mResource;
+import org.eclipse.leshan.core.node.LwM2mResourceInstance;
+import org.eclipse.leshan.core.node.LwM2mSingleResource;
+import org.eclipse.leshan.core.node.ObjectLink;
+import org.eclipse.leshan.core.request.AbstractSimpleDownlinkRequest;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.core.request.DeleteRequest;
+import org.eclipse.leshan.core.request.DiscoverRequest;
+import org.eclipse.leshan.core.request.DownlinkDeviceManagementRequest;
+import org.eclipse.leshan.core.request.ExecuteRequest;
+import org.eclipse.leshan.core.request.ReadRequest;
+import org.eclipse.leshan.core.request.WriteRequest;
+import org.eclipse.leshan.core.request.WriteRequest.Mode;
+import org.eclipse.leshan.core.util.datatype.ULong;
+import org.eclipse.leshan.server.queue.QueuedRequest;
+
+/**
+ * Functions for serializing and deserializing a {@link QueuedRequest} using a compact versioned binary format.
+ * <p>
+ * Supported requests are {@link ReadRequest}, {@link DiscoverRequest}, {@link ExecuteRequest}, {@link DeleteRequest}
+ * and {@link WriteRequest} of resources, resource instances or object instances. Core link values are not supported.
+ * Protocol specific data attached to a request (e.g. a CoAP request) is not serialized.
+ */
+public class QueuedRequestSerDes {
+
+    /** First byte of value serialized with version 1 of the binary format */
+    public static final byte FORMAT_V1 = (byte) 0xB1;
+
+    private static final int KIND_READ = 0;
+    private static final int KIND_DISCOVER = 1;
+    private static final int KIND_EXECUTE = 2;
+    private static final int KIND_DELETE = 3;
+    private static final int KIND_WRITE = 4;
+
+    private static final int NODE_SINGLE_RESOURCE = 0;
+    private static final int NODE_MULTIPLE_RESOURCE = 1;
+    private static final int NODE_RESOURCE_INSTANCE = 2;
+    private static final int NODE_OBJECT_INSTANCE = 3;
+
+    /**
+     * @throws IllegalArgumentException if the request is not supported.
+     */
+    public byte[] serialize(QueuedRequest queuedRequest) {
+        BinaryWriter w = new BinaryWriter(64);
+        w.writeByte(FORMAT_V1);
+
+        w.writeString(queuedRequest.getId());
+        w.writeString(queuedRequest.getEndpoint());
+        w.writeVarLong(queuedRequest.getTimeoutInMs());
+        w.writeVarLong(queuedRequest.getCreationTime());
+        w.writeVarLong(queuedRequest.getExpirationTime());
+
+        DownlinkDeviceManagementRequest<?> request = queuedRequest.getRequest();
+        if (request instanceof ReadRequest) {
+            ReadRequest read = (ReadRequest) request;
+            w.writeByte(KIND_READ);
+            writeContentFormat(w, read.getContentFormat());
+            w.writePath(read.getPath());
+        } else if (request instanceof DiscoverRequest) {
+            w.writeByte(KIND_DISCOVER);
+            w.writePath(((AbstractSimpleDownlinkRequest<?>) request).getPath());
+        } else if (request instanceof ExecuteRequest) {
+            ExecuteRequest execute = (ExecuteRequest) request;
+            w.writeByte(KIND_EXECUTE);
+            w.writePath(execute.getPath());
+            w.writeNullableString(execute.getArguments().isEmpty() ? null : execute.getArguments().serialize());
+        } else if (request instanceof DeleteRequest) {
+            w.writeByte(KIND_DELETE);
+            w.writePath(((AbstractSimpleDownlinkRequest<?>) request).getPath());
+        } else if (request instanceof WriteRequest) {
+            WriteRequest write = (WriteRequest) request;
+            w.writeByte(KIND_WRITE);
+            w.writeByte(write.isPartialUpdateRequest() ? 1 : 0);
+            writeContentFormat(w, write.getContentFormat());
+            w.writePath(write.getPath());
+            writeNode(w, write.getNode());
+        } else {
+            throw new IllegalArgumentException(String.format("Unsupported kind of request : %s", request));
+        }
+        return w.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException if data can not be deserialized.
+     */
+    public QueuedRequest deserialize(byte[] data) {
+        if (data.length == 0 || data[0] != FORMAT_V1) {
+            throw new IllegalArgumentException(
+                    String.format("Unable to deserialize QueuedRequest : unsupported format %s",
+                            data.length == 0 ? "(empty value)" : String.format("0x%02X", data[0])));
+        }
+        try {
+            return deserializeV1(new BinaryReader(data, 1));
+        } catch (IllegalStateException e) {
+            throw new IllegalArgumentException("Unable to deserialize QueuedRequest", e);
+        }
+    }
+
+    private QueuedRequest deserializeV1(BinaryReader in) {
+        String id = in.readString();
+        String endpoint = in.readString();
+        long timeout = in.readVarLong();
+        long creationTime = in.readVarLong();
+        long expirationTime = in.readVarLong();
+
+        DownlinkDeviceManagementRequest<?> request;
+        int kind = in.readByte();
+        switch (kind) {
+        case KIND_READ:
+            ContentFormat format = readContentFormat(in);
+            request = new ReadRequest(format, in.readPath(), null);
+            break;
+        case KIND_DISCOVER:
+            request = new DiscoverRequest(in.readPath().toString());
+            break;
+        case KIND_EXECUTE:
+            LwM2mPath path = in.readPath();
+            request = new ExecuteRequest(path.toString(), in.readNullableString());
+            break;
+        case KIND_DELETE:
+            request = new DeleteRequest(in.readPath());
+            break;
+        case KIND_WRITE:
+            Mode mode = in.readByte() == 1 ? Mode.UPDATE : Mode.REPLACE;
+            ContentFormat writeFormat = readContentFormat(in);
+            LwM2mPath target = in.readPath();
+            request = new WriteRequest(mode, writeFormat, target, readNode(in));
+            break;
+        default:
+            throw new IllegalStateException(String.format("Unsupported kind of request : %d", kind));
+        }
+        return new QueuedRequest(id, endpoint, request, timeout, creationTime, expirationTime);
+    }
+
+    private void writeNode(BinaryWriter w, LwM2mNode node) {
+        if (node instanceof LwM2mSingleResource) {
+            LwM2mSingleResource resource = (LwM2mSingleResource) node;
+            w.writeByte(NODE_SINGLE_RESOURCE);
+            w.writeVarInt(resource.getId());
+            w.writeString(resource.getType().name());
+            writeValue(w, resource.getType(), resource.getValue());
+        } else if (node instanceof LwM2mMultipleResource) {
+            LwM2mMultipleResource resource = (LwM2mMultipleResource) node;
+            w.writeByte(NODE_MULTIPLE_RESOURCE);
+            w.writeVarInt(resource.getId());
+            w.writeString(resource.getType().name());
+            w.writeVarInt(resource.getInstances().size());
+            for (LwM2mResourceInstance instance : resource.getInstances().values()) {
+                w.writeVarInt(instance.getId());
+                writeValue(w, resource.getType(), instance.getValue());
+            }
+        } else if (node instanceof LwM2mResourceInstance) {
+            LwM2mResourceInstance instance = (LwM2mResourceInstance) node;
+            w.writeByte(NODE_RESOURCE_INSTANCE);
+            w.writeVarInt(instance.getId());
+            w.writeString(instance.getType().name());
+            writeValue(w, instance.getType(), instance.getValue());
+        } else if (node instanceof LwM2mObjectInstance) {
+            LwM2mObjectInstance instance = (LwM2mObjectInstance) node;
+            w.writeByte(NODE_OBJECT_INSTANCE);
+            w.writeVarInt(instance.getId());
+            w.writeVarInt(instance.getResources().size());
+            for (LwM2mResource resource : instance.getResources().values()) {
+                writeNode(w, resource);
+            }
+        } else {
+            throw new IllegalArgumentException(String.format("Unsupported kind of node : %s", node));
+        }
+    }
+
+    private LwM2mNode readNode(BinaryReader in) {
+        int kind = in.readByte();
+        switch (kind) {
+        case NODE_SINGLE_RESOURCE: {
+            int id = in.readVarInt();
+            Type type = Type.valueOf(in.readString());
+            return LwM2mSingleResource.newResource(id, readValue(in, type), type);
+        }
+        case NODE_MULTIPLE_RESOURCE: {
+            int id = in.readVarInt();
+            Type type = Type.valueOf(in.readString());
+            int nbInstances = in.readVarInt();
+            Map<Integer, Object> values = new HashMap<>();
+            for (int i = 0; i < nbInstances; i++) {
+                int instanceId = in.readVarInt();
+                values.put(instanceId, readValue(in, type));
+            }
+            return LwM2mMultipleResource.newResource(id, values, type);
+        }
+        case NODE_RESOURCE_INSTANCE: {
+            int id = in.readVarInt();
+            Type type = Type.valueOf(in.readString());
+            return LwM2mResourceInstance.newInstance(id, readValue(in, type), type);
+        }
+        case NODE_OBJECT_INSTANCE: {
+            int id = in.readVarInt();
+            int nbResources = in.readVarInt();
+            List<LwM2mResource> resources = new ArrayList<>(nbResources);
+            for (int i = 0; i < nbResources; i++) {
+                resources.add((LwM2mResource) readNode(in));
+            }
+            return new LwM2mObjectInstance(id, resources);
+        }
+        default:
+            throw new IllegalStateException(String.format("Unsupported kind of node : %d", kind));
+        }
+    }
+
+    private void writeValue(BinaryWriter w, Type type, Object value) {
+        switch (type) {
+        case STRING:
+            w.writeString((String) value);
+            break;
+        case INTEGER:
+            w.writeVarLong(zigZag((Long) value));
+            break;
+        case UNSIGNED_INTEGER:
+            w.writeString(value.toString());
+            break;
+        case FLOAT:
+            w.writeVarLong(Double.doubleToLongBits((Double) value));
+            break;
+        case BOOLEAN:
+            w.writeByte((Boolean) value ? 1 : 0);
+            break;
+        case OPAQUE:
+            w.writeBytes((byte[]) value);
+            break;
+        case TIME:
+            w.writeVarLong(zigZag(((Date) value).getTime()));
+            break;
+        case OBJLNK:
+            w.writeString(((ObjectLink) value).encodeToString());
+            break;
+        default:
+            throw new IllegalArgumentException(String.format("Unsupported type of value : %s", type));
+        }
+    }
+
+    private Object readValue(BinaryReader in, Type type) {
+        switch (type) {
+        case STRING:
+            return in.readString();
+        case INTEGER:
+            return unZigZag(in.readVarLong());
+        case UNSIGNED_INTEGER:
+            return ULong.valueOf(in.readString());
+        case FLOAT:
+            return Double.longBitsToDouble(in.readVarLong());
+        case BOOLEAN:
+            return in.readByte() == 1;
+        case OPAQUE:
+            return in.readBytes();
+        case TIME:
+            return new Date(unZigZag(in.readVarLong()));
+        case OBJLNK:
+            return ObjectLink.decodeFromString(in.readString());
+        default:
+            throw new IllegalStateException(String.format("Unsupported type of value : %s", type));
+        }
+    }
+
+    // zigzag encoding keeps small negative values small once written as varint
+    private long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private void writeContentFormat(BinaryWriter w, ContentFormat contentFormat) {
+        // 0 is used for null, so code is shifted by 1
+        w.writeVarInt(contentFormat == null ? 0 : contentFormat.getCode() + 1);
+    }
+
+    private ContentFormat readContentFormat(BinaryReader in) {
+        int code = in.readVarInt();
+        return code == 0 ? null : ContentFormat.fromCode(code - 1);
+    }
+}
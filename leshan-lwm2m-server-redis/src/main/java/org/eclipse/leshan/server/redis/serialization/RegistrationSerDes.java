@@ -59,9 +59,9 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  */
 public class RegistrationSerDes {
 
-    private final AttributeParser attributeParser;
-    private final LwM2mPeerSerDes peerSerDes;
-    private final EndPointUriHandler uriHandler;
+    protected final AttributeParser attributeParser;
+    protected final LwM2mPeerSerDes peerSerDes;
+    protected final EndPointUriHandler uriHandler;
 
     public RegistrationSerDes(LwM2mPeerSerDes peerSerDes) {
         // Define all supported Attributes
@@ -230,16 +230,7 @@ public class RegistrationSerDes {
                                     jObj.get("regId").asText(), jObj.get("ep").asText()));
                 }
             }
-            // handle lwm2m path
-            String path = ol.get("url").asText();
-            Link o;
-            if (path.startsWith(rootPath)) {
-                LwM2mPath lwm2mPath = LwM2mPath.parse(path, rootPath);
-                o = new MixedLwM2mLink(rootPath, lwm2mPath, new MixedLwM2mAttributeSet(atts));
-            } else {
-                o = new Link(path, atts);
-            }
-            linkObjs[i] = o;
+            linkObjs[i] = createLink(rootPath, ol.get("url").asText(), atts);
         }
         b.objectLinks(linkObjs);
 
@@ -315,6 +306,18 @@ public class RegistrationSerDes {
         return b.build();
     }
 
+    /**
+     * Create a {@link Link}, using a {@link MixedLwM2mLink} if the link targets a LWM2M path under the given root path.
+     */
+    protected Link createLink(String rootPath, String path, List<Attribute> attributes) {
+        if (path.startsWith(rootPath)) {
+            LwM2mPath lwm2mPath = LwM2mPath.parse(path, rootPath);
+            return new MixedLwM2mLink(rootPath, lwm2mPath, new MixedLwM2mAttributeSet(attributes));
+        } else {
+            return new Link(path, attributes);
+        }
+    }
+
     public Registration deserialize(byte[] data) {
         String json = new String(data);
         try {
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link RedisNearCache} which do not need a Redis server. Invalidation between store instances is tested by
+ * <code>RedisRegistrationStoreNearCacheTest</code> in integration tests.
+ */
+class RedisNearCacheTest {
+
+    private static final byte[] KEY1 = "KEY1".getBytes(UTF_8);
+    private static final byte[] KEY2 = "KEY2".getBytes(UTF_8);
+    private static final byte[] KEY3 = "KEY3".getBytes(UTF_8);
+
+    @Test
+    void get_count_hits_and_misses() {
+        RedisNearCache cache = new RedisNearCache(10, 60000);
+
+        assertNull(cache.get(KEY1, String.class));
+        cache.put(KEY1, "value1", cache.getStamp());
+        assertEquals("value1", cache.get("KEY1".getBytes(UTF_8), String.class));
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void least_recently_used_entry_is_evicted() {
+        RedisNearCache cache = new RedisNearCache(2, 60000);
+        cache.put(KEY1, "value1", cache.getStamp());
+        cache.put(KEY2, "value2", cache.getStamp());
+        // access KEY1 so KEY2 is the eldest
+        cache.get(KEY1, String.class);
+        cache.put(KEY3, "value3", cache.getStamp());
+
+        assertEquals(2, cache.size());
+        assertEquals("value1", cache.get(KEY1, String.class));
+        assertNull(cache.get(KEY2, String.class));
+        assertEquals("value3", cache.get(KEY3, String.class));
+    }
+
+    @Test
+    void expired_entry_is_not_returned() {
+        AtomicLong now = new AtomicLong();
+        RedisNearCache cache = new RedisNearCache(10, 1000, now::get);
+        cache.put(KEY1, "value1", cache.getStamp());
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertEquals("value1", cache.get(KEY1, String.class));
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertNull(cache.get(KEY1, String.class));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invalidate_removes_keys() {
+        RedisNearCache cache = new RedisNearCache(10, 60000);
+        cache.put(KEY1, "value1", cache.getStamp());
+        cache.put(KEY2, "value2", cache.getStamp());
+
+        cache.invalidate(Collections.singletonList(KEY1));
+
+        assertNull(cache.get(KEY1, String.class));
+        assertEquals("value2", cache.get(KEY2, String.class));
+        assertEquals(1, cache.getInvalidationCount());
+    }
+
+    @Test
+    void value_read_before_invalidation_is_not_cached() {
+        RedisNearCache cache = new RedisNearCache(10, 60000);
+
+        // simulate a value read from redis while another node modifies it
+        long stamp = cache.getStamp();
+        cache.invalidate(Collections.singletonList(KEY1));
+        cache.put(KEY1, "stale value", stamp);
+
+        assertNull(cache.get(KEY1, String.class));
+    }
+
+    @Test
+    void encode_and_decode_invalidation_message() {
+        List<byte[]> keys = RedisNearCache
+                .decodeKeys(RedisNearCache.encodeKeys(Arrays.asList(KEY1, new byte[0], KEY3)));
+
+        assertEquals(3, keys.size());
+        assertArrayEquals(KEY1, keys.get(0));
+        assertArrayEquals(new byte[0], keys.get(1));
+        assertArrayEquals(KEY3, keys.get(2));
+    }
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis.serialization;
+
+import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.leshan.core.endpoint.EndpointUri;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.observation.CompositeObservation;
+import org.eclipse.leshan.core.observation.Observation;
+import org.eclipse.leshan.core.observation.ObservationIdentifier;
+import org.eclipse.leshan.core.observation.SingleObservation;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.junit.jupiter.api.Test;
+
+class BinaryObservationSerDesTest {
+
+    private final BinaryObservationSerDes observationSerDes = new BinaryObservationSerDes();
+    private final EndpointUri endpointUri = uriHandler.createUri("coap://localhost:5683");
+
+    @Test
+    void ser_and_des_single_observation() {
+        Observation obs = new SingleObservation(new ObservationIdentifier(endpointUri, new byte[] { 1, 2, 3 }), "regId",
+                new LwM2mPath(3, 0, 1), ContentFormat.SENML_CBOR, Collections.singletonMap("ctx", "value"),
+                Collections.singletonMap("protocol", "data"));
+
+        byte[] ser = observationSerDes.serialize(obs);
+
+        assertEquals(BinaryObservationSerDes.FORMAT_V1, ser[0]);
+        assertEquals(obs, observationSerDes.deserialize(ser));
+    }
+
+    @Test
+    void ser_and_des_composite_observation() {
+        Observation obs = new CompositeObservation(new ObservationIdentifier(endpointUri, new byte[] { 4, 5 }), "regId",
+                Arrays.asList(new LwM2mPath(3, 0, 1), new LwM2mPath(1)), null, ContentFormat.SENML_JSON,
+                Collections.<String, String> emptyMap(), Collections.<String, String> emptyMap());
+
+        assertEquals(obs, observationSerDes.deserialize(observationSerDes.serialize(obs)));
+    }
+
+    @Test
+    void can_read_json_format() {
+        Observation obs = new SingleObservation(new ObservationIdentifier(endpointUri, new byte[] { 1, 2, 3 }), "regId",
+                new LwM2mPath(3, 0), null, Collections.singletonMap("ctx", "value"),
+                Collections.<String, String> emptyMap());
+
+        byte[] json = new ObservationSerDes().serialize(obs);
+
+        assertEquals(obs, observationSerDes.deserialize(json));
+    }
+}
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis.serialization;
+
+import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.Inet4Address;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.leshan.core.LwM2m.LwM2mVersion;
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.link.attributes.AttributeSet;
+import org.eclipse.leshan.core.link.attributes.ContentFormatAttribute;
+import org.eclipse.leshan.core.link.attributes.QuotedStringAttribute;
+import org.eclipse.leshan.core.link.attributes.ResourceTypeAttribute;
+import org.eclipse.leshan.core.link.attributes.UnquotedStringAttribute;
+import org.eclipse.leshan.core.link.attributes.ValuelessAttribute;
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.core.peer.LwM2mIdentity;
+import org.eclipse.leshan.core.peer.OscoreIdentity;
+import org.eclipse.leshan.core.peer.PskIdentity;
+import org.eclipse.leshan.core.peer.X509Identity;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.server.registration.DefaultRegistrationDataExtractor;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.registration.RegistrationDataExtractor.RegistrationData;
+import org.junit.jupiter.api.Test;
+
+class BinaryRegistrationSerDesTest {
+
+    private final BinaryRegistrationSerDes registrationSerDes = new BinaryRegistrationSerDes();
+
+    @Test
+    void ser_and_des_are_equals() {
+        Registration r = givenRegistration(null);
+
+        byte[] ser = registrationSerDes.bSerialize(r);
+        Registration r2 = registrationSerDes.deserialize(ser);
+
+        assertEquals(BinaryRegistrationSerDes.FORMAT_V1, ser[0]);
+        assertEquals(r, r2);
+    }
+
+    @Test
+    void ser_and_des_are_equals_with_secure_identities() {
+        LwM2mIdentity[] identities = new LwM2mIdentity[] { new PskIdentity("psk-id"), new X509Identity("cn"),
+                new OscoreIdentity(new byte[] { 1, 2, 3 }) };
+        for (LwM2mIdentity identity : identities) {
+            Registration r = givenRegistration(identity);
+            assertEquals(r, registrationSerDes.deserialize(registrationSerDes.bSerialize(r)));
+        }
+    }
+
+    @Test
+    void can_read_json_format() {
+        Registration r = givenRegistration(new PskIdentity("psk-id"));
+
+        byte[] json = new RegistrationSerDes().bSerialize(r);
+        Registration r2 = registrationSerDes.deserialize(json);
+
+        assertEquals(r, r2);
+    }
+
+    @Test
+    void binary_format_is_smaller_than_json() {
+        Registration r = givenRegistration(null);
+
+        byte[] json = new RegistrationSerDes().bSerialize(r);
+        byte[] binary = registrationSerDes.bSerialize(r);
+
+        assertTrue(binary.length * 2 < json.length,
+                String.format("binary size %d should be less than half of json size %d", binary.length, json.length));
+    }
+
+    @Test
+    void truncated_value_is_rejected() {
+        byte[] ser = registrationSerDes.bSerialize(givenRegistration(null));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> registrationSerDes.deserialize(Arrays.copyOf(ser, ser.length / 2)));
+        assertThrows(IllegalArgumentException.class, () -> registrationSerDes.deserialize(new byte[] { 0x42 }));
+    }
+
+    private Registration givenRegistration(LwM2mIdentity identity) {
+        Link[] objs = new Link[3];
+        AttributeSet attrs = new AttributeSet( //
+                new UnquotedStringAttribute("us", "12"), //
+                new QuotedStringAttribute("qt", "test"), //
+                new ResourceTypeAttribute("oma.lwm2m"), //
+                new ContentFormatAttribute(ContentFormat.CBOR, ContentFormat.JSON), //
+                new ValuelessAttribute("hb"));
+        objs[0] = new Link("/0/1024/2", attrs);
+        objs[1] = new Link("/0/2");
+        objs[2] = new Link("/3/0");
+
+        Map<String, String> appData = new HashMap<>();
+        appData.put("string", "string test");
+        appData.put("null", null);
+
+        InetSocketAddress address = new InetSocketAddress(Inet4Address.getLoopbackAddress(), 1);
+        IpPeer peer = identity == null ? new IpPeer(address) : new IpPeer(address, identity);
+        Registration.Builder builder = new Registration.Builder("registrationId", "endpoint", peer,
+                uriHandler.createUri("coap://localhost:5683")).objectLinks(objs).smsNumber("0171-32423545")
+                        .lwM2mVersion(LwM2mVersion.V1_1).customRegistrationData(appData);
+        builder.registrationDate(new Date(100L));
+        builder.lastUpdate(new Date(101L));
+
+        RegistrationData dataFromObjectLinks = new DefaultRegistrationDataExtractor().extractDataFromObjectLinks(objs,
+                LwM2mVersion.V1_1);
+        builder.rootPath(dataFromObjectLinks.getAlternatePath());
+        builder.supportedContentFormats(dataFromObjectLinks.getSupportedContentFormats());
+        builder.supportedObjects(dataFromObjectLinks.getSupportedObjects());
+        builder.availableInstances(dataFromObjectLinks.getAvailableInstances());
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.redis.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.leshan.core.model.ResourceModel.Type;
+import org.eclipse.leshan.core.node.LwM2mMultipleResource;
+import org.eclipse.leshan.core.node.LwM2mObjectInstance;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.LwM2mSingleResource;
+import org.eclipse.leshan.core.node.ObjectLink;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.core.request.DeleteRequest;
+import org.eclipse.leshan.core.request.DiscoverRequest;
+import org.eclipse.leshan.core.request.DownlinkDeviceManagementRequest;
+import org.eclipse.leshan.core.request.ExecuteRequest;
+import org.eclipse.leshan.core.request.ObserveRequest;
+import org.eclipse.leshan.core.request.ReadRequest;
+import org.eclipse.leshan.core.request.WriteRequest;
+import org.eclipse.leshan.core.request.WriteRequest.Mode;
+import org.eclipse.leshan.core.util.datatype.ULong;
+import org.eclipse.leshan.server.queue.QueuedRequest;
+import org.junit.jupiter.api.Test;
+
+class QueuedRequestSerDesTest {
+
+    private final QueuedRequestSerDes serDes = new QueuedRequestSerDes();
+
+    private QueuedRequest queued(DownlinkDeviceManagementRequest<?> request) {
+        return new QueuedRequest("id", "ep", request, 5000, 1000, 86401000);
+    }
+
+    private void assertSerAndDes(DownlinkDeviceManagementRequest<?> request) {
+        QueuedRequest queuedRequest = queued(request);
+
+        byte[] ser = serDes.serialize(queuedRequest);
+        QueuedRequest des = serDes.deserialize(ser);
+
+        assertEquals(QueuedRequestSerDes.FORMAT_V1, ser[0]);
+        assertEquals(queuedRequest.getId(), des.getId());
+        assertEquals(queuedRequest.getEndpoint(), des.getEndpoint());
+        assertEquals(queuedRequest.getTimeoutInMs(), des.getTimeoutInMs());
+        assertEquals(queuedRequest.getCreationTime(), des.getCreationTime());
+        assertEquals(queuedRequest.getExpirationTime(), des.getExpirationTime());
+        assertEquals(request, des.getRequest());
+    }
+
+    @Test
+    void ser_and_des_simple_requests() {
+        assertSerAndDes(new ReadRequest(ContentFormat.SENML_CBOR, 3, 0, 1));
+        assertSerAndDes(new ReadRequest(3));
+        assertSerAndDes(new DiscoverRequest(3, 0));
+        assertSerAndDes(new ExecuteRequest(3, 0, 4));
+        assertSerAndDes(new ExecuteRequest("/3/0/4", "0='value',1"));
+        assertSerAndDes(new DeleteRequest(new LwM2mPath(1000, 2)));
+    }
+
+    @Test
+    void ser_and_des_write_of_resources() {
+        assertSerAndDes(new WriteRequest(3, 0, 14, "+02"));
+        assertSerAndDes(new WriteRequest(ContentFormat.TLV, 3, 0, 13, new Date(1700000000000L)));
+        assertSerAndDes(new WriteRequest(3, 0, 9, -42L));
+        assertSerAndDes(new WriteRequest(3, 0, 9, ULong.valueOf("18446744073709551615")));
+        assertSerAndDes(new WriteRequest(3, 0, 9, 3.14));
+        assertSerAndDes(new WriteRequest(3, 0, 9, true));
+        assertSerAndDes(new WriteRequest(3, 0, 9, new byte[] { 1, 2, 3 }));
+        assertSerAndDes(new WriteRequest(3, 0, 9, new ObjectLink(3, 0)));
+
+        Map<Integer, Long> values = new HashMap<>();
+        values.put(0, 1L);
+        values.put(3, -5L);
+        assertSerAndDes(new WriteRequest(ContentFormat.SENML_JSON, 3, 0, 6, values, Type.INTEGER));
+    }
+
+    @Test
+    void ser_and_des_write_of_object_instance() {
+        Map<Integer, String> strings = new HashMap<>();
+        strings.put(0, "a");
+        strings.put(1, "b");
+        LwM2mObjectInstance instance = new LwM2mObjectInstance(0,
+                Arrays.asList(LwM2mSingleResource.newStringResource(0, "coap://server"),
+                        LwM2mSingleResource.newIntegerResource(1, 300),
+                        LwM2mMultipleResource.newStringResource(2, strings)));
+
+        assertSerAndDes(new WriteRequest(Mode.UPDATE, ContentFormat.SENML_CBOR, new LwM2mPath(1, 0), instance));
+        assertSerAndDes(new WriteRequest(Mode.REPLACE, null, new LwM2mPath(1, 0), instance));
+    }
+
+    @Test
+    void unsupported_request_is_rejected() {
+        assertThrows(IllegalArgumentException.class, () -> serDes.serialize(queued(new ObserveRequest(3, 0))));
+    }
+
+    @Test
+    void invalid_data_is_rejected() {
+        byte[] ser = serDes.serialize(queued(new ReadRequest(3)));
+
+        assertThrows(IllegalArgumentException.class, () -> serDes.deserialize(new byte[] { 1, 2 }));
+        assertThrows(IllegalArgumentException.class, () -> serDes.deserialize(Arrays.copyOf(ser, ser.length - 2)));
+    }
+}
@@ -44,20 +44,29 @@ import org.eclipse.leshan.core.response.ErrorCallback;
 import org.eclipse.leshan.core.response.LwM2mResponse;
 import org.eclipse.leshan.core.response.ResponseCallback;
 import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.server.bulk.BulkOperation;
+import org.eclipse.leshan.server.bulk.BulkRequest;
+import org.eclipse.leshan.server.bulk.BulkRequestSender;
+import org.eclipse.leshan.server.bulk.BulkResultListener;
 import org.eclipse.leshan.server.endpoint.CompositeServerEndpointsProvider;
 import org.eclipse.leshan.server.endpoint.LwM2mServerEndpoint;
 import org.eclipse.leshan.server.endpoint.LwM2mServerEndpointsProvider;
 import org.eclipse.leshan.server.endpoint.ServerEndpointToolbox;
+import org.eclipse.leshan.server.event.EventDispatcher;
 import org.eclipse.leshan.server.model.LwM2mModelProvider;
+import org.eclipse.leshan.server.observation.NotificationLookupCache;
 import org.eclipse.leshan.server.observation.ObservationService;
 import org.eclipse.leshan.server.observation.ObservationServiceImpl;
 import org.eclipse.leshan.server.profile.DefaultClientProfileProvider;
 import org.eclipse.leshan.server.queue.ClientAwakeTimeProvider;
+import org.eclipse.leshan.server.queue.DownlinkRequestQueue;
 import org.eclipse.leshan.server.queue.PresenceListener;
 import org.eclipse.leshan.server.queue.PresenceService;
 import org.eclipse.leshan.server.queue.PresenceServiceImpl;
 import org.eclipse.leshan.server.queue.PresenceStateListener;
+import org.eclipse.leshan.server.queue.PresenceStore;
 import org.eclipse.leshan.server.queue.QueueModeLwM2mRequestSender;
+import org.eclipse.leshan.server.queue.QueuedRequestSender;
 import org.eclipse.leshan.server.registration.Registration;
 import org.eclipse.leshan.server.registration.RegistrationDataExtractor;
 import org.eclipse.leshan.server.registration.RegistrationHandler;
@@ -108,6 +117,10 @@ public class LeshanServer {
     private final LwM2mModelProvider modelProvider;
     private PresenceServiceImpl presenceService;
     private final DownlinkRequestSender requestSender;
+    private final BulkRequestSender bulkRequestSender;
+    private final QueuedRequestSender queuedRequestSender;
+    private final NotificationLookupCache notificationLookupCache;
+    private final EventDispatcher eventDispatcher;
 
     /**
      * Initialize a server which will bind to the specified address and port.
@@ -131,6 +144,14 @@ public class LeshanServer {
      * @param linkParser a parser {@link LwM2mLinkParser} used to parse a CoRE Link.
      * @param serverSecurityInfo credentials of the Server.
      * @param endpointNameProvider try to find endpoint name from client identity.
+     * @param notificationLookupCache cache used by endpoints to resolve observation and registration targeted by
+     *        notifications.
+     * @param eventDispatcher dispatcher used to deliver events to listeners added by users, or <code>null</code> to
+     *        call them from the transport layer thread.
+     * @param downlinkRequestQueue queue storing requests for clients using Queue Mode until they wake up. Can be
+     *        <code>null</code> only if <code>noQueueMode</code> is <code>true</code>.
+     * @param presenceStore store tracking awake deadlines of clients using Queue Mode. Can be <code>null</code> only if
+     *        <code>noQueueMode</code> is <code>true</code>.
      * @since 1.1
      */
     public LeshanServer(LwM2mServerEndpointsProvider endpointsProvider, RegistrationStore registrationStore,
@@ -139,7 +160,8 @@ public class LeshanServer {
             RegistrationIdProvider registrationIdProvider, RegistrationDataExtractor registrationDataExtractor,
             boolean updateRegistrationOnNotification, boolean updateRegistrationOnSend, LwM2mLinkParser linkParser,
             EndPointUriHandler uriHandler, ServerSecurityInfo serverSecurityInfo,
-            ServerEndpointNameProvider endpointNameProvider) {
+            ServerEndpointNameProvider endpointNameProvider, NotificationLookupCache notificationLookupCache,
+            EventDispatcher eventDispatcher, DownlinkRequestQueue downlinkRequestQueue, PresenceStore presenceStore) {
 
         Validate.notNull(endpointsProvider, "endpointsProvider cannot be null");
         Validate.notNull(registrationStore, "registration store cannot be null");
@@ -148,6 +170,11 @@ public class LeshanServer {
         Validate.notNull(encoder, "encoder cannot be null");
         Validate.notNull(decoder, "decoder cannot be null");
         Validate.notNull(registrationIdProvider, "registrationIdProvider cannot be null");
+        Validate.notNull(notificationLookupCache, "notificationLookupCache cannot be null");
+        if (!noQueueMode) {
+            Validate.notNull(downlinkRequestQueue, "downlinkRequestQueue cannot be null");
+            Validate.notNull(presenceStore, "presenceStore cannot be null");
+        }
 
         // init services and stores
         this.endpointsProvider = endpointsProvider;
@@ -161,9 +188,12 @@ public class LeshanServer {
             presenceService = null;
         } else {
             presenceService = createPresenceService(registrationService, awakeTimeProvider,
-                    updateRegistrationOnNotification);
+                    updateRegistrationOnNotification, presenceStore);
         }
         this.sendService = createSendHandler(registrationStore, authorizer, updateRegistrationOnSend);
+        this.notificationLookupCache = notificationLookupCache;
+        registrationService.addListener(notificationLookupCache.getRegistrationListener());
+        observationService.addListener(notificationLookupCache.getObservationListener());
 
         // create endpoints
         ServerEndpointToolbox toolbox = new ServerEndpointToolbox(decoder, encoder, linkParser,
@@ -176,6 +206,22 @@ public class LeshanServer {
         // create request sender
         requestSender = createRequestSender(endpointsProvider, registrationService, this.modelProvider,
                 presenceService);
+        bulkRequestSender = createBulkRequestSender(requestSender);
+        if (presenceService == null) {
+            queuedRequestSender = null;
+        } else {
+            queuedRequestSender = createQueuedRequestSender(presenceService, requestSender, downlinkRequestQueue);
+            presenceService.addListener(queuedRequestSender);
+            registrationService.addListener(queuedRequestSender);
+        }
+
+        // set dispatcher last : listeners added above are internal ones and must stay synchronous
+        this.eventDispatcher = eventDispatcher;
+        if (eventDispatcher != null) {
+            registrationService.setEventDispatcher(eventDispatcher);
+            observationService.setEventDispatcher(eventDispatcher);
+            sendService.setEventDispatcher(eventDispatcher);
+        }
 
     }
 
@@ -193,8 +239,9 @@ public class LeshanServer {
     }
 
     protected PresenceServiceImpl createPresenceService(RegistrationService registrationService,
-            ClientAwakeTimeProvider awakeTimeProvider, boolean updateRegistrationOnNotification) {
-        PresenceServiceImpl presenceService = new PresenceServiceImpl(awakeTimeProvider);
+            ClientAwakeTimeProvider awakeTimeProvider, boolean updateRegistrationOnNotification,
+            PresenceStore presenceStore) {
+        PresenceServiceImpl presenceService = new PresenceServiceImpl(awakeTimeProvider, presenceStore);
         PresenceStateListener presenceStateListener = new PresenceStateListener(presenceService);
         registrationService.addListener(new PresenceStateListener(presenceService));
         if (updateRegistrationOnNotification) {
@@ -213,6 +260,16 @@ public class LeshanServer {
         return new DefaultUplinkRequestReceiver(registrationHandler, sendService);
     }
 
+    protected QueuedRequestSender createQueuedRequestSender(PresenceServiceImpl presenceService,
+            DownlinkRequestSender requestSender, DownlinkRequestQueue downlinkRequestQueue) {
+        return new QueuedRequestSender(presenceService, requestSender, downlinkRequestQueue,
+                QueuedRequestSender.DEFAULT_MAX_REQUESTS_PER_WAKE_UP);
+    }
+
+    protected BulkRequestSender createBulkRequestSender(DownlinkRequestSender requestSender) {
+        return new BulkRequestSender(requestSender);
+    }
+
     protected DownlinkRequestSender createRequestSender(LwM2mServerEndpointsProvider endpointsProvider,
             RegistrationServiceImpl registrationService, LwM2mModelProvider modelProvider,
             PresenceServiceImpl presenceService) {
@@ -327,10 +384,19 @@ public class LeshanServer {
             ((Stoppable) requestSender).stop();
         }
 
+        bulkRequestSender.destroy();
+        if (queuedRequestSender != null) {
+            queuedRequestSender.destroy();
+        }
+
         if (presenceService != null) {
             presenceService.destroy();
         }
 
+        if (eventDispatcher != null) {
+            eventDispatcher.destroy();
+        }
+
         LOG.info("LWM2M server destroyed.");
     }
 
@@ -374,6 +440,16 @@ public class LeshanServer {
         return this.presenceService;
     }
 
+    /**
+     * Get the {@link QueuedRequestSender} which can be used to send requests to clients using Queue Mode without
+     * waiting for them to be awake.
+     *
+     * @return the queued request sender or <code>null</code> if Queue Mode is disabled.
+     */
+    public QueuedRequestSender getQueuedRequestSender() {
+        return this.queuedRequestSender;
+    }
+
     /**
      * Get the SecurityStore containing of security information.
      */
@@ -381,6 +457,22 @@ public class LeshanServer {
         return this.securityStore;
     }
 
+    /**
+     * Get the cache used by endpoints to resolve observation, registration and model targeted by notifications.
+     */
+    public NotificationLookupCache getNotificationLookupCache() {
+        return this.notificationLookupCache;
+    }
+
+    /**
+     * Get the dispatcher used to deliver events to listeners, e.g. to monitor its queues.
+     *
+     * @return the event dispatcher or <code>null</code> if listeners are called from the transport layer thread.
+     */
+    public EventDispatcher getEventDispatcher() {
+        return this.eventDispatcher;
+    }
+
     /**
      * Get the provider in charge of retrieving the object definitions for each client.
      */
@@ -589,4 +681,20 @@ public class LeshanServer {
             ErrorCallback errorCallback) {
         requestSender.send(destination, request, lowerLayerConfig, timeoutInMs, responseCallback, errorCallback);
     }
+
+    /**
+     * Send a Lightweight M2M request to a set of LWM2M clients, e.g. to push a Write or an Execute to a whole fleet.
+     * <p>
+     * Requests are sent asynchronously, the number of requests waiting for a response and the rate at which they are
+     * sent are limited as defined by the {@link BulkRequest}. Results are delivered to the listener as soon as they are
+     * received.
+     *
+     * @param request the bulk request describing targeted registrations and the request to send to each of them.
+     * @param listener the listener notified of each result and of the end of the operation. This listener MUST NOT be
+     *        null.
+     * @return the started operation, which can be used to follow progress or to cancel it.
+     */
+    public <T extends LwM2mResponse> BulkOperation<T> send(BulkRequest<T> request, BulkResultListener<T> listener) {
+        return bulkRequestSender.send(request, listener);
+    }
 }
@@ -41,9 +41,15 @@ import org.eclipse.leshan.core.observation.Observation;
 import org.eclipse.leshan.core.request.exception.ClientSleepingException;
 import org.eclipse.leshan.server.endpoint.DefaultCompositeServerEndpointsProvider;
 import org.eclipse.leshan.server.endpoint.LwM2mServerEndpointsProvider;
+import org.eclipse.leshan.server.event.EventDispatcher;
 import org.eclipse.leshan.server.model.LwM2mModelProvider;
 import org.eclipse.leshan.server.model.StandardModelProvider;
+import org.eclipse.leshan.server.observation.NotificationLookupCache;
 import org.eclipse.leshan.server.queue.ClientAwakeTimeProvider;
+import org.eclipse.leshan.server.queue.DownlinkRequestQueue;
+import org.eclipse.leshan.server.queue.InMemoryDownlinkRequestQueue;
+import org.eclipse.leshan.server.queue.InMemoryPresenceStore;
+import org.eclipse.leshan.server.queue.PresenceStore;
 import org.eclipse.leshan.server.queue.StaticClientAwakeTimeProvider;
 import org.eclipse.leshan.server.registration.DefaultRegistrationDataExtractor;
 import org.eclipse.leshan.server.registration.InMemoryRegistrationStore;
@@ -89,6 +95,11 @@ public class LeshanServerBuilder {
     private boolean noQueueMode = false;
     private boolean updateRegistrationOnNotification = false;
     private boolean updateRegistrationOnSend = false;
+    private int notificationLookupCacheSize = 0;
+    private long notificationLookupCacheTimeToLive = 60000; // ms
+    private EventDispatcher eventDispatcher;
+    private DownlinkRequestQueue downlinkRequestQueue;
+    private PresenceStore presenceStore;
 
     private LwM2mServerEndpointsProvider endpointsProvider;
     private EndPointUriHandler uriHandler;
@@ -318,6 +329,64 @@ public class LeshanServerBuilder {
         return this;
     }
 
+    /**
+     * Set the maximum number of entries of the {@link NotificationLookupCache} used by endpoints to resolve
+     * observation, registration and model targeted by an incoming notification.
+     * <p>
+     * This avoids several {@link RegistrationStore} queries for each notification, which is useful with a remote store.
+     * In a cluster, entries are only invalidated on the node which handles the cancellation or the deregistration,
+     * other nodes could use a stale entry until it expires (see {@link #setNotificationLookupCacheTimeToLive(long)}).
+     * <p>
+     * Default value is 0 which means cache is disabled.
+     */
+    public LeshanServerBuilder setNotificationLookupCacheSize(int notificationLookupCacheSize) {
+        this.notificationLookupCacheSize = notificationLookupCacheSize;
+        return this;
+    }
+
+    /**
+     * Set the maximum time in milliseconds an entry is kept in the {@link NotificationLookupCache}.
+     * <p>
+     * Default value is 60000ms.
+     */
+    public LeshanServerBuilder setNotificationLookupCacheTimeToLive(long notificationLookupCacheTimeToLive) {
+        this.notificationLookupCacheTimeToLive = notificationLookupCacheTimeToLive;
+        return this;
+    }
+
+    /**
+     * Set the {@link EventDispatcher} used to deliver registration, observation and send events to listeners added to
+     * the server services.
+     * <p>
+     * By default no dispatcher is used : listeners are called from the transport layer thread, so a slow listener slows
+     * down the whole server.
+     */
+    public LeshanServerBuilder setEventDispatcher(EventDispatcher eventDispatcher) {
+        this.eventDispatcher = eventDispatcher;
+        return this;
+    }
+
+    /**
+     * Set the {@link DownlinkRequestQueue} used to store requests for clients using Queue Mode until they wake up (see
+     * {@link LeshanServer#getQueuedRequestSender()}).
+     * <p>
+     * By default an {@link InMemoryDownlinkRequestQueue} is used. Ignored if Queue Mode is disabled.
+     */
+    public LeshanServerBuilder setDownlinkRequestQueue(DownlinkRequestQueue downlinkRequestQueue) {
+        this.downlinkRequestQueue = downlinkRequestQueue;
+        return this;
+    }
+
+    /**
+     * Set the {@link PresenceStore} used to track awake deadlines of clients using Queue Mode.
+     * <p>
+     * By default an {@link InMemoryPresenceStore} is used. Ignored if Queue Mode is disabled.
+     */
+    public LeshanServerBuilder setPresenceStore(PresenceStore presenceStore) {
+        this.presenceStore = presenceStore;
+        return this;
+    }
+
     /**
      * Set the Uri Handler {@link EndPointUriHandler}
      * <p>
@@ -390,14 +459,23 @@ public class LeshanServerBuilder {
         if (uriHandler == null) {
             uriHandler = new DefaultEndPointUriHandler();
         }
+        if (downlinkRequestQueue == null && !noQueueMode) {
+            downlinkRequestQueue = new InMemoryDownlinkRequestQueue();
+        }
+        if (presenceStore == null && !noQueueMode) {
+            presenceStore = new InMemoryPresenceStore();
+        }
 
         ServerSecurityInfo serverSecurityInfo = new ServerSecurityInfo(privateKey, publicKey, certificateChain,
                 trustedCertificates);
+        NotificationLookupCache notificationLookupCache = new NotificationLookupCache(registrationStore, modelProvider,
+                notificationLookupCacheSize, notificationLookupCacheTimeToLive);
 
         return createServer(endpointsProvider, registrationStore, securityStore, authorizer, modelProvider, encoder,
                 decoder, noQueueMode, awakeTimeProvider, registrationIdProvider, registrationDataExtractor, linkParser,
                 uriHandler, serverSecurityInfo, endpointNameProvider, updateRegistrationOnNotification,
-                updateRegistrationOnSend);
+                updateRegistrationOnSend, notificationLookupCache, eventDispatcher, downlinkRequestQueue,
+                presenceStore);
     }
 
     /**
@@ -409,7 +487,7 @@ public class LeshanServerBuilder {
      * @see LeshanServer#LeshanServer(LwM2mServerEndpointsProvider, RegistrationStore, SecurityStore, Authorizer,
      *      LwM2mModelProvider, LwM2mEncoder, LwM2mDecoder, boolean, ClientAwakeTimeProvider, RegistrationIdProvider,
      *      RegistrationDataExtractor, boolean, boolean, LwM2mLinkParser, EndPointUriHandler, ServerSecurityInfo,
-     *      ServerEndpointNameProvider)
+     *      ServerEndpointNameProvider, NotificationLookupCache, EventDispatcher, DownlinkRequestQueue, PresenceStore)
      */
     protected LeshanServer createServer(LwM2mServerEndpointsProvider endpointsProvider,
             RegistrationStore registrationStore, SecurityStore securityStore, Authorizer authorizer,
@@ -418,10 +496,11 @@ public class LeshanServerBuilder {
             RegistrationDataExtractor registrationDataExtractor, LwM2mLinkParser linkParser,
             EndPointUriHandler uriHandler, ServerSecurityInfo serverSecurityInfo,
             ServerEndpointNameProvider endpointNameProvider, boolean updateRegistrationOnNotification,
-            boolean updateRegistrationOnSend) {
+            boolean updateRegistrationOnSend, NotificationLookupCache notificationLookupCache,
+            EventDispatcher eventDispatcher, DownlinkRequestQueue downlinkRequestQueue, PresenceStore presenceStore) {
         return new LeshanServer(endpointsProvider, registrationStore, securityStore, authorizer, modelProvider, encoder,
                 decoder, noQueueMode, awakeTimeProvider, registrationIdProvider, registrationDataExtractor,
                 updateRegistrationOnNotification, updateRegistrationOnSend, linkParser, uriHandler, serverSecurityInfo,
-                endpointNameProvider);
+                endpointNameProvider, notificationLookupCache, eventDispatcher, downlinkRequestQueue, presenceStore);
     }
 }
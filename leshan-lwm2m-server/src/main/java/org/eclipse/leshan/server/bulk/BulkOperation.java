@@ -0,0 +1,356 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.bulk;
+
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.eclipse.leshan.core.request.DownlinkDeviceManagementRequest;
+import org.eclipse.leshan.core.response.LwM2mResponse;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.request.DownlinkRequestSender;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link BulkRequest} being sent by a {@link BulkRequestSender}.
+ * <p>
+ * Requests are sent asynchronously : no thread waits for a response, a new request is sent each time a response is
+ * received until all selected registrations are handled. This object can be used to follow progress, to wait for the
+ * end of the operation or to cancel it.
+ *
+ * @param <T> The expected type of the responses received.
+ */
+public class BulkOperation<T extends LwM2mResponse> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkOperation.class);
+
+    private final BulkRequest<T> request;
+    private final BulkResultListener<T> listener;
+    private final DownlinkRequestSender requestSender;
+    private final ScheduledExecutorService scheduler;
+    private final Consumer<BulkOperation<?>> completionHandler;
+    private final CountDownLatch completed = new CountDownLatch(1);
+
+    // guarded by this
+    private final TokenBucket tokenBucket;
+    private int inFlight = 0;
+    private boolean exhausted = false;
+    private boolean waitingForToken = false;
+    private boolean done = false;
+    private Registration nextRegistration;
+    private DownlinkDeviceManagementRequest<T> nextRequest;
+    private Exception nextCreationError;
+    private RuntimeException failure;
+
+    private volatile boolean cancelled = false;
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder responses = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    BulkOperation(BulkRequest<T> request, BulkResultListener<T> listener, DownlinkRequestSender requestSender,
+            ScheduledExecutorService scheduler, Consumer<BulkOperation<?>> completionHandler) {
+        this.request = request;
+        this.listener = listener;
+        this.requestSender = requestSender;
+        this.scheduler = scheduler;
+        this.completionHandler = completionHandler;
+        this.tokenBucket = request.getRequestsPerSecond() == 0 ? null
+                : new TokenBucket(request.getRequestsPerSecond(), request.getBurstSize(), System.nanoTime());
+    }
+
+    void start() {
+        execute();
+    }
+
+    /**
+     * Cancel this operation without using the scheduler, which may be shut down. The operation completes now if no
+     * request is in flight, tasks waiting in the scheduler (e.g. for a rate limit token) are not needed.
+     */
+    void abort() {
+        cancelled = true;
+        sendNextRequests();
+    }
+
+    private void execute() {
+        try {
+            scheduler.execute(this::sendNextRequests);
+        } catch (RejectedExecutionException e) {
+            // sender is destroyed : stop sending, operation completes when in-flight requests are completed
+            LOG.debug("Bulk request sender is destroyed, bulk operation is cancelled");
+            cancelled = true;
+            sendNextRequests();
+        }
+    }
+
+    private void sendNextRequests() {
+        // choose next registration under lock, but send request and notify listener outside of it
+        while (true) {
+            Registration registration = null;
+            DownlinkDeviceManagementRequest<T> downlinkRequest = null;
+            Exception creationError = null;
+            boolean justCompleted = false;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                if (!cancelled && inFlight < request.getMaxInFlight()
+                        && (nextRegistration != null || prepareNextRequest())) {
+                    if (nextCreationError != null) {
+                        registration = nextRegistration;
+                        creationError = nextCreationError;
+                        clearNextRequest();
+                    } else if (acquireToken()) {
+                        registration = nextRegistration;
+                        downlinkRequest = nextRequest;
+                        clearNextRequest();
+                        inFlight++;
+                    }
+                }
+                if (registration == null) {
+                    justCompleted = inFlight == 0 && (cancelled || exhausted && nextRegistration == null);
+                    if (justCompleted) {
+                        done = true;
+                    }
+                }
+            }
+
+            if (registration == null) {
+                if (justCompleted) {
+                    completionHandler.accept(this);
+                    try {
+                        listener.onCompleted(this);
+                    } catch (RuntimeException e) {
+                        LOG.error("Unexpected error in bulk result listener {}", listener, e);
+                    }
+                    completed.countDown();
+                }
+                return;
+            } else if (creationError != null) {
+                onError(registration, creationError);
+            } else {
+                send(registration, downlinkRequest);
+            }
+        }
+    }
+
+    /**
+     * Read registrations until one needs a request or fails to create it.
+     *
+     * @return <code>false</code> if there is no more registration.
+     */
+    private boolean prepareNextRequest() {
+        Iterator<Registration> registrations = request.getRegistrations();
+        while (!exhausted) {
+            Registration registration;
+            try {
+                if (!registrations.hasNext()) {
+                    exhausted = true;
+                    return false;
+                }
+                registration = registrations.next();
+            } catch (RuntimeException e) {
+                LOG.warn("Unable to get next registration, bulk operation is stopped", e);
+                failure = e;
+                exhausted = true;
+                return false;
+            }
+
+            if (request.getSelector() != null && !request.getSelector().select(registration)) {
+                continue;
+            }
+            DownlinkDeviceManagementRequest<T> downlinkRequest;
+            try {
+                downlinkRequest = request.getRequestFactory().createRequest(registration);
+            } catch (RuntimeException e) {
+                nextRegistration = registration;
+                nextCreationError = e;
+                return true;
+            }
+            if (downlinkRequest == null) {
+                skipped.increment();
+                continue;
+            }
+            nextRegistration = registration;
+            nextRequest = downlinkRequest;
+            return true;
+        }
+        return false;
+    }
+
+    private void clearNextRequest() {
+        nextRegistration = null;
+        nextRequest = null;
+        nextCreationError = null;
+    }
+
+    /**
+     * @return <code>true</code> if a request can be sent now, else a new attempt is scheduled.
+     */
+    private boolean acquireToken() {
+        if (tokenBucket == null) {
+            return true;
+        }
+        if (waitingForToken) {
+            return false;
+        }
+        long delay = tokenBucket.tryAcquire(System.nanoTime());
+        if (delay > 0) {
+            waitingForToken = true;
+            schedule(delay);
+            return false;
+        }
+        return true;
+    }
+
+    private void schedule(long delayInNanos) {
+        try {
+            scheduler.schedule(() -> {
+                synchronized (BulkOperation.this) {
+                    waitingForToken = false;
+                }
+                sendNextRequests();
+            }, delayInNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Bulk request sender is destroyed, bulk operation is cancelled");
+            waitingForToken = false;
+            cancelled = true;
+        }
+    }
+
+    private void send(final Registration registration, DownlinkDeviceManagementRequest<T> downlinkRequest) {
+        sent.increment();
+        try {
+            requestSender.send(registration, downlinkRequest, request.getLowerLayerConfig(), request.getTimeoutInMs(),
+                    response -> {
+                        responses.increment();
+                        try {
+                            listener.onResponse(registration, response);
+                        } catch (RuntimeException e) {
+                            LOG.error("Unexpected error in bulk result listener {}", listener, e);
+                        }
+                        requestCompleted();
+                    }, error -> {
+                        onError(registration, error);
+                        requestCompleted();
+                    });
+        } catch (RuntimeException e) {
+            onError(registration, e);
+            requestCompleted();
+        }
+    }
+
+    private void onError(Registration registration, Exception error) {
+        errors.increment();
+        try {
+            listener.onError(registration, error);
+        } catch (RuntimeException e) {
+            LOG.error("Unexpected error in bulk result listener {}", listener, e);
+        }
+    }
+
+    private void requestCompleted() {
+        synchronized (this) {
+            inFlight--;
+        }
+        execute();
+    }
+
+    /**
+     * Stop sending new requests. Requests already sent are not cancelled, the operation completes when their response
+     * is received or when they time out.
+     */
+    public void cancel() {
+        cancelled = true;
+        execute();
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * @return <code>true</code> if all selected registrations were handled, or if the operation was cancelled and all
+     *         in-flight requests are completed.
+     */
+    public boolean isDone() {
+        return completed.getCount() == 0;
+    }
+
+    /**
+     * Wait until the operation is done.
+     *
+     * @return <code>true</code> if the operation is done, <code>false</code> if the timeout expires.
+     * @throws InterruptedException if the thread was interrupted.
+     */
+    public boolean awaitCompletion(long timeout, TimeUnit unit) throws InterruptedException {
+        return completed.await(timeout, unit);
+    }
+
+    public BulkRequest<T> getRequest() {
+        return request;
+    }
+
+    /**
+     * @return the number of requests sent.
+     */
+    public long getSentCount() {
+        return sent.sum();
+    }
+
+    /**
+     * @return the number of responses received (successful or error responses).
+     */
+    public long getResponseCount() {
+        return responses.sum();
+    }
+
+    /**
+     * @return the number of requests which could not be created or sent, or which did not get a response.
+     */
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    /**
+     * @return the number of selected registrations for which {@link BulkRequest.RequestFactory} did not create a
+     *         request.
+     */
+    public long getSkippedCount() {
+        return skipped.sum();
+    }
+
+    /**
+     * @return the number of requests waiting for a response.
+     */
+    public synchronized int getInFlightCount() {
+        return inFlight;
+    }
+
+    /**
+     * @return the error which stopped the iteration over registrations, or <code>null</code>.
+     */
+    public synchronized RuntimeException getFailure() {
+        return failure;
+    }
+}
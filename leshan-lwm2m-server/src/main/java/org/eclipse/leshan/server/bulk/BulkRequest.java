@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.bulk;
+
+import java.util.Iterator;
+
+import org.eclipse.leshan.core.request.DownlinkDeviceManagementRequest;
+import org.eclipse.leshan.core.response.LwM2mResponse;
+import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.request.LowerLayerConfig;
+
+/**
+ * Describes a request to send to a set of devices, e.g. a Write or an Execute pushed to a whole fleet.
+ * <p>
+ * Registrations are read lazily from an {@link Iterator} (e.g. {@code RegistrationService#getAllRegistrations()}),
+ * filtered by a {@link Selector} and a request is created for each of them by a {@link RequestFactory}. The number of
+ * requests waiting for a response is bounded by {@link #getMaxInFlight()} and, optionally, the rate at which requests
+ * are sent is limited by a token bucket (see {@link #getRequestsPerSecond()} and {@link #getBurstSize()}).
+ *
+ * @param <T> The expected type of the responses received.
+ * @see BulkRequestSender
+ */
+public class BulkRequest<T extends LwM2mResponse> {
+
+    /**
+     * Select registrations targeted by a {@link BulkRequest}.
+     */
+    public interface Selector {
+        /**
+         * @return <code>true</code> if a request must be sent to this registration.
+         */
+        boolean select(Registration registration);
+    }
+
+    /**
+     * Create the request to send to a registration.
+     *
+     * @param <T> The expected type of the response received.
+     */
+    public interface RequestFactory<T extends LwM2mResponse> {
+        /**
+         * @return the request to send to this registration, or <code>null</code> to skip it.
+         */
+        DownlinkDeviceManagementRequest<T> createRequest(Registration registration);
+    }
+
+    private final Iterator<Registration> registrations;
+    private final Selector selector;
+    private final RequestFactory<T> requestFactory;
+    private final int maxInFlight;
+    private final int requestsPerSecond;
+    private final int burstSize;
+    private final long timeoutInMs;
+    private final LowerLayerConfig lowerLayerConfig;
+
+    protected BulkRequest(Iterator<Registration> registrations, Selector selector, RequestFactory<T> requestFactory,
+            int maxInFlight, int requestsPerSecond, int burstSize, long timeoutInMs,
+            LowerLayerConfig lowerLayerConfig) {
+        this.registrations = registrations;
+        this.selector = selector;
+        this.requestFactory = requestFactory;
+        this.maxInFlight = maxInFlight;
+        this.requestsPerSecond = requestsPerSecond;
+        this.burstSize = burstSize;
+        this.timeoutInMs = timeoutInMs;
+        this.lowerLayerConfig = lowerLayerConfig;
+    }
+
+    public Iterator<Registration> getRegistrations() {
+        return registrations;
+    }
+
+    /**
+     * @return the selector or <code>null</code> if all registrations are targeted.
+     */
+    public Selector getSelector() {
+        return selector;
+    }
+
+    public RequestFactory<T> getRequestFactory() {
+        return requestFactory;
+    }
+
+    /**
+     * @return the maximum number of requests waiting for a response.
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * @return the maximum number of requests sent per second, 0 means no limit.
+     */
+    public int getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    /**
+     * @return the number of requests which can be sent at once when rate is limited.
+     */
+    public int getBurstSize() {
+        return burstSize;
+    }
+
+    /**
+     * @return the timeout of each request in milliseconds.
+     */
+    public long getTimeoutInMs() {
+        return timeoutInMs;
+    }
+
+    public LowerLayerConfig getLowerLayerConfig() {
+        return lowerLayerConfig;
+    }
+
+    /**
+     * Class helping to create a {@link BulkRequest}.
+     *
+     * @param <T> The expected type of the responses received.
+     */
+    public static class Builder<T extends LwM2mResponse> {
+
+        private final Iterator<Registration> registrations;
+        private final RequestFactory<T> requestFactory;
+        private Selector selector;
+        private int maxInFlight = 100;
+        private int requestsPerSecond = 0;
+        private int burstSize = 1;
+        private long timeoutInMs = 2 * 60 * 1000l; // 2min in ms
+        private LowerLayerConfig lowerLayerConfig;
+
+        /**
+         * @param registrations the registrations to target, read lazily.
+         * @param requestFactory create the request to send to each registration.
+         */
+        public Builder(Iterator<Registration> registrations, RequestFactory<T> requestFactory) {
+            this.registrations = registrations;
+            this.requestFactory = requestFactory;
+        }
+
+        /**
+         * Set the selector used to filter registrations. By default, all registrations are targeted.
+         */
+        public Builder<T> setSelector(Selector selector) {
+            this.selector = selector;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of requests waiting for a response.
+         * <p>
+         * Default value is 100.
+         */
+        public Builder<T> setMaxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of requests sent per second, 0 means no limit.
+         * <p>
+         * Default value is 0.
+         */
+        public Builder<T> setRequestsPerSecond(int requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+            return this;
+        }
+
+        /**
+         * Set the number of requests which can be sent at once when rate is limited.
+         * <p>
+         * Default value is 1.
+         */
+        public Builder<T> setBurstSize(int burstSize) {
+            this.burstSize = burstSize;
+            return this;
+        }
+
+        /**
+         * Set the timeout of each request in milliseconds (see https://github.com/eclipse/leshan/wiki/Request-Timeout).
+         * <p>
+         * Default value is 2min.
+         */
+        public Builder<T> setTimeout(long timeoutInMs) {
+            this.timeoutInMs = timeoutInMs;
+            return this;
+        }
+
+        /**
+         * Set the config used to tweak lower layer requests (e.g. coap request).
+         */
+        public Builder<T> setLowerLayerConfig(LowerLayerConfig lowerLayerConfig) {
+            this.lowerLayerConfig = lowerLayerConfig;
+            return this;
+        }
+
+        public BulkRequest<T> build() {
+            Validate.notNull(registrations, "registrations cannot be null");
+            Validate.notNull(requestFactory, "requestFactory cannot be null");
+            Validate.isTrue(maxInFlight > 0, "maxInFlight must be strictly positive");
+            Validate.isTrue(requestsPerSecond >= 0, "requestsPerSecond must be positive");
+            Validate.isTrue(burstSize > 0, "burstSize must be strictly positive");
+            Validate.isTrue(timeoutInMs > 0, "timeout must be strictly positive");
+            return new BulkRequest<>(registrations, selector, requestFactory, maxInFlight, requestsPerSecond, burstSize,
+                    timeoutInMs, lowerLayerConfig);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.bulk;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.Destroyable;
+import org.eclipse.leshan.core.response.LwM2mResponse;
+import org.eclipse.leshan.core.util.NamedThreadFactory;
+import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.server.request.DownlinkRequestSender;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends {@link BulkRequest}s using the asynchronous API of a {@link DownlinkRequestSender}.
+ * <p>
+ * Unlike the synchronous API which blocks a thread per request, a bulk operation only uses a thread to read
+ * registrations and send requests, so a fleet of devices can be targeted with a handful of threads. By default, all
+ * bulk operations share a single thread.
+ */
+public class BulkRequestSender implements Destroyable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkRequestSender.class);
+
+    private final DownlinkRequestSender requestSender;
+    private final ScheduledExecutorService scheduler;
+    private final boolean shutdownScheduler;
+    // operations which are not completed yet
+    private final Set<BulkOperation<?>> operations = ConcurrentHashMap.newKeySet();
+    private volatile boolean destroyed = false;
+
+    public BulkRequestSender(DownlinkRequestSender requestSender) {
+        this(requestSender,
+                Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("Leshan Bulk Request Sender#%d")),
+                true);
+    }
+
+    /**
+     * @param requestSender the sender used to send each request.
+     * @param scheduler the executor used to read registrations and send requests. It is not shut down by
+     *        {@link #destroy()}.
+     */
+    public BulkRequestSender(DownlinkRequestSender requestSender, ScheduledExecutorService scheduler) {
+        this(requestSender, scheduler, false);
+    }
+
+    protected BulkRequestSender(DownlinkRequestSender requestSender, ScheduledExecutorService scheduler,
+            boolean shutdownScheduler) {
+        Validate.notNull(requestSender, "requestSender cannot be null");
+        Validate.notNull(scheduler, "scheduler cannot be null");
+        this.requestSender = requestSender;
+        this.scheduler = scheduler;
+        this.shutdownScheduler = shutdownScheduler;
+    }
+
+    /**
+     * Start sending a {@link BulkRequest}.
+     *
+     * @param request the bulk request to send.
+     * @param listener the listener notified of each result and of the end of the operation. This listener MUST NOT be
+     *        null.
+     * @param <T> The expected type of the responses received.
+     * @return the started operation.
+     */
+    public <T extends LwM2mResponse> BulkOperation<T> send(BulkRequest<T> request, BulkResultListener<T> listener) {
+        Validate.notNull(request, "request cannot be null");
+        Validate.notNull(listener, "listener cannot be null");
+        BulkOperation<T> operation = new BulkOperation<>(request, listener, requestSender, scheduler,
+                operations::remove);
+        operations.add(operation);
+        if (destroyed) {
+            operation.abort();
+        } else {
+            operation.start();
+        }
+        return operation;
+    }
+
+    /**
+     * Stop sending requests of all ongoing operations. Operations without in-flight request are completed immediately,
+     * others complete when their in-flight requests are completed. The scheduler is shut down only if it was created by
+     * this sender.
+     */
+    @Override
+    public void destroy() {
+        destroyed = true;
+        for (BulkOperation<?> operation : operations) {
+            operation.abort();
+        }
+        if (shutdownScheduler) {
+            scheduler.shutdownNow();
+            try {
+                scheduler.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                LOG.warn("Destroying bulk request sender was interrupted.", e);
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
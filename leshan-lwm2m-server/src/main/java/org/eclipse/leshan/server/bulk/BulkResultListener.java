@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.bulk;
+
+import org.eclipse.leshan.core.response.LwM2mResponse;
+import org.eclipse.leshan.server.registration.Registration;
+
+/**
+ * Receives results of a {@link BulkOperation} as soon as they are available.
+ * <p>
+ * Methods are called from transport layer or {@link BulkRequestSender} threads, so they should not block.
+ *
+ * @param <T> The expected type of the responses received.
+ */
+public interface BulkResultListener<T extends LwM2mResponse> {
+
+    /**
+     * Called when a response is received from a device (successful or error response).
+     */
+    void onResponse(Registration registration, T response);
+
+    /**
+     * Called when a request can not be created or sent, or when no response is received.
+     *
+     * @see org.eclipse.leshan.core.response.ErrorCallback
+     */
+    void onError(Registration registration, Exception error);
+
+    /**
+     * Called once, when all selected registrations were handled or when the operation was cancelled and all in-flight
+     * requests are completed.
+     */
+    void onCompleted(BulkOperation<T> operation);
+}
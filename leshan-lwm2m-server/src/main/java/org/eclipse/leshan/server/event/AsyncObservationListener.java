@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.event;
+
+import org.eclipse.leshan.core.observation.CompositeObservation;
+import org.eclipse.leshan.core.observation.Observation;
+import org.eclipse.leshan.core.observation.SingleObservation;
+import org.eclipse.leshan.core.response.ObserveCompositeResponse;
+import org.eclipse.leshan.core.response.ObserveResponse;
+import org.eclipse.leshan.server.observation.ObservationListener;
+import org.eclipse.leshan.server.registration.Registration;
+
+/**
+ * An {@link ObservationListener} which queues events, events of a registration are delivered in order.
+ * <p>
+ * Events are ordered by registration id as {@link #cancelled(Observation)} does not provide the endpoint name.
+ */
+class AsyncObservationListener implements ObservationListener, AsyncListener {
+
+    private final ObservationListener delegate;
+    private final ListenerQueue queue;
+
+    AsyncObservationListener(ObservationListener delegate, ListenerQueue queue) {
+        this.delegate = delegate;
+        this.queue = queue;
+    }
+
+    @Override
+    public ListenerQueue getQueue() {
+        return queue;
+    }
+
+    @Override
+    public void newObservation(Observation observation, Registration registration) {
+        queue.submit(observation.getRegistrationId(), () -> delegate.newObservation(observation, registration));
+    }
+
+    @Override
+    public void cancelled(Observation observation) {
+        queue.submit(observation.getRegistrationId(), () -> delegate.cancelled(observation));
+    }
+
+    @Override
+    public void onResponse(SingleObservation observation, Registration registration, ObserveResponse response) {
+        queue.submit(observation.getRegistrationId(), () -> delegate.onResponse(observation, registration, response));
+    }
+
+    @Override
+    public void onResponse(CompositeObservation observation, Registration registration,
+            ObserveCompositeResponse response) {
+        queue.submit(observation.getRegistrationId(), () -> delegate.onResponse(observation, registration, response));
+    }
+
+    @Override
+    public void onError(Observation observation, Registration registration, Exception error) {
+        queue.submit(observation.getRegistrationId(), () -> delegate.onError(observation, registration, error));
+    }
+}
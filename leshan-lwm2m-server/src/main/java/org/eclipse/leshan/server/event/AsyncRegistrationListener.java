@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.event;
+
+import java.util.Collection;
+
+import org.eclipse.leshan.core.observation.Observation;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.registration.RegistrationListener;
+import org.eclipse.leshan.server.registration.RegistrationUpdate;
+
+/**
+ * A {@link RegistrationListener} which queues events, events of an endpoint are delivered in order.
+ */
+class AsyncRegistrationListener implements RegistrationListener, AsyncListener {
+
+    private final RegistrationListener delegate;
+    private final ListenerQueue queue;
+
+    AsyncRegistrationListener(RegistrationListener delegate, ListenerQueue queue) {
+        this.delegate = delegate;
+        this.queue = queue;
+    }
+
+    @Override
+    public ListenerQueue getQueue() {
+        return queue;
+    }
+
+    @Override
+    public void registered(Registration registration, Registration previousReg,
+            Collection<Observation> previousObservations) {
+        queue.submit(registration.getEndpoint(),
+                () -> delegate.registered(registration, previousReg, previousObservations));
+    }
+
+    @Override
+    public void updated(RegistrationUpdate update, Registration updatedReg, Registration previousReg) {
+        queue.submit(updatedReg.getEndpoint(), () -> delegate.updated(update, updatedReg, previousReg));
+    }
+
+    @Override
+    public void unregistered(Registration registration, Collection<Observation> observations, boolean expired,
+            Registration newReg) {
+        queue.submit(registration.getEndpoint(),
+                () -> delegate.unregistered(registration, observations, expired, newReg));
+    }
+}
@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.event;
+
+import org.eclipse.leshan.core.node.TimestampedLwM2mNodes;
+import org.eclipse.leshan.core.request.SendRequest;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.send.SendListener;
+
+/**
+ * A {@link SendListener} which queues events, events of an endpoint are delivered in order.
+ */
+class AsyncSendListener implements SendListener, AsyncListener {
+
+    private final SendListener delegate;
+    private final ListenerQueue queue;
+
+    AsyncSendListener(SendListener delegate, ListenerQueue queue) {
+        this.delegate = delegate;
+        this.queue = queue;
+    }
+
+    @Override
+    public ListenerQueue getQueue() {
+        return queue;
+    }
+
+    @Override
+    public void dataReceived(Registration registration, TimestampedLwM2mNodes data, SendRequest request) {
+        queue.submit(registration.getEndpoint(), () -> delegate.dataReceived(registration, data, request));
+    }
+
+    @Override
+    public void onError(Registration registration, String errorMessage, Exception error) {
+        queue.submit(registration != null ? registration.getEndpoint() : null,
+                () -> delegate.onError(registration, errorMessage, error));
+    }
+}
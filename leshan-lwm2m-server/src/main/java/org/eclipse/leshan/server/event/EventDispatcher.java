@@ -0,0 +1,304 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.event;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.leshan.core.Destroyable;
+import org.eclipse.leshan.core.util.NamedThreadFactory;
+import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.server.observation.ObservationListener;
+import org.eclipse.leshan.server.registration.RegistrationListener;
+import org.eclipse.leshan.server.send.SendListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers registration, observation and send events to listeners asynchronously, so a slow listener (e.g. a database
+ * write or a message broker producer) does not block the transport thread which raised the event.
+ * <p>
+ * Each wrapped listener gets its own bounded queue, split in lanes. All events of an endpoint go to the same lane and
+ * so are delivered in order, while events of different endpoints can be delivered concurrently. When a lane is full,
+ * the {@link OverflowPolicy} decides what happens to the new event.
+ * <p>
+ * Events are delivered by an {@link ExecutorService}, by default a fixed thread pool. Any other executor can be used
+ * with {@link Builder#setExecutor(ExecutorService)}, e.g. a virtual thread per task executor on recent JVMs.
+ */
+public class EventDispatcher implements Destroyable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EventDispatcher.class);
+
+    /**
+     * What to do when an event is raised and the queue of a listener is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The thread which raised the event waits until there is room in the queue. This slows down the transport
+         * layer, which applies back-pressure to devices.
+         */
+        BLOCK,
+        /**
+         * The new event is dropped.
+         */
+        DROP_NEWEST,
+        /**
+         * The oldest queued event is dropped to make room for the new one.
+         */
+        DROP_OLDEST
+    }
+
+    private final ExecutorService executor;
+    private final boolean shutdownExecutor;
+    private final int queueCapacity;
+    private final int lanesPerListener;
+    private final OverflowPolicy overflowPolicy;
+
+    private final Set<ListenerQueue> queues = Collections
+            .newSetFromMap(new ConcurrentHashMap<ListenerQueue, Boolean>());
+    private volatile boolean destroyed = false;
+
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder totalLatency = new LongAdder();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    protected EventDispatcher(ExecutorService executor, boolean shutdownExecutor, int queueCapacity,
+            int lanesPerListener, OverflowPolicy overflowPolicy) {
+        this.executor = executor;
+        this.shutdownExecutor = shutdownExecutor;
+        this.queueCapacity = queueCapacity;
+        this.lanesPerListener = lanesPerListener;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * @return a {@link RegistrationListener} which delivers events to the given listener asynchronously, ordered by
+     *         endpoint name.
+     */
+    public RegistrationListener wrap(RegistrationListener listener) {
+        return new AsyncRegistrationListener(listener, newQueue(listener));
+    }
+
+    /**
+     * @return an {@link ObservationListener} which delivers events to the given listener asynchronously, ordered by
+     *         registration id.
+     */
+    public ObservationListener wrap(ObservationListener listener) {
+        return new AsyncObservationListener(listener, newQueue(listener));
+    }
+
+    /**
+     * @return a {@link SendListener} which delivers events to the given listener asynchronously, ordered by endpoint
+     *         name.
+     */
+    public SendListener wrap(SendListener listener) {
+        return new AsyncSendListener(listener, newQueue(listener));
+    }
+
+    /**
+     * Stop tracking a listener returned by one of the <code>wrap</code> methods. Events already queued are still
+     * delivered.
+     */
+    public void release(Object wrappedListener) {
+        if (wrappedListener instanceof AsyncListener) {
+            queues.remove(((AsyncListener) wrappedListener).getQueue());
+        }
+    }
+
+    private ListenerQueue newQueue(Object listener) {
+        Validate.notNull(listener, "listener cannot be null");
+        ListenerQueue queue = new ListenerQueue(this, listener, lanesPerListener, queueCapacity, overflowPolicy);
+        queues.add(queue);
+        return queue;
+    }
+
+    // ********** Called by ListenerQueue **********//
+
+    boolean isDestroyed() {
+        return destroyed;
+    }
+
+    void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    void deliver(Object listener, Runnable event, long enqueueTime) {
+        try {
+            event.run();
+        } catch (RuntimeException e) {
+            LOG.error("Unexpected error while delivering event to listener {}", listener, e);
+        }
+        long latency = System.nanoTime() - enqueueTime;
+        dispatched.increment();
+        totalLatency.add(latency);
+        maxLatency.accumulateAndGet(latency, Math::max);
+    }
+
+    void dropped(Object listener, int count) {
+        dropped.add(count);
+        LOG.debug("{} event(s) dropped for listener {}", count, listener);
+    }
+
+    // ********** Metrics **********//
+
+    /**
+     * @return the number of events waiting to be delivered, for all listeners.
+     */
+    public int getQueueDepth() {
+        int depth = 0;
+        for (ListenerQueue queue : queues) {
+            depth += queue.size();
+        }
+        return depth;
+    }
+
+    /**
+     * @return the number of events delivered to listeners.
+     */
+    public long getDispatchedEventCount() {
+        return dispatched.sum();
+    }
+
+    /**
+     * @return the number of events dropped because a queue was full or because the dispatcher was destroyed.
+     */
+    public long getDroppedEventCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return the average time in nanoseconds between an event being raised and its listener returning.
+     */
+    public long getAverageDispatchLatency() {
+        long count = dispatched.sum();
+        return count == 0 ? 0 : totalLatency.sum() / count;
+    }
+
+    /**
+     * @return the maximum time in nanoseconds between an event being raised and its listener returning.
+     */
+    public long getMaxDispatchLatency() {
+        return maxLatency.get();
+    }
+
+    /**
+     * Stop delivering events. Threads blocked by {@link OverflowPolicy#BLOCK} are released and their events are
+     * dropped. The executor is shut down only if it was created by this dispatcher.
+     */
+    @Override
+    public void destroy() {
+        destroyed = true;
+        for (ListenerQueue queue : queues) {
+            queue.wakeUp();
+        }
+        if (shutdownExecutor) {
+            executor.shutdownNow();
+            try {
+                executor.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                LOG.warn("Destroying event dispatcher was interrupted.", e);
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Class helping to create an {@link EventDispatcher}.
+     */
+    public static class Builder {
+
+        private ExecutorService executor;
+        private int threadPoolSize = Runtime.getRuntime().availableProcessors();
+        private int queueCapacity = 1024;
+        private int lanesPerListener = 8;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+        /**
+         * Set the executor used to deliver events. The dispatcher does not shut it down.
+         * <p>
+         * By default, a fixed thread pool of {@link #setThreadPoolSize(int)} threads is created.
+         */
+        public Builder setExecutor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Set the number of threads of the default executor. Ignored if {@link #setExecutor(ExecutorService)} is used.
+         * <p>
+         * Default value is the number of available processors.
+         */
+        public Builder setThreadPoolSize(int threadPoolSize) {
+            this.threadPoolSize = threadPoolSize;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of events queued for one listener.
+         * <p>
+         * Default value is 1024.
+         */
+        public Builder setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Set the number of lanes of a listener queue, which is the maximum number of events delivered concurrently to
+         * one listener. Events of a given endpoint always use the same lane. Use 1 to deliver all events of a listener
+         * in order.
+         * <p>
+         * Default value is 8.
+         */
+        public Builder setLanesPerListener(int lanesPerListener) {
+            this.lanesPerListener = lanesPerListener;
+            return this;
+        }
+
+        /**
+         * Set what to do when the queue of a listener is full.
+         * <p>
+         * Default value is {@link OverflowPolicy#BLOCK}.
+         */
+        public Builder setOverflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        public EventDispatcher build() {
+            Validate.isTrue(queueCapacity > 0, "queueCapacity must be strictly positive");
+            Validate.isTrue(lanesPerListener > 0, "lanesPerListener must be strictly positive");
+            Validate.isTrue(lanesPerListener <= queueCapacity, "lanesPerListener must not exceed queueCapacity");
+            Validate.notNull(overflowPolicy, "overflowPolicy cannot be null");
+
+            if (executor == null) {
+                Validate.isTrue(threadPoolSize > 0, "threadPoolSize must be strictly positive");
+                return new EventDispatcher(
+                        Executors.newFixedThreadPool(threadPoolSize,
+                                new NamedThreadFactory("Leshan Event Dispatcher#%d")),
+                        true, queueCapacity, lanesPerListener, overflowPolicy);
+            }
+            return new EventDispatcher(executor, false, queueCapacity, lanesPerListener, overflowPolicy);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.event;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.eclipse.leshan.server.event.EventDispatcher.OverflowPolicy;
+
+/**
+ * The bounded queue of events of one listener.
+ * <p>
+ * The queue is split in lanes. Events are assigned to a lane using a key (e.g. endpoint name) and a lane is drained by
+ * at most one executor task at a time, so events with the same key are delivered in order.
+ */
+class ListenerQueue {
+
+    // maximum number of events delivered by a task before giving the thread back to the executor
+    private static final int MAX_EVENTS_PER_TASK = 64;
+
+    private final EventDispatcher dispatcher;
+    private final Object listener;
+    private final OverflowPolicy overflowPolicy;
+    private final int laneCapacity;
+    private final Lane[] lanes;
+
+    ListenerQueue(EventDispatcher dispatcher, Object listener, int nbLanes, int capacity,
+            OverflowPolicy overflowPolicy) {
+        this.dispatcher = dispatcher;
+        this.listener = listener;
+        this.overflowPolicy = overflowPolicy;
+        this.laneCapacity = capacity / nbLanes;
+        this.lanes = new Lane[nbLanes];
+        for (int i = 0; i < nbLanes; i++) {
+            lanes[i] = new Lane();
+        }
+    }
+
+    /**
+     * Queue an event which will be delivered after all previous events submitted with the same key.
+     */
+    void submit(String key, Runnable event) {
+        int index = key == null ? 0 : Math.floorMod(key.hashCode(), lanes.length);
+        lanes[index].offer(new Event(event, System.nanoTime()));
+    }
+
+    int size() {
+        int size = 0;
+        for (Lane lane : lanes) {
+            size += lane.size();
+        }
+        return size;
+    }
+
+    /**
+     * Release threads waiting for room in this queue.
+     */
+    void wakeUp() {
+        for (Lane lane : lanes) {
+            synchronized (lane) {
+                lane.notifyAll();
+            }
+        }
+    }
+
+    private static class Event {
+        final Runnable task;
+        final long enqueueTime; // in nanoseconds
+
+        Event(Runnable task, long enqueueTime) {
+            this.task = task;
+            this.enqueueTime = enqueueTime;
+        }
+    }
+
+    private class Lane implements Runnable {
+        // all fields are guarded by this
+        private final ArrayDeque<Event> events = new ArrayDeque<>();
+        private boolean scheduled = false;
+
+        void offer(Event event) {
+            synchronized (this) {
+                while (events.size() >= laneCapacity) {
+                    if (dispatcher.isDestroyed() || overflowPolicy == OverflowPolicy.DROP_NEWEST) {
+                        dispatcher.dropped(listener, 1);
+                        return;
+                    } else if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+                        events.poll();
+                        dispatcher.dropped(listener, 1);
+                    } else {
+                        try {
+                            wait();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            dispatcher.dropped(listener, 1);
+                            return;
+                        }
+                    }
+                }
+                if (dispatcher.isDestroyed()) {
+                    dispatcher.dropped(listener, 1);
+                    return;
+                }
+                events.add(event);
+                if (scheduled) {
+                    return;
+                }
+                scheduled = true;
+            }
+            schedule();
+        }
+
+        synchronized int size() {
+            return events.size();
+        }
+
+        private void schedule() {
+            try {
+                dispatcher.execute(this);
+            } catch (RejectedExecutionException e) {
+                synchronized (this) {
+                    dispatcher.dropped(listener, events.size());
+                    events.clear();
+                    scheduled = false;
+                    notifyAll();
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < MAX_EVENTS_PER_TASK; i++) {
+                Event event;
+                synchronized (this) {
+                    event = events.poll();
+                    if (event == null) {
+                        scheduled = false;
+                        return;
+                    }
+                    if (overflowPolicy == OverflowPolicy.BLOCK) {
+                        notifyAll();
+                    }
+                }
+                dispatcher.deliver(listener, event.task, event.enqueueTime);
+            }
+            // let other lanes use this thread before delivering remaining events
+            synchronized (this) {
+                if (events.isEmpty()) {
+                    scheduled = false;
+                    return;
+                }
+            }
+            schedule();
+        }
+    }
+}
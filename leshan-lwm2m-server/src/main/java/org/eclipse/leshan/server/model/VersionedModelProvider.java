@@ -15,45 +15,112 @@
  *******************************************************************************/
 package org.eclipse.leshan.server.model;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.leshan.core.LwM2m.Version;
 import org.eclipse.leshan.core.model.LwM2mModel;
 import org.eclipse.leshan.core.model.LwM2mModelRepository;
 import org.eclipse.leshan.core.model.ObjectModel;
 import org.eclipse.leshan.core.model.ResourceModel;
+import org.eclipse.leshan.core.util.Validate;
 import org.eclipse.leshan.server.registration.Registration;
 
 /**
  * A LwM2mModelProvider which supports object versioning. It returns a LwM2mModel taking into account object version
  * given in registration.
+ * <p>
+ * As most clients share the same set of supported objects, models are interned by supported objects (see
+ * {@link Registration#getSupportedObject()}) : registrations with same supported objects share the same immutable
+ * model, where object models are resolved once. To bound memory usage, at most {@link #DEFAULT_MAX_CACHED_MODELS} (or
+ * the value given to constructor) models are interned, models for other sets of supported objects are created on each
+ * call.
  */
 public class VersionedModelProvider implements LwM2mModelProvider {
 
-    private LwM2mModelRepository repository;
+    public static final int DEFAULT_MAX_CACHED_MODELS = 1000;
+
+    private final LwM2mModelRepository repository;
+    private final int maxCachedModels;
+    private final ConcurrentMap<Map<Integer, Version>, LwM2mModel> models = new ConcurrentHashMap<>();
 
     public VersionedModelProvider(Collection<ObjectModel> objectModels) {
-        this.repository = new LwM2mModelRepository(objectModels);
+        this(new LwM2mModelRepository(objectModels));
     }
 
     public VersionedModelProvider(LwM2mModelRepository repository) {
+        this(repository, DEFAULT_MAX_CACHED_MODELS);
+    }
+
+    /**
+     * @param repository the repository of all object models supported by this provider.
+     * @param maxCachedModels the maximum number of interned models, 0 to disable interning.
+     */
+    public VersionedModelProvider(LwM2mModelRepository repository, int maxCachedModels) {
+        Validate.notNull(repository, "repository cannot be null");
+        Validate.isTrue(maxCachedModels >= 0, "maxCachedModels must be positive");
         this.repository = repository;
+        this.maxCachedModels = maxCachedModels;
     }
 
     @Override
     public LwM2mModel getObjectModel(Registration registration) {
-        return new DynamicModel(registration);
+        Map<Integer, Version> supportedObjects = registration.getSupportedObject();
+        LwM2mModel model = models.get(supportedObjects);
+        if (model == null) {
+            model = new ResolvedModel(supportedObjects);
+            // we don't need to synchronize, it is not an issue if limit is slightly exceeded.
+            if (models.size() < maxCachedModels) {
+                LwM2mModel previous = models.putIfAbsent(supportedObjects, model);
+                if (previous != null) {
+                    model = previous;
+                }
+            }
+        }
+        return model;
     }
 
-    private class DynamicModel implements LwM2mModel {
+    /**
+     * @return the number of interned models.
+     */
+    public int getCachedModelCount() {
+        return models.size();
+    }
+
+    /**
+     * An immutable model where object models of supported objects are resolved at creation. Object models are stored in
+     * an array sorted by object id to avoid boxing and map lookup on each access.
+     */
+    private class ResolvedModel implements LwM2mModel {
 
-        private final Registration registration;
+        private final int[] objectIds;
+        private final ObjectModel[] objectModels;
+        private final Collection<ObjectModel> objectModelList;
 
-        public DynamicModel(Registration registration) {
-            this.registration = registration;
+        public ResolvedModel(Map<Integer, Version> supportedObjects) {
+            TreeMap<Integer, ObjectModel> resolved = new TreeMap<>();
+            for (Entry<Integer, Version> supportedObject : supportedObjects.entrySet()) {
+                ObjectModel objectModel = repository.getObjectModel(supportedObject.getKey(),
+                        supportedObject.getValue());
+                if (objectModel != null)
+                    resolved.put(supportedObject.getKey(), objectModel);
+            }
+
+            objectIds = new int[resolved.size()];
+            objectModels = new ObjectModel[resolved.size()];
+            int i = 0;
+            for (Entry<Integer, ObjectModel> entry : resolved.entrySet()) {
+                objectIds[i] = entry.getKey();
+                objectModels[i] = entry.getValue();
+                i++;
+            }
+            objectModelList = Collections.unmodifiableList(Arrays.asList(objectModels));
         }
 
         @Override
@@ -67,24 +134,16 @@ public class VersionedModelProvider implements LwM2mModelProvider {
 
         @Override
         public ObjectModel getObjectModel(int objectId) {
-            Version version = registration.getSupportedVersion(objectId);
-            if (version != null) {
-                return repository.getObjectModel(objectId, version);
+            int index = Arrays.binarySearch(objectIds, objectId);
+            if (index >= 0) {
+                return objectModels[index];
             }
             return null;
         }
 
         @Override
         public Collection<ObjectModel> getObjectModels() {
-            Map<Integer, Version> supportedObjects = registration.getSupportedObject();
-            Collection<ObjectModel> result = new ArrayList<>(supportedObjects.size());
-            for (Entry<Integer, Version> supportedObject : supportedObjects.entrySet()) {
-                ObjectModel objectModel = repository.getObjectModel(supportedObject.getKey(),
-                        supportedObject.getValue());
-                if (objectModel != null)
-                    result.add(objectModel);
-            }
-            return result;
+            return objectModelList;
         }
     }
 }
@@ -0,0 +1,315 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.observation;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.leshan.core.model.LwM2mModel;
+import org.eclipse.leshan.core.observation.CompositeObservation;
+import org.eclipse.leshan.core.observation.Observation;
+import org.eclipse.leshan.core.observation.ObservationIdentifier;
+import org.eclipse.leshan.core.observation.SingleObservation;
+import org.eclipse.leshan.core.response.ObserveCompositeResponse;
+import org.eclipse.leshan.core.response.ObserveResponse;
+import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.server.model.LwM2mModelProvider;
+import org.eclipse.leshan.server.profile.ClientProfile;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.registration.RegistrationListener;
+import org.eclipse.leshan.server.registration.RegistrationStore;
+import org.eclipse.leshan.server.registration.RegistrationUpdate;
+
+/**
+ * A bounded cache used by transport layers to resolve the {@link Observation}, the {@link Registration} and the
+ * {@link LwM2mModel} targeted by an incoming notification in one lookup.
+ * <p>
+ * Without this cache, each notification needs several {@link RegistrationStore} queries, which could be costly with a
+ * remote store (e.g. Redis).
+ * <p>
+ * Entries are indexed by {@link ObservationIdentifier} (endpoint URI + token) and are evicted when they are older than
+ * the configured time-to-live or when the cache is full (least recently used first). Entries are invalidated when
+ * observation is cancelled or when registration is updated or removed (see {@link #getRegistrationListener()} and
+ * {@link #getObservationListener()}). In a cluster, those events are only raised on the node which handles them, so
+ * other nodes could use a stale entry until it expires.
+ * <p>
+ * A cache with a maximum size of 0 is disabled : each lookup queries the {@link RegistrationStore}.
+ */
+public class NotificationLookupCache {
+
+    /**
+     * The result of a lookup.
+     */
+    public static class NotificationContext {
+        private final Observation observation;
+        private final ClientProfile profile;
+
+        public NotificationContext(Observation observation, ClientProfile profile) {
+            this.observation = observation;
+            this.profile = profile;
+        }
+
+        public Observation getObservation() {
+            return observation;
+        }
+
+        public ClientProfile getProfile() {
+            return profile;
+        }
+    }
+
+    private static class CacheEntry {
+        final NotificationContext context;
+        final long expirationTime; // in nanoseconds
+
+        CacheEntry(NotificationContext context, long expirationTime) {
+            this.context = context;
+            this.expirationTime = expirationTime;
+        }
+    }
+
+    private final RegistrationStore registrationStore;
+    private final LwM2mModelProvider modelProvider;
+    private final int maxSize;
+    private final long ttlInNanos;
+
+    // all fields below are guarded by entries
+    private final Map<ObservationIdentifier, CacheEntry> entries;
+    private final Map<String /* reg-id */, Set<ObservationIdentifier>> idsByRegistration = new HashMap<>();
+    // incremented on each invalidation
+    private long invalidationCounter = 0;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param registrationStore the store used to resolve observation and registration on cache miss.
+     * @param modelProvider the provider used to get the model of a registration on cache miss.
+     * @param maxSize maximum number of entries, 0 to disable the cache.
+     * @param ttlInMs maximum time in milliseconds an entry is kept.
+     */
+    public NotificationLookupCache(RegistrationStore registrationStore, LwM2mModelProvider modelProvider,
+            final int maxSize, long ttlInMs) {
+        Validate.notNull(registrationStore, "registrationStore cannot be null");
+        Validate.notNull(modelProvider, "modelProvider cannot be null");
+        Validate.isTrue(maxSize >= 0, "maxSize must be positive");
+        Validate.isTrue(ttlInMs > 0, "ttlInMs must be strictly positive");
+        this.registrationStore = registrationStore;
+        this.modelProvider = modelProvider;
+        this.maxSize = maxSize;
+        this.ttlInNanos = ttlInMs * 1_000_000L;
+        this.entries = new LinkedHashMap<ObservationIdentifier, CacheEntry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ObservationIdentifier, CacheEntry> eldest) {
+                if (size() > maxSize) {
+                    removeFromRegistrationIndex(eldest.getKey(), eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Resolve observation, registration and model for an observation identifier.
+     *
+     * @return the context of the notification or <code>null</code> if there is no observation for this identifier or no
+     *         registration for this observation.
+     */
+    public NotificationContext get(ObservationIdentifier observationId) {
+        if (maxSize == 0) {
+            return load(observationId);
+        }
+
+        long stamp;
+        synchronized (entries) {
+            CacheEntry entry = entries.get(observationId);
+            if (entry != null) {
+                if (entry.expirationTime - System.nanoTime() > 0) {
+                    hits.increment();
+                    return entry.context;
+                } else {
+                    entries.remove(observationId);
+                    removeFromRegistrationIndex(observationId, entry);
+                }
+            }
+            stamp = invalidationCounter;
+        }
+        misses.increment();
+
+        NotificationContext context = load(observationId);
+        if (context != null) {
+            synchronized (entries) {
+                // do not cache a value which could have been invalidated while we were loading it
+                if (stamp == invalidationCounter) {
+                    entries.put(observationId, new CacheEntry(context, System.nanoTime() + ttlInNanos));
+                    String registrationId = context.getObservation().getRegistrationId();
+                    Set<ObservationIdentifier> ids = idsByRegistration.get(registrationId);
+                    if (ids == null) {
+                        ids = new HashSet<>();
+                        idsByRegistration.put(registrationId, ids);
+                    }
+                    ids.add(observationId);
+                }
+            }
+        }
+        return context;
+    }
+
+    private NotificationContext load(ObservationIdentifier observationId) {
+        Observation observation = registrationStore.getObservation(observationId);
+        if (observation == null)
+            return null;
+        Registration registration = registrationStore.getRegistration(observation.getRegistrationId());
+        if (registration == null)
+            return null;
+        return new NotificationContext(observation,
+                new ClientProfile(registration, modelProvider.getObjectModel(registration)));
+    }
+
+    private void removeFromRegistrationIndex(ObservationIdentifier observationId, CacheEntry entry) {
+        String registrationId = entry.context.getObservation().getRegistrationId();
+        Set<ObservationIdentifier> ids = idsByRegistration.get(registrationId);
+        if (ids != null) {
+            ids.remove(observationId);
+            if (ids.isEmpty()) {
+                idsByRegistration.remove(registrationId);
+            }
+        }
+    }
+
+    /**
+     * Remove entry of the given observation.
+     */
+    public void invalidate(ObservationIdentifier observationId) {
+        synchronized (entries) {
+            invalidationCounter++;
+            CacheEntry entry = entries.remove(observationId);
+            if (entry != null) {
+                removeFromRegistrationIndex(observationId, entry);
+            }
+        }
+    }
+
+    /**
+     * Remove all entries of the given registration.
+     */
+    public void invalidateRegistration(String registrationId) {
+        synchronized (entries) {
+            invalidationCounter++;
+            Set<ObservationIdentifier> ids = idsByRegistration.remove(registrationId);
+            if (ids != null) {
+                for (ObservationIdentifier id : ids) {
+                    entries.remove(id);
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            invalidationCounter++;
+            entries.clear();
+            idsByRegistration.clear();
+        }
+    }
+
+    /**
+     * @return a {@link RegistrationListener} which invalidates entries of updated or removed registrations.
+     */
+    public RegistrationListener getRegistrationListener() {
+        return new RegistrationListener() {
+            @Override
+            public void registered(Registration registration, Registration previousReg,
+                    Collection<Observation> previousObservations) {
+                if (previousReg != null) {
+                    invalidateRegistration(previousReg.getId());
+                }
+            }
+
+            @Override
+            public void updated(RegistrationUpdate update, Registration updatedReg, Registration previousReg) {
+                invalidateRegistration(updatedReg.getId());
+            }
+
+            @Override
+            public void unregistered(Registration registration, Collection<Observation> observations, boolean expired,
+                    Registration newReg) {
+                invalidateRegistration(registration.getId());
+            }
+        };
+    }
+
+    /**
+     * @return an {@link ObservationListener} which invalidates entries of new or cancelled observations.
+     */
+    public ObservationListener getObservationListener() {
+        return new ObservationListener() {
+            @Override
+            public void newObservation(Observation observation, Registration registration) {
+                invalidate(observation.getId());
+            }
+
+            @Override
+            public void cancelled(Observation observation) {
+                invalidate(observation.getId());
+            }
+
+            @Override
+            public void onResponse(SingleObservation observation, Registration registration, ObserveResponse response) {
+            }
+
+            @Override
+            public void onResponse(CompositeObservation observation, Registration registration,
+                    ObserveCompositeResponse response) {
+            }
+
+            @Override
+            public void onError(Observation observation, Registration registration, Exception error) {
+            }
+        };
+    }
+
+    /**
+     * @return the number of entries currently cached.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * @return the number of lookups which were answered by this cache.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups which needed to query the {@link RegistrationStore}.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+}
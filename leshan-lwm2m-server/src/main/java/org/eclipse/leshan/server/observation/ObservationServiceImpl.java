@@ -21,7 +21,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.leshan.core.node.LwM2mPath;
@@ -35,6 +37,7 @@ import org.eclipse.leshan.core.response.ObserveCompositeResponse;
 import org.eclipse.leshan.core.response.ObserveResponse;
 import org.eclipse.leshan.server.endpoint.LwM2mServerEndpoint;
 import org.eclipse.leshan.server.endpoint.LwM2mServerEndpointsProvider;
+import org.eclipse.leshan.server.event.EventDispatcher;
 import org.eclipse.leshan.server.profile.ClientProfile;
 import org.eclipse.leshan.server.registration.Registration;
 import org.eclipse.leshan.server.registration.RegistrationStore;
@@ -60,7 +63,10 @@ public class ObservationServiceImpl implements ObservationService, LwM2mNotifica
     private final boolean updateRegistrationOnNotification;
     private final Authorizer authorizer;
 
-    private final List<ObservationListener> listeners = new CopyOnWriteArrayList<>();;
+    private final List<ObservationListener> listeners = new CopyOnWriteArrayList<>();
+    // listeners added while an event dispatcher is set, mapped to the listener wrapping them
+    private final Map<ObservationListener, ObservationListener> asyncListeners = new ConcurrentHashMap<>();
+    private volatile EventDispatcher eventDispatcher;
 
     /**
      * Creates an instance of {@link ObservationServiceImpl}
@@ -199,12 +205,36 @@ public class ObservationServiceImpl implements ObservationService, LwM2mNotifica
 
     @Override
     public void addListener(ObservationListener listener) {
-        listeners.add(listener);
+        EventDispatcher dispatcher = eventDispatcher;
+        if (dispatcher != null) {
+            // a listener already added is not wrapped again
+            asyncListeners.computeIfAbsent(listener, l -> {
+                ObservationListener asyncListener = dispatcher.wrap(l);
+                listeners.add(asyncListener);
+                return asyncListener;
+            });
+        } else {
+            listeners.add(listener);
+        }
     }
 
     @Override
     public void removeListener(ObservationListener listener) {
-        listeners.remove(listener);
+        ObservationListener asyncListener = asyncListeners.remove(listener);
+        if (asyncListener != null) {
+            listeners.remove(asyncListener);
+            eventDispatcher.release(asyncListener);
+        } else {
+            listeners.remove(listener);
+        }
+    }
+
+    /**
+     * Set the {@link EventDispatcher} used to deliver events to listeners added from now on, so they are not called by
+     * the transport layer thread. Listeners already added keep being called synchronously.
+     */
+    public void setEventDispatcher(EventDispatcher eventDispatcher) {
+        this.eventDispatcher = eventDispatcher;
     }
 
     protected Registration updateRegistrationOnRegistration(Observation observation, LwM2mPeer sender,
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.queue;
+
+import java.util.List;
+
+/**
+ * Stores {@link QueuedRequest}s of clients using Queue Mode, in order, until they wake up.
+ * <p>
+ * Implementations must be thread-safe. A persistent implementation allows queued requests to survive a server restart
+ * or to be sent by another server of a cluster.
+ *
+ * @see QueuedRequestSender
+ */
+public interface DownlinkRequestQueue {
+
+    /**
+     * Add a request at the end of the queue of its endpoint.
+     *
+     * @return <code>false</code> if the queue of this endpoint is full and the request was not added.
+     */
+    boolean add(QueuedRequest request);
+
+    /**
+     * Put back a request at the head of the queue of its endpoint, e.g. because client went to sleep before it could be
+     * sent. This must succeed even if the queue is full.
+     */
+    void addFirst(QueuedRequest request);
+
+    /**
+     * Remove and return the oldest request queued for an endpoint.
+     *
+     * @return the oldest request or <code>null</code> if there is no request for this endpoint.
+     */
+    QueuedRequest poll(String endpoint);
+
+    /**
+     * Remove requests queued for an endpoint which are expired.
+     *
+     * @param now current time in milliseconds since epoch.
+     * @return the removed requests, in order.
+     * @see QueuedRequest#isExpired(long)
+     */
+    List<QueuedRequest> removeExpired(String endpoint, long now);
+
+    /**
+     * Remove all requests queued for an endpoint.
+     *
+     * @return the removed requests, in order.
+     */
+    List<QueuedRequest> removeAll(String endpoint);
+
+    /**
+     * @return the number of requests queued for an endpoint.
+     */
+    int size(String endpoint);
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.queue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.leshan.core.util.Validate;
+
+/**
+ * A {@link DownlinkRequestQueue} which keeps requests in memory. Queued requests are lost on server restart.
+ * <p>
+ * Queues are only accessed while holding their {@link ConcurrentHashMap} entry, so no other lock is needed.
+ */
+public class InMemoryDownlinkRequestQueue implements DownlinkRequestQueue {
+
+    /**
+     * The default maximum number of requests queued for one endpoint.
+     */
+    public static final int DEFAULT_MAX_REQUESTS_PER_ENDPOINT = 100;
+
+    private final ConcurrentMap<String, Deque<QueuedRequest>> queues = new ConcurrentHashMap<>();
+    private final int maxRequestsPerEndpoint;
+
+    public InMemoryDownlinkRequestQueue() {
+        this(DEFAULT_MAX_REQUESTS_PER_ENDPOINT);
+    }
+
+    /**
+     * @param maxRequestsPerEndpoint the maximum number of requests queued for one endpoint.
+     */
+    public InMemoryDownlinkRequestQueue(int maxRequestsPerEndpoint) {
+        Validate.isTrue(maxRequestsPerEndpoint > 0, "maxRequestsPerEndpoint must be strictly positive");
+        this.maxRequestsPerEndpoint = maxRequestsPerEndpoint;
+    }
+
+    @Override
+    public boolean add(QueuedRequest request) {
+        boolean[] added = new boolean[1];
+        queues.compute(request.getEndpoint(), (endpoint, queue) -> {
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+            }
+            if (queue.size() < maxRequestsPerEndpoint) {
+                queue.addLast(request);
+                added[0] = true;
+            }
+            return queue.isEmpty() ? null : queue;
+        });
+        return added[0];
+    }
+
+    @Override
+    public void addFirst(QueuedRequest request) {
+        queues.compute(request.getEndpoint(), (endpoint, queue) -> {
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+            }
+            queue.addFirst(request);
+            return queue;
+        });
+    }
+
+    @Override
+    public QueuedRequest poll(String endpoint) {
+        QueuedRequest[] polled = new QueuedRequest[1];
+        queues.computeIfPresent(endpoint, (ep, queue) -> {
+            polled[0] = queue.pollFirst();
+            return queue.isEmpty() ? null : queue;
+        });
+        return polled[0];
+    }
+
+    @Override
+    public List<QueuedRequest> removeExpired(String endpoint, long now) {
+        List<QueuedRequest> expired = new ArrayList<>();
+        queues.computeIfPresent(endpoint, (ep, queue) -> {
+            for (Iterator<QueuedRequest> it = queue.iterator(); it.hasNext();) {
+                QueuedRequest request = it.next();
+                if (request.isExpired(now)) {
+                    it.remove();
+                    expired.add(request);
+                }
+            }
+            return queue.isEmpty() ? null : queue;
+        });
+        return expired;
+    }
+
+    @Override
+    public List<QueuedRequest> removeAll(String endpoint) {
+        Deque<QueuedRequest> queue = queues.remove(endpoint);
+        if (queue == null) {
+            return Collections.emptyList();
+        }
+        // queues are only modified while holding their map entry, so a removed queue is not modified anymore
+        return new ArrayList<>(queue);
+    }
+
+    @Override
+    public int size(String endpoint) {
+        int[] size = new int[1];
+        queues.computeIfPresent(endpoint, (ep, queue) -> {
+            size[0] = queue.size();
+            return queue;
+        });
+        return size[0];
+    }
+}
@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.queue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.server.registration.Registration;
+
+/**
+ * An in memory {@link PresenceStore} which tracks awake deadlines with a hashed timing wheel.
+ * <p>
+ * Each awake client owns one entry which stays in the wheel until its deadline is reached. Setting a client awake again
+ * only updates the deadline of its entry, the entry is moved to the right bucket lazily when its current bucket is
+ * processed. So tracking a client costs O(1) whatever the number of clients and frequent traffic does not create
+ * garbage timers.
+ * <p>
+ * Deadlines are handled with a precision of one tick.
+ */
+public class InMemoryPresenceStore implements PresenceStore {
+
+    /**
+     * The default duration of a tick in milliseconds.
+     */
+    public static final long DEFAULT_TICK_DURATION = 100;
+
+    /**
+     * The default number of buckets of the wheel.
+     */
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final ConcurrentMap<String /* endpoint */, Presence> presences = new ConcurrentHashMap<>();
+
+    // Entries to add to the wheel, the wheel itself is only accessed in pollExpired
+    private final Queue<Presence> pending = new ConcurrentLinkedQueue<>();
+    private final Bucket[] wheel;
+    private final int wheelMask;
+    private final long tickDuration;
+    private long lastTick = -1;
+
+    public InMemoryPresenceStore() {
+        this(DEFAULT_TICK_DURATION, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * @param tickDuration the duration of a tick in milliseconds.
+     * @param wheelSize the number of buckets of the wheel, rounded up to a power of 2.
+     */
+    public InMemoryPresenceStore(long tickDuration, int wheelSize) {
+        Validate.isTrue(tickDuration > 0, "tickDuration must be strictly positive");
+        Validate.isTrue(wheelSize > 0, "wheelSize must be strictly positive");
+        int size = Integer.highestOneBit(wheelSize);
+        if (size < wheelSize) {
+            size <<= 1;
+        }
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.wheelMask = size - 1;
+        this.tickDuration = tickDuration;
+    }
+
+    @Override
+    public boolean setAwake(Registration registration, long deadline) {
+        final boolean[] added = new boolean[1];
+        presences.compute(registration.getEndpoint(), (endpoint, presence) -> {
+            if (presence == null) {
+                added[0] = true;
+                presence = new Presence(endpoint);
+            }
+            presence.registration = registration;
+            presence.deadline = deadline;
+            if (deadline != Long.MAX_VALUE && !presence.scheduled) {
+                presence.scheduled = true;
+                pending.add(presence);
+            }
+            return presence;
+        });
+        return added[0];
+    }
+
+    @Override
+    public boolean setSleeping(String endpoint) {
+        // entry is dropped from the wheel when its bucket is processed
+        return presences.remove(endpoint) != null;
+    }
+
+    @Override
+    public boolean isAwake(String endpoint) {
+        return presences.containsKey(endpoint);
+    }
+
+    @Override
+    public synchronized Collection<Registration> pollExpired(long now) {
+        long currentTick = now / tickDuration;
+        if (lastTick < 0) {
+            lastTick = currentTick - 1;
+        }
+
+        Presence presence;
+        while ((presence = pending.poll()) != null) {
+            schedule(presence);
+        }
+
+        List<Registration> expired = new ArrayList<>();
+        List<Presence> rescheduled = new ArrayList<>();
+        long ticks = Math.min(currentTick - lastTick, wheel.length);
+        for (long tick = lastTick + 1; tick <= lastTick + ticks; tick++) {
+            Bucket bucket = wheel[(int) (tick & wheelMask)];
+            while ((presence = bucket.entries.poll()) != null) {
+                process(presence, now, expired, rescheduled);
+            }
+        }
+        lastTick = Math.max(lastTick, currentTick);
+
+        for (Presence entry : rescheduled) {
+            schedule(entry);
+        }
+        return expired;
+    }
+
+    private void process(Presence presence, long now, List<Registration> expired, List<Presence> rescheduled) {
+        presences.computeIfPresent(presence.endpoint, (endpoint, current) -> {
+            if (current != presence) {
+                // client went to sleep and woke up again, this entry is not used anymore
+                return current;
+            }
+            if (presence.deadline == Long.MAX_VALUE) {
+                presence.scheduled = false;
+                return presence;
+            }
+            if (presence.deadline <= now) {
+                expired.add(presence.registration);
+                return null;
+            }
+            // deadline was pushed back since this entry was scheduled
+            rescheduled.add(presence);
+            return presence;
+        });
+    }
+
+    private void schedule(Presence presence) {
+        long tick = Math.max(presence.deadline / tickDuration, lastTick + 1);
+        wheel[(int) (tick & wheelMask)].entries.add(presence);
+    }
+
+    private static class Presence {
+        private final String endpoint;
+        // following fields are modified under the lock of presences map
+        private volatile Registration registration;
+        private volatile long deadline;
+        private boolean scheduled;
+
+        Presence(String endpoint) {
+            this.endpoint = endpoint;
+        }
+    }
+
+    private static class Bucket {
+        private final ArrayDeque<Presence> entries = new ArrayDeque<>();
+    }
+}
@@ -16,18 +16,17 @@
  *******************************************************************************/
 package org.eclipse.leshan.server.queue;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.leshan.core.Destroyable;
 import org.eclipse.leshan.core.util.NamedThreadFactory;
+import org.eclipse.leshan.core.util.Validate;
 import org.eclipse.leshan.server.registration.Registration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,18 +35,52 @@ import org.slf4j.LoggerFactory;
  * Tracks the status of each LWM2M client registered with Queue mode binding. Also ensures that the
  * {@link PresenceListener} are notified on state changes only for those LWM2M clients registered using Queue mode
  * binding.
+ * <p>
+ * Awake deadlines are kept in a {@link PresenceStore}, by default an {@link InMemoryPresenceStore}. Instead of one
+ * timer per client, a single task periodically collects clients whose deadline is reached and notifies listeners about
+ * all of them at once.
  */
 public final class PresenceServiceImpl implements PresenceService, Destroyable {
     private static final Logger LOG = LoggerFactory.getLogger(PresenceServiceImpl.class);
 
-    private final ConcurrentMap<String /* endpoint */, AtomicReference<ScheduledFuture<?>>> clientPresences = new ConcurrentHashMap<>();
+    /**
+     * The default period in milliseconds between 2 checks of expired awake deadlines.
+     */
+    public static final long DEFAULT_POLL_PERIOD = 100;
+
     private final List<PresenceListener> listeners = new CopyOnWriteArrayList<>();
     private final ClientAwakeTimeProvider awakeTimeProvider;
+    private final PresenceStore presenceStore;
+    private final long pollPeriod;
     private final ScheduledExecutorService clientTimersExecutor = Executors
             .newSingleThreadScheduledExecutor(new NamedThreadFactory("Presence Service"));
+    private final AtomicBoolean started = new AtomicBoolean(false);
 
     public PresenceServiceImpl(ClientAwakeTimeProvider awakeTimeProvider) {
+        this(awakeTimeProvider, new InMemoryPresenceStore());
+    }
+
+    public PresenceServiceImpl(ClientAwakeTimeProvider awakeTimeProvider, PresenceStore presenceStore) {
+        this(awakeTimeProvider, presenceStore, DEFAULT_POLL_PERIOD);
+    }
+
+    /**
+     * @param awakeTimeProvider provides the awake time of each client.
+     * @param presenceStore stores awake deadlines.
+     * @param pollPeriod the period in milliseconds between 2 checks of expired awake deadlines.
+     */
+    public PresenceServiceImpl(ClientAwakeTimeProvider awakeTimeProvider, PresenceStore presenceStore,
+            long pollPeriod) {
+        Validate.notNull(presenceStore, "presenceStore cannot be null");
+        Validate.isTrue(pollPeriod > 0, "pollPeriod must be strictly positive");
         this.awakeTimeProvider = awakeTimeProvider;
+        this.presenceStore = presenceStore;
+        this.pollPeriod = pollPeriod;
+
+        // other servers may have set clients awake, so do not wait for a client of this server
+        if (presenceStore.isShared()) {
+            startPolling();
+        }
     }
 
     @Override
@@ -62,7 +95,7 @@ public final class PresenceServiceImpl implements PresenceService, Destroyable {
 
     @Override
     public boolean isClientAwake(Registration registration) {
-        return clientPresences.containsKey(registration.getEndpoint());
+        return presenceStore.isAwake(registration.getEndpoint());
     }
 
     /**
@@ -73,45 +106,15 @@ public final class PresenceServiceImpl implements PresenceService, Destroyable {
      */
     public void setAwake(final Registration reg) {
         if (reg.usesQueueMode()) {
-            boolean stateChanged;
-            final AtomicReference<ScheduledFuture<?>> timerFuture = new AtomicReference<>();
-            // set this device as awake
-            AtomicReference<ScheduledFuture<?>> previous = clientPresences.put(reg.getEndpoint(), timerFuture);
-            if (previous != null) {
-                stateChanged = false;
-                // cancel previous timer
-                if (previous.get() != null) {
-                    previous.get().cancel(false);
-                }
-            } else {
-                stateChanged = true;
-            }
+            // start polling deadlines lazily, as timers were created only when needed
+            startPolling();
 
             // Every time we set the clientAwakeTime, in case it changes dynamically
             int clientAwakeTime = awakeTimeProvider.getClientAwakeTime(reg);
-            if (clientAwakeTime != 0) {
-                timerFuture.set(clientTimersExecutor.schedule(() -> {
-                    boolean removed = clientPresences.remove(reg.getEndpoint(), timerFuture);
-                    if (removed) {
-                        // success remove means we go in sleeping mode.
-                        for (PresenceListener listener : listeners) {
-                            listener.onSleeping(reg);
-                        }
-                    }
-                }, clientAwakeTime, TimeUnit.MILLISECONDS));
-
-                // There is some rare race conditions (several quick call to setAwake)
-                // where the timerFuture could have been already removed but not cancelled.
-                // So to be sure to not keep useless cleaning task we cancel it if this is not the current timerFuture
-                // anymore.
-                // (This make the code a bit more complex but the is a cost of the non-blocking implementation)
-                if (clientPresences.get(reg.getEndpoint()) != timerFuture) {
-                    timerFuture.get().cancel(false);
-                }
-            }
+            long deadline = clientAwakeTime == 0 ? Long.MAX_VALUE : System.currentTimeMillis() + clientAwakeTime;
 
             // notify if state changed
-            if (stateChanged) {
+            if (presenceStore.setAwake(reg, deadline)) {
                 for (PresenceListener listener : listeners) {
                     listener.onAwake(reg);
                 }
@@ -129,13 +132,7 @@ public final class PresenceServiceImpl implements PresenceService, Destroyable {
      */
     public void setSleeping(Registration reg) {
         if (reg.usesQueueMode()) {
-            AtomicReference<ScheduledFuture<?>> timerFuture = clientPresences.remove(reg.getEndpoint());
-            if (timerFuture != null) {
-                if (timerFuture.get() != null) {
-                    // we can not be sure timerFuture is set but this is not a big deal as timer is only able to removed
-                    // itself.
-                    timerFuture.get().cancel(false);
-                }
+            if (presenceStore.setSleeping(reg.getEndpoint())) {
                 for (PresenceListener listener : listeners) {
                     listener.onSleeping(reg);
                 }
@@ -149,7 +146,35 @@ public final class PresenceServiceImpl implements PresenceService, Destroyable {
      * @param reg the client's registration object.
      */
     public void stopPresenceTracking(Registration reg) {
-        clientPresences.remove(reg.getEndpoint());
+        presenceStore.setSleeping(reg.getEndpoint());
+    }
+
+    private void startPolling() {
+        if (!started.get() && started.compareAndSet(false, true)) {
+            clientTimersExecutor.scheduleWithFixedDelay(this::pollExpired, pollPeriod, pollPeriod,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void pollExpired() {
+        Collection<Registration> expired;
+        try {
+            expired = presenceStore.pollExpired(System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            // do not let the exception cancel the periodic task
+            LOG.warn("Unable to check expired awake deadlines", e);
+            return;
+        }
+        // deadlines are already removed from store, so each listener must be called for each client
+        for (Registration reg : expired) {
+            for (PresenceListener listener : listeners) {
+                try {
+                    listener.onSleeping(reg);
+                } catch (RuntimeException e) {
+                    LOG.error("Unexpected error in presence listener {}", listener, e);
+                }
+            }
+        }
     }
 
     @Override
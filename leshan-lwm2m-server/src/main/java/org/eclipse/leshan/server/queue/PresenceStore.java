@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.queue;
+
+import java.util.Collection;
+
+import org.eclipse.leshan.server.registration.Registration;
+
+/**
+ * Stores the awake deadline of each LWM2M client using Queue Mode.
+ * <p>
+ * A client stays awake until its deadline is collected by {@link #pollExpired(long)}, which {@link PresenceServiceImpl}
+ * calls periodically. Implementations must be thread-safe. A shared implementation allows several servers of a cluster
+ * to agree on which clients are awake.
+ *
+ * @see PresenceServiceImpl
+ */
+public interface PresenceStore {
+
+    /**
+     * Set the client as awake until the given deadline.
+     *
+     * @param registration the client's registration.
+     * @param deadline time in milliseconds since epoch when the client goes to sleep, {@link Long#MAX_VALUE} if it
+     *        never does.
+     * @return <code>true</code> if the client was not awake.
+     */
+    boolean setAwake(Registration registration, long deadline);
+
+    /**
+     * Set the client as sleeping.
+     *
+     * @return <code>true</code> if the client was awake.
+     */
+    boolean setSleeping(String endpoint);
+
+    /**
+     * @return <code>true</code> if the client is awake.
+     */
+    boolean isAwake(String endpoint);
+
+    /**
+     * Remove and return all clients whose deadline is reached.
+     *
+     * @param now current time in milliseconds since epoch.
+     * @return registrations of clients which went to sleep, never <code>null</code>.
+     */
+    Collection<Registration> pollExpired(long now);
+
+    /**
+     * @return <code>true</code> if this store is shared by several servers. Deadlines set by a server can then be
+     *         collected by any of them, so {@link PresenceServiceImpl} polls expired deadlines as soon as it is
+     *         created.
+     */
+    default boolean isShared() {
+        return false;
+    }
+}
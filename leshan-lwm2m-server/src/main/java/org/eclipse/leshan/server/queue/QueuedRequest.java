@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.queue;
+
+import org.eclipse.leshan.core.request.DownlinkDeviceManagementRequest;
+import org.eclipse.leshan.core.util.Validate;
+
+/**
+ * A request waiting in a {@link DownlinkRequestQueue} until its destination client wakes up.
+ */
+public class QueuedRequest {
+
+    private final String id;
+    private final String endpoint;
+    private final DownlinkDeviceManagementRequest<?> request;
+    private final long timeoutInMs;
+    private final long creationTime;
+    private final long expirationTime;
+
+    /**
+     * @param id identifier of this queued request, unique for all endpoints.
+     * @param endpoint endpoint name of the destination client.
+     * @param request the request to send.
+     * @param timeoutInMs the timeout to use when the request is sent.
+     * @param creationTime time in milliseconds since epoch when this request was queued.
+     * @param expirationTime time in milliseconds since epoch after which this request must not be sent.
+     */
+    public QueuedRequest(String id, String endpoint, DownlinkDeviceManagementRequest<?> request, long timeoutInMs,
+            long creationTime, long expirationTime) {
+        Validate.notNull(id);
+        Validate.notNull(endpoint);
+        Validate.notNull(request);
+        this.id = id;
+        this.endpoint = endpoint;
+        this.request = request;
+        this.timeoutInMs = timeoutInMs;
+        this.creationTime = creationTime;
+        this.expirationTime = expirationTime;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public DownlinkDeviceManagementRequest<?> getRequest() {
+        return request;
+    }
+
+    public long getTimeoutInMs() {
+        return timeoutInMs;
+    }
+
+    public long getCreationTime() {
+        return creationTime;
+    }
+
+    public long getExpirationTime() {
+        return expirationTime;
+    }
+
+    /**
+     * @param now current time in milliseconds since epoch.
+     * @return <code>true</code> if this request must not be sent anymore.
+     */
+    public boolean isExpired(long now) {
+        return now > expirationTime;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("QueuedRequest [id=%s, endpoint=%s, request=%s, expirationTime=%d]", id, endpoint, request,
+                expirationTime);
+    }
+}
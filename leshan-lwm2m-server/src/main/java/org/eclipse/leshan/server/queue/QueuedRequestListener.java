@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.queue;
+
+import org.eclipse.leshan.core.response.LwM2mResponse;
+import org.eclipse.leshan.server.registration.Registration;
+
+/**
+ * A listener notified of the result of all requests sent by a {@link QueuedRequestSender}.
+ * <p>
+ * Unlike callbacks given to {@link QueuedRequestSender#send}, listeners are also notified for requests queued before a
+ * server restart or by another server sharing the same {@link DownlinkRequestQueue}.
+ * <p>
+ * Those methods are called by the protocol stage thread pool or by the {@link QueuedRequestSender} executor, this means
+ * that execution MUST be done in a short delay, if you need to do long time processing use a dedicated thread pool.
+ */
+public interface QueuedRequestListener {
+
+    /**
+     * Called when a response is received for a queued request (successful or error response).
+     */
+    void onResponse(QueuedRequest request, Registration registration, LwM2mResponse response);
+
+    /**
+     * Called when a queued request failed, expired or was removed because its client unregistered.
+     */
+    void onError(QueuedRequest request, Exception error);
+}
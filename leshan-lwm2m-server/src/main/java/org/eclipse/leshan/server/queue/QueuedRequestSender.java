@@ -0,0 +1,502 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.queue;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.Destroyable;
+import org.eclipse.leshan.core.observation.Observation;
+import org.eclipse.leshan.core.request.DownlinkDeviceManagementRequest;
+import org.eclipse.leshan.core.request.exception.ClientSleepingException;
+import org.eclipse.leshan.core.request.exception.RequestCanceledException;
+import org.eclipse.leshan.core.response.ErrorCallback;
+import org.eclipse.leshan.core.response.LwM2mResponse;
+import org.eclipse.leshan.core.response.ResponseCallback;
+import org.eclipse.leshan.core.util.NamedThreadFactory;
+import org.eclipse.leshan.core.util.Validate;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.registration.RegistrationListener;
+import org.eclipse.leshan.server.registration.RegistrationUpdate;
+import org.eclipse.leshan.server.request.DownlinkRequestSender;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends requests to clients using Queue Mode without requiring them to be awake.
+ * <p>
+ * Requests are stored in a {@link DownlinkRequestQueue}. When a client wakes up (it registers, updates its
+ * registration, sends data, ...), its queued requests are sent one by one, in order, until the queue is empty, the
+ * client goes back to sleep or the maximum number of requests sent per wake-up is reached. Requests which are not sent
+ * before their expiration time are dropped, even if the client never wakes up.
+ * <p>
+ * Requests to clients which do not use Queue Mode are sent immediately.
+ */
+public class QueuedRequestSender implements PresenceListener, RegistrationListener, Destroyable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(QueuedRequestSender.class);
+
+    /**
+     * The default maximum number of queued requests sent to a client each time it wakes up.
+     */
+    public static final int DEFAULT_MAX_REQUESTS_PER_WAKE_UP = 10;
+
+    /**
+     * The default time in milliseconds a request can stay in the queue : 24 hours.
+     */
+    public static final long DEFAULT_EXPIRATION = 24 * 60 * 60 * 1000l;
+
+    private static final long DEFAULT_TIMEOUT = 2 * 60 * 1000l; // 2min in ms
+    private static final long CLEANING_PERIOD = 60 * 1000l; // 1min in ms
+
+    private final PresenceServiceImpl presenceService;
+    private final DownlinkRequestSender requestSender;
+    private final DownlinkRequestQueue queue;
+    private final int maxRequestsPerWakeUp;
+    private final ScheduledExecutorService executor;
+
+    // drain state by endpoint
+    private final ConcurrentMap<String, Drain> drains = new ConcurrentHashMap<>();
+    // callbacks of requests queued by this server, by queued request id
+    private final ConcurrentMap<String, Callbacks> callbacks = new ConcurrentHashMap<>();
+    private final List<QueuedRequestListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param presenceService the service tracking which clients are awake.
+     * @param requestSender the sender used to send requests.
+     * @param queue the queue storing requests until clients wake up.
+     * @param maxRequestsPerWakeUp the maximum number of queued requests sent to a client each time it wakes up.
+     */
+    public QueuedRequestSender(PresenceServiceImpl presenceService, DownlinkRequestSender requestSender,
+            DownlinkRequestQueue queue, int maxRequestsPerWakeUp) {
+        this(presenceService, requestSender, queue, maxRequestsPerWakeUp,
+                Executors.newScheduledThreadPool(1, new NamedThreadFactory("Leshan Queued Request Sender")));
+    }
+
+    protected QueuedRequestSender(PresenceServiceImpl presenceService, DownlinkRequestSender requestSender,
+            DownlinkRequestQueue queue, int maxRequestsPerWakeUp, ScheduledExecutorService executor) {
+        Validate.notNull(presenceService);
+        Validate.notNull(requestSender);
+        Validate.notNull(queue);
+        Validate.isTrue(maxRequestsPerWakeUp > 0, "maxRequestsPerWakeUp must be strictly positive");
+        this.presenceService = presenceService;
+        this.requestSender = requestSender;
+        this.queue = queue;
+        this.maxRequestsPerWakeUp = maxRequestsPerWakeUp;
+        this.executor = executor;
+        this.executor.scheduleAtFixedRate(this::removeExpiredRequests, CLEANING_PERIOD, CLEANING_PERIOD,
+                TimeUnit.MILLISECONDS);
+    }
+
+    public void addListener(QueuedRequestListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(QueuedRequestListener listener) {
+        listeners.remove(listener);
+    }
+
+    public DownlinkRequestQueue getQueue() {
+        return queue;
+    }
+
+    /**
+     * Queue a request using a default 2min timeout and a default 24h expiration.
+     *
+     * @see #send(Registration, DownlinkDeviceManagementRequest, long, long, ResponseCallback, ErrorCallback)
+     */
+    public <T extends LwM2mResponse> QueuedRequest send(Registration destination,
+            DownlinkDeviceManagementRequest<T> request, ResponseCallback<T> responseCallback,
+            ErrorCallback errorCallback) {
+        return send(destination, request, DEFAULT_TIMEOUT, DEFAULT_EXPIRATION, responseCallback, errorCallback);
+    }
+
+    /**
+     * Queue a request for a client using Queue Mode. The request is sent as soon as the client is awake and all
+     * requests queued before for this client are sent. If the client does not use Queue Mode, the request is sent
+     * immediately.
+     * <p>
+     * Callbacks are only called by this server : if the request is sent after a server restart or by another server
+     * sharing the same {@link DownlinkRequestQueue}, only {@link QueuedRequestListener}s are notified.
+     *
+     * @param destination The {@link Registration} associate to the device we want to sent the request.
+     * @param request The request to send to the client.
+     * @param timeoutInMs The global timeout to wait in milliseconds once the request is sent (see
+     *        https://github.com/eclipse/leshan/wiki/Request-Timeout)
+     * @param expirationInMs The maximum time in milliseconds the request can wait in the queue. Once expired, the
+     *        request is dropped and the error callback is called with a {@link RequestCanceledException}.
+     * @param responseCallback a callback called when a response is received (successful or error response). This
+     *        callback MUST NOT be null.
+     * @param errorCallback a callback called when an error occurred, see {@link DownlinkRequestSender}. It is also
+     *        called with a {@link RequestCanceledException} if the request expires or if the client unregisters. This
+     *        callback MUST NOT be null.
+     * @return the queued request, or <code>null</code> if the client does not use Queue Mode.
+     * @throws ClientSleepingException if the queue of this client is full.
+     */
+    public <T extends LwM2mResponse> QueuedRequest send(Registration destination,
+            DownlinkDeviceManagementRequest<T> request, long timeoutInMs, long expirationInMs,
+            ResponseCallback<T> responseCallback, ErrorCallback errorCallback) {
+        Validate.notNull(destination);
+        Validate.notNull(request);
+        Validate.notNull(responseCallback);
+        Validate.notNull(errorCallback);
+
+        // If the client does not use Q-Mode, just send
+        if (!destination.usesQueueMode()) {
+            requestSender.send(destination, request, null, timeoutInMs, responseCallback, errorCallback);
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        QueuedRequest queuedRequest = new QueuedRequest(UUID.randomUUID().toString(), destination.getEndpoint(),
+                request, timeoutInMs, now, now + expirationInMs);
+        @SuppressWarnings("unchecked")
+        ResponseCallback<LwM2mResponse> callback = (ResponseCallback<LwM2mResponse>) responseCallback;
+        callbacks.put(queuedRequest.getId(), new Callbacks(callback, errorCallback, destination.getEndpoint(),
+                queuedRequest.getExpirationTime(), queuedRequest.getExpirationTime() + timeoutInMs));
+
+        boolean added;
+        try {
+            added = queue.add(queuedRequest);
+            // expired requests must not keep the queue full, they are otherwise removed by periodic cleaning
+            if (!added && removeExpired(destination.getEndpoint(), now) > 0) {
+                added = queue.add(queuedRequest);
+            }
+        } catch (RuntimeException e) {
+            callbacks.remove(queuedRequest.getId());
+            throw e;
+        }
+        if (!added) {
+            callbacks.remove(queuedRequest.getId());
+            throw new ClientSleepingException("The queue of client %s is full, request cannot be queued.",
+                    destination.getEndpoint());
+        }
+
+        // If the client is awake, send it now (or after requests queued before)
+        if (presenceService.isClientAwake(destination)) {
+            start(drains.computeIfAbsent(destination.getEndpoint(),
+                    ep -> new Drain(destination, maxRequestsPerWakeUp)));
+        }
+        return queuedRequest;
+    }
+
+    // ********** Drain queue **********//
+
+    private static class Drain {
+        final String endpoint;
+        // guarded by this
+        Registration registration;
+        int budget;
+        boolean running = false;
+
+        Drain(Registration registration, int budget) {
+            this.endpoint = registration.getEndpoint();
+            this.registration = registration;
+            this.budget = budget;
+        }
+    }
+
+    private void start(Drain drain) {
+        synchronized (drain) {
+            if (drain.running || drain.budget <= 0) {
+                return;
+            }
+            drain.running = true;
+        }
+        next(drain);
+    }
+
+    private void next(Drain drain) {
+        try {
+            executor.execute(() -> sendNext(drain));
+        } catch (RejectedExecutionException e) {
+            // sender is destroyed
+            synchronized (drain) {
+                drain.running = false;
+            }
+        }
+    }
+
+    private void stop(Drain drain) {
+        Registration registration;
+        synchronized (drain) {
+            drain.running = false;
+            registration = drain.registration;
+        }
+        // A request could have been queued while we were stopping
+        if (presenceService.isClientAwake(registration) && queue.size(drain.endpoint) > 0) {
+            start(drain);
+        }
+    }
+
+    private void sendNext(Drain drain) {
+        while (true) {
+            Registration registration;
+            synchronized (drain) {
+                registration = drain.registration;
+                if (drain.budget <= 0) {
+                    drain.running = false;
+                    return;
+                }
+            }
+            if (!presenceService.isClientAwake(registration)) {
+                synchronized (drain) {
+                    drain.running = false;
+                }
+                return;
+            }
+
+            QueuedRequest queuedRequest;
+            try {
+                queuedRequest = queue.poll(drain.endpoint);
+            } catch (RuntimeException e) {
+                LOG.warn("Unable to get queued request of client {}", drain.endpoint, e);
+                synchronized (drain) {
+                    drain.running = false;
+                }
+                return;
+            }
+            if (queuedRequest == null) {
+                stop(drain);
+                return;
+            }
+            if (queuedRequest.isExpired(System.currentTimeMillis())) {
+                onError(queuedRequest,
+                        new RequestCanceledException("Request expired before client %s woke up", drain.endpoint));
+                continue;
+            }
+
+            synchronized (drain) {
+                drain.budget--;
+            }
+            send(drain, registration, queuedRequest);
+            return;
+        }
+    }
+
+    private void send(Drain drain, Registration registration, QueuedRequest queuedRequest) {
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        DownlinkDeviceManagementRequest<LwM2mResponse> request = (DownlinkDeviceManagementRequest) queuedRequest
+                .getRequest();
+        try {
+            requestSender.send(registration, request, null, queuedRequest.getTimeoutInMs(), response -> {
+                onResponse(queuedRequest, registration, response);
+                next(drain);
+            }, error -> {
+                onError(queuedRequest, error);
+                next(drain);
+            });
+        } catch (ClientSleepingException e) {
+            // client went to sleep just before we sent the request, keep it for next wake-up
+            queue.addFirst(queuedRequest);
+            synchronized (drain) {
+                drain.budget++;
+            }
+            stop(drain);
+        } catch (RuntimeException e) {
+            onError(queuedRequest, e);
+            next(drain);
+        }
+    }
+
+    private void onResponse(QueuedRequest queuedRequest, Registration registration, LwM2mResponse response) {
+        Callbacks requestCallbacks = callbacks.remove(queuedRequest.getId());
+        if (requestCallbacks != null) {
+            try {
+                requestCallbacks.responseCallback.onResponse(response);
+            } catch (RuntimeException e) {
+                LOG.error("Unexpected error in response callback of {}", queuedRequest, e);
+            }
+        }
+        for (QueuedRequestListener listener : listeners) {
+            try {
+                listener.onResponse(queuedRequest, registration, response);
+            } catch (RuntimeException e) {
+                LOG.error("Unexpected error in queued request listener {}", listener, e);
+            }
+        }
+    }
+
+    private void onError(QueuedRequest queuedRequest, Exception error) {
+        Callbacks requestCallbacks = callbacks.remove(queuedRequest.getId());
+        if (requestCallbacks != null) {
+            try {
+                requestCallbacks.errorCallback.onError(error);
+            } catch (RuntimeException e) {
+                LOG.error("Unexpected error in error callback of {}", queuedRequest, e);
+            }
+        }
+        for (QueuedRequestListener listener : listeners) {
+            try {
+                listener.onError(queuedRequest, error);
+            } catch (RuntimeException e) {
+                LOG.error("Unexpected error in queued request listener {}", listener, e);
+            }
+        }
+    }
+
+    // ********** Callbacks **********//
+
+    private static class Callbacks {
+        final ResponseCallback<LwM2mResponse> responseCallback;
+        final ErrorCallback errorCallback;
+        final String endpoint;
+        final long expirationTime;
+        final long deadline;
+
+        Callbacks(ResponseCallback<LwM2mResponse> responseCallback, ErrorCallback errorCallback, String endpoint,
+                long expirationTime, long deadline) {
+            this.responseCallback = responseCallback;
+            this.errorCallback = errorCallback;
+            this.endpoint = endpoint;
+            this.expirationTime = expirationTime;
+            this.deadline = deadline;
+        }
+    }
+
+    /**
+     * Remove expired requests of clients which did not wake up in time and report them as canceled.
+     * <p>
+     * Callbacks still waiting after their deadline belong to requests which were sent or removed by another server
+     * sharing the same {@link DownlinkRequestQueue} : they are also reported as canceled.
+     */
+    void removeExpiredRequests() {
+        long now = System.currentTimeMillis();
+
+        Set<String> endpoints = new HashSet<>();
+        for (Callbacks requestCallbacks : callbacks.values()) {
+            if (now > requestCallbacks.expirationTime) {
+                endpoints.add(requestCallbacks.endpoint);
+            }
+        }
+        for (String endpoint : endpoints) {
+            removeExpired(endpoint, now);
+        }
+
+        for (Iterator<Map.Entry<String, Callbacks>> it = callbacks.entrySet().iterator(); it.hasNext();) {
+            Map.Entry<String, Callbacks> entry = it.next();
+            Callbacks requestCallbacks = entry.getValue();
+            if (now > requestCallbacks.deadline && callbacks.remove(entry.getKey(), requestCallbacks)) {
+                try {
+                    requestCallbacks.errorCallback.onError(new RequestCanceledException(
+                            "Request %s to client %s expired or was handled by another server", entry.getKey(),
+                            requestCallbacks.endpoint));
+                } catch (RuntimeException e) {
+                    LOG.error("Unexpected error in error callback of request {}", entry.getKey(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of removed requests.
+     */
+    private int removeExpired(String endpoint, long now) {
+        List<QueuedRequest> expired;
+        try {
+            expired = queue.removeExpired(endpoint, now);
+        } catch (RuntimeException e) {
+            LOG.warn("Unable to remove expired queued requests of client {}", endpoint, e);
+            return 0;
+        }
+        for (QueuedRequest queuedRequest : expired) {
+            onError(queuedRequest, new RequestCanceledException("Request expired before client %s woke up", endpoint));
+        }
+        return expired.size();
+    }
+
+    // ********** Presence and registration events **********//
+
+    @Override
+    public void onAwake(Registration registration) {
+        Drain drain = drains.computeIfAbsent(registration.getEndpoint(),
+                ep -> new Drain(registration, maxRequestsPerWakeUp));
+        synchronized (drain) {
+            drain.registration = registration;
+            drain.budget = maxRequestsPerWakeUp;
+        }
+        start(drain);
+    }
+
+    @Override
+    public void onSleeping(Registration registration) {
+        // drain stops by itself once client is sleeping
+    }
+
+    @Override
+    public void registered(Registration registration, Registration previousReg,
+            Collection<Observation> previousObservations) {
+        refresh(registration);
+    }
+
+    @Override
+    public void updated(RegistrationUpdate update, Registration updatedReg, Registration previousReg) {
+        refresh(updatedReg);
+    }
+
+    private void refresh(Registration registration) {
+        Drain drain = drains.get(registration.getEndpoint());
+        if (drain != null) {
+            synchronized (drain) {
+                drain.registration = registration;
+            }
+        }
+    }
+
+    @Override
+    public void unregistered(Registration registration, Collection<Observation> observations, boolean expired,
+            Registration newReg) {
+        if (newReg != null) {
+            // registration is replaced by a new one, keep queued requests
+            return;
+        }
+        drains.remove(registration.getEndpoint());
+        List<QueuedRequest> removed;
+        try {
+            removed = queue.removeAll(registration.getEndpoint());
+        } catch (RuntimeException e) {
+            LOG.warn("Unable to remove queued requests of client {}", registration.getEndpoint(), e);
+            return;
+        }
+        for (QueuedRequest queuedRequest : removed) {
+            onError(queuedRequest,
+                    new RequestCanceledException("Client %s is unregistered", registration.getEndpoint()));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            LOG.warn("Destroying queued request sender was interrupted.", e);
+            Thread.currentThread().interrupt();
+        }
+    }
+}
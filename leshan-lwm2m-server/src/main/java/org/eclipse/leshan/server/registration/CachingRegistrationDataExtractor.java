@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.registration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.leshan.core.LwM2m.LwM2mVersion;
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.link.lwm2m.CachingLwM2mLinkParser;
+import org.eclipse.leshan.core.util.Validate;
+
+/**
+ * A {@link RegistrationDataExtractor} which keeps extracted {@link RegistrationData} in a bounded cache.
+ * <p>
+ * Entries are indexed by {@link Link} array <strong>instance</strong> and {@link LwM2mVersion}, so this cache is only
+ * useful when identical object links share the same array, e.g. when they are parsed by a
+ * {@link CachingLwM2mLinkParser}. In this case, all registrations of a same device model also share the same supported
+ * objects, content formats and available instances collections.
+ * <p>
+ * Returned {@link RegistrationData} are shared and their collections are unmodifiable, so they must not be modified.
+ */
+public class CachingRegistrationDataExtractor implements RegistrationDataExtractor {
+
+    private static final class LinksKey {
+        private final Link[] objectLinks;
+        private final LwM2mVersion lwM2mVersion;
+
+        LinksKey(Link[] objectLinks, LwM2mVersion lwM2mVersion) {
+            this.objectLinks = objectLinks;
+            this.lwM2mVersion = lwM2mVersion;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof LinksKey))
+                return false;
+            LinksKey that = (LinksKey) o;
+            return objectLinks == that.objectLinks && lwM2mVersion.equals(that.lwM2mVersion);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(objectLinks) + lwM2mVersion.hashCode();
+        }
+    }
+
+    private final RegistrationDataExtractor delegate;
+
+    // guarded by itself
+    private final Map<LinksKey, RegistrationData> cache;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Create a cache of 1000 entries using a {@link DefaultRegistrationDataExtractor}.
+     */
+    public CachingRegistrationDataExtractor() {
+        this(new DefaultRegistrationDataExtractor(), 1000);
+    }
+
+    /**
+     * @param delegate the extractor used on cache miss.
+     * @param maxSize maximum number of cached entries.
+     */
+    public CachingRegistrationDataExtractor(RegistrationDataExtractor delegate, final int maxSize) {
+        Validate.notNull(delegate, "delegate cannot be null");
+        Validate.isTrue(maxSize > 0, "maxSize must be strictly positive");
+        this.delegate = delegate;
+        this.cache = new LinkedHashMap<LinksKey, RegistrationData>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<LinksKey, RegistrationData> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public RegistrationData extractDataFromObjectLinks(Link[] objectLinks, LwM2mVersion lwM2mVersion) {
+        if (objectLinks == null) {
+            return delegate.extractDataFromObjectLinks(objectLinks, lwM2mVersion);
+        }
+
+        LinksKey key = new LinksKey(objectLinks, lwM2mVersion);
+        RegistrationData data;
+        synchronized (cache) {
+            data = cache.get(key);
+        }
+        if (data != null) {
+            hits.increment();
+            return data;
+        }
+        misses.increment();
+
+        data = delegate.extractDataFromObjectLinks(objectLinks, lwM2mVersion);
+        if (data == null) {
+            return null;
+        }
+        data = toUnmodifiable(data);
+        synchronized (cache) {
+            RegistrationData previous = cache.get(key);
+            if (previous != null) {
+                return previous;
+            }
+            cache.put(key, data);
+        }
+        return data;
+    }
+
+    /**
+     * Create a copy of given data with immutable collections, which {@link Registration.Builder} does not need to copy
+     * again.
+     */
+    protected RegistrationData toUnmodifiable(RegistrationData data) {
+        RegistrationData copy = new RegistrationData();
+        copy.setAlternatePath(data.getAlternatePath());
+        if (data.getSupportedContentFormats() != null) {
+            copy.setSupportedContentFormats(SharedCollections.shareSet(data.getSupportedContentFormats()));
+        }
+        if (data.getSupportedObjects() != null) {
+            copy.setSupportedObjects(SharedCollections.shareMap(data.getSupportedObjects()));
+        }
+        if (data.getAvailableInstances() != null) {
+            copy.setAvailableInstances(SharedCollections.shareSortedSet(data.getAvailableInstances()));
+        }
+        return copy;
+    }
+
+    /**
+     * @return the number of cached entries.
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * @return the number of extractions avoided thanks to the cache.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of extractions which were not in the cache.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+}
@@ -0,0 +1,502 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.registration;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.leshan.core.Destroyable;
+import org.eclipse.leshan.core.Startable;
+import org.eclipse.leshan.core.Stoppable;
+import org.eclipse.leshan.core.observation.CompositeObservation;
+import org.eclipse.leshan.core.observation.Observation;
+import org.eclipse.leshan.core.observation.ObservationIdentifier;
+import org.eclipse.leshan.core.observation.SingleObservation;
+import org.eclipse.leshan.core.peer.LwM2mIdentity;
+import org.eclipse.leshan.core.util.NamedThreadFactory;
+import org.eclipse.leshan.core.util.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An in memory store for registration and observation designed for servers handling a large number of clients.
+ * <p>
+ * Unlike {@link InMemoryRegistrationStore} which guards all its data with one global lock, this store keeps its data in
+ * {@link ConcurrentHashMap}s and serializes modifications per endpoint using a fixed set of striped locks :
+ * <ul>
+ * <li>lookups ({@code getRegistration*}, {@code getObservation*}) never block,</li>
+ * <li>modifications for different endpoints run in parallel,</li>
+ * <li>modifications for a given endpoint (registration, update, de-registration and its observations) are still
+ * serialized, so secondary indexes (by registration id, address and identity) stay consistent.</li>
+ * </ul>
+ * A lookup running concurrently to a modification of the same endpoint may see either the previous or the new
+ * registration.
+ */
+public class ConcurrentInMemoryRegistrationStore implements RegistrationStore, Startable, Stoppable, Destroyable {
+    private static final Logger LOG = LoggerFactory.getLogger(ConcurrentInMemoryRegistrationStore.class);
+
+    /**
+     * The default number of locks used to serialize modifications.
+     */
+    public static final int DEFAULT_CONCURRENCY_LEVEL = 256;
+
+    // Data structure
+    private final ConcurrentMap<String /* end-point */, Registration> regsByEp = new ConcurrentHashMap<>();
+    private final ConcurrentMap<InetSocketAddress, Registration> regsByAddr = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String /* reg-id */, Registration> regsByRegId = new ConcurrentHashMap<>();
+    private final ConcurrentMap<LwM2mIdentity, Registration> regsByIdentity = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ObservationIdentifier, Observation> obsByToken = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String /* reg-id */, Set<ObservationIdentifier>> tokensByRegId = new ConcurrentHashMap<>();
+
+    // Locks striped by endpoint
+    private final Lock[] locks;
+    private final int lockMask;
+
+    // Listener use to notify when a registration expires
+    private ExpirationListener expirationListener;
+
+    private final ScheduledExecutorService schedExecutor;
+    private ScheduledFuture<?> cleanerTask;
+    private boolean started = false;
+    private final long cleanPeriod; // in seconds
+
+    public ConcurrentInMemoryRegistrationStore() {
+        this(2); // default clean period : 2s
+    }
+
+    public ConcurrentInMemoryRegistrationStore(long cleanPeriodInSec) {
+        this(cleanPeriodInSec, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * @param cleanPeriodInSec period between 2 searches of expired registrations.
+     * @param concurrencyLevel the number of locks used to serialize modifications, rounded up to a power of 2. The
+     *        higher it is, the lower is the probability that 2 different endpoints contend for the same lock.
+     */
+    public ConcurrentInMemoryRegistrationStore(long cleanPeriodInSec, int concurrencyLevel) {
+        this(Executors.newScheduledThreadPool(1,
+                new NamedThreadFactory(
+                        String.format("ConcurrentInMemoryRegistrationStore Cleaner (%ds)", cleanPeriodInSec))),
+                cleanPeriodInSec, concurrencyLevel);
+    }
+
+    public ConcurrentInMemoryRegistrationStore(ScheduledExecutorService schedExecutor, long cleanPeriodInSec,
+            int concurrencyLevel) {
+        Validate.isTrue(concurrencyLevel > 0, "concurrencyLevel must be strictly positive");
+        this.schedExecutor = schedExecutor;
+        this.cleanPeriod = cleanPeriodInSec;
+
+        int size = Integer.highestOneBit(concurrencyLevel);
+        if (size < concurrencyLevel) {
+            size <<= 1;
+        }
+        this.locks = new Lock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.lockMask = size - 1;
+    }
+
+    /* *************** Leshan Registration API **************** */
+
+    @Override
+    public Deregistration addRegistration(Registration registration) {
+        Lock lock = lockFor(registration.getEndpoint());
+        lock.lock();
+        try {
+            Registration registrationRemoved = regsByEp.put(registration.getEndpoint(), registration);
+            regsByRegId.put(registration.getId(), registration);
+            regsByIdentity.put(registration.getClientTransportData().getIdentity(), registration);
+            // If a registration is already associated to this address we don't care as we only want to keep the most
+            // recent binding.
+            regsByAddr.put(registration.getSocketAddress(), registration);
+            if (registrationRemoved != null) {
+                Collection<Observation> observationsRemoved = unsafeRemoveAllObservations(registrationRemoved.getId());
+                if (!registrationRemoved.getSocketAddress().equals(registration.getSocketAddress())) {
+                    regsByAddr.remove(registrationRemoved.getSocketAddress(), registrationRemoved);
+                }
+                if (!registrationRemoved.getId().equals(registration.getId())) {
+                    regsByRegId.remove(registrationRemoved.getId(), registrationRemoved);
+                }
+                if (!registrationRemoved.getClientTransportData().getIdentity()
+                        .equals(registration.getClientTransportData().getIdentity())) {
+                    regsByIdentity.remove(registrationRemoved.getClientTransportData().getIdentity(),
+                            registrationRemoved);
+                }
+                return new Deregistration(registrationRemoved, observationsRemoved);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return null;
+    }
+
+    @Override
+    public UpdatedRegistration updateRegistration(RegistrationUpdate update) {
+        Registration registration = lockRegistration(update.getRegistrationId());
+        if (registration == null) {
+            return null;
+        }
+        try {
+            Registration updatedRegistration = update.update(registration);
+            regsByEp.put(updatedRegistration.getEndpoint(), updatedRegistration);
+            // If registration is already associated to this address we don't care as we only want to keep the most
+            // recent binding.
+            regsByAddr.put(updatedRegistration.getSocketAddress(), updatedRegistration);
+            if (!registration.getSocketAddress().equals(updatedRegistration.getSocketAddress())) {
+                regsByAddr.remove(registration.getSocketAddress(), registration);
+            }
+            regsByIdentity.put(updatedRegistration.getClientTransportData().getIdentity(), updatedRegistration);
+            if (!registration.getClientTransportData().getIdentity()
+                    .equals(updatedRegistration.getClientTransportData().getIdentity())) {
+                regsByIdentity.remove(registration.getClientTransportData().getIdentity(), registration);
+            }
+
+            regsByRegId.put(updatedRegistration.getId(), updatedRegistration);
+
+            return new UpdatedRegistration(registration, updatedRegistration);
+        } finally {
+            unlockRegistration(registration);
+        }
+    }
+
+    @Override
+    public Registration getRegistration(String registrationId) {
+        return regsByRegId.get(registrationId);
+    }
+
+    @Override
+    public Registration getRegistrationByEndpoint(String endpoint) {
+        return regsByEp.get(endpoint);
+    }
+
+    @Override
+    public Registration getRegistrationByAdress(InetSocketAddress address) {
+        return regsByAddr.get(address);
+    }
+
+    @Override
+    public Registration getRegistrationByIdentity(LwM2mIdentity identity) {
+        return regsByIdentity.get(identity);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned iterator is weakly consistent : it does not copy the store and reflects modifications done after its
+     * creation, or not.
+     */
+    @Override
+    public Iterator<Registration> getAllRegistrations() {
+        return Collections.unmodifiableCollection(regsByEp.values()).iterator();
+    }
+
+    @Override
+    public Deregistration removeRegistration(String registrationId) {
+        return removeRegistration(registrationId, false);
+    }
+
+    private Deregistration removeRegistration(String registrationId, boolean onlyIfExpired) {
+        Registration registration = lockRegistration(registrationId);
+        if (registration == null) {
+            return null;
+        }
+        try {
+            if (onlyIfExpired && registration.isAlive()) {
+                // registration was updated since we detect it expired
+                return null;
+            }
+            Collection<Observation> observationsRemoved = unsafeRemoveAllObservations(registration.getId());
+            regsByEp.remove(registration.getEndpoint(), registration);
+            regsByAddr.remove(registration.getSocketAddress(), registration);
+            regsByRegId.remove(registration.getId(), registration);
+            regsByIdentity.remove(registration.getClientTransportData().getIdentity(), registration);
+            return new Deregistration(registration, observationsRemoved);
+        } finally {
+            unlockRegistration(registration);
+        }
+    }
+
+    /* *************** Leshan Observation API **************** */
+
+    @Override
+    public Collection<Observation> addObservation(String registrationId, Observation observation, boolean addIfAbsent) {
+        Registration registration = lockRegistration(registrationId);
+        if (registration == null) {
+            throw new IllegalStateException(String.format(
+                    "can not add observation %s there is no registration with id %s", observation, registrationId));
+        }
+
+        List<Observation> removed = new ArrayList<>();
+        try {
+            Observation previousObservation;
+            ObservationIdentifier id = observation.getId();
+
+            if (addIfAbsent) {
+                previousObservation = obsByToken.putIfAbsent(id, observation);
+            } else {
+                previousObservation = obsByToken.put(id, observation);
+            }
+            tokensByRegId.computeIfAbsent(registrationId, k -> ConcurrentHashMap.newKeySet()).add(id);
+
+            // log any collisions
+            if (previousObservation != null) {
+                removed.add(previousObservation);
+                LOG.warn("Token collision ? observation [{}] will be replaced by observation [{}] ",
+                        previousObservation, observation);
+            }
+
+            // cancel existing observations for the same path and registration id.
+            for (Observation obs : unsafeGetObservations(registrationId)) {
+                if (areTheSamePaths(observation, obs) && !observation.getId().equals(obs.getId())) {
+                    unsafeRemoveObservation(obs.getId());
+                    removed.add(obs);
+                }
+            }
+        } finally {
+            unlockRegistration(registration);
+        }
+
+        return removed;
+    }
+
+    private boolean areTheSamePaths(Observation observation, Observation obs) {
+        if (observation instanceof SingleObservation && obs instanceof SingleObservation) {
+            return ((SingleObservation) observation).getPath().equals(((SingleObservation) obs).getPath());
+        }
+        if (observation instanceof CompositeObservation && obs instanceof CompositeObservation) {
+            return ((CompositeObservation) observation).getPaths().equals(((CompositeObservation) obs).getPaths());
+        }
+        return false;
+    }
+
+    @Override
+    public Observation removeObservation(String registrationId, ObservationIdentifier observationId) {
+        Registration registration = lockRegistration(registrationId);
+        if (registration == null) {
+            // observations are always removed with their registration
+            return null;
+        }
+        try {
+            Observation observation = obsByToken.get(observationId);
+            if (observation != null && registrationId.equals(observation.getRegistrationId())) {
+                unsafeRemoveObservation(observationId);
+                return observation;
+            }
+            return null;
+        } finally {
+            unlockRegistration(registration);
+        }
+    }
+
+    @Override
+    public Observation getObservation(String registrationId, ObservationIdentifier observationId) {
+        Observation observation = obsByToken.get(observationId);
+        if (observation != null && registrationId.equals(observation.getRegistrationId())) {
+            return observation;
+        }
+        return null;
+    }
+
+    @Override
+    public Observation getObservation(ObservationIdentifier observationId) {
+        return obsByToken.get(observationId);
+    }
+
+    @Override
+    public Collection<Observation> getObservations(String registrationId) {
+        return unsafeGetObservations(registrationId);
+    }
+
+    @Override
+    public Collection<Observation> removeObservations(String registrationId) {
+        Registration registration = lockRegistration(registrationId);
+        if (registration == null) {
+            // observations are always removed with their registration
+            return Collections.emptyList();
+        }
+        try {
+            return unsafeRemoveAllObservations(registrationId);
+        } finally {
+            unlockRegistration(registration);
+        }
+    }
+
+    /* *************** Locking utility functions **************** */
+
+    private Lock lockFor(String endpoint) {
+        int h = endpoint.hashCode();
+        // spread higher bits, as String hash codes of similar endpoint names mostly differ in lower bits
+        h ^= (h >>> 16);
+        return locks[h & lockMask];
+    }
+
+    /**
+     * Acquire the lock of the registration with given id.
+     *
+     * @return the registration currently stored (lock is held) or <code>null</code> if there is no registration for
+     *         this id (no lock is held).
+     */
+    private Registration lockRegistration(String registrationId) {
+        Registration registration = regsByRegId.get(registrationId);
+        if (registration == null) {
+            return null;
+        }
+        // registration id is always bound to the same endpoint, so we just need to check registration was not removed
+        // or modified before we get the lock.
+        Lock lock = lockFor(registration.getEndpoint());
+        lock.lock();
+        Registration current = regsByRegId.get(registrationId);
+        if (current == null) {
+            lock.unlock();
+        }
+        return current;
+    }
+
+    private void unlockRegistration(Registration registration) {
+        lockFor(registration.getEndpoint()).unlock();
+    }
+
+    /* *************** Observation utility functions **************** */
+
+    private void unsafeRemoveObservation(ObservationIdentifier observationId) {
+        Observation removed = obsByToken.remove(observationId);
+
+        if (removed != null) {
+            String registrationId = removed.getRegistrationId();
+            Set<ObservationIdentifier> tokens = tokensByRegId.get(registrationId);
+            if (tokens != null) {
+                tokens.remove(observationId);
+                if (tokens.isEmpty()) {
+                    tokensByRegId.remove(registrationId, tokens);
+                }
+            }
+        }
+    }
+
+    private Collection<Observation> unsafeRemoveAllObservations(String registrationId) {
+        Collection<Observation> removed = new ArrayList<>();
+        Set<ObservationIdentifier> ids = tokensByRegId.remove(registrationId);
+        if (ids != null) {
+            for (ObservationIdentifier id : ids) {
+                Observation observation = obsByToken.get(id);
+                // in case of token collision, observation could now belong to another registration.
+                if (observation != null && registrationId.equals(observation.getRegistrationId())
+                        && obsByToken.remove(id, observation)) {
+                    removed.add(observation);
+                }
+            }
+        }
+        return removed;
+    }
+
+    private Collection<Observation> unsafeGetObservations(String registrationId) {
+        Collection<Observation> result = new ArrayList<>();
+        Set<ObservationIdentifier> ids = tokensByRegId.get(registrationId);
+        if (ids != null) {
+            for (ObservationIdentifier id : ids) {
+                Observation obs = obsByToken.get(id);
+                if (obs != null && registrationId.equals(obs.getRegistrationId())) {
+                    result.add(obs);
+                }
+            }
+        }
+        return result;
+    }
+
+    /* *************** Expiration handling **************** */
+
+    @Override
+    public void setExpirationListener(ExpirationListener listener) {
+        this.expirationListener = listener;
+    }
+
+    /**
+     * start the registration store, will start regular cleanup of dead registrations.
+     */
+    @Override
+    public synchronized void start() {
+        if (!started) {
+            started = true;
+            cleanerTask = schedExecutor.scheduleAtFixedRate(new Cleaner(), cleanPeriod, cleanPeriod, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Stop the underlying cleanup of the registrations.
+     */
+    @Override
+    public synchronized void stop() {
+        if (started) {
+            started = false;
+            if (cleanerTask != null) {
+                cleanerTask.cancel(false);
+                cleanerTask = null;
+            }
+        }
+    }
+
+    /**
+     * Destroy "cleanup" scheduler.
+     */
+    @Override
+    public synchronized void destroy() {
+        started = false;
+        schedExecutor.shutdownNow();
+        try {
+            schedExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            LOG.warn("Destroying ConcurrentInMemoryRegistrationStore was interrupted.", e);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private class Cleaner implements Runnable {
+
+        @Override
+        public void run() {
+            try {
+                // iterating over a ConcurrentHashMap is safe while it is modified, so no need to copy it.
+                for (Registration reg : regsByEp.values()) {
+                    if (!reg.isAlive()) {
+                        // force de-registration
+                        Deregistration removedRegistration = removeRegistration(reg.getId(), true);
+                        // registration could have been removed or updated concurrently
+                        if (removedRegistration != null && expirationListener != null) {
+                            expirationListener.registrationExpired(removedRegistration.getRegistration(),
+                                    removedRegistration.getObservations());
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                LOG.warn("Unexpected Exception while registration cleaning", e);
+            }
+        }
+    }
+}
@@ -57,6 +57,7 @@ public class InMemoryRegistrationStore implements RegistrationStore, Startable,
     private final Map<LwM2mIdentity, Registration> regsByIdentity = new HashMap<>();
     private final Map<ObservationIdentifier, Observation> obsByToken = new HashMap<>();
     private final Map<String, Set<ObservationIdentifier>> tokensByRegId = new HashMap<>();
+    private final RegistrationExpirationIndex expirationIndex;
 
     private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
@@ -68,6 +69,10 @@ public class InMemoryRegistrationStore implements RegistrationStore, Startable,
     private boolean started = false;
     private final long cleanPeriod; // in seconds
 
+    // Statistics about last cleaning
+    private volatile int lastCleaningExpiredCount = 0;
+    private volatile long lastCleaningDurationInNanos = 0;
+
     public InMemoryRegistrationStore() {
         this(2); // default clean period : 2s
     }
@@ -81,6 +86,9 @@ public class InMemoryRegistrationStore implements RegistrationStore, Startable,
     public InMemoryRegistrationStore(ScheduledExecutorService schedExecutor, long cleanPeriodInSec) {
         this.schedExecutor = schedExecutor;
         this.cleanPeriod = cleanPeriodInSec;
+        // group registrations expiring during the same cleaning period
+        this.expirationIndex = new RegistrationExpirationIndex(
+                TimeUnit.SECONDS.toMillis(Math.max(1, cleanPeriodInSec)));
     }
 
     /* *************** Leshan Registration API **************** */
@@ -96,6 +104,10 @@ public class InMemoryRegistrationStore implements RegistrationStore, Startable,
             // If a registration is already associated to this address we don't care as we only want to keep the most
             // recent binding.
             regsByAddr.put(registration.getSocketAddress(), registration);
+            if (registrationRemoved != null) {
+                expirationIndex.remove(registrationRemoved);
+            }
+            expirationIndex.add(registration);
             if (registrationRemoved != null) {
                 Collection<Observation> observationsRemoved = unsafeRemoveAllObservations(registrationRemoved.getId());
                 if (!registrationRemoved.getSocketAddress().equals(registration.getSocketAddress())) {
@@ -141,6 +153,7 @@ public class InMemoryRegistrationStore implements RegistrationStore, Startable,
                 }
 
                 regsByRegId.put(updatedRegistration.getId(), updatedRegistration);
+                expirationIndex.update(registration, updatedRegistration);
 
                 return new UpdatedRegistration(registration, updatedRegistration);
             }
@@ -211,6 +224,7 @@ public class InMemoryRegistrationStore implements RegistrationStore, Startable,
                 removeFromMap(regsByAddr, registration.getSocketAddress(), registration);
                 removeFromMap(regsByRegId, registration.getId(), registration);
                 removeFromMap(regsByIdentity, registration.getClientTransportData().getIdentity(), registration);
+                expirationIndex.remove(registration);
                 return new Deregistration(registration, observationsRemoved);
             }
             return null;
@@ -219,6 +233,20 @@ public class InMemoryRegistrationStore implements RegistrationStore, Startable,
         }
     }
 
+    private Deregistration removeExpiredRegistration(String registrationId) {
+        try {
+            lock.writeLock().lock();
+
+            Registration registration = regsByRegId.get(registrationId);
+            if (registration != null && !registration.isAlive()) {
+                return removeRegistration(registrationId);
+            }
+            return null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
     /* *************** Leshan Observation API **************** */
 
     @Override
@@ -436,29 +464,54 @@ public class InMemoryRegistrationStore implements RegistrationStore, Startable,
         }
     }
 
+    /**
+     * @return the number of registrations removed because they expired during the last cleaning.
+     */
+    public int getLastCleaningExpiredCount() {
+        return lastCleaningExpiredCount;
+    }
+
+    /**
+     * @return the duration of the last cleaning in nanoseconds.
+     */
+    public long getLastCleaningDurationInNanos() {
+        return lastCleaningDurationInNanos;
+    }
+
     private class Cleaner implements Runnable {
 
         @Override
         public void run() {
+            long start = System.nanoTime();
+            int expiredCount = 0;
             try {
-                Collection<Registration> allRegs = new ArrayList<>();
+                // Only look at registrations which could be expired
+                List<String> candidates;
                 try {
                     lock.readLock().lock();
-                    allRegs.addAll(regsByEp.values());
+                    candidates = expirationIndex.getCandidates(System.currentTimeMillis());
                 } finally {
                     lock.readLock().unlock();
                 }
 
-                for (Registration reg : allRegs) {
-                    if (!reg.isAlive()) {
-                        // force de-registration
-                        Deregistration removedRegistration = removeRegistration(reg.getId());
+                for (String registrationId : candidates) {
+                    // force de-registration
+                    Deregistration removedRegistration = removeExpiredRegistration(registrationId);
+                    if (removedRegistration != null) {
+                        expiredCount++;
                         expirationListener.registrationExpired(removedRegistration.getRegistration(),
                                 removedRegistration.getObservations());
                     }
                 }
             } catch (Exception e) {
                 LOG.warn("Unexpected Exception while registration cleaning", e);
+            } finally {
+                lastCleaningExpiredCount = expiredCount;
+                lastCleaningDurationInNanos = System.nanoTime() - start;
+                if (expiredCount > 0) {
+                    LOG.debug("{} registration(s) expired, cleaning took {}ms", expiredCount,
+                            TimeUnit.NANOSECONDS.toMillis(lastCleaningDurationInNanos));
+                }
             }
         }
     }
@@ -28,7 +28,6 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeSet;
 
 import org.eclipse.leshan.core.LwM2m.LwM2mVersion;
 import org.eclipse.leshan.core.LwM2m.Version;
@@ -176,7 +175,22 @@ public class Registration {
         return null;
     }
 
+    /**
+     * @return a copy of the object links, as the array of this registration may be shared with other registrations (see
+     *         {@link org.eclipse.leshan.core.link.lwm2m.CachingLwM2mLinkParser}).
+     */
     public Link[] getObjectLinks() {
+        if (objectLinks == null) {
+            return null;
+        }
+        return Arrays.copyOf(objectLinks, objectLinks.length);
+    }
+
+    /**
+     * @return the object links of this registration without copy, so they can be shared with an updated registration.
+     *         Returned array must not be modified.
+     */
+    Link[] getSharedObjectLinks() {
         return objectLinks;
     }
 
@@ -548,20 +562,22 @@ public class Registration {
 
             // Make collection immutable
             // We create a new Collection and make it "unmodifiable".
+            // Only immutable copies created by this package (e.g. by CachingRegistrationDataExtractor or by a previous
+            // build) are shared without copy.
             if (supportedContentFormats == null || supportedContentFormats.isEmpty()) {
                 supportedContentFormats = Collections.emptySet();
             } else {
-                supportedContentFormats = Collections.unmodifiableSet(new HashSet<>(supportedContentFormats));
+                supportedContentFormats = SharedCollections.shareSet(supportedContentFormats);
             }
             if (supportedObjects == null || supportedObjects.isEmpty()) {
                 supportedObjects = Collections.emptyMap();
             } else {
-                supportedObjects = Collections.unmodifiableMap(new HashMap<>(supportedObjects));
+                supportedObjects = SharedCollections.shareMap(supportedObjects);
             }
             if (availableInstances == null || availableInstances.isEmpty()) {
                 availableInstances = Collections.emptySet();
             } else {
-                availableInstances = Collections.unmodifiableSet(new TreeSet<>(availableInstances));
+                availableInstances = SharedCollections.shareSortedSet(availableInstances);
             }
             if (additionalRegistrationAttributes == null || additionalRegistrationAttributes.isEmpty()) {
                 additionalRegistrationAttributes = Collections.emptyMap();
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.registration;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.leshan.core.util.Validate;
+
+/**
+ * An index of registration ids sorted by expiration time.
+ * <p>
+ * Registrations are grouped in time buckets (based on {@link Registration#getExpirationTimeStamp()}), so finding
+ * registrations which may be expired only costs the number of registrations expiring in elapsed buckets, instead of
+ * scanning all registrations.
+ * <p>
+ * This class is not thread-safe, caller is responsible to synchronize access.
+ */
+class RegistrationExpirationIndex {
+
+    private final long bucketSizeInMs;
+    private final NavigableMap<Long /* bucket */, Set<String /* reg-id */>> buckets = new TreeMap<>();
+
+    /**
+     * @param bucketSizeInMs the time range covered by a bucket, generally the period between 2 cleanings.
+     */
+    RegistrationExpirationIndex(long bucketSizeInMs) {
+        Validate.isTrue(bucketSizeInMs > 0, "bucketSizeInMs must be strictly positive");
+        this.bucketSizeInMs = bucketSizeInMs;
+    }
+
+    void add(Registration registration) {
+        Long bucket = bucketOf(registration);
+        Set<String> ids = buckets.get(bucket);
+        if (ids == null) {
+            ids = new HashSet<>();
+            buckets.put(bucket, ids);
+        }
+        ids.add(registration.getId());
+    }
+
+    void remove(Registration registration) {
+        Long bucket = bucketOf(registration);
+        Set<String> ids = buckets.get(bucket);
+        if (ids != null) {
+            ids.remove(registration.getId());
+            if (ids.isEmpty()) {
+                buckets.remove(bucket);
+            }
+        }
+    }
+
+    /**
+     * Replace previous entry of a registration by the new one.
+     */
+    void update(Registration previous, Registration updated) {
+        if (!previous.getId().equals(updated.getId()) || bucketOf(previous) != bucketOf(updated)) {
+            remove(previous);
+            add(updated);
+        }
+    }
+
+    /**
+     * Returns ids of registrations which could be expired at the given time. Registrations stay in the index, caller
+     * must check {@link Registration#isAlive()} and call {@link #remove(Registration)} for really expired ones.
+     *
+     * @param timestampInMs the current time in milliseconds.
+     * @return ids of registration expiring before or during the bucket of the given time.
+     */
+    List<String> getCandidates(long timestampInMs) {
+        List<String> candidates = new ArrayList<>();
+        Iterator<Entry<Long, Set<String>>> it = buckets.headMap(bucketOf(timestampInMs), true).entrySet().iterator();
+        while (it.hasNext()) {
+            candidates.addAll(it.next().getValue());
+        }
+        return candidates;
+    }
+
+    private long bucketOf(Registration registration) {
+        return bucketOf(registration.getExpirationTimeStamp());
+    }
+
+    private long bucketOf(long timestampInMs) {
+        return Math.floorDiv(timestampInMs, bucketSizeInMs);
+    }
+}
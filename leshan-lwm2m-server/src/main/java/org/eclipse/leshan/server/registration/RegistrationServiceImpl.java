@@ -18,9 +18,12 @@ package org.eclipse.leshan.server.registration;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.leshan.core.observation.Observation;
+import org.eclipse.leshan.server.event.EventDispatcher;
 
 /**
  * An implementation of {@link RegistrationService}
@@ -28,6 +31,9 @@ import org.eclipse.leshan.core.observation.Observation;
 public class RegistrationServiceImpl implements RegistrationService, ExpirationListener {
 
     private final List<RegistrationListener> listeners = new CopyOnWriteArrayList<>();
+    // listeners added while an event dispatcher is set, mapped to the listener wrapping them
+    private final Map<RegistrationListener, RegistrationListener> asyncListeners = new ConcurrentHashMap<>();
+    private volatile EventDispatcher eventDispatcher;
 
     private RegistrationStore store;
 
@@ -38,12 +44,36 @@ public class RegistrationServiceImpl implements RegistrationService, ExpirationL
 
     @Override
     public void addListener(RegistrationListener listener) {
-        listeners.add(listener);
+        EventDispatcher dispatcher = eventDispatcher;
+        if (dispatcher != null) {
+            // a listener already added is not wrapped again
+            asyncListeners.computeIfAbsent(listener, l -> {
+                RegistrationListener asyncListener = dispatcher.wrap(l);
+                listeners.add(asyncListener);
+                return asyncListener;
+            });
+        } else {
+            listeners.add(listener);
+        }
     }
 
     @Override
     public void removeListener(RegistrationListener listener) {
-        listeners.remove(listener);
+        RegistrationListener asyncListener = asyncListeners.remove(listener);
+        if (asyncListener != null) {
+            listeners.remove(asyncListener);
+            eventDispatcher.release(asyncListener);
+        } else {
+            listeners.remove(listener);
+        }
+    }
+
+    /**
+     * Set the {@link EventDispatcher} used to deliver events to listeners added from now on, so they are not called by
+     * the transport layer thread. Listeners already added keep being called synchronously.
+     */
+    public void setEventDispatcher(EventDispatcher eventDispatcher) {
+        this.eventDispatcher = eventDispatcher;
     }
 
     @Override
@@ -107,7 +107,7 @@ public class RegistrationUpdate {
         EnumSet<BindingMode> bindingMode = this.bindingMode != null ? this.bindingMode : registration.getBindingMode();
         String smsNumber = this.smsNumber != null ? this.smsNumber : registration.getSmsNumber();
 
-        Link[] linkObject = this.objectLinks != null ? this.objectLinks : registration.getObjectLinks();
+        Link[] linkObject = this.objectLinks != null ? this.objectLinks : registration.getSharedObjectLinks();
         String alternatePath = this.alternatePath != null ? this.alternatePath : registration.getRootPath();
         Set<ContentFormat> supportedContentFormats = this.supportedContentFormats != null ? this.supportedContentFormats
                 : registration.getSupportedContentFormats();
@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.registration;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Immutable copies of collections which can be shared between {@link Registration}s without being copied again.
+ * <p>
+ * Unlike {@link Collections#unmodifiableSet(Set)} and co, which are read-only views of a collection still owned by the
+ * caller, collections created here are backed by a private copy. This is why only this package can create them and why
+ * {@link Registration.Builder} only trusts those ones.
+ */
+final class SharedCollections {
+
+    private SharedCollections() {
+    }
+
+    /**
+     * @return an immutable copy of the given set or the given set itself if it is already a shared one.
+     */
+    static <E> Set<E> shareSet(Set<E> set) {
+        if (set instanceof SharedSet) {
+            return set;
+        }
+        return new SharedSet<>(set);
+    }
+
+    /**
+     * @return an immutable sorted copy of the given set or the given set itself if it is already a shared sorted one.
+     */
+    static <E> SortedSet<E> shareSortedSet(Set<E> set) {
+        if (set instanceof SharedSortedSet) {
+            return (SortedSet<E>) set;
+        }
+        return new SharedSortedSet<>(set);
+    }
+
+    /**
+     * @return an immutable copy of the given map or the given map itself if it is already a shared one.
+     */
+    static <K, V> Map<K, V> shareMap(Map<K, V> map) {
+        if (map instanceof SharedMap) {
+            return map;
+        }
+        return new SharedMap<>(map);
+    }
+
+    private static final class SharedSet<E> extends AbstractSet<E> {
+        private final Set<E> delegate;
+
+        SharedSet(Collection<E> content) {
+            this.delegate = Collections.unmodifiableSet(new HashSet<>(content));
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return delegate.iterator();
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return delegate.contains(o);
+        }
+    }
+
+    private static final class SharedSortedSet<E> extends AbstractSet<E> implements SortedSet<E> {
+        private final SortedSet<E> delegate;
+
+        SharedSortedSet(Collection<E> content) {
+            this.delegate = Collections.unmodifiableSortedSet(new TreeSet<>(content));
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return delegate.iterator();
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return delegate.contains(o);
+        }
+
+        @Override
+        public Comparator<? super E> comparator() {
+            return delegate.comparator();
+        }
+
+        @Override
+        public SortedSet<E> subSet(E fromElement, E toElement) {
+            return delegate.subSet(fromElement, toElement);
+        }
+
+        @Override
+        public SortedSet<E> headSet(E toElement) {
+            return delegate.headSet(toElement);
+        }
+
+        @Override
+        public SortedSet<E> tailSet(E fromElement) {
+            return delegate.tailSet(fromElement);
+        }
+
+        @Override
+        public E first() {
+            return delegate.first();
+        }
+
+        @Override
+        public E last() {
+            return delegate.last();
+        }
+    }
+
+    private static final class SharedMap<K, V> extends AbstractMap<K, V> {
+        private final Map<K, V> delegate;
+
+        SharedMap(Map<K, V> content) {
+            this.delegate = Collections.unmodifiableMap(new HashMap<>(content));
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet() {
+            return delegate.entrySet();
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public V get(Object key) {
+            return delegate.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return delegate.containsKey(key);
+        }
+    }
+}
@@ -17,6 +17,7 @@ package org.eclipse.leshan.server.send;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.leshan.core.ResponseCode;
@@ -30,6 +31,7 @@ import org.eclipse.leshan.core.request.UpdateRequest;
 import org.eclipse.leshan.core.request.exception.InvalidRequestException;
 import org.eclipse.leshan.core.response.SendResponse;
 import org.eclipse.leshan.core.response.SendableResponse;
+import org.eclipse.leshan.server.event.EventDispatcher;
 import org.eclipse.leshan.server.registration.Registration;
 import org.eclipse.leshan.server.registration.RegistrationStore;
 import org.eclipse.leshan.server.registration.RegistrationUpdate;
@@ -52,7 +54,10 @@ public class SendHandler implements SendService {
     private final Authorizer authorizer;
     private final boolean updateRegistrationOnSend;
 
-    private final List<SendListener> listeners = new CopyOnWriteArrayList<>();;
+    private final List<SendListener> listeners = new CopyOnWriteArrayList<>();
+    // listeners added while an event dispatcher is set, mapped to the listener wrapping them
+    private final Map<SendListener, SendListener> asyncListeners = new ConcurrentHashMap<>();
+    private volatile EventDispatcher eventDispatcher;
 
     public SendHandler(RegistrationStore registrationStore, Authorizer authorizer, boolean updateRegistrationOnSend) {
         this.registrationStore = registrationStore;
@@ -62,12 +67,36 @@ public class SendHandler implements SendService {
 
     @Override
     public void addListener(SendListener listener) {
-        listeners.add(listener);
+        EventDispatcher dispatcher = eventDispatcher;
+        if (dispatcher != null) {
+            // a listener already added is not wrapped again
+            asyncListeners.computeIfAbsent(listener, l -> {
+                SendListener asyncListener = dispatcher.wrap(l);
+                listeners.add(asyncListener);
+                return asyncListener;
+            });
+        } else {
+            listeners.add(listener);
+        }
     }
 
     @Override
     public void removeListener(SendListener listener) {
-        listeners.remove(listener);
+        SendListener asyncListener = asyncListeners.remove(listener);
+        if (asyncListener != null) {
+            listeners.remove(asyncListener);
+            eventDispatcher.release(asyncListener);
+        } else {
+            listeners.remove(listener);
+        }
+    }
+
+    /**
+     * Set the {@link EventDispatcher} used to deliver events to listeners added from now on, so they are not called by
+     * the transport layer thread. Listeners already added keep being called synchronously.
+     */
+    public void setEventDispatcher(EventDispatcher eventDispatcher) {
+        this.eventDispatcher = eventDispatcher;
     }
 
     public SendableResponse<SendResponse> handleSend(LwM2mPeer sender, Registration registration,
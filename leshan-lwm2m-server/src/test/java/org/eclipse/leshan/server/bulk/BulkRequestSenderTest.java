@@ -0,0 +1,253 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.bulk;
+
+import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.core.request.ExecuteRequest;
+import org.eclipse.leshan.core.request.exception.SendFailedException;
+import org.eclipse.leshan.core.response.ExecuteResponse;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.request.FakeDownlinkRequestSender;
+import org.eclipse.leshan.server.request.FakeDownlinkRequestSender.PendingRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class BulkRequestSenderTest {
+
+    private final FakeDownlinkRequestSender requestSender = new FakeDownlinkRequestSender();
+    private final BulkRequestSender bulkSender = new BulkRequestSender(requestSender);
+    private final RecordingListener listener = new RecordingListener();
+
+    @AfterEach
+    void tearDown() {
+        bulkSender.destroy();
+    }
+
+    private List<Registration> givenRegistrations(int count) {
+        List<Registration> registrations = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            registrations.add(new Registration.Builder("id" + i, "ep" + i,
+                    new IpPeer(new InetSocketAddress("127.0.0.1", 5683 + i)),
+                    uriHandler.createUri("coap://localhost:5683")).build());
+        }
+        return registrations;
+    }
+
+    private BulkRequest.Builder<ExecuteResponse> givenABulkExecute(List<Registration> registrations) {
+        return new BulkRequest.Builder<>(registrations.iterator(), registration -> new ExecuteRequest("/3/0/4"));
+    }
+
+    @Test
+    void in_flight_requests_are_limited_by_window() throws InterruptedException {
+        BulkOperation<ExecuteResponse> operation = bulkSender
+                .send(givenABulkExecute(givenRegistrations(5)).setMaxInFlight(2).build(), listener);
+
+        PendingRequest first = requestSender.next();
+        PendingRequest second = requestSender.next();
+        assertNull(requestSender.pending.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(2, operation.getInFlightCount());
+
+        // a response frees a slot in the window
+        first.succeed();
+        PendingRequest third = requestSender.next();
+        assertNull(requestSender.pending.poll(100, TimeUnit.MILLISECONDS));
+
+        second.succeed();
+        third.fail(new SendFailedException("unreachable"));
+        requestSender.next().succeed();
+        requestSender.next().succeed();
+
+        assertTrue(operation.awaitCompletion(1, TimeUnit.SECONDS));
+        assertEquals(5, operation.getSentCount());
+        assertEquals(4, operation.getResponseCount());
+        assertEquals(1, operation.getErrorCount());
+        assertEquals(4, listener.responses.size());
+        assertEquals(Collections.singletonList("ep2"), listener.errors);
+        assertTrue(listener.completed);
+    }
+
+    @Test
+    void registrations_are_selected_and_skipped() throws InterruptedException {
+        requestSender.autoRespond = true;
+        BulkRequest<ExecuteResponse> request = new BulkRequest.Builder<ExecuteResponse>(
+                givenRegistrations(5).iterator(), registration -> {
+                    switch (registration.getEndpoint()) {
+                    case "ep1":
+                        return null;
+                    case "ep2":
+                        throw new IllegalStateException("unable to create request");
+                    default:
+                        return new ExecuteRequest("/3/0/4");
+                    }
+                }).setSelector(registration -> !registration.getEndpoint().equals("ep0")).build();
+
+        BulkOperation<ExecuteResponse> operation = bulkSender.send(request, listener);
+
+        assertTrue(operation.awaitCompletion(1, TimeUnit.SECONDS));
+        assertEquals(2, operation.getSentCount());
+        assertEquals(1, operation.getSkippedCount());
+        assertEquals(1, operation.getErrorCount());
+        assertEquals(Collections.singletonList("ep2"), listener.errors);
+        assertEquals(2, listener.responses.size());
+    }
+
+    @Test
+    void cancel_stops_sending_new_requests() throws InterruptedException {
+        BulkOperation<ExecuteResponse> operation = bulkSender
+                .send(givenABulkExecute(givenRegistrations(3)).setMaxInFlight(1).build(), listener);
+        PendingRequest first = requestSender.next();
+
+        operation.cancel();
+        assertFalse(operation.awaitCompletion(100, TimeUnit.MILLISECONDS));
+
+        // operation completes once in-flight request is completed
+        first.succeed();
+        assertTrue(operation.awaitCompletion(1, TimeUnit.SECONDS));
+        assertTrue(operation.isCancelled());
+        assertEquals(1, operation.getSentCount());
+        assertNull(requestSender.pending.poll());
+    }
+
+    @Test
+    void rate_is_limited() throws InterruptedException {
+        requestSender.autoRespond = true;
+        long start = System.nanoTime();
+        BulkOperation<ExecuteResponse> operation = bulkSender
+                .send(givenABulkExecute(givenRegistrations(5)).setRequestsPerSecond(20).build(), listener);
+
+        assertTrue(operation.awaitCompletion(5, TimeUnit.SECONDS));
+        // first request is sent immediately then 1 request every 50ms
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(200));
+        assertEquals(5, listener.responses.size());
+    }
+
+    @Test
+    void destroy_completes_operation_waiting_for_rate_limit() throws InterruptedException {
+        requestSender.autoRespond = true;
+        BulkOperation<ExecuteResponse> operation = bulkSender
+                .send(givenABulkExecute(givenRegistrations(5)).setRequestsPerSecond(1).build(), listener);
+        // first request is sent immediately, next one waits for a token
+        assertFalse(operation.awaitCompletion(100, TimeUnit.MILLISECONDS));
+
+        bulkSender.destroy();
+
+        assertTrue(operation.awaitCompletion(1, TimeUnit.SECONDS));
+        assertTrue(operation.isCancelled());
+        assertTrue(listener.completed);
+        assertEquals(1, operation.getSentCount());
+    }
+
+    @Test
+    void destroy_completes_operation_once_in_flight_requests_are_completed() throws InterruptedException {
+        BulkOperation<ExecuteResponse> operation = bulkSender
+                .send(givenABulkExecute(givenRegistrations(3)).setMaxInFlight(1).build(), listener);
+        PendingRequest first = requestSender.next();
+
+        bulkSender.destroy();
+        assertFalse(operation.awaitCompletion(100, TimeUnit.MILLISECONDS));
+
+        first.succeed();
+        assertTrue(operation.awaitCompletion(1, TimeUnit.SECONDS));
+        assertTrue(listener.completed);
+        assertEquals(1, operation.getSentCount());
+        assertNull(requestSender.pending.poll());
+    }
+
+    @Test
+    void operation_sent_after_destroy_is_completed() throws InterruptedException {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            // scheduler is not owned by the sender, so it still accepts tasks after destroy
+            BulkRequestSender sender = new BulkRequestSender(requestSender, scheduler);
+            sender.destroy();
+
+            BulkOperation<ExecuteResponse> operation = sender.send(givenABulkExecute(givenRegistrations(3)).build(),
+                    listener);
+
+            assertTrue(operation.awaitCompletion(1, TimeUnit.SECONDS));
+            assertTrue(operation.isCancelled());
+            assertNull(requestSender.pending.poll(100, TimeUnit.MILLISECONDS));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void requests_are_sent_without_holding_operation_lock() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch unblock = new CountDownLatch(1);
+        requestSender.beforeSend = () -> {
+            sending.countDown();
+            await(unblock);
+        };
+        BulkOperation<ExecuteResponse> operation = bulkSender.send(givenABulkExecute(givenRegistrations(1)).build(),
+                listener);
+        assertTrue(sending.await(1, TimeUnit.SECONDS));
+
+        // operation state is still accessible while request sender is blocked
+        CompletableFuture<Integer> inFlight = CompletableFuture.supplyAsync(operation::getInFlightCount);
+        assertEquals(1, inFlight.get(1, TimeUnit.SECONDS));
+
+        unblock.countDown();
+        requestSender.next().succeed();
+        assertTrue(operation.awaitCompletion(1, TimeUnit.SECONDS));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class RecordingListener implements BulkResultListener<ExecuteResponse> {
+        final List<String> responses = Collections.synchronizedList(new ArrayList<>());
+        final List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        volatile boolean completed = false;
+
+        @Override
+        public void onResponse(Registration registration, ExecuteResponse response) {
+            responses.add(registration.getEndpoint());
+        }
+
+        @Override
+        public void onError(Registration registration, Exception error) {
+            errors.add(registration.getEndpoint());
+        }
+
+        @Override
+        public void onCompleted(BulkOperation<ExecuteResponse> operation) {
+            completed = true;
+        }
+    }
+}
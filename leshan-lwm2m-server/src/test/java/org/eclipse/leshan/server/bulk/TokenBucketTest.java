@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.bulk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long MS = 1_000_000l;
+
+    @Test
+    void burst_is_available_at_start() {
+        TokenBucket bucket = new TokenBucket(10, 3, 0);
+
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(100 * MS, bucket.tryAcquire(0));
+    }
+
+    @Test
+    void tokens_are_refilled_at_given_rate() {
+        TokenBucket bucket = new TokenBucket(10, 1, 0);
+        assertEquals(0, bucket.tryAcquire(0));
+
+        assertEquals(60 * MS, bucket.tryAcquire(40 * MS));
+        assertEquals(0, bucket.tryAcquire(100 * MS));
+    }
+
+    @Test
+    void tokens_do_not_exceed_capacity() {
+        TokenBucket bucket = new TokenBucket(10, 2, 0);
+
+        // 10s elapsed but only 2 tokens available
+        assertEquals(0, bucket.tryAcquire(10_000 * MS));
+        assertEquals(0, bucket.tryAcquire(10_000 * MS));
+        assertEquals(100 * MS, bucket.tryAcquire(10_000 * MS));
+    }
+}
@@ -0,0 +1,283 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.event;
+
+import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.observation.Observation;
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.server.event.EventDispatcher.OverflowPolicy;
+import org.eclipse.leshan.server.registration.InMemoryRegistrationStore;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.registration.RegistrationListener;
+import org.eclipse.leshan.server.registration.RegistrationServiceImpl;
+import org.eclipse.leshan.server.registration.RegistrationUpdate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class EventDispatcherTest {
+
+    private EventDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.destroy();
+        }
+    }
+
+    private Registration givenARegistration(String endpoint, int id) {
+        return new Registration.Builder(endpoint + "-" + id, endpoint,
+                new IpPeer(new InetSocketAddress("127.0.0.1", 5683)), uriHandler.createUri("coap://localhost:5683"))
+                        .objectLinks(new Link[] { new Link("/3") }).build();
+    }
+
+    private static abstract class RegisteredListener implements RegistrationListener {
+        @Override
+        public void updated(RegistrationUpdate update, Registration updatedReg, Registration previousReg) {
+        }
+
+        @Override
+        public void unregistered(Registration registration, Collection<Observation> observations, boolean expired,
+                Registration newReg) {
+        }
+    }
+
+    /**
+     * A listener which records registration ids and which waits for {@link #release} on the first event.
+     */
+    private static class BlockingListener extends RegisteredListener {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<String> received = Collections.synchronizedList(new ArrayList<String>());
+
+        @Override
+        public void registered(Registration registration, Registration previousReg,
+                Collection<Observation> previousObservations) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.add(registration.getId());
+        }
+    }
+
+    private void waitForDispatchedEvents(long count) throws InterruptedException {
+        long timeout = System.currentTimeMillis() + 5000;
+        while (dispatcher.getDispatchedEventCount() < count && System.currentTimeMillis() < timeout) {
+            Thread.sleep(5);
+        }
+        assertEquals(count, dispatcher.getDispatchedEventCount());
+    }
+
+    @Test
+    void events_of_an_endpoint_are_delivered_in_order() throws InterruptedException {
+        dispatcher = new EventDispatcher.Builder().setThreadPoolSize(4).setLanesPerListener(4).build();
+        final Map<String, List<Integer>> received = new HashMap<>();
+        RegistrationListener listener = dispatcher.wrap(new RegisteredListener() {
+            @Override
+            public void registered(Registration registration, Registration previousReg,
+                    Collection<Observation> previousObservations) {
+                synchronized (received) {
+                    List<Integer> ids = received.get(registration.getEndpoint());
+                    if (ids == null) {
+                        ids = new ArrayList<>();
+                        received.put(registration.getEndpoint(), ids);
+                    }
+                    ids.add(Integer.parseInt(registration.getId().substring(registration.getEndpoint().length() + 1)));
+                }
+            }
+        });
+
+        for (int i = 0; i < 200; i++) {
+            listener.registered(givenARegistration("endpoint" + i % 5, i / 5), null, null);
+        }
+
+        waitForDispatchedEvents(200);
+        assertEquals(5, received.size());
+        for (List<Integer> ids : received.values()) {
+            assertEquals(40, ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                assertEquals(i, ids.get(i));
+            }
+        }
+        assertEquals(0, dispatcher.getQueueDepth());
+        assertEquals(0, dispatcher.getDroppedEventCount());
+        assertTrue(dispatcher.getMaxDispatchLatency() >= dispatcher.getAverageDispatchLatency());
+    }
+
+    @Test
+    void slow_listener_does_not_block_caller_with_drop_newest() throws InterruptedException {
+        dispatcher = new EventDispatcher.Builder().setThreadPoolSize(1).setLanesPerListener(1).setQueueCapacity(2)
+                .setOverflowPolicy(OverflowPolicy.DROP_NEWEST).build();
+        BlockingListener blockingListener = new BlockingListener();
+        RegistrationListener listener = dispatcher.wrap(blockingListener);
+
+        listener.registered(givenARegistration("endpoint", 0), null, null);
+        assertTrue(blockingListener.started.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < 5; i++) {
+            listener.registered(givenARegistration("endpoint", i), null, null);
+        }
+        assertEquals(2, dispatcher.getQueueDepth());
+        assertEquals(2, dispatcher.getDroppedEventCount());
+
+        blockingListener.release.countDown();
+        waitForDispatchedEvents(3);
+        assertEquals(Arrays.asList("endpoint-0", "endpoint-1", "endpoint-2"), blockingListener.received);
+    }
+
+    @Test
+    void drop_oldest_keeps_most_recent_events() throws InterruptedException {
+        dispatcher = new EventDispatcher.Builder().setThreadPoolSize(1).setLanesPerListener(1).setQueueCapacity(2)
+                .setOverflowPolicy(OverflowPolicy.DROP_OLDEST).build();
+        BlockingListener blockingListener = new BlockingListener();
+        RegistrationListener listener = dispatcher.wrap(blockingListener);
+
+        listener.registered(givenARegistration("endpoint", 0), null, null);
+        assertTrue(blockingListener.started.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < 5; i++) {
+            listener.registered(givenARegistration("endpoint", i), null, null);
+        }
+        assertEquals(2, dispatcher.getDroppedEventCount());
+
+        blockingListener.release.countDown();
+        waitForDispatchedEvents(3);
+        assertEquals(Arrays.asList("endpoint-0", "endpoint-3", "endpoint-4"), blockingListener.received);
+    }
+
+    @Test
+    void block_policy_waits_for_room_in_queue() throws InterruptedException {
+        dispatcher = new EventDispatcher.Builder().setThreadPoolSize(1).setLanesPerListener(1).setQueueCapacity(1)
+                .setOverflowPolicy(OverflowPolicy.BLOCK).build();
+        BlockingListener blockingListener = new BlockingListener();
+        final RegistrationListener listener = dispatcher.wrap(blockingListener);
+
+        listener.registered(givenARegistration("endpoint", 0), null, null);
+        assertTrue(blockingListener.started.await(5, TimeUnit.SECONDS));
+        listener.registered(givenARegistration("endpoint", 1), null, null);
+        Thread caller = new Thread(() -> listener.registered(givenARegistration("endpoint", 2), null, null));
+        caller.start();
+        caller.join(100);
+        assertTrue(caller.isAlive());
+
+        blockingListener.release.countDown();
+        caller.join(5000);
+        assertFalse(caller.isAlive());
+        waitForDispatchedEvents(3);
+        assertEquals(0, dispatcher.getDroppedEventCount());
+    }
+
+    @Test
+    void destroy_releases_blocked_callers() throws InterruptedException {
+        dispatcher = new EventDispatcher.Builder().setThreadPoolSize(1).setLanesPerListener(1).setQueueCapacity(1)
+                .setOverflowPolicy(OverflowPolicy.BLOCK).build();
+        BlockingListener blockingListener = new BlockingListener();
+        final RegistrationListener listener = dispatcher.wrap(blockingListener);
+
+        listener.registered(givenARegistration("endpoint", 0), null, null);
+        assertTrue(blockingListener.started.await(5, TimeUnit.SECONDS));
+        listener.registered(givenARegistration("endpoint", 1), null, null);
+        Thread caller = new Thread(() -> listener.registered(givenARegistration("endpoint", 2), null, null));
+        caller.start();
+        caller.join(100);
+        assertTrue(caller.isAlive());
+
+        dispatcher.destroy();
+        caller.join(5000);
+        assertFalse(caller.isAlive());
+        assertTrue(dispatcher.getDroppedEventCount() >= 1);
+    }
+
+    @Test
+    void service_only_dispatches_listeners_added_after_dispatcher() throws InterruptedException {
+        dispatcher = new EventDispatcher.Builder().setThreadPoolSize(1).build();
+        RegistrationServiceImpl service = new RegistrationServiceImpl(new InMemoryRegistrationStore());
+        final List<String> threads = Collections.synchronizedList(new ArrayList<String>());
+        RegistrationListener internalListener = new RegisteredListener() {
+            @Override
+            public void registered(Registration registration, Registration previousReg,
+                    Collection<Observation> previousObservations) {
+                threads.add("internal:" + Thread.currentThread().getName());
+            }
+        };
+        RegistrationListener userListener = new RegisteredListener() {
+            @Override
+            public void registered(Registration registration, Registration previousReg,
+                    Collection<Observation> previousObservations) {
+                threads.add("user:" + Thread.currentThread().getName());
+            }
+        };
+        service.addListener(internalListener);
+        service.setEventDispatcher(dispatcher);
+        service.addListener(userListener);
+
+        service.fireRegistered(givenARegistration("endpoint", 0), null, null);
+        waitForDispatchedEvents(1);
+        assertEquals(2, threads.size());
+        assertEquals("internal:" + Thread.currentThread().getName(), threads.get(0));
+        assertNotEquals("user:" + Thread.currentThread().getName(), threads.get(1));
+
+        service.removeListener(userListener);
+        service.fireRegistered(givenARegistration("endpoint", 1), null, null);
+        assertEquals(3, threads.size());
+        assertEquals(1, dispatcher.getDispatchedEventCount());
+    }
+
+    @Test
+    void listener_added_twice_is_dispatched_once() throws InterruptedException {
+        dispatcher = new EventDispatcher.Builder().setThreadPoolSize(1).build();
+        RegistrationServiceImpl service = new RegistrationServiceImpl(new InMemoryRegistrationStore());
+        final List<String> received = Collections.synchronizedList(new ArrayList<String>());
+        RegistrationListener listener = new RegisteredListener() {
+            @Override
+            public void registered(Registration registration, Registration previousReg,
+                    Collection<Observation> previousObservations) {
+                received.add(registration.getId());
+            }
+        };
+        service.setEventDispatcher(dispatcher);
+        service.addListener(listener);
+        service.addListener(listener);
+
+        service.fireRegistered(givenARegistration("endpoint", 0), null, null);
+        waitForDispatchedEvents(1);
+        assertEquals(Arrays.asList("endpoint-0"), received);
+
+        // removing the listener once removes it completely
+        service.removeListener(listener);
+        service.fireRegistered(givenARegistration("endpoint", 1), null, null);
+        assertEquals(1, dispatcher.getDispatchedEventCount());
+        assertEquals(Arrays.asList("endpoint-0"), received);
+    }
+}
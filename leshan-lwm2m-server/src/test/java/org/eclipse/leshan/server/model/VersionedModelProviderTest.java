@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.model;
+
+import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.leshan.core.LwM2m.Version;
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.model.LwM2mModel;
+import org.eclipse.leshan.core.model.LwM2mModelRepository;
+import org.eclipse.leshan.core.model.ObjectLoader;
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.server.registration.Registration;
+import org.junit.jupiter.api.Test;
+
+class VersionedModelProviderTest {
+
+    private final LwM2mModelRepository repository = new LwM2mModelRepository(ObjectLoader.loadAllDefault());
+
+    private Registration givenARegistration(String id, Map<Integer, Version> supportedObjects) {
+        return new Registration.Builder(id, "urn:" + id, new IpPeer(new InetSocketAddress("127.0.0.1", 5683)),
+                uriHandler.createUri("coap://localhost:5683")).objectLinks(new Link[] { new Link("/3") })
+                        .supportedObjects(supportedObjects).build();
+    }
+
+    private Map<Integer, Version> supportedObjects(String deviceVersion) {
+        Map<Integer, Version> supportedObjects = new HashMap<>();
+        supportedObjects.put(1, new Version("1.1"));
+        supportedObjects.put(3, new Version(deviceVersion));
+        return supportedObjects;
+    }
+
+    @Test
+    void registrations_with_same_supported_objects_share_model() {
+        VersionedModelProvider provider = new VersionedModelProvider(repository);
+
+        LwM2mModel model1 = provider.getObjectModel(givenARegistration("reg1", supportedObjects("1.1")));
+        LwM2mModel model2 = provider.getObjectModel(givenARegistration("reg2", supportedObjects("1.1")));
+        LwM2mModel model3 = provider.getObjectModel(givenARegistration("reg3", supportedObjects("1.0")));
+
+        assertSame(model1, model2);
+        assertNotSame(model1, model3);
+        assertEquals(2, provider.getCachedModelCount());
+        assertEquals("1.1", model1.getObjectModel(3).version);
+        assertEquals("1.0", model3.getObjectModel(3).version);
+    }
+
+    @Test
+    void model_only_contains_supported_objects() {
+        VersionedModelProvider provider = new VersionedModelProvider(repository);
+        Map<Integer, Version> supportedObjects = supportedObjects("1.1");
+        // unknown version
+        supportedObjects.put(4, new Version("9.9"));
+
+        LwM2mModel model = provider.getObjectModel(givenARegistration("reg1", supportedObjects));
+
+        assertEquals(2, model.getObjectModels().size());
+        assertEquals("1.1", model.getObjectModel(1).version);
+        assertNull(model.getObjectModel(4));
+        assertNull(model.getObjectModel(5));
+        assertEquals(repository.getObjectModel(3, new Version("1.1")).resources.get(0), model.getResourceModel(3, 0));
+    }
+
+    @Test
+    void number_of_cached_models_is_bounded() {
+        VersionedModelProvider provider = new VersionedModelProvider(repository, 1);
+
+        LwM2mModel model1 = provider.getObjectModel(givenARegistration("reg1", supportedObjects("1.1")));
+        LwM2mModel model2 = provider.getObjectModel(givenARegistration("reg2", supportedObjects("1.0")));
+        LwM2mModel model3 = provider.getObjectModel(givenARegistration("reg3", supportedObjects("1.0")));
+
+        assertEquals(1, provider.getCachedModelCount());
+        assertSame(model1, provider.getObjectModel(givenARegistration("reg4", supportedObjects("1.1"))));
+        assertNotSame(model2, model3);
+        assertEquals("1.0", model3.getObjectModel(3).version);
+    }
+}
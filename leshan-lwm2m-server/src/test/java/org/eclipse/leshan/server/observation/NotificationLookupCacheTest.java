@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.observation;
+
+import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.net.InetSocketAddress;
+import java.util.Collections;
+
+import org.eclipse.leshan.core.endpoint.EndpointUri;
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.observation.Observation;
+import org.eclipse.leshan.core.observation.ObservationIdentifier;
+import org.eclipse.leshan.core.observation.SingleObservation;
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.server.model.StandardModelProvider;
+import org.eclipse.leshan.server.observation.NotificationLookupCache.NotificationContext;
+import org.eclipse.leshan.server.registration.InMemoryRegistrationStore;
+import org.eclipse.leshan.server.registration.Registration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NotificationLookupCacheTest {
+
+    private final EndpointUri endpointUri = uriHandler.createUri("coap://localhost:5683");
+
+    private CountingRegistrationStore store;
+    private Registration registration;
+
+    private static class CountingRegistrationStore extends InMemoryRegistrationStore {
+        int lookupCount = 0;
+
+        @Override
+        public Observation getObservation(ObservationIdentifier observationId) {
+            lookupCount++;
+            return super.getObservation(observationId);
+        }
+
+        @Override
+        public Registration getRegistration(String registrationId) {
+            lookupCount++;
+            return super.getRegistration(registrationId);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        store = new CountingRegistrationStore();
+        registration = new Registration.Builder("reg1", "urn:endpoint",
+                new IpPeer(new InetSocketAddress("127.0.0.1", 5683)), endpointUri)
+                        .objectLinks(new Link[] { new Link("/3") }).build();
+        store.addRegistration(registration);
+    }
+
+    private Observation givenAnObservation(byte[] token) {
+        // use a different path for each token as store replaces observations targeting the same node
+        Observation observation = new SingleObservation(new ObservationIdentifier(endpointUri, token), "reg1",
+                new LwM2mPath(3, 0, token[0]), ContentFormat.SENML_CBOR, Collections.<String, String> emptyMap(),
+                Collections.<String, String> emptyMap());
+        store.addObservation("reg1", observation, false);
+        return observation;
+    }
+
+    @Test
+    void lookup_resolves_observation_registration_and_model_once() {
+        NotificationLookupCache cache = new NotificationLookupCache(store, new StandardModelProvider(), 10, 60000);
+        Observation observation = givenAnObservation(new byte[] { 1 });
+
+        NotificationContext context = cache.get(observation.getId());
+        assertEquals(observation, context.getObservation());
+        assertEquals("reg1", context.getProfile().getRegistrationId());
+        assertNotNull(context.getProfile().getModel());
+        int lookupCount = store.lookupCount;
+
+        assertSame(context, cache.get(new ObservationIdentifier(endpointUri, new byte[] { 1 })));
+        assertEquals(lookupCount, store.lookupCount);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void unknown_observation_is_not_cached() {
+        NotificationLookupCache cache = new NotificationLookupCache(store, new StandardModelProvider(), 10, 60000);
+
+        assertNull(cache.get(new ObservationIdentifier(endpointUri, new byte[] { 1 })));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void cancelled_observation_is_invalidated() {
+        NotificationLookupCache cache = new NotificationLookupCache(store, new StandardModelProvider(), 10, 60000);
+        Observation observation = givenAnObservation(new byte[] { 1 });
+        cache.get(observation.getId());
+
+        store.removeObservation("reg1", observation.getId());
+        cache.getObservationListener().cancelled(observation);
+
+        assertNull(cache.get(observation.getId()));
+    }
+
+    @Test
+    void deregistration_invalidates_all_observations_of_registration() {
+        NotificationLookupCache cache = new NotificationLookupCache(store, new StandardModelProvider(), 10, 60000);
+        Observation observation1 = givenAnObservation(new byte[] { 1 });
+        Observation observation2 = givenAnObservation(new byte[] { 2 });
+        cache.get(observation1.getId());
+        cache.get(observation2.getId());
+        assertEquals(2, cache.size());
+
+        store.removeRegistration("reg1");
+        cache.getRegistrationListener().unregistered(registration, Collections.<Observation> emptyList(), false, null);
+
+        assertEquals(0, cache.size());
+        assertNull(cache.get(observation1.getId()));
+    }
+
+    @Test
+    void least_recently_used_entry_is_evicted() {
+        NotificationLookupCache cache = new NotificationLookupCache(store, new StandardModelProvider(), 2, 60000);
+        Observation observation1 = givenAnObservation(new byte[] { 1 });
+        Observation observation2 = givenAnObservation(new byte[] { 2 });
+        Observation observation3 = givenAnObservation(new byte[] { 3 });
+
+        cache.get(observation1.getId());
+        cache.get(observation2.getId());
+        // access observation1 so observation2 is the eldest
+        cache.get(observation1.getId());
+        cache.get(observation3.getId());
+
+        assertEquals(2, cache.size());
+        int lookupCount = store.lookupCount;
+        cache.get(observation2.getId());
+        assertEquals(lookupCount + 2, store.lookupCount);
+    }
+
+    @Test
+    void disabled_cache_always_queries_store() {
+        NotificationLookupCache cache = new NotificationLookupCache(store, new StandardModelProvider(), 0, 60000);
+        Observation observation = givenAnObservation(new byte[] { 1 });
+        int lookupCount = store.lookupCount;
+
+        assertNotNull(cache.get(observation.getId()));
+        assertNotNull(cache.get(observation.getId()));
+        assertEquals(0, cache.size());
+        assertEquals(lookupCount + 4, store.lookupCount);
+    }
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.queue;
+
+import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.core.request.BindingMode;
+import org.eclipse.leshan.server.registration.Registration;
+import org.junit.jupiter.api.Test;
+
+class InMemoryPresenceStoreTest {
+
+    // 8 buckets of 100ms, so the wheel turns every 800ms
+    private final InMemoryPresenceStore store = new InMemoryPresenceStore(100, 8);
+
+    private Registration registration(String endpoint) {
+        return new Registration.Builder("id-" + endpoint, endpoint,
+                new IpPeer(new InetSocketAddress("127.0.0.1", 5683)), uriHandler.createUri("coap://localhost:5683"))
+                        .bindingMode(EnumSet.of(BindingMode.U, BindingMode.Q)).build();
+    }
+
+    private List<String> endpoints(Collection<Registration> registrations) {
+        List<String> endpoints = new ArrayList<>();
+        for (Registration registration : registrations) {
+            endpoints.add(registration.getEndpoint());
+        }
+        return endpoints;
+    }
+
+    @Test
+    void client_expires_once_deadline_is_reached() {
+        store.pollExpired(10000);
+        assertTrue(store.setAwake(registration("ep1"), 10250));
+        assertTrue(store.setAwake(registration("ep2"), 10550));
+
+        assertTrue(store.pollExpired(10200).isEmpty());
+        assertEquals(1, store.pollExpired(10300).size());
+        assertFalse(store.isAwake("ep1"));
+        assertTrue(store.isAwake("ep2"));
+        assertEquals(1, store.pollExpired(10600).size());
+        assertFalse(store.isAwake("ep2"));
+    }
+
+    @Test
+    void setting_awake_again_pushes_deadline_back() {
+        store.pollExpired(10000);
+        assertTrue(store.setAwake(registration("ep"), 10250));
+        assertFalse(store.setAwake(registration("ep"), 12050));
+
+        // deadline is more than one turn of wheel later
+        assertTrue(store.pollExpired(10300).isEmpty());
+        assertTrue(store.pollExpired(11100).isEmpty());
+        assertTrue(store.isAwake("ep"));
+        assertEquals(1, store.pollExpired(12100).size());
+        assertFalse(store.isAwake("ep"));
+    }
+
+    @Test
+    void expired_registration_is_the_last_one() {
+        store.pollExpired(10000);
+        store.setAwake(registration("ep"), 10150);
+        Registration updated = registration("ep");
+        store.setAwake(updated, 10250);
+
+        Collection<Registration> expired = store.pollExpired(10300);
+        assertEquals(1, expired.size());
+        assertSame(updated, expired.iterator().next());
+    }
+
+    @Test
+    void sleeping_client_does_not_expire() {
+        store.pollExpired(10000);
+        store.setAwake(registration("ep"), 10250);
+        assertTrue(store.setSleeping("ep"));
+        assertFalse(store.setSleeping("ep"));
+
+        assertTrue(store.pollExpired(10300).isEmpty());
+
+        // woken up again, with a deadline in the bucket of the previous entry
+        assertTrue(store.setAwake(registration("ep"), 11050));
+        assertTrue(store.pollExpired(11000).isEmpty());
+        assertEquals(1, store.pollExpired(11100).size());
+    }
+
+    @Test
+    void client_without_deadline_never_expires() {
+        store.pollExpired(10000);
+        store.setAwake(registration("ep"), 10250);
+        store.setAwake(registration("ep"), Long.MAX_VALUE);
+
+        assertTrue(store.pollExpired(20000).isEmpty());
+        assertTrue(store.isAwake("ep"));
+
+        store.setAwake(registration("ep"), 20150);
+        assertEquals(1, store.pollExpired(20200).size());
+    }
+
+    @Test
+    void late_poll_collects_all_expired_clients() {
+        store.pollExpired(10000);
+        for (int i = 0; i < 20; i++) {
+            store.setAwake(registration("ep" + i), 10000 + i * 100);
+        }
+
+        assertEquals(20, endpoints(store.pollExpired(50000)).size());
+    }
+}
@@ -16,6 +16,7 @@
 package org.eclipse.leshan.server.queue;
 
 import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -23,7 +24,14 @@ import static org.junit.jupiter.api.Assertions.fail;
 import java.net.Inet4Address;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.leshan.core.peer.IpPeer;
 import org.eclipse.leshan.core.request.BindingMode;
@@ -66,6 +74,96 @@ public class PresenceServiceTest {
         assertFalse(presenceService.isClientAwake(queueModeRegistration));
     }
 
+    @Test
+    public void testSleepingWhenAwakeTimeExpires() throws Exception {
+        PresenceServiceImpl service = new PresenceServiceImpl(new StaticClientAwakeTimeProvider(200),
+                new InMemoryPresenceStore(20, 64), 20);
+        final CountDownLatch sleeping = new CountDownLatch(1);
+        service.addListener(new PresenceListener() {
+
+            @Override
+            public void onAwake(Registration registration) {
+            }
+
+            @Override
+            public void onSleeping(Registration registration) {
+                sleeping.countDown();
+            }
+        });
+        try {
+            Registration queueModeRegistration = givenASimpleClientWithQueueMode();
+            service.setAwake(queueModeRegistration);
+
+            assertTrue(service.isClientAwake(queueModeRegistration));
+            assertTrue(sleeping.await(2, TimeUnit.SECONDS));
+            assertFalse(service.isClientAwake(queueModeRegistration));
+        } finally {
+            service.destroy();
+        }
+    }
+
+    @Test
+    public void failing_listener_does_not_prevent_other_sleeping_notifications() throws Exception {
+        PresenceServiceImpl service = new PresenceServiceImpl(new StaticClientAwakeTimeProvider(20),
+                new InMemoryPresenceStore(20, 64), 20);
+        final Set<String> sleepingEndpoints = ConcurrentHashMap.newKeySet();
+        final CountDownLatch sleeping = new CountDownLatch(2);
+        service.addListener(new PresenceListener() {
+            @Override
+            public void onAwake(Registration registration) {
+            }
+
+            @Override
+            public void onSleeping(Registration registration) {
+                throw new IllegalStateException("listener failure");
+            }
+        });
+        service.addListener(new PresenceListener() {
+            @Override
+            public void onAwake(Registration registration) {
+            }
+
+            @Override
+            public void onSleeping(Registration registration) {
+                sleepingEndpoints.add(registration.getEndpoint());
+                sleeping.countDown();
+            }
+        });
+        try {
+            service.setAwake(givenAQueueModeClient("urn:client1"));
+            service.setAwake(givenAQueueModeClient("urn:client2"));
+
+            assertTrue(sleeping.await(2, TimeUnit.SECONDS));
+            assertEquals(new HashSet<>(Arrays.asList("urn:client1", "urn:client2")), sleepingEndpoints);
+        } finally {
+            service.destroy();
+        }
+    }
+
+    @Test
+    public void shared_store_is_polled_without_awake_client() throws Exception {
+        final CountDownLatch polled = new CountDownLatch(1);
+        PresenceStore sharedStore = new InMemoryPresenceStore() {
+            @Override
+            public synchronized Collection<Registration> pollExpired(long now) {
+                polled.countDown();
+                return super.pollExpired(now);
+            }
+
+            @Override
+            public boolean isShared() {
+                return true;
+            }
+        };
+        PresenceServiceImpl service = new PresenceServiceImpl(awakeTimeProvider, sharedStore, 20);
+        try {
+            // another server of the cluster may have set clients awake
+            assertTrue(polled.await(2, TimeUnit.SECONDS));
+        } finally {
+            service.destroy();
+        }
+    }
+
     private Registration givenASimpleClient() throws UnknownHostException {
         Registration.Builder builder = new Registration.Builder("ID", "urn:client",
                 new IpPeer(new InetSocketAddress(Inet4Address.getLoopbackAddress(), 12354)),
@@ -76,6 +174,13 @@ public class PresenceServiceTest {
         return reg;
     }
 
+    private Registration givenAQueueModeClient(String endpoint) {
+        return new Registration.Builder("ID" + endpoint, endpoint,
+                new IpPeer(new InetSocketAddress(Inet4Address.getLoopbackAddress(), 12354)),
+                uriHandler.createUri("coap://localhost:5683")).bindingMode(EnumSet.of(BindingMode.U, BindingMode.Q))
+                        .build();
+    }
+
     private Registration givenASimpleClientWithQueueMode() throws UnknownHostException {
 
         Registration.Builder builder = new Registration.Builder("ID", "urn:client",
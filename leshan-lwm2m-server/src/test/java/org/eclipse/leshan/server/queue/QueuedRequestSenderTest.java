@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.queue;
+
+import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.core.request.BindingMode;
+import org.eclipse.leshan.core.request.ExecuteRequest;
+import org.eclipse.leshan.core.request.exception.ClientSleepingException;
+import org.eclipse.leshan.core.request.exception.RequestCanceledException;
+import org.eclipse.leshan.core.response.LwM2mResponse;
+import org.eclipse.leshan.server.registration.Registration;
+import org.eclipse.leshan.server.request.FakeDownlinkRequestSender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class QueuedRequestSenderTest {
+
+    private final PresenceServiceImpl presenceService = new PresenceServiceImpl(
+            new StaticClientAwakeTimeProvider(60000));
+    private final FakeDownlinkRequestSender delegate = new FakeDownlinkRequestSender();
+    private final InMemoryDownlinkRequestQueue queue = new InMemoryDownlinkRequestQueue(3);
+    private final Registration registration = givenAQueueModeRegistration();
+    private final List<String> results = Collections.synchronizedList(new ArrayList<>());
+    private QueuedRequestSender sender;
+
+    @AfterEach
+    void tearDown() {
+        if (sender != null) {
+            sender.destroy();
+        }
+        presenceService.destroy();
+    }
+
+    private void givenASender(int maxRequestsPerWakeUp) {
+        sender = new QueuedRequestSender(presenceService, new QueueModeLwM2mRequestSender(presenceService, delegate),
+                queue, maxRequestsPerWakeUp);
+        presenceService.addListener(sender);
+    }
+
+    private Registration givenAQueueModeRegistration() {
+        return new Registration.Builder("id", "ep", new IpPeer(new InetSocketAddress("127.0.0.1", 5683)),
+                uriHandler.createUri("coap://localhost:5683")).bindingMode(EnumSet.of(BindingMode.U, BindingMode.Q))
+                        .build();
+    }
+
+    private QueuedRequest send(final String name, long expirationInMs) {
+        return sender.send(registration, new ExecuteRequest("/3/0/4"), 1000, expirationInMs,
+                response -> results.add(name), error -> results.add(name + ":" + error.getClass().getSimpleName()));
+    }
+
+    @Test
+    public void queued_requests_are_sent_in_order_when_client_wakes_up() throws InterruptedException {
+        givenASender(10);
+        send("r1", 60000);
+        send("r2", 60000);
+        assertNull(delegate.pending.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(2, queue.size("ep"));
+
+        presenceService.setAwake(registration);
+
+        delegate.next().succeed();
+        // request queued while awake waits for previous ones
+        send("r3", 60000);
+        delegate.next().succeed();
+        delegate.next().succeed();
+        assertNull(delegate.pending.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(3, results.size());
+        assertEquals(Arrays.asList("r1", "r2", "r3"), results);
+    }
+
+    @Test
+    public void requests_to_awake_client_are_sent_immediately() throws InterruptedException {
+        givenASender(10);
+        presenceService.setAwake(registration);
+
+        send("r1", 60000);
+        delegate.next().succeed();
+
+        assertEquals(Collections.singletonList("r1"), results);
+        assertEquals(0, queue.size("ep"));
+    }
+
+    @Test
+    public void number_of_requests_sent_per_wake_up_is_limited() throws InterruptedException {
+        givenASender(2);
+        presenceService.setSleeping(registration);
+        send("r1", 60000);
+        send("r2", 60000);
+        send("r3", 60000);
+
+        presenceService.setAwake(registration);
+        delegate.next().succeed();
+        delegate.next().succeed();
+        assertNull(delegate.pending.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(1, queue.size("ep"));
+
+        // next wake-up
+        presenceService.setSleeping(registration);
+        presenceService.setAwake(registration);
+        delegate.next().succeed();
+        assertEquals(Arrays.asList("r1", "r2", "r3"), results);
+    }
+
+    @Test
+    public void expired_requests_are_dropped() throws InterruptedException {
+        givenASender(10);
+        send("r1", 0);
+        send("r2", 60000);
+        Thread.sleep(10);
+
+        presenceService.setAwake(registration);
+        delegate.next().succeed();
+
+        assertEquals(Arrays.asList("r1:RequestCanceledException", "r2"), results);
+    }
+
+    @Test
+    public void expired_requests_of_sleeping_client_are_canceled() throws InterruptedException {
+        givenASender(10);
+        send("r1", 0);
+        send("r2", 60000);
+        Thread.sleep(10);
+
+        // client never wakes up
+        sender.removeExpiredRequests();
+
+        assertEquals(1, queue.size("ep"));
+        assertEquals(Collections.singletonList("r1:RequestCanceledException"), results);
+    }
+
+    @Test
+    public void expired_requests_do_not_keep_queue_full() throws InterruptedException {
+        givenASender(10);
+        send("r1", 0);
+        send("r2", 0);
+        send("r3", 0);
+        Thread.sleep(10);
+
+        send("r4", 60000);
+
+        assertEquals(1, queue.size("ep"));
+        assertEquals(Arrays.asList("r1:RequestCanceledException", "r2:RequestCanceledException",
+                "r3:RequestCanceledException"), results);
+    }
+
+    @Test
+    public void expired_requests_are_left_to_periodic_cleaning_while_queue_is_not_full() throws InterruptedException {
+        givenASender(10);
+        send("r1", 0);
+        Thread.sleep(10);
+
+        send("r2", 60000);
+        assertEquals(2, queue.size("ep"));
+        assertTrue(results.isEmpty());
+
+        sender.removeExpiredRequests();
+        assertEquals(1, queue.size("ep"));
+        assertEquals(Collections.singletonList("r1:RequestCanceledException"), results);
+    }
+
+    @Test
+    public void full_queue_rejects_requests() {
+        givenASender(10);
+        send("r1", 60000);
+        send("r2", 60000);
+        send("r3", 60000);
+
+        assertThrows(ClientSleepingException.class, () -> send("r4", 60000));
+    }
+
+    @Test
+    public void unregistration_removes_queued_requests() {
+        givenASender(10);
+        final List<QueuedRequest> failed = new ArrayList<>();
+        sender.addListener(new QueuedRequestListener() {
+            @Override
+            public void onResponse(QueuedRequest request, Registration registration, LwM2mResponse response) {
+            }
+
+            @Override
+            public void onError(QueuedRequest request, Exception error) {
+                assertTrue(error instanceof RequestCanceledException);
+                failed.add(request);
+            }
+        });
+        QueuedRequest r1 = send("r1", 60000);
+
+        sender.unregistered(registration, Collections.emptyList(), false, null);
+
+        assertEquals(0, queue.size("ep"));
+        assertEquals(Collections.singletonList("r1:RequestCanceledException"), results);
+        assertEquals(1, failed.size());
+        assertEquals(r1.getId(), failed.get(0).getId());
+    }
+}
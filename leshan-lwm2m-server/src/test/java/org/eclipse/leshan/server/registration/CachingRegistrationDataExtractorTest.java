@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.registration;
+
+import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.eclipse.leshan.core.LwM2m.LwM2mVersion;
+import org.eclipse.leshan.core.LwM2m.Version;
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.link.LinkParseException;
+import org.eclipse.leshan.core.link.lwm2m.CachingLwM2mLinkParser;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.core.request.ContentFormat;
+import org.eclipse.leshan.server.registration.RegistrationDataExtractor.RegistrationData;
+import org.junit.jupiter.api.Test;
+
+public class CachingRegistrationDataExtractorTest {
+
+    private final CachingLwM2mLinkParser linkParser = new CachingLwM2mLinkParser();
+    private final CachingRegistrationDataExtractor extractor = new CachingRegistrationDataExtractor();
+
+    @Test
+    public void same_links_share_extracted_data() throws LinkParseException {
+        RegistrationData first = extract("</>;ct=\"0 11543\",</1/0>,</3/0>", LwM2mVersion.V1_1);
+        RegistrationData second = extract("</>;ct=\"0 11543\",</1/0>,</3/0>", LwM2mVersion.V1_1);
+
+        assertSame(first, second);
+        assertEquals(1, extractor.getHitCount());
+        assertEquals(1, extractor.getMissCount());
+        // an other version gives other data
+        assertNotSame(first, extract("</>;ct=\"0 11543\",</1/0>,</3/0>", LwM2mVersion.V1_0));
+    }
+
+    @Test
+    public void extracted_data_is_unmodifiable() throws LinkParseException {
+        RegistrationData data = extract("</>;ct=\"0 11543\",</1/0>,</3/0>", LwM2mVersion.V1_1);
+
+        assertThrows(UnsupportedOperationException.class, () -> data.getSupportedObjects().put(4, null));
+        assertThrows(UnsupportedOperationException.class,
+                () -> data.getSupportedContentFormats().add(ContentFormat.TLV));
+        assertThrows(UnsupportedOperationException.class, () -> data.getAvailableInstances().add(new LwM2mPath(4, 0)));
+    }
+
+    @Test
+    public void registrations_share_extracted_collections() throws LinkParseException {
+        Registration first = givenARegistration("ep1", "</>;ct=\"0 11543\",</1/0>,</3/0>");
+        Registration second = givenARegistration("ep2", "</>;ct=\"0 11543\",</1/0>,</3/0>");
+
+        assertSame(first.getSharedObjectLinks(), second.getSharedObjectLinks());
+        assertSame(first.getSupportedObject(), second.getSupportedObject());
+        assertSame(first.getSupportedContentFormats(), second.getSupportedContentFormats());
+        assertSame(first.getAvailableInstances(), second.getAvailableInstances());
+
+        // an updated registration still shares them
+        Registration updated = new Registration.Builder(first).build();
+        assertSame(first.getAvailableInstances(), updated.getAvailableInstances());
+        assertSame(first.getSharedObjectLinks(), updated.getSharedObjectLinks());
+    }
+
+    @Test
+    public void shared_object_links_can_not_be_modified_through_registration() throws LinkParseException {
+        Registration first = givenARegistration("ep1", "</1/0>,</3/0>");
+        Registration second = givenARegistration("ep2", "</1/0>,</3/0>");
+
+        first.getObjectLinks()[0] = new Link("/4/0");
+
+        assertEquals("/1/0", first.getObjectLinks()[0].getUriReference());
+        assertEquals("/1/0", second.getObjectLinks()[0].getUriReference());
+        assertEquals("/1/0", linkParser.parseCoreLinkFormat("</1/0>,</3/0>".getBytes())[0].getUriReference());
+    }
+
+    @Test
+    public void registration_copies_unmodifiable_views() {
+        Map<Integer, Version> supportedObjects = new HashMap<>();
+        supportedObjects.put(3, Version.V1_0);
+        Set<ContentFormat> contentFormats = new HashSet<>(Arrays.asList(ContentFormat.TLV));
+        SortedSet<LwM2mPath> availableInstances = new TreeSet<>(Arrays.asList(new LwM2mPath(3, 0)));
+
+        Registration registration = new Registration.Builder("id", "ep",
+                new IpPeer(InetSocketAddress.createUnresolved("localhost", 0)),
+                uriHandler.createUri("coap://localhost:5683")) //
+                        .supportedObjects(Collections.unmodifiableMap(supportedObjects)) //
+                        .supportedContentFormats(Collections.unmodifiableSet(contentFormats)) //
+                        .availableInstances(Collections.unmodifiableSortedSet(availableInstances)) //
+                        .build();
+
+        // changing caller collections after build must not change the registration
+        supportedObjects.put(4, Version.V1_0);
+        contentFormats.add(ContentFormat.JSON);
+        availableInstances.add(new LwM2mPath(4, 0));
+
+        assertEquals(Collections.singletonMap(3, Version.V1_0), registration.getSupportedObject());
+        assertEquals(Collections.singleton(ContentFormat.TLV), registration.getSupportedContentFormats());
+        assertEquals(Collections.singleton(new LwM2mPath(3, 0)), registration.getAvailableInstances());
+    }
+
+    private RegistrationData extract(String objectLinks, LwM2mVersion version) throws LinkParseException {
+        Link[] links = linkParser.parseCoreLinkFormat(objectLinks.getBytes());
+        return extractor.extractDataFromObjectLinks(links, version);
+    }
+
+    private Registration givenARegistration(String endpoint, String objectLinks) throws LinkParseException {
+        Registration.Builder builder = new Registration.Builder(endpoint + "-id", endpoint,
+                new IpPeer(InetSocketAddress.createUnresolved("localhost", 0)),
+                uriHandler.createUri("coap://localhost:5683"));
+
+        Link[] links = linkParser.parseCoreLinkFormat(objectLinks.getBytes());
+        builder.objectLinks(links);
+        RegistrationData data = extractor.extractDataFromObjectLinks(links, LwM2mVersion.V1_1);
+        builder.rootPath(data.getAlternatePath());
+        builder.supportedContentFormats(data.getSupportedContentFormats());
+        builder.supportedObjects(data.getSupportedObjects());
+        builder.availableInstances(data.getAvailableInstances());
+        return builder.build();
+    }
+}
@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.registration;
+
+import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.leshan.core.endpoint.EndpointUri;
+import org.eclipse.leshan.core.link.Link;
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.observation.Observation;
+import org.eclipse.leshan.core.observation.ObservationIdentifier;
+import org.eclipse.leshan.core.observation.SingleObservation;
+import org.eclipse.leshan.core.peer.IpPeer;
+import org.eclipse.leshan.core.request.BindingMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentInMemoryRegistrationStoreTest {
+
+    private final String ep = "urn:endpoint";
+    private final int port = 23452;
+    private final Long lifetime = 10000L;
+    private final String sms = "0171-32423545";
+    private final EnumSet<BindingMode> binding = EnumSet.of(BindingMode.U, BindingMode.Q, BindingMode.S);
+    private final Link[] objectLinks = new Link[] { new Link("/3") };
+    private final String registrationId = "4711";
+    private final EndpointUri endpointUri = uriHandler.createUri("coap://localhost:5683");
+
+    RegistrationStore store;
+    InetAddress address;
+    Registration registration;
+
+    @BeforeEach
+    public void setUp() throws UnknownHostException {
+        address = InetAddress.getLocalHost();
+        store = new ConcurrentInMemoryRegistrationStore();
+    }
+
+    @Test
+    public void update_registration_keeps_properties_unchanged() {
+        givenASimpleRegistration(lifetime);
+        store.addRegistration(registration);
+
+        RegistrationUpdate update = new RegistrationUpdate(registrationId,
+                new IpPeer(new InetSocketAddress(address, port)), null, null, null, null, null, null, null, null, null,
+                null);
+        UpdatedRegistration updatedRegistration = store.updateRegistration(update);
+        assertEquals(lifetime, updatedRegistration.getUpdatedRegistration().getLifeTimeInSec());
+        assertSame(binding, updatedRegistration.getUpdatedRegistration().getBindingMode());
+        assertEquals(sms, updatedRegistration.getUpdatedRegistration().getSmsNumber());
+
+        assertEquals(registration, updatedRegistration.getPreviousRegistration());
+
+        Registration reg = store.getRegistrationByEndpoint(ep);
+        assertEquals(lifetime, reg.getLifeTimeInSec());
+        assertSame(binding, reg.getBindingMode());
+        assertEquals(sms, reg.getSmsNumber());
+    }
+
+    @Test
+    public void update_registration_to_extend_time_to_live() {
+        givenASimpleRegistration(0L);
+        store.addRegistration(registration);
+        assertFalse(registration.isAlive());
+
+        RegistrationUpdate update = new RegistrationUpdate(registrationId,
+                new IpPeer(new InetSocketAddress(address, port)), lifetime, null, null, null, null, null, null, null,
+                null, null);
+        UpdatedRegistration updatedRegistration = store.updateRegistration(update);
+        assertTrue(updatedRegistration.getUpdatedRegistration().isAlive());
+
+        Registration reg = store.getRegistrationByEndpoint(ep);
+        assertTrue(reg.isAlive());
+    }
+
+    @Test
+    public void update_unknown_registration_returns_null() {
+        RegistrationUpdate update = new RegistrationUpdate("unknown", new IpPeer(new InetSocketAddress(address, port)),
+                lifetime, null, null, null, null, null, null, null, null, null);
+        assertNull(store.updateRegistration(update));
+    }
+
+    @Test
+    public void new_registration_replaces_previous_one_and_its_observations() {
+        givenASimpleRegistration(lifetime);
+        store.addRegistration(registration);
+        Observation observation = givenAnObservation(registrationId, "/3/0/1", new byte[] { 1 });
+        store.addObservation(registrationId, observation, false);
+
+        Registration newRegistration = new Registration.Builder("4712", ep,
+                new IpPeer(new InetSocketAddress(address, port + 1)), endpointUri).lifeTimeInSec(lifetime)
+                        .objectLinks(objectLinks).build();
+        Deregistration deregistration = store.addRegistration(newRegistration);
+
+        assertEquals(registration, deregistration.getRegistration());
+        assertEquals(1, deregistration.getObservations().size());
+        assertNull(store.getRegistration(registrationId));
+        assertNull(store.getRegistrationByAdress(new InetSocketAddress(address, port)));
+        assertNull(store.getObservation(observation.getId()));
+        assertEquals(newRegistration, store.getRegistration("4712"));
+        assertEquals(newRegistration, store.getRegistrationByAdress(new InetSocketAddress(address, port + 1)));
+    }
+
+    @Test
+    public void add_observation_replaces_observation_with_same_path() {
+        givenASimpleRegistration(lifetime);
+        store.addRegistration(registration);
+        Observation first = givenAnObservation(registrationId, "/3/0/1", new byte[] { 1 });
+        Observation second = givenAnObservation(registrationId, "/3/0/1", new byte[] { 2 });
+        Observation other = givenAnObservation(registrationId, "/3/0/2", new byte[] { 3 });
+
+        store.addObservation(registrationId, first, false);
+        store.addObservation(registrationId, other, false);
+        Collection<Observation> removed = store.addObservation(registrationId, second, false);
+
+        assertEquals(1, removed.size());
+        assertEquals(first, removed.iterator().next());
+        assertEquals(2, store.getObservations(registrationId).size());
+        assertEquals(second, store.getObservation(registrationId, second.getId()));
+        assertNull(store.getObservation("another-id", second.getId()));
+    }
+
+    @Test
+    public void add_observation_for_unknown_registration_fails() {
+        Observation observation = givenAnObservation("unknown", "/3/0/1", new byte[] { 1 });
+        assertThrows(IllegalStateException.class, () -> store.addObservation("unknown", observation, false));
+    }
+
+    @Test
+    public void remove_registration_removes_indexes_and_observations() {
+        givenASimpleRegistration(lifetime);
+        store.addRegistration(registration);
+        Observation observation = givenAnObservation(registrationId, "/3/0/1", new byte[] { 1 });
+        store.addObservation(registrationId, observation, false);
+
+        Deregistration deregistration = store.removeRegistration(registrationId);
+
+        assertEquals(registration, deregistration.getRegistration());
+        assertEquals(1, deregistration.getObservations().size());
+        assertNull(store.getRegistrationByEndpoint(ep));
+        assertNull(store.getRegistrationByAdress(new InetSocketAddress(address, port)));
+        assertNull(store.getRegistrationByIdentity(registration.getClientTransportData().getIdentity()));
+        assertNull(store.getObservation(observation.getId()));
+        assertTrue(store.getObservations(registrationId).isEmpty());
+        assertNull(store.removeRegistration(registrationId));
+    }
+
+    @Test
+    public void concurrent_registrations_keep_indexes_consistent() throws Exception {
+        int nbThreads = 8;
+        int nbRegistrationsPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(nbThreads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < nbThreads; t++) {
+                final int threadIndex = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < nbRegistrationsPerThread; i++) {
+                        int index = threadIndex * nbRegistrationsPerThread + i;
+                        String endpoint = "ep" + (index % 1000);
+                        String regId = "reg" + index;
+                        Registration reg = new Registration.Builder(regId, endpoint,
+                                new IpPeer(new InetSocketAddress(address, 10000 + index)), endpointUri)
+                                        .lifeTimeInSec(lifetime).objectLinks(objectLinks).build();
+                        store.addRegistration(reg);
+                        try {
+                            store.addObservation(regId, givenAnObservation(regId, "/3/0/1",
+                                    new byte[] { (byte) (index >> 8), (byte) index }), false);
+                        } catch (IllegalStateException e) {
+                            // registration was already replaced by another thread
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // each endpoint must have exactly one registration reachable by all indexes
+        int count = 0;
+        for (Iterator<Registration> it = store.getAllRegistrations(); it.hasNext();) {
+            Registration reg = it.next();
+            count++;
+            assertSame(reg, store.getRegistration(reg.getId()));
+            assertSame(reg, store.getRegistrationByAdress(reg.getSocketAddress()));
+            assertSame(reg, store.getRegistrationByIdentity(reg.getClientTransportData().getIdentity()));
+            assertEquals(1, store.getObservations(reg.getId()).size());
+        }
+        assertEquals(1000, count);
+    }
+
+    private Observation givenAnObservation(String regId, String path, byte[] token) {
+        return new SingleObservation(new ObservationIdentifier(endpointUri, token), regId, new LwM2mPath(path), null,
+                null, null);
+    }
+
+    private void givenASimpleRegistration(Long lifetime) {
+
+        Registration.Builder builder = new Registration.Builder(registrationId, ep,
+                new IpPeer(new InetSocketAddress(address, port)), endpointUri);
+
+        registration = builder.lifeTimeInSec(lifetime).smsNumber(sms).bindingMode(binding).objectLinks(objectLinks)
+                .build();
+    }
+}
@@ -20,6 +20,8 @@ package org.eclipse.leshan.server.registration;
 import static org.eclipse.leshan.core.util.TestToolBox.uriHandler;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -27,6 +29,8 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
 import java.util.EnumSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.leshan.core.link.Link;
 import org.eclipse.leshan.core.peer.IpPeer;
@@ -98,6 +102,32 @@ public class InMemoryRegistrationStoreTest {
         assertTrue(reg.isAlive());
     }
 
+    @Test
+    public void cleaner_only_removes_expired_registrations() throws InterruptedException {
+        InMemoryRegistrationStore inMemoryStore = new InMemoryRegistrationStore(1);
+        store = inMemoryStore;
+        CountDownLatch expired = new CountDownLatch(1);
+        store.setExpirationListener((reg, observations) -> expired.countDown());
+
+        givenASimpleRegistration(0L);
+        store.addRegistration(registration);
+        Registration aliveRegistration = new Registration.Builder("4712", "urn:alive",
+                new IpPeer(new InetSocketAddress(address, port + 1)), uriHandler.createUri("coap://localhost:5683"))
+                        .lifeTimeInSec(lifetime).objectLinks(objectLinks).build();
+        store.addRegistration(aliveRegistration);
+
+        try {
+            inMemoryStore.start();
+            assertTrue(expired.await(5, TimeUnit.SECONDS));
+        } finally {
+            inMemoryStore.destroy();
+        }
+
+        assertNull(store.getRegistrationByEndpoint(ep));
+        assertNotNull(store.getRegistrationByEndpoint("urn:alive"));
+        assertEquals(1, inMemoryStore.getLastCleaningExpiredCount());
+    }
+
     private void givenASimpleRegistration(Long lifetime) {
 
         Registration.Builder builder = new Registration.Builder(registrationId, ep,
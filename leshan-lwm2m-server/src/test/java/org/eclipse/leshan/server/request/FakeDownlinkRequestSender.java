@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.server.request;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.leshan.core.request.DownlinkDeviceManagementRequest;
+import org.eclipse.leshan.core.response.ErrorCallback;
+import org.eclipse.leshan.core.response.ExecuteResponse;
+import org.eclipse.leshan.core.response.LwM2mResponse;
+import org.eclipse.leshan.core.response.ResponseCallback;
+import org.eclipse.leshan.server.registration.Registration;
+
+/**
+ * A {@link DownlinkRequestSender} which keeps sent requests, so tests can complete them when they want.
+ */
+public class FakeDownlinkRequestSender implements DownlinkRequestSender {
+
+    public final BlockingQueue<PendingRequest> pending = new LinkedBlockingQueue<>();
+    /** if <code>true</code> requests are completed with a success response as soon as they are sent */
+    public volatile boolean autoRespond = false;
+    /** if not <code>null</code>, called each time a request is sent */
+    public volatile Runnable beforeSend;
+
+    /**
+     * Wait for next sent request.
+     */
+    public PendingRequest next() throws InterruptedException {
+        PendingRequest request = pending.poll(1, TimeUnit.SECONDS);
+        assertNotNull(request);
+        return request;
+    }
+
+    @Override
+    public <T extends LwM2mResponse> T send(Registration destination, DownlinkDeviceManagementRequest<T> request,
+            LowerLayerConfig lowerLayerConfig, long timeoutInMs) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T extends LwM2mResponse> void send(Registration destination, DownlinkDeviceManagementRequest<T> request,
+            LowerLayerConfig lowerLayerConfig, long timeoutInMs, ResponseCallback<T> responseCallback,
+            ErrorCallback errorCallback) {
+        if (beforeSend != null) {
+            beforeSend.run();
+        }
+        PendingRequest pendingRequest = new PendingRequest(responseCallback, errorCallback);
+        if (autoRespond) {
+            pendingRequest.succeed();
+        } else {
+            pending.add(pendingRequest);
+        }
+    }
+
+    @Override
+    public void cancelOngoingRequests(Registration registration) {
+    }
+
+    public static class PendingRequest {
+        private final ResponseCallback<LwM2mResponse> responseCallback;
+        private final ErrorCallback errorCallback;
+
+        @SuppressWarnings("unchecked")
+        PendingRequest(ResponseCallback<?> responseCallback, ErrorCallback errorCallback) {
+            this.responseCallback = (ResponseCallback<LwM2mResponse>) responseCallback;
+            this.errorCallback = errorCallback;
+        }
+
+        public void succeed() {
+            responseCallback.onResponse(ExecuteResponse.success());
+        }
+
+        public void fail(Exception e) {
+            errorCallback.onError(e);
+        }
+    }
+}
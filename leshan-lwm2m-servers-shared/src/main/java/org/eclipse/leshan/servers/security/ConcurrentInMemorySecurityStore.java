@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.servers.security;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.leshan.core.peer.OscoreIdentity;
+import org.eclipse.leshan.core.util.Validate;
+
+/**
+ * An in memory {@link SecurityStore} designed for servers handling a large number of clients.
+ * <p>
+ * Unlike {@link InMemorySecurityStore} which guards all its data with one read/write lock, this store keeps its data in
+ * {@link ConcurrentHashMap}s :
+ * <ul>
+ * <li>lookups never block, so a burst of DTLS handshakes (e.g. after a server restart) does not contend on a lock,</li>
+ * <li>modifications for different endpoints run in parallel, modifications for a given endpoint are serialized using a
+ * fixed set of striped locks,</li>
+ * <li>PSK identities and OSCORE identities are claimed atomically in their index, so they stay unique even when 2
+ * endpoints try to use the same one concurrently.</li>
+ * </ul>
+ * <p>
+ * A lookup running concurrently to a modification of the same endpoint may see either the previous or the new
+ * {@link SecurityInfo}.
+ */
+public class ConcurrentInMemorySecurityStore implements EditableSecurityStore {
+
+    /**
+     * The default number of locks used to serialize modifications.
+     */
+    public static final int DEFAULT_CONCURRENCY_LEVEL = 64;
+
+    // by client end-point
+    private final ConcurrentMap<String, SecurityInfo> securityByEp = new ConcurrentHashMap<>();
+
+    // by PSK identity
+    private final ConcurrentMap<String, SecurityInfo> securityByPskIdentity = new ConcurrentHashMap<>();
+
+    // by OSCORE identity
+    private final ConcurrentMap<OscoreIdentity, SecurityInfo> securityByOscoreIdentity = new ConcurrentHashMap<>();
+
+    // Locks striped by endpoint
+    private final Lock[] locks;
+    private final int lockMask;
+
+    private final List<SecurityStoreListener> listeners = new CopyOnWriteArrayList<>();
+
+    public ConcurrentInMemorySecurityStore() {
+        this(DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * @param concurrencyLevel the number of locks used to serialize modifications, rounded up to a power of 2.
+     */
+    public ConcurrentInMemorySecurityStore(int concurrencyLevel) {
+        Validate.isTrue(concurrencyLevel > 0, "concurrencyLevel must be strictly positive");
+        int size = Integer.highestOneBit(concurrencyLevel);
+        if (size < concurrencyLevel) {
+            size <<= 1;
+        }
+        this.locks = new Lock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.lockMask = size - 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SecurityInfo getByEndpoint(String endpoint) {
+        return securityByEp.get(endpoint);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SecurityInfo getByIdentity(String identity) {
+        return securityByPskIdentity.get(identity);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SecurityInfo getByOscoreIdentity(OscoreIdentity oscoreIdentity) {
+        return securityByOscoreIdentity.get(oscoreIdentity);
+    }
+
+    @Override
+    public Collection<SecurityInfo> getAll() {
+        return Collections.unmodifiableCollection(new ArrayList<>(securityByEp.values()));
+    }
+
+    @Override
+    public SecurityInfo add(SecurityInfo info) throws NonUniqueSecurityInfoException {
+        Lock lock = lockFor(info.getEndpoint());
+        lock.lock();
+        try {
+            SecurityInfo previous = securityByEp.get(info.getEndpoint());
+
+            // Claim identities, rollback all claims if one is already used by another endpoint
+            String pskIdentity = info.getPskIdentity();
+            OscoreIdentity oscoreIdentity = getOscoreIdentity(info);
+            if (!claim(securityByPskIdentity, pskIdentity, info)) {
+                throw new NonUniqueSecurityInfoException("PSK Identity " + pskIdentity + " is already used");
+            }
+            if (!claim(securityByOscoreIdentity, oscoreIdentity, info)) {
+                release(securityByPskIdentity, pskIdentity, info, previous == null ? null : previous.getPskIdentity(),
+                        previous);
+                throw new NonUniqueSecurityInfoException("Oscore Identity " + oscoreIdentity + " is already used");
+            }
+
+            // Add new security info
+            securityByEp.put(info.getEndpoint(), info);
+
+            // Remove indexes of previous security info which are not used anymore
+            if (previous != null) {
+                removeIfChanged(securityByPskIdentity, previous.getPskIdentity(), pskIdentity, previous);
+                removeIfChanged(securityByOscoreIdentity, getOscoreIdentity(previous), oscoreIdentity, previous);
+            }
+            return previous;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public SecurityInfo remove(String endpoint, boolean infosAreCompromised) {
+        Lock lock = lockFor(endpoint);
+        lock.lock();
+        try {
+            SecurityInfo info = securityByEp.remove(endpoint);
+            if (info != null) {
+                removeIfChanged(securityByPskIdentity, info.getPskIdentity(), null, info);
+                removeIfChanged(securityByOscoreIdentity, getOscoreIdentity(info), null, info);
+                for (SecurityStoreListener listener : listeners) {
+                    listener.securityInfoRemoved(infosAreCompromised, info);
+                }
+            }
+            return info;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Associate key to info in index, unless key is used by another endpoint.
+     *
+     * @return <code>false</code> if key is already used by another endpoint.
+     */
+    private <K> boolean claim(ConcurrentMap<K, SecurityInfo> index, K key, SecurityInfo info) {
+        if (key == null) {
+            return true;
+        }
+        while (true) {
+            SecurityInfo current = index.putIfAbsent(key, info);
+            if (current == null) {
+                return true;
+            }
+            if (!current.getEndpoint().equals(info.getEndpoint())) {
+                return false;
+            }
+            if (index.replace(key, current, info)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Rollback a successful {@link #claim(ConcurrentMap, Object, SecurityInfo)}.
+     */
+    private <K> void release(ConcurrentMap<K, SecurityInfo> index, K key, SecurityInfo info, K previousKey,
+            SecurityInfo previous) {
+        if (key == null) {
+            return;
+        }
+        if (key.equals(previousKey)) {
+            index.replace(key, info, previous);
+        } else {
+            index.remove(key, info);
+        }
+    }
+
+    private <K> void removeIfChanged(ConcurrentMap<K, SecurityInfo> index, K previousKey, K newKey,
+            SecurityInfo previous) {
+        if (previousKey != null && !previousKey.equals(newKey)) {
+            index.remove(previousKey, previous);
+        }
+    }
+
+    private Lock lockFor(String endpoint) {
+        int h = endpoint.hashCode();
+        // spread high bits as ConcurrentHashMap does
+        h ^= (h >>> 16);
+        return locks[h & lockMask];
+    }
+
+    protected OscoreIdentity getOscoreIdentity(SecurityInfo info) {
+        return info == null || info.getOscoreSetting() == null ? null
+                : new OscoreIdentity(info.getOscoreSetting().getRecipientId());
+    }
+
+    @Override
+    public void addListener(SecurityStoreListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(SecurityStoreListener listener) {
+        listeners.remove(listener);
+    }
+}
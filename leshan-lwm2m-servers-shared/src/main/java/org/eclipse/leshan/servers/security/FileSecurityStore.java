@@ -15,13 +15,34 @@
  *******************************************************************************/
 package org.eclipse.leshan.servers.security;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
 
+import org.eclipse.leshan.core.Destroyable;
+import org.eclipse.leshan.core.util.NamedThreadFactory;
 import org.eclipse.leshan.core.util.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,27 +50,93 @@ import org.slf4j.LoggerFactory;
 /**
  * A {@link SecurityStore} which persists {@link SecurityInfo} in a file.
  * <p>
- * This implementation serializes the store content into a file to be able to re-load the {@link SecurityInfo} when the
- * server is restarted.
+ * This implementation persists the store content to be able to re-load the {@link SecurityInfo} when the server is
+ * restarted. It uses 2 files :
+ * <ul>
+ * <li>a snapshot of the store content, at the given path,</li>
+ * <li>a journal (same path with a {@code .journal} suffix), where each {@code add} and {@code remove} appends one
+ * record.</li>
+ * </ul>
+ * So a modification only costs the size of one {@link SecurityInfo} on disk, whatever the size of the store. When the
+ * journal contains as many records as the snapshot has entries (and at least the compaction threshold), the snapshot is
+ * rewritten and the journal is emptied. So the total amount of data written to disk stays proportional to the number of
+ * modifications.
+ * <p>
+ * Journal writes are flushed to disk (fsync) in batches, at most sync interval after the modification. A sync interval
+ * of 0 flushes each modification before returning. On startup, the snapshot and the journal are memory-mapped and
+ * replayed; a record partially written by a crash is detected by its checksum and discarded.
+ * <p>
+ * Snapshots written by previous versions (a serialized {@link SecurityInfo} array) are still loaded, and are converted
+ * on next compaction.
  * </p>
  */
-public class FileSecurityStore extends InMemorySecurityStore {
+public class FileSecurityStore extends InMemorySecurityStore implements Destroyable {
 
     private static final Logger LOG = LoggerFactory.getLogger(FileSecurityStore.class);
 
+    // default location for persistence
+    private static final String DEFAULT_FILE = "data/security.data";
+
+    /**
+     * The default maximum time in milliseconds between a modification and its flush to disk.
+     */
+    public static final long DEFAULT_SYNC_INTERVAL = 1000; // ms
+
+    /**
+     * The default minimum number of journal records before a compaction.
+     */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    // file format : a magic number followed by records
+    private static final int MAGIC = 0x4C534543; // "LSEC"
+    private static final int HEADER_SIZE = 4;
+    // record : length (of operation + payload), crc32 (of operation + payload), operation, payload
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final byte ADD = 1;
+    private static final byte REMOVE = 2;
+    // a whole store content, used by snapshot as one deserialization of an array is faster than many small ones
+    private static final byte ADD_ALL = 3;
+
     // the name of the file used to persist the store content
     private final String filename;
+    private final Path snapshotPath;
+    private final Path journalPath;
+    private final long syncIntervalInMs;
+    private final int compactionThreshold;
 
-    // default location for persistence
-    private static final String DEFAULT_FILE = "data/security.data";
+    // serializes modifications, so journal order is store modification order. Lookups do not use it.
+    private final ReentrantLock journalLock = new ReentrantLock();
+    // fields below are guarded by journalLock
+    private FileChannel journal;
+    private long validJournalLength; // length of the valid part of journal
+    private int journalRecords;
+    private int snapshotEntries; // number of entries in snapshot when it was written
+    private boolean syncPending;
+    private ScheduledExecutorService syncExecutor;
+    private boolean destroyed;
 
     public FileSecurityStore() {
         this(DEFAULT_FILE);
     }
 
     public FileSecurityStore(String file) {
+        this(file, DEFAULT_SYNC_INTERVAL, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * @param file the path of the snapshot file, the journal uses the same path with a {@code .journal} suffix.
+     * @param syncIntervalInMs maximum time between a modification and its flush to disk, 0 to flush each modification.
+     * @param compactionThreshold minimum number of journal records before the snapshot is rewritten.
+     */
+    public FileSecurityStore(String file, long syncIntervalInMs, int compactionThreshold) {
         Validate.notEmpty(file);
+        Validate.isTrue(syncIntervalInMs >= 0, "syncIntervalInMs must be positive");
+        Validate.isTrue(compactionThreshold > 0, "compactionThreshold must be strictly positive");
         filename = file;
+        snapshotPath = new File(file).toPath();
+        journalPath = new File(file + ".journal").toPath();
+        this.syncIntervalInMs = syncIntervalInMs;
+        this.compactionThreshold = compactionThreshold;
         loadFromFile();
     }
 
@@ -57,71 +144,361 @@ public class FileSecurityStore extends InMemorySecurityStore {
         return super.add(info);
     }
 
+    protected SecurityInfo removeFromStore(String endpoint, boolean infosAreCompromised) {
+        return super.remove(endpoint, infosAreCompromised);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if this store is destroyed.
+     */
     @Override
     public SecurityInfo add(SecurityInfo info) throws NonUniqueSecurityInfoException {
-        writeLock.lock();
+        byte[] payload = serialize(info);
+        journalLock.lock();
         try {
+            checkNotDestroyed();
             SecurityInfo previous = addToStore(info);
-            saveToFile();
+            appendToJournal(ADD, payload);
             return previous;
         } finally {
-            writeLock.unlock();
+            journalLock.unlock();
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if this store is destroyed.
+     */
     @Override
     public SecurityInfo remove(String endpoint, boolean infosAreCompromised) {
-        writeLock.lock();
+        journalLock.lock();
         try {
-            SecurityInfo info = super.remove(endpoint, infosAreCompromised);
+            checkNotDestroyed();
+            SecurityInfo info = removeFromStore(endpoint, infosAreCompromised);
             if (info != null) {
-                saveToFile();
+                appendToJournal(REMOVE, endpoint.getBytes(StandardCharsets.UTF_8));
             }
             return info;
         } finally {
-            writeLock.unlock();
+            journalLock.unlock();
+        }
+    }
+
+    // must be called while holding journalLock, so store is not modified once journal is closed
+    private void checkNotDestroyed() {
+        if (destroyed) {
+            throw new IllegalStateException("FileSecurityStore is destroyed, it can not be modified anymore");
         }
     }
 
+    // ********** Loading **********//
+
     protected void loadFromFile() {
-        File file = new File(filename);
-        if (!file.exists()) {
-            return;
+        File file = snapshotPath.toFile();
+        if (file.exists()) {
+            try {
+                if (hasMagic(file)) {
+                    replay(snapshotPath);
+                } else {
+                    loadLegacySnapshot(file);
+                }
+                snapshotEntries = size();
+                if (snapshotEntries > 0) {
+                    LOG.debug("{} security infos loaded", snapshotEntries);
+                }
+            } catch (IOException e) {
+                LOG.error("Could not load security infos from file", e);
+            }
+        }
+
+        if (journalPath.toFile().exists()) {
+            try {
+                ReplayResult result = replay(journalPath);
+                validJournalLength = result.validLength;
+                journalRecords = result.count;
+                if (result.count > 0) {
+                    LOG.debug("{} security infos modifications replayed from journal", result.count);
+                }
+            } catch (IOException e) {
+                LOG.error("Could not replay security infos journal", e);
+            }
         }
+    }
+
+    private boolean hasMagic(File file) throws IOException {
+        try (FileInputStream in = new FileInputStream(file)) {
+            byte[] header = new byte[HEADER_SIZE];
+            return in.read(header) == HEADER_SIZE && ByteBuffer.wrap(header).getInt() == MAGIC;
+        }
+    }
 
+    private void loadLegacySnapshot(File file) {
         try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(file));) {
-            SecurityInfo[] infos = (SecurityInfo[]) in.readObject();
+            addAllToStore((SecurityInfo[]) in.readObject());
+        } catch (IOException | ClassNotFoundException e) {
+            LOG.error("Could not load security infos from file", e);
+        }
+    }
 
-            if (infos != null) {
-                for (SecurityInfo info : infos) {
+    private static class ReplayResult {
+        int count;
+        long validLength;
+    }
+
+    /**
+     * Apply records of the given file to the store, until the end of file or the first invalid record.
+     */
+    private ReplayResult replay(Path path) throws IOException {
+        ReplayResult result = new ReplayResult();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+                LOG.warn("Ignoring {} which is not a security infos file", path);
+                return result;
+            }
+            result.validLength = HEADER_SIZE;
+            CRC32 crc = new CRC32();
+            while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+                int length = buffer.getInt();
+                int checksum = buffer.getInt();
+                if (length < 1 || length > buffer.remaining()) {
+                    break;
+                }
+                byte[] record = new byte[length];
+                buffer.get(record);
+                crc.reset();
+                crc.update(record, 0, length);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                apply(record);
+                result.count++;
+                result.validLength = buffer.position();
+            }
+            if (result.validLength < channel.size()) {
+                LOG.warn("Ignoring {} bytes of incomplete or corrupted records at the end of {}",
+                        channel.size() - result.validLength, path);
+            }
+        }
+        return result;
+    }
+
+    private void addAllToStore(SecurityInfo[] infos) {
+        if (infos != null) {
+            for (SecurityInfo info : infos) {
+                try {
                     addToStore(info);
+                } catch (NonUniqueSecurityInfoException e) {
+                    LOG.error("Could not load security info {} from file", info, e);
                 }
-                if (infos.length > 0) {
-                    LOG.debug("{} security infos loaded", infos.length);
+            }
+        }
+    }
+
+    private void apply(byte[] record) {
+        byte operation = record[0];
+        if (operation == ADD || operation == ADD_ALL) {
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(record, 1, record.length - 1))) {
+                if (operation == ADD) {
+                    addToStore((SecurityInfo) in.readObject());
+                } else {
+                    addAllToStore((SecurityInfo[]) in.readObject());
                 }
+            } catch (IOException | ClassNotFoundException | NonUniqueSecurityInfoException e) {
+                LOG.error("Could not load security info from file", e);
             }
-        } catch (NonUniqueSecurityInfoException | IOException | ClassNotFoundException e) {
-            LOG.error("Could not load security infos from file", e);
+        } else if (operation == REMOVE) {
+            removeFromStore(new String(record, 1, record.length - 1, StandardCharsets.UTF_8), false);
+        } else {
+            LOG.error("Unknown security info record type {}", operation);
+        }
+    }
+
+    // ********** Writing **********//
+
+    private byte[] serialize(Object info) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(info);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to serialize security info", e);
         }
+        return bytes.toByteArray();
     }
 
+    private ByteBuffer encodeRecord(byte operation, byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(operation);
+        crc.update(payload, 0, payload.length);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + 1 + payload.length);
+        record.putInt(1 + payload.length);
+        record.putInt((int) crc.getValue());
+        record.put(operation);
+        record.put(payload);
+        record.flip();
+        return record;
+    }
+
+    private void appendToJournal(byte operation, byte[] payload) {
+        try {
+            if (journal == null) {
+                openJournal();
+            }
+            ByteBuffer record = encodeRecord(operation, payload);
+            writeFully(journal, record);
+            validJournalLength = journal.position();
+            journalRecords++;
+
+            if (journalRecords >= compactionThreshold && journalRecords >= snapshotEntries) {
+                saveToFile();
+            } else if (syncIntervalInMs == 0) {
+                journal.force(false);
+            } else {
+                scheduleSync();
+            }
+        } catch (IOException e) {
+            LOG.error("Could not save security infos to file", e);
+        }
+    }
+
+    private void openJournal() throws IOException {
+        File parent = journalPath.toFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        if (validJournalLength < HEADER_SIZE) {
+            // new or invalid journal
+            journal.truncate(0);
+            writeFully(journal, (ByteBuffer) ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).flip());
+        } else if (journal.size() > validJournalLength) {
+            // remove incomplete records
+            journal.truncate(validJournalLength);
+        }
+        validJournalLength = journal.size();
+        journal.position(validJournalLength);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void scheduleSync() {
+        if (syncPending) {
+            return;
+        }
+        if (syncExecutor == null) {
+            final ThreadFactory threadFactory = new NamedThreadFactory("FileSecurityStore Sync#%d");
+            // daemon thread, so a pending sync does not prevent the JVM to exit
+            syncExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = threadFactory.newThread(r);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        syncPending = true;
+        syncExecutor.schedule(this::sync, syncIntervalInMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Flush journal records to disk.
+     */
+    public void sync() {
+        journalLock.lock();
+        try {
+            syncPending = false;
+            if (journal != null) {
+                journal.force(false);
+            }
+        } catch (IOException e) {
+            LOG.error("Could not flush security infos to disk", e);
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    /**
+     * Write a snapshot of the store content and empty the journal.
+     */
     protected void saveToFile() {
+        journalLock.lock();
         try {
-            File file = new File(filename);
-            if (!file.exists()) {
-                File parent = file.getParentFile();
-                if (parent != null) {
-                    parent.mkdirs();
-                }
-                if (!file.createNewFile()) {
-                    LOG.error("Can not create file {} for SecurityStore", filename);
-                }
+            if (destroyed) {
+                return;
+            }
+            File parent = snapshotPath.toFile().getParentFile();
+            if (parent != null) {
+                parent.mkdirs();
             }
-            try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(filename));) {
-                out.writeObject(this.getAll().toArray(new SecurityInfo[0]));
+            Path tmp = new File(filename + ".tmp").toPath();
+            SecurityInfo[] infos = getAll().toArray(new SecurityInfo[0]);
+            try (FileOutputStream file = new FileOutputStream(tmp.toFile());
+                    OutputStream out = new BufferedOutputStream(file)) {
+                out.write(ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).array());
+                out.write(encodeRecord(ADD_ALL, serialize(infos)).array());
+                out.flush();
+                file.getFD().sync();
             }
+            try {
+                Files.move(tmp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, snapshotPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            // A crash before the journal is emptied only replays modifications already in the snapshot.
+            if (journal == null) {
+                openJournal();
+            }
+            journal.truncate(HEADER_SIZE);
+            journal.position(HEADER_SIZE);
+            journal.force(false);
+            snapshotEntries = infos.length;
+            validJournalLength = HEADER_SIZE;
+            journalRecords = 0;
         } catch (IOException e) {
             LOG.error("Could not save security infos to file", e);
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    private int size() {
+        readLock.lock();
+        try {
+            return securityByEp.size();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Flush pending modifications to disk and release files.
+     */
+    @Override
+    public void destroy() {
+        journalLock.lock();
+        try {
+            if (destroyed) {
+                return;
+            }
+            destroyed = true;
+            if (syncExecutor != null) {
+                syncExecutor.shutdownNow();
+            }
+            if (journal != null) {
+                journal.force(false);
+                journal.close();
+                journal = null;
+            }
+        } catch (IOException e) {
+            LOG.error("Could not close security infos journal", e);
+        } finally {
+            journalLock.unlock();
         }
     }
 }
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.servers.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentInMemorySecurityStoreTest {
+
+    private ConcurrentInMemorySecurityStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ConcurrentInMemorySecurityStore();
+    }
+
+    private PublicKey givenARawPublicKey() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(256);
+        return generator.generateKeyPair().getPublic();
+    }
+
+    @Test
+    void lookup_by_all_indexes() throws Exception {
+        PublicKey publicKey = givenARawPublicKey();
+        SecurityInfo psk = SecurityInfo.newPreSharedKeyInfo("psk-ep", "psk-id", new byte[] { 1 });
+        SecurityInfo rpk = SecurityInfo.newRawPublicKeyInfo("rpk-ep", publicKey);
+        SecurityInfo x509 = SecurityInfo.newX509CertInfo("x509-ep");
+        store.add(psk);
+        store.add(rpk);
+        store.add(x509);
+
+        assertSame(psk, store.getByIdentity("psk-id"));
+        assertSame(rpk, store.getByEndpoint("rpk-ep"));
+        assertSame(x509, store.getByEndpoint("x509-ep"));
+        assertEquals(3, store.getAll().size());
+    }
+
+    @Test
+    void update_replaces_indexes_of_previous_info() throws Exception {
+        PublicKey publicKey = givenARawPublicKey();
+        SecurityInfo psk = SecurityInfo.newPreSharedKeyInfo("ep", "psk-id", new byte[] { 1 });
+        store.add(psk);
+
+        SecurityInfo rpk = SecurityInfo.newRawPublicKeyInfo("ep", publicKey);
+        assertSame(psk, store.add(rpk));
+
+        assertNull(store.getByIdentity("psk-id"));
+        assertSame(rpk, store.getByEndpoint("ep"));
+    }
+
+    @Test
+    void identities_must_be_unique() throws Exception {
+        store.add(SecurityInfo.newPreSharedKeyInfo("ep1", "psk-id", new byte[] { 1 }));
+
+        assertThrows(NonUniqueSecurityInfoException.class,
+                () -> store.add(SecurityInfo.newPreSharedKeyInfo("ep2", "psk-id", new byte[] { 2 })));
+        assertNull(store.getByEndpoint("ep2"));
+        assertEquals("ep1", store.getByIdentity("psk-id").getEndpoint());
+    }
+
+    @Test
+    void rejected_update_keeps_previous_info() throws Exception {
+        SecurityInfo previous = SecurityInfo.newPreSharedKeyInfo("ep1", "psk-id", new byte[] { 1 });
+        store.add(previous);
+        store.add(SecurityInfo.newPreSharedKeyInfo("ep2", "other-id", new byte[] { 1 }));
+
+        assertThrows(NonUniqueSecurityInfoException.class,
+                () -> store.add(SecurityInfo.newPreSharedKeyInfo("ep1", "other-id", new byte[] { 2 })));
+        assertSame(previous, store.getByEndpoint("ep1"));
+        assertSame(previous, store.getByIdentity("psk-id"));
+    }
+
+    @Test
+    void remove_cleans_all_indexes() throws Exception {
+        store.add(SecurityInfo.newPreSharedKeyInfo("ep", "psk-id", new byte[] { 1 }));
+        final List<SecurityInfo> removed = new ArrayList<>();
+        store.addListener((infosAreCompromised, infos) -> {
+            for (SecurityInfo info : infos) {
+                removed.add(info);
+            }
+        });
+
+        SecurityInfo info = store.remove("ep", true);
+
+        assertEquals("ep", info.getEndpoint());
+        assertEquals(1, removed.size());
+        assertNull(store.getByIdentity("psk-id"));
+        assertNull(store.getByEndpoint("ep"));
+        // identity can be reused by another endpoint
+        store.add(SecurityInfo.newPreSharedKeyInfo("ep2", "psk-id", new byte[] { 1 }));
+    }
+
+    @Test
+    void concurrent_adds_with_same_identity_keep_one_owner() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int round = 0; round < 50; round++) {
+                final String identity = "psk-id-" + round;
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    final String endpoint = "ep-" + round + "-" + i;
+                    results.add(executor.submit(new Callable<Boolean>() {
+                        @Override
+                        public Boolean call() {
+                            try {
+                                store.add(SecurityInfo.newPreSharedKeyInfo(endpoint, identity, new byte[] { 1 }));
+                                return true;
+                            } catch (NonUniqueSecurityInfoException e) {
+                                return false;
+                            }
+                        }
+                    }));
+                }
+                int added = 0;
+                for (Future<Boolean> result : results) {
+                    if (result.get()) {
+                        added++;
+                    }
+                }
+                assertEquals(1, added);
+                SecurityInfo owner = store.getByIdentity(identity);
+                assertSame(owner, store.getByEndpoint(owner.getEndpoint()));
+            }
+            assertEquals(50, store.getAll().size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.servers.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileSecurityStoreTest {
+
+    @TempDir
+    File folder;
+
+    private String filename() {
+        return new File(folder, "security.data").getPath();
+    }
+
+    private File journal() {
+        return new File(filename() + ".journal");
+    }
+
+    private SecurityInfo psk(int i) {
+        return SecurityInfo.newPreSharedKeyInfo("ep" + i, "id" + i, new byte[] { (byte) i });
+    }
+
+    @Test
+    void modifications_are_reloaded() throws Exception {
+        FileSecurityStore store = new FileSecurityStore(filename(), 0, 1000);
+        store.add(psk(1));
+        store.add(psk(2));
+        store.add(psk(3));
+        store.remove("ep2", false);
+        store.add(SecurityInfo.newPreSharedKeyInfo("ep3", "new-id3", new byte[] { 3 }));
+        store.destroy();
+
+        FileSecurityStore reloaded = new FileSecurityStore(filename(), 0, 1000);
+        assertEquals(2, reloaded.getAll().size());
+        assertEquals(psk(1), reloaded.getByEndpoint("ep1"));
+        assertNull(reloaded.getByEndpoint("ep2"));
+        assertNull(reloaded.getByIdentity("id3"));
+        assertEquals("ep3", reloaded.getByIdentity("new-id3").getEndpoint());
+        reloaded.destroy();
+    }
+
+    @Test
+    void modification_only_appends_to_journal() throws Exception {
+        FileSecurityStore store = new FileSecurityStore(filename(), 0, 1000);
+        store.add(psk(1));
+        long length = journal().length();
+        store.add(psk(2));
+
+        assertFalse(new File(filename()).exists());
+        // second record has the same size than the first one
+        assertEquals(length + (length - 4), journal().length());
+        store.destroy();
+    }
+
+    @Test
+    void journal_is_compacted_into_snapshot() throws Exception {
+        FileSecurityStore store = new FileSecurityStore(filename(), 0, 5);
+        store.add(psk(99));
+        long length = journal().length();
+        // use endpoints of same length, so all records have the same size
+        for (int i = 10; i < 22; i++) {
+            store.add(psk(i));
+        }
+        // replace the same entries, so journal becomes bigger than store
+        for (int i = 10; i < 22; i++) {
+            store.add(psk(i));
+        }
+        store.destroy();
+
+        // compactions after 5, 10 and 20 modifications, so the last 5 ones are still in journal
+        assertTrue(new File(filename()).exists());
+        assertEquals(4 + 5 * (length - 4), journal().length());
+
+        FileSecurityStore reloaded = new FileSecurityStore(filename(), 0, 5);
+        assertEquals(13, reloaded.getAll().size());
+        assertEquals(psk(21), reloaded.getByIdentity("id21"));
+        reloaded.destroy();
+    }
+
+    @Test
+    void incomplete_record_is_ignored() throws Exception {
+        FileSecurityStore store = new FileSecurityStore(filename(), 0, 1000);
+        store.add(psk(1));
+        store.add(psk(2));
+        store.destroy();
+        // simulate a crash while writing a record
+        Files.write(journal().toPath(), new byte[] { 0, 0, 1, 0, 1, 2, 3 }, StandardOpenOption.APPEND);
+
+        FileSecurityStore reloaded = new FileSecurityStore(filename(), 0, 1000);
+        assertEquals(2, reloaded.getAll().size());
+        reloaded.add(psk(3));
+        reloaded.destroy();
+
+        reloaded = new FileSecurityStore(filename(), 0, 1000);
+        assertEquals(3, reloaded.getAll().size());
+        reloaded.destroy();
+    }
+
+    @Test
+    void snapshot_of_previous_format_is_loaded() throws Exception {
+        try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(filename()))) {
+            out.writeObject(new SecurityInfo[] { psk(1), psk(2) });
+        }
+
+        FileSecurityStore store = new FileSecurityStore(filename(), 0, 1000);
+        assertEquals(2, store.getAll().size());
+        store.add(psk(3));
+        store.destroy();
+
+        store = new FileSecurityStore(filename(), 0, 1000);
+        assertEquals(3, store.getAll().size());
+        store.destroy();
+    }
+
+    @Test
+    void batched_sync_keeps_modifications() throws IOException, NonUniqueSecurityInfoException {
+        FileSecurityStore store = new FileSecurityStore(filename(), 60000, 1000);
+        store.add(psk(1));
+        store.sync();
+        store.destroy();
+
+        FileSecurityStore reloaded = new FileSecurityStore(filename(), 0, 1000);
+        assertEquals(psk(1), reloaded.getByEndpoint("ep1"));
+        reloaded.destroy();
+    }
+
+    @Test
+    void destroyed_store_can_not_be_modified() throws Exception {
+        FileSecurityStore store = new FileSecurityStore(filename(), 60000, 1000);
+        store.add(psk(1));
+        store.destroy();
+        long length = journal().length();
+
+        assertThrows(IllegalStateException.class, () -> store.add(psk(2)));
+        assertThrows(IllegalStateException.class, () -> store.remove("ep1", false));
+
+        // store and journal are unchanged
+        assertNull(store.getByEndpoint("ep2"));
+        assertEquals(psk(1), store.getByEndpoint("ep1"));
+        assertEquals(length, journal().length());
+    }
+}
@@ -20,21 +20,27 @@ package org.eclipse.leshan.transport.californium.client;
 
 import static org.eclipse.leshan.transport.californium.ResponseCodeUtil.toCoapResponseCode;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.californium.core.CoapExchange;
 import org.eclipse.californium.core.CoapResource;
 import org.eclipse.californium.core.CoapServer;
+import org.eclipse.californium.core.coap.CoAP;
 import org.eclipse.californium.core.coap.CoAP.ResponseCode;
 import org.eclipse.californium.core.coap.MediaTypeRegistry;
 import org.eclipse.californium.core.coap.Request;
+import org.eclipse.californium.core.observe.ObserveRelation;
+import org.eclipse.californium.core.server.resources.ResourceObserverAdapter;
 import org.eclipse.leshan.client.endpoint.ClientEndpointToolbox;
 import org.eclipse.leshan.client.request.DownlinkRequestReceiver;
 import org.eclipse.leshan.client.servers.LwM2mServer;
 import org.eclipse.leshan.core.node.LwM2mNode;
 import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.LwM2mPathTrie;
 import org.eclipse.leshan.core.request.BootstrapDeleteRequest;
 import org.eclipse.leshan.core.request.BootstrapDiscoverRequest;
 import org.eclipse.leshan.core.request.ContentFormat;
@@ -58,6 +64,8 @@ public class RootResource extends LwM2mClientCoapResource {
 
     protected DownlinkRequestReceiver requestReceiver;
     protected ClientEndpointToolbox toolbox;
+    // composite observe relations indexed by observed paths
+    protected final LwM2mPathTrie<ObserveRelation> observeRelations = new LwM2mPathTrie<>();
 
     public RootResource(IdentityHandlerProvider identityHandlerProvider,
             ServerIdentityExtractor serverIdentityExtractor, CoapServer coapServer,
@@ -67,6 +75,42 @@ public class RootResource extends LwM2mClientCoapResource {
         setObservable(true);
         this.requestReceiver = requestReceiver;
         this.toolbox = toolbox;
+
+        this.addObserver(new ResourceObserverAdapter() {
+            @Override
+            public void addedObserveRelation(ObserveRelation relation) {
+                for (LwM2mPath path : getObservedPaths(relation)) {
+                    observeRelations.add(path, relation);
+                }
+            }
+
+            @Override
+            public void removedObserveRelation(ObserveRelation relation) {
+                for (LwM2mPath path : getObservedPaths(relation)) {
+                    observeRelations.remove(path, relation);
+                }
+            }
+        });
+    }
+
+    /**
+     * Send notification for Observe-Composite relations which target one of the given paths or one of their parents.
+     */
+    public void resourceChanged(LwM2mPath... paths) {
+        Set<ObserveRelation> relations = observeRelations.findMatchingValues(paths);
+        if (!relations.isEmpty()) {
+            changed(relations::contains);
+        }
+    }
+
+    protected List<LwM2mPath> getObservedPaths(ObserveRelation relation) {
+        Request request = relation.getExchange().getRequest();
+        if (!request.getCode().equals(CoAP.Code.FETCH) || !request.getOptions().hasContentFormat()
+                || request.getUserContext() == null) {
+            return Collections.emptyList();
+        }
+        List<LwM2mPath> paths = ObserveUtil.getPathsFromContext(request.getUserContext());
+        return paths != null ? paths : Collections.<LwM2mPath> emptyList();
     }
 
     @Override
@@ -37,7 +37,6 @@ import org.eclipse.leshan.core.peer.IpPeer;
 import org.eclipse.leshan.core.peer.LwM2mPeer;
 import org.eclipse.leshan.core.request.UplinkRequest;
 import org.eclipse.leshan.core.response.LwM2mResponse;
-import org.eclipse.leshan.transport.californium.client.ObserveCompositeRelationFilter;
 import org.eclipse.leshan.transport.californium.client.RootResource;
 import org.eclipse.leshan.transport.californium.client.bootstrap.BootstrapResource;
 import org.eclipse.leshan.transport.californium.client.object.ObjectResource;
@@ -82,7 +81,7 @@ public class ClientCoapMessageTranslator {
         objectTree.addListener(new ObjectsListenerAdapter() {
             @Override
             public void resourceChanged(LwM2mPath... paths) {
-                rootResource.changed(new ObserveCompositeRelationFilter(paths));
+                rootResource.resourceChanged(paths);
             }
         });
         return rootResource;
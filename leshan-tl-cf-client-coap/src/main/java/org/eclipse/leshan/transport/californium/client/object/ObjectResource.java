@@ -24,6 +24,7 @@ package org.eclipse.leshan.transport.californium.client.object;
 import static org.eclipse.leshan.transport.californium.ResponseCodeUtil.toCoapResponseCode;
 
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.californium.core.CoapExchange;
 import org.eclipse.californium.core.coap.CoAP.ResponseCode;
@@ -48,6 +49,7 @@ import org.eclipse.leshan.core.node.LwM2mNode;
 import org.eclipse.leshan.core.node.LwM2mObject;
 import org.eclipse.leshan.core.node.LwM2mObjectInstance;
 import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.LwM2mPathTrie;
 import org.eclipse.leshan.core.node.LwM2mResource;
 import org.eclipse.leshan.core.node.codec.CodecException;
 import org.eclipse.leshan.core.request.BootstrapDeleteRequest;
@@ -94,6 +96,8 @@ public class ObjectResource extends LwM2mClientCoapResource implements ObjectLis
     protected DownlinkRequestReceiver requestReceiver;
     protected ClientEndpointToolbox toolbox;
     protected NotificationManager notificationManager;
+    // observe relations indexed by observed path
+    protected final LwM2mPathTrie<ObserveRelation> observeRelations = new LwM2mPathTrie<>();
 
     public ObjectResource(int objectId, IdentityHandlerProvider identityHandlerProvider,
             ServerIdentityExtractor serverIdentityExtractor, DownlinkRequestReceiver requestReceiver,
@@ -106,8 +110,21 @@ public class ObjectResource extends LwM2mClientCoapResource implements ObjectLis
 
         this.addObserver(new ResourceObserverAdapter() {
 
+            @Override
+            public void addedObserveRelation(ObserveRelation relation) {
+                LwM2mPath path = getObservedPath(relation);
+                if (path != null) {
+                    observeRelations.add(path, relation);
+                }
+            }
+
             @Override
             public void removedObserveRelation(ObserveRelation relation) {
+                LwM2mPath path = getObservedPath(relation);
+                if (path != null) {
+                    observeRelations.remove(path, relation);
+                }
+
                 // Get object URI
                 Request request = relation.getExchange().getRequest();
                 String URI = request.getOptions().getUriPathString();
@@ -549,7 +566,10 @@ public class ObjectResource extends LwM2mClientCoapResource implements ObjectLis
     public void resourceChanged(LwM2mPath... paths) {
         // notify CoAP layer than resources changes, this will send observe notification if an observe relationship
         // exits.
-        changed(new ResourceObserveFilter(paths));
+        Set<ObserveRelation> relations = observeRelations.findMatchingValues(paths);
+        if (!relations.isEmpty()) {
+            changed(relations::contains);
+        }
     }
 
     @Override
@@ -561,6 +581,14 @@ public class ObjectResource extends LwM2mClientCoapResource implements ObjectLis
         changed(new InstanceRemovedFilter(object.getId(), instanceIds));
     }
 
+    protected LwM2mPath getObservedPath(ObserveRelation relation) {
+        try {
+            return new LwM2mPath("/" + relation.getExchange().getRequest().getOptions().getUriPathString());
+        } catch (InvalidLwM2mPathException e) {
+            return null;
+        }
+    }
+
     protected LwM2mPath getPath(String URI) throws InvalidRequestException {
         try {
             return new LwM2mPath(URI);
@@ -51,6 +51,7 @@ import org.eclipse.leshan.server.endpoint.LwM2mServerEndpoint;
 import org.eclipse.leshan.server.endpoint.LwM2mServerEndpointsProvider;
 import org.eclipse.leshan.server.endpoint.ServerEndpointToolbox;
 import org.eclipse.leshan.server.observation.LwM2mNotificationReceiver;
+import org.eclipse.leshan.server.observation.NotificationLookupCache.NotificationContext;
 import org.eclipse.leshan.server.profile.ClientProfile;
 import org.eclipse.leshan.server.request.UplinkDeviceManagementRequestReceiver;
 import org.eclipse.leshan.servers.security.ServerSecurityInfo;
@@ -153,8 +154,12 @@ public class CaliforniumServerEndpointsProvider implements LwM2mServerEndpointsP
                 coapEndpoint.addNotificationListener((coapRequest, coapResponse) -> {
                     // Get Observation
                     String regid = coapRequest.getUserContext().get(ObserveUtil.CTX_REGID);
-                    Observation observation = server.getRegistrationStore().getObservation(regid,
-                            new ObservationIdentifier(lwm2mEndpoint.getURI(), coapResponse.getToken().getBytes()));
+                    NotificationContext context = server.getNotificationLookupCache()
+                            .get(new ObservationIdentifier(lwm2mEndpoint.getURI(), coapResponse.getToken().getBytes()));
+                    Observation observation = null;
+                    if (context != null && context.getObservation().getRegistrationId().equals(regid)) {
+                        observation = context.getObservation();
+                    }
                     if (observation == null) {
                         LOG.warn("Unexpected error: Unable to find observation with token {} for registration {}",
                                 coapResponse.getToken(), regid);
@@ -164,7 +169,11 @@ public class CaliforniumServerEndpointsProvider implements LwM2mServerEndpointsP
                     }
                     // Get profile
                     LwM2mPeer client = identityHandler.getIdentity(coapResponse);
-                    ClientProfile profile = toolbox.getProfileProvider().getProfile(client.getIdentity());
+                    ClientProfile profile = context.getProfile();
+                    if (!profile.getTransportData().getIdentity().equals(client.getIdentity())) {
+                        // notification does not come from registration owning the observation
+                        profile = toolbox.getProfileProvider().getProfile(client.getIdentity());
+                    }
                     if (profile == null) {
                         LOG.warn("Unexpected error: Unable to find registration with id {} for observation {}", regid,
                                 coapResponse.getToken());
@@ -143,7 +143,8 @@ public class CoapServerEndpointFactory implements CaliforniumServerEndpointFacto
         builder.setLoggingTag(getLoggingTag());
 
         builder.setObservationStore(new LwM2mObservationStore(uriProvider, server.getRegistrationStore(),
-                notificationReceiver, new ObservationSerDes(new UdpDataParser(), new UdpDataSerializer())));
+                notificationReceiver, new ObservationSerDes(new UdpDataParser(), new UdpDataSerializer()),
+                server.getNotificationLookupCache()));
 
         if (coapEndpointConfigInitializer != null)
             coapEndpointConfigInitializer.accept(builder);
@@ -261,7 +261,8 @@ public class CoapsServerEndpointFactory implements CaliforniumServerEndpointFact
     protected LwM2mObservationStore createObservationStore(LeshanServer server,
             LwM2mNotificationReceiver notificationReceiver, EffectiveEndpointUriProvider endpointUriProvider) {
         return new LwM2mObservationStore(endpointUriProvider, server.getRegistrationStore(), notificationReceiver,
-                new ObservationSerDes(new UdpDataParser(), new UdpDataSerializer()));
+                new ObservationSerDes(new UdpDataParser(), new UdpDataSerializer()),
+                server.getNotificationLookupCache());
     }
 
     /**
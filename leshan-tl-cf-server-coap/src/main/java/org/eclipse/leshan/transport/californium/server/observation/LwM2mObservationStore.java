@@ -26,6 +26,8 @@ import org.eclipse.californium.elements.EndpointContext;
 import org.eclipse.leshan.core.observation.ObservationIdentifier;
 import org.eclipse.leshan.server.endpoint.EffectiveEndpointUriProvider;
 import org.eclipse.leshan.server.observation.LwM2mNotificationReceiver;
+import org.eclipse.leshan.server.observation.NotificationLookupCache;
+import org.eclipse.leshan.server.observation.NotificationLookupCache.NotificationContext;
 import org.eclipse.leshan.server.registration.RegistrationStore;
 import org.eclipse.leshan.transport.californium.ObserveUtil;
 
@@ -35,13 +37,25 @@ public class LwM2mObservationStore implements ObservationStore {
     private final LwM2mNotificationReceiver notificationListener;
     private final ObservationSerDes observationSerDes;
     private final EffectiveEndpointUriProvider uriProvider;
+    private final NotificationLookupCache lookupCache;
 
     public LwM2mObservationStore(EffectiveEndpointUriProvider uriProvider, RegistrationStore registrationStore,
             LwM2mNotificationReceiver notificationListener, ObservationSerDes observationSerDes) {
+        this(uriProvider, registrationStore, notificationListener, observationSerDes, null);
+    }
+
+    /**
+     * @param lookupCache cache used to find observation on incoming notification, if <code>null</code>
+     *        registrationStore is used directly.
+     */
+    public LwM2mObservationStore(EffectiveEndpointUriProvider uriProvider, RegistrationStore registrationStore,
+            LwM2mNotificationReceiver notificationListener, ObservationSerDes observationSerDes,
+            NotificationLookupCache lookupCache) {
         this.registrationStore = registrationStore;
         this.notificationListener = notificationListener;
         this.observationSerDes = observationSerDes;
         this.uriProvider = uriProvider;
+        this.lookupCache = lookupCache;
     }
 
     @Override
@@ -105,8 +119,14 @@ public class LwM2mObservationStore implements ObservationStore {
 
     @Override
     public Observation get(Token token) {
-        org.eclipse.leshan.core.observation.Observation observation = registrationStore
-                .getObservation(new ObservationIdentifier(uriProvider.getEndpointUri(), token.getBytes()));
+        ObservationIdentifier observationId = new ObservationIdentifier(uriProvider.getEndpointUri(), token.getBytes());
+        org.eclipse.leshan.core.observation.Observation observation;
+        if (lookupCache != null) {
+            NotificationContext context = lookupCache.get(observationId);
+            observation = context == null ? null : context.getObservation();
+        } else {
+            observation = registrationStore.getObservation(observationId);
+        }
         if (observation == null) {
             return null;
         } else {
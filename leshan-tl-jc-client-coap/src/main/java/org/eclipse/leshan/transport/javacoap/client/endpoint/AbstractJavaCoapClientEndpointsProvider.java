@@ -154,6 +154,7 @@ public abstract class AbstractJavaCoapClientEndpointsProvider implements LwM2mCl
                         .options(coapOptionsBuilder -> coapOptionsBuilder.observe(null)) //
                         .build()) //
                 , observersManager);
+        observersManager.addListener(notificationHandler);
         objectTree.addListener(notificationHandler);
     }
 
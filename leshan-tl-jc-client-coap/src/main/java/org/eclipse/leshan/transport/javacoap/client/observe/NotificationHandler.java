@@ -17,20 +17,31 @@ package org.eclipse.leshan.transport.javacoap.client.observe;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.leshan.client.resource.LwM2mObjectEnabler;
 import org.eclipse.leshan.client.resource.listener.ObjectsListener;
+import org.eclipse.leshan.core.node.InvalidLwM2mPathException;
 import org.eclipse.leshan.core.node.LwM2mPath;
+import org.eclipse.leshan.core.node.LwM2mPathTrie;
 
 import com.mbed.coap.packet.CoapRequest;
 import com.mbed.coap.packet.CoapResponse;
 import com.mbed.coap.packet.Method;
 import com.mbed.coap.utils.Service;
 
-public class NotificationHandler implements ObjectsListener {
+/**
+ * Send notifications for observe requests impacted by resource changes.
+ * <p>
+ * Observe requests are indexed by observed paths (see {@link LwM2mPathTrie}), so finding requests impacted by a change
+ * does not depend on number of observe requests. This handler must be registered as {@link ObserversListener} of the
+ * {@link ObserversManager}.
+ */
+public class NotificationHandler implements ObjectsListener, ObserversListener {
 
     private final Service<CoapRequest, CoapResponse> responseProvider;
     private final ObserversManager observersManager;
+    private final LwM2mPathTrie<CoapRequest> observeRequests = new LwM2mPathTrie<>();
 
     public NotificationHandler(Service<CoapRequest, CoapResponse> responseProvider, ObserversManager observersManager) {
         this.observersManager = observersManager;
@@ -39,30 +50,40 @@ public class NotificationHandler implements ObjectsListener {
 
     @Override
     public void resourceChanged(LwM2mPath... paths) {
-        observersManager.sendObservation((observeRequest) -> {
+        Set<CoapRequest> requests = observeRequests.findMatchingValues(paths);
+        if (!requests.isEmpty()) {
+            observersManager.sendObservations(requests, responseProvider);
+        }
+    }
+
+    @Override
+    public void observersAdded(CoapRequest request) {
+        for (LwM2mPath path : getObservedPaths(request)) {
+            observeRequests.add(path, request);
+        }
+    }
+
+    @Override
+    public void observersRemoved(CoapRequest request) {
+        for (LwM2mPath path : getObservedPaths(request)) {
+            observeRequests.remove(path, request);
+        }
+    }
 
-            if (observeRequest.getMethod() == Method.GET) {
-                // handle "single observation"
-                LwM2mPath observedURI = new LwM2mPath(observeRequest.options().getUriPath());
-                for (LwM2mPath resourceChangedURI : paths) {
-                    if (resourceChangedURI.startWith(observedURI)) {
-                        return true;
-                    }
-                }
-            } else if (observeRequest.getMethod() == Method.FETCH) {
-                // handle "composite observation"
-                List<LwM2mPath> observerdURIs = observeRequest.getTransContext()
-                        .getOrDefault(LwM2mKeys.LESHAN_OBSERVED_PATHS, Collections.emptyList());
-                for (LwM2mPath observedURI : observerdURIs) {
-                    for (LwM2mPath resourceChangedURI : paths) {
-                        if (resourceChangedURI.startWith(observedURI)) {
-                            return true;
-                        }
-                    }
-                }
+    protected List<LwM2mPath> getObservedPaths(CoapRequest observeRequest) {
+        if (observeRequest.getMethod() == Method.GET) {
+            // handle "single observation"
+            try {
+                return Collections.singletonList(new LwM2mPath(observeRequest.options().getUriPath()));
+            } catch (InvalidLwM2mPathException e) {
+                return Collections.emptyList();
             }
-            return false;
-        }, responseProvider);
+        } else if (observeRequest.getMethod() == Method.FETCH) {
+            // handle "composite observation"
+            return observeRequest.getTransContext().getOrDefault(LwM2mKeys.LESHAN_OBSERVED_PATHS,
+                    Collections.emptyList());
+        }
+        return Collections.emptyList();
     }
 
     @Override
@@ -104,6 +104,18 @@ public class ObserversManager implements Filter.SimpleFilter<CoapRequest, CoapRe
                 .forEach(coapRequest -> sendObservation(coapRequest, responseBuilder));
     }
 
+    /**
+     * Send notification for each given observe request which is still in the store.
+     */
+    public void sendObservations(Iterable<CoapRequest> observeRequests,
+            Service<CoapRequest, CoapResponse> responseBuilder) {
+        for (CoapRequest observeRequest : observeRequests) {
+            if (observersStore.contains(observeRequest)) {
+                sendObservation(observeRequest, responseBuilder);
+            }
+        }
+    }
+
     private void sendObservation(CoapRequest observeRequest, Service<CoapRequest, CoapResponse> responseBuilder) {
         CompletableFuture<CoapResponse> coapResponse = responseBuilder.apply(observeRequest);
         if (coapResponse != null) {
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.transport.javacoap.client.observe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.leshan.core.node.LwM2mPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mbed.coap.packet.CoapRequest;
+import com.mbed.coap.packet.CoapResponse;
+import com.mbed.coap.packet.Code;
+
+class NotificationHandlerTest {
+
+    private static final InetSocketAddress SERVER = new InetSocketAddress("127.0.0.1", 5683);
+
+    private final ObserversManager observersManager = new ObserversManager(new HashMapObserversStore());
+    private final List<CoapRequest> notified = new ArrayList<>();
+    private final NotificationHandler handler = new NotificationHandler(request -> {
+        notified.add(request);
+        return null;
+    }, observersManager);
+
+    @BeforeEach
+    public void setUp() {
+        observersManager.addListener(handler);
+    }
+
+    @Test
+    public void only_matching_observe_requests_are_notified() {
+        CoapRequest device = observe(CoapRequest.observe("/3/0").token(1).address(SERVER).build());
+        observe(CoapRequest.observe("/3/0/0").token(2).address(SERVER).build());
+        CoapRequest security = observe(CoapRequest.observe("/1").token(3).address(SERVER).build());
+        CoapRequest composite = observe(CoapRequest.fetch("/").observe().token(4).address(SERVER) //
+                .context(LwM2mKeys.LESHAN_OBSERVED_PATHS, Arrays.asList(new LwM2mPath(1, 0, 1), new LwM2mPath(3, 0, 9))) //
+                .build());
+
+        handler.resourceChanged(new LwM2mPath(3, 0, 9));
+        assertEquals(new HashSet<>(Arrays.asList(device, composite)), new HashSet<>(notified));
+
+        notified.clear();
+        handler.resourceChanged(new LwM2mPath(1, 0, 1));
+        assertEquals(new HashSet<>(Arrays.asList(security, composite)), new HashSet<>(notified));
+    }
+
+    @Test
+    public void canceled_observe_requests_are_not_notified() {
+        observe(CoapRequest.observe("/3/0").token(1).address(SERVER).build());
+
+        // cancel observation
+        observe(CoapRequest.get("/3/0").options(o -> o.observe(1)).token(1).address(SERVER).build());
+
+        handler.resourceChanged(new LwM2mPath(3, 0, 9));
+        assertTrue(notified.isEmpty());
+    }
+
+    private CoapRequest observe(CoapRequest request) {
+        observersManager.apply(request, req -> CompletableFuture.completedFuture(CoapResponse.of(Code.C205_CONTENT)))
+                .join();
+        return request;
+    }
+}
@@ -86,10 +86,10 @@ public abstract class AbstractJavaCoapServerEndpointsProvider implements LwM2mSe
                 serverSecurityInfo, //
                 server.getSecurityStore(), //
                 resources, //
-                new CoapNotificationReceiver(coapServer, notificationReceiver, server.getRegistrationStore(),
-                        server.getModelProvider(), toolbox.getDecoder(), endpointUriProvider), //
+                new CoapNotificationReceiver(coapServer, notificationReceiver, server.getNotificationLookupCache(),
+                        toolbox.getDecoder(), endpointUriProvider), //
                 new LwM2mObservationsStore(server.getRegistrationStore(), notificationReceiver, identityHandler,
-                        endpointUriProvider) //
+                        endpointUriProvider, server.getNotificationLookupCache()) //
         );
 
         lwm2mEndpoint = new JavaCoapServerEndpoint(supportedProtocol, endpointDescription, coapServer,
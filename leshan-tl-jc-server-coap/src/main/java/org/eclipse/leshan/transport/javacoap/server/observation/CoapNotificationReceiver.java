@@ -36,11 +36,10 @@ import org.eclipse.leshan.core.response.AbstractLwM2mResponse;
 import org.eclipse.leshan.core.response.ObserveCompositeResponse;
 import org.eclipse.leshan.core.response.ObserveResponse;
 import org.eclipse.leshan.server.endpoint.EffectiveEndpointUriProvider;
-import org.eclipse.leshan.server.model.LwM2mModelProvider;
 import org.eclipse.leshan.server.observation.LwM2mNotificationReceiver;
+import org.eclipse.leshan.server.observation.NotificationLookupCache;
+import org.eclipse.leshan.server.observation.NotificationLookupCache.NotificationContext;
 import org.eclipse.leshan.server.profile.ClientProfile;
-import org.eclipse.leshan.server.registration.Registration;
-import org.eclipse.leshan.server.registration.RegistrationStore;
 import org.eclipse.leshan.transport.javacoap.request.ResponseCodeUtil;
 
 import com.mbed.coap.packet.CoapResponse;
@@ -53,19 +52,17 @@ public class CoapNotificationReceiver implements NotificationsReceiver {
 
     private final CoapServer coapServer;
     private final LwM2mNotificationReceiver notificationReceiver;
-    private final RegistrationStore registrationStore;
-    private final LwM2mModelProvider modelProvider;
+    private final NotificationLookupCache lookupCache;
     private final LwM2mDecoder decoder;
     private final EffectiveEndpointUriProvider endpointUriProvider;
 
     public CoapNotificationReceiver(CoapServer coapServer, LwM2mNotificationReceiver notificationReceiver,
-            RegistrationStore registrationStore, LwM2mModelProvider modelProvider, LwM2mDecoder decoder,
+            NotificationLookupCache lookupCache, LwM2mDecoder decoder,
             EffectiveEndpointUriProvider endpointUriProvider) {
         super();
         this.coapServer = coapServer;
         this.notificationReceiver = notificationReceiver;
-        this.registrationStore = registrationStore;
-        this.modelProvider = modelProvider;
+        this.lookupCache = lookupCache;
         this.decoder = decoder;
         this.endpointUriProvider = endpointUriProvider;
     }
@@ -79,9 +76,10 @@ public class CoapNotificationReceiver implements NotificationsReceiver {
         // Search if there is an observation for this resource.
         ObservationIdentifier observationId = new ObservationIdentifier(endpointUriProvider.getEndpointUri(),
                 coapResponse.getToken().getBytes());
-        final Observation observation = registrationStore.getObservation(observationId);
-        if (observation == null)
+        final NotificationContext context = lookupCache.get(observationId);
+        if (context == null)
             return false;
+        final Observation observation = context.getObservation();
 
         // Check if path is the right one.
         Optional<String> observationPath = ObservationUtil.getPath(observation); //
@@ -96,15 +94,8 @@ public class CoapNotificationReceiver implements NotificationsReceiver {
 
         // Handle CoAP Notification
         payload.whenComplete((p, e) -> {
-            // Check we have a corresponding registration
-            Registration registration = registrationStore.getRegistration(observation.getRegistrationId());
-            if (registration == null) {
-                throw new IllegalStateException(
-                        String.format("No registration with Id %s", observation.getRegistrationId()));
-            }
-
-            // Create Client Profile
-            ClientProfile clientProfile = new ClientProfile(registration, modelProvider.getObjectModel(registration));
+            // Client Profile was resolved with observation
+            ClientProfile clientProfile = context.getProfile();
             try {
                 // Send events
                 if (e != null) {
@@ -24,6 +24,8 @@ import org.eclipse.leshan.core.peer.LwM2mIdentity;
 import org.eclipse.leshan.core.peer.LwM2mPeer;
 import org.eclipse.leshan.server.endpoint.EffectiveEndpointUriProvider;
 import org.eclipse.leshan.server.observation.LwM2mNotificationReceiver;
+import org.eclipse.leshan.server.observation.NotificationLookupCache;
+import org.eclipse.leshan.server.observation.NotificationLookupCache.NotificationContext;
 import org.eclipse.leshan.server.registration.Registration;
 import org.eclipse.leshan.server.registration.RegistrationStore;
 import org.eclipse.leshan.transport.javacoap.identity.IdentityHandler;
@@ -41,13 +43,16 @@ public class LwM2mObservationsStore implements ObservationsStore {
     private final LwM2mNotificationReceiver notificationReceiver;
     private final IdentityHandler identityHandler;
     private final EffectiveEndpointUriProvider endpointUriProvider;
+    private final NotificationLookupCache lookupCache;
 
     public LwM2mObservationsStore(RegistrationStore store, LwM2mNotificationReceiver notificationReceiver,
-            IdentityHandler identityHandler, EffectiveEndpointUriProvider endpointUriProvider) {
+            IdentityHandler identityHandler, EffectiveEndpointUriProvider endpointUriProvider,
+            NotificationLookupCache lookupCache) {
         this.store = store;
         this.notificationReceiver = notificationReceiver;
         this.identityHandler = identityHandler;
         this.endpointUriProvider = endpointUriProvider;
+        this.lookupCache = lookupCache;
     }
 
     @Override
@@ -91,17 +96,14 @@ public class LwM2mObservationsStore implements ObservationsStore {
         ObservationIdentifier observationIdentifier = new ObservationIdentifier(endpointUriProvider.getEndpointUri(),
                 obs.getToken().getBytes());
         LOG.debug("Search observation for  identifier {} ", observationIdentifier);
-        Observation observation = store.getObservation(observationIdentifier);
+        NotificationContext context = lookupCache.get(observationIdentifier);
         // TODO should we use PeerIdentity in ObservationIdentifier.
-        if (observation == null) {
-            LOG.debug("Observation not found");
-            return Optional.empty();
-        }
-        Registration registration = store.getRegistration(observation.getRegistrationId());
-        if (registration == null) {
-            LOG.debug("No registration for observation {}, {}", observationIdentifier, observation);
+        if (context == null) {
+            LOG.debug("Observation or registration not found");
             return Optional.empty();
         }
+        Observation observation = context.getObservation();
+        Registration registration = context.getProfile().getRegistration();
         // extract identity from notification
         LwM2mPeer notificationIdentity = identityHandler.getIdentity(obs);
         LwM2mIdentity registrationIdentity = registration.getClientTransportData().getIdentity();
@@ -22,6 +22,7 @@ import org.eclipse.leshan.servers.security.SecurityStore;
 import org.eclipse.leshan.servers.security.ServerSecurityInfo;
 import org.eclipse.leshan.transport.javacoap.identity.DefaultCoapIdentityHandler;
 import org.eclipse.leshan.transport.javacoap.server.coaptcp.transport.CoapTcpTransportResolver;
+import org.eclipse.leshan.transport.javacoap.server.coaptcp.transport.ConnectionExecutorService;
 import org.eclipse.leshan.transport.javacoap.server.coaptcp.transport.DefaultTransportContextMatcher;
 import org.eclipse.leshan.transport.javacoap.server.coaptcp.transport.NettyCoapTcpTransport;
 import org.eclipse.leshan.transport.javacoap.server.endpoint.AbstractJavaCoapServerEndpointsProvider;
@@ -39,22 +40,39 @@ import com.mbed.coap.utils.Service;
 
 public class JavaCoapTcpServerEndpointsProvider extends AbstractJavaCoapServerEndpointsProvider {
 
+    private final int workerThreads;
+    private final boolean useNativeTransport;
+
     public JavaCoapTcpServerEndpointsProvider(InetSocketAddress localAddress) {
+        this(localAddress, 0, true);
+    }
+
+    /**
+     * @param localAddress the address to bind.
+     * @param workerThreads number of threads used to serve connections, 0 means Netty default (2 * number of cores).
+     * @param useNativeTransport true to use native epoll transport when available.
+     */
+    public JavaCoapTcpServerEndpointsProvider(InetSocketAddress localAddress, int workerThreads,
+            boolean useNativeTransport) {
         super(Protocol.COAP_TCP, "CoAP over TCP experimental endpoint based on java-coap and netty libraries",
                 localAddress, new DefaultCoapIdentityHandler());
+        this.workerThreads = workerThreads;
+        this.useNativeTransport = useNativeTransport;
     }
 
     @Override
     protected CoapServer createCoapServer(InetSocketAddress localAddress, ServerSecurityInfo serverSecurityInfo,
             SecurityStore securityStore, Service<CoapRequest, CoapResponse> resources,
             NotificationsReceiver notificationReceiver, ObservationsStore observationsStore) {
+        NettyCoapTcpTransport transport = new NettyCoapTcpTransport(localAddress, new CoapTcpTransportResolver(),
+                new DefaultTransportContextMatcher(), null, workerThreads, useNativeTransport);
+
         return createCoapServer() //
-                .transport(new NettyCoapTcpTransport(localAddress, new CoapTcpTransportResolver(),
-                        new DefaultTransportContextMatcher(), null)) //
+                .transport(transport) //
                 .blockSize(BlockSize.S_1024_BERT) //
                 .maxIncomingBlockTransferSize(4000) //
                 .maxMessageSize(2100) //
-                .route(resources) //
+                .route(new ConnectionExecutorService(transport, resources)) //
                 .notificationsReceiver(notificationReceiver) //
                 .observationsStore(observationsStore) //
                 .build();
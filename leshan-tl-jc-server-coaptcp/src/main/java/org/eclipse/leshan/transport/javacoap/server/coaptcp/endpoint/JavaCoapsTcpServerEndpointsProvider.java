@@ -39,6 +39,7 @@ import org.eclipse.leshan.transport.javacoap.SingleX509KeyManager;
 import org.eclipse.leshan.transport.javacoap.identity.DefaultTlsIdentityHandler;
 import org.eclipse.leshan.transport.javacoap.identity.TlsTransportContextKeys;
 import org.eclipse.leshan.transport.javacoap.server.coaptcp.transport.CoapsTcpTransportResolver;
+import org.eclipse.leshan.transport.javacoap.server.coaptcp.transport.ConnectionExecutorService;
 import org.eclipse.leshan.transport.javacoap.server.coaptcp.transport.NettyCoapTcpTransport;
 import org.eclipse.leshan.transport.javacoap.server.coaptcp.transport.TransportContextHandler;
 import org.eclipse.leshan.transport.javacoap.server.endpoint.AbstractJavaCoapServerEndpointsProvider;
@@ -62,9 +63,24 @@ import io.netty.util.Attribute;
 
 public class JavaCoapsTcpServerEndpointsProvider extends AbstractJavaCoapServerEndpointsProvider {
 
+    private final int workerThreads;
+    private final boolean useNativeTransport;
+
     public JavaCoapsTcpServerEndpointsProvider(InetSocketAddress localAddress) {
+        this(localAddress, 0, true);
+    }
+
+    /**
+     * @param localAddress the address to bind.
+     * @param workerThreads number of threads used to serve connections, 0 means Netty default (2 * number of cores).
+     * @param useNativeTransport true to use native epoll transport when available.
+     */
+    public JavaCoapsTcpServerEndpointsProvider(InetSocketAddress localAddress, int workerThreads,
+            boolean useNativeTransport) {
         super(Protocol.COAPS_TCP, "CoAP over TLS experimental endpoint based on java-coap and netty libraries",
                 localAddress, new DefaultTlsIdentityHandler());
+        this.workerThreads = workerThreads;
+        this.useNativeTransport = useNativeTransport;
     }
 
     @Override
@@ -104,7 +120,7 @@ public class JavaCoapsTcpServerEndpointsProvider extends AbstractJavaCoapServerE
         }
 
         NettyCoapTcpTransport transport = new NettyCoapTcpTransport(localAddress, new CoapsTcpTransportResolver(),
-                new LwM2mTransportContextMatcher(), sslContext);
+                new LwM2mTransportContextMatcher(), sslContext, workerThreads, useNativeTransport);
 
         createAndAttachConnectionCleaner(transport, securityStore);
 
@@ -113,7 +129,7 @@ public class JavaCoapsTcpServerEndpointsProvider extends AbstractJavaCoapServerE
                 .blockSize(BlockSize.S_1024_BERT) //
                 .maxIncomingBlockTransferSize(4000) //
                 .maxMessageSize(2100) //
-                .route(resources) //
+                .route(new ConnectionExecutorService(transport, resources)) //
                 .notificationsReceiver(notificationReceiver) //
                 .observationsStore(observationsStore) //
                 .build();
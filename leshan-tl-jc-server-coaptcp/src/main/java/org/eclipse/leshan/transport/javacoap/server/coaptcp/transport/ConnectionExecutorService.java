@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.transport.javacoap.server.coaptcp.transport;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.mbed.coap.packet.CoapRequest;
+import com.mbed.coap.packet.CoapResponse;
+import com.mbed.coap.utils.Service;
+
+import io.netty.channel.EventLoop;
+
+/**
+ * A {@link Service} which handles requests in the worker thread of the connection which received them.
+ * <p>
+ * java-coap handles received packets one by one : it asks its transport for the next packet only once the previous one
+ * is handled. Moving request handling to connection threads allows requests of different connections to be handled in
+ * parallel by all worker threads of {@link NettyCoapTcpTransport}, while requests of a connection are still handled in
+ * order.
+ */
+public class ConnectionExecutorService implements Service<CoapRequest, CoapResponse> {
+
+    private final NettyCoapTcpTransport transport;
+    private final Service<CoapRequest, CoapResponse> service;
+
+    public ConnectionExecutorService(NettyCoapTcpTransport transport, Service<CoapRequest, CoapResponse> service) {
+        this.transport = transport;
+        this.service = service;
+    }
+
+    @Override
+    public CompletableFuture<CoapResponse> apply(CoapRequest request) {
+        EventLoop executor = transport.getConnectionExecutor(request.getPeerAddress());
+        if (executor == null || executor.inEventLoop()) {
+            // connection is already closed or we are already in its thread
+            return service.apply(request);
+        }
+
+        CompletableFuture<CoapResponse> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    service.apply(request).whenComplete((response, error) -> {
+                        if (error != null) {
+                            result.completeExceptionally(error);
+                        } else {
+                            result.complete(response);
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // transport is stopped
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.transport.javacoap.server.coaptcp.transport;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+
+/**
+ * Isolate access to Netty native epoll transport, which is an optional dependency.
+ * <p>
+ * Callers must be ready to get a {@link NoClassDefFoundError} if netty epoll classes are not available.
+ */
+class EpollSupport {
+
+    private EpollSupport() {
+    }
+
+    /**
+     * @return true if epoll classes and native library are available.
+     */
+    static boolean isAvailable() {
+        return Epoll.isAvailable();
+    }
+
+    static EventLoopGroup newEventLoopGroup(int nbThreads) {
+        return new EpollEventLoopGroup(nbThreads);
+    }
+
+    static Class<? extends ServerChannel> serverChannelClass() {
+        return EpollServerSocketChannel.class;
+    }
+}
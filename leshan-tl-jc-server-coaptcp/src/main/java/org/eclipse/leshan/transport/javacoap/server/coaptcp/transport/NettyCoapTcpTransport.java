@@ -20,15 +20,19 @@ import static org.eclipse.leshan.transport.javacoap.server.coaptcp.transport.Net
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.util.ArrayDeque;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 import javax.net.ssl.SSLHandshakeException;
 
+import org.eclipse.leshan.core.util.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,6 +42,7 @@ import com.mbed.coap.transport.CoapTcpTransport;
 import com.mbed.coap.transport.TransportContext;
 
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
@@ -45,6 +50,8 @@ import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPromise;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
@@ -54,46 +61,105 @@ import io.netty.handler.ssl.SslHandshakeCompletionEvent;
 import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.handler.timeout.IdleStateHandler;
 
+/**
+ * A {@link CoapTcpTransport} based on Netty.
+ * <p>
+ * Connections are served by a pool of worker threads (Netty default is 2 * number of cores) and native epoll transport
+ * is used when available on Linux (which needs {@code io.netty:netty-transport-native-epoll} dependency with right
+ * classifier). Buffers are allocated with a pooled allocator.
+ * <p>
+ * CoAP stack consumes received packets one by one, use {@link ConnectionExecutorService} to handle requests of
+ * different connections in parallel.
+ */
 public class NettyCoapTcpTransport implements CoapTcpTransport {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(NettyCoapTcpTransport.class);
 
+    /**
+     * Maximum number of received packets buffered while CoAP stack is busy.
+     */
+    private static final int MAX_PENDING_PACKETS = 10000;
+
     private final InetSocketAddress localAddress;
     private volatile Channel mainChannel;
+    private EventLoopGroup bossGroup;
+    private volatile EventLoopGroup workerGroup;
     private final ConcurrentMap<SocketAddress, Channel> activeChannels = new ConcurrentHashMap<>();
     private volatile CoapTcpListener listener;
-    private CompletableFuture<CoapPacket> receivePromise = new CompletableFuture<>();
     private final SslContext sslContext;
     private final Function<Channel, TransportContext> contextResolver;
     private final BiFunction<TransportContext, TransportContext, Boolean> contextMatcher;
+    private final int workerThreads;
+    private final boolean useNativeTransport;
+
+    // Packets are received by several worker threads but consumed one by one by the CoAP stack : the CoAP stack calls
+    // receive() again once it handled a packet, so only one receive promise is pending at a time. Handing a packet
+    // over is cheap when request handling is moved to connection threads by ConnectionExecutorService.
+    // All fields below are guarded by receivedPackets.
+    private final Queue<CoapPacket> receivedPackets = new ArrayDeque<>();
+    private CompletableFuture<CoapPacket> receivePromise;
+    // true while a thread is giving packets to the CoAP stack
+    private boolean delivering = false;
 
     public NettyCoapTcpTransport(InetSocketAddress localadddress, //
             Function<Channel, TransportContext> contextResolver, //
             BiFunction<TransportContext, TransportContext, Boolean> contextMatcher, //
             SslContext sslContext) {
+        this(localadddress, contextResolver, contextMatcher, sslContext, 0, true);
+    }
+
+    /**
+     * @param workerThreads number of threads used to serve connections, 0 means Netty default.
+     * @param useNativeTransport true to use native epoll transport if available.
+     */
+    public NettyCoapTcpTransport(InetSocketAddress localadddress, //
+            Function<Channel, TransportContext> contextResolver, //
+            BiFunction<TransportContext, TransportContext, Boolean> contextMatcher, //
+            SslContext sslContext, int workerThreads, boolean useNativeTransport) {
+        Validate.isTrue(workerThreads >= 0, "workerThreads must be positive");
         this.localAddress = localadddress;
         this.sslContext = sslContext;
         this.contextResolver = contextResolver;
         this.contextMatcher = contextMatcher;
+        this.workerThreads = workerThreads;
+        this.useNativeTransport = useNativeTransport;
     }
 
     @Override
     public synchronized void start() throws IOException {
         // Init transport
         ServerBootstrap bootstrap = new ServerBootstrap();
-        NioEventLoopGroup bossGroup = new NioEventLoopGroup(1);
-        NioEventLoopGroup workerGroup = new NioEventLoopGroup(1);
+        if (useNativeTransport && isEpollAvailable()) {
+            LOGGER.debug("Use native epoll transport");
+            bossGroup = EpollSupport.newEventLoopGroup(1);
+            workerGroup = EpollSupport.newEventLoopGroup(workerThreads);
+            bootstrap.channel(EpollSupport.serverChannelClass());
+        } else {
+            bossGroup = new NioEventLoopGroup(1);
+            workerGroup = new NioEventLoopGroup(workerThreads);
+            bootstrap.channel(NioServerSocketChannel.class);
+        }
         bootstrap.group(bossGroup, workerGroup) //
-                .channel(NioServerSocketChannel.class) //
                 .childHandler(new ChannelRegistry()) //
                 .option(ChannelOption.SO_BACKLOG, 100) //
                 .option(ChannelOption.AUTO_READ, true) //
-                .childOption(ChannelOption.SO_KEEPALIVE, true);
+                .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT) //
+                .childOption(ChannelOption.SO_KEEPALIVE, true) //
+                .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
 
         // start it
         mainChannel = bootstrap.bind(localAddress).syncUninterruptibly().channel();
     }
 
+    private static boolean isEpollAvailable() {
+        try {
+            return EpollSupport.isAvailable();
+        } catch (NoClassDefFoundError e) {
+            // netty epoll classes are an optional dependency
+            return false;
+        }
+    }
+
     private class ChannelRegistry extends ChannelInitializer<SocketChannel> {
         @Override
         protected void initChannel(SocketChannel ch) throws Exception {
@@ -164,7 +230,7 @@ public class NettyCoapTcpTransport implements CoapTcpTransport {
 
         @Override
         public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
-            if (!receivePromise.complete((CoapPacket) msg)) {
+            if (!dispatch((CoapPacket) msg)) {
                 ctx.fireChannelRead(msg);
             }
         }
@@ -227,10 +293,65 @@ public class NettyCoapTcpTransport implements CoapTcpTransport {
         }
     }
 
+    /**
+     * Buffer a received packet and give it to CoAP stack, unless another thread is already doing it.
+     *
+     * @return false if packet can not be handled because too many packets are already buffered.
+     */
+    boolean dispatch(CoapPacket packet) {
+        synchronized (receivedPackets) {
+            if (receivedPackets.size() >= MAX_PENDING_PACKETS) {
+                LOGGER.debug("Too many pending packets, packet from {} is dropped", packet.getRemoteAddress());
+                return false;
+            }
+            receivedPackets.add(packet);
+            if (delivering || receivePromise == null) {
+                // packet will be delivered by the thread currently delivering or on next call to receive()
+                return true;
+            }
+            delivering = true;
+        }
+        deliver();
+        return true;
+    }
+
+    /**
+     * Give buffered packets to CoAP stack while it is waiting for them.
+     * <p>
+     * CoAP stack handles a packet in the thread which completes its receive promise, then calls {@link #receive()}
+     * again. This is why promises are always completed here, in a loop, and never returned already completed : that
+     * would make CoAP stack recursively handle all buffered packets in one call stack.
+     */
+    private void deliver() {
+        while (true) {
+            CompletableFuture<CoapPacket> promise;
+            CoapPacket packet;
+            synchronized (receivedPackets) {
+                if (receivePromise == null || receivedPackets.isEmpty()) {
+                    delivering = false;
+                    return;
+                }
+                promise = receivePromise;
+                packet = receivedPackets.poll();
+                receivePromise = null;
+            }
+            // complete outside of lock as CoAP stack handles packet in this thread.
+            promise.complete(packet);
+        }
+    }
+
     @Override
-    public void stop() {
+    public synchronized void stop() {
         mainChannel.close();
         mainChannel.closeFuture().syncUninterruptibly();
+        if (bossGroup != null) {
+            bossGroup.shutdownGracefully();
+            bossGroup = null;
+        }
+        if (workerGroup != null) {
+            workerGroup.shutdownGracefully();
+            workerGroup = null;
+        }
     }
 
     @Override
@@ -249,6 +370,14 @@ public class NettyCoapTcpTransport implements CoapTcpTransport {
         return toCompletableFuture(channelPromise).thenApply(__ -> true);
     }
 
+    /**
+     * @return the event loop of the connection with the given peer or <code>null</code> if there is no connection.
+     */
+    EventLoop getConnectionExecutor(InetSocketAddress peerAddress) {
+        Channel channel = activeChannels.get(peerAddress);
+        return channel == null ? null : channel.eventLoop();
+    }
+
     public void closeConnections(Predicate<Channel> filter) {
         for (Channel channel : activeChannels.values()) {
             if (filter.test(channel)) {
@@ -265,8 +394,25 @@ public class NettyCoapTcpTransport implements CoapTcpTransport {
 
     @Override
     public CompletableFuture<CoapPacket> receive() {
-        receivePromise = new CompletableFuture<>();
-        return receivePromise;
+        CompletableFuture<CoapPacket> promise = new CompletableFuture<>();
+        EventLoopGroup executor = workerGroup;
+        synchronized (receivedPackets) {
+            receivePromise = promise;
+            if (delivering || receivedPackets.isEmpty() || executor == null) {
+                return promise;
+            }
+            // packets were buffered while nobody was waiting for them
+            delivering = true;
+        }
+        try {
+            executor.execute(this::deliver);
+        } catch (RejectedExecutionException e) {
+            // transport is stopped
+            synchronized (receivedPackets) {
+                delivering = false;
+            }
+        }
+        return promise;
     }
 
     @Override
@@ -0,0 +1,273 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sierra Wireless and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *    http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *    http://www.eclipse.org/org/documents/edl-v10.html.
+ *
+ * Contributors:
+ *     Sierra Wireless - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.leshan.transport.javacoap.server.coaptcp.transport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mbed.coap.packet.CoapPacket;
+import com.mbed.coap.packet.CoapRequest;
+import com.mbed.coap.packet.CoapResponse;
+import com.mbed.coap.packet.CoapTcpPacketSerializer;
+import com.mbed.coap.packet.Code;
+import com.mbed.coap.packet.Method;
+import com.mbed.coap.transport.TransportContext;
+import com.mbed.coap.utils.Service;
+
+public class NettyCoapTcpTransportTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NettyCoapTcpTransportTest.class);
+
+    private static final int CLIENTS = 50;
+    private static final int PACKETS_PER_CLIENT = 100;
+    private static final int WORKER_THREADS = 4;
+
+    private NettyCoapTcpTransport transport;
+    private CountDownLatch dispatched;
+    private final List<Socket> sockets = Collections.synchronizedList(new ArrayList<>());
+    private volatile boolean running = true;
+
+    private final Set<String> received = ConcurrentHashMap.newKeySet();
+    private CountDownLatch allReceived;
+    private final AtomicInteger maxStackDepth = new AtomicInteger();
+
+    /**
+     * Start a transport which counts packets read from connections, and expect <code>packets</code> to be received.
+     */
+    private void givenATransport(int packets) throws IOException {
+        dispatched = new CountDownLatch(packets);
+        allReceived = new CountDownLatch(packets);
+        transport = new NettyCoapTcpTransport(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                channel -> TransportContext.EMPTY, (expected, actual) -> true, null, WORKER_THREADS, false) {
+            @Override
+            boolean dispatch(CoapPacket packet) {
+                boolean accepted = super.dispatch(packet);
+                dispatched.countDown();
+                return accepted;
+            }
+        };
+        transport.start();
+    }
+
+    @AfterEach
+    public void stop() throws IOException {
+        running = false;
+        synchronized (sockets) {
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+        }
+        transport.stop();
+    }
+
+    @Test
+    public void packets_from_concurrent_clients_are_all_received() throws Exception {
+        givenATransport(CLIENTS * PACKETS_PER_CLIENT);
+        receiveLoop(this::handle);
+
+        sendFromAllClients(CLIENTS, PACKETS_PER_CLIENT);
+
+        assertTrue(allReceived.await(10, TimeUnit.SECONDS), "missing packets : " + allReceived.getCount());
+        assertEquals(CLIENTS * PACKETS_PER_CLIENT, received.size());
+    }
+
+    @Test
+    public void buffered_packets_are_delivered_without_recursion() throws Exception {
+        givenATransport(CLIENTS * PACKETS_PER_CLIENT);
+
+        // CoAP stack is not waiting for packets yet, so all packets are buffered
+        sendFromAllClients(CLIENTS, PACKETS_PER_CLIENT);
+        assertTrue(dispatched.await(10, TimeUnit.SECONDS), "packets not read : " + dispatched.getCount());
+        receiveLoop(this::handle);
+
+        assertTrue(allReceived.await(10, TimeUnit.SECONDS), "missing packets : " + allReceived.getCount());
+        assertEquals(CLIENTS * PACKETS_PER_CLIENT, received.size());
+        // buffered packets must not be handled recursively
+        assertTrue(maxStackDepth.get() < 200, "stack depth too high : " + maxStackDepth.get());
+    }
+
+    @Test
+    public void requests_of_different_connections_are_handled_in_parallel() throws Exception {
+        givenATransport(CLIENTS * PACKETS_PER_CLIENT);
+        // requests of client 0 block a worker thread, other worker threads must still handle requests
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch unblock = new CountDownLatch(1);
+        Set<Thread> otherThreads = ConcurrentHashMap.newKeySet();
+        CountDownLatch otherThreadsWorking = new CountDownLatch(WORKER_THREADS - 1);
+        AtomicReference<Thread> blockedThread = new AtomicReference<>();
+        Map<String, Integer> lastPacketOfClient = new ConcurrentHashMap<>();
+        AtomicInteger outOfOrder = new AtomicInteger();
+        Service<CoapRequest, CoapResponse> service = new ConnectionExecutorService(transport, request -> {
+            String[] payload = request.getPayload().toUtf8String().split("-");
+            if (payload[0].equals("0")) {
+                blockedThread.set(Thread.currentThread());
+                blocked.countDown();
+                await(unblock);
+            } else if (blocked.getCount() == 0 && Thread.currentThread() != blockedThread.get()
+                    && otherThreads.add(Thread.currentThread())) {
+                otherThreadsWorking.countDown();
+            }
+            // check requests of a connection are handled in order
+            Integer previous = lastPacketOfClient.put(payload[0], Integer.valueOf(payload[1]));
+            if (previous != null && previous + 1 != Integer.parseInt(payload[1])) {
+                outOfOrder.incrementAndGet();
+            }
+            handle(request);
+            return CompletableFuture.completedFuture(CoapResponse.of(Code.C204_CHANGED));
+        });
+        receiveLoop(packet -> service.apply(packet.toCoapRequest()));
+
+        sendFromClients(0, 1, PACKETS_PER_CLIENT);
+        assertTrue(blocked.await(10, TimeUnit.SECONDS));
+        sendFromClients(1, CLIENTS, PACKETS_PER_CLIENT);
+
+        assertTrue(otherThreadsWorking.await(10, TimeUnit.SECONDS),
+                "worker threads blocked : " + otherThreadsWorking.getCount());
+        unblock.countDown();
+        assertTrue(allReceived.await(10, TimeUnit.SECONDS), "missing packets : " + allReceived.getCount());
+        assertEquals(0, outOfOrder.get());
+    }
+
+    /**
+     * A load test with 10 000 connections (or the number given by <code>leshan.loadtest.clients</code>), run with
+     * <code>-Dleshan.loadtest=true</code>. Each connection uses 2 file descriptors, so open files limit must be high
+     * enough.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "leshan.loadtest", matches = "true")
+    public void many_connections_are_served() throws Exception {
+        int clients = Integer.getInteger("leshan.loadtest.clients", 10000);
+        int packetsPerClient = 10;
+        givenATransport(clients * packetsPerClient);
+        Service<CoapRequest, CoapResponse> service = new ConnectionExecutorService(transport, request -> {
+            handle(request);
+            return CompletableFuture.completedFuture(CoapResponse.of(Code.C204_CHANGED));
+        });
+        receiveLoop(packet -> service.apply(packet.toCoapRequest()));
+
+        long start = System.nanoTime();
+        sendFromAllClients(clients, packetsPerClient);
+        assertTrue(allReceived.await(60, TimeUnit.SECONDS), "missing packets : " + allReceived.getCount());
+        long duration = System.nanoTime() - start;
+
+        assertEquals(clients * packetsPerClient, received.size());
+        LOG.info("{} packets from {} connections received in {} ms", received.size(), clients,
+                TimeUnit.NANOSECONDS.toMillis(duration));
+    }
+
+    /**
+     * Receive packets like java-coap CoapServer does : handle a packet in the thread completing the receive future,
+     * then call receive() again.
+     */
+    private void receiveLoop(Consumer<CoapPacket> handler) {
+        transport.receive().whenComplete((packet, error) -> {
+            if (packet != null) {
+                handler.accept(packet);
+            }
+            if (running) {
+                receiveLoop(handler);
+            }
+        });
+    }
+
+    private void handle(CoapPacket packet) {
+        handle(packet.getPayloadString());
+    }
+
+    private void handle(CoapRequest request) {
+        handle(request.getPayload().toUtf8String());
+    }
+
+    private void handle(String payload) {
+        maxStackDepth.accumulateAndGet(Thread.currentThread().getStackTrace().length, Math::max);
+        if (received.add(payload)) {
+            allReceived.countDown();
+        }
+    }
+
+    /**
+     * Connect all clients and wait until they wrote all their packets. Connections stay open until the end of the test.
+     */
+    private void sendFromAllClients(int clients, int packetsPerClient) throws InterruptedException {
+        sendFromClients(0, clients, packetsPerClient);
+    }
+
+    /**
+     * Same as {@link #sendFromAllClients(int, int)} for clients from <code>firstClient</code> (inclusive) to
+     * <code>lastClient</code> (exclusive).
+     */
+    private void sendFromClients(int firstClient, int lastClient, int packetsPerClient) throws InterruptedException {
+        InetSocketAddress serverAddress = transport.getLocalSocketAddress();
+        CountDownLatch written = new CountDownLatch(lastClient - firstClient);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(lastClient - firstClient, 50));
+        try {
+            for (int i = firstClient; i < lastClient; i++) {
+                final int client = i;
+                executor.submit(() -> {
+                    Socket socket = new Socket(serverAddress.getAddress(), serverAddress.getPort());
+                    sockets.add(socket);
+                    OutputStream out = socket.getOutputStream();
+                    for (int j = 0; j < packetsPerClient; j++) {
+                        CoapPacket packet = new CoapPacket(serverAddress);
+                        packet.setMethod(Method.POST);
+                        packet.setPayload(client + "-" + j);
+                        out.write(CoapTcpPacketSerializer.serialize(packet));
+                    }
+                    out.flush();
+                    written.countDown();
+                    return null;
+                });
+            }
+            assertTrue(written.await(60, TimeUnit.SECONDS), "clients were not able to write all packets");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}